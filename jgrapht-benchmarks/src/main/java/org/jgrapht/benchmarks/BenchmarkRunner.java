@@ -0,0 +1,224 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.*;
+import org.openjdk.jmh.results.*;
+import org.openjdk.jmh.results.format.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Runs the benchmarks and writes machine-readable results.
+ *
+ * <p>
+ * The runner accepts the following arguments, followed by zero or more regular expressions
+ * selecting the benchmarks to run. All benchmarks are executed if no regular expression is given.
+ * <ul>
+ * <li>{@code -results <file>} the file where the JSON results of JMH are written, defaults to
+ * {@value #DEFAULT_RESULTS_FILE}</li>
+ * <li>{@code -summary <file>} the file where a CSV summary is written, defaults to
+ * {@value #DEFAULT_SUMMARY_FILE}</li>
+ * <li>{@code -baseline <file>} a CSV summary of a previous run to compare against</li>
+ * <li>{@code -threshold <fraction>} the relative slowdown over the baseline which is reported as a
+ * regression, defaults to {@value #DEFAULT_THRESHOLD}</li>
+ * </ul>
+ *
+ * <p>
+ * The CSV summary contains one line per benchmark and parameter combination with columns
+ * {@code benchmark}, {@code mode}, {@code params}, {@code score}, {@code error} and {@code unit}.
+ * When a baseline is given, the runner exits with a non-zero status if any benchmark regressed,
+ * which allows a release build to fail on performance regressions.
+ *
+ * @author agent
+ */
+public class BenchmarkRunner
+{
+    /**
+     * Default file of the JSON results.
+     */
+    public static final String DEFAULT_RESULTS_FILE = "jgrapht-benchmarks.json";
+
+    /**
+     * Default file of the CSV summary.
+     */
+    public static final String DEFAULT_SUMMARY_FILE = "jgrapht-benchmarks.csv";
+
+    /**
+     * Default regression threshold.
+     */
+    public static final double DEFAULT_THRESHOLD = 0.1;
+
+    private static final String CSV_HEADER = "benchmark,mode,params,score,error,unit";
+
+    private BenchmarkRunner()
+    {
+    }
+
+    /**
+     * Run the benchmarks.
+     *
+     * @param args the command line arguments
+     * @throws RunnerException in case a benchmark fails
+     * @throws IOException in case an I/O error occurs
+     */
+    public static void main(String[] args)
+        throws RunnerException,
+        IOException
+    {
+        String resultsFile = DEFAULT_RESULTS_FILE;
+        String summaryFile = DEFAULT_SUMMARY_FILE;
+        String baselineFile = null;
+        double threshold = DEFAULT_THRESHOLD;
+        List<String> includes = new ArrayList<>();
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+            case "-results":
+                resultsFile = requireValue(args, ++i);
+                break;
+            case "-summary":
+                summaryFile = requireValue(args, ++i);
+                break;
+            case "-baseline":
+                baselineFile = requireValue(args, ++i);
+                break;
+            case "-threshold":
+                threshold = Double.parseDouble(requireValue(args, ++i));
+                break;
+            default:
+                includes.add(args[i]);
+            }
+        }
+        if (includes.isEmpty()) {
+            includes.add(BenchmarkRunner.class.getPackageName() + ".*");
+        }
+
+        ChainedOptionsBuilder builder = new OptionsBuilder()
+            .resultFormat(ResultFormatType.JSON).result(resultsFile).shouldFailOnError(true);
+        for (String include : includes) {
+            builder.include(include);
+        }
+        Collection<RunResult> results = new Runner(builder.build()).run();
+
+        List<String> summary = summarize(results);
+        Files.write(Paths.get(summaryFile), summary, StandardCharsets.UTF_8);
+
+        if (baselineFile != null) {
+            List<String> baseline =
+                Files.readAllLines(Paths.get(baselineFile), StandardCharsets.UTF_8);
+            List<String> regressions = findRegressions(baseline, summary, threshold);
+            if (!regressions.isEmpty()) {
+                System.err.println("Performance regressions over " + baselineFile + ":");
+                regressions.forEach(System.err::println);
+                System.exit(1);
+            }
+        }
+    }
+
+    private static String requireValue(String[] args, int i)
+    {
+        if (i >= args.length) {
+            throw new IllegalArgumentException("Missing value for argument " + args[i - 1]);
+        }
+        return args[i];
+    }
+
+    /**
+     * Create the CSV summary of the results of a run.
+     *
+     * @param results the results
+     * @return the lines of the summary, including the header
+     */
+    static List<String> summarize(Collection<RunResult> results)
+    {
+        List<String> lines = new ArrayList<>();
+        lines.add(CSV_HEADER);
+        for (RunResult result : results) {
+            BenchmarkParams params = result.getParams();
+            StringJoiner paramValues = new StringJoiner(";");
+            for (String key : params.getParamsKeys()) {
+                paramValues.add(key + "=" + params.getParam(key));
+            }
+            Result<?> primary = result.getPrimaryResult();
+            lines
+                .add(
+                    String
+                        .join(
+                            ",", params.getBenchmark(), params.getMode().shortLabel(),
+                            paramValues.toString(), Double.toString(primary.getScore()),
+                            Double.toString(primary.getScoreError()), primary.getScoreUnit()));
+        }
+        return lines;
+    }
+
+    /**
+     * Compare two CSV summaries and report the benchmarks which regressed. A benchmark regressed
+     * if its score is worse than the baseline score by more than the given relative threshold.
+     * Higher scores are better in throughput mode and lower scores are better in all other modes.
+     * Benchmarks which are missing from either summary are ignored.
+     *
+     * @param baseline the lines of the baseline summary
+     * @param current the lines of the current summary
+     * @param threshold the relative threshold
+     * @return a description of each regression
+     */
+    static List<String> findRegressions(
+        List<String> baseline, List<String> current, double threshold)
+    {
+        Map<String, Double> baselineScores = new HashMap<>();
+        for (String line : baseline.subList(1, baseline.size())) {
+            String[] fields = line.split(",", -1);
+            baselineScores.put(fields[0] + "," + fields[1] + "," + fields[2], parseScore(fields));
+        }
+
+        List<String> regressions = new ArrayList<>();
+        for (String line : current.subList(1, current.size())) {
+            String[] fields = line.split(",", -1);
+            Double previous = baselineScores.get(fields[0] + "," + fields[1] + "," + fields[2]);
+            if (previous == null) {
+                continue;
+            }
+            double score = parseScore(fields);
+            boolean higherIsBetter = Mode.deepValueOf(fields[1]) == Mode.Throughput;
+            double change = higherIsBetter ? (previous - score) / previous
+                : (score - previous) / previous;
+            if (change > threshold) {
+                regressions
+                    .add(
+                        String
+                            .format(
+                                Locale.ROOT, "%s [%s] %.3f -> %.3f %s (%+.1f%%)", fields[0],
+                                fields[2], previous, score, fields[5], 100 * change));
+            }
+        }
+        return regressions;
+    }
+
+    private static double parseScore(String[] fields)
+    {
+        return Double.parseDouble(fields[3]);
+    }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.benchmarks;
+
+import org.jgrapht.alg.scoring.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+
+/**
+ * Benchmarks of centrality algorithms on directed graphs.
+ *
+ * @author agent
+ */
+public class CentralityBenchmark
+    extends GraphBenchmarkBase
+{
+    /**
+     * The number of sources used by the approximate betweenness centrality.
+     */
+    public static final int BETWEENNESS_SOURCES = 16;
+
+    @Override
+    protected boolean isDirected()
+    {
+        return true;
+    }
+
+    /**
+     * PageRank scores.
+     *
+     * @return the scores
+     */
+    @Benchmark
+    public Object pageRank()
+    {
+        return new PageRank<>(graph).getScores();
+    }
+
+    /**
+     * Betweenness centrality approximated from a fixed number of sources.
+     *
+     * @return the scores
+     */
+    @Benchmark
+    public Object approximateBetweenness()
+    {
+        return new ApproximateBetweennessCentrality<>(
+            graph, BETWEENNESS_SOURCES, true, new Random(SEED), null).getScores();
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.benchmarks;
+
+import org.jgrapht.alg.connectivity.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks of connectivity algorithms. Connected components are computed on undirected graphs
+ * and strongly connected components on directed graphs.
+ *
+ * @author agent
+ */
+public class ConnectivityBenchmark
+{
+    /**
+     * Benchmarks on undirected graphs.
+     */
+    public static class Undirected
+        extends GraphBenchmarkBase
+    {
+        @Override
+        protected boolean isDirected()
+        {
+            return false;
+        }
+
+        /**
+         * Connected components using {@link ConnectivityInspector}.
+         *
+         * @return the connected components
+         */
+        @Benchmark
+        public Object connectedComponents()
+        {
+            return new ConnectivityInspector<>(graph).connectedSets();
+        }
+    }
+
+    /**
+     * Benchmarks on directed graphs.
+     */
+    public static class Directed
+        extends GraphBenchmarkBase
+    {
+        @Override
+        protected boolean isDirected()
+        {
+            return true;
+        }
+
+        /**
+         * Strongly connected components using {@link KosarajuStrongConnectivityInspector}.
+         *
+         * @return the strongly connected components
+         */
+        @Benchmark
+        public Object kosaraju()
+        {
+            return new KosarajuStrongConnectivityInspector<>(graph).stronglyConnectedSets();
+        }
+
+        /**
+         * Strongly connected components using {@link GabowStrongConnectivityInspector}.
+         *
+         * @return the strongly connected components
+         */
+        @Benchmark
+        public Object gabow()
+        {
+            return new GabowStrongConnectivityInspector<>(graph).stronglyConnectedSets();
+        }
+    }
+
+}
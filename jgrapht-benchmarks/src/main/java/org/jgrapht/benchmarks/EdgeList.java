@@ -0,0 +1,86 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.benchmarks;
+
+import org.jgrapht.*;
+
+/**
+ * A simple graph on the vertices $0, \dots, n-1$ stored as primitive arrays of edge endpoints. The
+ * edge list contains no self-loops and at most one edge between any pair of vertices, so it can be
+ * loaded as a directed or as an undirected graph into every graph representation.
+ *
+ * @author agent
+ */
+final class EdgeList
+{
+    final int numVertices;
+    final int[] sources;
+    final int[] targets;
+
+    private EdgeList(int numVertices, int[] sources, int[] targets)
+    {
+        this.numVertices = numVertices;
+        this.sources = sources;
+        this.targets = targets;
+    }
+
+    /**
+     * Create an edge list from a graph whose vertices are the integers $0, \dots, n-1$.
+     *
+     * @param graph the graph
+     * @param <E> the graph edge type
+     * @return the edge list
+     */
+    static <E> EdgeList of(Graph<Integer, E> graph)
+    {
+        int m = graph.edgeSet().size();
+        int[] sources = new int[m];
+        int[] targets = new int[m];
+        int i = 0;
+        for (E e : graph.edgeSet()) {
+            sources[i] = graph.getEdgeSource(e);
+            targets[i] = graph.getEdgeTarget(e);
+            i++;
+        }
+        return new EdgeList(graph.vertexSet().size(), sources, targets);
+    }
+
+    int numEdges()
+    {
+        return sources.length;
+    }
+
+    /**
+     * Get the arcs of the graph as an array of pairs, optionally adding the reverse of each arc.
+     *
+     * @param symmetric whether to add the reverse of each arc
+     * @return the arcs
+     */
+    int[][] arcs(boolean symmetric)
+    {
+        int m = sources.length;
+        int[][] arcs = new int[symmetric ? 2 * m : m][];
+        for (int i = 0; i < m; i++) {
+            arcs[i] = new int[] { sources[i], targets[i] };
+            if (symmetric) {
+                arcs[m + i] = new int[] { targets[i], sources[i] };
+            }
+        }
+        return arcs;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.benchmarks;
+
+import org.jgrapht.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Base state of the benchmarks. Each trial generates a graph of the selected {@link GraphFamily}
+ * and size and loads it into the selected {@link GraphRepresentation}. Graph generation is
+ * deterministic so that results of different runs are comparable.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public abstract class GraphBenchmarkBase
+{
+    /**
+     * The seed used to generate the graphs.
+     */
+    public static final long SEED = 17;
+
+    /**
+     * The graph representation.
+     */
+    @Param({ "DEFAULT", "FASTUTIL", "SPARSE", "SUCCINCT", "WEBGRAPH" })
+    public GraphRepresentation representation;
+
+    /**
+     * The family of the generated graph.
+     */
+    @Param({ "GNM", "BARABASI_ALBERT" })
+    public GraphFamily family;
+
+    /**
+     * The number of vertices of the generated graph.
+     */
+    @Param({ "1000", "10000", "100000" })
+    public int size;
+
+    /**
+     * The edges of the generated graph.
+     */
+    protected EdgeList edges;
+
+    /**
+     * The graph on which the benchmark is executed.
+     */
+    protected Graph<Integer, ?> graph;
+
+    /**
+     * Whether the benchmark is executed on a directed or an undirected graph.
+     *
+     * @return true if the graph should be directed, false otherwise
+     */
+    protected abstract boolean isDirected();
+
+    /**
+     * Generate the graph.
+     */
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        edges = family.generate(size, SEED);
+        graph = representation.create(edges, isDirected());
+    }
+
+}
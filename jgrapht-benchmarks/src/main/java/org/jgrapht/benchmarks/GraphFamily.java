@@ -0,0 +1,78 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.benchmarks;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+/**
+ * The families of generated graphs used by the benchmarks. All families generate sparse simple
+ * graphs with an average degree of {@value #AVERAGE_DEGREE}.
+ *
+ * @author agent
+ */
+public enum GraphFamily
+{
+    /**
+     * Uniform random graphs generated using {@link GnmRandomGraphGenerator}.
+     */
+    GNM {
+        @Override
+        GraphGenerator<Integer, DefaultEdge, Integer> createGenerator(int n, long seed)
+        {
+            return new GnmRandomGraphGenerator<>(n, AVERAGE_DEGREE / 2 * n, seed, false, false);
+        }
+    },
+
+    /**
+     * Scale-free graphs generated using {@link BarabasiAlbertGraphGenerator}.
+     */
+    BARABASI_ALBERT {
+        @Override
+        GraphGenerator<Integer, DefaultEdge, Integer> createGenerator(int n, long seed)
+        {
+            return new BarabasiAlbertGraphGenerator<>(
+                AVERAGE_DEGREE / 2 + 1, AVERAGE_DEGREE / 2, n, seed);
+        }
+    };
+
+    /**
+     * The average degree of the generated graphs.
+     */
+    public static final int AVERAGE_DEGREE = 8;
+
+    abstract GraphGenerator<Integer, DefaultEdge, Integer> createGenerator(int n, long seed);
+
+    /**
+     * Generate a graph of this family.
+     *
+     * @param n the number of vertices
+     * @param seed the seed of the random number generator
+     * @return the edge list of the generated graph
+     */
+    EdgeList generate(int n, long seed)
+    {
+        Graph<Integer, DefaultEdge> graph = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        createGenerator(n, seed).generateGraph(graph);
+        return EdgeList.of(graph);
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.benchmarks;
+
+import it.unimi.dsi.webgraph.ArrayListMutableGraph;
+import it.unimi.dsi.webgraph.ImmutableGraph;
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.opt.graph.fastutil.*;
+import org.jgrapht.opt.graph.sparse.*;
+import org.jgrapht.sux4j.*;
+import org.jgrapht.util.*;
+import org.jgrapht.webgraph.*;
+
+/**
+ * The graph representations compared by the benchmarks. Each representation loads an
+ * {@link EdgeList} as a directed or as an undirected unweighted graph with vertices the integers
+ * $0, \dots, n-1$.
+ *
+ * @author agent
+ */
+public enum GraphRepresentation
+{
+    /**
+     * The default graph implementations {@link DefaultDirectedGraph} and
+     * {@link DefaultUndirectedGraph}.
+     */
+    DEFAULT {
+        @Override
+        Graph<Integer, ?> create(EdgeList edges, boolean directed)
+        {
+            Graph<Integer, DefaultEdge> graph = directed
+                ? new DefaultDirectedGraph<>(null, SupplierUtil.DEFAULT_EDGE_SUPPLIER, false)
+                : new DefaultUndirectedGraph<>(null, SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+            return addEdges(graph, edges);
+        }
+    },
+
+    /**
+     * The fastutil based {@link FastutilMapIntVertexGraph}.
+     */
+    FASTUTIL {
+        @Override
+        Graph<Integer, ?> create(EdgeList edges, boolean directed)
+        {
+            Graph<Integer, DefaultEdge> graph = new FastutilMapIntVertexGraph<>(
+                null, SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+                directed ? DefaultGraphType.directedSimple() : DefaultGraphType.simple());
+            return addEdges(graph, edges);
+        }
+    },
+
+    /**
+     * The immutable sparse graphs {@link SparseIntDirectedGraph} and
+     * {@link SparseIntUndirectedGraph}.
+     */
+    SPARSE {
+        @Override
+        Graph<Integer, ?> create(EdgeList edges, boolean directed)
+        {
+            // the sparse graphs take ownership of the arrays
+            int[] sources = edges.sources.clone();
+            int[] targets = edges.targets.clone();
+            if (directed) {
+                return new SparseIntDirectedGraph(
+                    edges.numVertices, sources, targets, IncomingEdgesSupport.FULL_INCOMING_EDGES);
+            }
+            return new SparseIntUndirectedGraph(edges.numVertices, sources, targets);
+        }
+    },
+
+    /**
+     * The quasi-succinct graphs {@link SuccinctIntDirectedGraph} and
+     * {@link SuccinctIntUndirectedGraph} of the Sux4J adapter.
+     */
+    SUCCINCT {
+        @Override
+        Graph<Integer, ?> create(EdgeList edges, boolean directed)
+        {
+            Graph<Integer, ?> sparse = SPARSE.create(edges, directed);
+            if (directed) {
+                return new SuccinctIntDirectedGraph(sparse, true);
+            }
+            return new SuccinctIntUndirectedGraph(sparse);
+        }
+    },
+
+    /**
+     * The adapters {@link ImmutableDirectedGraphAdapter} and
+     * {@link ImmutableUndirectedGraphAdapter} of WebGraph immutable graphs.
+     */
+    WEBGRAPH {
+        @Override
+        Graph<Integer, ?> create(EdgeList edges, boolean directed)
+        {
+            ImmutableGraph graph =
+                new ArrayListMutableGraph(edges.numVertices, edges.arcs(!directed)).immutableView();
+            if (directed) {
+                int[][] reversed = edges.arcs(false);
+                for (int[] arc : reversed) {
+                    int tmp = arc[0];
+                    arc[0] = arc[1];
+                    arc[1] = tmp;
+                }
+                ImmutableGraph transpose =
+                    new ArrayListMutableGraph(edges.numVertices, reversed).immutableView();
+                return new ImmutableDirectedGraphAdapter(graph, transpose);
+            }
+            return new ImmutableUndirectedGraphAdapter(graph);
+        }
+    };
+
+    /**
+     * Create a graph with this representation.
+     *
+     * @param edges the edges of the graph
+     * @param directed whether the graph is directed or undirected
+     * @return the graph
+     */
+    abstract Graph<Integer, ?> create(EdgeList edges, boolean directed);
+
+    private static <E> Graph<Integer, E> addEdges(Graph<Integer, E> graph, EdgeList edges)
+    {
+        for (int v = 0; v < edges.numVertices; v++) {
+            graph.addVertex(v);
+        }
+        for (int i = 0; i < edges.numEdges(); i++) {
+            graph.addEdge(edges.sources[i], edges.targets[i]);
+        }
+        return graph;
+    }
+
+}
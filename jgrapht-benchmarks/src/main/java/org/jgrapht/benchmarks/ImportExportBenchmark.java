@@ -0,0 +1,156 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.benchmarks;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.nio.dimacs.*;
+import org.jgrapht.opt.graph.fastutil.*;
+import org.jgrapht.opt.graph.sparse.*;
+import org.jgrapht.util.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.util.concurrent.*;
+
+/**
+ * Benchmarks of graph import and export using the DIMACS format.
+ *
+ * @author agent
+ */
+public class ImportExportBenchmark
+{
+    /**
+     * Benchmarks exporting a directed graph of each representation.
+     */
+    public static class Export
+        extends GraphBenchmarkBase
+    {
+        @Override
+        protected boolean isDirected()
+        {
+            return true;
+        }
+
+        /**
+         * Export the graph.
+         *
+         * @return the exported graph
+         */
+        @Benchmark
+        public String export()
+        {
+            return toDimacs(graph);
+        }
+    }
+
+    /**
+     * Benchmarks importing a directed graph into each mutable representation. The sparse graphs
+     * are imported using the event driven importer and a {@link SparseIntGraphBuilder}.
+     */
+    @State(Scope.Benchmark)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    @Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+    public static class Import
+    {
+        /**
+         * The graph representation.
+         */
+        @Param({ "DEFAULT", "FASTUTIL", "SPARSE" })
+        public GraphRepresentation representation;
+
+        /**
+         * The family of the generated graph.
+         */
+        @Param({ "GNM", "BARABASI_ALBERT" })
+        public GraphFamily family;
+
+        /**
+         * The number of vertices of the generated graph.
+         */
+        @Param({ "1000", "10000", "100000" })
+        public int size;
+
+        private String input;
+
+        /**
+         * Generate and export the graph which is imported by the benchmark.
+         */
+        @Setup(Level.Trial)
+        public void setup()
+        {
+            EdgeList edges = family.generate(size, GraphBenchmarkBase.SEED);
+            input = toDimacs(GraphRepresentation.DEFAULT.create(edges, true));
+        }
+
+        /**
+         * Import the graph.
+         *
+         * @return the imported graph
+         */
+        @Benchmark
+        public Graph<Integer, ?> importGraph()
+        {
+            switch (representation) {
+            case DEFAULT:
+                return importInto(
+                    new DefaultDirectedGraph<>(null, SupplierUtil.DEFAULT_EDGE_SUPPLIER, false));
+            case FASTUTIL:
+                return importInto(
+                    new FastutilMapIntVertexGraph<>(
+                        null, SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+                        DefaultGraphType.directedSimple()));
+            case SPARSE:
+                return importSparseGraph();
+            default:
+                throw new IllegalArgumentException(
+                    "Unsupported representation " + representation);
+            }
+        }
+
+        private Graph<Integer, DefaultEdge> importInto(Graph<Integer, DefaultEdge> graph)
+        {
+            DIMACSImporter<Integer, DefaultEdge> importer = new DIMACSImporter<>();
+            importer.setVertexFactory(id -> id - 1);
+            importer.importGraph(graph, new StringReader(input));
+            return graph;
+        }
+
+        private Graph<Integer, Integer> importSparseGraph()
+        {
+            SparseIntGraphBuilder[] builder = new SparseIntGraphBuilder[1];
+            DIMACSEventDrivenImporter importer =
+                new DIMACSEventDrivenImporter().renumberVertices(false);
+            importer.addVertexCountConsumer(n -> builder[0] = new SparseIntGraphBuilder(n));
+            importer.addEdgeConsumer(t -> builder[0].addEdge(t.getFirst(), t.getSecond()));
+            importer.importInput(new StringReader(input));
+            return builder[0].buildDirected(IncomingEdgesSupport.NO_INCOMING_EDGES);
+        }
+    }
+
+    private static <E> String toDimacs(Graph<Integer, E> graph)
+    {
+        StringWriter writer = new StringWriter();
+        new DIMACSExporter<Integer, E>(v -> String.valueOf(v + 1)).exportGraph(graph, writer);
+        return writer.toString();
+    }
+
+}
@@ -0,0 +1,59 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.benchmarks;
+
+import org.jgrapht.alg.matching.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks of maximum cardinality matching algorithms on undirected graphs.
+ *
+ * @author agent
+ */
+public class MatchingBenchmark
+    extends GraphBenchmarkBase
+{
+    @Override
+    protected boolean isDirected()
+    {
+        return false;
+    }
+
+    /**
+     * Greedy maximal matching.
+     *
+     * @return the matching
+     */
+    @Benchmark
+    public Object greedy()
+    {
+        return new GreedyMaximumCardinalityMatching<>(graph, false).getMatching();
+    }
+
+    /**
+     * Edmonds' maximum cardinality matching algorithm for sparse graphs.
+     *
+     * @return the matching
+     */
+    @Benchmark
+    public Object sparseEdmonds()
+    {
+        return new SparseEdmondsMaximumCardinalityMatching<>(graph).getMatching();
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.benchmarks;
+
+import org.jgrapht.alg.flow.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks of maximum flow algorithms on directed graphs with unit capacities. The flow is
+ * computed from the last to the first vertex of the graph, since in the scale-free graphs
+ * edges are directed from newer to older vertices.
+ *
+ * @author agent
+ */
+public class MaximumFlowBenchmark
+    extends GraphBenchmarkBase
+{
+    @Override
+    protected boolean isDirected()
+    {
+        return true;
+    }
+
+    /**
+     * The push-relabel algorithm.
+     *
+     * @return the maximum flow value
+     */
+    @Benchmark
+    public double pushRelabel()
+    {
+        return new PushRelabelMFImpl<>(graph).getMaximumFlowValue(size - 1, 0);
+    }
+
+    /**
+     * Dinic's algorithm.
+     *
+     * @return the maximum flow value
+     */
+    @Benchmark
+    public double dinic()
+    {
+        return new DinicMFImpl<>(graph).getMaximumFlowValue(size - 1, 0);
+    }
+
+    /**
+     * The Edmonds-Karp algorithm.
+     *
+     * @return the maximum flow value
+     */
+    @Benchmark
+    public double edmondsKarp()
+    {
+        return new EdmondsKarpMFImpl<>(graph).getMaximumFlowValue(size - 1, 0);
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.benchmarks;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.flow.*;
+import org.jgrapht.generate.netgen.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Benchmarks of maximum flow algorithms on networks created by the {@link NetworkGenerator} for
+ * the {@link MaximumFlowProblem}. The problem is converted to a single source and single sink
+ * problem and loaded into a {@link DefaultDirectedWeightedGraph}. The parallel push-relabel
+ * strategy uses a thread pool with one thread per available processor.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class NetgenMaximumFlowBenchmark
+{
+    /**
+     * The seed used to generate the networks.
+     */
+    public static final long SEED = 17;
+
+    /**
+     * The number of vertices of the generated network.
+     */
+    @Param({ "10000", "100000" })
+    public int size;
+
+    /**
+     * The average out-degree of the generated network.
+     */
+    @Param({ "10" })
+    public int degree;
+
+    /**
+     * The push-relabel strategy.
+     */
+    @Param({ "FIFO", "HIGHEST_LABEL", "PARALLEL" })
+    public PushRelabelStrategy strategy;
+
+    private Graph<Integer, DefaultWeightedEdge> network;
+    private Integer source;
+    private Integer sink;
+    private ThreadPoolExecutor executor;
+
+    /**
+     * Generate the network.
+     */
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        NetworkGeneratorConfig config = new NetworkGeneratorConfigBuilder()
+            .setMaximumFlowProblemParams(size, degree * size, 100 * size, 1, 1000, 5, 5)
+            .build();
+        Graph<Integer, DefaultEdge> graph = new DefaultDirectedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        MaximumFlowProblem<Integer, DefaultEdge> problem =
+            new NetworkGenerator<Integer, DefaultEdge>(config, SEED)
+                .generateMaxFlowProblem(graph).toSingleSourceSingleSinkProblem();
+
+        network = new DefaultDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(network, graph.vertexSet());
+        for (DefaultEdge e : graph.edgeSet()) {
+            DefaultWeightedEdge we =
+                network.addEdge(graph.getEdgeSource(e), graph.getEdgeTarget(e));
+            if (we != null) {
+                // the arcs of the super source and sink have infinite capacity
+                network.setEdgeWeight(we, Math.min(1e9, problem.getCapacities().apply(e)));
+            }
+        }
+        source = problem.getSource();
+        sink = problem.getSink();
+        executor =
+            ConcurrencyUtil.createThreadPoolExecutor(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Shutdown the thread pool.
+     *
+     * @throws InterruptedException if interrupted while waiting for the pool to terminate
+     */
+    @TearDown(Level.Trial)
+    public void tearDown()
+        throws InterruptedException
+    {
+        ConcurrencyUtil.shutdownExecutionService(executor);
+    }
+
+    /**
+     * The push-relabel algorithm with the selected strategy.
+     *
+     * @return the maximum flow value
+     */
+    @Benchmark
+    public double pushRelabel()
+    {
+        return new PushRelabelMFImpl<>(network, strategy, executor)
+            .getMaximumFlowValue(source, sink);
+    }
+
+    /**
+     * Dinic's algorithm, which does not depend on the strategy.
+     *
+     * @return the maximum flow value
+     */
+    @Benchmark
+    public double dinic()
+    {
+        return new DinicMFImpl<>(network).getMaximumFlowValue(source, sink);
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.benchmarks;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.flow.mincost.*;
+import org.jgrapht.generate.netgen.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Benchmarks of minimum cost flow algorithms on networks created by the {@link NetworkGenerator}
+ * for the {@link MinimumCostFlowProblem}. The arc costs are stored as edge weights of a
+ * {@link DirectedWeightedPseudograph}, since the {@link CapacityScalingMinimumCostFlow} reads them
+ * from the graph.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class NetgenMinimumCostFlowBenchmark
+{
+    /**
+     * The seed used to generate the networks.
+     */
+    public static final long SEED = 17;
+
+    /**
+     * The number of vertices of the generated network.
+     */
+    @Param({ "1000", "10000" })
+    public int size;
+
+    /**
+     * The average out-degree of the generated network.
+     */
+    @Param({ "10" })
+    public int degree;
+
+    private MinimumCostFlowProblem<Integer, DefaultWeightedEdge> problem;
+
+    /**
+     * Generate the network.
+     */
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        NetworkGeneratorConfig config = new NetworkGeneratorConfigBuilder()
+            .setParams(
+                size, degree * size, size / 100 + 1, size / 100 + 1, 0, 0, 1000 * size, 1, 1000,
+                1, 100, 80, 0)
+            .build();
+        Graph<Integer, DefaultEdge> graph = new DefaultDirectedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        MinimumCostFlowProblem<Integer, DefaultEdge> generated =
+            new NetworkGenerator<Integer, DefaultEdge>(config, SEED)
+                .generateMinimumCostFlowProblem(graph);
+
+        Graph<Integer, DefaultWeightedEdge> network =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(network, graph.vertexSet());
+        Map<DefaultWeightedEdge, Integer> capacities = new HashMap<>();
+        for (DefaultEdge e : graph.edgeSet()) {
+            DefaultWeightedEdge we = Graphs.addEdge(
+                network, graph.getEdgeSource(e), graph.getEdgeTarget(e),
+                generated.getArcCosts().apply(e));
+            capacities.put(we, generated.getArcCapacityUpperBounds().apply(e));
+        }
+        problem = new MinimumCostFlowProblem.MinimumCostFlowProblemImpl<>(
+            network, generated.getNodeSupply(), capacities::get);
+    }
+
+    /**
+     * The network simplex algorithm.
+     *
+     * @return the cost of the minimum cost flow
+     */
+    @Benchmark
+    public double networkSimplex()
+    {
+        return new NetworkSimplexMinimumCostFlow<Integer, DefaultWeightedEdge>()
+            .getFlowCost(problem);
+    }
+
+    /**
+     * The successive shortest path algorithm with capacity scaling.
+     *
+     * @return the cost of the minimum cost flow
+     */
+    @Benchmark
+    public double capacityScaling()
+    {
+        return new CapacityScalingMinimumCostFlow<Integer, DefaultWeightedEdge>()
+            .getFlowCost(problem);
+    }
+
+}
@@ -0,0 +1,59 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.benchmarks;
+
+import org.jgrapht.alg.shortestpath.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks of single-source shortest path algorithms on directed graphs.
+ *
+ * @author agent
+ */
+public class ShortestPathBenchmark
+    extends GraphBenchmarkBase
+{
+    @Override
+    protected boolean isDirected()
+    {
+        return true;
+    }
+
+    /**
+     * Breadth-first search shortest paths from a single source.
+     *
+     * @return the shortest path tree
+     */
+    @Benchmark
+    public Object bfs()
+    {
+        return new BFSShortestPath<>(graph).getPaths(0);
+    }
+
+    /**
+     * Dijkstra shortest paths from a single source.
+     *
+     * @return the shortest path tree
+     */
+    @Benchmark
+    public Object dijkstra()
+    {
+        return new DijkstraShortestPath<>(graph).getPaths(0);
+    }
+
+}
@@ -0,0 +1,70 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.benchmarks;
+
+import org.jgrapht.alg.spanning.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks of minimum spanning tree algorithms on undirected graphs.
+ *
+ * @author agent
+ */
+public class SpanningTreeBenchmark
+    extends GraphBenchmarkBase
+{
+    @Override
+    protected boolean isDirected()
+    {
+        return false;
+    }
+
+    /**
+     * Kruskal's algorithm.
+     *
+     * @return the spanning tree
+     */
+    @Benchmark
+    public Object kruskal()
+    {
+        return new KruskalMinimumSpanningTree<>(graph).getSpanningTree();
+    }
+
+    /**
+     * Prim's algorithm.
+     *
+     * @return the spanning tree
+     */
+    @Benchmark
+    public Object prim()
+    {
+        return new PrimMinimumSpanningTree<>(graph).getSpanningTree();
+    }
+
+    /**
+     * Borůvka's algorithm.
+     *
+     * @return the spanning tree
+     */
+    @Benchmark
+    public Object boruvka()
+    {
+        return new BoruvkaMinimumSpanningTree<>(graph).getSpanningTree();
+    }
+
+}
@@ -0,0 +1,37 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+/**
+ * JMH benchmarks of graph algorithms across graph representations.
+ *
+ * <p>
+ * The benchmarks execute on graphs generated deterministically by the generators of
+ * {@link org.jgrapht.generate} at several scales, see {@link org.jgrapht.benchmarks.GraphFamily},
+ * which are loaded into each of the representations of
+ * {@link org.jgrapht.benchmarks.GraphRepresentation}. Build the module and run all benchmarks
+ * using
+ *
+ * <pre>
+ * mvn -pl jgrapht-benchmarks -am package
+ * java -jar jgrapht-benchmarks/target/benchmarks.jar [-baseline previous.csv] [regexp...]
+ * </pre>
+ *
+ * See {@link org.jgrapht.benchmarks.BenchmarkRunner} for the produced results and for regression
+ * detection against a baseline. The full JMH command line is also available using
+ * {@code java -cp jgrapht-benchmarks/target/benchmarks.jar org.openjdk.jmh.Main}.
+ */
+package org.jgrapht.benchmarks;
@@ -40,9 +40,10 @@ public abstract class GraphMetrics
      * path'. Two special cases exist. If the graph has no vertices, the diameter is 0. If the graph
      * is disconnected, the diameter is {@link Double#POSITIVE_INFINITY}.
      * <p>
-     * For more fine-grained control over this method, or if you need additional distance metrics
-     * such as the graph radius, consider using {@link org.jgrapht.alg.shortestpath.GraphMeasurer}
-     * instead.
+     * The diameter of unweighted graphs is computed using {@link IFUBDiameter}, which usually
+     * requires only a few breadth-first searches. For more fine-grained control over this method,
+     * or if you need additional distance metrics such as the graph radius, consider using
+     * {@link org.jgrapht.alg.shortestpath.GraphMeasurer} instead.
      *
      * @param graph input graph
      * @param <V> graph vertex type
@@ -51,6 +52,9 @@ public abstract class GraphMetrics
      */
     public static <V, E> double getDiameter(Graph<V, E> graph)
     {
+        if (!graph.getType().isWeighted()) {
+            return new IFUBDiameter<>(graph).getDiameter();
+        }
         return new GraphMeasurer<>(graph).getDiameter();
     }
 
@@ -60,8 +64,9 @@ public abstract class GraphMetrics
      * eccentricity of vertex $v$. Two special cases exist. If the graph has no vertices, the radius
      * is 0. If the graph is disconnected, the diameter is {@link Double#POSITIVE_INFINITY}.
      * <p>
-     * For more fine-grained control over this method, or if you need additional distance metrics
-     * such as the graph diameter, consider using {@link org.jgrapht.alg.shortestpath.GraphMeasurer}
+     * The eccentricities of unweighted graphs are computed using a {@link MultiSourceBFS}. For more
+     * fine-grained control over this method, or if you need additional distance metrics such as
+     * the graph diameter, consider using {@link org.jgrapht.alg.shortestpath.GraphMeasurer}
      * instead.
      *
      * @param graph input graph
@@ -71,6 +76,9 @@ public abstract class GraphMetrics
      */
     public static <V, E> double getRadius(Graph<V, E> graph)
     {
+        if (!graph.getType().isWeighted()) {
+            return new GraphMeasurer<>(graph, new BFSShortestPath<>(graph)).getRadius();
+        }
         return new GraphMeasurer<>(graph).getRadius();
     }
 
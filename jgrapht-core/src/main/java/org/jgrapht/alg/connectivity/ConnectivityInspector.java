@@ -44,6 +44,11 @@ import java.util.*;
  * is added as listener to a graph other than the one it inspects, results are undefined.
  * </p>
  *
+ * <p>
+ * If the inspected graph implements {@link CSRAdjacency}, the connected components are computed
+ * using a union-find structure directly on the primitive arrays of the graph.
+ * </p>
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  *
@@ -56,6 +61,7 @@ public class ConnectivityInspector<V, E>
     private List<Set<V>> connectedSets;
     private Map<V, Set<V>> vertexToConnectedSet;
     private Graph<V, E> graph;
+    private final CSRAdjacency csr;
 
     /**
      * Creates a connectivity inspector for the specified graph.
@@ -66,6 +72,7 @@ public class ConnectivityInspector<V, E>
     {
         init();
         this.graph = Objects.requireNonNull(g);
+        this.csr = g instanceof CSRAdjacency ? (CSRAdjacency) g : null;
         if (g.getType().isDirected())
             this.graph = new AsUndirectedGraph<>(g);
     }
@@ -99,6 +106,14 @@ public class ConnectivityInspector<V, E>
     {
         Set<V> connectedSet = vertexToConnectedSet.get(vertex);
 
+        if (connectedSet == null && csr != null) {
+            if (!graph.containsVertex(vertex)) {
+                throw new IllegalArgumentException("graph must contain the start vertex");
+            }
+            lazyFindConnectedSets();
+            connectedSet = vertexToConnectedSet.get(vertex);
+        }
+
         if (connectedSet == null) {
             connectedSet = new HashSet<>();
 
@@ -211,7 +226,9 @@ public class ConnectivityInspector<V, E>
 
     private List<Set<V>> lazyFindConnectedSets()
     {
-        if (connectedSets == null) {
+        if (connectedSets == null && csr != null) {
+            findConnectedSetsCSR();
+        } else if (connectedSets == null) {
             connectedSets = new ArrayList<>();
 
             Set<V> vertexSet = graph.vertexSet();
@@ -229,6 +246,63 @@ public class ConnectivityInspector<V, E>
         return connectedSets;
     }
 
+    /**
+     * Compute the connected components of a graph which implements {@link CSRAdjacency} using
+     * union-find with path halving and union by size on its edge arrays.
+     */
+    @SuppressWarnings("unchecked")
+    private void findConnectedSetsCSR()
+    {
+        int n = csr.vertexCount();
+        int[] sources = csr.getEdgeSources();
+        int[] targets = csr.getEdgeTargets();
+
+        int[] parent = new int[n];
+        int[] size = new int[n];
+        for (int v = 0; v < n; v++) {
+            parent[v] = v;
+            size[v] = 1;
+        }
+        for (int e = 0; e < sources.length; e++) {
+            int a = find(parent, sources[e]);
+            int b = find(parent, targets[e]);
+            if (a != b) {
+                if (size[a] < size[b]) {
+                    int tmp = a;
+                    a = b;
+                    b = tmp;
+                }
+                parent[b] = a;
+                size[a] += size[b];
+            }
+        }
+
+        // components are reported in the order of their smallest vertex
+        connectedSets = new ArrayList<>();
+        List<Set<V>> rootToSet = new ArrayList<>(Collections.nCopies(n, null));
+        for (int v = 0; v < n; v++) {
+            int root = find(parent, v);
+            Set<V> set = rootToSet.get(root);
+            if (set == null) {
+                set = CollectionUtil.newHashSetWithExpectedSize(size[root]);
+                rootToSet.set(root, set);
+                connectedSets.add(set);
+            }
+            V vertex = (V) Integer.valueOf(v);
+            set.add(vertex);
+            vertexToConnectedSet.put(vertex, set);
+        }
+    }
+
+    private static int find(int[] parent, int v)
+    {
+        while (parent[v] != v) {
+            parent[v] = parent[parent[v]];
+            v = parent[v];
+        }
+        return v;
+    }
+
     /**
      * A traversal listener that groups all vertices according to to their containing connected set.
      *
@@ -199,6 +199,225 @@ public class BoykovKolmogorovMFImpl<V, E>
         makeActive(currentSource);
         makeActive(currentSink);
 
+        augmentPaths();
+    }
+
+    /**
+     * Re-computes the maximum flow of the last invocation after the capacities of some edges have
+     * changed, reusing the previous flow and search trees. The new capacities are read from the
+     * edge weights of the network, which the caller must have already updated.
+     * <p>
+     * The flow of each edge whose new capacity is exceeded is reduced, and the resulting excesses
+     * and deficits are repaired by routing flow along residual paths between them or to the
+     * terminals, and by cancelling flow leaving a deficit. Tree vertices whose parent edge became
+     * saturated become orphans and are adopted as usual, while tree vertices incident to edges
+     * with increased residual capacity become active. The algorithm then continues growing the trees from the active vertices. This
+     * follows the dynamic reuse of search trees described in: <i>P. Kohli and P. H. S. Torr,
+     * "Dynamic Graph Cuts for Efficient Inference in Markov Random Fields," in IEEE Transactions on
+     * Pattern Analysis and Machine Intelligence, vol. 29, no. 12, pp. 2079-2088, Dec. 2007.</i>,
+     * except that the flow is repaired along residual paths instead of reparameterizing terminal
+     * edges, which general networks do not have.
+     * <p>
+     * The structure of the network, i.e. its vertices and edges, must not have changed since the
+     * last invocation.
+     *
+     * @param changedEdges the edges whose weight changed since the last invocation
+     * @return the value of the maximum flow
+     * @throws IllegalStateException if the maximum flow has not been computed before
+     * @throws IllegalArgumentException if an edge is not part of the network
+     */
+    public double updateMaximumFlow(Collection<E> changedEdges)
+    {
+        if (currentSource == null) {
+            throw new IllegalStateException("Maximum flow must be computed first");
+        }
+        maxFlow = null;
+        sourcePartition = null;
+        sinkPartition = null;
+        cutEdges = null;
+
+        List<VertexExtension> touched = new ArrayList<>();
+        List<VertexExtension> imbalanced = new ArrayList<>();
+        for (E e : changedEdges) {
+            if (!network.containsEdge(e)) {
+                throw new IllegalArgumentException("Edge is not part of the network");
+            }
+            double weight = network.getEdgeWeight(e);
+            AnnotatedFlowEdge edge = edgeExtensionManager.getExtension(e);
+            AnnotatedFlowEdge inverse = edge.getInverse();
+
+            // the capacity of an arc also includes the flow of its inverse
+            edge.capacity = weight + inverse.flow;
+            if (!directedGraph) {
+                inverse.capacity = weight + edge.flow;
+            }
+            for (AnnotatedFlowEdge arc : Arrays.asList(edge, inverse)) {
+                double overflow = arc.flow - arc.capacity;
+                if (overflow > 0) {
+                    pushFlowThrough(arc.getInverse(), overflow);
+                    arc.getSource().excess += overflow;
+                    arc.getTarget().excess -= overflow;
+                    imbalanced.add(arc.getSource());
+                    imbalanced.add(arc.getTarget());
+                }
+            }
+            touched.add(edge.getSource());
+            touched.add(edge.getTarget());
+        }
+        repairFlow(imbalanced, touched);
+
+        // the flow already reaching the sink
+        maxFlowValue = 0;
+        for (AnnotatedFlowEdge edge : currentSink.getOutgoing()) {
+            maxFlowValue += edge.getInverse().flow - edge.flow;
+        }
+
+        nextIteration();
+        for (VertexExtension vertex : touched) {
+            if (vertex != currentSource && vertex != currentSink && !vertex.isFreeVertex()
+                && vertex.parentEdge != null && !vertex.parentEdge.hasCapacity())
+            {
+                vertex.makeOrphan();
+                orphans.add(vertex);
+            }
+        }
+        adopt();
+        for (VertexExtension vertex : touched) {
+            if (!vertex.isFreeVertex()) {
+                makeActive(vertex);
+            }
+        }
+
+        augmentPaths();
+        return maxFlowValue;
+    }
+
+    /**
+     * Repairs the flow after reducing the flow of some edges. Every excess is routed along
+     * residual paths to a vertex with a deficit, to the source or to the sink, and every remaining
+     * deficit is covered by cancelling flow along a path of edges carrying flow away from it, which
+     * ends at a vertex with an excess, at the source or at the sink. Since only flow is cancelled,
+     * the sink never receives a net outflow.
+     *
+     * @param imbalanced the vertices with an excess or a deficit
+     * @param touched collects the endpoints of the edges whose flow changed
+     */
+    private void repairFlow(List<VertexExtension> imbalanced, List<VertexExtension> touched)
+    {
+        for (VertexExtension vertex : imbalanced) {
+            while (vertex != currentSource && vertex != currentSink
+                && comparator.compare(vertex.excess, 0d) > 0)
+            {
+                List<AnnotatedFlowEdge> path = findRepairPath(vertex, true);
+                if (path == null) {
+                    break;
+                }
+                routeAlongPath(vertex, path, true, touched);
+            }
+        }
+        for (VertexExtension vertex : imbalanced) {
+            while (vertex != currentSource && vertex != currentSink
+                && comparator.compare(vertex.excess, 0d) < 0)
+            {
+                List<AnnotatedFlowEdge> path = findRepairPath(vertex, false);
+                if (path == null) {
+                    break;
+                }
+                routeAlongPath(vertex, path, false, touched);
+            }
+        }
+        for (VertexExtension vertex : imbalanced) {
+            vertex.excess = 0;
+        }
+    }
+
+    /**
+     * Finds a shortest residual path which starts from a vertex with an excess and ends at a
+     * terminal or a vertex with a deficit, or a shortest path of arcs whose inverse carries flow,
+     * which starts from a terminal or a vertex with an excess and ends at a vertex with a deficit.
+     *
+     * @param vertex the vertex with the imbalance
+     * @param forward whether the vertex has an excess and the path starts from it
+     * @return the arcs of the path ordered from the vertex, or {@code null} if no path exists
+     */
+    private List<AnnotatedFlowEdge> findRepairPath(VertexExtension vertex, boolean forward)
+    {
+        Map<VertexExtension, AnnotatedFlowEdge> pred = new IdentityHashMap<>();
+        Deque<VertexExtension> queue = new ArrayDeque<>();
+        pred.put(vertex, null);
+        queue.add(vertex);
+        while (!queue.isEmpty()) {
+            VertexExtension current = queue.poll();
+            for (AnnotatedFlowEdge edge : current.getOutgoing()) {
+                // the arc of the path, directed towards the deficit
+                AnnotatedFlowEdge arc = forward ? edge : edge.getInverse();
+                VertexExtension next = edge.getTarget();
+                if (pred.containsKey(next)
+                    || (forward ? !arc.hasCapacity() : comparator.compare(edge.flow, 0d) <= 0))
+                {
+                    continue;
+                }
+                pred.put(next, arc);
+                if (next == currentSource || next == currentSink
+                    || comparator.compare(next.excess, 0d) * (forward ? 1 : -1) < 0)
+                {
+                    List<AnnotatedFlowEdge> path = new ArrayList<>();
+                    for (VertexExtension v = next; v != vertex;) {
+                        AnnotatedFlowEdge a = pred.get(v);
+                        path.add(a);
+                        v = forward ? a.getSource() : a.getTarget();
+                    }
+                    Collections.reverse(path);
+                    return path;
+                }
+                queue.add(next);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Routes flow along a repair path and updates the imbalances of its endpoints.
+     *
+     * @param vertex the vertex with the imbalance
+     * @param path the arcs of the path ordered from the vertex
+     * @param forward whether the vertex has an excess and the path starts from it
+     * @param touched collects the endpoints of the edges whose flow changed
+     */
+    private void routeAlongPath(
+        VertexExtension vertex, List<AnnotatedFlowEdge> path, boolean forward,
+        List<VertexExtension> touched)
+    {
+        AnnotatedFlowEdge last = path.get(path.size() - 1);
+        VertexExtension other = forward ? last.getTarget() : last.getSource();
+
+        double delta = Math.abs(vertex.excess);
+        if (other != currentSource && other != currentSink) {
+            delta = Math.min(delta, Math.abs(other.excess));
+        }
+        for (AnnotatedFlowEdge arc : path) {
+            // a deficit is only covered by cancelling flow
+            delta = Math.min(delta, forward ? arc.getResidualCapacity() : arc.getInverse().flow);
+        }
+        for (AnnotatedFlowEdge arc : path) {
+            pushFlowThrough(arc, delta);
+            touched.add(arc.getSource());
+            touched.add(arc.getTarget());
+        }
+        if (forward) {
+            vertex.excess -= delta;
+            other.excess += delta;
+        } else {
+            vertex.excess += delta;
+            other.excess -= delta;
+        }
+    }
+
+    /**
+     * Finds augmenting paths until the source and sink trees cannot be connected anymore.
+     */
+    private void augmentPaths()
+    {
         for (;;) {
             AnnotatedFlowEdge boundingEdge = grow();
             if (boundingEdge == null) {
@@ -18,7 +18,6 @@
 package org.jgrapht.alg.flow;
 
 import org.jgrapht.*;
-import org.jgrapht.alg.util.extension.*;
 
 import java.util.*;
 
@@ -42,6 +41,10 @@ import java.util.*;
  *
  * 3). Add $f'$ to the flow $f$. Move to the step $1$.
  *
+ * The algorithm works on an array-based residual network which is created on the first invocation
+ * and reused by subsequent invocations, as long as no vertices or edges are added to or removed
+ * from the network. Changes of the capacities are taken into account by every invocation.
+ *
  * @param <V> the graph vertex type.
  * @param <E> the graph edge type.
  *
@@ -53,17 +56,24 @@ public class DinicMFImpl<V, E>
 {
 
     /**
-     * Current source vertex.
+     * Index of the current source vertex.
      */
-    private VertexExtension currentSource;
+    private int currentSource;
 
     /**
-     * Current sink vertex.
+     * Index of the current sink vertex.
      */
-    private VertexExtension currentSink;
+    private int currentSink;
 
-    private final ExtensionFactory<VertexExtension> vertexExtensionsFactory;
-    private final ExtensionFactory<AnnotatedFlowEdge> edgeExtensionsFactory;
+    /**
+     * Level of each vertex in the level graph.
+     */
+    private int[] level;
+
+    /**
+     * Index of the first unexplored arc of each vertex.
+     */
+    private int[] currentArc;
 
     /**
      * Constructor. Constructs a new network on which we will calculate the maximum flow, using
@@ -75,9 +85,6 @@ public class DinicMFImpl<V, E>
     public DinicMFImpl(Graph<V, E> network, double epsilon)
     {
         super(network, epsilon);
-        this.vertexExtensionsFactory = VertexExtension::new;
-
-        this.edgeExtensionsFactory = AnnotatedFlowEdge::new;
 
         if (epsilon <= 0) {
             throw new IllegalArgumentException("Epsilon must be positive!");
@@ -118,7 +125,7 @@ public class DinicMFImpl<V, E>
      */
     private double calculateMaxFlow(V source, V sink)
     {
-        super.init(source, sink, vertexExtensionsFactory, edgeExtensionsFactory);
+        super.initResidualNetwork(source, sink);
 
         if (!network.containsVertex(source)) {
             throw new IllegalArgumentException("Network does not contain source!");
@@ -132,8 +139,8 @@ public class DinicMFImpl<V, E>
             throw new IllegalArgumentException("Source is equal to sink!");
         }
 
-        currentSource = getVertexExtension(source);
-        currentSink = getVertexExtension(sink);
+        currentSource = residualNetwork.getVertexIndex(source);
+        currentSink = residualNetwork.getVertexIndex(sink);
 
         dinic();
 
@@ -148,116 +155,127 @@ public class DinicMFImpl<V, E>
      * edges that lead from level $i$ to the level $i + 1$. Thus level graph does not contain
      * backward edges or edges that lead from $i$-th level to $i$-th.
      *
+     * @param queue the queue of the search
      * @return true, if level graph has been constructed(i.e we reached the sink), otherwise false.
      */
-    private boolean bfs()
+    private boolean bfs(int[] queue)
     {
+        int[] offsets = residualNetwork.offsets;
+        int[] heads = residualNetwork.heads;
 
-        for (V v : network.vertexSet()) {
-            getVertexExtension(v).level = -1;
-        }
+        Arrays.fill(level, -1);
 
-        Queue<VertexExtension> queue = new ArrayDeque<>();
-        queue.offer(currentSource);
+        int head = 0, tail = 0;
+        queue[tail++] = currentSource;
 
-        currentSource.level = 0;
+        level[currentSource] = 0;
 
-        while (!queue.isEmpty() && currentSink.level == -1) {
-            VertexExtension v = queue.poll();
-            for (AnnotatedFlowEdge edge : v.getOutgoing()) {
-                VertexExtension u = edge.getTarget();
-                if (comparator.compare(edge.flow, edge.capacity) < 0 && u.level == -1) {
-                    u.level = v.level + 1;
-                    queue.offer(u);
+        while (head < tail && level[currentSink] == -1) {
+            int v = queue[head++];
+            for (int a = offsets[v], end = offsets[v + 1]; a < end; a++) {
+                int u = heads[a];
+                if (level[u] == -1 && residualNetwork.hasCapacity(a)) {
+                    level[u] = level[v] + 1;
+                    queue[tail++] = u;
                 }
             }
         }
 
-        return currentSink.level != -1;
+        return level[currentSink] != -1;
     }
 
     /**
-     * Finds a blocking flow in the network. For each vertex we have a pointer on the first edge
-     * which we can use to reach the sink. If we can't reach the sink using current edge, we
-     * increment the pointer. So on each iteration we either saturate at least one edge or we
-     * increment pointer.
+     * Finds a blocking flow in the level graph. For each vertex we have a pointer on the first arc
+     * which we can use to reach the sink. If we can't reach the sink using current arc, we
+     * increment the pointer. So on each iteration we either saturate at least one arc or we
+     * increment pointer. The search is iterative, keeping the arcs of the current path in a stack.
      *
-     * @param v current vertex.
-     * @param flow we can push through.
-     * @return value of the flow we can push.
+     * @param path the stack of the arcs of the current path
+     * @return value of the blocking flow.
      */
-    public double dfs(VertexExtension v, double flow)
+    private double blockingFlow(int[] path)
     {
-        if (comparator.compare(0.0, flow) == 0) {
-            return flow;
-        }
+        int[] offsets = residualNetwork.offsets;
+        int[] heads = residualNetwork.heads;
 
-        if (v.equals(currentSink)) {
-            return flow;
-        }
+        double blockingFlow = 0;
+        int depth = 0;
+        int v = currentSource;
 
-        double pushed;
+        for (;;) {
+            if (v == currentSink) {
+                // augment along the path and retreat to the tail of the first saturated arc
+                double pushed = Double.POSITIVE_INFINITY;
+                int saturated = 0;
+                for (int i = 0; i < depth; i++) {
+                    double residual = residualNetwork.getResidualCapacity(path[i]);
+                    if (residual < pushed) {
+                        pushed = residual;
+                        saturated = i;
+                    }
+                }
+                for (int i = 0; i < depth; i++) {
+                    residualNetwork.push(path[i], pushed);
+                }
+                for (int i = 0; i < saturated; i++) {
+                    if (!residualNetwork.hasCapacity(path[i])) {
+                        saturated = i;
+                        break;
+                    }
+                }
+                blockingFlow += pushed;
+                depth = saturated;
+                v = residualNetwork.tail(path[saturated]);
+                continue;
+            }
 
-        while (v.index < v.getOutgoing().size()) {
-            AnnotatedFlowEdge edge = v.getOutgoing().get(v.index);
-            VertexExtension u = edge.getTarget();
-            if (comparator.compare(edge.flow, edge.capacity) < 0 && u.level == v.level + 1) {
-                pushed = dfs(u, Math.min(flow, edge.capacity - edge.flow));
-                if (comparator.compare(pushed, 0.0) != 0) {
-                    pushFlowThrough(edge, pushed);
-                    return pushed;
+            int end = offsets[v + 1];
+            int a = currentArc[v];
+            for (; a < end; a++) {
+                if (level[heads[a]] == level[v] + 1 && residualNetwork.hasCapacity(a)) {
+                    break;
                 }
             }
-            v.index++;
+            currentArc[v] = a;
+
+            if (a < end) {
+                // advance
+                path[depth++] = a;
+                v = heads[a];
+            } else {
+                // retreat, the vertex cannot reach the sink in the level graph
+                if (v == currentSource) {
+                    break;
+                }
+                level[v] = -1;
+                v = residualNetwork.tail(path[--depth]);
+                currentArc[v]++;
+            }
         }
-
-        return 0;
+        return blockingFlow;
     }
 
     /**
      * Runs Dinic algorithm with scaling. Construct a level graph, then find blocking flow and
      * finally increase the flow.
      */
-    public void dinic()
+    private void dinic()
     {
+        int n = residualNetwork.n;
+        level = new int[n];
+        currentArc = new int[n];
+        int[] queue = new int[n];
+        int[] path = new int[n];
+
         for (;;) {
-            if (!bfs()) {
+            if (!bfs(queue)) {
                 break;
             }
-            for (V v : network.vertexSet()) {
-                getVertexExtension(v).index = 0;
-            }
+            System.arraycopy(residualNetwork.offsets, 0, currentArc, 0, n);
 
-            while (true) {
-                double pushed = dfs(currentSource, Double.POSITIVE_INFINITY);
-                if (pushed == 0.0) {
-                    break;
-                }
-                maxFlowValue += pushed;
-            }
+            maxFlowValue += blockingFlow(path);
         }
-    }
-
-    private VertexExtension getVertexExtension(V v)
-    {
-        return (VertexExtension) vertexExtensionManager.getExtension(v);
-    }
-
-    /**
-     * Extension for vertex class.
-     */
-    class VertexExtension
-        extends VertexExtensionBase
-    {
-
-        /**
-         * Stores index of the first unexplored edge from current vertex.
-         */
-        int index;
-
-        /**
-         * Level of vertex in the level graph.
-         */
-        int level;
+        level = null;
+        currentArc = null;
     }
 }
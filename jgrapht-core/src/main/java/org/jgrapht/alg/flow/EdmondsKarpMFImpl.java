@@ -18,9 +18,6 @@
 package org.jgrapht.alg.flow;
 
 import org.jgrapht.*;
-import org.jgrapht.alg.util.extension.*;
-
-import java.util.*;
 
 /**
  * This class computes a maximum flow in a
@@ -53,6 +50,11 @@ import java.util.*;
  * implementation first computes a minimum s-t flow, after which a BFS is run on the residual graph.
  *
  * <p>
+ * The algorithm works on an array-based residual network which is created on the first invocation
+ * and reused by subsequent invocations, as long as no vertices or edges are added to or removed
+ * from the network. Changes of the capacities are taken into account by every invocation.
+ *
+ * <p>
  * For more details see Andrew V. Goldberg's <i>Combinatorial Optimization (Lecture Notes)</i>.
  *
  * Note: even though the algorithm accepts any kind of graph, currently only Simple directed and
@@ -68,13 +70,10 @@ public final class EdmondsKarpMFImpl<V, E>
     extends MaximumFlowAlgorithmBase<V, E>
 {
 
-    /* current source vertex */
-    private VertexExtension currentSource;
-    /* current sink vertex */
-    private VertexExtension currentSink;
-
-    private final ExtensionFactory<VertexExtension> vertexExtensionsFactory;
-    private final ExtensionFactory<AnnotatedFlowEdge> edgeExtensionsFactory;
+    /* index of the current source vertex */
+    private int currentSource;
+    /* index of the current sink vertex */
+    private int currentSink;
 
     /**
      * Constructs {@code MaximumFlow} instance to work with <i>a copy of</i>
@@ -101,9 +100,6 @@ public final class EdmondsKarpMFImpl<V, E>
     public EdmondsKarpMFImpl(Graph<V, E> network, double epsilon)
     {
         super(network, epsilon);
-        this.vertexExtensionsFactory = () -> new VertexExtension();
-
-        this.edgeExtensionsFactory = () -> new AnnotatedFlowEdge();
 
         if (network == null) {
             throw new NullPointerException("network is null");
@@ -150,7 +146,7 @@ public final class EdmondsKarpMFImpl<V, E>
      */
     public double calculateMaximumFlow(V source, V sink)
     {
-        super.init(source, sink, vertexExtensionsFactory, edgeExtensionsFactory);
+        super.initResidualNetwork(source, sink);
 
         if (!network.containsVertex(source)) {
             throw new IllegalArgumentException("invalid source (null or not from this network)");
@@ -163,17 +159,24 @@ public final class EdmondsKarpMFImpl<V, E>
             throw new IllegalArgumentException("source is equal to sink");
         }
 
-        currentSource = getVertexExtension(source);
-        currentSink = getVertexExtension(sink);
+        currentSource = residualNetwork.getVertexIndex(source);
+        currentSink = residualNetwork.getVertexIndex(sink);
 
-        for (;;) {
-            breadthFirstSearch();
+        int n = residualNetwork.n;
+        int[] lastArc = new int[n];
+        int[] visited = new int[n];
+        int[] queue = new int[n];
+        int[] sinkArcs = new int[residualNetwork.offsets[currentSink + 1]
+            - residualNetwork.offsets[currentSink]];
 
-            if (!currentSink.visited) {
+        for (int round = 1;; round++) {
+            int sinkArcCount = breadthFirstSearch(round, visited, lastArc, queue, sinkArcs);
+
+            if (sinkArcCount == 0) {
                 break;
             }
 
-            maxFlowValue += augmentFlow();
+            maxFlowValue += augmentFlow(lastArc, sinkArcs, sinkArcCount);
         }
 
         return maxFlowValue;
@@ -184,111 +187,84 @@ public final class EdmondsKarpMFImpl<V, E>
      * method tries to find multiple paths at once. Once a single path has been discovered, no new
      * nodes are added to the queue, but nodes which are already in the queue are fully explored. As
      * such there's a chance that multiple paths are discovered.
+     *
+     * @param round the current round, used to mark visited vertices
+     * @param visited the round in which each vertex was last visited
+     * @param lastArc the last arc in the shortest path used to reach each vertex
+     * @param queue the queue of the search
+     * @param sinkArcs the arcs with residual capacity entering the sink from visited vertices
+     * @return the number of arcs entering the sink
      */
-    private void breadthFirstSearch()
+    private int breadthFirstSearch(
+        int round, int[] visited, int[] lastArc, int[] queue, int[] sinkArcs)
     {
-        for (V v : network.vertexSet()) {
-            getVertexExtension(v).visited = false;
-            getVertexExtension(v).lastArcs = null;
-        }
-
-        Queue<VertexExtension> queue = new ArrayDeque<>();
-        queue.offer(currentSource);
+        int[] offsets = residualNetwork.offsets;
+        int[] heads = residualNetwork.heads;
 
-        currentSource.visited = true;
-        currentSource.excess = Double.POSITIVE_INFINITY;
+        int head = 0, tail = 0;
+        queue[tail++] = currentSource;
+        visited[currentSource] = round;
+        visited[currentSink] = round;
 
-        currentSink.excess = 0.0;
+        int sinkArcCount = 0;
 
-        boolean seenSink = false;
+        while (head < tail) {
+            int u = queue[head++];
 
-        while (queue.size() != 0) {
-            VertexExtension ux = queue.poll();
+            for (int a = offsets[u], end = offsets[u + 1]; a < end; a++) {
+                if (residualNetwork.hasCapacity(a)) {
+                    int v = heads[a];
 
-            for (AnnotatedFlowEdge ex : ux.getOutgoing()) {
-                if (comparator.compare(ex.flow, ex.capacity) < 0) {
-                    VertexExtension vx = ex.getTarget();
+                    if (v == currentSink) {
+                        sinkArcs[sinkArcCount++] = a;
+                    } else if (visited[v] != round) {
+                        visited[v] = round;
+                        lastArc[v] = a;
 
-                    if (vx == currentSink) {
-                        vx.visited = true;
-
-                        if (vx.lastArcs == null) {
-                            vx.lastArcs = new ArrayList<>();
-                        }
-
-                        vx.lastArcs.add(ex);
-                        vx.excess += Math.min(ux.excess, ex.capacity - ex.flow);
-
-                        seenSink = true;
-                    } else if (!vx.visited) {
-                        vx.visited = true;
-                        vx.excess = Math.min(ux.excess, ex.capacity - ex.flow);
-
-                        vx.lastArcs = Collections.singletonList(ex);
-
-                        if (!seenSink) {
-                            queue.add(vx);
+                        if (sinkArcCount == 0) {
+                            queue[tail++] = v;
                         }
                     }
                 }
             }
         }
+        return sinkArcCount;
     }
 
     /**
      * For all paths which end in the sink. trace them back to the source and push flow through
-     * them.
-     * 
+     * them. As the paths share the shortest path tree, the bottleneck of each path is computed
+     * after augmenting the previous ones.
+     *
+     * @param lastArc the last arc in the shortest path used to reach each vertex
+     * @param sinkArcs the arcs entering the sink
+     * @param sinkArcCount the number of arcs entering the sink
      * @return total increase in flow from source to sink
      */
-    private double augmentFlow()
+    private double augmentFlow(int[] lastArc, int[] sinkArcs, int sinkArcCount)
     {
         double flowIncrease = 0;
-        Set<VertexExtension> seen = new HashSet<>();
 
-        for (AnnotatedFlowEdge ex : currentSink.lastArcs) {
-            double deltaFlow = Math.min(ex.getSource().excess, ex.capacity - ex.flow);
+        for (int i = 0; i < sinkArcCount; i++) {
+            int sinkArc = sinkArcs[i];
+
+            double deltaFlow = residualNetwork.getResidualCapacity(sinkArc);
+            for (int v = residualNetwork.tail(sinkArc); v != currentSource;) {
+                int a = lastArc[v];
+                deltaFlow = Math.min(deltaFlow, residualNetwork.getResidualCapacity(a));
+                v = residualNetwork.tail(a);
+            }
 
-            if (augmentFlowAlongInternal(deltaFlow, ex.<VertexExtension> getSource(), seen)) {
-                pushFlowThrough(ex, deltaFlow);
+            if (comparator.compare(deltaFlow, 0.0) > 0) {
+                residualNetwork.push(sinkArc, deltaFlow);
+                for (int v = residualNetwork.tail(sinkArc); v != currentSource;) {
+                    int a = lastArc[v];
+                    residualNetwork.push(a, deltaFlow);
+                    v = residualNetwork.tail(a);
+                }
                 flowIncrease += deltaFlow;
             }
         }
         return flowIncrease;
     }
-
-    private boolean augmentFlowAlongInternal(
-        double deltaFlow, VertexExtension node, Set<VertexExtension> seen)
-    {
-        if (node == currentSource) {
-            return true;
-        }
-        if (seen.contains(node)) {
-            return false;
-        }
-
-        seen.add(node);
-
-        AnnotatedFlowEdge prev = node.lastArcs.get(0);
-        if (augmentFlowAlongInternal(deltaFlow, prev.<VertexExtension> getSource(), seen)) {
-            pushFlowThrough(prev, deltaFlow);
-            return true;
-        }
-
-        return false;
-    }
-
-    private VertexExtension getVertexExtension(V v)
-    {
-        return (VertexExtension) vertexExtensionManager.getExtension(v);
-    }
-
-    class VertexExtension
-        extends VertexExtensionBase
-    {
-        boolean visited; // this mark is used during BFS to mark visited nodes
-        List<AnnotatedFlowEdge> lastArcs; // last arc(-s) in the shortest path used to reach this
-                                          // vertex
-
-    }
 }
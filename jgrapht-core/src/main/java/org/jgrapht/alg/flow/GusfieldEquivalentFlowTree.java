@@ -22,6 +22,8 @@ import org.jgrapht.alg.interfaces.*;
 import org.jgrapht.graph.*;
 
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
 
 /**
  * This class computes an Equivalent Flow Tree (EFT) using the algorithm proposed by Dan Gusfield.
@@ -55,6 +57,12 @@ import java.util.*;
  * Gomory-Hu cut trees are required! Use the {@link GusfieldGomoryHuCutTree} implementation instead.
  *
  * <p>
+ * When constructed with an executor, the minimum $s-t$ cuts are computed in parallel, each thread
+ * using its own cut algorithm. The cuts of the following iterations of Gusfield's algorithm are
+ * computed speculatively and are recomputed if an earlier cut changes their sink. Since cuts are
+ * committed in order, the resulting EFT is the same as the one of the sequential algorithm.
+ *
+ * <p>
  * This class does not support changes to the underlying graph. The behavior of this class is
  * undefined when the graph is modified after instantiating this class.
  *
@@ -69,8 +77,10 @@ public class GusfieldEquivalentFlowTree<V, E>
 
     /* Number of vertices in the graph */
     private final int n;
-    /* Algorithm used to computed the Maximum s-t flows */
-    private final MinimumSTCutAlgorithm<V, E> minimumSTCutAlgorithm;
+    /* Supplier of the algorithms used to compute the minimum $s-t$ cuts */
+    private final Supplier<MinimumSTCutAlgorithm<V, E>> minimumSTCutAlgorithmSupplier;
+    /* Executor used to compute the cuts in parallel, may be null */
+    private final ThreadPoolExecutor executor;
 
     /* Data structures for computations */
     private List<V> vertexList = new ArrayList<>();
@@ -102,7 +112,7 @@ public class GusfieldEquivalentFlowTree<V, E>
      */
     public GusfieldEquivalentFlowTree(Graph<V, E> network, double epsilon)
     {
-        this(network, new PushRelabelMFImpl<>(network, epsilon));
+        this(network, epsilon, null);
     }
 
     /**
@@ -113,12 +123,59 @@ public class GusfieldEquivalentFlowTree<V, E>
      */
     public GusfieldEquivalentFlowTree(
         Graph<V, E> network, MinimumSTCutAlgorithm<V, E> minimumSTCutAlgorithm)
+    {
+        this(network, () -> minimumSTCutAlgorithm, null);
+    }
+
+    /**
+     * Constructs a new GusfieldEquivalentFlowTree instance which computes the minimum $s-t$ cuts in
+     * parallel.
+     * 
+     * @param network input graph
+     * @param executor executor which is used to compute the cuts, if null the computation is
+     *        performed by the calling thread
+     */
+    public GusfieldEquivalentFlowTree(Graph<V, E> network, ThreadPoolExecutor executor)
+    {
+        this(network, MaximumFlowAlgorithmBase.DEFAULT_EPSILON, executor);
+    }
+
+    /**
+     * Constructs a new GusfieldEquivalentFlowTree instance which computes the minimum $s-t$ cuts in
+     * parallel.
+     * 
+     * @param network input graph
+     * @param epsilon precision
+     * @param executor executor which is used to compute the cuts, if null the computation is
+     *        performed by the calling thread
+     */
+    public GusfieldEquivalentFlowTree(
+        Graph<V, E> network, double epsilon, ThreadPoolExecutor executor)
+    {
+        this(network, () -> new PushRelabelMFImpl<>(network, epsilon), executor);
+    }
+
+    /**
+     * Constructs a new GusfieldEquivalentFlowTree instance which computes the minimum $s-t$ cuts in
+     * parallel. Each algorithm obtained from the supplier is used by a single thread at a time.
+     * 
+     * @param network input graph
+     * @param minimumSTCutAlgorithmSupplier supplier of the algorithms used to compute the minimum
+     *        $s-t$ cuts
+     * @param executor executor which is used to compute the cuts, if null the computation is
+     *        performed by the calling thread
+     */
+    public GusfieldEquivalentFlowTree(
+        Graph<V, E> network, Supplier<MinimumSTCutAlgorithm<V, E>> minimumSTCutAlgorithmSupplier,
+        ThreadPoolExecutor executor)
     {
         GraphTests.requireUndirected(network);
         this.n = network.vertexSet().size();
         if (n < 2)
             throw new IllegalArgumentException("Graph must have at least 2 vertices");
-        this.minimumSTCutAlgorithm = minimumSTCutAlgorithm;
+        this.minimumSTCutAlgorithmSupplier = Objects
+            .requireNonNull(minimumSTCutAlgorithmSupplier, "Cut algorithm supplier cannot be null");
+        this.executor = executor;
         vertexList.addAll(network.vertexSet());
         for (int i = 0; i < vertexList.size(); i++)
             indexMap.put(vertexList.get(i), i);
@@ -133,15 +190,14 @@ public class GusfieldEquivalentFlowTree<V, E>
         p = new int[n];
         neighbors = new int[n];
 
-        for (int s = 1; s < n; s++) {
-            int t = p[s];
+        SpeculativeGusfield<V, E> cuts = new SpeculativeGusfield<>(
+            vertexList, indexMap, minimumSTCutAlgorithmSupplier, executor);
+        // sourcePartition is the set X in the paper
+        cuts.run(p, (s, t, flowValue, sourcePartition) -> {
             neighbors[s] = t;
-            double flowValue =
-                minimumSTCutAlgorithm.calculateMinCut(vertexList.get(s), vertexList.get(t));
-            Set<V> sourcePartition = minimumSTCutAlgorithm.getSourcePartition(); // Set X in the
-                                                                                 // paper
-            for (int i = s; i < n; i++)
-                if (sourcePartition.contains(vertexList.get(i)) && p[i] == t)
+            for (int i = sourcePartition.nextSetBit(s); i >= 0;
+                i = sourcePartition.nextSetBit(i + 1))
+                if (p[i] == t)
                     p[i] = s;
 
             // populate the flow matrix
@@ -150,7 +206,7 @@ public class GusfieldEquivalentFlowTree<V, E>
                 if (i != t)
                     flowMatrix[s][i] =
                         flowMatrix[i][s] = Math.min(flowMatrix[s][t], flowMatrix[t][i]);
-        }
+        });
     }
 
     /**
@@ -31,6 +31,13 @@ import java.util.stream.*;
  * <a href="https://en.wikipedia.org/wiki/Maximum_flow_problem">maximum-flow</a> from the supplied
  * <a href="https://en.wikipedia.org/wiki/Flow_network">flow network</a>
  *
+ * <p>
+ * Subclasses either work on a residual network of extension objects, prepared by
+ * {@link #init(Object, Object, ExtensionFactory, ExtensionFactory)}, or on a compact array-based
+ * residual network, prepared by {@link #initResidualNetwork(Object, Object)}. The array-based
+ * residual network is created once and reused by subsequent invocations as long as the structure
+ * of the network does not change.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  *
@@ -51,6 +58,8 @@ public abstract class MaximumFlowAlgorithmBase<V, E>
     protected final boolean directedGraph;
     /* Used to compare floating point values */
     protected Comparator<Double> comparator;
+    /* Tolerance used to compare floating point values */
+    private final double epsilon;
 
     protected ExtensionManager<V, ? extends VertexExtensionBase> vertexExtensionManager;
     protected ExtensionManager<E, ? extends AnnotatedFlowEdge> edgeExtensionManager;
@@ -69,6 +78,8 @@ public abstract class MaximumFlowAlgorithmBase<V, E>
     protected Set<V> sinkPartition;
     /* Cut edges */
     protected Set<E> cutEdges;
+    /* Array-based residual network, null if the extension objects are used */
+    ResidualNetwork<V, E> residualNetwork;
 
     /**
      * Construct a new maximum flow
@@ -81,6 +92,7 @@ public abstract class MaximumFlowAlgorithmBase<V, E>
         this.network = network;
         this.directedGraph = network.getType().isDirected();
         this.comparator = new ToleranceDoubleComparator(epsilon);
+        this.epsilon = epsilon;
     }
 
     /**
@@ -110,6 +122,29 @@ public abstract class MaximumFlowAlgorithmBase<V, E>
         cutEdges = null;
     }
 
+    /**
+     * Prepares the array-based residual network to start a new invocation of the Maximum Flow or
+     * Minimum Cut algorithms. The capacities are re-read from the network and the flow is reset to
+     * zero.
+     *
+     * @param source source
+     * @param sink sink
+     */
+    void initResidualNetwork(V source, V sink)
+    {
+        if (residualNetwork == null || !residualNetwork.isUpToDate()) {
+            residualNetwork = new ResidualNetwork<>(network, epsilon);
+        }
+        residualNetwork.reset();
+        this.source = source;
+        this.sink = sink;
+        maxFlowValue = 0;
+        maxFlow = null;
+        sourcePartition = null;
+        sinkPartition = null;
+        cutEdges = null;
+    }
+
     /**
      * Create internal data structure
      */
@@ -236,6 +271,9 @@ public abstract class MaximumFlowAlgorithmBase<V, E>
      */
     protected Map<E, Double> composeFlow()
     {
+        if (residualNetwork != null) {
+            return residualNetwork.getFlowMap();
+        }
         Map<E, Double> maxFlow = new HashMap<>();
 
         for (E e : network.edgeSet()) {
@@ -384,6 +422,8 @@ public abstract class MaximumFlowAlgorithmBase<V, E>
         if (!network.containsEdge(e))
             throw new IllegalArgumentException(
                 "Cannot query the flow on an edge which does not exist in the input graph!");
+        if (residualNetwork != null)
+            return residualNetwork.getFlowDirection(residualNetwork.getEdgeIndex(e));
         AnnotatedFlowEdge annotatedFlowEdge = edgeExtensionManager.getExtension(e);
 
         if (directedGraph)
@@ -462,6 +502,11 @@ public abstract class MaximumFlowAlgorithmBase<V, E>
     protected void calculateSourcePartition()
     {
         // the source partition contains all vertices reachable from s in the residual graph
+        if (residualNetwork != null) {
+            this.sourcePartition = residualNetwork
+                .getReachableVertices(residualNetwork.getVertexIndex(getCurrentSource()));
+            return;
+        }
         this.sourcePartition = new LinkedHashSet<>();
         Queue<VertexExtensionBase> processQueue = new ArrayDeque<>();
         processQueue.add(vertexExtensionManager.getExtension(getCurrentSource()));
@@ -19,10 +19,12 @@ package org.jgrapht.alg.flow;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.util.*;
-import org.jgrapht.alg.util.extension.*;
+import org.jgrapht.util.*;
 
-import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
 
 /**
  * <p>
@@ -46,6 +48,24 @@ import java.util.*;
  * graph.
  * </p>
  *
+ * <p>
+ * The order in which active vertices are discharged is selected using a
+ * {@link PushRelabelStrategy}. The default is the FIFO selection rule. The highest-label rule and
+ * the parallel variant follow:
+ * <ul>
+ * <li>B. V. Cherkassky and A. V. Goldberg. On Implementing the Push—Relabel Method for the Maximum
+ * Flow Problem. Algorithmica 19, 390–410 (1997).</li>
+ * <li>N. Baumstark, G. Blelloch and J. Shun. Efficient Implementation of a Synchronous Parallel
+ * Push-Relabel Algorithm. European Symposium on Algorithms (ESA), 106–117 (2015).</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * The algorithm works on an array-based residual network which is created on the first invocation
+ * and reused by subsequent invocations, as long as no vertices or edges are added to or removed
+ * from the network. Changes of the capacities are taken into account by every invocation.
+ * </p>
+ *
  * Note: even though the algorithm accepts any kind of graph, currently only Simple directed and
  * undirected graphs are supported (and tested!).
  *
@@ -62,6 +82,14 @@ public class PushRelabelMFImpl<V, E>
     // Diagnostic
     private static final boolean DIAGNOSTIC_ENABLED = false;
 
+    // global relabeling of the highest-label and parallel strategies is performed once the work of
+    // the relabel operations, each costing its degree plus BETA, exceeds ALPHA * n + m / 2
+    private static final int GLOBAL_RELABEL_ALPHA = 6;
+    private static final int GLOBAL_RELABEL_BETA = 12;
+
+    // number of vertices processed as a single task by the parallel strategy
+    private static final int VERTICES_CHUNK_SIZE = 256;
+
     /**
      * @deprecated use {@link #setUseGlobalRelabelingHeuristic(boolean)} instead
      */
@@ -89,26 +117,51 @@ public class PushRelabelMFImpl<V, E>
         USE_GAP_RELABELING_HEURISTIC = useGapRelabelingHeuristic;
     }
 
-    private final ExtensionFactory<VertexExtension> vertexExtensionsFactory;
-    private final ExtensionFactory<AnnotatedFlowEdge> edgeExtensionsFactory;
-
     // countHeight[h] = number of vertices with height h
     private int[] countHeight;
 
     // queue of active vertices
-    private Queue<VertexExtension> activeVertices;
+    private int[] activeVertices;
+    private int activeHead;
+    private int activeSize;
 
     private PushRelabelDiagnostic diagnostic;
 
     // number of vertices
-    private final int n;
+    private int n;
+
+    // index of the current source and sink
+    private int sourceIndex;
+    private int sinkIndex;
 
-    private final VertexExtension[] vertexExtension;
+    // excess of each vertex
+    private double[] excess;
+    // height of each vertex, also called label (or distance label) in some papers
+    private int[] height;
+    // whether each vertex is in the queue of active vertices
+    private boolean[] active;
+    // current arc of each vertex
+    private int[] currentArc;
 
     // number of relabels already performed
     private int relabelCounter;
 
-    private static ToleranceDoubleComparator comparator = new ToleranceDoubleComparator();
+    // work of the relabels since the last global relabeling
+    private long relabelWork;
+
+    // highest-label strategy: active vertices per height linked through bucketNext
+    private int[] bucketFirst;
+    private int[] bucketNext;
+    private int maxActiveHeight;
+
+    // highest-label strategy: all vertices with height below n per height, doubly linked
+    private int[] layerFirst;
+    private int[] layerNext;
+    private int[] layerPrev;
+    private int maxLayerHeight;
+
+    private final PushRelabelStrategy strategy;
+    private final ThreadPoolExecutor executor;
 
     /**
      * Construct a new push-relabel algorithm.
@@ -126,31 +179,70 @@ public class PushRelabelMFImpl<V, E>
      * @param network the network
      * @param epsilon tolerance used when comparing floating-point values
      */
-    @SuppressWarnings("unchecked")
     public PushRelabelMFImpl(Graph<V, E> network, double epsilon)
     {
-        super(network, epsilon);
+        this(network, epsilon, PushRelabelStrategy.FIFO, null);
+    }
 
-        this.vertexExtensionsFactory = VertexExtension::new;
+    /**
+     * Construct a new push-relabel algorithm.
+     *
+     * @param network the network
+     * @param strategy the rule used to select the next active vertex
+     * @param executor executor which is used by the {@link PushRelabelStrategy#PARALLEL} strategy,
+     *        if null the computation is performed by the calling thread
+     */
+    public PushRelabelMFImpl(
+        Graph<V, E> network, PushRelabelStrategy strategy, ThreadPoolExecutor executor)
+    {
+        this(network, DEFAULT_EPSILON, strategy, executor);
+    }
 
-        this.edgeExtensionsFactory = AnnotatedFlowEdge::new;
+    /**
+     * Construct a new push-relabel algorithm.
+     *
+     * @param network the network
+     * @param epsilon tolerance used when comparing floating-point values
+     * @param strategy the rule used to select the next active vertex
+     * @param executor executor which is used by the {@link PushRelabelStrategy#PARALLEL} strategy,
+     *        if null the computation is performed by the calling thread
+     */
+    public PushRelabelMFImpl(
+        Graph<V, E> network, double epsilon, PushRelabelStrategy strategy,
+        ThreadPoolExecutor executor)
+    {
+        super(network, epsilon);
+        this.strategy = Objects.requireNonNull(strategy, "Strategy cannot be null");
+        this.executor = executor;
 
         if (DIAGNOSTIC_ENABLED) {
             this.diagnostic = new PushRelabelDiagnostic();
         }
-
-        this.n = network.vertexSet().size();
-        this.vertexExtension = (VertexExtension[]) Array.newInstance(VertexExtension.class, n);
     }
 
-    private void enqueue(VertexExtension vx)
+    private void enqueue(int v)
     {
-        if (!vx.active && vx.hasExcess()) {
-            vx.active = true;
-            activeVertices.add(vx);
+        if (!active[v] && hasExcess(v)) {
+            active[v] = true;
+            if (bucketFirst != null) {
+                bucketNext[v] = bucketFirst[height[v]];
+                bucketFirst[height[v]] = v;
+                maxActiveHeight = Math.max(maxActiveHeight, height[v]);
+            } else {
+                activeVertices[(activeHead + activeSize++) % n] = v;
+            }
         }
     }
 
+    private int dequeue()
+    {
+        int v = activeVertices[activeHead];
+        activeHead = (activeHead + 1) % n;
+        activeSize--;
+        active[v] = false;
+        return v;
+    }
+
     /**
      * Prepares all data structures to start a new invocation of the Maximum Flow or Minimum Cut
      * algorithms
@@ -160,48 +252,41 @@ public class PushRelabelMFImpl<V, E>
      */
     void init(V source, V sink)
     {
-        super.init(source, sink, vertexExtensionsFactory, edgeExtensionsFactory);
+        super.initResidualNetwork(source, sink);
+        initArrays();
+    }
 
+    private void initArrays()
+    {
+        this.n = residualNetwork.n;
+        this.sourceIndex = residualNetwork.getVertexIndex(source);
+        this.sinkIndex = residualNetwork.getVertexIndex(sink);
         this.countHeight = new int[2 * n + 1];
-
-        int id = 0;
-        for (V v : network.vertexSet()) {
-            VertexExtension vx = getVertexExtension(v);
-            vx.id = id;
-            vertexExtension[id] = vx;
-            id++;
-        }
+        this.excess = new double[n];
+        this.height = new int[n];
+        this.active = new boolean[n];
+        this.currentArc = Arrays.copyOf(residualNetwork.offsets, n);
+        this.activeVertices = new int[n];
+        this.activeHead = 0;
+        this.activeSize = 0;
     }
 
     /**
-     * Initialization
-     *
-     * @param source the source
-     * @param sink the sink
-     * @param active resulting queue with all active vertices
+     * Initialization, saturates all arcs leaving the source.
      */
-    public void initialize(
-        VertexExtension source, VertexExtension sink, Queue<VertexExtension> active)
+    private void initialize()
     {
-        this.activeVertices = active;
-
-        for (int i = 0; i < n; i++) {
-            vertexExtension[i].excess = 0;
-            vertexExtension[i].height = 0;
-            vertexExtension[i].active = false;
-            vertexExtension[i].currentArc = 0;
-        }
-
-        source.height = n;
-        source.active = true;
-        sink.active = true;
+        height[sourceIndex] = n;
+        active[sourceIndex] = true;
+        active[sinkIndex] = true;
 
         countHeight[n] = 1;
         countHeight[0] = n - 1;
 
-        for (AnnotatedFlowEdge ex : source.getOutgoing()) {
-            source.excess += ex.capacity;
-            push(ex);
+        int[] offsets = residualNetwork.offsets;
+        for (int a = offsets[sourceIndex], end = offsets[sourceIndex + 1]; a < end; a++) {
+            excess[sourceIndex] += residualNetwork.getResidualCapacity(a);
+            push(a);
         }
 
         if (USE_GLOBAL_RELABELING_HEURISTIC) {
@@ -230,50 +315,114 @@ public class PushRelabelMFImpl<V, E>
      */
     public double calculateMaximumFlow(V source, V sink)
     {
-        /*
-         * Note: this implementation uses the FIFO selection rule (check wiki for more details)
-         */
-
         init(source, sink);
+        initialize();
+        return solve();
+    }
 
-        this.activeVertices = new ArrayDeque<>(n);
-        initialize(getVertexExtension(source), getVertexExtension(sink), this.activeVertices);
-
-        //
-        while (!activeVertices.isEmpty()) {
-            VertexExtension vx = activeVertices.poll();
-            vx.active = false;
-            discharge(vx);
+    /**
+     * Re-computes the maximum flow of the last invocation after the capacities of some edges have
+     * changed, starting from the previous flow instead of from scratch. The new capacities are read
+     * from the edge weights of the network, which the caller must have already updated. The flow
+     * of each edge whose new capacity is exceeded is reduced and the resulting imbalances are
+     * repaired along residual paths, after which push-relabel continues from the repaired flow.
+     * Only the arcs leaving the source towards vertices which can still reach the sink are
+     * saturated, thus besides a global relabeling little work is performed when the maximum flow
+     * changes little.
+     *
+     * <p>
+     * The structure of the network, i.e. its vertices and edges, must not have changed since the
+     * last invocation. Flow maps returned by earlier invocations are not affected.
+     *
+     * @param changedEdges the edges whose weight changed since the last invocation
+     * @return the value of the maximum flow
+     * @throws IllegalStateException if the maximum flow has not been computed before on the same
+     *         network
+     * @throws IllegalArgumentException if an edge is not part of the network
+     */
+    public double updateMaximumFlow(Collection<E> changedEdges)
+    {
+        if (residualNetwork == null || source == null || !residualNetwork.isUpToDate()) {
+            throw new IllegalStateException(
+                "Maximum flow must be computed first on the same network");
+        }
+        initArrays();
+        residualNetwork.updateCapacities(changedEdges, sourceIndex, sinkIndex);
+        maxFlow = null;
+        sourcePartition = null;
+        sinkPartition = null;
+        cutEdges = null;
+
+        // the flow already reaching the sink is its excess
+        excess[sinkIndex] = residualNetwork.getNetInflow(sinkIndex);
+        height[sourceIndex] = n;
+        active[sourceIndex] = true;
+        active[sinkIndex] = true;
+        recomputeHeightsHeuristic();
+        this.relabelCounter = 0;
+
+        // arcs towards vertices which cannot reach the sink may keep their residual capacity, as
+        // these vertices have height at least n
+        int[] offsets = residualNetwork.offsets;
+        for (int a = offsets[sourceIndex], end = offsets[sourceIndex + 1]; a < end; a++) {
+            if (height[residualNetwork.heads[a]] < n && residualNetwork.hasCapacity(a)) {
+                excess[sourceIndex] += residualNetwork.getResidualCapacity(a);
+                push(a);
+            }
         }
+        return solve();
+    }
 
-        // Calculate the max flow that reaches the sink. There may be more efficient ways to do
-        // this.
-        for (E e : network.edgesOf(sink)) {
-            AnnotatedFlowEdge edge = edgeExtensionManager.getExtension(e);
-            maxFlowValue += (directedGraph ? edge.flow : edge.flow + edge.getInverse().flow);
+    private double solve()
+    {
+        switch (strategy) {
+        case HIGHEST_LABEL:
+            highestLabel();
+            break;
+        case PARALLEL:
+            new ParallelPreflow().run();
+            // the excess which cannot reach the sink is returned to the source
+            recomputeHeightsHeuristic();
+            highestLabel();
+            break;
+        default:
+            while (activeSize > 0) {
+                discharge(dequeue());
+            }
         }
 
+        // The flow that reaches the sink is its excess
+        maxFlowValue = excess[sinkIndex];
+
         if (DIAGNOSTIC_ENABLED) {
             diagnostic.dump();
         }
 
+        excess = null;
+        height = null;
+        active = null;
+        currentArc = null;
+        activeVertices = null;
+        countHeight = null;
+
         return maxFlowValue;
     }
 
     /**
-     * Push flow through an edge.
+     * Push flow through an arc.
      *
-     * @param ex the edge
+     * @param a the arc
      * @param f the amount of flow to push through
      */
-    protected void pushFlowThrough(AnnotatedFlowEdge ex, double f)
+    private void pushFlowThrough(int a, double f)
     {
-        ex.getSource().excess -= f;
-        ex.getTarget().excess += f;
+        excess[residualNetwork.tail(a)] -= f;
+        excess[residualNetwork.heads[a]] += f;
 
-        assert ((ex.getSource().excess >= 0.0) && (ex.getTarget().excess >= 0));
+        assert ((excess[residualNetwork.tail(a)] >= 0.0)
+            && (excess[residualNetwork.heads[a]] >= 0));
 
-        super.pushFlowThrough(ex, f);
+        residualNetwork.push(a, f);
     }
 
     /*
@@ -283,33 +432,33 @@ public class PushRelabelMFImpl<V, E>
      * The operation can be either saturating (if ux.excess >= ex.capacity - ex.flow) or
      * nonsaturating (otherwise).
      */
-    private void push(AnnotatedFlowEdge ex)
+    private void push(int a)
     {
-        VertexExtension ux = ex.getSource();
-        VertexExtension vx = ex.getTarget();
-        double delta = Math.min(ux.excess, ex.capacity - ex.flow);
+        int u = residualNetwork.tail(a);
+        int v = residualNetwork.heads[a];
+        double delta = Math.min(excess[u], residualNetwork.getResidualCapacity(a));
 
         // if v is not downhill from u or there is nothing to push (i.e. delta == 0) stop
-        if (ux.height <= vx.height || comparator.compare(delta, 0.0) <= 0)
+        if (height[u] <= height[v] || comparator.compare(delta, 0.0) <= 0)
             return;
 
         if (DIAGNOSTIC_ENABLED) {
-            diagnostic.incrementDischarges(ex);
+            diagnostic.incrementDischarges(u, v);
         }
 
-        pushFlowThrough(ex, delta);
+        pushFlowThrough(a, delta);
 
         // check if we can 'activate' v
-        enqueue(vx);
+        enqueue(v);
     }
 
     private void gapHeuristic(int l)
     {
         for (int i = 0; i < n; i++) {
-            if (l < vertexExtension[i].height && vertexExtension[i].height < n) {
-                countHeight[vertexExtension[i].height]--;
-                vertexExtension[i].height = Math.max(vertexExtension[i].height, n + 1);
-                countHeight[vertexExtension[i].height]++;
+            if (l < height[i] && height[i] < n) {
+                countHeight[height[i]]--;
+                height[i] = Math.max(height[i], n + 1);
+                countHeight[height[i]]++;
             }
         }
     }
@@ -321,22 +470,32 @@ public class PushRelabelMFImpl<V, E>
      * We can relabel an overflowing vertex $u$ if for every vertex v for which there is residual
      * capacity from u to v, flow cannot be pushed from u to v because v is not downhill from u.
      */
-    private void relabel(VertexExtension ux)
+    private void relabel(int u)
     {
-        int oldHeight = ux.height;
+        int oldHeight = height[u];
 
         // Increase the height of u; u.h = 1 + min(v.h : (u, v) in Ef)
 
-        countHeight[ux.height]--;
-        ux.height = 2 * n;
+        countHeight[height[u]]--;
+        if (layerFirst != null && oldHeight < n) {
+            removeFromLayer(u);
+        }
+        int newHeight = 2 * n;
 
-        for (AnnotatedFlowEdge ex : ux.getOutgoing()) {
-            if (ex.hasCapacity()) {
-                ux.height = Math.min(ux.height, ex.<VertexExtension> getTarget().height + 1);
+        int[] offsets = residualNetwork.offsets;
+        int[] heads = residualNetwork.heads;
+        for (int a = offsets[u], end = offsets[u + 1]; a < end; a++) {
+            if (residualNetwork.hasCapacity(a)) {
+                newHeight = Math.min(newHeight, height[heads[a]] + 1);
             }
         }
+        height[u] = newHeight;
+        relabelWork += GLOBAL_RELABEL_BETA + offsets[u + 1] - offsets[u];
 
-        countHeight[ux.height]++;
+        countHeight[height[u]]++;
+        if (layerFirst != null && newHeight < n) {
+            addToLayer(u);
+        }
 
         if (USE_GAP_RELABELING_HEURISTIC) {
             /*
@@ -345,27 +504,35 @@ public class PushRelabelMFImpl<V, E>
              * v.height < |V| has been disconnected from sink and can be relabeled to (|V| + 1).
              */
             if (0 < oldHeight && oldHeight < n && countHeight[oldHeight] == 0) {
-                gapHeuristic(oldHeight);
+                if (layerFirst != null) {
+                    gapHeuristicLayers(oldHeight);
+                } else {
+                    gapHeuristic(oldHeight);
+                }
             }
         }
 
         if (DIAGNOSTIC_ENABLED) {
-            diagnostic.incrementRelabels(ux.height, ux.height);
+            diagnostic.incrementRelabels(oldHeight, height[u]);
         }
     }
 
-    private void bfs(Queue<Integer> queue, boolean[] visited)
+    private void bfs(int[] queue, int head, int tail, boolean[] visited)
     {
-        while (!queue.isEmpty()) {
-            int vertexID = queue.poll();
+        int[] offsets = residualNetwork.offsets;
+        int[] heads = residualNetwork.heads;
+        int[] reverse = residualNetwork.reverse;
 
-            for (AnnotatedFlowEdge flowEdge : vertexExtension[vertexID].getOutgoing()) {
-                VertexExtension vx = flowEdge.getTarget();
+        while (head < tail) {
+            int u = queue[head++];
 
-                if (!visited[vx.id] && flowEdge.getInverse().hasCapacity()) {
-                    vx.height = vertexExtension[vertexID].height + 1;
-                    visited[vx.id] = true;
-                    queue.add(vx.id);
+            for (int a = offsets[u], end = offsets[u + 1]; a < end; a++) {
+                int v = heads[a];
+
+                if (!visited[v] && residualNetwork.hasCapacity(reverse[a])) {
+                    height[v] = height[u] + 1;
+                    visited[v] = true;
+                    queue[tail++] = v;
                 }
             }
         }
@@ -381,30 +548,25 @@ public class PushRelabelMFImpl<V, E>
     {
         Arrays.fill(countHeight, 0);
 
-        Queue<Integer> queue = new ArrayDeque<>(n);
+        int[] queue = new int[n];
         boolean[] visited = new boolean[n];
 
-        for (int i = 0; i < n; i++) {
-            vertexExtension[i].height = 2 * n;
-        }
-
-        final int sinkID = getVertexExtension(getCurrentSink()).id;
-        final int sourceID = getVertexExtension(getCurrentSource()).id;
+        Arrays.fill(height, 2 * n);
 
-        vertexExtension[sourceID].height = n;
-        visited[sourceID] = true;
+        height[sourceIndex] = n;
+        visited[sourceIndex] = true;
 
-        vertexExtension[sinkID].height = 0;
-        visited[sinkID] = true;
+        height[sinkIndex] = 0;
+        visited[sinkIndex] = true;
 
-        queue.add(sinkID);
-        bfs(queue, visited);
+        queue[0] = sinkIndex;
+        bfs(queue, 0, 1, visited);
 
-        queue.add(sourceID);
-        bfs(queue, visited);
+        queue[0] = sourceIndex;
+        bfs(queue, 0, 1, visited);
 
         for (int i = 0; i < n; i++) {
-            ++countHeight[vertexExtension[i].height];
+            ++countHeight[height[i]];
         }
     }
 
@@ -413,55 +575,464 @@ public class PushRelabelMFImpl<V, E>
      * edges to neighboring vertices, relabeling u as necessary to cause edges leaving u to become
      * admissible,
      */
-    private void discharge(VertexExtension ux)
+    private void discharge(int u)
     {
-        while (ux.hasExcess()) {
+        int[] offsets = residualNetwork.offsets;
+
+        while (hasExcess(u)) {
             // If there are no more edges
-            if (ux.currentArc >= ux.getOutgoing().size()) {
+            if (currentArc[u] >= offsets[u + 1]) {
                 // then we relabel u
-                relabel(ux);
+                relabel(u);
 
-                if (USE_GLOBAL_RELABELING_HEURISTIC) {
+                if (USE_GLOBAL_RELABELING_HEURISTIC && bucketFirst == null) {
                     // If we already relabeled |V| vertices, then we do a global relabeling
                     // Note: Global relabelings are performed periodically
                     if ((++relabelCounter) == n) {
                         recomputeHeightsHeuristic();
 
-                        for (int i = 0; i < n; i++)
-                            vertexExtension[i].currentArc = 0;
+                        System.arraycopy(offsets, 0, currentArc, 0, n);
 
                         relabelCounter = 0;
                     }
                 }
 
                 // rewind the pointer to the next edge
-                ux.currentArc = 0;
+                currentArc[u] = offsets[u];
             } else {
-                AnnotatedFlowEdge flowEdge = ux.getOutgoing().get(ux.currentArc);
+                int a = currentArc[u];
 
                 /*
                  * Check if the edge is admissible. If it is then do a PUSH operation. Otherwise,
                  * make currentArc point to the next edge.
                  */
-                if (isAdmissible(flowEdge))
-                    push(flowEdge);
+                if (isAdmissible(a))
+                    push(a);
                 else
-                    ux.currentArc++;
+                    currentArc[u]++;
+            }
+
+        }
+    }
+
+    /*
+     * The highest-label rule always discharges an active vertex with the largest height. Global
+     * relabelings are performed based on the work of the relabel operations, after which the
+     * buckets and layers are rebuilt.
+     */
+    private void highestLabel()
+    {
+        bucketFirst = new int[2 * n + 1];
+        bucketNext = new int[n];
+        layerFirst = new int[n];
+        layerNext = new int[n];
+        layerPrev = new int[n];
+        rebuildBuckets();
+
+        long globalRelabelThreshold =
+            (long) GLOBAL_RELABEL_ALPHA * n + residualNetwork.heads.length / 2;
+        relabelWork = 0;
+
+        while (maxActiveHeight >= 0) {
+            int v = bucketFirst[maxActiveHeight];
+            if (v == -1) {
+                maxActiveHeight--;
+                continue;
+            }
+            bucketFirst[maxActiveHeight] = bucketNext[v];
+            active[v] = false;
+
+            discharge(v);
+
+            if (USE_GLOBAL_RELABELING_HEURISTIC && relabelWork > globalRelabelThreshold) {
+                recomputeHeightsHeuristic();
+                System.arraycopy(residualNetwork.offsets, 0, currentArc, 0, n);
+                rebuildBuckets();
+                relabelWork = 0;
+            }
+        }
+
+        bucketFirst = null;
+        bucketNext = null;
+        layerFirst = null;
+        layerNext = null;
+        layerPrev = null;
+    }
+
+    /*
+     * Recompute the buckets of the active vertices and the layers from the current heights.
+     */
+    private void rebuildBuckets()
+    {
+        Arrays.fill(bucketFirst, -1);
+        Arrays.fill(layerFirst, -1);
+        maxActiveHeight = -1;
+        maxLayerHeight = -1;
+
+        for (int v = 0; v < n; v++) {
+            if (height[v] < n) {
+                addToLayer(v);
+            }
+            active[v] = v == sourceIndex || v == sinkIndex;
+            enqueue(v);
+        }
+    }
+
+    private void addToLayer(int v)
+    {
+        int h = height[v];
+        int first = layerFirst[h];
+        layerNext[v] = first;
+        layerPrev[v] = -1;
+        if (first != -1) {
+            layerPrev[first] = v;
+        }
+        layerFirst[h] = v;
+        maxLayerHeight = Math.max(maxLayerHeight, h);
+    }
+
+    private void removeFromLayer(int v)
+    {
+        int next = layerNext[v];
+        int prev = layerPrev[v];
+        if (prev == -1) {
+            layerFirst[height[v]] = next;
+        } else {
+            layerNext[prev] = next;
+        }
+        if (next != -1) {
+            layerPrev[next] = prev;
+        }
+    }
+
+    /*
+     * Gap heuristic using the layers. All vertices with height between l and n are lifted to
+     * height n + 1, visiting only these vertices. Their active buckets are moved as a whole.
+     */
+    private void gapHeuristicLayers(int l)
+    {
+        int[] offsets = residualNetwork.offsets;
+        for (int h = l + 1; h <= maxLayerHeight; h++) {
+            for (int v = layerFirst[h]; v != -1; v = layerNext[v]) {
+                countHeight[h]--;
+                height[v] = n + 1;
+                countHeight[n + 1]++;
+                currentArc[v] = offsets[v];
             }
+            layerFirst[h] = -1;
+
+            for (int v = bucketFirst[h]; v != -1;) {
+                int next = bucketNext[v];
+                bucketNext[v] = bucketFirst[n + 1];
+                bucketFirst[n + 1] = v;
+                maxActiveHeight = Math.max(maxActiveHeight, n + 1);
+                v = next;
+            }
+            bucketFirst[h] = -1;
+        }
+        maxLayerHeight = l - 1;
+    }
 
+    private boolean hasExcess(int v)
+    {
+        return comparator.compare(excess[v], 0.0) > 0;
+    }
+
+    private boolean isAdmissible(int a)
+    {
+        return residualNetwork.hasCapacity(a)
+            && (height[residualNetwork.tail(a)] == (height[residualNetwork.heads[a]] + 1));
+    }
+
+    private <W> List<W> forEach(int count, Supplier<W> workspaceSupplier, ObjIntConsumer<W> task)
+    {
+        if (executor == null || count <= VERTICES_CHUNK_SIZE) {
+            W ws = workspaceSupplier.get();
+            for (int i = 0; i < count; i++) {
+                task.accept(ws, i);
+            }
+            return Collections.singletonList(ws);
+        }
+
+        AtomicInteger next = new AtomicInteger();
+        int workers = Math.min(
+            executor.getMaximumPoolSize(), (count + VERTICES_CHUNK_SIZE - 1) / VERTICES_CHUNK_SIZE);
+        List<Callable<W>> tasks = new ArrayList<>(workers);
+        for (int w = 0; w < workers; w++) {
+            tasks.add(() -> {
+                W ws = workspaceSupplier.get();
+                int from;
+                while ((from = next.getAndAdd(VERTICES_CHUNK_SIZE)) < count) {
+                    int to = Math.min(from + VERTICES_CHUNK_SIZE, count);
+                    for (int i = from; i < to; i++) {
+                        task.accept(ws, i);
+                    }
+                }
+                return ws;
+            });
         }
+        return ConcurrencyUtil.invokeAll(executor, tasks);
     }
 
-    private boolean isAdmissible(AnnotatedFlowEdge e)
+    /*
+     * First phase of the parallel strategy which computes a maximum preflow, that is, it discharges
+     * active vertices until none of them can reach the sink. The active vertices are processed in
+     * synchronous rounds. During a round each active vertex is discharged independently using the
+     * heights of the previous round, and the new heights and the flow received by each vertex are
+     * applied at the end of the round. Two adjacent active vertices never use the arcs between them
+     * in the same round, since only the winner of the two, as decided by the heights and indices,
+     * pushes flow. Therefore the flow of an arc is always updated by a single thread and the only
+     * shared state are the received excesses, which are accumulated using compare-and-set.
+     */
+    private class ParallelPreflow
     {
-        return e.hasCapacity() && (e
-            .<VertexExtension> getSource().height == (e.<VertexExtension> getTarget().height + 1));
+        // received excess of each vertex in the current round, as double bits
+        private final AtomicLongArray received = new AtomicLongArray(n);
+        // round in which each vertex was collected as a candidate for the next round
+        private final AtomicIntegerArray collected = new AtomicIntegerArray(n);
+        // round in which each vertex is active
+        private final int[] activeRound = new int[n];
+        // height and excess of each active vertex at the end of the round
+        private final int[] newHeight = new int[n];
+        private final double[] newExcess = new double[n];
+        // epoch of the last global relabeling which labeled each vertex
+        private final AtomicIntegerArray labeled = new AtomicIntegerArray(n);
+        private int epoch;
+        private int round;
+
+        void run()
+        {
+            long globalRelabelThreshold =
+                (long) GLOBAL_RELABEL_ALPHA * n + residualNetwork.heads.length / 2;
+
+            int[] activeSet = globalRelabel();
+            long work = 0;
+            while (activeSet.length > 0) {
+                int[] current = activeSet;
+                round++;
+                for (int v : current) {
+                    activeRound[v] = round;
+                }
+
+                List<Workspace> workspaces = forEach(
+                    current.length, Workspace::new,
+                    (ws, i) -> discharge(current[i], ws, true));
+                long operations = 0;
+                for (Workspace ws : workspaces) {
+                    operations += ws.operations;
+                    work += ws.work;
+                }
+                if (operations == 0) {
+                    // no vertex was able to make progress, perform a sequential round instead
+                    round++;
+                    Workspace ws = new Workspace();
+                    for (int v : current) {
+                        discharge(v, ws, false);
+                    }
+                    workspaces = Collections.singletonList(ws);
+                    work += ws.work;
+                }
+
+                forEach(current.length, () -> null, (ws, i) -> {
+                    int v = current[i];
+                    height[v] = newHeight[v];
+                    excess[v] = newExcess[v];
+                });
+                List<IntBuffer> candidateBuffers = new ArrayList<>(workspaces.size());
+                for (Workspace ws : workspaces) {
+                    candidateBuffers.add(ws.candidates);
+                }
+                int[] candidates = IntBuffer.concat(candidateBuffers);
+
+                List<IntBuffer> activeBuffers =
+                    forEach(candidates.length, IntBuffer::new, (next, i) -> {
+                        int v = candidates[i];
+                        excess[v] += Double.longBitsToDouble(received.getAndSet(v, 0L));
+                        if (isActive(v)) {
+                            next.add(v);
+                        }
+                    });
+                activeSet = IntBuffer.concat(activeBuffers);
+
+                if (USE_GLOBAL_RELABELING_HEURISTIC && work > globalRelabelThreshold) {
+                    activeSet = globalRelabel();
+                    work = 0;
+                }
+            }
+        }
+
+        private boolean isActive(int v)
+        {
+            return v != sourceIndex && v != sinkIndex && height[v] < n && hasExcess(v);
+        }
+
+        /*
+         * Discharge a vertex using the heights of the previous round. When conflicts are resolved,
+         * arcs towards active vertices which win over v are skipped and v is not relabeled if any
+         * arc was skipped.
+         */
+        private void discharge(int v, Workspace ws, boolean resolveConflicts)
+        {
+            int[] offsets = residualNetwork.offsets;
+            int[] heads = residualNetwork.heads;
+            double epsilon = residualNetwork.epsilon;
+            double e = excess[v];
+            int h = height[v];
+
+            while (true) {
+                int minHeight = Integer.MAX_VALUE;
+                boolean skipped = false;
+                for (int a = offsets[v], end = offsets[v + 1]; a < end; a++) {
+                    int w = heads[a];
+                    if (resolveConflicts && activeRound[w] == round && !wins(v, w)) {
+                        skipped = true;
+                        continue;
+                    }
+                    double r = residualNetwork.getResidualCapacity(a);
+                    if (r < epsilon) {
+                        continue;
+                    }
+                    int hw = height[w];
+                    if (h == hw + 1) {
+                        double delta = Math.min(e, r);
+                        residualNetwork.push(a, delta);
+                        receive(w, delta);
+                        if (collected.getAndSet(w, round) != round) {
+                            ws.candidates.add(w);
+                        }
+                        ws.operations++;
+                        e -= delta;
+                        if (e < epsilon) {
+                            break;
+                        }
+                        if (delta == r) {
+                            continue;
+                        }
+                    }
+                    minHeight = Math.min(minHeight, hw + 1);
+                }
+                if (e < epsilon || skipped || minHeight == Integer.MAX_VALUE) {
+                    break;
+                }
+                h = minHeight;
+                ws.operations++;
+                ws.work += GLOBAL_RELABEL_BETA + offsets[v + 1] - offsets[v];
+                if (h >= n) {
+                    h = n;
+                    break;
+                }
+            }
+
+            newHeight[v] = h;
+            newExcess[v] = e;
+            if (e >= epsilon && h < n && collected.getAndSet(v, round) != round) {
+                ws.candidates.add(v);
+            }
+        }
+
+        private boolean wins(int v, int w)
+        {
+            int hv = height[v];
+            int hw = height[w];
+            return hv == hw + 1 || hv < hw - 1 || (hv == hw && v < w);
+        }
+
+        private void receive(int v, double delta)
+        {
+            while (true) {
+                long bits = received.get(v);
+                long updated = Double.doubleToRawLongBits(Double.longBitsToDouble(bits) + delta);
+                if (received.compareAndSet(v, bits, updated)) {
+                    return;
+                }
+            }
+        }
+
+        /*
+         * Parallel global relabeling which computes the distances to the sink in the residual
+         * network using a level-synchronous backwards breadth-first search. Vertices which cannot
+         * reach the sink receive height n. Returns the active vertices.
+         */
+        private int[] globalRelabel()
+        {
+            int[] offsets = residualNetwork.offsets;
+            int[] heads = residualNetwork.heads;
+            int[] reverse = residualNetwork.reverse;
+
+            epoch++;
+            int currentEpoch = epoch;
+            forEach(n, () -> null, (ws, v) -> height[v] = n);
+            labeled.set(sourceIndex, currentEpoch);
+            labeled.set(sinkIndex, currentEpoch);
+            height[sinkIndex] = 0;
+
+            int[] frontier = new int[] { sinkIndex };
+            for (int level = 1; frontier.length > 0; level++) {
+                int[] current = frontier;
+                int currentLevel = level;
+                List<IntBuffer> nextBuffers = forEach(current.length, IntBuffer::new, (next, i) -> {
+                    int u = current[i];
+                    for (int a = offsets[u], end = offsets[u + 1]; a < end; a++) {
+                        int v = heads[a];
+                        if (labeled.get(v) != currentEpoch
+                            && residualNetwork.hasCapacity(reverse[a])
+                            && labeled.getAndSet(v, currentEpoch) != currentEpoch)
+                        {
+                            height[v] = currentLevel;
+                            next.add(v);
+                        }
+                    }
+                });
+                frontier = IntBuffer.concat(nextBuffers);
+            }
+
+            List<IntBuffer> activeBuffers = forEach(n, IntBuffer::new, (active, v) -> {
+                if (isActive(v)) {
+                    active.add(v);
+                }
+            });
+            return IntBuffer.concat(activeBuffers);
+        }
+    }
+
+    private static class Workspace
+    {
+        private final IntBuffer candidates = new IntBuffer();
+        private long operations;
+        private long work;
     }
 
-    private VertexExtension getVertexExtension(V v)
+    private static class IntBuffer
     {
-        assert vertexExtensionManager != null;
-        return (VertexExtension) vertexExtensionManager.getExtension(v);
+        private int[] values = new int[16];
+        private int size;
+
+        void add(int value)
+        {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, 2 * size);
+            }
+            values[size++] = value;
+        }
+
+        static int[] concat(List<IntBuffer> buffers)
+        {
+            if (buffers.size() == 1) {
+                IntBuffer buffer = buffers.get(0);
+                return Arrays.copyOf(buffer.values, buffer.size);
+            }
+            int total = 0;
+            for (IntBuffer buffer : buffers) {
+                total += buffer.size;
+            }
+            int[] result = new int[total];
+            int pos = 0;
+            for (IntBuffer buffer : buffers) {
+                System.arraycopy(buffer.values, 0, result, pos, buffer.size);
+                pos += buffer.size;
+            }
+            return result;
+        }
     }
 
     private class PushRelabelDiagnostic
@@ -474,9 +1045,10 @@ public class PushRelabelMFImpl<V, E>
         Map<Pair<Integer, Integer>, Integer> relabels = new HashMap<>();
         long relabelsCounter = 0;
 
-        private void incrementDischarges(AnnotatedFlowEdge ex)
+        private void incrementDischarges(int u, int v)
         {
-            Pair<V, V> p = Pair.of(ex.getSource().prototype, ex.getTarget().prototype);
+            Pair<V, V> p =
+                Pair.of(residualNetwork.vertices.get(u), residualNetwork.vertices.get(v));
             if (!discharges.containsKey(p)) {
                 discharges.put(p, 0);
             }
@@ -500,14 +1072,12 @@ public class PushRelabelMFImpl<V, E>
         {
             Map<Integer, Integer> labels = new HashMap<>();
 
-            for (V v : network.vertexSet()) {
-                VertexExtension vx = getVertexExtension(v);
-
-                if (!labels.containsKey(vx.height)) {
-                    labels.put(vx.height, 0);
+            for (int v = 0; v < n; v++) {
+                if (!labels.containsKey(height[v])) {
+                    labels.put(height[v], 0);
                 }
 
-                labels.put(vx.height, labels.get(vx.height) + 1);
+                labels.put(height[v], labels.get(height[v]) + 1);
             }
 
             System.out.println("LABELS  ");
@@ -535,27 +1105,4 @@ public class PushRelabelMFImpl<V, E>
             System.out.println("            " + dischargesSorted);
         }
     }
-
-    /**
-     * Vertex extension for the push-relabel algorithm, which contains an additional height.
-     */
-    public class VertexExtension
-        extends VertexExtensionBase
-    {
-        private int id;
-        private int height; // also called label (or distance label) in some papers
-        private boolean active;
-        private int currentArc;
-
-        private boolean hasExcess()
-        {
-            return comparator.compare(excess, 0.0) > 0;
-        }
-
-        @Override
-        public String toString()
-        {
-            return prototype.toString() + String.format(" { HGT: %d } ", height);
-        }
-    }
 }
@@ -0,0 +1,55 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.flow;
+
+/**
+ * The rule used by the {@link PushRelabelMFImpl} algorithm to select the next active vertex.
+ *
+ * @author agent
+ * @see PushRelabelMFImpl
+ */
+public enum PushRelabelStrategy
+{
+    /**
+     * Active vertices are discharged in first-in first-out order. This is the default strategy.
+     * Global relabeling is performed after every $n$ relabel operations.
+     */
+    FIFO,
+
+    /**
+     * An active vertex with the highest label is discharged first. Active vertices are kept in
+     * buckets indexed by their label. All vertices with a label below $n$ are also kept in
+     * doubly-linked layers, so that a gap in the labels is detected and the vertices above it are
+     * lifted in time proportional to their number. Global relabeling is performed once the work
+     * spent in relabel operations exceeds a threshold which is linear in the size of the network.
+     * The running time is $O(n^2 \sqrt{m})$.
+     */
+    HIGHEST_LABEL,
+
+    /**
+     * Synchronous parallel push-relabel. In each round all active vertices are discharged
+     * concurrently using the labels of the previous round. Conflicts between adjacent active
+     * vertices are resolved by a deterministic rule, so that exactly one of them may push or
+     * relabel using the arcs between them. Excess received during a round is accumulated using
+     * atomic compare-and-set operations and the global relabeling is a parallel breadth-first
+     * search. This computes a maximum preflow, which is converted to a maximum flow using the
+     * {@link #HIGHEST_LABEL} strategy. Without an executor the rounds are executed by the calling
+     * thread.
+     */
+    PARALLEL
+}
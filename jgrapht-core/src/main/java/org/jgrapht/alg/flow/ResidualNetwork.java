@@ -0,0 +1,554 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.flow;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+
+/**
+ * Array-based residual network of a flow network.
+ *
+ * <p>
+ * The vertices of the network are mapped to the integer range $[0, n)$ and each edge is stored as
+ * a pair of mutually reverse arcs. The arcs leaving vertex $v$ occupy positions
+ * $[\text{offsets}[v], \text{offsets}[v+1])$ of the arc arrays, which store the head, the reverse
+ * arc, the capacity and the flow of each arc. The arcs of a directed edge $(u,v)$ with capacity $c$
+ * are $(u,v)$ with capacity $c$ and $(v,u)$ with capacity zero, while both arcs of an undirected
+ * edge have capacity $c$. The flow is kept antisymmetric, i.e. the flow of an arc is the negation
+ * of the flow of its reverse arc, and thus the residual capacity of an arc is its capacity minus
+ * its flow.
+ *
+ * <p>
+ * The structure of the network is captured on construction. The capacities are re-read from the
+ * edge weights of the network by {@link #reset()}, which also starts a new flow. Flows of previous
+ * invocations remain valid, as each invocation uses a separate flow array.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+final class ResidualNetwork<V, E>
+{
+    /* the network */
+    final Graph<V, E> network;
+    /* whether the network is directed */
+    final boolean directed;
+    /* tolerance used when comparing residual capacities */
+    final double epsilon;
+
+    /* number of vertices */
+    final int n;
+    /* number of edges */
+    final int m;
+    /* vertices in index order */
+    final List<V> vertices;
+    /* index of each vertex */
+    final Map<V, Integer> vertexIndex;
+    /* edges in index order */
+    final List<E> edges;
+
+    /* arcs of vertex v are in [offsets[v], offsets[v+1]) */
+    final int[] offsets;
+    /* head of each arc */
+    final int[] heads;
+    /* reverse of each arc */
+    final int[] reverse;
+    /* forward arc of each edge, leaving the edge source */
+    final int[] edgeArcs;
+    /* capacity of each arc */
+    final double[] capacity;
+    /* flow of each arc, antisymmetric */
+    double[] flow;
+
+    /* edge to index, created on first use */
+    private Map<E, Integer> edgeIndex;
+
+    /**
+     * Create the residual network of a flow network.
+     *
+     * @param network the flow network
+     * @param epsilon tolerance used when comparing residual capacities
+     */
+    ResidualNetwork(Graph<V, E> network, double epsilon)
+    {
+        this.network = network;
+        this.directed = network.getType().isDirected();
+        this.epsilon = epsilon;
+
+        VertexToIntegerMapping<V> mapping = new VertexToIntegerMapping<>(network.vertexSet());
+        this.vertices = mapping.getIndexList();
+        this.vertexIndex = mapping.getVertexMap();
+        this.edges = new ArrayList<>(network.edgeSet());
+        this.n = vertices.size();
+        this.m = edges.size();
+        if (m > (Integer.MAX_VALUE - 8) / 2) {
+            throw new ArithmeticException("integer overflow");
+        }
+
+        int[] tails = new int[m];
+        int[] targets = new int[m];
+        this.offsets = new int[n + 1];
+        for (int i = 0; i < m; i++) {
+            E e = edges.get(i);
+            tails[i] = vertexIndex.get(network.getEdgeSource(e));
+            targets[i] = vertexIndex.get(network.getEdgeTarget(e));
+            offsets[tails[i] + 1]++;
+            offsets[targets[i] + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+
+        int[] next = Arrays.copyOf(offsets, n);
+        this.heads = new int[2 * m];
+        this.reverse = new int[2 * m];
+        this.edgeArcs = new int[m];
+        for (int i = 0; i < m; i++) {
+            int a = next[tails[i]]++;
+            int b = next[targets[i]]++;
+            heads[a] = targets[i];
+            heads[b] = tails[i];
+            reverse[a] = b;
+            reverse[b] = a;
+            edgeArcs[i] = a;
+        }
+        this.capacity = new double[2 * m];
+    }
+
+    /**
+     * Whether this residual network still has the structure of the network, i.e. no vertices or
+     * edges have been added or removed since its creation. Besides the number of vertices and
+     * edges, every vertex and edge of this residual network must still be part of the network and
+     * every edge must still have the same endpoints. This takes time linear in the size of the
+     * network.
+     *
+     * @return true if the structure of the network is unchanged, false otherwise
+     */
+    boolean isUpToDate()
+    {
+        if (network.vertexSet().size() != n || network.edgeSet().size() != m) {
+            return false;
+        }
+        for (V v : vertices) {
+            if (!network.containsVertex(v)) {
+                return false;
+            }
+        }
+        for (int i = 0; i < m; i++) {
+            E e = edges.get(i);
+            int a = edgeArcs[i];
+            if (!network.containsEdge(e)
+                || !vertices.get(tail(a)).equals(network.getEdgeSource(e))
+                || !vertices.get(heads[a]).equals(network.getEdgeTarget(e)))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Re-read the capacities from the edge weights of the network and start a new zero flow.
+     */
+    void reset()
+    {
+        for (int i = 0; i < m; i++) {
+            double c = network.getEdgeWeight(edges.get(i));
+            int a = edgeArcs[i];
+            capacity[a] = c;
+            capacity[reverse[a]] = directed ? 0d : c;
+        }
+        flow = new double[2 * m];
+    }
+
+    /**
+     * Re-read the capacities of some edges from the edge weights of the network and repair the
+     * current flow. The flow of each arc which exceeds its new capacity is reduced, which leaves an
+     * excess at its tail and a deficit at its head. Every excess is then routed along residual
+     * paths to a vertex with a deficit, to the source or to the sink, and every remaining deficit
+     * is covered by cancelling flow along a path of arcs carrying flow away from it, which ends at
+     * a vertex with an excess, at the source or at the sink. Since only flow is cancelled, the sink
+     * never receives a net outflow. The result is a feasible flow, whose value may be smaller than
+     * before. A new flow array is used, thus flow maps returned earlier
+     * are not affected.
+     *
+     * @param changedEdges the edges whose weight changed
+     * @param source the index of the source
+     * @param sink the index of the sink
+     */
+    void updateCapacities(Collection<? extends E> changedEdges, int source, int sink)
+    {
+        flow = flow.clone();
+
+        double[] imbalance = new double[n];
+        List<Integer> imbalanced = new ArrayList<>();
+        for (E e : changedEdges) {
+            int i = getEdgeIndex(e);
+            if (i < 0) {
+                throw new IllegalArgumentException("Edge is not part of the network");
+            }
+            double c = network.getEdgeWeight(e);
+            int a = edgeArcs[i];
+            int b = reverse[a];
+            capacity[a] = c;
+            capacity[b] = directed ? 0d : c;
+
+            // reduce the flow of the arc which exceeds its capacity
+            int overflowArc = flow[a] > capacity[a] ? a : flow[b] > capacity[b] ? b : -1;
+            if (overflowArc != -1) {
+                double d = flow[overflowArc] - capacity[overflowArc];
+                push(reverse[overflowArc], d);
+                int u = tail(overflowArc);
+                int v = heads[overflowArc];
+                imbalance[u] += d;
+                imbalance[v] -= d;
+                imbalanced.add(u);
+                imbalanced.add(v);
+            }
+        }
+        if (imbalanced.isEmpty()) {
+            return;
+        }
+
+        int[] predArc = new int[n];
+        int[] visited = new int[n];
+        int[] queue = new int[n];
+        int round = 0;
+
+        // route each excess forward to a deficit or a terminal
+        for (int u : imbalanced) {
+            while (u != source && u != sink && imbalance[u] >= epsilon) {
+                round++;
+                int w = -1;
+                int head = 0, tail = 0;
+                visited[u] = round;
+                queue[tail++] = u;
+                while (w == -1 && head < tail) {
+                    int x = queue[head++];
+                    for (int a = offsets[x], end = offsets[x + 1]; a < end; a++) {
+                        int y = heads[a];
+                        if (visited[y] != round && hasCapacity(a)) {
+                            visited[y] = round;
+                            predArc[y] = a;
+                            if (y == source || y == sink || imbalance[y] <= -epsilon) {
+                                w = y;
+                                break;
+                            }
+                            queue[tail++] = y;
+                        }
+                    }
+                }
+                if (w == -1) {
+                    break;
+                }
+
+                double delta = imbalance[u];
+                if (w != source && w != sink) {
+                    delta = Math.min(delta, -imbalance[w]);
+                }
+                for (int x = w; x != u; x = tail(predArc[x])) {
+                    delta = Math.min(delta, getResidualCapacity(predArc[x]));
+                }
+                for (int x = w; x != u; x = tail(predArc[x])) {
+                    push(predArc[x], delta);
+                }
+                imbalance[u] -= delta;
+                imbalance[w] += delta;
+            }
+        }
+
+        // cover each remaining deficit by cancelling flow leaving it
+        for (int v : imbalanced) {
+            while (v != source && v != sink && imbalance[v] <= -epsilon) {
+                round++;
+                int w = -1;
+                int head = 0, tail = 0;
+                visited[v] = round;
+                queue[tail++] = v;
+                while (w == -1 && head < tail) {
+                    int x = queue[head++];
+                    for (int a = offsets[x], end = offsets[x + 1]; a < end; a++) {
+                        int y = heads[a];
+                        if (visited[y] != round && flow[a] >= epsilon) {
+                            visited[y] = round;
+                            predArc[y] = reverse[a];
+                            if (y == source || y == sink || imbalance[y] >= epsilon) {
+                                w = y;
+                                break;
+                            }
+                            queue[tail++] = y;
+                        }
+                    }
+                }
+                if (w == -1) {
+                    break;
+                }
+
+                double delta = -imbalance[v];
+                if (w != source && w != sink) {
+                    delta = Math.min(delta, imbalance[w]);
+                }
+                for (int x = w; x != v; x = heads[predArc[x]]) {
+                    delta = Math.min(delta, flow[reverse[predArc[x]]]);
+                }
+                for (int x = w; x != v; x = heads[predArc[x]]) {
+                    push(predArc[x], delta);
+                }
+                imbalance[v] += delta;
+                imbalance[w] -= delta;
+            }
+        }
+    }
+
+    /**
+     * Compute the net flow entering a vertex.
+     *
+     * @param v the index of the vertex
+     * @return the net flow entering the vertex
+     */
+    double getNetInflow(int v)
+    {
+        double inflow = 0d;
+        for (int a = offsets[v], end = offsets[v + 1]; a < end; a++) {
+            inflow -= flow[a];
+        }
+        return inflow;
+    }
+
+    /**
+     * Get the index of a vertex.
+     *
+     * @param v the vertex
+     * @return the index of the vertex
+     * @throws IllegalArgumentException if the vertex is not part of the network
+     */
+    int getVertexIndex(V v)
+    {
+        Integer index = vertexIndex.get(v);
+        if (index == null) {
+            throw new IllegalArgumentException("Vertex is not part of the network");
+        }
+        return index;
+    }
+
+    /**
+     * Get the tail of an arc.
+     *
+     * @param arc the arc
+     * @return the tail of the arc
+     */
+    int tail(int arc)
+    {
+        return heads[reverse[arc]];
+    }
+
+    /**
+     * Whether an arc has a residual capacity of at least epsilon.
+     *
+     * @param arc the arc
+     * @return true if the arc has residual capacity, false otherwise
+     */
+    boolean hasCapacity(int arc)
+    {
+        return capacity[arc] - flow[arc] >= epsilon;
+    }
+
+    /**
+     * Get the residual capacity of an arc.
+     *
+     * @param arc the arc
+     * @return the residual capacity of the arc
+     */
+    double getResidualCapacity(int arc)
+    {
+        return capacity[arc] - flow[arc];
+    }
+
+    /**
+     * Push flow through an arc, decreasing the flow of its reverse arc by the same amount.
+     *
+     * @param arc the arc
+     * @param delta the amount of flow
+     */
+    void push(int arc, double delta)
+    {
+        flow[arc] += delta;
+        flow[reverse[arc]] -= delta;
+    }
+
+    /**
+     * Get the flow of an edge. For undirected edges this is the absolute flow, whichever the
+     * direction.
+     *
+     * @param flow the flow array
+     * @param edge the index of the edge
+     * @return the flow of the edge
+     */
+    private double getEdgeFlow(double[] flow, int edge)
+    {
+        double f = flow[edgeArcs[edge]];
+        return directed ? f : Math.abs(f);
+    }
+
+    /**
+     * Get the index of an edge.
+     *
+     * @param e the edge
+     * @return the index of the edge or -1 if the edge is not part of the network
+     */
+    synchronized int getEdgeIndex(Object e)
+    {
+        if (edgeIndex == null) {
+            edgeIndex = CollectionUtil.newHashMapWithExpectedSize(m);
+            for (int i = 0; i < m; i++) {
+                edgeIndex.put(edges.get(i), i);
+            }
+        }
+        Integer i = edgeIndex.get(e);
+        return i == null ? -1 : i;
+    }
+
+    /**
+     * Get the vertex where the flow leaves an edge. For directed edges this is always the target.
+     *
+     * @param edge the index of the edge
+     * @return the vertex where the flow leaves the edge
+     */
+    V getFlowDirection(int edge)
+    {
+        int a = edgeArcs[edge];
+        if (directed || flow[a] > 0) {
+            return vertices.get(heads[a]);
+        }
+        return vertices.get(heads[reverse[a]]);
+    }
+
+    /**
+     * Get a read-only view of the current flow as a map from edges to flow values. The view is not
+     * affected by subsequent invocations of {@link #reset()}. Values are computed on access.
+     *
+     * @return the flow map
+     */
+    Map<E, Double> getFlowMap()
+    {
+        return new FlowMap(flow);
+    }
+
+    /**
+     * Compute the vertices reachable from a vertex using arcs with residual capacity.
+     *
+     * @param source the index of the vertex
+     * @return the reachable vertices
+     */
+    Set<V> getReachableVertices(int source)
+    {
+        boolean[] visited = new boolean[n];
+        int[] queue = new int[n];
+        int head = 0, tail = 0;
+        visited[source] = true;
+        queue[tail++] = source;
+
+        Set<V> result = new LinkedHashSet<>();
+        while (head < tail) {
+            int u = queue[head++];
+            result.add(vertices.get(u));
+            for (int a = offsets[u], end = offsets[u + 1]; a < end; a++) {
+                int v = heads[a];
+                if (!visited[v] && hasCapacity(a)) {
+                    visited[v] = true;
+                    queue[tail++] = v;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * A read-only map view of a flow, which computes the flow values on access.
+     */
+    private class FlowMap
+        extends AbstractMap<E, Double>
+    {
+        private final double[] flow;
+
+        FlowMap(double[] flow)
+        {
+            this.flow = flow;
+        }
+
+        @Override
+        public Double get(Object e)
+        {
+            int i = getEdgeIndex(e);
+            return i < 0 ? null : getEdgeFlow(flow, i);
+        }
+
+        @Override
+        public boolean containsKey(Object e)
+        {
+            return getEdgeIndex(e) >= 0;
+        }
+
+        @Override
+        public int size()
+        {
+            return m;
+        }
+
+        @Override
+        public Set<Entry<E, Double>> entrySet()
+        {
+            return new AbstractSet<>()
+            {
+                @Override
+                public Iterator<Entry<E, Double>> iterator()
+                {
+                    return new Iterator<>()
+                    {
+                        private int next = 0;
+
+                        @Override
+                        public boolean hasNext()
+                        {
+                            return next < m;
+                        }
+
+                        @Override
+                        public Entry<E, Double> next()
+                        {
+                            if (next >= m) {
+                                throw new NoSuchElementException();
+                            }
+                            int i = next++;
+                            return new SimpleImmutableEntry<>(edges.get(i), getEdgeFlow(flow, i));
+                        }
+                    };
+                }
+
+                @Override
+                public int size()
+                {
+                    return m;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.flow;
+
+import org.jgrapht.alg.interfaces.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+/**
+ * Computes the sequence of minimum $s-t$ cuts of Gusfield's algorithms, possibly in parallel.
+ *
+ * <p>
+ * Iteration $s = 1, \dots, n-1$ of Gusfield's algorithms computes a minimum cut between $s$ and
+ * its current tree neighbor $p[s]$ and then updates the tree neighbors of the following vertices
+ * based on the cut. With an executor, the cuts of the following iterations are computed
+ * speculatively using the current tree neighbors. Iterations are committed in order and, whenever
+ * a commit changes the tree neighbor of a speculated iteration, its cut is recomputed. Thus each
+ * committed cut is exactly the cut the sequential algorithm would compute, and the result does not
+ * depend on the number of threads. The cuts are computed by solvers obtained from a supplier, each
+ * used by a single thread at a time, and solvers are reused by subsequent tasks.
+ *
+ * <p>
+ * See also: J. Cohen, L. A. Rodrigues, F. Silva, R. Carmo, A. L. P. Guedes and E. P. Duarte.
+ * Parallel Implementations of Gusfield's Cut Tree Algorithm. Algorithms and Architectures for
+ * Parallel Processing (ICA3PP), 2011.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+final class SpeculativeGusfield<V, E>
+{
+    /**
+     * Receives the committed cuts.
+     */
+    interface CutConsumer
+    {
+        /**
+         * Commit the cut of an iteration. The consumer updates the tree neighbors.
+         *
+         * @param s the vertex of the iteration
+         * @param t the tree neighbor of $s$
+         * @param value the value of the minimum cut
+         * @param sourcePartition the vertices on the side of $s$
+         */
+        void accept(int s, int t, double value, BitSet sourcePartition);
+    }
+
+    private final List<V> vertexList;
+    private final Map<V, Integer> indexMap;
+    private final Supplier<MinimumSTCutAlgorithm<V, E>> solverSupplier;
+    private final ThreadPoolExecutor executor;
+    private final Queue<MinimumSTCutAlgorithm<V, E>> solvers = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Create a new instance.
+     *
+     * @param vertexList the vertices
+     * @param indexMap the index of each vertex in the list
+     * @param solverSupplier supplier of the minimum $s-t$ cut algorithms
+     * @param executor the executor used to compute the cuts, if null the cuts are computed by the
+     *        calling thread
+     */
+    SpeculativeGusfield(
+        List<V> vertexList, Map<V, Integer> indexMap,
+        Supplier<MinimumSTCutAlgorithm<V, E>> solverSupplier, ThreadPoolExecutor executor)
+    {
+        this.vertexList = vertexList;
+        this.indexMap = indexMap;
+        this.solverSupplier = solverSupplier;
+        this.executor = executor;
+    }
+
+    /**
+     * Run the iterations.
+     *
+     * @param p the tree neighbors, updated by the consumer
+     * @param consumer the consumer of the cuts
+     */
+    void run(int[] p, CutConsumer consumer)
+    {
+        int n = vertexList.size();
+        if (executor == null) {
+            for (int s = 1; s < n; s++) {
+                Cut cut = computeCut(s, p[s]);
+                consumer.accept(s, cut.t, cut.value, cut.sourcePartition);
+            }
+            return;
+        }
+
+        int window = (int) Math.min(2L * executor.getMaximumPoolSize(), n);
+        List<Future<Cut>> futures = new ArrayList<>(Collections.nCopies(n, null));
+        int[] speculated = new int[n];
+        int submitted = 0;
+        try {
+            for (int s = 1; s < n; s++) {
+                while (submitted < n - 1 && submitted < s + window) {
+                    submitted++;
+                    speculated[submitted] = p[submitted];
+                    futures.set(submitted, submit(submitted, p[submitted]));
+                }
+
+                Cut cut = futures.get(s).get();
+                futures.set(s, null);
+                assert cut.t == p[s];
+                consumer.accept(s, cut.t, cut.value, cut.sourcePartition);
+
+                // recompute the speculated cuts whose tree neighbor changed
+                for (int i = s + 1; i <= submitted; i++) {
+                    if (speculated[i] != p[i]) {
+                        futures.get(i).cancel(false);
+                        speculated[i] = p[i];
+                        futures.set(i, submit(i, p[i]));
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            cancelAll(futures);
+            Thread.currentThread().interrupt();
+            CancellationException ce = new CancellationException("Interrupted while waiting");
+            ce.initCause(e);
+            throw ce;
+        } catch (ExecutionException e) {
+            cancelAll(futures);
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+
+    private Future<Cut> submit(int s, int t)
+    {
+        return executor.submit(() -> computeCut(s, t));
+    }
+
+    private static void cancelAll(List<? extends Future<?>> futures)
+    {
+        for (Future<?> future : futures) {
+            if (future != null) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    private Cut computeCut(int s, int t)
+    {
+        MinimumSTCutAlgorithm<V, E> solver = solvers.poll();
+        if (solver == null) {
+            solver = solverSupplier.get();
+        }
+        try {
+            double value = solver.calculateMinCut(vertexList.get(s), vertexList.get(t));
+            BitSet sourcePartition = new BitSet(vertexList.size());
+            for (V v : solver.getSourcePartition()) {
+                sourcePartition.set(indexMap.get(v));
+            }
+            return new Cut(t, value, sourcePartition);
+        } finally {
+            solvers.add(solver);
+        }
+    }
+
+    private static class Cut
+    {
+        final int t;
+        final double value;
+        final BitSet sourcePartition;
+
+        Cut(int t, double value, BitSet sourcePartition)
+        {
+            this.t = t;
+            this.value = value;
+            this.sourcePartition = sourcePartition;
+        }
+    }
+}
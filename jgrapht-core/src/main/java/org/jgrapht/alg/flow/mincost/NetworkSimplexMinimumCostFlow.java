@@ -0,0 +1,615 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.flow.mincost;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+
+/**
+ * This class computes a solution to a
+ * <a href="https://en.wikipedia.org/wiki/Minimum-cost_flow_problem"> minimum cost flow problem</a>
+ * using the primal network simplex algorithm. More precisely, this class computes a <i>b-flow</i>
+ * of minimum cost, i.e. for each node $v$ in the network the sum of all outgoing flows minus the
+ * sum of all incoming flows should be equal to the node supply $b_v$. The problem is specified by a
+ * {@link MinimumCostFlowProblem} with the same meaning of supplies, arc capacity bounds and costs
+ * as in {@link CapacityScalingMinimumCostFlow}. The arc costs are obtained from
+ * {@link MinimumCostFlowProblem#getArcCosts()}. An arc with upper capacity greater than or equal to
+ * {@link #CAP_INF} is considered to be an infinite capacity arc.
+ * <p>
+ * The algorithm maintains a feasible spanning tree solution, in which every arc not in the tree
+ * carries either its lower or its upper capacity. It starts with an artificial spanning tree, in
+ * which each vertex is connected to an additional root by an artificial arc of large cost. In
+ * each iteration an arc which violates the reduced cost optimality conditions enters the tree,
+ * flow is augmented along the cycle it closes and an arc of the cycle which becomes saturated or
+ * empty leaves the tree. The spanning tree is stored in primitive arrays using the parent, thread,
+ * reverse thread, number of successors and last successor of each vertex, so that a pivot only
+ * updates the part of the tree which changes. The problem has a feasible solution if and only if
+ * all artificial arcs carry zero flow at the end.
+ * <p>
+ * The entering arc is selected using the block search pivoting rule: the arcs are scanned
+ * cyclically in blocks of about $\sqrt{m}$ arcs, and the arc with the largest violation of the
+ * block is selected as soon as a block contains a violating arc. This rule is considered to be one
+ * of the most efficient in practice, see <i>Z. Király and P. Kovács, "Efficient implementations of
+ * minimum-cost flow algorithms," Acta Universitatis Sapientiae, Informatica, vol. 4, no. 1, pp.
+ * 67-118, 2012.</i> Degenerate pivots are handled using the strongly feasible tree technique, which
+ * prevents cycling. For more information about the network simplex algorithm see: <i>K. Ahuja,
+ * Ravindra &amp; L. Magnanti, Thomas &amp; Orlin, James. (1993). Network Flows.</i>
+ * <p>
+ * The algorithm supports infinite capacity arcs with negative cost and self-loops. In case the
+ * network contains a cycle of negative cost consisting of infinite capacity arcs, the problem is
+ * unbounded and an exception is thrown. Undirected flow networks are not supported.
+ *
+ * @param <V> graph vertex type
+ * @param <E> graph edge type
+ * @author agent
+ * @see MinimumCostFlowProblem
+ * @see MinimumCostFlowAlgorithm
+ * @see CapacityScalingMinimumCostFlow
+ */
+public class NetworkSimplexMinimumCostFlow<V, E>
+    implements MinimumCostFlowAlgorithm<V, E>
+{
+    /**
+     * A capacity which is considered to be infinite. Every arc, which has upper capacity greater
+     * that or equal to this value is considered to be an infinite capacity arc.
+     */
+    public static final int CAP_INF = CapacityScalingMinimumCostFlow.CAP_INF;
+
+    private static final long INF = Long.MAX_VALUE;
+    private static final int MIN_BLOCK_SIZE = 10;
+    private static final double EPSILON = 1e-9;
+
+    private static final int STATE_UPPER = -1;
+    private static final int STATE_TREE = 0;
+    private static final int STATE_LOWER = 1;
+
+    private static final int DIR_DOWN = -1;
+    private static final int DIR_UP = 1;
+
+    private MinimumCostFlowProblem<V, E> problem;
+    private MinimumCostFlow<E> minimumCostFlow;
+    private List<V> graphVertices;
+    private List<E> graphEdges;
+
+    /*
+     * Arcs 0 to m - 1 correspond to the edges of the network, arcs m to m + n - 1 are the
+     * artificial arcs connecting each vertex with the root, whose index is n.
+     */
+    private int n;
+    private int m;
+    private int root;
+    private int[] source;
+    private int[] target;
+    private long[] cap;
+    private long[] flow;
+    private double[] cost;
+    private int[] state;
+
+    private long[] supply;
+    private double[] pi;
+    private int[] parent;
+    private int[] pred;
+    private int[] predDir;
+    private int[] thread;
+    private int[] revThread;
+    private int[] succNum;
+    private int[] lastSucc;
+    private int[] dirtyRevs;
+
+    private int blockSize;
+    private int nextArc;
+    private int inArc;
+    private int join;
+    private int uIn;
+    private int vIn;
+    private int uOut;
+    private int vOut;
+    private long delta;
+
+    /**
+     * Constructs a new instance of the algorithm.
+     */
+    public NetworkSimplexMinimumCostFlow()
+    {
+    }
+
+    /**
+     * Returns mapping from edge to flow value through this particular edge
+     *
+     * @return maximum flow mapping, or null if a MinimumCostFlowProblem has not yet been solved.
+     */
+    @Override
+    public Map<E, Double> getFlowMap()
+    {
+        return minimumCostFlow == null ? null : minimumCostFlow.getFlowMap();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V getFlowDirection(E edge)
+    {
+        return problem.getGraph().getEdgeTarget(edge);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MinimumCostFlow<E> getMinimumCostFlow(
+        final MinimumCostFlowProblem<V, E> minimumCostFlowProblem)
+    {
+        this.problem = Objects.requireNonNull(minimumCostFlowProblem);
+        if (problem.getGraph().getType().isUndirected()) {
+            throw new IllegalArgumentException(
+                "The algorithm doesn't support undirected flow networks");
+        }
+        init();
+        solve();
+        minimumCostFlow = finish();
+        return minimumCostFlow;
+    }
+
+    /**
+     * Returns solution to the dual linear program formulated on the network. Serves as a
+     * certificate of optimality.
+     * <p>
+     * It is represented as a mapping from graph nodes to their potentials (dual variables). The
+     * reduced cost of an arc $(a, b)$ is defined as $cost((a, b)) + potential(b) - potential(a)$.
+     * The reduced cost of every arc with flow below its upper capacity is non-negative and the
+     * reduced cost of every arc with flow above its lower capacity is non-positive.
+     *
+     * @return solution to the dual linear program formulated on the network, or null if a
+     *         MinimumCostFlowProblem has not yet been solved.
+     */
+    public Map<V, Double> getDualSolution()
+    {
+        if (minimumCostFlow == null) {
+            return null;
+        }
+        Map<V, Double> dualVariables = CollectionUtil.newHashMapWithExpectedSize(n);
+        for (int i = 0; i < n; i++) {
+            dualVariables.put(graphVertices.get(i), -pi[i]);
+        }
+        return dualVariables;
+    }
+
+    /**
+     * Converts the flow network into primitive arrays, removes the lower capacities and builds the
+     * initial spanning tree of artificial arcs.
+     */
+    private void init()
+    {
+        Graph<V, E> graph = problem.getGraph();
+        n = graph.vertexSet().size();
+        m = graph.edgeSet().size();
+        root = n;
+        int allArcs = m + n;
+
+        graphVertices = new ArrayList<>(graph.vertexSet());
+        graphEdges = new ArrayList<>(graph.edgeSet());
+        Map<V, Integer> index = CollectionUtil.newHashMapWithExpectedSize(n);
+
+        supply = new long[n + 1];
+        long supplySum = 0;
+        for (int i = 0; i < n; i++) {
+            V v = graphVertices.get(i);
+            index.put(v, i);
+            supply[i] = problem.getNodeSupply().apply(v);
+            supplySum += supply[i];
+        }
+        if (supplySum != 0) {
+            throw new IllegalArgumentException("Total node supply isn't equal to 0");
+        }
+
+        source = new int[allArcs];
+        target = new int[allArcs];
+        cap = new long[allArcs];
+        flow = new long[allArcs];
+        cost = new double[allArcs];
+        state = new int[allArcs];
+
+        double maxCost = 0;
+        for (int a = 0; a < m; a++) {
+            E e = graphEdges.get(a);
+            int upperCap = problem.getArcCapacityUpperBounds().apply(e);
+            int lowerCap = problem.getArcCapacityLowerBounds().apply(e);
+            double c = problem.getArcCosts().apply(e);
+            if (upperCap < 0) {
+                throw new IllegalArgumentException("Negative edge capacities are not allowed");
+            } else if (lowerCap > upperCap) {
+                throw new IllegalArgumentException(
+                    "Lower edge capacity must not exceed upper edge capacity");
+            } else if (lowerCap >= CAP_INF) {
+                throw new IllegalArgumentException(
+                    "The problem is unbounded due to the infinite lower capacity");
+            }
+            int u = index.get(graph.getEdgeSource(e));
+            int v = index.get(graph.getEdgeTarget(e));
+            source[a] = u;
+            target[a] = v;
+            cap[a] = upperCap >= CAP_INF ? INF : upperCap - lowerCap;
+            cost[a] = c;
+            state[a] = STATE_LOWER;
+            // remove non-zero lower capacity
+            supply[u] -= lowerCap;
+            supply[v] += lowerCap;
+            maxCost = Math.max(maxCost, Math.abs(c));
+        }
+
+        // an artificial arc is more expensive than any path of the network
+        double artificialCost = (maxCost + 1) * (n + 1);
+
+        parent = new int[n + 1];
+        pred = new int[n + 1];
+        predDir = new int[n + 1];
+        thread = new int[n + 1];
+        revThread = new int[n + 1];
+        succNum = new int[n + 1];
+        lastSucc = new int[n + 1];
+        pi = new double[n + 1];
+        dirtyRevs = new int[n + 1];
+
+        parent[root] = -1;
+        pred[root] = -1;
+        thread[root] = 0;
+        revThread[0] = root;
+        succNum[root] = n + 1;
+        lastSucc[root] = root - 1;
+        for (int u = 0, a = m; u < n; u++, a++) {
+            parent[u] = root;
+            pred[u] = a;
+            thread[u] = u + 1;
+            revThread[u + 1] = u;
+            succNum[u] = 1;
+            lastSucc[u] = u;
+            cap[a] = INF;
+            state[a] = STATE_TREE;
+            if (supply[u] >= 0) {
+                predDir[u] = DIR_UP;
+                source[a] = u;
+                target[a] = root;
+                flow[a] = supply[u];
+                cost[a] = 0;
+                pi[u] = 0;
+            } else {
+                predDir[u] = DIR_DOWN;
+                source[a] = root;
+                target[a] = u;
+                flow[a] = -supply[u];
+                cost[a] = artificialCost;
+                pi[u] = artificialCost;
+            }
+        }
+
+        blockSize = Math.max((int) Math.ceil(Math.sqrt(m)), MIN_BLOCK_SIZE);
+        nextArc = 0;
+    }
+
+    /**
+     * Performs pivots until no arc violates the optimality conditions.
+     */
+    private void solve()
+    {
+        while (findEnteringArc()) {
+            findJoinNode();
+            boolean change = findLeavingArc();
+            if (delta == INF) {
+                throw new IllegalArgumentException(
+                    "The problem is unbounded due to a negative cycle of infinite capacity arcs");
+            }
+            changeFlow(change);
+            if (change) {
+                updateTreeStructure();
+                updatePotential();
+            }
+        }
+        for (int a = m; a < m + n; a++) {
+            if (flow[a] != 0) {
+                throw new IllegalArgumentException(
+                    "Specified flow network problem has no feasible solution");
+            }
+        }
+    }
+
+    /**
+     * Finds the entering arc using the block search pivoting rule.
+     *
+     * @return true if an arc violating the optimality conditions was found, false otherwise
+     */
+    private boolean findEnteringArc()
+    {
+        double min = -EPSILON;
+        int count = blockSize;
+        int a = nextArc;
+        boolean found = false;
+        for (int i = 0; i < m; i++) {
+            double c = state[a] * (cost[a] + pi[source[a]] - pi[target[a]]);
+            if (c < min) {
+                min = c;
+                inArc = a;
+                found = true;
+            }
+            if (++a == m) {
+                a = 0;
+            }
+            if (--count == 0) {
+                if (found) {
+                    break;
+                }
+                count = blockSize;
+            }
+        }
+        nextArc = a;
+        return found;
+    }
+
+    /**
+     * Finds the join node, i.e. the apex of the cycle closed by the entering arc.
+     */
+    private void findJoinNode()
+    {
+        int u = source[inArc];
+        int v = target[inArc];
+        while (u != v) {
+            if (succNum[u] < succNum[v]) {
+                u = parent[u];
+            } else {
+                v = parent[v];
+            }
+        }
+        join = u;
+    }
+
+    /**
+     * Finds the leaving arc of the cycle and the amount of flow to augment. Ties are broken by
+     * selecting the last blocking arc in the direction of the cycle, which keeps the spanning tree
+     * strongly feasible.
+     *
+     * @return true if the leaving arc is different from the entering arc, false otherwise
+     */
+    private boolean findLeavingArc()
+    {
+        int first;
+        int second;
+        if (state[inArc] == STATE_LOWER) {
+            first = source[inArc];
+            second = target[inArc];
+        } else {
+            first = target[inArc];
+            second = source[inArc];
+        }
+        delta = cap[inArc];
+        int result = 0;
+
+        // search the cycle from the first node to the join node
+        for (int u = first; u != join; u = parent[u]) {
+            int a = pred[u];
+            long d = predDir[u] == DIR_DOWN ? residual(a) : flow[a];
+            if (d < delta) {
+                delta = d;
+                uOut = u;
+                result = 1;
+            }
+        }
+
+        // search the cycle from the second node to the join node
+        for (int u = second; u != join; u = parent[u]) {
+            int a = pred[u];
+            long d = predDir[u] == DIR_UP ? residual(a) : flow[a];
+            if (d <= delta) {
+                delta = d;
+                uOut = u;
+                result = 2;
+            }
+        }
+
+        if (result == 1) {
+            uIn = first;
+            vIn = second;
+        } else {
+            uIn = second;
+            vIn = first;
+        }
+        return result != 0;
+    }
+
+    private long residual(int a)
+    {
+        return cap[a] == INF ? INF : cap[a] - flow[a];
+    }
+
+    /**
+     * Augments the flow along the cycle and updates the states of the entering and leaving arcs.
+     *
+     * @param change whether the leaving arc is different from the entering arc
+     */
+    private void changeFlow(boolean change)
+    {
+        if (delta > 0) {
+            long value = state[inArc] * delta;
+            flow[inArc] += value;
+            for (int u = source[inArc]; u != join; u = parent[u]) {
+                flow[pred[u]] -= predDir[u] * value;
+            }
+            for (int u = target[inArc]; u != join; u = parent[u]) {
+                flow[pred[u]] += predDir[u] * value;
+            }
+        }
+        if (change) {
+            state[inArc] = STATE_TREE;
+            state[pred[uOut]] = flow[pred[uOut]] == 0 ? STATE_LOWER : STATE_UPPER;
+        } else {
+            state[inArc] = -state[inArc];
+        }
+    }
+
+    /**
+     * Updates the spanning tree after the leaving arc is replaced by the entering arc. The subtree
+     * which is separated by the leaving arc is re-hung from the entering arc, reversing the path
+     * between the endpoints of the two arcs, called the stem.
+     */
+    private void updateTreeStructure()
+    {
+        int oldRevThread = revThread[uOut];
+        int oldSuccNum = succNum[uOut];
+        int oldLastSucc = lastSucc[uOut];
+        vOut = parent[uOut];
+
+        if (uIn == uOut) {
+            // the entering arc replaces the leaving arc at the same node
+            parent[uIn] = vIn;
+            pred[uIn] = inArc;
+            predDir[uIn] = uIn == source[inArc] ? DIR_UP : DIR_DOWN;
+
+            if (thread[vIn] != uOut) {
+                int after = thread[oldLastSucc];
+                thread[oldRevThread] = after;
+                revThread[after] = oldRevThread;
+                after = thread[vIn];
+                thread[vIn] = uOut;
+                revThread[uOut] = vIn;
+                thread[oldLastSucc] = after;
+                revThread[after] = oldLastSucc;
+            }
+        } else {
+            // if the reverse thread of the leaving node is the entering node, then the join node
+            // and the parent of the leaving node coincide
+            int threadContinue = oldRevThread == vIn ? thread[oldLastSucc] : thread[vIn];
+
+            // update the thread and the parents along the stem
+            int stem = uIn;
+            int parentStem = vIn;
+            int last = lastSucc[uIn];
+            int after = thread[last];
+            thread[vIn] = uIn;
+            int dirty = 0;
+            dirtyRevs[dirty++] = vIn;
+            while (stem != uOut) {
+                // insert the next stem node into the thread
+                int nextStem = parent[stem];
+                thread[last] = nextStem;
+                dirtyRevs[dirty++] = last;
+
+                // remove the subtree of the stem node from the thread
+                int before = revThread[stem];
+                thread[before] = after;
+                revThread[after] = before;
+
+                parent[stem] = parentStem;
+                parentStem = stem;
+                stem = nextStem;
+
+                last = lastSucc[stem] == lastSucc[parentStem] ? revThread[parentStem]
+                    : lastSucc[stem];
+                after = thread[last];
+            }
+            parent[uOut] = parentStem;
+            thread[last] = threadContinue;
+            revThread[threadContinue] = last;
+            lastSucc[uOut] = last;
+
+            // remove the subtree of the leaving node from the thread, unless the reverse thread
+            // of the leaving node is the entering node
+            if (oldRevThread != vIn) {
+                thread[oldRevThread] = after;
+                revThread[after] = oldRevThread;
+            }
+
+            for (int i = 0; i < dirty; i++) {
+                int u = dirtyRevs[i];
+                revThread[thread[u]] = u;
+            }
+
+            // update the predecessors, number of successors and last successors along the stem
+            int tmpSuccNum = 0;
+            int tmpLastSucc = lastSucc[uOut];
+            for (int u = uOut, p = parent[u]; u != uIn; u = p, p = parent[u]) {
+                pred[u] = pred[p];
+                predDir[u] = -predDir[p];
+                tmpSuccNum += succNum[u] - succNum[p];
+                succNum[u] = tmpSuccNum;
+                lastSucc[p] = tmpLastSucc;
+            }
+            pred[uIn] = inArc;
+            predDir[uIn] = uIn == source[inArc] ? DIR_UP : DIR_DOWN;
+            succNum[uIn] = oldSuccNum;
+        }
+
+        // update the last successors from the entering node towards the root
+        int upLimitOut = lastSucc[join] == vIn ? join : -1;
+        int lastSuccOut = lastSucc[uOut];
+        for (int u = vIn; u != -1 && lastSucc[u] == vIn; u = parent[u]) {
+            lastSucc[u] = lastSuccOut;
+        }
+
+        // update the last successors from the old parent of the leaving node towards the root
+        if (join != oldRevThread && vIn != oldRevThread) {
+            for (int u = vOut; u != upLimitOut && lastSucc[u] == oldLastSucc; u = parent[u]) {
+                lastSucc[u] = oldRevThread;
+            }
+        } else if (lastSuccOut != oldLastSucc) {
+            for (int u = vOut; u != upLimitOut && lastSucc[u] == oldLastSucc; u = parent[u]) {
+                lastSucc[u] = lastSuccOut;
+            }
+        }
+
+        // update the number of successors on both paths to the join node
+        for (int u = vIn; u != join; u = parent[u]) {
+            succNum[u] += oldSuccNum;
+        }
+        for (int u = vOut; u != join; u = parent[u]) {
+            succNum[u] -= oldSuccNum;
+        }
+    }
+
+    /**
+     * Updates the potentials of the subtree which has been re-hung, so that the reduced cost of
+     * the entering arc becomes zero.
+     */
+    private void updatePotential()
+    {
+        double sigma = pi[vIn] - pi[uIn] - predDir[uIn] * cost[inArc];
+        int end = thread[lastSucc[uIn]];
+        for (int u = uIn; u != end; u = thread[u]) {
+            pi[u] += sigma;
+        }
+    }
+
+    /**
+     * Creates an instance of {@link MinimumCostFlow} with the flow of every edge of the network.
+     *
+     * @return the solution to the minimum cost flow problem
+     */
+    private MinimumCostFlow<E> finish()
+    {
+        Map<E, Double> flowMap = CollectionUtil.newHashMapWithExpectedSize(m);
+        double totalCost = 0;
+        for (int a = 0; a < m; a++) {
+            E e = graphEdges.get(a);
+            double flowOnArc = flow[a] + problem.getArcCapacityLowerBounds().apply(e);
+            flowMap.put(e, flowOnArc);
+            totalCost += flowOnArc * cost[a];
+        }
+        return new MinimumCostFlowImpl<>(totalCost, flowMap);
+    }
+}
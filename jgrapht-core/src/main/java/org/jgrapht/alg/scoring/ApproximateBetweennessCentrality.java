@@ -0,0 +1,306 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.scoring;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Approximate betweenness centrality.
+ *
+ * <p>
+ * Computes an approximation of the betweenness centrality of each vertex of a graph, as defined in
+ * {@link BetweennessCentrality}, for graphs where the exact $O(nm)$ computation is too expensive.
+ * The returned scores are estimates of the scores returned by {@link BetweennessCentrality} using
+ * the same normalization. Two sampling strategies are supported.
+ *
+ * <p>
+ * <b>Source sampling.</b> The dependencies of $k$ source vertices chosen uniformly at random
+ * without replacement are computed exactly using Brandes' algorithm and extrapolated by a factor of
+ * $n/k$. This is an unbiased estimator, see
+ * <ul>
+ * <li>Ulrik Brandes and Christian Pich. Centrality Estimation in Large Networks. International
+ * Journal of Bifurcation and Chaos, 17(7):2303–2318, 2007.</li>
+ * </ul>
+ * The running time is $O(km)$ and $O(km + kn \log n)$ for unweighted and weighted graphs
+ * respectively.
+ *
+ * <p>
+ * <b>Path sampling with an error bound.</b> Pairs of distinct vertices are sampled uniformly at
+ * random and for each pair one of its shortest paths is chosen uniformly at random. The number of
+ * samples is selected based on the vertex diameter of the graph so that, with probability at least
+ * $1-\delta$, the estimate of the normalized betweenness $b(v) = \frac{1}{n(n-1)} \sum_{s \neq v
+ * \neq t}\frac{\sigma_{st}(v)}{\sigma_{st}}$ of every vertex is within $\epsilon$ of its exact
+ * value. See
+ * <ul>
+ * <li>Matteo Riondato and Evgenios M. Kornaropoulos. Fast approximation of betweenness centrality
+ * through sampling. Data Mining and Knowledge Discovery, 30(2):438–475, 2016.</li>
+ * </ul>
+ * The number of samples is $\lceil \frac{c}{\epsilon^2} (\lfloor \log_2 (VD-2) \rfloor + 1 + \ln
+ * \frac{1}{\delta}) \rceil$ where $c = 0.5$ and $VD$ is an upper bound on the vertex diameter,
+ * i.e. the maximum number of vertices in a shortest path. For undirected unweighted graphs the
+ * bound is computed using one breadth-first search per connected component, otherwise the number
+ * of vertices is used. Each sample costs at most one shortest path computation which stops as soon
+ * as the target is reached.
+ *
+ * <p>
+ * Both strategies can be executed in parallel by supplying a {@link ThreadPoolExecutor}. It is up
+ * to the user to handle the creation and termination of the executor, see
+ * {@link ConcurrencyUtil}.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public class ApproximateBetweennessCentrality<V, E>
+    implements VertexScoringAlgorithm<V, Double>
+{
+    /**
+     * Constant of the sample size bound of the path sampling strategy.
+     */
+    private static final double SAMPLE_SIZE_CONSTANT = 0.5;
+
+    private final Graph<V, E> graph;
+    private final boolean normalize;
+    private final int numSources;
+    private final double epsilon;
+    private final double delta;
+    private final Random rng;
+    private final ThreadPoolExecutor executor;
+
+    private Map<V, Double> scores;
+    private long samples;
+
+    /**
+     * Construct a new instance which samples source vertices.
+     *
+     * @param graph the input graph
+     * @param numSources the number of source vertices to sample. If larger than the number of
+     *        vertices, the exact scores are computed.
+     * @param normalize whether to normalize by dividing the closeness by $(n-1) \cdot (n-2)$, where
+     *        $n$ is the number of vertices of the graph
+     * @param rng the random number generator
+     * @param executor executor which will be used for parallelization, or null in order to run
+     *        sequentially
+     */
+    public ApproximateBetweennessCentrality(
+        Graph<V, E> graph, int numSources, boolean normalize, Random rng,
+        ThreadPoolExecutor executor)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        if (numSources < 1) {
+            throw new IllegalArgumentException("Number of sources must be positive");
+        }
+        this.numSources = numSources;
+        this.epsilon = 0d;
+        this.delta = 0d;
+        this.normalize = normalize;
+        this.rng = Objects.requireNonNull(rng, "Random number generator cannot be null");
+        this.executor = executor;
+    }
+
+    /**
+     * Construct a new instance which samples shortest paths until the given error bound is
+     * guaranteed with the given probability.
+     *
+     * @param graph the input graph
+     * @param epsilon the maximum additive error of the normalized betweenness of any vertex
+     * @param delta the probability that the error bound is not satisfied
+     * @param normalize whether to normalize by dividing the closeness by $(n-1) \cdot (n-2)$, where
+     *        $n$ is the number of vertices of the graph
+     * @param rng the random number generator
+     * @param executor executor which will be used for parallelization, or null in order to run
+     *        sequentially
+     */
+    public ApproximateBetweennessCentrality(
+        Graph<V, E> graph, double epsilon, double delta, boolean normalize, Random rng,
+        ThreadPoolExecutor executor)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        if (epsilon <= 0d || epsilon >= 1d) {
+            throw new IllegalArgumentException("Epsilon must be in (0,1)");
+        }
+        if (delta <= 0d || delta >= 1d) {
+            throw new IllegalArgumentException("Delta must be in (0,1)");
+        }
+        this.numSources = 0;
+        this.epsilon = epsilon;
+        this.delta = delta;
+        this.normalize = normalize;
+        this.rng = Objects.requireNonNull(rng, "Random number generator cannot be null");
+        this.executor = executor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<V, Double> getScores()
+    {
+        if (scores == null) {
+            compute();
+        }
+        return Collections.unmodifiableMap(scores);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Double getVertexScore(V v)
+    {
+        if (!graph.containsVertex(v)) {
+            throw new IllegalArgumentException("Cannot return score of unknown vertex");
+        }
+        if (scores == null) {
+            compute();
+        }
+        return scores.get(v);
+    }
+
+    /**
+     * Get the number of samples used for the approximation. This is the number of sampled sources
+     * or the number of sampled paths, depending on the strategy.
+     *
+     * @return the number of samples
+     */
+    public long getNumberOfSamples()
+    {
+        if (scores == null) {
+            compute();
+        }
+        return samples;
+    }
+
+    private void compute()
+    {
+        BrandesBetweennessEngine<V, E> engine =
+            new BrandesBetweennessEngine<>(graph, false, "Negative edge weight not allowed");
+        IndexedAdjacency<V, E> adjacency = engine.getAdjacency();
+        int n = adjacency.vertexCount();
+
+        double[] vertexScores;
+        if (numSources > 0) {
+            // sample sources without replacement
+            int[] sources = new int[n];
+            Arrays.setAll(sources, i -> i);
+            int k = Math.min(numSources, n);
+            for (int i = 0; i < k; i++) {
+                int j = i + rng.nextInt(n - i);
+                int tmp = sources[i];
+                sources[i] = sources[j];
+                sources[j] = tmp;
+            }
+            samples = k;
+            vertexScores = engine.accumulate(Arrays.copyOf(sources, k), false, executor)[0];
+            if (k > 0) {
+                double factor = (double) n / k;
+                for (int i = 0; i < n; i++) {
+                    vertexScores[i] *= factor;
+                }
+            }
+        } else {
+            int vd = vertexDiameterUpperBound(adjacency);
+            double log2 = vd > 2 ? Math.floor(Math.log(vd - 2) / Math.log(2)) : 0d;
+            samples = (long) Math.ceil(
+                SAMPLE_SIZE_CONSTANT / (epsilon * epsilon) * (log2 + 1 + Math.log(1 / delta)));
+            vertexScores = engine.samplePaths(samples, rng, executor);
+            // estimate of b(v) is count/samples, rescale to sum over all ordered pairs
+            double factor = (double) n * (n - 1) / samples;
+            for (int i = 0; i < n; i++) {
+                vertexScores[i] *= factor;
+            }
+        }
+
+        // For undirected graph, divide scores by two as each shortest path
+        // considered twice.
+        if (!graph.getType().isDirected()) {
+            for (int i = 0; i < n; i++) {
+                vertexScores[i] /= 2;
+            }
+        }
+
+        if (normalize) {
+            int normalizationFactor = (n - 1) * (n - 2);
+            if (normalizationFactor != 0) {
+                for (int i = 0; i < n; i++) {
+                    vertexScores[i] /= normalizationFactor;
+                }
+            }
+        }
+
+        scores = CollectionUtil.newHashMapWithExpectedSize(n);
+        for (int i = 0; i < n; i++) {
+            scores.put(adjacency.getVertex(i), vertexScores[i]);
+        }
+    }
+
+    /**
+     * Compute an upper bound on the maximum number of vertices of a shortest path. For undirected
+     * unweighted graphs, a breadth-first search is executed from an arbitrary vertex $r$ of each
+     * connected component and the bound $2 \cdot ecc(r) + 1$ is used. For any other graph the
+     * number of vertices is returned.
+     *
+     * @param adjacency the index-based adjacency
+     * @return an upper bound on the vertex diameter
+     */
+    private int vertexDiameterUpperBound(IndexedAdjacency<V, E> adjacency)
+    {
+        int n = adjacency.vertexCount();
+        if (graph.getType().isDirected() || graph.getType().isWeighted()) {
+            return n;
+        }
+
+        int[] offsets = adjacency.getOffsets();
+        int[] targets = adjacency.getTargets();
+        int[] level = new int[n];
+        Arrays.fill(level, -1);
+        int[] queue = new int[n];
+
+        int bound = Math.min(n, 1);
+        for (int r = 0; r < n; r++) {
+            if (level[r] != -1) {
+                continue;
+            }
+            int head = 0, tail = 0;
+            level[r] = 0;
+            queue[tail++] = r;
+            int eccentricity = 0;
+            while (head < tail) {
+                int v = queue[head++];
+                eccentricity = level[v];
+                for (int arc = offsets[v]; arc < offsets[v + 1]; arc++) {
+                    int w = targets[arc];
+                    if (level[w] == -1) {
+                        level[w] = level[v] + 1;
+                        queue[tail++] = w;
+                    }
+                }
+            }
+            bound = Math.max(bound, Math.min(tail, 2 * eccentricity + 1));
+        }
+        return bound;
+    }
+
+}
@@ -17,20 +17,17 @@
  */
 package org.jgrapht.alg.scoring;
 
-import java.util.ArrayDeque;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Queue;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import org.jgrapht.Graph;
-import org.jgrapht.Graphs;
 import org.jgrapht.alg.interfaces.VertexScoringAlgorithm;
-import org.jheaps.AddressableHeap;
-import org.jheaps.tree.PairingHeap;
+import org.jgrapht.alg.util.IndexedAdjacency;
+import org.jgrapht.util.CollectionUtil;
+import org.jgrapht.util.ConcurrencyUtil;
 
 /**
  * Betweenness centrality.
@@ -59,6 +56,13 @@ import org.jheaps.tree.PairingHeap;
  * allows the user to adjust whether an exception is thrown in case overflow occurs. Default
  * behavior is to ignore overflow issues.
  *
+ * <p>
+ * The single source computations operate on an index-based representation of the graph using
+ * primitive arrays which are reused across sources. If a {@link ThreadPoolExecutor} is supplied,
+ * the single source computations are performed in parallel, each thread accumulating partial
+ * scores which are summed at the end. It is up to the user to handle the creation and termination
+ * of the executor, see {@link ConcurrencyUtil}. For an approximation of the scores on large graphs
+ * see {@link ApproximateBetweennessCentrality}.
  * 
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -86,6 +90,11 @@ public class BetweennessCentrality<V, E>
      */
     private OverflowStrategy overflowStrategy;
 
+    /**
+     * Executor used for parallelization, or null for the sequential version
+     */
+    private final ThreadPoolExecutor executor;
+
     /**
      * Strategy followed when counting paths.
      */
@@ -134,12 +143,32 @@ public class BetweennessCentrality<V, E>
      */
     public BetweennessCentrality(
         Graph<V, E> graph, boolean normalize, OverflowStrategy overflowStrategy)
+    {
+        this(graph, normalize, overflowStrategy, null);
+    }
+
+    /**
+     * Construct a new instance. It is up to the user to handle the creation and termination of the
+     * provided {@code executor}. For utility methods to manage a {@code ThreadPoolExecutor} see
+     * {@link ConcurrencyUtil}.
+     * 
+     * @param graph the input graph
+     * @param normalize whether to normalize by dividing the closeness by $(n-1) \cdot (n-2)$, where
+     *        $n$ is the number of vertices of the graph
+     * @param overflowStrategy strategy to use if overflow is detected
+     * @param executor executor which will be used for parallelization, or null in order to run
+     *        sequentially
+     */
+    public BetweennessCentrality(
+        Graph<V, E> graph, boolean normalize, OverflowStrategy overflowStrategy,
+        ThreadPoolExecutor executor)
     {
         this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
 
         this.scores = null;
         this.normalize = normalize;
         this.overflowStrategy = overflowStrategy;
+        this.executor = executor;
     }
 
     /**
@@ -174,186 +203,38 @@ public class BetweennessCentrality<V, E>
      */
     private void compute()
     {
-        // initialize result container
-        scores = new HashMap<>();
-        graph.vertexSet().forEach(v -> scores.put(v, 0.0));
+        BrandesBetweennessEngine<V, E> engine = new BrandesBetweennessEngine<>(
+            graph, overflowStrategy.equals(OverflowStrategy.THROW_EXCEPTION_ON_OVERFLOW),
+            "Negative edge weight not allowed");
 
         // compute for each source
-        graph.vertexSet().forEach(this::compute);
+        int n = graph.vertexSet().size();
+        int[] sources = new int[n];
+        Arrays.setAll(sources, i -> i);
+        double[] vertexScores = engine.accumulate(sources, false, executor)[0];
 
         // For undirected graph, divide scores by two as each shortest path
         // considered twice.
         if (!graph.getType().isDirected()) {
-            scores.forEach((v, score) -> scores.put(v, score / 2));
+            for (int i = 0; i < n; i++) {
+                vertexScores[i] /= 2;
+            }
         }
 
         if (normalize) {
-            int n = graph.vertexSet().size();
             int normalizationFactor = (n - 1) * (n - 2);
             if (normalizationFactor != 0) {
-                scores.forEach((v, score) -> scores.put(v, score / normalizationFactor));
-            }
-        }
-    }
-
-    private void compute(V s)
-    {
-        // initialize
-        ArrayDeque<V> stack = new ArrayDeque<>();
-        Map<V, List<V>> predecessors = new HashMap<>();
-        graph.vertexSet().forEach(w -> predecessors.put(w, new ArrayList<>()));
-
-        // Number of shortest paths from s to v
-        Map<V, Long> sigma = new HashMap<>();
-        graph.vertexSet().forEach(t -> sigma.put(t, 0l));
-        sigma.put(s, 1l);
-
-        // Distance (Weight) of the shortest path from s to v
-        Map<V, Double> distance = new HashMap<>();
-        graph.vertexSet().forEach(t -> distance.put(t, Double.POSITIVE_INFINITY));
-        distance.put(s, 0.0);
-
-        MyQueue<V, Double> queue =
-            graph.getType().isWeighted() ? new WeightedQueue() : new UnweightedQueue();
-        queue.insert(s, 0.0);
-
-        // 1. compute the length and the number of shortest paths between all s to v
-        while (!queue.isEmpty()) {
-            V v = queue.remove();
-            stack.push(v);
-
-            for (E e : graph.outgoingEdgesOf(v)) {
-                V w = Graphs.getOppositeVertex(graph, e, v);
-                double eWeight = graph.getEdgeWeight(e);
-                if (eWeight < 0.0) {
-                    throw new IllegalArgumentException("Negative edge weight not allowed");
-                }
-                double d = distance.get(v) + eWeight;
-                // w found for the first time?
-                if (distance.get(w) == Double.POSITIVE_INFINITY) {
-                    queue.insert(w, d);
-                    distance.put(w, d);
-                    sigma.put(w, sigma.get(v));
-                    predecessors.get(w).add(v);
-                }
-                // shortest path to w via v?
-                else if (distance.get(w) == d) {
-                    // queue.update(w, d);
-                    long wCounter = sigma.get(w);
-                    long vCounter = sigma.get(v);
-                    long sum = wCounter + vCounter;
-                    if (overflowStrategy.equals(OverflowStrategy.THROW_EXCEPTION_ON_OVERFLOW)
-                        && sum < 0)
-                    {
-                        throw new ArithmeticException("long overflow");
-                    }
-                    sigma.put(w, sum);
-                    predecessors.get(w).add(v);
-                } else if (distance.get(w) > d) {
-                    queue.update(w, d);
-                    distance.put(w, d);
-                    sigma.put(w, sigma.get(v));
-                    predecessors.get(w).clear();
-                    predecessors.get(w).add(v);
+                for (int i = 0; i < n; i++) {
+                    vertexScores[i] /= normalizationFactor;
                 }
             }
         }
 
-        // 2. sum all pair dependencies.
-        // The pair-dependency of s and v in w
-        Map<V, Double> dependency = new HashMap<>();
-        graph.vertexSet().forEach(v -> dependency.put(v, 0.0));
-        // S returns vertices in order of non-increasing distance from s
-        while (!stack.isEmpty()) {
-            V w = stack.pop();
-            for (V v : predecessors.get(w)) {
-                dependency.put(
-                    v, dependency.get(v) + (sigma.get(v).doubleValue() / sigma.get(w).doubleValue())
-                        * (1 + dependency.get(w)));
-            }
-            if (!w.equals(s)) {
-                scores.put(w, scores.get(w) + dependency.get(w));
-            }
-        }
-    }
-
-    private interface MyQueue<T, D>
-    {
-        void insert(T t, D d);
-
-        void update(T t, D d);
-
-        T remove();
-
-        boolean isEmpty();
-    }
-
-    private class WeightedQueue
-        implements MyQueue<V, Double>
-    {
-
-        AddressableHeap<Double, V> delegate = new PairingHeap<>();
-        Map<V, AddressableHeap.Handle<Double, V>> seen = new HashMap<>();
-
-        @Override
-        public void insert(V t, Double d)
-        {
-            AddressableHeap.Handle<Double, V> node = delegate.insert(d, t);
-            seen.put(t, node);
-        }
-
-        @Override
-        public void update(V t, Double d)
-        {
-            if (!seen.containsKey(t)) {
-                throw new IllegalArgumentException("Element " + t + " does not exist in queue");
-            }
-            seen.get(t).decreaseKey(d);
-        }
-
-        @Override
-        public V remove()
-        {
-            return delegate.deleteMin().getValue();
-        }
-
-        @Override
-        public boolean isEmpty()
-        {
-            return delegate.isEmpty();
-        }
-
-    }
-
-    private class UnweightedQueue
-        implements MyQueue<V, Double>
-    {
-
-        Queue<V> delegate = new ArrayDeque<>();
-
-        @Override
-        public void insert(V t, Double d)
-        {
-            delegate.add(t);
-        }
-
-        @Override
-        public void update(V t, Double d)
-        {
-            // do nothing
-        }
-
-        @Override
-        public V remove()
-        {
-            return delegate.remove();
-        }
-
-        @Override
-        public boolean isEmpty()
-        {
-            return delegate.isEmpty();
+        // initialize result container
+        IndexedAdjacency<V, E> adjacency = engine.getAdjacency();
+        scores = CollectionUtil.newHashMapWithExpectedSize(n);
+        for (int i = 0; i < n; i++) {
+            scores.put(adjacency.getVertex(i), vertexScores[i]);
         }
-
     }
 }
@@ -0,0 +1,421 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.scoring;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Index-based engine for the single-source passes of Brandes' betweenness algorithm.
+ *
+ * <p>
+ * The graph is converted once into an {@link IndexedAdjacency} of its outgoing edges. Each single
+ * source pass runs a breadth-first search (unweighted graphs) or Dijkstra's algorithm (weighted
+ * graphs) and accumulates the dependencies of the source on the vertices and on the arcs. All
+ * state of a pass lives in a {@link Workspace} which consists of primitive arrays and is reset in
+ * time proportional to the number of vertices reached by the pass. When an executor is supplied,
+ * the sources are processed concurrently, each worker thread using its own workspace, and the
+ * partial scores of the workers are summed at the end.
+ *
+ * <p>
+ * Self-loops are ignored since they are never part of a shortest path.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+class BrandesBetweennessEngine<V, E>
+{
+    /**
+     * Number of sources that a worker claims at a time.
+     */
+    private static final int SOURCES_CHUNK_SIZE = 16;
+
+    private final IndexedAdjacency<V, E> adjacency;
+    private final boolean weighted;
+    private final boolean throwOnOverflow;
+    private final String negativeWeightMessage;
+
+    private final int n;
+    private final int[] offsets;
+    private final int[] targets;
+    private final double[] weights;
+    private final int[] arcSources;
+
+    /**
+     * Create a new engine.
+     *
+     * @param graph the input graph
+     * @param throwOnOverflow whether to throw an exception if path counters overflow
+     * @param negativeWeightMessage the message of the exception thrown when a negative edge weight
+     *        is encountered
+     */
+    BrandesBetweennessEngine(
+        Graph<V, E> graph, boolean throwOnOverflow, String negativeWeightMessage)
+    {
+        this.adjacency = IndexedAdjacency.outgoing(graph);
+        this.weighted = graph.getType().isWeighted();
+        this.throwOnOverflow = throwOnOverflow;
+        this.negativeWeightMessage = negativeWeightMessage;
+
+        this.n = adjacency.vertexCount();
+        this.offsets = adjacency.getOffsets();
+        this.targets = adjacency.getTargets();
+        this.weights = adjacency.getWeights();
+        this.arcSources = new int[targets.length];
+        for (int v = 0; v < n; v++) {
+            for (int arc = offsets[v]; arc < offsets[v + 1]; arc++) {
+                arcSources[arc] = v;
+            }
+        }
+    }
+
+    /**
+     * Get the index-based adjacency used by the engine.
+     *
+     * @return the index-based adjacency
+     */
+    IndexedAdjacency<V, E> getAdjacency()
+    {
+        return adjacency;
+    }
+
+    /**
+     * Sum the dependencies of the given sources on all vertices and optionally on all arcs.
+     *
+     * @param sources the source vertex indices
+     * @param arcScores whether to also compute the dependencies on the arcs
+     * @param executor the executor or null in order to run sequentially
+     * @return the vertex scores indexed by vertex and the arc scores indexed by arc, or null if not
+     *         requested
+     */
+    double[][] accumulate(int[] sources, boolean arcScores, ThreadPoolExecutor executor)
+    {
+        if (executor == null || sources.length <= SOURCES_CHUNK_SIZE) {
+            Workspace ws = new Workspace(arcScores);
+            for (int s : sources) {
+                ws.pass(s);
+            }
+            return new double[][] { ws.vertexScores, ws.arcScores };
+        }
+
+        AtomicInteger next = new AtomicInteger();
+        int workers = Math.min(
+            executor.getMaximumPoolSize(),
+            (sources.length + SOURCES_CHUNK_SIZE - 1) / SOURCES_CHUNK_SIZE);
+        List<Callable<Workspace>> tasks = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            tasks.add(() -> {
+                Workspace ws = new Workspace(arcScores);
+                int from;
+                while ((from = next.getAndAdd(SOURCES_CHUNK_SIZE)) < sources.length) {
+                    int to = Math.min(from + SOURCES_CHUNK_SIZE, sources.length);
+                    for (int j = from; j < to; j++) {
+                        ws.pass(sources[j]);
+                    }
+                }
+                return ws;
+            });
+        }
+        return merge(ConcurrencyUtil.invokeAll(executor, tasks));
+    }
+
+    /**
+     * Sample shortest paths between uniformly random pairs of distinct vertices and count, for
+     * every vertex, the number of sampled paths for which it is an internal vertex. A shortest path
+     * between a pair is selected uniformly at random among all shortest paths of the pair.
+     *
+     * @param samples the number of samples
+     * @param random the random number generator used to seed the workers
+     * @param executor the executor or null in order to run sequentially
+     * @return the number of sampled paths containing each vertex as an internal vertex
+     */
+    double[] samplePaths(long samples, Random random, ThreadPoolExecutor executor)
+    {
+        if (n < 2) {
+            return new double[n];
+        }
+        int workers = executor == null ? 1
+            : (int) Math
+                .max(
+                    1, Math
+                        .min(
+                            executor.getMaximumPoolSize(),
+                            (samples + SOURCES_CHUNK_SIZE - 1) / SOURCES_CHUNK_SIZE));
+        if (workers == 1) {
+            Workspace ws = new Workspace(false);
+            ws.samplePaths(samples, new Random(random.nextLong()));
+            return ws.vertexScores;
+        }
+
+        List<Callable<Workspace>> tasks = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            long workerSamples = samples / workers + (i < samples % workers ? 1 : 0);
+            Random workerRandom = new Random(random.nextLong());
+            tasks.add(() -> {
+                Workspace ws = new Workspace(false);
+                ws.samplePaths(workerSamples, workerRandom);
+                return ws;
+            });
+        }
+        return merge(ConcurrencyUtil.invokeAll(executor, tasks))[0];
+    }
+
+    private double[][] merge(List<Workspace> partial)
+    {
+        double[] vertexScores = partial.get(0).vertexScores;
+        double[] arcScores = partial.get(0).arcScores;
+        for (int i = 1; i < partial.size(); i++) {
+            Workspace ws = partial.get(i);
+            for (int v = 0; v < n; v++) {
+                vertexScores[v] += ws.vertexScores[v];
+            }
+            if (arcScores != null) {
+                for (int arc = 0; arc < arcScores.length; arc++) {
+                    arcScores[arc] += ws.arcScores[arc];
+                }
+            }
+        }
+        return new double[][] { vertexScores, arcScores };
+    }
+
+    /**
+     * Reusable state of single source passes. Each worker thread owns one workspace.
+     */
+    private class Workspace
+    {
+        final double[] vertexScores;
+        final double[] arcScores;
+
+        final double[] dist;
+        final long[] sigma;
+        final double[] delta;
+        final int[] predHead;
+        final int[] predNext;
+
+        // vertices in the order they are reached
+        final int[] reached;
+        int reachedCount;
+        // vertices in the order they are settled
+        final int[] settled;
+        int settledCount;
+
+        final IndexedDaryHeap heap;
+
+        Workspace(boolean arcScores)
+        {
+            this.vertexScores = new double[n];
+            this.arcScores = arcScores ? new double[targets.length] : null;
+            this.dist = new double[n];
+            this.sigma = new long[n];
+            this.delta = new double[n];
+            this.predHead = new int[n];
+            this.predNext = new int[targets.length];
+            this.reached = new int[n];
+            this.settled = weighted ? new int[n] : reached;
+            this.heap = weighted ? new IndexedDaryHeap(n) : null;
+
+            Arrays.fill(dist, Double.POSITIVE_INFINITY);
+            Arrays.fill(predHead, -1);
+        }
+
+        /**
+         * Compute the dependencies of a single source and add them to the scores.
+         *
+         * @param s the source
+         */
+        void pass(int s)
+        {
+            search(s, -1);
+
+            // S returns vertices in order of non-increasing distance from s
+            for (int i = settledCount - 1; i >= 0; i--) {
+                int w = settled[i];
+                double wSigma = sigma[w];
+                for (int arc = predHead[w]; arc != -1; arc = predNext[arc]) {
+                    int v = arcSources[arc];
+                    double c = (sigma[v] / wSigma) * (1d + delta[w]);
+                    delta[v] += c;
+                    if (arcScores != null) {
+                        arcScores[arc] += c;
+                    }
+                }
+                if (w != s) {
+                    vertexScores[w] += delta[w];
+                }
+            }
+
+            reset();
+        }
+
+        /**
+         * Sample shortest paths between random pairs of vertices.
+         *
+         * @param samples number of samples
+         * @param random the random number generator
+         */
+        void samplePaths(long samples, Random random)
+        {
+            for (long i = 0; i < samples; i++) {
+                int s = random.nextInt(n);
+                int t = random.nextInt(n - 1);
+                if (t >= s) {
+                    t++;
+                }
+
+                search(s, t);
+
+                if (sigma[t] > 0) {
+                    // walk back from t choosing each predecessor proportional to its path count
+                    int w = t;
+                    while (true) {
+                        double r = random.nextDouble() * sigma[w];
+                        int v = -1;
+                        for (int arc = predHead[w]; arc != -1; arc = predNext[arc]) {
+                            v = arcSources[arc];
+                            r -= sigma[v];
+                            if (r < 0d) {
+                                break;
+                            }
+                        }
+                        if (v == s) {
+                            break;
+                        }
+                        vertexScores[v] += 1d;
+                        w = v;
+                    }
+                }
+
+                reset();
+            }
+        }
+
+        /**
+         * Compute the distances, the number of shortest paths and the shortest path predecessors
+         * from a source.
+         *
+         * @param s the source
+         * @param t a target where the search can stop or -1 in order to search the whole graph
+         */
+        private void search(int s, int t)
+        {
+            dist[s] = 0d;
+            sigma[s] = 1L;
+            reached[reachedCount++] = s;
+
+            if (weighted) {
+                heap.insert(s, 0d);
+                while (!heap.isEmpty()) {
+                    int v = heap.deleteMin();
+                    settled[settledCount++] = v;
+                    if (v == t) {
+                        break;
+                    }
+                    double vDistance = dist[v];
+                    for (int arc = offsets[v], end = offsets[v + 1]; arc < end; arc++) {
+                        int w = targets[arc];
+                        if (w == v) {
+                            continue;
+                        }
+                        double eWeight = weights[arc];
+                        if (eWeight < 0d) {
+                            throw new IllegalArgumentException(negativeWeightMessage);
+                        }
+                        double d = vDistance + eWeight;
+                        double wDistance = dist[w];
+                        if (wDistance == Double.POSITIVE_INFINITY) {
+                            // w found for the first time
+                            dist[w] = d;
+                            reached[reachedCount++] = w;
+                            heap.insert(w, d);
+                            sigma[w] = 0L;
+                        } else if (wDistance > d) {
+                            // shorter path to w via v
+                            dist[w] = d;
+                            heap.decreaseKey(w, d);
+                            sigma[w] = 0L;
+                            predHead[w] = -1;
+                        } else if (wDistance < d) {
+                            continue;
+                        }
+                        addPredecessor(v, w, arc);
+                    }
+                }
+            } else {
+                int head = 0;
+                while (head < reachedCount) {
+                    int v = reached[head++];
+                    settledCount++;
+                    if (v == t) {
+                        break;
+                    }
+                    double d = dist[v] + 1d;
+                    for (int arc = offsets[v], end = offsets[v + 1]; arc < end; arc++) {
+                        int w = targets[arc];
+                        if (w == v) {
+                            continue;
+                        }
+                        double wDistance = dist[w];
+                        if (wDistance == Double.POSITIVE_INFINITY) {
+                            // w found for the first time
+                            dist[w] = d;
+                            reached[reachedCount++] = w;
+                        } else if (wDistance != d) {
+                            continue;
+                        }
+                        addPredecessor(v, w, arc);
+                    }
+                }
+            }
+        }
+
+        private void addPredecessor(int v, int w, int arc)
+        {
+            long sum = sigma[w] + sigma[v];
+            if (throwOnOverflow && sum < 0) {
+                throw new ArithmeticException("long overflow");
+            }
+            sigma[w] = sum;
+            predNext[arc] = predHead[w];
+            predHead[w] = arc;
+        }
+
+        private void reset()
+        {
+            for (int i = 0; i < reachedCount; i++) {
+                int v = reached[i];
+                dist[v] = Double.POSITIVE_INFINITY;
+                sigma[v] = 0L;
+                delta[v] = 0d;
+                predHead[v] = -1;
+            }
+            reachedCount = 0;
+            settledCount = 0;
+            if (heap != null) {
+                heap.clear();
+            }
+        }
+    }
+
+}
@@ -21,9 +21,11 @@ import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
 import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
 import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.alg.util.*;
 import org.jgrapht.graph.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * Closeness centrality.
@@ -52,7 +54,9 @@ import java.util.*;
  * Shortest paths are computed either by using Dijkstra's algorithm or Floyd-Warshall depending on
  * whether the graph has edges with negative edge weights. Thus, the running time is either $O(n (m
  * +n \log n))$ or $O(n^3)$ respectively, where $n$ is the number of vertices and $m$ the number of
- * edges of the graph.
+ * edges of the graph. Unweighted graphs are handled using a {@link MultiSourceBFS}, which executes
+ * the breadth-first searches of all vertices in batches of 64 and can process different batches in
+ * parallel using a user supplied {@link ThreadPoolExecutor}.
  * 
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -78,6 +82,10 @@ public class ClosenessCentrality<V, E>
      * The actual scores
      */
     protected Map<V, Double> scores;
+    /**
+     * Executor used by the breadth-first searches, can be null
+     */
+    private final ThreadPoolExecutor executor;
 
     /**
      * Construct a new instance. By default the centrality is normalized and computed using outgoing
@@ -99,10 +107,27 @@ public class ClosenessCentrality<V, E>
      *        number of vertices of the graph
      */
     public ClosenessCentrality(Graph<V, E> graph, boolean incoming, boolean normalize)
+    {
+        this(graph, incoming, normalize, null);
+    }
+
+    /**
+     * Construct a new instance.
+     * 
+     * @param graph the input graph
+     * @param incoming if true incoming paths are used, otherwise outgoing paths
+     * @param normalize whether to normalize by multiplying the closeness by $n-1$, where $n$ is the
+     *        number of vertices of the graph
+     * @param executor executor which is used by the breadth-first searches of unweighted graphs,
+     *        if null the searches are executed in the calling thread
+     */
+    public ClosenessCentrality(
+        Graph<V, E> graph, boolean incoming, boolean normalize, ThreadPoolExecutor executor)
     {
         this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
         this.incoming = incoming;
         this.normalize = normalize;
+        this.executor = executor;
         this.scores = null;
     }
 
@@ -141,12 +166,7 @@ public class ClosenessCentrality<V, E>
     protected ShortestPathAlgorithm<V, E> getShortestPathAlgorithm()
     {
         // setup graph
-        Graph<V, E> g;
-        if (incoming && graph.getType().isDirected()) {
-            g = new EdgeReversedGraph<>(graph);
-        } else {
-            g = graph;
-        }
+        Graph<V, E> g = getPathsGraph();
 
         // test if we can use Dijkstra
         boolean noNegativeWeights = true;
@@ -168,11 +188,29 @@ public class ClosenessCentrality<V, E>
         return alg;
     }
 
+    /**
+     * Get the graph whose outgoing paths are used for the computation.
+     * 
+     * @return the graph or its edge reversed view
+     */
+    private Graph<V, E> getPathsGraph()
+    {
+        if (incoming && graph.getType().isDirected()) {
+            return new EdgeReversedGraph<>(graph);
+        }
+        return graph;
+    }
+
     /**
      * Compute the centrality index
      */
     protected void compute()
     {
+        if (!graph.getType().isWeighted()) {
+            computeWithBreadthFirstSearch();
+            return;
+        }
+
         // create result container
         this.scores = new HashMap<>();
 
@@ -199,4 +237,40 @@ public class ClosenessCentrality<V, E>
         }
     }
 
+    /**
+     * Compute the centrality index of an unweighted graph using a bit-parallel multi-source
+     * breadth-first search. The score of each vertex is computed by
+     * {@link #getScore(MultiSourceBFS.DistanceStatistics, int)}.
+     */
+    protected void computeWithBreadthFirstSearch()
+    {
+        this.scores = new HashMap<>();
+
+        MultiSourceBFS<V, E> search = new MultiSourceBFS<>(getPathsGraph(), executor);
+        IndexedAdjacency<V, E> adjacency = search.getAdjacency();
+        MultiSourceBFS.DistanceStatistics statistics = search.computeStatistics();
+        for (V v : graph.vertexSet()) {
+            this.scores.put(v, getScore(statistics, adjacency.getVertexIndex(v)));
+        }
+    }
+
+    /**
+     * Compute the score of a vertex of an unweighted graph from its distance statistics.
+     * 
+     * @param statistics the distance statistics of all vertices
+     * @param v the index of the vertex
+     * @return the score of the vertex
+     */
+    protected double getScore(MultiSourceBFS.DistanceStatistics statistics, int v)
+    {
+        int n = statistics.size();
+        double sum = statistics.getReachedCount(v) < n ? Double.POSITIVE_INFINITY
+            : statistics.getDistanceSum(v);
+        if (normalize) {
+            return (n - 1) / sum;
+        } else {
+            return 1 / sum;
+        }
+    }
+
 }
@@ -17,22 +17,19 @@
  */
 package org.jgrapht.alg.scoring;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Deque;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import org.jgrapht.Graph;
 import org.jgrapht.GraphTests;
-import org.jgrapht.Graphs;
 import org.jgrapht.alg.interfaces.EdgeScoringAlgorithm;
-import org.jheaps.AddressableHeap;
-import org.jheaps.AddressableHeap.Handle;
-import org.jheaps.tree.PairingHeap;
+import org.jgrapht.alg.util.IndexedAdjacency;
+import org.jgrapht.util.CollectionUtil;
+import org.jgrapht.util.ConcurrencyUtil;
 
 /**
  * Edge betweenness centrality.
@@ -52,6 +49,12 @@ import org.jheaps.tree.PairingHeap;
  * for any normalization necessary due to duplicate shortest paths that might occur in undirected
  * graphs.
  * 
+ * <p>
+ * The single source computations operate on an index-based representation of the graph using
+ * primitive arrays which are reused across sources. If a {@link ThreadPoolExecutor} is supplied,
+ * the single source computations are performed in parallel. It is up to the user to handle the
+ * creation and termination of the executor, see {@link ConcurrencyUtil}.
+ * 
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  * 
@@ -65,6 +68,7 @@ public class EdgeBetweennessCentrality<V, E>
     private final boolean divideByTwo;
     private Map<E, Double> scores;
     private final OverflowStrategy overflowStrategy;
+    private final ThreadPoolExecutor executor;
 
     /**
      * Strategy followed when counting paths.
@@ -115,6 +119,27 @@ public class EdgeBetweennessCentrality<V, E>
     public EdgeBetweennessCentrality(
         Graph<V, E> graph, OverflowStrategy overflowStrategy, Iterable<V> startVertices)
     {
+        this(graph, overflowStrategy, startVertices, null);
+    }
+
+    /**
+     * Construct a new instance. It is up to the user to handle the creation and termination of the
+     * provided {@code executor}. For utility methods to manage a {@code ThreadPoolExecutor} see
+     * {@link ConcurrencyUtil}.
+     * 
+     * @param graph the input graph
+     * @param overflowStrategy strategy to use if overflow is detected
+     * @param startVertices vertices from which to start shortest path computations. This parameter
+     *        allows the user to compute edge centrality contributions only from a subset of the
+     *        vertices of the graph. If null the whole graph vertex set is used.
+     * @param executor executor which will be used for parallelization, or null in order to run
+     *        sequentially
+     */
+    public EdgeBetweennessCentrality(
+        Graph<V, E> graph, OverflowStrategy overflowStrategy, Iterable<V> startVertices,
+        ThreadPoolExecutor executor)
+    {
+        this.executor = executor;
         this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
         if (GraphTests.hasMultipleEdges(graph)) {
             throw new IllegalArgumentException("Graphs with multiple edges not supported");
@@ -136,8 +161,7 @@ public class EdgeBetweennessCentrality<V, E>
     public Map<E, Double> getScores()
     {
         if (scores == null) {
-            scores = graph.getType().isWeighted() ? new WeightedAlgorithm().getScores()
-                : new Algorithm().getScores();
+            scores = computeScores();
         }
         return Collections.unmodifiableMap(scores);
     }
@@ -149,189 +173,40 @@ public class EdgeBetweennessCentrality<V, E>
             throw new IllegalArgumentException("Cannot return score of unknown edge");
         }
         if (scores == null) {
-            scores = graph.getType().isWeighted() ? new WeightedAlgorithm().getScores()
-                : new Algorithm().getScores();
+            scores = computeScores();
         }
         return scores.get(e);
     }
 
-    /*
-     * The basic algorithm
+    /**
+     * Compute the scores.
+     *
+     * @return the scores
      */
-    private class Algorithm
+    private Map<E, Double> computeScores()
     {
-        protected Map<E, Double> scores = new HashMap<>();
-        protected Deque<V> stack = new ArrayDeque<>();
-
-        public Map<E, Double> getScores()
-        {
-            for (E e : graph.iterables().edges()) {
-                scores.put(e, 0d);
-            }
-            for (V v : startVertices) {
-                singleVertexUpdate(v);
-            }
-            if (divideByTwo) {
-                scores.forEach((e, score) -> scores.put(e, score / 2d));
-            }
-            return scores;
-        }
-
-        protected void singleVertexUpdate(V source)
-        {
-            // initialization
-            Map<V, List<E>> pred = new HashMap<>();
-            Map<V, Double> dist = new HashMap<>();
-            Map<V, Long> sigma = new HashMap<>();
-            Deque<V> queue = new ArrayDeque<>();
-
-            for (V v : graph.vertexSet()) {
-                sigma.put(v, 0l);
-            }
-            sigma.put(source, 1l);
-            dist.put(source, 0d);
-            queue.add(source);
-
-            // main loop
-            while (!queue.isEmpty()) {
-                V v = queue.remove();
-                stack.push(v);
-                double vDistance = dist.get(v);
-
-                for (E e : graph.outgoingEdgesOf(v)) {
-                    V w = Graphs.getOppositeVertex(graph, e, v);
-
-                    if (w.equals(v)) {
-                        // ignore self-loops
-                        continue;
-                    }
-
-                    // path discovery
-                    if (!dist.containsKey(w)) {
-                        dist.put(w, vDistance + 1d);
-                        queue.add(w);
-                    }
-
-                    // path counting
-                    double wDistance = dist.get(w);
-                    if (Double.compare(wDistance, vDistance + 1d) == 0) {
-                        long wCounter = sigma.get(w);
-                        long vCounter = sigma.get(v);
-                        long sum = wCounter + vCounter;
-                        if (overflowStrategy.equals(OverflowStrategy.THROW_EXCEPTION_ON_OVERFLOW)
-                            && sum < 0)
-                        {
-                            throw new ArithmeticException("long overflow");
-                        }
-                        sigma.put(w, sum);
-                        pred.computeIfAbsent(w, k -> new ArrayList<>()).add(e);
-                    }
-                }
-            }
-
-            // accumulation
-            accumulate(pred, sigma);
+        BrandesBetweennessEngine<V, E> engine = new BrandesBetweennessEngine<>(
+            graph, overflowStrategy.equals(OverflowStrategy.THROW_EXCEPTION_ON_OVERFLOW),
+            "Negative edge weights are not allowed");
+        IndexedAdjacency<V, E> adjacency = engine.getAdjacency();
+
+        List<Integer> sourceList = new ArrayList<>();
+        for (V v : startVertices) {
+            sourceList.add(adjacency.getVertexIndex(v));
         }
+        int[] sources = sourceList.stream().mapToInt(Integer::intValue).toArray();
+        double[] arcScores = engine.accumulate(sources, true, executor)[1];
 
-        protected void accumulate(Map<V, List<E>> pred, Map<V, Long> sigma)
-        {
-            Map<V, Double> delta = new HashMap<>();
-            for (V v : graph.iterables().vertices()) {
-                delta.put(v, 0d);
-            }
-            while (!stack.isEmpty()) {
-                V w = stack.pop();
-                List<E> wPred = pred.get(w);
-                if (wPred != null) {
-                    for (E e : wPred) {
-                        V v = Graphs.getOppositeVertex(graph, e, w);
-                        double c = (sigma.get(v).doubleValue() / sigma.get(w).doubleValue())
-                            * (1 + delta.get(w));
-                        scores.put(e, scores.get(e) + c);
-                        delta.put(v, delta.get(v) + c);
-                    }
-                }
-            }
+        // an undirected edge is represented by two arcs
+        Map<E, Double> scores = CollectionUtil.newHashMapWithExpectedSize(adjacency.edgeCount());
+        for (E e : graph.iterables().edges()) {
+            scores.put(e, 0d);
         }
-
-    }
-
-    /*
-     * Weighted variant where shortest paths are computed using edge weights.
-     */
-    private class WeightedAlgorithm
-        extends Algorithm
-    {
-        @Override
-        protected void singleVertexUpdate(V source)
-        {
-            // initialization
-            Map<V, List<E>> pred = new HashMap<>();
-            Map<V, AddressableHeap.Handle<Double, V>> dist = new HashMap<>();
-            Map<V, Long> sigma = new HashMap<>();
-            AddressableHeap<Double, V> heap = new PairingHeap<>();
-
-            for (V v : graph.vertexSet()) {
-                sigma.put(v, 0l);
-            }
-            sigma.put(source, 1l);
-            dist.put(source, heap.insert(0d, source));
-
-            // main loop
-            while (!heap.isEmpty()) {
-                Handle<Double, V> vHandle = heap.deleteMin();
-                V v = vHandle.getValue();
-                double vDistance = vHandle.getKey();
-                stack.push(v);
-
-                for (E e : graph.outgoingEdgesOf(v)) {
-                    V w = Graphs.getOppositeVertex(graph, e, v);
-
-                    if (w.equals(v)) {
-                        // ignore self-loops
-                        continue;
-                    }
-
-                    double eWeight = graph.getEdgeWeight(e);
-                    if (eWeight < 0d) {
-                        throw new IllegalArgumentException("Negative edge weights are not allowed");
-                    }
-                    double newDistance = vDistance + eWeight;
-
-                    // path discovery
-                    Handle<Double, V> wHandle = dist.get(w);
-
-                    if (wHandle == null) {
-                        wHandle = heap.insert(newDistance, w);
-                        dist.put(w, wHandle);
-                        sigma.put(w, 0l);
-                        pred.put(w, new ArrayList<>());
-                    } else if (Double.compare(wHandle.getKey(), newDistance) > 0) {
-                        wHandle.decreaseKey(newDistance);
-                        sigma.put(w, 0l);
-                        pred.put(w, new ArrayList<>());
-                    }
-
-                    // path counting
-                    if (Double.compare(wHandle.getKey(), newDistance) == 0) {
-                        long wCounter = sigma.get(w);
-                        long vCounter = sigma.get(v);
-                        long sum = wCounter + vCounter;
-                        if (overflowStrategy.equals(OverflowStrategy.THROW_EXCEPTION_ON_OVERFLOW)
-                            && sum < 0)
-                        {
-                            throw new ArithmeticException("long overflow");
-                        }
-                        sigma.put(w, sum);
-                        pred.computeIfAbsent(w, k -> new ArrayList<>()).add(e);
-                    }
-                }
-            }
-
-            // accumulation
-            accumulate(pred, sigma);
+        for (int arc = 0; arc < arcScores.length; arc++) {
+            double score = divideByTwo ? arcScores[arc] / 2d : arcScores[arc];
+            scores.merge(adjacency.getArcEdge(arc), score, Double::sum);
         }
-
+        return scores;
     }
 
 }
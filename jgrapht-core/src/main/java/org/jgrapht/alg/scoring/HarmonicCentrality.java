@@ -20,8 +20,10 @@ package org.jgrapht.alg.scoring;
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
 import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.alg.shortestpath.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * Harmonic centrality.
@@ -49,7 +51,8 @@ import java.util.*;
  * Shortest paths are computed either by using Dijkstra's algorithm or Floyd-Warshall depending on
  * whether the graph has edges with negative edge weights. Thus, the running time is either $O(n (m
  * + n \log n))$ or $O(n^3)$ respectively, where $n$ is the number of vertices and $m$ the number of
- * edges of the graph.
+ * edges of the graph. Unweighted graphs are handled using one breadth-first search per vertex, see
+ * {@link ClosenessCentrality}.
  *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -83,9 +86,30 @@ public class HarmonicCentrality<V, E>
         super(graph, incoming, normalize);
     }
 
+    /**
+     * Construct a new instance.
+     *
+     * @param graph the input graph
+     * @param incoming if true incoming paths are used, otherwise outgoing paths
+     * @param normalize whether to normalize by dividing the closeness by $n-1$, where $n$ is the
+     *        number of vertices of the graph
+     * @param executor executor which is used by the breadth-first searches of unweighted graphs,
+     *        if null the searches are executed in the calling thread
+     */
+    public HarmonicCentrality(
+        Graph<V, E> graph, boolean incoming, boolean normalize, ThreadPoolExecutor executor)
+    {
+        super(graph, incoming, normalize, executor);
+    }
+
     @Override
     protected void compute()
     {
+        if (!graph.getType().isWeighted()) {
+            computeWithBreadthFirstSearch();
+            return;
+        }
+
         // create result container
         this.scores = new HashMap<>();
 
@@ -112,4 +136,16 @@ public class HarmonicCentrality<V, E>
         }
     }
 
+    @Override
+    protected double getScore(MultiSourceBFS.DistanceStatistics statistics, int v)
+    {
+        int n = statistics.size();
+        double sum = statistics.getInverseDistanceSum(v);
+        if (normalize && n > 1) {
+            return sum / (n - 1);
+        } else {
+            return sum;
+        }
+    }
+
 }
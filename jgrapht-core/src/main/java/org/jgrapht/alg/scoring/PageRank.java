@@ -19,8 +19,11 @@ package org.jgrapht.alg.scoring;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.util.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * PageRank implementation.
@@ -52,6 +55,17 @@ import java.util.*;
  * edges of $v$.
  * </p>
  *
+ * <p>
+ * The implementation maps the vertices to integers and stores the incoming edges of the graph in a
+ * packed Compressed Sparse Row (CSR) array together with the edge weights. Each iteration is then
+ * a pull-based update where each vertex collects the contributions of its in-neighbors. When a
+ * {@link ThreadPoolExecutor} is supplied, the vertices are partitioned into blocks with roughly the
+ * same number of incoming edges and each iteration updates the blocks in parallel. It is up to the
+ * user to handle the creation and termination of the executor, see {@link ConcurrencyUtil}. The
+ * maximum change of the scores in each iteration can be inspected using
+ * {@link #getConvergenceHistory()}.
+ * </p>
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  *
@@ -76,6 +90,12 @@ public class PageRank<V, E>
      */
     public static final double DAMPING_FACTOR_DEFAULT = 0.85d;
 
+    /**
+     * Number of blocks per thread of the executor, in order to balance the load in the parallel
+     * version.
+     */
+    private static final int BLOCKS_PER_THREAD = 4;
+
     /**
      * The input graph
      */
@@ -97,11 +117,21 @@ public class PageRank<V, E>
      */
     private final double tolerance;
 
+    /**
+     * Executor used for parallelization, or null for the sequential version
+     */
+    private final ThreadPoolExecutor executor;
+
     /**
      * The result
      */
     private Map<V, Double> scores;
 
+    /**
+     * The maximum change of the scores in each iteration
+     */
+    private List<Double> convergenceHistory;
+
     /**
      * Create and execute an instance of PageRank.
      *
@@ -145,8 +175,44 @@ public class PageRank<V, E>
      *        iterations change less than this value
      */
     public PageRank(Graph<V, E> graph, double dampingFactor, int maxIterations, double tolerance)
+    {
+        this(graph, dampingFactor, maxIterations, tolerance, null);
+    }
+
+    /**
+     * Create and execute a parallel instance of PageRank. It is up to the user to handle the
+     * creation and termination of the provided {@code executor}. For utility methods to manage a
+     * {@code ThreadPoolExecutor} see {@link ConcurrencyUtil}.
+     *
+     * @param graph the input graph
+     * @param executor executor which will be used for parallelization
+     */
+    public PageRank(Graph<V, E> graph, ThreadPoolExecutor executor)
+    {
+        this(
+            graph, DAMPING_FACTOR_DEFAULT, MAX_ITERATIONS_DEFAULT, TOLERANCE_DEFAULT,
+            Objects.requireNonNull(executor, "Executor cannot be null"));
+    }
+
+    /**
+     * Create and execute an instance of PageRank. It is up to the user to handle the creation and
+     * termination of the provided {@code executor}. For utility methods to manage a
+     * {@code ThreadPoolExecutor} see {@link ConcurrencyUtil}.
+     *
+     * @param graph the input graph
+     * @param dampingFactor the damping factor
+     * @param maxIterations the maximum number of iterations to perform
+     * @param tolerance the calculation will stop if the difference of PageRank values between
+     *        iterations change less than this value
+     * @param executor executor which will be used for parallelization, or null in order to run
+     *        sequentially
+     */
+    public PageRank(
+        Graph<V, E> graph, double dampingFactor, int maxIterations, double tolerance,
+        ThreadPoolExecutor executor)
     {
         this.graph = graph;
+        this.executor = executor;
 
         if (maxIterations <= 0) {
             throw new IllegalArgumentException("Maximum iterations must be positive");
@@ -188,6 +254,19 @@ public class PageRank<V, E>
         return getScores().get(v);
     }
 
+    /**
+     * Get the maximum absolute change of any vertex score in each iteration which was performed.
+     * The size of the list is the number of iterations and the last value is below the tolerance
+     * if and only if the computation converged before reaching the maximum number of iterations.
+     *
+     * @return the maximum change of the scores in each iteration
+     */
+    public List<Double> getConvergenceHistory()
+    {
+        getScores();
+        return convergenceHistory;
+    }
+
     /**
      * The actual implementation.
      *
@@ -196,175 +275,174 @@ public class PageRank<V, E>
      * allow the garbage collector to acquire all auxiliary memory used during the execution of the
      * algorithm.
      *
-     * @author Dimitrios Michail
+     * <p>
+     * The incoming edges of each vertex are stored in a packed CSR array and each iteration pulls
+     * the contributions of the in-neighbors of every vertex. Since each vertex only writes its own
+     * score, the vertex range can be split into blocks which are updated independently. Each block
+     * also reports its maximum score change and its part of the teleport probability of the next
+     * iteration, so a single synchronization point per iteration suffices.
      *
-     * @param <V> the graph type
-     * @param <E> the edge type
+     * @author Dimitrios Michail
      */
     private class Algorithm
     {
-        private int totalVertices;
-        private boolean isWeighted;
+        private final int totalVertices;
+        private final boolean isWeighted;
 
-        private Map<V, Integer> vertexIndexMap;
-        private V[] vertexMap;
+        private final IndexedAdjacency<V, E> inAdjacency;
+        private final int[] inOffsets;
+        private final int[] inNeighbors;
+        private final double[] inWeights;
 
-        private double[] weightSum;
+        private final double[] weightSum;
+        private final int[] outDegree;
         private double[] curScore;
         private double[] nextScore;
-        private int[] outDegree;
-        private ArrayList<int[]> adjList;
-        private ArrayList<double[]> weightsList;
 
-        @SuppressWarnings("unchecked")
         public Algorithm()
         {
-            this.totalVertices = graph.vertexSet().size();
             this.isWeighted = graph.getType().isWeighted();
 
             /*
-             * Initialize score, map vertices to [0,n) and pre-compute degrees and adjacency lists
+             * Map vertices to [0,n), pack the incoming edges and pre-compute degrees
              */
+            this.inAdjacency = IndexedAdjacency.incoming(graph);
+            this.totalVertices = inAdjacency.vertexCount();
+            this.inOffsets = inAdjacency.getOffsets();
+            this.inNeighbors = inAdjacency.getTargets();
+            this.inWeights = inAdjacency.getWeights();
+
             this.curScore = new double[totalVertices];
             this.nextScore = new double[totalVertices];
-            this.vertexIndexMap = new HashMap<>();
-            this.vertexMap = (V[]) new Object[totalVertices];
             this.outDegree = new int[totalVertices];
-            this.adjList = new ArrayList<>(totalVertices);
 
             double initScore = 1.0d / totalVertices;
-            int i = 0;
-            for (V v : graph.vertexSet()) {
-                vertexIndexMap.put(v, i);
-                vertexMap[i] = v;
-                outDegree[i] = graph.outDegreeOf(v);
-                curScore[i] = initScore;
-                i++;
-            }
+            Arrays.fill(curScore, initScore);
 
+            /*
+             * Compute the out-degrees and weight sums from the stored arcs, which contain the
+             * self-loops of undirected graphs once, so that the scores which each vertex sends
+             * over its arcs add up to its own score.
+             */
+            for (int arc = 0; arc < inNeighbors.length; arc++) {
+                outDegree[inNeighbors[arc]]++;
+            }
             if (isWeighted) {
                 this.weightSum = new double[totalVertices];
-                this.weightsList = new ArrayList<>(totalVertices);
-
-                for (i = 0; i < totalVertices; i++) {
-                    V v = vertexMap[i];
-                    int[] inNeighbors = new int[graph.inDegreeOf(v)];
-                    double[] edgeWeights = new double[graph.inDegreeOf(v)];
-
-                    int j = 0;
-                    for (E e : graph.incomingEdgesOf(v)) {
-                        V w = Graphs.getOppositeVertex(graph, e, v);
-                        Integer mappedVertexId = vertexIndexMap.get(w);
-                        inNeighbors[j] = mappedVertexId;
-                        double edgeWeight = graph.getEdgeWeight(e);
-                        edgeWeights[j] += edgeWeight;
-                        weightSum[mappedVertexId] += edgeWeight;
-                        j++;
-                    }
-                    weightsList.add(edgeWeights);
-                    adjList.add(inNeighbors);
+                for (int arc = 0; arc < inNeighbors.length; arc++) {
+                    weightSum[inNeighbors[arc]] += inWeights[arc];
                 }
             } else {
-                for (i = 0; i < totalVertices; i++) {
-                    V v = vertexMap[i];
-                    int[] inNeighbors = new int[graph.inDegreeOf(v)];
-                    int j = 0;
-                    for (E e : graph.incomingEdgesOf(v)) {
-                        V w = Graphs.getOppositeVertex(graph, e, v);
-                        inNeighbors[j++] = vertexIndexMap.get(w);
-                    }
-                    adjList.add(inNeighbors);
-                }
+                this.weightSum = null;
             }
         }
 
         public Map<V, Double> getScores()
         {
             // compute
-            if (isWeighted) {
-                runWeighted();
+            if (executor == null) {
+                run(new int[] { 0, totalVertices });
             } else {
-                run();
+                // the maximum pool size of an unbounded pool is Integer.MAX_VALUE
+                int blocks = (int) Math
+                    .min(
+                        (long) executor.getMaximumPoolSize() * BLOCKS_PER_THREAD,
+                        Math.max(1, totalVertices));
+                run(inAdjacency.partition(blocks));
             }
 
             // make results user friendly
             Map<V, Double> scores = new HashMap<>();
             for (int i = 0; i < totalVertices; i++) {
-                V v = vertexMap[i];
+                V v = inAdjacency.getVertex(i);
                 scores.put(v, curScore[i]);
             }
             return scores;
         }
 
-        private void run()
+        private void run(int[] blocks)
         {
+            List<Double> history = new ArrayList<>();
+
             double maxChange = tolerance;
             int iterations = maxIterations;
+            double teleport = teleProp(curScore, 0, totalVertices);
 
             while (iterations > 0 && maxChange >= tolerance) {
-                double r = teleProp();
+                double r = teleport / totalVertices;
 
                 maxChange = 0d;
-                for (int i = 0; i < totalVertices; i++) {
-                    double contribution = 0d;
-                    for (int w : adjList.get(i)) {
-                        contribution += dampingFactor * curScore[w] / outDegree[w];
+                teleport = 0d;
+                if (blocks.length == 2) {
+                    double[] result = update(r, blocks[0], blocks[1]);
+                    maxChange = result[0];
+                    teleport = result[1];
+                } else {
+                    List<Callable<double[]>> tasks = new ArrayList<>(blocks.length - 1);
+                    for (int b = 0; b < blocks.length - 1; b++) {
+                        int from = blocks[b];
+                        int to = blocks[b + 1];
+                        tasks.add(() -> update(r, from, to));
+                    }
+                    for (double[] result : ConcurrencyUtil.invokeAll(executor, tasks)) {
+                        maxChange = Math.max(maxChange, result[0]);
+                        teleport += result[1];
                     }
-
-                    double vOldValue = curScore[i];
-                    double vNewValue = r + contribution;
-                    maxChange = Math.max(maxChange, Math.abs(vNewValue - vOldValue));
-                    nextScore[i] = vNewValue;
                 }
 
                 // progress
+                history.add(maxChange);
                 swapScores();
                 iterations--;
             }
+
+            convergenceHistory = Collections.unmodifiableList(history);
         }
 
-        private void runWeighted()
+        /**
+         * Compute the next score of the vertices in the range $[from, to)$.
+         *
+         * @param r the teleport probability of the current iteration
+         * @param from the first vertex of the range
+         * @param to the vertex after the last vertex of the range
+         * @return the maximum score change in the range and the contribution of the range to the
+         *         teleport probability of the next iteration
+         */
+        private double[] update(double r, int from, int to)
         {
-            double maxChange = tolerance;
-            int iterations = maxIterations;
-
-            while (iterations > 0 && maxChange >= tolerance) {
-                double r = teleProp();
-
-                maxChange = 0d;
-                for (int i = 0; i < totalVertices; i++) {
-                    double contribution = 0d;
-
-                    int[] neighbors = adjList.get(i);
-                    double[] weights = weightsList.get(i);
-                    for (int j = 0, getLength = neighbors.length; j < getLength; j++) {
-                        int w = neighbors[j];
-                        contribution += dampingFactor * curScore[w] * weights[j] / weightSum[w];
+            double maxChange = 0d;
+            for (int i = from; i < to; i++) {
+                double contribution = 0d;
+                if (isWeighted) {
+                    for (int j = inOffsets[i], end = inOffsets[i + 1]; j < end; j++) {
+                        int w = inNeighbors[j];
+                        contribution += dampingFactor * curScore[w] * inWeights[j] / weightSum[w];
+                    }
+                } else {
+                    for (int j = inOffsets[i], end = inOffsets[i + 1]; j < end; j++) {
+                        int w = inNeighbors[j];
+                        contribution += dampingFactor * curScore[w] / outDegree[w];
                     }
-
-                    double vOldValue = curScore[i];
-                    double vNewValue = r + contribution;
-                    maxChange = Math.max(maxChange, Math.abs(vNewValue - vOldValue));
-                    nextScore[i] = vNewValue;
                 }
 
-                // progress
-                swapScores();
-                iterations--;
+                double vOldValue = curScore[i];
+                double vNewValue = r + contribution;
+                maxChange = Math.max(maxChange, Math.abs(vNewValue - vOldValue));
+                nextScore[i] = vNewValue;
             }
+            return new double[] { maxChange, teleProp(nextScore, from, to) };
         }
 
-        private double teleProp()
+        private double teleProp(double[] score, int from, int to)
         {
             double r = 0d;
-            for (int i = 0; i < totalVertices; i++) {
+            for (int i = from; i < to; i++) {
                 if (outDegree[i] > 0) {
-                    r += (1d - dampingFactor) * curScore[i];
+                    r += (1d - dampingFactor) * score[i];
                 } else {
-                    r += curScore[i];
+                    r += score[i];
                 }
             }
-            r /= totalVertices;
             return r;
         }
 
@@ -19,11 +19,10 @@ package org.jgrapht.alg.shortestpath;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
-import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
-import org.jgrapht.alg.util.*;
-import org.jgrapht.graph.*;
 
+import java.nio.file.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * An admissible heuristic for the A* algorithm using a set of landmarks and the triangle
@@ -37,7 +36,9 @@ import java.util.*;
  * distances to and from the landmarks and the fact that shortest path distances obey the
  * triangle-inequality. The heuristic's space requirement is $O(n)$ per landmark where n is the
  * number of vertices of the graph. In case of undirected graphs only one Dijkstra's algorithm
- * execution is performed per landmark.
+ * execution is performed per landmark. The distances are stored in an {@link ALTLandmarkTable},
+ * which may be computed in parallel, stored in reduced precision and persisted to a file. Landmarks
+ * can be chosen using the strategies of {@link ALTLandmarkSelection}.
  *
  * <p>
  * The method generally abbreviated as ALT (from A*, Landmarks and Triangle inequality) is described
@@ -69,11 +70,7 @@ import java.util.*;
 public class ALTAdmissibleHeuristic<V, E>
     implements AStarAdmissibleHeuristic<V>
 {
-    private final Graph<V, E> graph;
-    private final Comparator<Double> comparator;
-    private final Map<V, Map<V, Double>> fromLandmark;
-    private final Map<V, Map<V, Double>> toLandmark;
-    private final boolean directed;
+    private final ALTLandmarkTable<V> table;
 
     /**
      * Constructs a new {@link AStarAdmissibleHeuristic} using a set of landmarks.
@@ -86,32 +83,56 @@ public class ALTAdmissibleHeuristic<V, E>
      */
     public ALTAdmissibleHeuristic(Graph<V, E> graph, Set<V> landmarks)
     {
-        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        this(graph, landmarks, ALTLandmarkTable.Precision.DOUBLE, null);
+    }
+
+    /**
+     * Constructs a new {@link AStarAdmissibleHeuristic} using a set of landmarks, whose distances
+     * are computed in parallel and stored using the given precision.
+     *
+     * @param graph the graph
+     * @param landmarks a set of vertices of the graph which will be used as landmarks
+     * @param precision the precision of the stored distances
+     * @param executor the executor used to compute the distances of different landmarks in
+     *        parallel, or null in order to compute them sequentially
+     *
+     * @throws IllegalArgumentException if no landmarks are provided
+     * @throws IllegalArgumentException if the graph contains edges with negative weights
+     */
+    public ALTAdmissibleHeuristic(
+        Graph<V, E> graph, Set<V> landmarks, ALTLandmarkTable.Precision precision,
+        ThreadPoolExecutor executor)
+    {
+        Objects.requireNonNull(graph, "Graph cannot be null");
         Objects.requireNonNull(landmarks, "Landmarks cannot be null");
         if (landmarks.isEmpty()) {
             throw new IllegalArgumentException("At least one landmark must be provided");
         }
-        this.fromLandmark = new HashMap<>();
-        if (graph.getType().isDirected()) {
-            this.directed = true;
-            this.toLandmark = new HashMap<>();
-        } else if (graph.getType().isUndirected()) {
-            this.directed = false;
-            this.toLandmark = this.fromLandmark;
-        } else {
+        if (!graph.getType().isDirected() && !graph.getType().isUndirected()) {
             throw new IllegalArgumentException("Graph must be directed or undirected");
         }
-        this.comparator = new ToleranceDoubleComparator();
+        this.table = new ALTLandmarkTable<>(graph, landmarks, precision, executor);
+    }
 
-        // precomputation and validation
-        for (V v : landmarks) {
-            for (E e : graph.edgesOf(v)) {
-                if (comparator.compare(graph.getEdgeWeight(e), 0d) < 0) {
-                    throw new IllegalArgumentException("Graph edge weights cannot be negative");
-                }
-            }
-            precomputeToFromLandmark(v);
-        }
+    /**
+     * Constructs a new {@link AStarAdmissibleHeuristic} using a precomputed landmark table, for
+     * example one read using {@link ALTLandmarkTable#read(Graph, Path)}.
+     *
+     * @param table the landmark table
+     */
+    public ALTAdmissibleHeuristic(ALTLandmarkTable<V> table)
+    {
+        this.table = Objects.requireNonNull(table, "Landmark table cannot be null");
+    }
+
+    /**
+     * Get the landmark table used by this heuristic.
+     *
+     * @return the landmark table
+     */
+    public ALTLandmarkTable<V> getLandmarkTable()
+    {
+        return table;
     }
 
     /**
@@ -126,86 +147,18 @@ public class ALTAdmissibleHeuristic<V, E>
     @Override
     public double getCostEstimate(V u, V t)
     {
-        double maxEstimate = 0d;
-
-        /*
-         * Special case, source equals target
-         */
-        if (u.equals(t)) {
-            return maxEstimate;
-        }
-
-        /*
-         * Special case, source is landmark
-         */
-        if (fromLandmark.containsKey(u)) {
-            return fromLandmark.get(u).get(t);
-        }
-
-        /*
-         * Special case, target is landmark
-         */
-        if (toLandmark.containsKey(t)) {
-            return toLandmark.get(t).get(u);
-        }
-
-        /*
-         * Compute from landmarks
-         */
-        for (V l : fromLandmark.keySet()) {
-            double estimate;
-            Map<V, Double> from = fromLandmark.get(l);
-            if (directed) {
-                Map<V, Double> to = toLandmark.get(l);
-                estimate = Math.max(to.get(u) - to.get(t), from.get(t) - from.get(u));
-            } else {
-                estimate = Math.abs(from.get(u) - from.get(t));
-            }
-
-            // max over all landmarks
-            if (Double.isFinite(estimate)) {
-                maxEstimate = Math.max(maxEstimate, estimate);
-            }
-        }
-
-        return maxEstimate;
-    }
-
-    /**
-     * Compute all distances to and from a landmark
-     *
-     * @param landmark the landmark
-     */
-    private void precomputeToFromLandmark(V landmark)
-    {
-        // compute distances from landmark
-        SingleSourcePaths<V, E> fromLandmarkPaths =
-            new DijkstraShortestPath<>(graph).getPaths(landmark);
-        Map<V, Double> fromLandMarkDistances = new HashMap<>();
-        for (V v : graph.vertexSet()) {
-            fromLandMarkDistances.put(v, fromLandmarkPaths.getWeight(v));
-        }
-        fromLandmark.put(landmark, fromLandMarkDistances);
-
-        // compute distances to landmark (using reverse graph)
-        if (directed) {
-            Graph<V, E> reverseGraph = new EdgeReversedGraph<>(graph);
-            SingleSourcePaths<V, E> toLandmarkPaths =
-                new DijkstraShortestPath<>(reverseGraph).getPaths(landmark);
-            Map<V, Double> toLandMarkDistances = new HashMap<>();
-            for (V v : graph.vertexSet()) {
-                toLandMarkDistances.put(v, toLandmarkPaths.getWeight(v));
-            }
-            toLandmark.put(landmark, toLandMarkDistances);
-        }
+        return table.getLowerBound(u, t);
     }
 
     /**
      * {@inheritDoc}
+     *
+     * <p>
+     * The heuristic is consistent if the landmark distances are stored using double precision.
      */
     @Override
     public <ET> boolean isConsistent(Graph<V, ET> graph)
     {
-        return true;
+        return table.getPrecision() == ALTLandmarkTable.Precision.DOUBLE;
     }
 }
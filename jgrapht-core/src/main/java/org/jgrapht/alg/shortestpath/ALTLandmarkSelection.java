@@ -0,0 +1,355 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.drawing.model.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Landmark selection strategies for {@link ALTAdmissibleHeuristic}.
+ *
+ * <p>
+ * The quality of the lower bounds of the ALT heuristic depends heavily on the landmarks. Good
+ * landmarks are far away from each other, so that for most queries some landmark lies "behind"
+ * the source or "after" the target. The strategies of this class are described in the following
+ * papers:
+ * <ul>
+ * <li>Andrew Goldberg and Chris Harrelson. Computing the shortest path: A* Search Meets Graph
+ * Theory. In Proceedings of the sixteenth annual ACM-SIAM symposium on Discrete algorithms (SODA'
+ * 05), 156--165, 2005.</li>
+ * <li>Andrew Goldberg and Renato Werneck. Computing Point-to-Point Shortest Paths from External
+ * Memory. In Proceedings of the 7th Workshop on Algorithm Engineering and Experiments (ALENEX'05),
+ * 26--40, 2005.</li>
+ * </ul>
+ *
+ * <p>
+ * All strategies measure distances in the underlying undirected graph, using the edge weights of
+ * the graph, which must be non-negative. If the number of requested landmarks is at least the
+ * number of vertices, all vertices are returned.
+ *
+ * @author agent
+ */
+public class ALTLandmarkSelection
+{
+    private ALTLandmarkSelection()
+    {
+    }
+
+    /**
+     * Select landmarks using the farthest strategy. The first landmark is the vertex farthest
+     * from a random vertex. Each following landmark is the vertex farthest from all selected
+     * landmarks. Vertices which are not reachable from the selected landmarks are considered
+     * farthest, so that every connected component eventually receives a landmark.
+     *
+     * @param graph the graph
+     * @param count the number of landmarks
+     * @param rng the random number generator
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @return the landmarks in the order of their selection
+     * @throws IllegalArgumentException if the number of landmarks is not positive or if the graph
+     *         contains edges with negative weights
+     */
+    public static <V, E> Set<V> farthest(Graph<V, E> graph, int count, Random rng)
+    {
+        Selection<V, E> selection = new Selection<>(graph, count);
+        if (selection.selectsAll()) {
+            return selection.all();
+        }
+        Objects.requireNonNull(rng, "Random number generator cannot be null");
+
+        int n = selection.n;
+        double[] dist = new double[n];
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        selection.search(rng.nextInt(n), dist);
+        int next = argMax(dist);
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        while (selection.size() < count) {
+            selection.add(next);
+            // distances from the set of landmarks are updated incrementally
+            selection.search(next, dist);
+            next = argMax(dist);
+        }
+        return selection.landmarks();
+    }
+
+    /**
+     * Select landmarks using the avoid strategy. For each landmark, a shortest path tree is grown
+     * from a random root. Each vertex $v$ is weighted by the difference between $d(r,v)$ and the
+     * lower bound on $d(r,v)$ given by the landmarks selected so far. The size of a vertex is the
+     * total weight of its subtree, or zero if its subtree contains a landmark. Starting from the
+     * root, the child of maximum size is followed until a leaf is reached, which becomes the next
+     * landmark. Thus new landmarks are placed in regions which are poorly covered.
+     *
+     * @param graph the graph
+     * @param count the number of landmarks
+     * @param rng the random number generator
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @return the landmarks in the order of their selection
+     * @throws IllegalArgumentException if the number of landmarks is not positive or if the graph
+     *         contains edges with negative weights
+     */
+    public static <V, E> Set<V> avoid(Graph<V, E> graph, int count, Random rng)
+    {
+        Selection<V, E> selection = new Selection<>(graph, count);
+        if (selection.selectsAll()) {
+            return selection.all();
+        }
+        Objects.requireNonNull(rng, "Random number generator cannot be null");
+
+        int n = selection.n;
+        List<double[]> landmarkDistances = new ArrayList<>();
+        double[] dist = new double[n];
+        double[] rootDist = new double[n];
+        int[] parent = new int[n];
+        int[] order = new int[n];
+        double[] size = new double[n];
+        boolean[] covered = new boolean[n];
+        int[] bestChild = new int[n];
+
+        while (selection.size() < count) {
+            int root;
+            do {
+                root = rng.nextInt(n);
+            } while (selection.contains(root));
+
+            Arrays.fill(rootDist, Double.POSITIVE_INFINITY);
+            int settled = selection.search(root, rootDist, parent, order);
+
+            // compute the sizes bottom-up
+            for (int i = 0; i < settled; i++) {
+                int v = order[i];
+                double bound = 0d;
+                for (double[] d : landmarkDistances) {
+                    double estimate = Math.abs(d[root] - d[v]);
+                    if (estimate > bound) {
+                        bound = estimate;
+                    }
+                }
+                size[v] = rootDist[v] - bound;
+                covered[v] = selection.contains(v);
+                bestChild[v] = -1;
+            }
+            for (int i = settled - 1; i > 0; i--) {
+                int v = order[i];
+                int p = parent[v];
+                if (covered[v]) {
+                    covered[p] = true;
+                    size[v] = 0d;
+                } else {
+                    size[p] += size[v];
+                }
+                if (bestChild[p] == -1 || size[v] > size[bestChild[p]]) {
+                    bestChild[p] = v;
+                }
+            }
+
+            // follow the children of maximum size
+            int v = root;
+            while (bestChild[v] != -1 && size[bestChild[v]] > 0d) {
+                v = bestChild[v];
+            }
+            selection.add(v);
+
+            double[] d = new double[n];
+            Arrays.fill(d, Double.POSITIVE_INFINITY);
+            selection.search(v, d);
+            landmarkDistances.add(d);
+        }
+        return selection.landmarks();
+    }
+
+    /**
+     * Select landmarks using the planar strategy, which requires a planar embedding of the graph,
+     * such as the coordinates of the vertices of a road network. The vertex $c$ closest to the
+     * center of the bounding box of the embedding is found and the plane is divided into sectors
+     * around $c$, each containing approximately the same number of vertices. From each sector the
+     * vertex farthest from $c$ becomes a landmark.
+     *
+     * @param graph the graph
+     * @param count the number of landmarks
+     * @param coordinates the coordinates of each vertex
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @return the landmarks in the order of their selection
+     * @throws IllegalArgumentException if the number of landmarks is not positive or if the graph
+     *         contains edges with negative weights
+     */
+    public static <V, E> Set<V> planar(
+        Graph<V, E> graph, int count, Function<V, Point2D> coordinates)
+    {
+        Selection<V, E> selection = new Selection<>(graph, count);
+        if (selection.selectsAll()) {
+            return selection.all();
+        }
+        Objects.requireNonNull(coordinates, "Coordinates cannot be null");
+
+        int n = selection.n;
+        double[] x = new double[n];
+        double[] y = new double[n];
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (int v = 0; v < n; v++) {
+            Point2D point = Objects
+                .requireNonNull(coordinates.apply(selection.adjacency.getVertex(v)));
+            x[v] = point.getX();
+            y[v] = point.getY();
+            minX = Math.min(minX, x[v]);
+            minY = Math.min(minY, y[v]);
+            maxX = Math.max(maxX, x[v]);
+            maxY = Math.max(maxY, y[v]);
+        }
+        double centerX = (minX + maxX) / 2;
+        double centerY = (minY + maxY) / 2;
+        int center = 0;
+        for (int v = 1; v < n; v++) {
+            if (Math.hypot(x[v] - centerX, y[v] - centerY) < Math
+                .hypot(x[center] - centerX, y[center] - centerY))
+            {
+                center = v;
+            }
+        }
+
+        double[] dist = new double[n];
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        selection.search(center, dist);
+
+        // sort the other vertices by their angle around the center
+        Integer[] byAngle = new Integer[n - 1];
+        double[] angle = new double[n];
+        for (int v = 0, i = 0; v < n; v++) {
+            angle[v] = Math.atan2(y[v] - y[center], x[v] - x[center]);
+            if (v != center) {
+                byAngle[i++] = v;
+            }
+        }
+        Arrays.sort(byAngle, Comparator.comparingDouble(v -> angle[v]));
+
+        for (int s = 0; s < count; s++) {
+            int from = (int) ((long) s * byAngle.length / count);
+            int to = (int) ((long) (s + 1) * byAngle.length / count);
+            int farthest = -1;
+            for (int i = from; i < to; i++) {
+                int v = byAngle[i];
+                if (farthest == -1 || dist[v] > dist[farthest]) {
+                    farthest = v;
+                }
+            }
+            if (farthest != -1) {
+                selection.add(farthest);
+            }
+        }
+        return selection.landmarks();
+    }
+
+    /**
+     * Index of the maximum distance, where infinite distances are larger than any finite one.
+     */
+    private static int argMax(double[] dist)
+    {
+        int max = 0;
+        for (int v = 1; v < dist.length; v++) {
+            if (dist[v] > dist[max]) {
+                max = v;
+            }
+        }
+        return max;
+    }
+
+    /**
+     * The state of a landmark selection.
+     */
+    private static class Selection<V, E>
+    {
+        final int n;
+        final int count;
+        final IndexedAdjacency<V, E> adjacency;
+        final IndexedDaryHeap heap;
+        final Set<V> landmarks;
+        final boolean[] selected;
+
+        Selection(Graph<V, E> graph, int count)
+        {
+            Objects.requireNonNull(graph, "Graph cannot be null");
+            if (count <= 0) {
+                throw new IllegalArgumentException("Number of landmarks must be positive");
+            }
+            Graph<V, E> undirected =
+                graph.getType().isDirected() ? new AsUndirectedGraph<>(graph) : graph;
+            this.adjacency = IndexedAdjacency.outgoing(undirected);
+            ALTLandmarkTable.requireNonNegativeWeights(adjacency.getWeights());
+            this.n = adjacency.vertexCount();
+            this.count = count;
+            this.heap = new IndexedDaryHeap(n);
+            this.landmarks = new LinkedHashSet<>();
+            this.selected = new boolean[n];
+        }
+
+        boolean selectsAll()
+        {
+            return count >= n;
+        }
+
+        Set<V> all()
+        {
+            return new LinkedHashSet<>(adjacency.getVertices());
+        }
+
+        int size()
+        {
+            return landmarks.size();
+        }
+
+        boolean contains(int v)
+        {
+            return selected[v];
+        }
+
+        void add(int v)
+        {
+            selected[v] = true;
+            landmarks.add(adjacency.getVertex(v));
+        }
+
+        Set<V> landmarks()
+        {
+            return landmarks;
+        }
+
+        int search(int source, double[] dist)
+        {
+            return search(source, dist, null, null);
+        }
+
+        int search(int source, double[] dist, int[] parent, int[] order)
+        {
+            return ALTLandmarkTable.dijkstra(
+                adjacency.getOffsets(), adjacency.getTargets(), adjacency.getWeights(), source,
+                dist, parent, order, heap);
+        }
+    }
+
+}
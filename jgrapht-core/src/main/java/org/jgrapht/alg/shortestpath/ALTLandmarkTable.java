@@ -0,0 +1,773 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Precomputed distances from and to a set of landmarks, used by {@link ALTAdmissibleHeuristic}.
+ *
+ * <p>
+ * The table stores for every vertex $v$ and landmark $l$ the shortest path distances $d(l,v)$ and,
+ * if the graph is directed, $d(v,l)$. The distances of each vertex to all landmarks are stored
+ * contiguously in primitive arrays indexed by the vertex index, which is the position of the
+ * vertex in the iteration order of {@link Graph#vertexSet()}. Graphs implementing
+ * {@link CSRAdjacency} have integer vertices $[0, n)$ which are used as their own indices. A lower
+ * bound on the distance from a vertex $u$ to a vertex $t$ is computed using the triangle
+ * inequality as $\max_l \max\{d(u,l) - d(t,l), d(l,t) - d(l,u)\}$.
+ *
+ * <p>
+ * The distances can be stored using different {@link Precision precisions}. Double precision
+ * stores the exact distances using $8$ bytes per entry. Single precision uses $4$ bytes per entry
+ * and stores each distance rounded down. Quantized precision uses $2$ bytes per entry and stores
+ * each distance as a multiple of a unit, which is chosen separately for each landmark so that the
+ * largest finite distance is representable, rounded down. In both cases the lower bounds are
+ * reduced by the maximum rounding error, thus they remain admissible but are slightly weaker and
+ * not necessarily consistent.
+ *
+ * <p>
+ * The distances of different landmarks are computed in parallel using Dijkstra's algorithm and a
+ * {@link ThreadPoolExecutor}, which is supplied to this class from outside. Computed tables can be
+ * written to a file using {@link #write(Path)} and read back using {@link #read(Graph, Path)}, so
+ * that A* queries can start without repeating the precomputation. Similarly to
+ * {@link ContractionHierarchyFile}, the file references the vertices by their index, thus a table
+ * must be read using the graph for which it was computed, or a graph constructed in exactly the
+ * same way.
+ *
+ * <p>
+ * The graph must not contain edges with negative weights. The table does not reflect subsequent
+ * modifications of the graph. Instances are safe to use from multiple threads.
+ *
+ * @param <V> the graph vertex type
+ *
+ * @author agent
+ */
+public class ALTLandmarkTable<V>
+{
+    /**
+     * Precision of the stored distances.
+     */
+    public enum Precision
+    {
+        /**
+         * Exact distances stored as doubles.
+         */
+        DOUBLE,
+        /**
+         * Distances rounded down to floats.
+         */
+        FLOAT,
+        /**
+         * Distances rounded down to a multiple of a unit and stored as unsigned 16-bit integers.
+         */
+        QUANTIZED
+    }
+
+    private static final int MAGIC = 0x4A47414C;
+    private static final int VERSION = 1;
+    private static final int FLAG_DIRECTED = 1;
+    private static final int HEADER_INTS = 6;
+    private static final int HEADER_BYTES = HEADER_INTS * Integer.BYTES;
+    private static final int MAX_MAPPED_BYTES = 1 << 30;
+    private static final int BUFFER_BYTES = 1 << 20;
+
+    /**
+     * Quantized value of an infinite distance.
+     */
+    private static final char QUANTIZED_INFINITY = Character.MAX_VALUE;
+
+    private final List<V> vertices;
+    private final Map<V, Integer> vertexIndex;
+    private final boolean directed;
+    private final Precision precision;
+    private final int[] landmarks;
+    private final int k;
+
+    /**
+     * The distances from and to the landmarks, where the distance of vertex $v$ and landmark $i$
+     * is stored at position $v k + i$. Only the arrays of the precision of the table are used and
+     * the arrays of the distances to the landmarks are the same as the arrays of the distances from
+     * the landmarks in undirected graphs.
+     */
+    private final double[] fromDoubles;
+    private final double[] toDoubles;
+    private final float[] fromFloats;
+    private final float[] toFloats;
+    private final char[] fromQuantized;
+    private final char[] toQuantized;
+
+    /**
+     * The unit of the quantized distances of each landmark.
+     */
+    private final double[] fromUnits;
+    private final double[] toUnits;
+
+    /**
+     * Compute the distance table of a set of landmarks using double precision.
+     *
+     * @param graph the graph
+     * @param landmarks the landmarks
+     * @throws IllegalArgumentException if no landmarks are provided, if a landmark is not a vertex
+     *         of the graph or if the graph contains edges with negative weights
+     */
+    public ALTLandmarkTable(Graph<V, ?> graph, Collection<V> landmarks)
+    {
+        this(graph, landmarks, Precision.DOUBLE, null);
+    }
+
+    /**
+     * Compute the distance table of a set of landmarks.
+     *
+     * @param graph the graph
+     * @param landmarks the landmarks
+     * @param precision the precision of the stored distances
+     * @param executor the executor used to compute the distances of different landmarks in
+     *        parallel, or null in order to compute them sequentially
+     * @throws IllegalArgumentException if no landmarks are provided, if a landmark is not a vertex
+     *         of the graph or if the graph contains edges with negative weights
+     */
+    public ALTLandmarkTable(
+        Graph<V, ?> graph, Collection<V> landmarks, Precision precision,
+        ThreadPoolExecutor executor)
+    {
+        this(graph, landmarkIndices(graph, landmarks), precision);
+        compute(graph, executor);
+    }
+
+    /**
+     * Create an empty table.
+     */
+    private ALTLandmarkTable(Graph<V, ?> graph, int[] landmarks, Precision precision)
+    {
+        GraphTests.requireDirectedOrUndirected(graph);
+        this.precision = Objects.requireNonNull(precision, "Precision cannot be null");
+        this.directed = graph.getType().isDirected();
+        if (graph instanceof CSRAdjacency) {
+            this.vertices = new ArrayList<>(graph.vertexSet());
+            this.vertexIndex = null;
+        } else {
+            VertexToIntegerMapping<V> mapping = new VertexToIntegerMapping<>(graph.vertexSet());
+            this.vertices = mapping.getIndexList();
+            this.vertexIndex = mapping.getVertexMap();
+        }
+        this.landmarks = landmarks;
+        this.k = landmarks.length;
+
+        long entries = (long) vertices.size() * k;
+        if (entries > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many landmarks for the size of the graph");
+        }
+        int size = (int) entries;
+        this.fromDoubles = precision == Precision.DOUBLE ? new double[size] : null;
+        this.fromFloats = precision == Precision.FLOAT ? new float[size] : null;
+        this.fromQuantized = precision == Precision.QUANTIZED ? new char[size] : null;
+        this.fromUnits = precision == Precision.QUANTIZED ? new double[k] : null;
+        if (directed) {
+            this.toDoubles = precision == Precision.DOUBLE ? new double[size] : null;
+            this.toFloats = precision == Precision.FLOAT ? new float[size] : null;
+            this.toQuantized = precision == Precision.QUANTIZED ? new char[size] : null;
+            this.toUnits = precision == Precision.QUANTIZED ? new double[k] : null;
+        } else {
+            this.toDoubles = fromDoubles;
+            this.toFloats = fromFloats;
+            this.toQuantized = fromQuantized;
+            this.toUnits = fromUnits;
+        }
+    }
+
+    /**
+     * Get the landmarks.
+     *
+     * @return the landmarks
+     */
+    public List<V> getLandmarks()
+    {
+        List<V> result = new ArrayList<>(k);
+        for (int l : landmarks) {
+            result.add(vertices.get(l));
+        }
+        return result;
+    }
+
+    /**
+     * Get the precision of the stored distances.
+     *
+     * @return the precision of the stored distances
+     */
+    public Precision getPrecision()
+    {
+        return precision;
+    }
+
+    /**
+     * Whether the table was computed for a directed graph.
+     *
+     * @return true if the table was computed for a directed graph, false otherwise
+     */
+    public boolean isDirected()
+    {
+        return directed;
+    }
+
+    /**
+     * Compute a lower bound on the shortest path distance between two vertices. The result is
+     * infinite if the landmarks prove that the target is not reachable from the source.
+     *
+     * @param source the source vertex
+     * @param target the target vertex
+     * @return a lower bound on the shortest path distance from the source to the target
+     * @throws IllegalArgumentException if any of the vertices is not part of the table
+     */
+    public double getLowerBound(V source, V target)
+    {
+        int u = indexOf(source);
+        int t = indexOf(target);
+        if (u == t) {
+            return 0d;
+        }
+        switch (precision) {
+        case DOUBLE:
+            return doubleLowerBound(u * k, t * k);
+        case FLOAT:
+            return floatLowerBound(u * k, t * k);
+        default:
+            return quantizedLowerBound(u * k, t * k);
+        }
+    }
+
+    private double doubleLowerBound(int u, int t)
+    {
+        double best = 0d;
+        for (int i = 0; i < k; i++) {
+            // non-finite estimates are either infinite, which proves that t is not reachable, or
+            // undefined, which is ignored by the comparisons
+            double estimate = fromDoubles[t + i] - fromDoubles[u + i];
+            if (estimate > best) {
+                best = estimate;
+            }
+            estimate = toDoubles[u + i] - toDoubles[t + i];
+            if (estimate > best) {
+                best = estimate;
+            }
+        }
+        return best;
+    }
+
+    private double floatLowerBound(int u, int t)
+    {
+        double best = 0d;
+        for (int i = 0; i < k; i++) {
+            // a distance b rounded down to b' satisfies b - b' < ulp(b')
+            float a = fromFloats[t + i];
+            float b = fromFloats[u + i];
+            double estimate = (double) a - b - Math.ulp(b);
+            if (estimate > best) {
+                best = estimate;
+            }
+            a = toFloats[u + i];
+            b = toFloats[t + i];
+            estimate = (double) a - b - Math.ulp(b);
+            if (estimate > best) {
+                best = estimate;
+            }
+        }
+        return best;
+    }
+
+    private double quantizedLowerBound(int u, int t)
+    {
+        double best = 0d;
+        for (int i = 0; i < k; i++) {
+            double estimate =
+                quantizedEstimate(fromQuantized[t + i], fromQuantized[u + i], fromUnits[i]);
+            if (estimate > best) {
+                best = estimate;
+            }
+            estimate = quantizedEstimate(toQuantized[u + i], toQuantized[t + i], toUnits[i]);
+            if (estimate > best) {
+                best = estimate;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Lower bound on the difference of two distances, which are rounded down to multiples of a
+     * unit and thus each one may be smaller by less than a unit.
+     */
+    private static double quantizedEstimate(char a, char b, double unit)
+    {
+        if (b == QUANTIZED_INFINITY) {
+            return 0d;
+        }
+        if (a == QUANTIZED_INFINITY) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return (a - b - 1) * unit;
+    }
+
+    private int indexOf(V v)
+    {
+        if (vertexIndex == null) {
+            if (v instanceof Integer && (Integer) v >= 0 && (Integer) v < vertices.size()) {
+                return (Integer) v;
+            }
+        } else {
+            Integer index = vertexIndex.get(v);
+            if (index != null) {
+                return index;
+            }
+        }
+        throw new IllegalArgumentException("no such vertex in graph: " + v);
+    }
+
+    private static <V> int[] landmarkIndices(Graph<V, ?> graph, Collection<V> landmarks)
+    {
+        Objects.requireNonNull(graph, "Graph cannot be null");
+        Objects.requireNonNull(landmarks, "Landmarks cannot be null");
+        Set<V> distinct = new LinkedHashSet<>(landmarks);
+        if (distinct.isEmpty()) {
+            throw new IllegalArgumentException("At least one landmark must be provided");
+        }
+        Map<V, Integer> index = CollectionUtil.newHashMapWithExpectedSize(distinct.size());
+        for (V l : distinct) {
+            if (!graph.containsVertex(l)) {
+                throw new IllegalArgumentException("Landmark is not a vertex of the graph: " + l);
+            }
+            index.put(l, -1);
+        }
+        int i = 0;
+        for (V v : graph.vertexSet()) {
+            if (index.containsKey(v)) {
+                index.put(v, i);
+            }
+            i++;
+        }
+        int[] result = new int[distinct.size()];
+        int j = 0;
+        for (V l : distinct) {
+            result[j++] = index.get(l);
+        }
+        return result;
+    }
+
+    /**
+     * Compute the distances of all landmarks.
+     */
+    private void compute(Graph<V, ?> graph, ThreadPoolExecutor executor)
+    {
+        IndexedAdjacency<V, ?> outgoing = IndexedAdjacency.outgoing(graph);
+        requireNonNegativeWeights(outgoing.getWeights());
+        IndexedAdjacency<V, ?> incoming = directed ? outgoing.reversed() : null;
+        int n = vertices.size();
+
+        // one task per landmark and direction
+        int tasks = directed ? 2 * k : k;
+        AtomicInteger next = new AtomicInteger();
+        Runnable worker = () -> {
+            double[] dist = new double[n];
+            IndexedDaryHeap heap = new IndexedDaryHeap(n);
+            int task;
+            while ((task = next.getAndIncrement()) < tasks) {
+                int i = task % k;
+                boolean from = task < k;
+                IndexedAdjacency<V, ?> adjacency = from ? outgoing : incoming;
+                Arrays.fill(dist, Double.POSITIVE_INFINITY);
+                dijkstra(
+                    adjacency.getOffsets(), adjacency.getTargets(), adjacency.getWeights(),
+                    landmarks[i], dist, null, null, heap);
+                store(i, from, dist);
+            }
+        };
+
+        if (executor == null || tasks == 1) {
+            worker.run();
+            return;
+        }
+        int workers = Math.min(executor.getMaximumPoolSize(), tasks);
+        List<Callable<Void>> callables = new ArrayList<>(workers);
+        for (int w = 0; w < workers; w++) {
+            callables.add(Executors.callable(worker, null));
+        }
+        ConcurrencyUtil.invokeAll(executor, callables);
+    }
+
+    /**
+     * Store the distances of a landmark using the precision of the table.
+     */
+    private void store(int i, boolean from, double[] dist)
+    {
+        int n = dist.length;
+        switch (precision) {
+        case DOUBLE: {
+            double[] table = from ? fromDoubles : toDoubles;
+            for (int v = 0, pos = i; v < n; v++, pos += k) {
+                table[pos] = dist[v];
+            }
+            break;
+        }
+        case FLOAT: {
+            float[] table = from ? fromFloats : toFloats;
+            for (int v = 0, pos = i; v < n; v++, pos += k) {
+                float value = (float) dist[v];
+                if (value > dist[v]) {
+                    value = Math.nextDown(value);
+                }
+                table[pos] = value;
+            }
+            break;
+        }
+        default: {
+            char[] table = from ? fromQuantized : toQuantized;
+            double max = 0d;
+            for (double d : dist) {
+                if (d != Double.POSITIVE_INFINITY && d > max) {
+                    max = d;
+                }
+            }
+            double unit = max > 0d ? max / (QUANTIZED_INFINITY - 1) : 1d;
+            (from ? fromUnits : toUnits)[i] = unit;
+            for (int v = 0, pos = i; v < n; v++, pos += k) {
+                if (dist[v] == Double.POSITIVE_INFINITY) {
+                    table[pos] = QUANTIZED_INFINITY;
+                } else {
+                    table[pos] = (char) Math.min(QUANTIZED_INFINITY - 1, (int) (dist[v] / unit));
+                }
+            }
+        }
+        }
+    }
+
+    /**
+     * Check that all arc weights are non-negative.
+     *
+     * @param weights the arc weights
+     * @throws IllegalArgumentException if some weight is negative or NaN
+     */
+    static void requireNonNegativeWeights(double[] weights)
+    {
+        for (double w : weights) {
+            if (!(w >= 0d)) {
+                throw new IllegalArgumentException("Negative edge weight not allowed");
+            }
+        }
+    }
+
+    /**
+     * Run Dijkstra's algorithm on index-based arrays. The distance array contains upper bounds on
+     * the distances, usually infinity, and the search only visits vertices whose distance it
+     * improves. This allows the distances of multiple sources to be computed incrementally.
+     *
+     * @param offsets the offsets of the arcs of each vertex
+     * @param targets the target of each arc
+     * @param weights the non-negative weight of each arc
+     * @param source the source vertex
+     * @param dist the distances, which are updated
+     * @param parent the array where the parent of each visited vertex is stored, or null
+     * @param order the array where the visited vertices are stored in the order in which they are
+     *        settled, or null
+     * @param heap an empty heap, which is empty again after the search
+     * @return the number of visited vertices
+     */
+    static int dijkstra(
+        int[] offsets, int[] targets, double[] weights, int source, double[] dist,
+        int[] parent, int[] order, IndexedDaryHeap heap)
+    {
+        int settled = 0;
+        dist[source] = 0d;
+        if (parent != null) {
+            parent[source] = -1;
+        }
+        heap.insert(source, 0d);
+        while (!heap.isEmpty()) {
+            int v = heap.deleteMin();
+            if (order != null) {
+                order[settled] = v;
+            }
+            settled++;
+            double d = dist[v];
+            for (int arc = offsets[v]; arc < offsets[v + 1]; arc++) {
+                int u = targets[arc];
+                double ud = d + weights[arc];
+                if (ud < dist[u]) {
+                    dist[u] = ud;
+                    if (parent != null) {
+                        parent[u] = v;
+                    }
+                    heap.insertOrDecreaseKey(u, ud);
+                }
+            }
+        }
+        return settled;
+    }
+
+    /**
+     * Write the table to a file. Any existing file is overwritten.
+     *
+     * @param path the file path
+     * @throws IOException in case of an I/O error
+     */
+    public void write(Path path)
+        throws IOException
+    {
+        Objects.requireNonNull(path, "Path cannot be null");
+        try (FileChannel channel = FileChannel.open(
+            path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING))
+        {
+            ByteBuffer buffer =
+                ByteBuffer.allocateDirect(BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            int[] header = { MAGIC, VERSION, directed ? FLAG_DIRECTED : 0, precision.ordinal(),
+                vertices.size(), k };
+            writeInts(channel, buffer, header);
+            writeInts(channel, buffer, landmarks);
+            switch (precision) {
+            case DOUBLE:
+                writeDoubles(channel, buffer, fromDoubles);
+                if (directed) {
+                    writeDoubles(channel, buffer, toDoubles);
+                }
+                break;
+            case FLOAT:
+                writeFloats(channel, buffer, fromFloats);
+                if (directed) {
+                    writeFloats(channel, buffer, toFloats);
+                }
+                break;
+            default:
+                writeDoubles(channel, buffer, fromUnits);
+                writeChars(channel, buffer, fromQuantized);
+                if (directed) {
+                    writeDoubles(channel, buffer, toUnits);
+                    writeChars(channel, buffer, toQuantized);
+                }
+            }
+        }
+    }
+
+    /**
+     * Read a table from a file.
+     *
+     * @param graph the graph for which the table was computed
+     * @param path the file path
+     * @param <V> the graph vertex type
+     * @return the table
+     * @throws IOException in case of an I/O error or if the file is not a valid landmark table
+     *         file
+     * @throws IllegalArgumentException if the file does not match the number of vertices or the
+     *         type of the graph
+     */
+    public static <V> ALTLandmarkTable<V> read(Graph<V, ?> graph, Path path)
+        throws IOException
+    {
+        Objects.requireNonNull(graph, "Graph cannot be null");
+        Objects.requireNonNull(path, "Path cannot be null");
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                throw new IOException("Not a landmark table file");
+            }
+            long[] position = { 0L };
+            int[] header = readInts(channel, position, HEADER_INTS);
+            if (header[0] != MAGIC) {
+                throw new IOException("Not a landmark table file");
+            }
+            if (header[1] != VERSION) {
+                throw new IOException("Unsupported landmark table file version: " + header[1]);
+            }
+            boolean directed = (header[2] & FLAG_DIRECTED) != 0;
+            if (header[3] < 0 || header[3] >= Precision.values().length || header[4] < 0
+                || header[5] <= 0)
+            {
+                throw new IOException("Corrupted landmark table file");
+            }
+            Precision precision = Precision.values()[header[3]];
+            long n = header[4];
+            long k = header[5];
+            long directions = directed ? 2 : 1;
+            long entryBytes = precision == Precision.DOUBLE ? Double.BYTES
+                : precision == Precision.FLOAT ? Float.BYTES : Character.BYTES;
+            long expectedSize = HEADER_BYTES + k * Integer.BYTES
+                + directions * n * k * entryBytes
+                + (precision == Precision.QUANTIZED ? directions * k * Double.BYTES : 0);
+            if (size != expectedSize) {
+                throw new IOException("Corrupted landmark table file");
+            }
+            if (n != graph.vertexSet().size() || directed != graph.getType().isDirected()) {
+                throw new IllegalArgumentException("Landmark table does not match the graph");
+            }
+
+            int[] landmarks = readInts(channel, position, (int) k);
+            for (int l : landmarks) {
+                if (l < 0 || l >= n) {
+                    throw new IOException("Corrupted landmark table file");
+                }
+            }
+            ALTLandmarkTable<V> table = new ALTLandmarkTable<>(graph, landmarks, precision);
+            switch (precision) {
+            case DOUBLE:
+                readDoubles(channel, position, table.fromDoubles);
+                if (directed) {
+                    readDoubles(channel, position, table.toDoubles);
+                }
+                break;
+            case FLOAT:
+                readFloats(channel, position, table.fromFloats);
+                if (directed) {
+                    readFloats(channel, position, table.toFloats);
+                }
+                break;
+            default:
+                readDoubles(channel, position, table.fromUnits);
+                readChars(channel, position, table.fromQuantized);
+                if (directed) {
+                    readDoubles(channel, position, table.toUnits);
+                    readChars(channel, position, table.toQuantized);
+                }
+            }
+            return table;
+        }
+    }
+
+    private static void writeInts(FileChannel channel, ByteBuffer buffer, int[] values)
+        throws IOException
+    {
+        int capacity = buffer.capacity() / Integer.BYTES;
+        for (int from = 0; from < values.length; from += capacity) {
+            int chunk = Math.min(capacity, values.length - from);
+            buffer.clear();
+            buffer.asIntBuffer().put(values, from, chunk);
+            flush(channel, buffer, chunk * Integer.BYTES);
+        }
+    }
+
+    private static void writeDoubles(FileChannel channel, ByteBuffer buffer, double[] values)
+        throws IOException
+    {
+        int capacity = buffer.capacity() / Double.BYTES;
+        for (int from = 0; from < values.length; from += capacity) {
+            int chunk = Math.min(capacity, values.length - from);
+            buffer.clear();
+            buffer.asDoubleBuffer().put(values, from, chunk);
+            flush(channel, buffer, chunk * Double.BYTES);
+        }
+    }
+
+    private static void writeFloats(FileChannel channel, ByteBuffer buffer, float[] values)
+        throws IOException
+    {
+        int capacity = buffer.capacity() / Float.BYTES;
+        for (int from = 0; from < values.length; from += capacity) {
+            int chunk = Math.min(capacity, values.length - from);
+            buffer.clear();
+            buffer.asFloatBuffer().put(values, from, chunk);
+            flush(channel, buffer, chunk * Float.BYTES);
+        }
+    }
+
+    private static void writeChars(FileChannel channel, ByteBuffer buffer, char[] values)
+        throws IOException
+    {
+        int capacity = buffer.capacity() / Character.BYTES;
+        for (int from = 0; from < values.length; from += capacity) {
+            int chunk = Math.min(capacity, values.length - from);
+            buffer.clear();
+            buffer.asCharBuffer().put(values, from, chunk);
+            flush(channel, buffer, chunk * Character.BYTES);
+        }
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer, int bytes)
+        throws IOException
+    {
+        buffer.limit(bytes);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Map the next region of the file, at most {@link #MAX_MAPPED_BYTES} long.
+     */
+    private static ByteBuffer map(FileChannel channel, long[] position, long bytes)
+        throws IOException
+    {
+        ByteBuffer mapped = channel
+            .map(FileChannel.MapMode.READ_ONLY, position[0], bytes).order(ByteOrder.LITTLE_ENDIAN);
+        position[0] += bytes;
+        return mapped;
+    }
+
+    private static int[] readInts(FileChannel channel, long[] position, int length)
+        throws IOException
+    {
+        int[] values = new int[length];
+        int capacity = MAX_MAPPED_BYTES / Integer.BYTES;
+        for (int from = 0; from < length; from += capacity) {
+            int chunk = Math.min(capacity, length - from);
+            map(channel, position, (long) chunk * Integer.BYTES)
+                .asIntBuffer().get(values, from, chunk);
+        }
+        return values;
+    }
+
+    private static void readDoubles(FileChannel channel, long[] position, double[] values)
+        throws IOException
+    {
+        int capacity = MAX_MAPPED_BYTES / Double.BYTES;
+        for (int from = 0; from < values.length; from += capacity) {
+            int chunk = Math.min(capacity, values.length - from);
+            map(channel, position, (long) chunk * Double.BYTES)
+                .asDoubleBuffer().get(values, from, chunk);
+        }
+    }
+
+    private static void readFloats(FileChannel channel, long[] position, float[] values)
+        throws IOException
+    {
+        int capacity = MAX_MAPPED_BYTES / Float.BYTES;
+        for (int from = 0; from < values.length; from += capacity) {
+            int chunk = Math.min(capacity, values.length - from);
+            map(channel, position, (long) chunk * Float.BYTES)
+                .asFloatBuffer().get(values, from, chunk);
+        }
+    }
+
+    private static void readChars(FileChannel channel, long[] position, char[] values)
+        throws IOException
+    {
+        int capacity = MAX_MAPPED_BYTES / Character.BYTES;
+        for (int from = 0; from < values.length; from += capacity) {
+            int chunk = Math.min(capacity, values.length - from);
+            map(channel, position, (long) chunk * Character.BYTES)
+                .asCharBuffer().get(values, from, chunk);
+        }
+    }
+
+}
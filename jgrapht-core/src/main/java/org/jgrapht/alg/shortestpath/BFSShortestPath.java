@@ -19,8 +19,10 @@ package org.jgrapht.alg.shortestpath;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * The BFS Shortest Path algorithm.
@@ -31,7 +33,14 @@ import java.util.*;
  * an unweighted graph.
  *
  * <p>
- * The running time is $O(|V|+|E|)$.
+ * The running time is $O(|V|+|E|)$. If the graph implements {@link CSRAdjacency}, the search is
+ * performed directly on the primitive representation of the graph.
+ *
+ * <p>
+ * For large graphs the algorithm can be constructed with a {@link ThreadPoolExecutor}, in which
+ * case the searches are delegated to a {@link DirectionOptimizingBFS}. It works on an index-based
+ * snapshot of the graph, which is created on the first query, and processes each level of the
+ * search in parallel.
  *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -41,6 +50,8 @@ import java.util.*;
 public class BFSShortestPath<V, E>
     extends BaseShortestPathAlgorithm<V, E>
 {
+    private final ThreadPoolExecutor executor;
+    private DirectionOptimizingBFS<V, E> search;
 
     /**
      * Construct a new instance.
@@ -50,6 +61,20 @@ public class BFSShortestPath<V, E>
     public BFSShortestPath(Graph<V, E> graph)
     {
         super(graph);
+        this.executor = null;
+    }
+
+    /**
+     * Construct a new instance which delegates the searches to a parallel
+     * {@link DirectionOptimizingBFS}. The graph must not be modified after the first query.
+     *
+     * @param graph the input graph
+     * @param executor executor which is used to process each level of the searches in parallel
+     */
+    public BFSShortestPath(Graph<V, E> graph, ThreadPoolExecutor executor)
+    {
+        super(graph);
+        this.executor = Objects.requireNonNull(executor, "Executor cannot be null");
     }
 
     /**
@@ -61,6 +86,12 @@ public class BFSShortestPath<V, E>
         if (!graph.containsVertex(source)) {
             throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
         }
+        if (executor != null) {
+            return getSearch().getPaths(source);
+        }
+        if (CSRShortestPathSearch.isApplicable(graph)) {
+            return CSRShortestPathSearch.bfs(graph, (Integer) source, -1);
+        }
 
         /*
          * Initialize distanceAndPredecessorMap
@@ -104,9 +135,39 @@ public class BFSShortestPath<V, E>
         if (!graph.containsVertex(sink)) {
             throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
         }
+        if (executor == null && CSRShortestPathSearch.isApplicable(graph)) {
+            if (!graph.containsVertex(source)) {
+                throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+            }
+            return CSRShortestPathSearch.bfs(graph, (Integer) source, (Integer) sink).getPath(sink);
+        }
         return getPaths(source).getPath(sink);
     }
 
+    /**
+     * Get the direction-optimizing search used by this instance, creating it if needed. Instances
+     * constructed without an executor return a search which runs in the calling thread.
+     *
+     * @return the direction-optimizing search
+     */
+    synchronized DirectionOptimizingBFS<V, E> getSearch()
+    {
+        if (search == null) {
+            search = new DirectionOptimizingBFS<>(graph, executor);
+        }
+        return search;
+    }
+
+    /**
+     * Get the executor of this instance.
+     *
+     * @return the executor, or null if the searches are executed in the calling thread
+     */
+    ThreadPoolExecutor getExecutor()
+    {
+        return executor;
+    }
+
     /**
      * Find a path between two vertices.
      * 
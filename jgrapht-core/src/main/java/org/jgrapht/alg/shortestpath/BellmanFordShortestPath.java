@@ -20,9 +20,13 @@ package org.jgrapht.alg.shortestpath;
 import org.jgrapht.*;
 import org.jgrapht.alg.util.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
 
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
 
 /**
  * The Bellman-Ford algorithm.
@@ -41,6 +45,18 @@ import java.util.*;
  * <p>
  * The running time is $O(|E||V|)$.
  *
+ * <p>
+ * The relaxation order is selected using a {@link BellmanFordStrategy}. The default
+ * {@link BellmanFordStrategy#ROUNDS} strategy stores distances and predecessors in hash maps. The
+ * {@link BellmanFordStrategy#QUEUE} and {@link BellmanFordStrategy#PARALLEL} strategies work on an
+ * index-based snapshot of the graph using primitive arrays, which is considerably faster and more
+ * memory efficient for large graphs. The latter also relaxes the edges of each round in parallel
+ * using a user supplied {@link ThreadPoolExecutor}. Both detect negative cycles by periodically
+ * checking the predecessor graph for a cycle, with amortized constant cost per relaxation. Since
+ * every cycle of the predecessor graph is a negative cycle, reachable negative cycles are usually
+ * reported long before the $|V|-1$ rounds of the classic algorithm. The reported cycle might
+ * differ between strategies.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  *
@@ -49,9 +65,18 @@ import java.util.*;
 public class BellmanFordShortestPath<V, E>
     extends BaseShortestPathAlgorithm<V, E>
 {
+    /**
+     * The number of vertices processed as a single task by the parallel strategy.
+     */
+    private static final int VERTICES_CHUNK_SIZE = 256;
+
     protected final Comparator<Double> comparator;
     protected final int maxHops;
 
+    private final double epsilon;
+    private final BellmanFordStrategy strategy;
+    private final ThreadPoolExecutor executor;
+
     /**
      * Construct a new instance.
      *
@@ -70,7 +95,7 @@ public class BellmanFordShortestPath<V, E>
      */
     public BellmanFordShortestPath(Graph<V, E> graph, double epsilon)
     {
-        this(graph, ToleranceDoubleComparator.DEFAULT_EPSILON, Integer.MAX_VALUE);
+        this(graph, epsilon, Integer.MAX_VALUE);
     }
 
     /**
@@ -83,6 +108,43 @@ public class BellmanFordShortestPath<V, E>
      * @throws IllegalArgumentException if the number of maxHops is not positive
      */
     public BellmanFordShortestPath(Graph<V, E> graph, double epsilon, int maxHops)
+    {
+        this(graph, epsilon, maxHops, BellmanFordStrategy.ROUNDS, null);
+    }
+
+    /**
+     * Construct a new instance.
+     *
+     * @param graph the input graph
+     * @param strategy the relaxation strategy
+     * @param executor executor which is used by the {@link BellmanFordStrategy#PARALLEL} strategy,
+     *        if null the computation is performed by the calling thread
+     */
+    public BellmanFordShortestPath(
+        Graph<V, E> graph, BellmanFordStrategy strategy, ThreadPoolExecutor executor)
+    {
+        this(
+            graph, ToleranceDoubleComparator.DEFAULT_EPSILON, Integer.MAX_VALUE, strategy,
+            executor);
+    }
+
+    /**
+     * Construct a new instance.
+     *
+     * @param graph the input graph
+     * @param epsilon tolerance when comparing floating point values
+     * @param maxHops execute the algorithm for at most this many iterations. If this is smaller
+     *        than the number of vertices, then the negative cycle detection feature is disabled.
+     *        For the {@link BellmanFordStrategy#QUEUE} strategy this bounds the number of edges of
+     *        the computed paths.
+     * @param strategy the relaxation strategy
+     * @param executor executor which is used by the {@link BellmanFordStrategy#PARALLEL} strategy,
+     *        if null the computation is performed by the calling thread
+     * @throws IllegalArgumentException if the number of maxHops is not positive
+     */
+    public BellmanFordShortestPath(
+        Graph<V, E> graph, double epsilon, int maxHops, BellmanFordStrategy strategy,
+        ThreadPoolExecutor executor)
     {
         super(graph);
         this.comparator = new ToleranceDoubleComparator(epsilon);
@@ -90,6 +152,9 @@ public class BellmanFordShortestPath<V, E>
             throw new IllegalArgumentException("Number of hops must be positive");
         }
         this.maxHops = maxHops;
+        this.epsilon = epsilon;
+        this.strategy = Objects.requireNonNull(strategy, "Strategy cannot be null");
+        this.executor = executor;
     }
 
     /**
@@ -118,6 +183,14 @@ public class BellmanFordShortestPath<V, E>
         if (!graph.containsVertex(source)) {
             throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
         }
+        switch (strategy) {
+        case QUEUE:
+            return new IndexedSearch().queue(source);
+        case PARALLEL:
+            return new IndexedSearch().parallel(source);
+        default:
+            break;
+        }
 
         /*
          * Initialize distance and predecessor.
@@ -252,4 +325,306 @@ public class BellmanFordShortestPath<V, E>
 
         return new GraphWalk<>(graph, start, start, cycle, weight);
     }
+
+    /**
+     * Execute a task for each index in $[0, count)$, using the executor if available. Each thread
+     * claims chunks of consecutive indices and owns a single workspace.
+     *
+     * @return the workspaces which were used
+     */
+    private <W> List<W> forEach(int count, Supplier<W> workspaceSupplier, ObjIntConsumer<W> task)
+    {
+        if (executor == null || count <= VERTICES_CHUNK_SIZE) {
+            W ws = workspaceSupplier.get();
+            for (int i = 0; i < count; i++) {
+                task.accept(ws, i);
+            }
+            return Collections.singletonList(ws);
+        }
+
+        AtomicInteger next = new AtomicInteger();
+        int workers = Math.min(
+            executor.getMaximumPoolSize(), (count + VERTICES_CHUNK_SIZE - 1) / VERTICES_CHUNK_SIZE);
+        List<Callable<W>> tasks = new ArrayList<>(workers);
+        for (int w = 0; w < workers; w++) {
+            tasks.add(() -> {
+                W ws = workspaceSupplier.get();
+                int from;
+                while ((from = next.getAndAdd(VERTICES_CHUNK_SIZE)) < count) {
+                    int to = Math.min(from + VERTICES_CHUNK_SIZE, count);
+                    for (int i = from; i < to; i++) {
+                        task.accept(ws, i);
+                    }
+                }
+                return ws;
+            });
+        }
+        return ConcurrencyUtil.invokeAll(executor, tasks);
+    }
+
+    /**
+     * The strategies which work on an index-based snapshot of the graph. Each vertex stores its
+     * distance, the arc through which it was last updated and the opposite endpoint of that arc.
+     */
+    private class IndexedSearch
+    {
+        private IndexedAdjacency<V, E> adjacency;
+        private double[] dist;
+        private int[] predArc;
+        private int[] predVertex;
+        private int[] mark;
+
+        private void init(IndexedAdjacency<V, E> adjacency, int source)
+        {
+            int n = adjacency.vertexCount();
+            this.adjacency = adjacency;
+            this.dist = new double[n];
+            this.predArc = new int[n];
+            this.predVertex = new int[n];
+            this.mark = new int[n];
+            Arrays.fill(dist, Double.POSITIVE_INFINITY);
+            Arrays.fill(predArc, -1);
+            Arrays.fill(predVertex, -1);
+            dist[source] = 0d;
+        }
+
+        /**
+         * The queue-based strategy. The negative cycle detection checks the predecessor graph
+         * after every $n$ relaxations.
+         */
+        SingleSourcePaths<V, E> queue(V source)
+        {
+            IndexedAdjacency<V, E> out = IndexedAdjacency.outgoing(graph);
+            int n = out.vertexCount();
+            int s = out.getVertexIndex(source);
+            init(out, s);
+            int[] offsets = out.getOffsets();
+            int[] targets = out.getTargets();
+            double[] weights = out.getWeights();
+
+            boolean detectCycles = maxHops >= n;
+            int[] hops = detectCycles ? null : new int[n];
+
+            // circular queue, each vertex is contained at most once
+            int[] queue = new int[n];
+            boolean[] inQueue = new boolean[n];
+            int head = 0, size = 1;
+            queue[0] = s;
+            inQueue[s] = true;
+
+            long relaxations = 0;
+            while (size > 0) {
+                int v = queue[head];
+                head = head + 1 == n ? 0 : head + 1;
+                size--;
+                inQueue[v] = false;
+                if (hops != null && hops[v] >= maxHops) {
+                    continue;
+                }
+
+                double vDist = dist[v];
+                for (int arc = offsets[v]; arc < offsets[v + 1]; arc++) {
+                    int u = targets[arc];
+                    double newDist = vDist + weights[arc];
+                    if (!isLess(newDist, dist[u])) {
+                        continue;
+                    }
+                    dist[u] = newDist;
+                    predArc[u] = arc;
+                    predVertex[u] = v;
+                    if (hops != null) {
+                        hops[u] = hops[v] + 1;
+                    }
+                    if (!inQueue[u]) {
+                        int tail = head + size;
+                        queue[tail >= n ? tail - n : tail] = u;
+                        inQueue[u] = true;
+                        size++;
+                    }
+                    if (detectCycles && ++relaxations >= n) {
+                        relaxations = 0;
+                        checkNegativeCycle();
+                    }
+                }
+            }
+            if (detectCycles) {
+                checkNegativeCycle();
+            }
+            return createPaths(source);
+        }
+
+        /**
+         * The parallel round-based strategy. Each round consists of two parallel phases. First the
+         * out-neighbors of the vertices updated in the previous round are collected as candidates,
+         * each exactly once. Then each candidate computes its best distance over its incoming arcs
+         * using the distances of the previous round. The new distances become visible only after
+         * the second phase has finished.
+         */
+        SingleSourcePaths<V, E> parallel(V source)
+        {
+            IndexedAdjacency<V, E> out = IndexedAdjacency.outgoing(graph);
+            IndexedAdjacency<V, E> in = graph.getType().isDirected() ? out.reversed() : out;
+            int n = out.vertexCount();
+            int s = out.getVertexIndex(source);
+            init(in, s);
+            int[] outOffsets = out.getOffsets();
+            int[] outTargets = out.getTargets();
+            int[] inOffsets = in.getOffsets();
+            int[] inTargets = in.getTargets();
+            double[] inWeights = in.getWeights();
+
+            boolean detectCycles = maxHops >= n;
+            int maxRounds = detectCycles ? Integer.MAX_VALUE : maxHops;
+            AtomicIntegerArray candidateRound = new AtomicIntegerArray(n);
+            double[] newDist = new double[n];
+
+            int[] frontier = new int[] { s };
+            int frontierSize = 1;
+            long relaxations = 0;
+            for (int round = 1; frontierSize > 0 && round <= maxRounds; round++) {
+                final int curRound = round;
+                final int[] curFrontier = frontier;
+
+                List<IntBuffer> candidateBuffers =
+                    forEach(frontierSize, IntBuffer::new, (candidates, i) -> {
+                        int v = curFrontier[i];
+                        for (int arc = outOffsets[v]; arc < outOffsets[v + 1]; arc++) {
+                            int u = outTargets[arc];
+                            if (candidateRound.get(u) != curRound
+                                && candidateRound.getAndSet(u, curRound) != curRound)
+                            {
+                                candidates.add(u);
+                            }
+                        }
+                    });
+                int[] candidates = IntBuffer.concat(candidateBuffers);
+
+                List<IntBuffer> updatedBuffers =
+                    forEach(candidates.length, IntBuffer::new, (updated, i) -> {
+                        int u = candidates[i];
+                        double best = dist[u];
+                        int bestArc = -1;
+                        for (int arc = inOffsets[u]; arc < inOffsets[u + 1]; arc++) {
+                            double candidate = dist[inTargets[arc]] + inWeights[arc];
+                            if (isLess(candidate, best)) {
+                                best = candidate;
+                                bestArc = arc;
+                            }
+                        }
+                        if (bestArc != -1) {
+                            newDist[u] = best;
+                            predArc[u] = bestArc;
+                            predVertex[u] = inTargets[bestArc];
+                            updated.add(u);
+                        }
+                    });
+                frontier = IntBuffer.concat(updatedBuffers);
+                frontierSize = frontier.length;
+                for (int u : frontier) {
+                    dist[u] = newDist[u];
+                }
+
+                relaxations += frontierSize;
+                if (detectCycles && relaxations >= n) {
+                    relaxations = 0;
+                    checkNegativeCycle();
+                }
+            }
+            if (detectCycles) {
+                checkNegativeCycle();
+            }
+            return createPaths(source);
+        }
+
+        private boolean isLess(double a, double b)
+        {
+            return a < b && !(Math.abs(a - b) < epsilon);
+        }
+
+        /**
+         * Check whether the predecessor graph contains a cycle. Every such cycle is a negative
+         * weight cycle. Each vertex is visited once, by following predecessors until reaching a
+         * vertex without one or a vertex already visited.
+         *
+         * @throws NegativeCycleDetectedException if a cycle is found
+         */
+        private void checkNegativeCycle()
+        {
+            Arrays.fill(mark, -1);
+            for (int start = 0; start < mark.length; start++) {
+                int v = start;
+                while (v != -1 && mark[v] == -1) {
+                    mark[v] = start;
+                    v = predVertex[v];
+                }
+                if (v != -1 && mark[v] == start) {
+                    throw new NegativeCycleDetectedException(
+                        GRAPH_CONTAINS_A_NEGATIVE_WEIGHT_CYCLE, computeNegativeCycle(v));
+                }
+            }
+        }
+
+        private GraphPath<V, E> computeNegativeCycle(int start)
+        {
+            double[] weights = adjacency.getWeights();
+            List<E> cycle = new ArrayList<>();
+            double weight = 0d;
+            int cur = start;
+            do {
+                cycle.add(adjacency.getArcEdge(predArc[cur]));
+                weight += weights[predArc[cur]];
+                cur = predVertex[cur];
+            } while (cur != start);
+            Collections.reverse(cycle);
+
+            V v = adjacency.getVertex(start);
+            return new GraphWalk<>(graph, v, v, cycle, weight);
+        }
+
+        private SingleSourcePaths<V, E> createPaths(V source)
+        {
+            Map<V, Pair<Double, E>> distanceAndPredecessorMap = new HashMap<>();
+            for (int v = 0; v < dist.length; v++) {
+                E e = predArc[v] == -1 ? null : adjacency.getArcEdge(predArc[v]);
+                distanceAndPredecessorMap.put(adjacency.getVertex(v), Pair.of(dist[v], e));
+            }
+            return new TreeSingleSourcePathsImpl<>(graph, source, distanceAndPredecessorMap);
+        }
+    }
+
+    /**
+     * A growable array of integers.
+     */
+    private static class IntBuffer
+    {
+        private int[] values = new int[16];
+        private int size;
+
+        void add(int value)
+        {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, 2 * size);
+            }
+            values[size++] = value;
+        }
+
+        static int[] concat(List<IntBuffer> buffers)
+        {
+            if (buffers.size() == 1) {
+                IntBuffer buffer = buffers.get(0);
+                return Arrays.copyOf(buffer.values, buffer.size);
+            }
+            int total = 0;
+            for (IntBuffer buffer : buffers) {
+                total += buffer.size;
+            }
+            int[] result = new int[total];
+            int pos = 0;
+            for (IntBuffer buffer : buffers) {
+                System.arraycopy(buffer.values, 0, result, pos, buffer.size);
+                pos += buffer.size;
+            }
+            return result;
+        }
+    }
 }
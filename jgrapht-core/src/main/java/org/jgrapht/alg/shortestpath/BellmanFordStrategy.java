@@ -0,0 +1,52 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+/**
+ * The relaxation strategy of the {@link BellmanFordShortestPath} algorithm.
+ *
+ * @author agent
+ * @see BellmanFordShortestPath
+ */
+public enum BellmanFordStrategy
+{
+    /**
+     * Relax the outgoing edges of the vertices updated in the previous round, for at most $n-1$
+     * rounds. This is the default strategy which stores distances and predecessors in hash maps.
+     */
+    ROUNDS,
+
+    /**
+     * The queue-based variant also known as SPFA (shortest path faster algorithm). Vertices whose
+     * distance decreased are kept in a first-in first-out queue and their outgoing edges are
+     * relaxed when they are removed from the queue. The search works on an index-based snapshot of
+     * the graph using primitive arrays. Its worst-case running time is still $O(|E||V|)$ but it
+     * usually performs far fewer relaxations than the round-based variant.
+     */
+    QUEUE,
+
+    /**
+     * Round-based relaxation on an index-based snapshot of the graph using primitive arrays, where
+     * each round is executed in parallel. In each round the vertices adjacent to the vertices
+     * updated in the previous round pull the best distance over their incoming edges. Since
+     * distances read during a round are those of the previous round, the threads never write to
+     * shared state and the result does not depend on the number of threads. Without an executor
+     * the rounds are executed by the calling thread.
+     */
+    PARALLEL
+}
@@ -24,6 +24,7 @@ import org.jheaps.*;
 import org.jheaps.tree.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 
 /**
@@ -39,6 +40,14 @@ import java.util.function.*;
  * This iterator can use a custom heap implementation, which can specified during the construction
  * time. Pairing heap is used by default
  *
+ * <p>
+ * If the edge weights are small non-negative integers, the algorithm can be constructed with
+ * {@link DijkstraQueueStrategy#RADIX_HEAP}. In this case index-based snapshots of the outgoing and
+ * incoming edges of the graph are created during construction and both frontiers use an
+ * {@link IndexedRadixHeap} with primitive integer keys. The scratch space of the frontiers is kept
+ * in a pool and reused by subsequent searches, which reset only the vertices they reach. The
+ * snapshots do not reflect subsequent modifications of the graph.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  * @author Dimitrios Michail
@@ -50,6 +59,12 @@ public final class BidirectionalDijkstraShortestPath<V, E>
     private double radius;
     private final Supplier<AddressableHeap<Double, Pair<V, E>>> heapSupplier;
 
+    private final IndexedAdjacency<V, E> outgoing;
+    private final int[] outgoingWeights;
+    private final IndexedAdjacency<V, E> incoming;
+    private final int[] incomingWeights;
+    private final Queue<IntegerDijkstraSearch[]> integerSearches;
+
     /**
      * Constructs a new instance for a specified graph.
      *
@@ -102,6 +117,48 @@ public final class BidirectionalDijkstraShortestPath<V, E>
         }
         this.heapSupplier = Objects.requireNonNull(heapSupplier, "Heap supplier cannot be null");
         this.radius = radius;
+        this.outgoing = null;
+        this.outgoingWeights = null;
+        this.incoming = null;
+        this.incomingWeights = null;        this.integerSearches = null;
+    }
+
+    /**
+     * Constructs a new instance for a specified graph using a specific priority queue.
+     *
+     * @param graph the input graph
+     * @param radius limit on path length, or Double.POSITIVE_INFINITY for unbounded search
+     * @param queueStrategy the priority queue strategy
+     * @throws IllegalArgumentException if the strategy is {@link DijkstraQueueStrategy#RADIX_HEAP}
+     *         and some edge weight is not a non-negative integer
+     */
+    public BidirectionalDijkstraShortestPath(
+        Graph<V, E> graph, double radius, DijkstraQueueStrategy queueStrategy)
+    {
+        super(graph);
+        if (radius < 0.0) {
+            throw new IllegalArgumentException("Radius must be non-negative");
+        }
+        this.heapSupplier = PairingHeap::new;
+        this.radius = radius;
+        if (Objects.requireNonNull(queueStrategy) == DijkstraQueueStrategy.RADIX_HEAP) {
+            this.outgoing = IndexedAdjacency.outgoing(graph);
+            this.outgoingWeights = IntegerDijkstraSearch.integerWeights(outgoing);
+            if (graph.getType().isDirected()) {
+                this.incoming = outgoing.reversed();
+                this.incomingWeights = IntegerDijkstraSearch.integerWeights(incoming);
+            } else {
+                this.incoming = outgoing;
+                this.incomingWeights = outgoingWeights;
+            }
+            this.integerSearches = new ConcurrentLinkedQueue<>();
+        } else {
+            this.outgoing = null;
+            this.outgoingWeights = null;
+            this.incoming = null;
+            this.incomingWeights = null;
+            this.integerSearches = null;
+        }
     }
 
     /**
@@ -134,6 +191,9 @@ public final class BidirectionalDijkstraShortestPath<V, E>
         if (source.equals(sink)) {
             return createEmptyPath(source, sink);
         }
+        if (outgoing != null) {
+            return getIntegerPath(source, sink);
+        }
 
         // create frontiers
         DijkstraSearchFrontier<V, E> forwardFrontier =
@@ -206,6 +266,91 @@ public final class BidirectionalDijkstraShortestPath<V, E>
         }
     }
 
+    /**
+     * Same as {@link #getPath(Object, Object)} but with frontiers which use primitive integer
+     * distances.
+     */
+    private GraphPath<V, E> getIntegerPath(V source, V sink)
+    {
+        IntegerDijkstraSearch[] searches = integerSearches.poll();
+        if (searches == null) {
+            int n = outgoing.vertexCount();
+            searches = new IntegerDijkstraSearch[] { new IntegerDijkstraSearch(n),
+                new IntegerDijkstraSearch(n) };
+        }
+        try {
+            return getIntegerPath(source, sink, searches[0], searches[1]);
+        } finally {
+            integerSearches.offer(searches);
+        }
+    }
+
+    private GraphPath<V, E> getIntegerPath(
+        V source, V sink, IntegerDijkstraSearch forwardSearch, IntegerDijkstraSearch backwardSearch)
+    {
+        IntegerSearchFrontier<V, E> forwardFrontier =
+            new IntegerSearchFrontier<>(graph, outgoing, outgoingWeights, forwardSearch);
+        IntegerSearchFrontier<V, E> backwardFrontier = new IntegerSearchFrontier<>(
+            graph.getType().isDirected() ? new EdgeReversedGraph<>(graph) : graph, incoming,
+            incomingWeights, backwardSearch);
+
+        forwardFrontier.search.start(outgoing.getVertexIndex(source));
+        backwardFrontier.search.start(incoming.getVertexIndex(sink));
+
+        long integerRadius = IntegerDijkstraSearch.integerRadius(radius);
+        long bestPath = Long.MAX_VALUE;
+        int bestPathCommonVertex = -1;
+
+        IntegerSearchFrontier<V, E> frontier = forwardFrontier;
+        IntegerSearchFrontier<V, E> otherFrontier = backwardFrontier;
+
+        while (true) {
+            IntegerDijkstraSearch search = frontier.search;
+            IntegerDijkstraSearch otherSearch = otherFrontier.search;
+
+            // stopping condition
+            if (!search.hasNext() || !otherSearch.hasNext()
+                || search.peekDistance() + otherSearch.peekDistance() >= bestPath)
+            {
+                break;
+            }
+
+            // frontier scan
+            int v = search.next();
+            long vDistance = search.getDistance(v);
+            int[] offsets = frontier.adjacency.getOffsets();
+            int[] targets = frontier.adjacency.getTargets();
+            int[] weights = frontier.weights;
+            search.relax(v, offsets, targets, weights, integerRadius);
+
+            // check paths with the distances from the other frontier
+            for (int arc = offsets[v]; arc < offsets[v + 1]; arc++) {
+                int u = targets[arc];
+                if (otherSearch.isReached(u)) {
+                    long pathDistance = vDistance + weights[arc] + otherSearch.getDistance(u);
+                    if (pathDistance < bestPath) {
+                        bestPath = pathDistance;
+                        bestPathCommonVertex = u;
+                    }
+                }
+            }
+
+            // swap frontiers
+            IntegerSearchFrontier<V, E> tmpFrontier = frontier;
+            frontier = otherFrontier;
+            otherFrontier = tmpFrontier;
+        }
+
+        // create path if found
+        if (bestPathCommonVertex != -1 && bestPath <= radius) {
+            return createPath(
+                forwardFrontier, backwardFrontier, bestPath, source,
+                outgoing.getVertex(bestPathCommonVertex), sink);
+        } else {
+            return createEmptyPath(source, sink);
+        }
+    }
+
     /**
      * Maintains search frontier during shortest path computation.
      *
@@ -263,4 +408,48 @@ public final class BidirectionalDijkstraShortestPath<V, E>
             }
         }
     }
+
+    /**
+     * Search frontier which keeps primitive integer distances of vertex indices.
+     *
+     * @param <V> vertices type
+     * @param <E> edges type
+     */
+    static class IntegerSearchFrontier<V, E>
+        extends BaseSearchFrontier<V, E>
+    {
+        final IndexedAdjacency<V, E> adjacency;
+        final int[] weights;
+        final IntegerDijkstraSearch search;
+
+        IntegerSearchFrontier(
+            Graph<V, E> graph, IndexedAdjacency<V, E> adjacency, int[] weights,
+            IntegerDijkstraSearch search)
+        {
+            super(graph);
+            this.adjacency = adjacency;
+            this.weights = weights;
+            this.search = search;
+        }
+
+        @Override
+        public double getDistance(V v)
+        {
+            int index = adjacency.getVertexIndex(v);
+            if (!search.isReached(index)) {
+                return Double.POSITIVE_INFINITY;
+            }
+            return search.getDistance(index);
+        }
+
+        @Override
+        public E getTreeEdge(V v)
+        {
+            int index = adjacency.getVertexIndex(v);
+            if (!search.isReached(index) || search.getParentArc(index) == -1) {
+                return null;
+            }
+            return adjacency.getArcEdge(search.getParentArc(index));
+        }
+    }
 }
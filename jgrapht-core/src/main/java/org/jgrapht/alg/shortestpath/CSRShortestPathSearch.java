@@ -0,0 +1,192 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+
+/**
+ * Single source shortest path searches on graphs which implement {@link CSRAdjacency}.
+ *
+ * <p>
+ * The searches work directly on the primitive arrays of the graph, thus no vertex or edge is boxed
+ * and no hash lookup is performed while edges are scanned. Only the resulting shortest path tree
+ * is converted to a {@link TreeSingleSourcePathsImpl}.
+ *
+ * @author agent
+ */
+class CSRShortestPathSearch
+{
+    private CSRShortestPathSearch()
+    {
+    }
+
+    /**
+     * Whether a graph can be searched using this class.
+     *
+     * @param graph the graph
+     * @return true if the graph implements {@link CSRAdjacency}, false otherwise
+     */
+    static boolean isApplicable(Graph<?, ?> graph)
+    {
+        return graph instanceof CSRAdjacency;
+    }
+
+    /**
+     * Execute a breadth-first search.
+     *
+     * @param graph the graph, must implement {@link CSRAdjacency}
+     * @param source the source vertex
+     * @param sink the vertex at which the search can stop, or -1 in order to search the whole graph
+     * @return the shortest path tree
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     */
+    static <V, E> SingleSourcePaths<V, E> bfs(Graph<V, E> graph, int source, int sink)
+    {
+        CSRAdjacency csr = (CSRAdjacency) graph;
+        int n = csr.vertexCount();
+        int[] offsets = csr.getOutgoingOffsets();
+        int[] edges = csr.getOutgoingEdges();
+        int[] sources = csr.getEdgeSources();
+        int[] targets = csr.getEdgeTargets();
+
+        int[] dist = new int[n];
+        Arrays.fill(dist, -1);
+        int[] pred = new int[n];
+        int[] queue = new int[n];
+        int head = 0, tail = 0;
+
+        dist[source] = 0;
+        pred[source] = -1;
+        queue[tail++] = source;
+        search: while (head < tail) {
+            int v = queue[head++];
+            if (v == sink) {
+                break;
+            }
+            for (int pos = offsets[v]; pos < offsets[v + 1]; pos++) {
+                int e = edges[pos];
+                int u = sources[e] == v ? targets[e] : sources[e];
+                if (dist[u] == -1) {
+                    dist[u] = dist[v] + 1;
+                    pred[u] = e;
+                    queue[tail++] = u;
+                    if (u == sink) {
+                        break search;
+                    }
+                }
+            }
+        }
+
+        double[] distances = new double[n];
+        for (int i = 0; i < tail; i++) {
+            distances[queue[i]] = dist[queue[i]];
+        }
+        return toPaths(graph, source, queue, tail, distances, pred);
+    }
+
+    /**
+     * Execute Dijkstra's algorithm.
+     *
+     * @param graph the graph, must implement {@link CSRAdjacency}
+     * @param source the source vertex
+     * @param sink the vertex at which the search can stop, or -1 in order to search the whole graph
+     * @param radius limit on weighted path length
+     * @return the shortest path tree
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     */
+    static <V, E> SingleSourcePaths<V, E> dijkstra(
+        Graph<V, E> graph, int source, int sink, double radius)
+    {
+        CSRAdjacency csr = (CSRAdjacency) graph;
+        int n = csr.vertexCount();
+        int[] offsets = csr.getOutgoingOffsets();
+        int[] edges = csr.getOutgoingEdges();
+        int[] sources = csr.getEdgeSources();
+        int[] targets = csr.getEdgeTargets();
+        double[] weights = csr.getEdgeWeights();
+
+        double[] dist = new double[n];
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        int[] pred = new int[n];
+        int[] reached = new int[n];
+        int reachedCount = 0;
+        IndexedDaryHeap heap = new IndexedDaryHeap(n);
+
+        dist[source] = 0d;
+        pred[source] = -1;
+        reached[reachedCount++] = source;
+        heap.insert(source, 0d);
+        while (!heap.isEmpty()) {
+            int v = heap.deleteMin();
+            double vDistance = dist[v];
+            if (v == sink) {
+                break;
+            }
+            for (int pos = offsets[v]; pos < offsets[v + 1]; pos++) {
+                int e = edges[pos];
+                double eWeight = weights == null ? Graph.DEFAULT_EDGE_WEIGHT : weights[e];
+                if (eWeight < 0.0) {
+                    throw new IllegalArgumentException("Negative edge weight not allowed");
+                }
+                int u = sources[e] == v ? targets[e] : sources[e];
+                double uDistance = vDistance + eWeight;
+                if (uDistance > radius || uDistance >= dist[u]) {
+                    continue;
+                }
+                if (dist[u] == Double.POSITIVE_INFINITY) {
+                    reached[reachedCount++] = u;
+                    heap.insert(u, uDistance);
+                } else if (heap.contains(u)) {
+                    heap.decreaseKey(u, uDistance);
+                } else {
+                    // already settled
+                    continue;
+                }
+                dist[u] = uDistance;
+                pred[u] = e;
+            }
+        }
+
+        return toPaths(graph, source, reached, reachedCount, dist, pred);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V, E> SingleSourcePaths<V, E> toPaths(
+        Graph<V, E> graph, int source, int[] reached, int reachedCount, double[] dist,
+        int[] pred)
+    {
+        Map<V, Pair<Double, E>> distanceAndPredecessorMap =
+            CollectionUtil.newHashMapWithExpectedSize(reachedCount);
+        for (int i = 0; i < reachedCount; i++) {
+            int v = reached[i];
+            E e = pred[v] == -1 ? null : (E) Integer.valueOf(pred[v]);
+            distanceAndPredecessorMap.put((V) Integer.valueOf(v), Pair.of(dist[v], e));
+        }
+        return new TreeSingleSourcePathsImpl<>(
+            graph, (V) Integer.valueOf(source), distanceAndPredecessorMap);
+    }
+
+}
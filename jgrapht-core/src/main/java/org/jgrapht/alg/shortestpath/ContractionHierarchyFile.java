@@ -0,0 +1,866 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.builder.*;
+import org.jgrapht.util.*;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.function.*;
+
+import static org.jgrapht.alg.interfaces.ManyToManyShortestPathsAlgorithm.*;
+import static org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.*;
+import static org.jgrapht.alg.shortestpath.TransitNodeRoutingPrecomputation.*;
+
+/**
+ * A persistent binary format for contraction hierarchies and transit node routings.
+ *
+ * <p>
+ * Computing a {@link ContractionHierarchy} or a transit node routing of a large road network may
+ * take a long time, while the queries on them are fast. This class stores a computed index in a
+ * compact file, so that {@link ContractionHierarchyBidirectionalDijkstra},
+ * {@link CHManyToManyShortestPaths} and {@link TransitNodeRoutingShortestPath} can answer queries
+ * right after startup without repeating the precomputation.
+ *
+ * <p>
+ * The file contains a small header followed by little-endian primitive arrays. The contraction
+ * hierarchy is stored as the position and the contraction level of each vertex, the source, the
+ * target and the weight of each edge of the overlay graph and an unpacking table. The unpacking
+ * table maps each edge of the overlay graph either to an edge of the original graph or, if it is a
+ * shortcut, to the two overlay edges which it bypasses. A transit node routing additionally
+ * stores the transit vertices, the table of distances between them, the Voronoi cells, the forward
+ * and backward access vertices along with their distances and the locality filter. The paths to
+ * the access vertices and between the transit vertices are not stored. They are unpacked on demand
+ * using the contraction hierarchy.
+ *
+ * <p>
+ * Files are opened by memory-mapping them using
+ * {@link FileChannel#map(FileChannel.MapMode, long, long)} and copying the arrays in bulk. The
+ * vertices and edges of the original graph are not stored. They are referenced by their position
+ * in the iteration order of {@link Graph#vertexSet()} and {@link Graph#edgeSet()}. Thus a file must
+ * be opened using the graph for which the index was computed, or a graph constructed in exactly the
+ * same way.
+ *
+ * @author agent
+ */
+public class ContractionHierarchyFile
+{
+    private static final int MAGIC = 0x4A474348;
+    private static final int VERSION = 1;
+    private static final int FLAG_TRANSIT_NODE_ROUTING = 1;
+
+    /**
+     * The header consists of the magic number, the format version, the flags, the number of
+     * vertices, original edges and overlay edges, and the number of transit vertices, forward and
+     * backward access vertices and forward and backward visited Voronoi cells.
+     */
+    private static final int HEADER_INTS = 11;
+    private static final int HEADER_BYTES = HEADER_INTS * Integer.BYTES;
+
+    /**
+     * Maximum number of bytes mapped at once, a multiple of the size of all primitive types
+     */
+    private static final int MAX_MAPPED_BYTES = 1 << 30;
+
+    /**
+     * Marks an overlay edge in the unpacking table which corresponds to an original edge.
+     */
+    private static final int NO_EDGE = -1;
+
+    private ContractionHierarchyFile()
+    {
+    }
+
+    /**
+     * Write a contraction hierarchy to a file. Any existing file is overwritten.
+     *
+     * @param hierarchy the contraction hierarchy
+     * @param path the file path
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @throws IOException in case of an I/O error
+     */
+    public static <V, E> void write(ContractionHierarchy<V, E> hierarchy, Path path)
+        throws IOException
+    {
+        Objects.requireNonNull(hierarchy, "Contraction hierarchy cannot be null");
+        write(hierarchy, null, path);
+    }
+
+    /**
+     * Write the transit node routing of an algorithm to a file. Any existing file is overwritten.
+     * The precomputation of the algorithm is performed first, if it has not been performed yet.
+     *
+     * @param shortestPath the transit node routing shortest path algorithm
+     * @param path the file path
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @throws IOException in case of an I/O error
+     */
+    public static <V, E> void writeTransitNodeRouting(
+        TransitNodeRoutingShortestPath<V, E> shortestPath, Path path)
+        throws IOException
+    {
+        Objects.requireNonNull(shortestPath, "Shortest path algorithm cannot be null");
+        TransitNodeRouting<V, E> routing = shortestPath.getTransitNodeRouting();
+        write(routing.getContractionHierarchy(), routing, path);
+    }
+
+    /**
+     * Open the contraction hierarchy which is stored in a file. The file may also contain a transit
+     * node routing, which is ignored.
+     *
+     * @param graph the graph for which the contraction hierarchy was computed
+     * @param path the file path
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @return the contraction hierarchy
+     * @throws IOException in case of an I/O error or if the file is not a valid contraction
+     *         hierarchy file
+     * @throws IllegalArgumentException if the file does not match the number of vertices or edges
+     *         of the graph
+     */
+    public static <V, E> ContractionHierarchy<V, E> read(Graph<V, E> graph, Path path)
+        throws IOException
+    {
+        Objects.requireNonNull(graph, "Graph cannot be null");
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            Input input = new Input(channel);
+            int[] header = input.readHeader();
+            return readHierarchy(graph, input, header, new ArrayList<>());
+        }
+    }
+
+    /**
+     * Open the transit node routing which is stored in a file.
+     *
+     * @param graph the graph for which the transit node routing was computed
+     * @param path the file path
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @return a transit node routing shortest path algorithm which uses the stored transit node
+     *         routing
+     * @throws IOException in case of an I/O error or if the file is not a valid transit node
+     *         routing file
+     * @throws IllegalArgumentException if the file does not match the number of vertices or edges
+     *         of the graph
+     */
+    public static <V, E> TransitNodeRoutingShortestPath<V, E> readTransitNodeRouting(
+        Graph<V, E> graph, Path path)
+        throws IOException
+    {
+        Objects.requireNonNull(graph, "Graph cannot be null");
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            Input input = new Input(channel);
+            int[] header = input.readHeader();
+            if ((header[2] & FLAG_TRANSIT_NODE_ROUTING) == 0) {
+                throw new IOException("File does not contain a transit node routing");
+            }
+            List<ContractionVertex<V>> vertices = new ArrayList<>();
+            ContractionHierarchy<V, E> hierarchy = readHierarchy(graph, input, header, vertices);
+            return new TransitNodeRoutingShortestPath<>(
+                readTransitNodeRouting(hierarchy, vertices, input, header));
+        }
+    }
+
+    private static <V, E> void write(
+        ContractionHierarchy<V, E> hierarchy, TransitNodeRouting<V, E> routing, Path path)
+        throws IOException
+    {
+        Objects.requireNonNull(path, "Path cannot be null");
+        Graph<V, E> graph = hierarchy.getGraph();
+        Graph<ContractionVertex<V>, ContractionEdge<E>> contractionGraph =
+            hierarchy.getContractionGraph();
+
+        int n = contractionGraph.vertexSet().size();
+        List<ContractionVertex<V>> vertices = new ArrayList<>(Collections.nCopies(n, null));
+        Map<V, Integer> vertexIndices = CollectionUtil.newHashMapWithExpectedSize(n);
+        for (V v : graph.vertexSet()) {
+            vertexIndices.put(v, vertexIndices.size());
+        }
+        int[] positions = new int[n];
+        int[] levels = new int[n];
+        for (ContractionVertex<V> v : contractionGraph.vertexSet()) {
+            vertices.set(v.vertexId, v);
+            positions[v.vertexId] = indexOf(vertexIndices, v.vertex);
+            levels[v.vertexId] = v.contractionLevel;
+        }
+
+        Map<E, Integer> edgeIndices =
+            CollectionUtil.newHashMapWithExpectedSize(graph.edgeSet().size());
+        for (E e : graph.edgeSet()) {
+            edgeIndices.put(e, edgeIndices.size());
+        }
+        int c = contractionGraph.edgeSet().size();
+        Map<ContractionEdge<E>, Integer> contractionEdgeIndices =
+            CollectionUtil.newHashMapWithExpectedSize(c);
+        for (ContractionEdge<E> e : contractionGraph.edgeSet()) {
+            contractionEdgeIndices.put(e, contractionEdgeIndices.size());
+        }
+
+        int[] sources = new int[c];
+        int[] targets = new int[c];
+        double[] weights = new double[c];
+        int[] unpackFirst = new int[c];
+        int[] unpackSecond = new int[c];
+        int i = 0;
+        for (ContractionEdge<E> e : contractionGraph.edgeSet()) {
+            sources[i] = contractionGraph.getEdgeSource(e).vertexId;
+            targets[i] = contractionGraph.getEdgeTarget(e).vertexId;
+            weights[i] = contractionGraph.getEdgeWeight(e);
+            if (e.bypassedEdges == null) {
+                unpackFirst[i] = indexOf(edgeIndices, e.edge);
+                unpackSecond[i] = NO_EDGE;
+            } else {
+                unpackFirst[i] = indexOf(contractionEdgeIndices, e.bypassedEdges.getFirst());
+                unpackSecond[i] = indexOf(contractionEdgeIndices, e.bypassedEdges.getSecond());
+            }
+            i++;
+        }
+
+        int[] transitVertices = new int[0];
+        double[] distances = new double[0];
+        int[] voronoiCells = new int[0];
+        PackedLists forwardAccessVertices = PackedLists.EMPTY;
+        PackedLists backwardAccessVertices = PackedLists.EMPTY;
+        PackedLists forwardVoronoiCells = PackedLists.EMPTY;
+        PackedLists backwardVoronoiCells = PackedLists.EMPTY;
+        if (routing != null) {
+            List<ContractionVertex<V>> transitList = new ArrayList<>(routing.getTransitVertices());
+            int t = transitList.size();
+            if ((long) t * t > Integer.MAX_VALUE - 8) {
+                throw new IllegalArgumentException("Too many transit vertices");
+            }
+            transitVertices = new int[t];
+            distances = new double[t * t];
+            ManyToManyShortestPaths<V, E> transitPaths = routing.getTransitVerticesPaths();
+            for (int j = 0; j < t; j++) {
+                V source = transitList.get(j).vertex;
+                transitVertices[j] = transitList.get(j).vertexId;
+                for (int k = 0; k < t; k++) {
+                    V target = transitList.get(k).vertex;
+                    distances[j * t + k] = transitPaths.getWeight(source, target);
+                }
+            }
+
+            VoronoiDiagram<V> voronoiDiagram = routing.getVoronoiDiagram();
+            voronoiCells = new int[n];
+            for (ContractionVertex<V> v : vertices) {
+                voronoiCells[v.vertexId] = voronoiDiagram.getVoronoiCellId(v);
+            }
+
+            Map<V, ContractionVertex<V>> mapping = hierarchy.getContractionMapping();
+            AccessVertices<V, E> accessVertices = routing.getAccessVertices();
+            forwardAccessVertices = PackedLists
+                .ofAccessVertices(vertices, accessVertices::getForwardAccessVertices, mapping);
+            backwardAccessVertices = PackedLists
+                .ofAccessVertices(vertices, accessVertices::getBackwardAccessVertices, mapping);
+            LocalityFilter<V> localityFilter = routing.getLocalityFilter();
+            forwardVoronoiCells =
+                PackedLists.ofSets(localityFilter.getVisitedForwardVoronoiCells());
+            backwardVoronoiCells =
+                PackedLists.ofSets(localityFilter.getVisitedBackwardVoronoiCells());
+        }
+
+        try (FileChannel channel = FileChannel
+            .open(
+                path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING))
+        {
+            Output output = new Output(channel);
+            output
+                .writeInts(
+                    new int[] { MAGIC, VERSION, routing != null ? FLAG_TRANSIT_NODE_ROUTING : 0, n,
+                        graph.edgeSet().size(), c, transitVertices.length,
+                        forwardAccessVertices.size(), backwardAccessVertices.size(),
+                        forwardVoronoiCells.size(), backwardVoronoiCells.size() });
+            output.writeInts(positions);
+            output.writeInts(levels);
+            output.writeInts(sources);
+            output.writeInts(targets);
+            output.writeDoubles(weights);
+            output.writeInts(unpackFirst);
+            output.writeInts(unpackSecond);
+            if (routing != null) {
+                output.writeInts(transitVertices);
+                output.writeDoubles(distances);
+                output.writeInts(voronoiCells);
+                forwardAccessVertices.write(output);
+                backwardAccessVertices.write(output);
+                forwardVoronoiCells.write(output);
+                backwardVoronoiCells.write(output);
+            }
+            output.flush();
+        }
+    }
+
+    private static <T> int indexOf(Map<T, Integer> indices, T element)
+    {
+        Integer index = indices.get(element);
+        if (index == null) {
+            throw new IllegalArgumentException(
+                "Contraction hierarchy is inconsistent with its graph");
+        }
+        return index;
+    }
+
+    private static <V, E> ContractionHierarchy<V, E> readHierarchy(
+        Graph<V, E> graph, Input input, int[] header, List<ContractionVertex<V>> vertices)
+        throws IOException
+    {
+        int n = header[3];
+        int m = header[4];
+        int c = header[5];
+        if (n != graph.vertexSet().size() || m != graph.edgeSet().size()) {
+            throw new IllegalArgumentException("File does not match the graph");
+        }
+
+        int[] positions = input.readInts(n);
+        int[] levels = input.readInts(n);
+        int[] sources = input.readInts(c);
+        int[] targets = input.readInts(c);
+        double[] weights = input.readDoubles(c);
+        int[] unpackFirst = input.readInts(c);
+        int[] unpackSecond = input.readInts(c);
+
+        Graph<ContractionVertex<V>, ContractionEdge<E>> contractionGraph = GraphTypeBuilder
+            .<ContractionVertex<V>, ContractionEdge<E>> directed().weighted(true)
+            .allowingMultipleEdges(false).allowingSelfLoops(false).buildGraph();
+        Map<V, ContractionVertex<V>> contractionMapping =
+            CollectionUtil.newHashMapWithExpectedSize(n);
+        List<V> graphVertices = new ArrayList<>(graph.vertexSet());
+        for (int vertexId = 0; vertexId < n; vertexId++) {
+            checkIndex(positions[vertexId], n);
+            V v = graphVertices.get(positions[vertexId]);
+            ContractionVertex<V> contractionVertex = new ContractionVertex<>(v, vertexId);
+            contractionVertex.contractionLevel = levels[vertexId];
+            vertices.add(contractionVertex);
+            contractionGraph.addVertex(contractionVertex);
+            contractionMapping.put(v, contractionVertex);
+        }
+        if (contractionMapping.size() != n) {
+            throw new IOException("Corrupted contraction hierarchy file");
+        }
+
+        List<E> edges = new ArrayList<>(graph.edgeSet());
+        List<ContractionEdge<E>> contractionEdges = new ArrayList<>(c);
+        for (int i = 0; i < c; i++) {
+            ContractionEdge<E> e;
+            if (unpackSecond[i] == NO_EDGE) {
+                checkIndex(unpackFirst[i], m);
+                e = new ContractionEdge<>(edges.get(unpackFirst[i]));
+            } else {
+                checkIndex(unpackFirst[i], c);
+                checkIndex(unpackSecond[i], c);
+                E none = null;
+                e = new ContractionEdge<>(none);
+                e.originalEdges = 0;
+            }
+            checkIndex(sources[i], n);
+            checkIndex(targets[i], n);
+            e.isUpward = levels[sources[i]] < levels[targets[i]];
+            try {
+                if (!contractionGraph
+                    .addEdge(vertices.get(sources[i]), vertices.get(targets[i]), e))
+                {
+                    throw new IOException("Corrupted contraction hierarchy file");
+                }
+            } catch (IllegalArgumentException ex) {
+                throw new IOException("Corrupted contraction hierarchy file", ex);
+            }
+            contractionGraph.setEdgeWeight(e, weights[i]);
+            contractionEdges.add(e);
+        }
+        for (int i = 0; i < c; i++) {
+            if (unpackSecond[i] != NO_EDGE) {
+                contractionEdges.get(i).bypassedEdges = Pair.of(
+                    contractionEdges.get(unpackFirst[i]), contractionEdges.get(unpackSecond[i]));
+            }
+        }
+        countOriginalEdges(contractionEdges);
+
+        return new ContractionHierarchy<>(graph, contractionGraph, contractionMapping);
+    }
+
+    /**
+     * Compute the number of original edges represented by each shortcut, without recursion. A
+     * shortcut which is still being computed is marked with a negative count, so cycles in a
+     * corrupted unpacking table are detected.
+     */
+    private static <E> void countOriginalEdges(List<ContractionEdge<E>> edges)
+        throws IOException
+    {
+        Deque<ContractionEdge<E>> stack = new ArrayDeque<>();
+        for (ContractionEdge<E> edge : edges) {
+            if (edge.originalEdges != 0) {
+                continue;
+            }
+            edge.originalEdges = -1;
+            stack.push(edge);
+            while (!stack.isEmpty()) {
+                ContractionEdge<E> e = stack.peek();
+                ContractionEdge<E> first = e.bypassedEdges.getFirst();
+                ContractionEdge<E> second = e.bypassedEdges.getSecond();
+                ContractionEdge<E> next =
+                    first.originalEdges == 0 ? first : second.originalEdges == 0 ? second : null;
+                if (next != null) {
+                    next.originalEdges = -1;
+                    stack.push(next);
+                } else if (first.originalEdges < 0 || second.originalEdges < 0) {
+                    throw new IOException("Corrupted contraction hierarchy file");
+                } else {
+                    e.originalEdges = first.originalEdges + second.originalEdges;
+                    stack.pop();
+                }
+            }
+        }
+    }
+
+    private static <V, E> TransitNodeRouting<V, E> readTransitNodeRouting(
+        ContractionHierarchy<V, E> hierarchy, List<ContractionVertex<V>> vertices, Input input,
+        int[] header)
+        throws IOException
+    {
+        int n = header[3];
+        int t = header[6];
+        int[] transitVertices = input.readInts(t);
+        double[] distances = input.readDoubles(t * t);
+        int[] voronoiCells = input.readInts(n);
+        PackedLists forwardAccessVertices = PackedLists.read(input, n, header[7], true);
+        PackedLists backwardAccessVertices = PackedLists.read(input, n, header[8], true);
+        PackedLists forwardVoronoiCells = PackedLists.read(input, n, header[9], false);
+        PackedLists backwardVoronoiCells = PackedLists.read(input, n, header[10], false);
+        for (int v : transitVertices) {
+            checkIndex(v, n);
+        }
+        for (int v : forwardAccessVertices.values) {
+            checkIndex(v, n);
+        }
+        for (int v : backwardAccessVertices.values) {
+            checkIndex(v, n);
+        }
+
+        ContractionHierarchyBidirectionalDijkstra<V, E> unpacking =
+            new ContractionHierarchyBidirectionalDijkstra<>(hierarchy);
+
+        Set<ContractionVertex<V>> transitVerticesSet = CollectionUtil.newHashSetWithExpectedSize(t);
+        Map<V, Integer> transitIndices = CollectionUtil.newHashMapWithExpectedSize(t);
+        for (int j = 0; j < t; j++) {
+            ContractionVertex<V> v = vertices.get(transitVertices[j]);
+            transitVerticesSet.add(v);
+            transitIndices.put(v.vertex, j);
+        }
+        if (transitIndices.size() != t) {
+            throw new IOException("Corrupted contraction hierarchy file");
+        }
+
+        AccessVertices<V, E> accessVertices = new AccessVertices<>(
+            forwardAccessVertices.toAccessVertices(vertices, unpacking, true),
+            backwardAccessVertices.toAccessVertices(vertices, unpacking, false));
+        LocalityFilter<V> localityFilter = new LocalityFilter<>(
+            hierarchy.getContractionMapping(), forwardVoronoiCells.toSets(),
+            backwardVoronoiCells.toSets());
+
+        return new TransitNodeRouting<>(
+            hierarchy, transitVerticesSet,
+            new TransitVerticesPaths<>(transitIndices, distances, unpacking),
+            new VoronoiDiagram<>(voronoiCells), accessVertices, localityFilter);
+    }
+
+    private static void checkIndex(int index, int size)
+        throws IOException
+    {
+        if (index < 0 || index >= size) {
+            throw new IOException("Corrupted contraction hierarchy file");
+        }
+    }
+
+    /**
+     * A list of integer lists, optionally with a weight per element, stored as offsets and values.
+     */
+    private static class PackedLists
+    {
+        static final PackedLists EMPTY = new PackedLists(new int[] { 0 }, new int[0], null);
+
+        final int[] offsets;
+        final int[] values;
+        final double[] weights;
+
+        PackedLists(int[] offsets, int[] values, double[] weights)
+        {
+            this.offsets = offsets;
+            this.values = values;
+            this.weights = weights;
+        }
+
+        int size()
+        {
+            return values.length;
+        }
+
+        static <V, E> PackedLists ofAccessVertices(
+            List<ContractionVertex<V>> vertices,
+            Function<ContractionVertex<V>, List<AccessVertex<V, E>>> accessVertices,
+            Map<V, ContractionVertex<V>> mapping)
+        {
+            int n = vertices.size();
+            int[] offsets = new int[n + 1];
+            for (int v = 0; v < n; v++) {
+                offsets[v + 1] = offsets[v] + accessVertices.apply(vertices.get(v)).size();
+            }
+            int[] values = new int[offsets[n]];
+            double[] weights = new double[offsets[n]];
+            for (int v = 0; v < n; v++) {
+                int i = offsets[v];
+                for (AccessVertex<V, E> av : accessVertices.apply(vertices.get(v))) {
+                    values[i] = mapping.get(av.getVertex()).vertexId;
+                    weights[i] = av.getPath().getWeight();
+                    i++;
+                }
+            }
+            return new PackedLists(offsets, values, weights);
+        }
+
+        static PackedLists ofSets(List<Set<Integer>> sets)
+        {
+            int n = sets.size();
+            int[] offsets = new int[n + 1];
+            for (int v = 0; v < n; v++) {
+                offsets[v + 1] = offsets[v] + sets.get(v).size();
+            }
+            int[] values = new int[offsets[n]];
+            for (int v = 0; v < n; v++) {
+                int i = offsets[v];
+                for (Integer value : sets.get(v)) {
+                    values[i++] = value;
+                }
+            }
+            return new PackedLists(offsets, values, null);
+        }
+
+        static PackedLists read(Input input, int n, int size, boolean weighted)
+            throws IOException
+        {
+            int[] offsets = input.readInts(n + 1);
+            if (offsets[0] != 0 || offsets[n] != size) {
+                throw new IOException("Corrupted contraction hierarchy file");
+            }
+            for (int v = 0; v < n; v++) {
+                if (offsets[v] > offsets[v + 1]) {
+                    throw new IOException("Corrupted contraction hierarchy file");
+                }
+            }
+            int[] values = input.readInts(size);
+            double[] weights = weighted ? input.readDoubles(size) : null;
+            return new PackedLists(offsets, values, weights);
+        }
+
+        void write(Output output)
+            throws IOException
+        {
+            output.writeInts(offsets);
+            output.writeInts(values);
+            if (weights != null) {
+                output.writeDoubles(weights);
+            }
+        }
+
+        <V, E> List<List<AccessVertex<V, E>>> toAccessVertices(
+            List<ContractionVertex<V>> vertices, ShortestPathAlgorithm<V, E> unpacking,
+            boolean forward)
+        {
+            int n = offsets.length - 1;
+            List<List<AccessVertex<V, E>>> result = new ArrayList<>(n);
+            for (int v = 0; v < n; v++) {
+                List<AccessVertex<V, E>> list = new ArrayList<>(offsets[v + 1] - offsets[v]);
+                V vertex = vertices.get(v).vertex;
+                for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                    V accessVertex = vertices.get(values[i]).vertex;
+                    GraphPath<V, E> path = forward
+                        ? new UnpackedPath<>(unpacking, vertex, accessVertex, weights[i])
+                        : new UnpackedPath<>(unpacking, accessVertex, vertex, weights[i]);
+                    list.add(new AccessVertex<>(accessVertex, path));
+                }
+                result.add(list);
+            }
+            return result;
+        }
+
+        List<Set<Integer>> toSets()
+        {
+            int n = offsets.length - 1;
+            List<Set<Integer>> result = new ArrayList<>(n);
+            for (int v = 0; v < n; v++) {
+                Set<Integer> set =
+                    CollectionUtil.newHashSetWithExpectedSize(offsets[v + 1] - offsets[v]);
+                for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                    set.add(values[i]);
+                }
+                result.add(set);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Paths between the transit vertices backed by a table of distances. The paths themselves are
+     * unpacked on demand.
+     */
+    private static class TransitVerticesPaths<V, E>
+        extends BaseManyToManyShortestPathsImpl<V, E>
+    {
+        private final Map<V, Integer> indices;
+        private final double[] distances;
+        private final ShortestPathAlgorithm<V, E> unpacking;
+
+        TransitVerticesPaths(
+            Map<V, Integer> indices, double[] distances, ShortestPathAlgorithm<V, E> unpacking)
+        {
+            super(indices.keySet(), indices.keySet());
+            this.indices = indices;
+            this.distances = distances;
+            this.unpacking = unpacking;
+        }
+
+        @Override
+        public GraphPath<V, E> getPath(V source, V target)
+        {
+            if (getWeight(source, target) == Double.POSITIVE_INFINITY) {
+                return null;
+            }
+            return unpacking.getPath(source, target);
+        }
+
+        @Override
+        public double getWeight(V source, V target)
+        {
+            assertCorrectSourceAndTarget(source, target);
+            return distances[indices.get(source) * indices.size() + indices.get(target)];
+        }
+    }
+
+    /**
+     * A path with a known weight, whose edges are unpacked on demand.
+     */
+    private static class UnpackedPath<V, E>
+        implements GraphPath<V, E>
+    {
+        private final ShortestPathAlgorithm<V, E> unpacking;
+        private final V source;
+        private final V target;
+        private final double weight;
+        private GraphPath<V, E> path;
+
+        UnpackedPath(ShortestPathAlgorithm<V, E> unpacking, V source, V target, double weight)
+        {
+            this.unpacking = unpacking;
+            this.source = source;
+            this.target = target;
+            this.weight = weight;
+        }
+
+        private GraphPath<V, E> unpack()
+        {
+            if (path == null) {
+                path = unpacking.getPath(source, target);
+            }
+            return path;
+        }
+
+        @Override
+        public Graph<V, E> getGraph()
+        {
+            return unpack().getGraph();
+        }
+
+        @Override
+        public V getStartVertex()
+        {
+            return source;
+        }
+
+        @Override
+        public V getEndVertex()
+        {
+            return target;
+        }
+
+        @Override
+        public List<E> getEdgeList()
+        {
+            return unpack().getEdgeList();
+        }
+
+        @Override
+        public List<V> getVertexList()
+        {
+            return unpack().getVertexList();
+        }
+
+        @Override
+        public double getWeight()
+        {
+            return weight;
+        }
+    }
+
+    /**
+     * Writes primitive arrays to a channel through a direct buffer.
+     */
+    private static class Output
+    {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+
+        Output(FileChannel channel)
+        {
+            this.channel = channel;
+            this.buffer = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        void writeInts(int[] values)
+            throws IOException
+        {
+            for (int value : values) {
+                if (buffer.remaining() < Integer.BYTES) {
+                    flush();
+                }
+                buffer.putInt(value);
+            }
+        }
+
+        void writeDoubles(double[] values)
+            throws IOException
+        {
+            for (double value : values) {
+                if (buffer.remaining() < Double.BYTES) {
+                    flush();
+                }
+                buffer.putDouble(value);
+            }
+        }
+
+        void flush()
+            throws IOException
+        {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Reads primitive arrays from consecutive regions of a memory-mapped channel.
+     */
+    private static class Input
+    {
+        private final FileChannel channel;
+        private long position;
+
+        Input(FileChannel channel)
+        {
+            this.channel = channel;
+        }
+
+        /**
+         * Read and validate the header, including the size of the file.
+         */
+        int[] readHeader()
+            throws IOException
+        {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                throw new IOException("Not a contraction hierarchy file");
+            }
+            int[] header = readInts(HEADER_INTS);
+            if (header[0] != MAGIC) {
+                throw new IOException("Not a contraction hierarchy file");
+            }
+            if (header[1] != VERSION) {
+                throw new IOException(
+                    "Unsupported contraction hierarchy file version: " + header[1]);
+            }
+            for (int i = 3; i < HEADER_INTS; i++) {
+                if (header[i] < 0) {
+                    throw new IOException("Corrupted contraction hierarchy file");
+                }
+            }
+            long n = header[3];
+            long c = header[5];
+            long expectedSize =
+                HEADER_BYTES + 2 * n * Integer.BYTES + c * (4L * Integer.BYTES + Double.BYTES);
+            if ((header[2] & FLAG_TRANSIT_NODE_ROUTING) != 0) {
+                long t = header[6];
+                if (t * t > Integer.MAX_VALUE - 8) {
+                    throw new IOException("Corrupted contraction hierarchy file");
+                }
+                expectedSize += t * Integer.BYTES + t * t * Double.BYTES + n * Integer.BYTES
+                    + 4 * (n + 1) * Integer.BYTES
+                    + ((long) header[7] + header[8]) * (Integer.BYTES + Double.BYTES)
+                    + ((long) header[9] + header[10]) * Integer.BYTES;
+            }
+            if (size != expectedSize) {
+                throw new IOException("Corrupted contraction hierarchy file");
+            }
+            return header;
+        }
+
+        int[] readInts(int length)
+            throws IOException
+        {
+            int[] values = new int[length];
+            int capacity = MAX_MAPPED_BYTES / Integer.BYTES;
+            for (int from = 0; from < length; from += capacity) {
+                int chunk = Math.min(capacity, length - from);
+                MappedByteBuffer mapped = channel
+                    .map(FileChannel.MapMode.READ_ONLY, position, (long) chunk * Integer.BYTES);
+                mapped.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(values, from, chunk);
+                position += (long) chunk * Integer.BYTES;
+            }
+            return values;
+        }
+
+        double[] readDoubles(int length)
+            throws IOException
+        {
+            double[] values = new double[length];
+            int capacity = MAX_MAPPED_BYTES / Double.BYTES;
+            for (int from = 0; from < length; from += capacity) {
+                int chunk = Math.min(capacity, length - from);
+                MappedByteBuffer mapped = channel
+                    .map(FileChannel.MapMode.READ_ONLY, position, (long) chunk * Double.BYTES);
+                mapped.order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer().get(values, from, chunk);
+                position += (long) chunk * Double.BYTES;
+            }
+            return values;
+        }
+    }
+
+}
@@ -19,29 +19,27 @@ package org.jgrapht.alg.shortestpath;
 
 import org.jgrapht.Graph;
 import org.jgrapht.Graphs;
+import org.jgrapht.alg.util.IndexedDaryHeap;
 import org.jgrapht.alg.util.Pair;
 import org.jgrapht.graph.MaskSubgraph;
 import org.jgrapht.graph.builder.GraphTypeBuilder;
 import org.jgrapht.util.ConcurrencyUtil;
 import org.jheaps.AddressableHeap;
-import org.jheaps.tree.PairingHeap;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Random;
-import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
-import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 /**
@@ -82,6 +80,12 @@ import java.util.function.Supplier;
  * comparing to the sequential approach.
  *
  * <p>
+ * The witness searches which determine the shortcuts of a vertex are bounded Dijkstra searches in
+ * the overlay graph. Each task of the executor owns the scratch space of its searches, an indexed
+ * d-ary heap and arrays indexed by vertex id which are invalidated using a search counter instead
+ * of being cleared. Thus the searches do not allocate any memory.
+ *
+ * <p>
  * For parallelization, this implementation relies on the {@link ThreadPoolExecutor} which is
  * supplied to this algorithm from outside.
  *
@@ -132,11 +136,6 @@ public class ContractionHierarchyPrecomputation<V, E>
      */
     private AtomicInteger contractionLevelCounter;
 
-    /**
-     * Supplier for the preferable heap implementation.
-     */
-    private Supplier<AddressableHeap<Double, ContractionVertex<V>>> shortcutsSearchHeapSupplier;
-
     /**
      * Decorator for {@link ThreadPoolExecutor} supplied to this algorithm that enables to keep
      * track of when all submitted tasks are finished.
@@ -157,23 +156,23 @@ public class ContractionHierarchyPrecomputation<V, E>
      * {@code contractionGraph}. Each consumer holds an instance of the {@link Random} class to
      * avoid concurrent calls to single instance.
      */
-    private List<Consumer<ContractionVertex<V>>> computeInitialPrioritiesConsumers;
+    private List<BiConsumer<ContractionVertex<V>, WitnessSearch>> computeInitialPrioritiesConsumers;
     /**
      * Computes independent set during contraction.
      */
-    private Consumer<ContractionVertex<V>> computeIndependentSetConsumer;
+    private BiConsumer<ContractionVertex<V>, WitnessSearch> computeIndependentSetConsumer;
     /**
      * Computes shortcuts for a vertex.
      */
-    private Consumer<ContractionVertex<V>> computeShortcutsConsumer;
+    private BiConsumer<ContractionVertex<V>, WitnessSearch> computeShortcutsConsumer;
     /**
      * Updates neighbours priorities of a vertex.
      */
-    private Consumer<ContractionVertex<V>> updateNeighboursConsumer;
+    private BiConsumer<ContractionVertex<V>, WitnessSearch> updateNeighboursConsumer;
     /**
      * Sets value of {@code isUpward} for the outgoing edges of a vertex.
      */
-    private Consumer<ContractionVertex<V>> markUpwardEdgesConsumer;
+    private BiConsumer<ContractionVertex<V>, WitnessSearch> markUpwardEdgesConsumer;
 
     /**
      * Constructs a new instance of the algorithm for a given {@code graph} and {@code executor}. It
@@ -203,7 +202,7 @@ public class ContractionHierarchyPrecomputation<V, E>
     public ContractionHierarchyPrecomputation(
         Graph<V, E> graph, Supplier<Random> randomSupplier, ThreadPoolExecutor executor)
     {
-        this(graph, randomSupplier, PairingHeap::new, executor);
+        init(graph, randomSupplier, executor);
     }
 
     /**
@@ -218,13 +217,17 @@ public class ContractionHierarchyPrecomputation<V, E>
      * @param randomSupplier supplier for preferable instances of {@link Random}
      * @param shortcutsSearchHeapSupplier supplier for the preferable heap implementation.
      * @param executor executor which will be used for parallelization
+     * @deprecated the shortcuts searches use an internal array-based heap and the heap supplier is
+     *             ignored, use {@link #ContractionHierarchyPrecomputation(Graph, Supplier,
+     *             ThreadPoolExecutor)} instead
      */
+    @Deprecated
     public ContractionHierarchyPrecomputation(
         Graph<V, E> graph, Supplier<Random> randomSupplier,
         Supplier<AddressableHeap<Double, ContractionVertex<V>>> shortcutsSearchHeapSupplier,
         ThreadPoolExecutor executor)
     {
-        init(graph, randomSupplier, shortcutsSearchHeapSupplier, executor);
+        init(graph, randomSupplier, executor);
     }
 
     /**
@@ -232,20 +235,16 @@ public class ContractionHierarchyPrecomputation<V, E>
      *
      * @param graph a graph
      * @param randomSupplier supplier for preferable instances of {@link Random}
-     * @param shortcutsSearchHeapSupplier supplier for the preferable heap implementation.
      * @param executor executor which will be used for parallelization
      */
     private void init(
-        Graph<V, E> graph, Supplier<Random> randomSupplier,
-        Supplier<AddressableHeap<Double, ContractionVertex<V>>> shortcutsSearchHeapSupplier,
-        ThreadPoolExecutor executor)
+        Graph<V, E> graph, Supplier<Random> randomSupplier, ThreadPoolExecutor executor)
     {
         this.graph = graph;
         this.contractionGraph = GraphTypeBuilder
             .<ContractionVertex<V>, ContractionEdge<E>> directed().weighted(true)
             .allowingMultipleEdges(false).allowingSelfLoops(false).buildGraph();
         this.parallelism = executor.getMaximumPoolSize();
-        this.shortcutsSearchHeapSupplier = shortcutsSearchHeapSupplier;
 
         vertices = new ArrayList<>(graph.vertexSet().size());
         shortcutEdges = new ArrayList<>(Collections.nCopies(graph.vertexSet().size(), null));
@@ -265,24 +264,26 @@ public class ContractionHierarchyPrecomputation<V, E>
         computeInitialPrioritiesConsumers = new ArrayList<>(parallelism);
         for (int i = 0; i < parallelism; ++i) {
             tasks.add(new ContractionTask(i));
-            computeInitialPrioritiesConsumers.add(new Consumer<>()
+            computeInitialPrioritiesConsumers.add(new BiConsumer<>()
             {
                 Random random = randomSupplier.get();
 
                 @Override
-                public void accept(ContractionVertex<V> vertex)
+                public void accept(ContractionVertex<V> vertex, WitnessSearch search)
                 {
-                    verticesData.set(vertex.vertexId, getVertexData(vertex, random.nextInt()));
+                    verticesData
+                        .set(vertex.vertexId, getVertexData(vertex, random.nextInt(), search));
                 }
             });
         }
 
-        computeIndependentSetConsumer =
-            vertex -> verticesData.get(vertex.vertexId).isIndependent = vertexIsIndependent(vertex);
+        computeIndependentSetConsumer = (vertex, search) -> verticesData
+            .get(vertex.vertexId).isIndependent = vertexIsIndependent(vertex);
         computeShortcutsConsumer =
-            vertex -> shortcutEdges.set(vertex.vertexId, getShortcuts(vertex));
-        updateNeighboursConsumer = vertex -> updateNeighboursData(vertex);
-        markUpwardEdgesConsumer = vertex -> contractionGraph.outgoingEdgesOf(vertex).forEach(
+            (vertex, search) -> shortcutEdges.set(vertex.vertexId, getShortcuts(vertex, search));
+        updateNeighboursConsumer = (vertex, search) -> updateNeighboursData(vertex, search);
+        markUpwardEdgesConsumer = (vertex, search) -> contractionGraph
+            .outgoingEdgesOf(vertex).forEach(
             e -> e.isUpward = contractionGraph.getEdgeSource(e).contractionLevel < contractionGraph
                 .getEdgeTarget(e).contractionLevel);
     }
@@ -549,8 +550,9 @@ public class ContractionHierarchyPrecomputation<V, E>
      * Method {@link Graphs#neighborSetOf(Graph, Object)} is used to traverse neighbours.
      *
      * @param vertex a vertex in the {@code contractionGraph}
+     * @param search the witness search of the current task
      */
-    private void updateNeighboursData(ContractionVertex<V> vertex)
+    private void updateNeighboursData(ContractionVertex<V> vertex, WitnessSearch search)
     {
         VertexData vertexData = verticesData.get(vertex.vertexId);
         for (ContractionVertex<V> neighbour : Graphs
@@ -558,7 +560,7 @@ public class ContractionHierarchyPrecomputation<V, E>
         {
             VertexData neighbourData = verticesData.get(neighbour.vertexId);
             neighbourData.depth = Math.max(neighbourData.depth, vertexData.depth + 1);
-            updatePriority(neighbour, neighbourData);
+            updatePriority(neighbour, neighbourData, search);
         }
     }
 
@@ -568,12 +570,13 @@ public class ContractionHierarchyPrecomputation<V, E>
      *
      * @param vertex a vertex in {@code contractionGraph}
      * @param random random number
+     * @param search the witness search of the current task
      * @return created {@code VertexData}
      */
-    private VertexData getVertexData(ContractionVertex<V> vertex, int random)
+    private VertexData getVertexData(ContractionVertex<V> vertex, int random, WitnessSearch search)
     {
         VertexData result = new VertexData(random);
-        updatePriority(vertex, result);
+        updatePriority(vertex, result, search);
         return result;
     }
 
@@ -583,10 +586,12 @@ public class ContractionHierarchyPrecomputation<V, E>
      *
      * @param vertex a vertex in the {@code contractionGraph}
      * @param data data of vertex
+     * @param search the witness search of the current task
      */
-    private void updatePriority(ContractionVertex<V> vertex, VertexData data)
+    private void updatePriority(
+        ContractionVertex<V> vertex, VertexData data, WitnessSearch search)
     {
-        VertexStatistics statistics = getStatistics(vertex);
+        VertexStatistics statistics = getStatistics(vertex, search);
         if (statistics.removedContractionEdges * statistics.removedOriginalEdges == 0) {
             data.priority = data.depth;
         } else {
@@ -601,12 +606,13 @@ public class ContractionHierarchyPrecomputation<V, E>
      * Computes statistics for specified {@code vertex}.
      *
      * @param vertex a vertex in the {@code contractionGraph}
+     * @param search the witness search of the current task
      * @return statistics of {@code vertex}
      */
-    private VertexStatistics getStatistics(ContractionVertex<V> vertex)
+    private VertexStatistics getStatistics(ContractionVertex<V> vertex, WitnessSearch search)
     {
         ToStatisticsConsumer consumer = new ToStatisticsConsumer();
-        iterateShortcutEdges(vertex, consumer);
+        iterateShortcutEdges(vertex, search, consumer);
         maskedContractionGraph.edgesOf(vertex).forEach(edge -> {
             ++consumer.statistics.removedContractionEdges;
             consumer.statistics.removedOriginalEdges += edge.originalEdges;
@@ -618,13 +624,14 @@ public class ContractionHierarchyPrecomputation<V, E>
      * Computes shortcuts for vertex {@code vertex} wrt the overlay graph.
      *
      * @param vertex a vertex in {@code contractionGraph}
+     * @param search the witness search of the current task
      * @return list of shortcuts
      */
     private List<Pair<ContractionEdge<E>, ContractionEdge<E>>> getShortcuts(
-        ContractionVertex<V> vertex)
+        ContractionVertex<V> vertex, WitnessSearch search)
     {
         ToListConsumer consumer = new ToListConsumer();
-        iterateShortcutEdges(vertex, consumer);
+        iterateShortcutEdges(vertex, search, consumer);
         return consumer.shortcuts;
     }
 
@@ -639,21 +646,21 @@ public class ContractionHierarchyPrecomputation<V, E>
      * backward direction is generated.
      *
      * @param vertex a vertex in {@code contractionGraph}
+     * @param search the witness search of the current task
      * @param shortcutConsumer consumer to supply shortcuts to
      */
     private void iterateShortcutEdges(
-        ContractionVertex<V> vertex,
+        ContractionVertex<V> vertex, WitnessSearch search,
         BiConsumer<ContractionEdge<E>, ContractionEdge<E>> shortcutConsumer)
     {
-        Set<ContractionVertex<V>> successors = new HashSet<>();
+        // the contraction graph has no multiple edges, thus the successors are distinct
+        List<ContractionVertex<V>> successors = new ArrayList<>();
         double maxOutgoingEdgeWeight = Double.MIN_VALUE;
 
         for (ContractionEdge<E> outEdge : maskedContractionGraph.outgoingEdgesOf(vertex)) {
             ContractionVertex<V> successor = maskedContractionGraph.getEdgeTarget(outEdge);
 
-            if (verticesData.get(successor.vertexId) != null
-                && verticesData.get(successor.vertexId).isIndependent)
-            { // does not belong to overlay graph
+            if (isIndependent(successor)) { // does not belong to overlay graph
                 continue;
             }
 
@@ -664,29 +671,24 @@ public class ContractionHierarchyPrecomputation<V, E>
 
         for (ContractionEdge<E> inEdge : maskedContractionGraph.incomingEdgesOf(vertex)) {
             ContractionVertex<V> predecessor = contractionGraph.getEdgeSource(inEdge);
-            if (verticesData.get(predecessor.vertexId) != null
-                && verticesData.get(predecessor.vertexId).isIndependent)
-            { // does not belong to overlay graph
+            if (isIndependent(predecessor)) { // does not belong to overlay graph
                 continue;
             }
 
-            boolean containedPredecessor = successors.remove(predecessor); // might contain the
-                                                                           // predecessor vertex
+            // might contain the predecessor vertex
+            boolean containedPredecessor = successors.remove(predecessor);
 
-            Map<ContractionVertex<V>,
-                AddressableHeap.Handle<Double, ContractionVertex<V>>> distances =
-                    iterateToSuccessors(
-                        maskedContractionGraph, predecessor, successors, vertex,
-                        contractionGraph.getEdgeWeight(inEdge) + maxOutgoingEdgeWeight);
+            search
+                .run(
+                    predecessor, successors, vertex,
+                    contractionGraph.getEdgeWeight(inEdge) + maxOutgoingEdgeWeight);
 
             for (ContractionVertex<V> successor : successors) {
                 ContractionEdge<E> outEdge = contractionGraph.getEdge(vertex, successor);
                 double pathWeight = contractionGraph.getEdgeWeight(inEdge)
                     + contractionGraph.getEdgeWeight(outEdge);
 
-                if (!distances.containsKey(successor)
-                    || distances.get(successor).getKey() > pathWeight)
-                {
+                if (search.getDistance(successor) > pathWeight) {
                     shortcutConsumer.accept(inEdge, outEdge);
                     if (graph.getType().isUndirected()) {
                         shortcutConsumer.accept(
@@ -704,114 +706,16 @@ public class ContractionHierarchyPrecomputation<V, E>
     }
 
     /**
-     * Performs Dijkstra search in the {@code graph} starting at vertex {@code source} ignoring
-     * vertex {@code vertexToIgnore}. The search is limited by {@code radius}. The search is
-     * proceeded until all vertices in {@code successors} are reached or there is no vertex left to
-     * traverse.
-     *
-     * @param graph graph to traverse
-     * @param source search start vertex
-     * @param successors vertices to reach
-     * @param vertexToIgnore vertex to ignore
-     * @param radius search distance limit
-     * @return computed distances for reached vertices
-     */
-    private Map<ContractionVertex<V>,
-        AddressableHeap.Handle<Double, ContractionVertex<V>>> iterateToSuccessors(
-            Graph<ContractionVertex<V>, ContractionEdge<E>> graph, ContractionVertex<V> source,
-            Set<ContractionVertex<V>> successors, ContractionVertex<V> vertexToIgnore,
-            double radius)
-    {
-        AddressableHeap<Double, ContractionVertex<V>> heap = shortcutsSearchHeapSupplier.get();
-        Map<ContractionVertex<V>,
-            AddressableHeap.Handle<Double, ContractionVertex<V>>> distanceMap = new HashMap<>();
-
-        updateDistance(source, 0.0, heap, distanceMap);
-
-        int numOfSuccessors = successors.size();
-        int passedSuccessors = 0;
-
-        while (!heap.isEmpty()) {
-            AddressableHeap.Handle<Double, ContractionVertex<V>> min = heap.deleteMin();
-            ContractionVertex<V> vertex = min.getValue();
-            double distance = min.getKey();
-
-            if (distance > radius) {
-                break;
-            }
-
-            if (successors.contains(vertex)) {
-                ++passedSuccessors;
-                if (passedSuccessors == numOfSuccessors) {
-                    break;
-                }
-            }
-
-            relaxNode(graph, heap, distanceMap, vertex, distance, vertexToIgnore);
-        }
-        return distanceMap;
-    }
-
-    /**
-     * Relaxes outgoing edges of {@code vertex} in {@code graph} ignoring successors marked as
-     * independent and {@code vertexToIgnore}.
+     * Determines if a {@code vertex} belongs to the current independent set, and therefore not to
+     * the overlay graph.
      *
-     * @param graph graph
-     * @param heap search priority queue
-     * @param distanceMap vertex distances
-     * @param vertex vertex to relax
-     * @param vertexDistance update distance for {@code vertex}
-     * @param vertexToIgnore vertex to ignore
-     */
-    private void relaxNode(
-        Graph<ContractionVertex<V>, ContractionEdge<E>> graph,
-        AddressableHeap<Double, ContractionVertex<V>> heap,
-        Map<ContractionVertex<V>, AddressableHeap.Handle<Double, ContractionVertex<V>>> distanceMap,
-        ContractionVertex<V> vertex, double vertexDistance, ContractionVertex<V> vertexToIgnore)
-    {
-
-        for (ContractionEdge<E> edge : graph.outgoingEdgesOf(vertex)) {
-            ContractionVertex<V> successor = graph.getEdgeTarget(edge);
-
-            double edgeWeight = graph.getEdgeWeight(edge);
-
-            if (edgeWeight < 0) {
-                throw new IllegalArgumentException("Negative edge weight not allowed");
-            }
-
-            if (successor.equals(vertexToIgnore) || (verticesData.get(successor.vertexId) != null
-                && verticesData.get(successor.vertexId).isIndependent))
-            {
-                // skip independent vertices because they do not belong to overlay graph
-                continue;
-            }
-
-            double updatedDistance = vertexDistance + edgeWeight;
-
-            updateDistance(successor, updatedDistance, heap, distanceMap);
-        }
-    }
-
-    /**
-     * Updates distance for {@code vertex} in the {@code heap} if needed.
-     *
-     * @param vertex vertex
-     * @param distance updated distance
-     * @param heap search priority queue
-     * @param distanceMap vertex distances
+     * @param vertex a vertex in {@code contractionGraph}
+     * @return true iff the vertex is independent
      */
-    private void updateDistance(
-        ContractionVertex<V> vertex, double distance,
-        AddressableHeap<Double, ContractionVertex<V>> heap,
-        Map<ContractionVertex<V>, AddressableHeap.Handle<Double, ContractionVertex<V>>> distanceMap)
+    private boolean isIndependent(ContractionVertex<V> vertex)
     {
-        AddressableHeap.Handle<Double, ContractionVertex<V>> node = distanceMap.get(vertex);
-        if (node == null) {
-            node = heap.insert(distance, vertex);
-            distanceMap.put(vertex, node);
-        } else if (distance < node.getKey()) {
-            node.decreaseKey(distance);
-        }
+        VertexData data = verticesData.get(vertex.vertexId);
+        return data != null && data.isIndependent;
     }
 
     /**
@@ -838,7 +742,7 @@ public class ContractionHierarchyPrecomputation<V, E>
      * @param consumer consumer
      */
     private void submitTasks(
-        int segmentStart, int segmentEnd, Consumer<ContractionVertex<V>> consumer)
+        int segmentStart, int segmentEnd, BiConsumer<ContractionVertex<V>, WitnessSearch> consumer)
     {
         for (ContractionTask task : tasks) {
             task.consumer = consumer;
@@ -858,7 +762,8 @@ public class ContractionHierarchyPrecomputation<V, E>
      * @param consumers consumers
      */
     private void submitTasks(
-        int segmentStart, int segmentEnd, List<Consumer<ContractionVertex<V>>> consumers)
+        int segmentStart, int segmentEnd,
+        List<BiConsumer<ContractionVertex<V>, WitnessSearch>> consumers)
     {
         for (int i = 0; i < tasks.size(); ++i) {
             ContractionTask task = tasks.get(i);
@@ -1179,7 +1084,11 @@ public class ContractionHierarchyPrecomputation<V, E>
         /**
          * Performs needed action with vertices.
          */
-        Consumer<ContractionVertex<V>> consumer;
+        BiConsumer<ContractionVertex<V>, WitnessSearch> consumer;
+        /**
+         * Scratch space of the witness searches of this task, allocated on first use.
+         */
+        WitnessSearch witnessSearch;
 
         /**
          * Constructs an instance of the task for the given {@code taskId}.
@@ -1194,10 +1103,13 @@ public class ContractionHierarchyPrecomputation<V, E>
         @Override
         public void run()
         {
+            if (witnessSearch == null) {
+                witnessSearch = new WitnessSearch();
+            }
             int start = workerSegmentStart(segmentStart, segmentsEnd);
             int end = workerSegmentEnd(segmentStart, segmentsEnd);
             for (int i = start; i < end; ++i) {
-                consumer.accept(vertices.get(i));
+                consumer.accept(vertices.get(i), witnessSearch);
             }
         }
 
@@ -1226,6 +1138,144 @@ public class ContractionHierarchyPrecomputation<V, E>
         }
     }
 
+    /**
+     * Bounded Dijkstra search in the overlay graph which is used to find witnesses, that is paths
+     * which make shortcuts unnecessary. The arrays are indexed by vertex id and their entries are
+     * valid only if their stamp equals the number of the current search, thus they never need to be
+     * cleared. An instance is used by a single task at a time.
+     */
+    private class WitnessSearch
+    {
+        /**
+         * Search priority queue, which also stores the distances of the reached vertices.
+         */
+        private final IndexedDaryHeap heap;
+        /**
+         * Search number in which each vertex has been reached.
+         */
+        private final int[] reached;
+        /**
+         * Search number in which each vertex has been a target.
+         */
+        private final int[] target;
+        /**
+         * Number of the current search.
+         */
+        private int searchNumber;
+
+        /**
+         * Constructs the scratch space for the vertices of the {@code contractionGraph}.
+         */
+        WitnessSearch()
+        {
+            int n = vertices.size();
+            this.heap = new IndexedDaryHeap(n);
+            this.reached = new int[n];
+            this.target = new int[n];
+        }
+
+        /**
+         * Performs Dijkstra search in the overlay graph starting at vertex {@code source} ignoring
+         * vertex {@code vertexToIgnore}. The search is limited by {@code radius}. The search is
+         * proceeded until all vertices in {@code successors} are reached or there is no vertex left
+         * to traverse.
+         *
+         * @param source search start vertex
+         * @param successors vertices to reach
+         * @param vertexToIgnore vertex to ignore
+         * @param radius search distance limit
+         */
+        void run(
+            ContractionVertex<V> source, List<ContractionVertex<V>> successors,
+            ContractionVertex<V> vertexToIgnore, double radius)
+        {
+            if (++searchNumber == Integer.MAX_VALUE) {
+                Arrays.fill(reached, 0);
+                Arrays.fill(target, 0);
+                searchNumber = 1;
+            }
+            for (ContractionVertex<V> successor : successors) {
+                target[successor.vertexId] = searchNumber;
+            }
+
+            reached[source.vertexId] = searchNumber;
+            heap.insert(source.vertexId, 0.0);
+
+            int numOfSuccessors = successors.size();
+            int passedSuccessors = 0;
+
+            while (!heap.isEmpty()) {
+                double distance = heap.findMinKey();
+                if (distance > radius) {
+                    break;
+                }
+                int vertexId = heap.deleteMin();
+
+                if (target[vertexId] == searchNumber) {
+                    ++passedSuccessors;
+                    if (passedSuccessors == numOfSuccessors) {
+                        break;
+                    }
+                }
+
+                relaxNode(vertices.get(vertexId), distance, vertexToIgnore);
+            }
+            heap.clear();
+        }
+
+        /**
+         * Relaxes outgoing edges of {@code vertex} in the overlay graph ignoring successors marked
+         * as independent and {@code vertexToIgnore}.
+         *
+         * @param vertex vertex to relax
+         * @param vertexDistance distance of {@code vertex}
+         * @param vertexToIgnore vertex to ignore
+         */
+        private void relaxNode(
+            ContractionVertex<V> vertex, double vertexDistance,
+            ContractionVertex<V> vertexToIgnore)
+        {
+            for (ContractionEdge<E> edge : maskedContractionGraph.outgoingEdgesOf(vertex)) {
+                ContractionVertex<V> successor = maskedContractionGraph.getEdgeTarget(edge);
+
+                double edgeWeight = maskedContractionGraph.getEdgeWeight(edge);
+
+                if (edgeWeight < 0) {
+                    throw new IllegalArgumentException("Negative edge weight not allowed");
+                }
+
+                if (successor.equals(vertexToIgnore) || isIndependent(successor)) {
+                    // skip independent vertices because they do not belong to overlay graph
+                    continue;
+                }
+
+                double updatedDistance = vertexDistance + edgeWeight;
+                int successorId = successor.vertexId;
+                if (reached[successorId] != searchNumber) {
+                    reached[successorId] = searchNumber;
+                    heap.insert(successorId, updatedDistance);
+                } else if (heap.contains(successorId)) {
+                    heap.insertOrDecreaseKey(successorId, updatedDistance);
+                }
+            }
+        }
+
+        /**
+         * Returns the distance computed by the last search for {@code vertex}, which is infinite
+         * if the vertex has not been reached.
+         *
+         * @param vertex a vertex in {@code contractionGraph}
+         * @return the computed distance
+         */
+        double getDistance(ContractionVertex<V> vertex)
+        {
+            if (reached[vertex.vertexId] != searchNumber) {
+                return Double.POSITIVE_INFINITY;
+            }
+            return heap.getLastKey(vertex.vertexId);
+        }
+    }
+
     /**
      * Contains information of a vertex needed during the contraction.
      */
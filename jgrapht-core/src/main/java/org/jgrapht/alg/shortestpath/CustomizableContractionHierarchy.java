@@ -0,0 +1,826 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.builder.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import static org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.*;
+
+/**
+ * Customizable contraction hierarchy, whose edge weights can be updated without repeating the
+ * preprocessing.
+ *
+ * <p>
+ * The technique is described in the article: Julian Dibbelt, Ben Strasser, and Dorothea Wagner.
+ * 2016. Customizable Contraction Hierarchies. ACM Journal of Experimental Algorithmics 21, Article
+ * 1.5.
+ *
+ * <p>
+ * Unlike {@link ContractionHierarchyPrecomputation}, which uses the edge weights to decide which
+ * shortcuts are necessary, the preprocessing of this class is metric-independent. The vertices are
+ * contracted in a fixed order, which is either given by the user or computed by a simple nested
+ * dissection of the undirected graph, using levels of breadth-first searches as separators. Graphs
+ * with small balanced separators, like road networks, profit from an order computed by a dedicated
+ * partitioner. Contracting a vertex connects all its neighbors with a higher rank, without any
+ * witness searches. The result
+ * is a chordal supergraph of the graph which contains a shortcut for every pair of vertices that
+ * might need one under any metric.
+ *
+ * <p>
+ * The weights of the hierarchy are computed by the customization phase. Each arc $(u,w)$ of the
+ * hierarchy receives the minimum weight of the original edges from $u$ to $w$ and of the paths
+ * $\langle u, x, w\rangle$ over its lower triangles, where $x$ has a lower rank than both $u$ and
+ * $w$. The arcs are processed in increasing level of their lower endpoint, where the level of a
+ * vertex is one more than the maximum level of its lower neighbors. All arcs of the same level are
+ * independent and are processed in parallel using a {@link ThreadPoolExecutor}, which is supplied
+ * to this algorithm from outside. Arcs with infinite weight are removed from the hierarchy.
+ *
+ * <p>
+ * The {@link ContractionHierarchy} returned by {@link #getContractionHierarchy()} can be used with
+ * {@link ContractionHierarchyBidirectionalDijkstra}, {@link CHManyToManyShortestPaths} and all
+ * other algorithms working on contraction hierarchies. The same instance is updated in place by
+ * each call of {@link #customize()} or {@link #customize(ToDoubleFunction)}, thus algorithms which
+ * read the hierarchy during their queries use the new metric immediately. Algorithms which copy the
+ * hierarchy during their construction, like {@link ParallelManyToManyShortestPaths}, must be
+ * constructed again. Queries must not run concurrently with a customization.
+ *
+ * <p>
+ * The graph must not contain edges with negative weights. The topology of the graph must not be
+ * modified after the construction of this class.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public class CustomizableContractionHierarchy<V, E>
+{
+    /**
+     * Number of vertices which a thread claims at once during customization.
+     */
+    private static final int VERTICES_CHUNK_SIZE = 64;
+
+    /**
+     * Size of the parts which are not split further by the nested dissection.
+     */
+    private static final int NESTED_DISSECTION_LEAF_SIZE = 16;
+
+    private final Graph<V, E> graph;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * The vertices of the hierarchy indexed by their rank.
+     */
+    private final List<ContractionVertex<V>> vertices;
+
+    /**
+     * The arcs of the hierarchy. Each arc connects a lower vertex $u$ with a higher vertex $w$ and
+     * has an index in $[0, m^+)$. The arcs of $u$ towards higher vertices occupy positions
+     * $[\text{upOffsets}[u], \text{upOffsets}[u+1])$ and are sorted by the rank of $w$. The lower
+     * neighbors of $w$ are stored in the same way in the down arrays, along with the index of the
+     * corresponding arc.
+     */
+    private final int[] upOffsets;
+    private final int[] upTargets;
+    private final int[] downOffsets;
+    private final int[] downSources;
+    private final int[] downArcs;
+
+    /**
+     * The vertices grouped by their level.
+     */
+    private final int[] levelOffsets;
+    private final int[] levelVertices;
+
+    /**
+     * The original edges, along with the arc of each edge and whether it is mapped to the forward
+     * direction (from lower to higher), the backward direction or both.
+     */
+    private final List<E> edges;
+    private final int[] edgeArcs;
+    private final byte[] edgeDirections;
+
+    /**
+     * The current metric. The forward weight of an arc is the weight from the lower to the higher
+     * vertex and the backward weight the weight from the higher to the lower vertex. The first and
+     * second arcs of a shortcut are -1 for arcs which correspond to an original edge.
+     */
+    private final double[] forwardWeights;
+    private final double[] backwardWeights;
+    private final int[] forwardFirst;
+    private final int[] forwardSecond;
+    private final int[] backwardFirst;
+    private final int[] backwardSecond;
+    private final List<E> forwardEdges;
+    private final List<E> backwardEdges;
+
+    /**
+     * The edges of the contraction graph corresponding to each arc, created lazily.
+     */
+    private final List<ContractionEdge<E>> upwardEdges;
+    private final List<ContractionEdge<E>> downwardEdges;
+
+    private final ContractionHierarchy<V, E> contractionHierarchy;
+
+    private static final byte FORWARD = 1;
+    private static final byte BACKWARD = 2;
+
+    /**
+     * Construct a new customizable contraction hierarchy, using nested dissection to compute the
+     * contraction order. The hierarchy is customized with the weights of the graph.
+     *
+     * @param graph the graph
+     * @param executor the executor used to parallelize the customization, or null in order to run
+     *        it sequentially
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight
+     */
+    public CustomizableContractionHierarchy(Graph<V, E> graph, ThreadPoolExecutor executor)
+    {
+        this(graph, null, executor);
+    }
+
+    /**
+     * Construct a new customizable contraction hierarchy using a specific contraction order. The
+     * hierarchy is customized with the weights of the graph.
+     *
+     * @param graph the graph
+     * @param order the contraction order which must contain every vertex exactly once, from the
+     *        least to the most important vertex, or null in order to use nested dissection
+     * @param executor the executor used to parallelize the customization, or null in order to run
+     *        it sequentially
+     * @throws IllegalArgumentException if the order is not a permutation of the vertices of the
+     *         graph or if the graph contains an edge with negative weight
+     */
+    public CustomizableContractionHierarchy(
+        Graph<V, E> graph, List<V> order, ThreadPoolExecutor executor)
+    {
+        this.graph = GraphTests.requireDirectedOrUndirected(graph);
+        this.executor = executor;
+
+        // index the vertices and compute the undirected neighbors
+        int n = graph.vertexSet().size();
+        List<V> indexToVertex = new ArrayList<>(graph.vertexSet());
+        Map<V, Integer> vertexToIndex = CollectionUtil.newHashMapWithExpectedSize(n);
+        for (int i = 0; i < n; i++) {
+            vertexToIndex.put(indexToVertex.get(i), i);
+        }
+        int[] eliminationOrder = null;
+        if (order != null) {
+            if (order.size() != n) {
+                throw new IllegalArgumentException("Order must contain every vertex exactly once");
+            }
+            eliminationOrder = new int[n];
+            BitSet seen = new BitSet(n);
+            for (int r = 0; r < n; r++) {
+                Integer index = vertexToIndex.get(order.get(r));
+                if (index == null || seen.get(index)) {
+                    throw new IllegalArgumentException(
+                        "Order must contain every vertex exactly once");
+                }
+                seen.set(index);
+                eliminationOrder[r] = index;
+            }
+        }
+
+        // contract the vertices, which computes the ranks and the upward neighbors
+        int[] rank = new int[n];
+        int[][] adjacency = computeAdjacency(indexToVertex, vertexToIndex);
+        if (eliminationOrder == null) {
+            eliminationOrder = computeNestedDissectionOrder(adjacency);
+        }
+        int[][] upNeighbors = eliminate(adjacency, eliminationOrder, rank);
+
+        // build the arcs indexed by rank
+        this.upOffsets = new int[n + 1];
+        this.downOffsets = new int[n + 1];
+        for (int v = 0; v < n; v++) {
+            int r = rank[v];
+            upOffsets[r + 1] = upNeighbors[v].length;
+            for (int u : upNeighbors[v]) {
+                downOffsets[rank[u] + 1]++;
+            }
+        }
+        for (int r = 0; r < n; r++) {
+            upOffsets[r + 1] += upOffsets[r];
+            downOffsets[r + 1] += downOffsets[r];
+        }
+        int arcs = upOffsets[n];
+        this.upTargets = new int[arcs];
+        this.downSources = new int[arcs];
+        this.downArcs = new int[arcs];
+        int[] byRank = new int[n];
+        for (int v = 0; v < n; v++) {
+            byRank[rank[v]] = v;
+        }
+        int[] downPosition = Arrays.copyOf(downOffsets, n);
+        for (int r = 0; r < n; r++) {
+            int[] targets = upNeighbors[byRank[r]];
+            for (int i = 0; i < targets.length; i++) {
+                targets[i] = rank[targets[i]];
+            }
+            Arrays.sort(targets);
+            for (int i = 0; i < targets.length; i++) {
+                int arc = upOffsets[r] + i;
+                upTargets[arc] = targets[i];
+                // lower neighbors are appended in increasing rank
+                int pos = downPosition[targets[i]]++;
+                downSources[pos] = r;
+                downArcs[pos] = arc;
+            }
+        }
+
+        // compute the levels
+        int[] level = new int[n];
+        int maxLevel = -1;
+        for (int r = 0; r < n; r++) {
+            for (int pos = downOffsets[r]; pos < downOffsets[r + 1]; pos++) {
+                level[r] = Math.max(level[r], level[downSources[pos]] + 1);
+            }
+            maxLevel = Math.max(maxLevel, level[r]);
+        }
+        this.levelOffsets = new int[maxLevel + 2];
+        for (int r = 0; r < n; r++) {
+            levelOffsets[level[r] + 1]++;
+        }
+        for (int l = 0; l <= maxLevel; l++) {
+            levelOffsets[l + 1] += levelOffsets[l];
+        }
+        this.levelVertices = new int[n];
+        int[] levelPosition = Arrays.copyOf(levelOffsets, maxLevel + 1);
+        for (int r = 0; r < n; r++) {
+            levelVertices[levelPosition[level[r]]++] = r;
+        }
+
+        // map the original edges to arcs
+        this.edges = new ArrayList<>(graph.edgeSet().size());
+        List<Integer> arcList = new ArrayList<>();
+        List<Byte> directionList = new ArrayList<>();
+        boolean directed = graph.getType().isDirected();
+        for (E e : graph.edgeSet()) {
+            int s = rank[vertexToIndex.get(graph.getEdgeSource(e))];
+            int t = rank[vertexToIndex.get(graph.getEdgeTarget(e))];
+            if (s == t) {
+                continue;
+            }
+            int low = Math.min(s, t);
+            int high = Math.max(s, t);
+            int arc = Arrays.binarySearch(upTargets, upOffsets[low], upOffsets[low + 1], high);
+            assert arc >= 0;
+            edges.add(e);
+            arcList.add(arc);
+            directionList
+                .add(!directed ? (byte) (FORWARD | BACKWARD) : s < t ? FORWARD : BACKWARD);
+        }
+        this.edgeArcs = new int[edges.size()];
+        this.edgeDirections = new byte[edges.size()];
+        for (int i = 0; i < edgeArcs.length; i++) {
+            edgeArcs[i] = arcList.get(i);
+            edgeDirections[i] = directionList.get(i);
+        }
+
+        // create the hierarchy
+        this.vertices = new ArrayList<>(n);
+        Map<V, ContractionVertex<V>> contractionMapping =
+            CollectionUtil.newHashMapWithExpectedSize(n);
+        Graph<ContractionVertex<V>, ContractionEdge<E>> contractionGraph = GraphTypeBuilder
+            .<ContractionVertex<V>, ContractionEdge<E>> directed().weighted(true)
+            .allowingMultipleEdges(false).allowingSelfLoops(false).buildGraph();
+        for (int r = 0; r < n; r++) {
+            V v = indexToVertex.get(byRank[r]);
+            ContractionVertex<V> vertex = new ContractionVertex<>(v, r);
+            vertex.contractionLevel = r;
+            vertices.add(vertex);
+            contractionMapping.put(v, vertex);
+            contractionGraph.addVertex(vertex);
+        }
+        this.contractionHierarchy =
+            new ContractionHierarchy<>(graph, contractionGraph, contractionMapping);
+
+        this.forwardWeights = new double[arcs];
+        this.backwardWeights = new double[arcs];
+        this.forwardFirst = new int[arcs];
+        this.forwardSecond = new int[arcs];
+        this.backwardFirst = new int[arcs];
+        this.backwardSecond = new int[arcs];
+        this.forwardEdges = new ArrayList<>(Collections.nCopies(arcs, null));
+        this.backwardEdges = new ArrayList<>(Collections.nCopies(arcs, null));
+        this.upwardEdges = new ArrayList<>(Collections.nCopies(arcs, null));
+        this.downwardEdges = new ArrayList<>(Collections.nCopies(arcs, null));
+
+        customize();
+    }
+
+    /**
+     * Get the contraction hierarchy. The same instance is returned by all invocations and it is
+     * updated in place by each customization.
+     *
+     * @return the contraction hierarchy
+     */
+    public ContractionHierarchy<V, E> getContractionHierarchy()
+    {
+        return contractionHierarchy;
+    }
+
+    /**
+     * Get the contraction order, from the least to the most important vertex.
+     *
+     * @return the contraction order
+     */
+    public List<V> getContractionOrder()
+    {
+        List<V> order = new ArrayList<>(vertices.size());
+        for (ContractionVertex<V> v : vertices) {
+            order.add(v.vertex);
+        }
+        return order;
+    }
+
+    /**
+     * Get the number of arcs of the hierarchy, that is the number of pairs of vertices which are
+     * connected by an original edge or a shortcut, in either direction.
+     *
+     * @return the number of arcs of the hierarchy
+     */
+    public int getArcCount()
+    {
+        return upTargets.length;
+    }
+
+    /**
+     * Customize the hierarchy using the current weights of the graph.
+     *
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight
+     */
+    public void customize()
+    {
+        customize(graph::getEdgeWeight);
+    }
+
+    /**
+     * Customize the hierarchy using a weight function. The paths computed using the hierarchy
+     * have the weights given by the weight function. Edges with infinite weight are treated as
+     * missing.
+     *
+     * @param weightFunction the weight of each edge of the graph
+     * @throws IllegalArgumentException if some weight is negative or NaN
+     */
+    public void customize(ToDoubleFunction<E> weightFunction)
+    {
+        Objects.requireNonNull(weightFunction, "Weight function cannot be null");
+
+        // initialize the arcs with the original edges
+        Arrays.fill(forwardWeights, Double.POSITIVE_INFINITY);
+        Arrays.fill(backwardWeights, Double.POSITIVE_INFINITY);
+        Arrays.fill(forwardFirst, -1);
+        Arrays.fill(forwardSecond, -1);
+        Arrays.fill(backwardFirst, -1);
+        Arrays.fill(backwardSecond, -1);
+        Collections.fill(forwardEdges, null);
+        Collections.fill(backwardEdges, null);
+        for (int i = 0; i < edgeArcs.length; i++) {
+            E e = edges.get(i);
+            double weight = weightFunction.applyAsDouble(e);
+            if (!(weight >= 0d)) {
+                throw new IllegalArgumentException("Negative edge weight not allowed");
+            }
+            int arc = edgeArcs[i];
+            if ((edgeDirections[i] & FORWARD) != 0 && weight < forwardWeights[arc]) {
+                forwardWeights[arc] = weight;
+                forwardEdges.set(arc, e);
+            }
+            if ((edgeDirections[i] & BACKWARD) != 0 && weight < backwardWeights[arc]) {
+                backwardWeights[arc] = weight;
+                backwardEdges.set(arc, e);
+            }
+        }
+
+        // process the lower triangles level by level
+        for (int l = 0; l + 1 < levelOffsets.length; l++) {
+            int from = levelOffsets[l];
+            forEach(levelOffsets[l + 1] - from, i -> relaxLowerTriangles(levelVertices[from + i]));
+        }
+
+        updateContractionGraph();
+    }
+
+    /**
+     * Relax the lower triangles of all arcs from a vertex to higher vertices.
+     *
+     * @param u the vertex
+     */
+    private void relaxLowerTriangles(int u)
+    {
+        int uStart = downOffsets[u];
+        int uEnd = downOffsets[u + 1];
+        if (uStart == uEnd) {
+            return;
+        }
+        for (int arc = upOffsets[u]; arc < upOffsets[u + 1]; arc++) {
+            int w = upTargets[arc];
+            double forward = forwardWeights[arc];
+            double backward = backwardWeights[arc];
+
+            // intersect the sorted lower neighbors of u and w
+            int i = uStart;
+            int j = downOffsets[w];
+            int wEnd = downOffsets[w + 1];
+            while (i < uEnd && j < wEnd) {
+                int xu = downSources[i];
+                int xw = downSources[j];
+                if (xu < xw) {
+                    i++;
+                } else if (xu > xw) {
+                    j++;
+                } else {
+                    int arcXU = downArcs[i];
+                    int arcXW = downArcs[j];
+                    // path u -> x -> w
+                    double weight = backwardWeights[arcXU] + forwardWeights[arcXW];
+                    if (weight < forward) {
+                        forward = weight;
+                        forwardFirst[arc] = arcXU;
+                        forwardSecond[arc] = arcXW;
+                    }
+                    // path w -> x -> u
+                    weight = backwardWeights[arcXW] + forwardWeights[arcXU];
+                    if (weight < backward) {
+                        backward = weight;
+                        backwardFirst[arc] = arcXW;
+                        backwardSecond[arc] = arcXU;
+                    }
+                    i++;
+                    j++;
+                }
+            }
+            forwardWeights[arc] = forward;
+            backwardWeights[arc] = backward;
+        }
+    }
+
+    /**
+     * Write the current metric to the contraction graph. The arcs are processed in increasing rank
+     * of their lower endpoint, thus the bypassed edges of each shortcut are already up to date.
+     */
+    private void updateContractionGraph()
+    {
+        Graph<ContractionVertex<V>, ContractionEdge<E>> contractionGraph =
+            contractionHierarchy.getContractionGraph();
+        for (int u = 0; u < vertices.size(); u++) {
+            ContractionVertex<V> lower = vertices.get(u);
+            for (int arc = upOffsets[u]; arc < upOffsets[u + 1]; arc++) {
+                ContractionVertex<V> higher = vertices.get(upTargets[arc]);
+                ContractionEdge<E> upward = updateEdge(
+                    contractionGraph, upwardEdges.get(arc), lower, higher, forwardWeights[arc],
+                    forwardEdges.get(arc), forwardFirst[arc], forwardSecond[arc]);
+                if (upward != null) {
+                    upward.isUpward = true;
+                    upwardEdges.set(arc, upward);
+                }
+                ContractionEdge<E> downward = updateEdge(
+                    contractionGraph, downwardEdges.get(arc), higher, lower, backwardWeights[arc],
+                    backwardEdges.get(arc), backwardFirst[arc], backwardSecond[arc]);
+                if (downward != null) {
+                    downward.isUpward = false;
+                    downwardEdges.set(arc, downward);
+                }
+            }
+        }
+    }
+
+    /**
+     * Update an edge of the contraction graph, which is added or removed depending on whether its
+     * weight is finite.
+     *
+     * @return the edge, or null if the edge was never created
+     */
+    private ContractionEdge<E> updateEdge(
+        Graph<ContractionVertex<V>, ContractionEdge<E>> contractionGraph, ContractionEdge<E> edge,
+        ContractionVertex<V> source, ContractionVertex<V> target, double weight, E originalEdge,
+        int firstArc, int secondArc)
+    {
+        if (weight == Double.POSITIVE_INFINITY) {
+            if (edge != null) {
+                contractionGraph.removeEdge(edge);
+            }
+            return edge;
+        }
+
+        // the first arc of a shortcut goes down, the second goes up
+        Pair<ContractionEdge<E>, ContractionEdge<E>> bypassedEdges = firstArc == -1 ? null
+            : Pair.of(downwardEdges.get(firstArc), upwardEdges.get(secondArc));
+        if (edge == null) {
+            edge = bypassedEdges == null ? new ContractionEdge<>(originalEdge)
+                : new ContractionEdge<>(bypassedEdges);
+        }
+        if (bypassedEdges == null) {
+            edge.edge = originalEdge;
+            edge.bypassedEdges = null;
+            edge.originalEdges = 1;
+        } else {
+            edge.edge = null;
+            edge.bypassedEdges = bypassedEdges;
+            edge.originalEdges = bypassedEdges.getFirst().originalEdges
+                + bypassedEdges.getSecond().originalEdges;
+        }
+        if (!contractionGraph.containsEdge(edge)) {
+            contractionGraph.addEdge(source, target, edge);
+        }
+        contractionGraph.setEdgeWeight(edge, weight);
+        return edge;
+    }
+
+    /**
+     * Compute the undirected simple adjacency of the graph.
+     *
+     * @return the neighbors of each vertex, without duplicates and self-loops
+     */
+    private int[][] computeAdjacency(List<V> indexToVertex, Map<V, Integer> vertexToIndex)
+    {
+        int n = indexToVertex.size();
+        int[][] adjacency = new int[n][];
+        int[] mark = new int[n];
+        Arrays.fill(mark, -1);
+        for (int v = 0; v < n; v++) {
+            V vertex = indexToVertex.get(v);
+            Set<E> vEdges = graph.edgesOf(vertex);
+            int[] neighbors = new int[vEdges.size()];
+            int d = 0;
+            mark[v] = v;
+            for (E e : vEdges) {
+                int u = vertexToIndex.get(Graphs.getOppositeVertex(graph, e, vertex));
+                if (mark[u] != v) {
+                    mark[u] = v;
+                    neighbors[d++] = u;
+                }
+            }
+            adjacency[v] = Arrays.copyOf(neighbors, d);
+        }
+        return adjacency;
+    }
+
+    /**
+     * Compute a nested dissection order of the undirected graph. Each connected part is split by a
+     * level of a breadth-first search from a pseudo-peripheral vertex, which is chosen so that it
+     * is small and both sides contain at least a third of the part. The vertices of the separator
+     * are ordered after the vertices of both sides, which are ordered recursively.
+     *
+     * @param adjacency the undirected adjacency
+     * @return the order from the least to the most important vertex
+     */
+    private static int[] computeNestedDissectionOrder(int[][] adjacency)
+    {
+        int n = adjacency.length;
+        int[] order = new int[n];
+        int[] part = new int[n];
+        int[] distance = new int[n];
+        int[] queue = new int[n];
+        Arrays.fill(distance, -1);
+        int[] vertices = new int[n];
+        for (int v = 0; v < n; v++) {
+            vertices[v] = v;
+        }
+
+        // each entry is a range of the vertices array and the end of the corresponding range of
+        // the order, which is filled from the back
+        Deque<int[]> stack = new ArrayDeque<>();
+        stack.push(new int[] { 0, n, n });
+        int nextPart = 0;
+        while (!stack.isEmpty()) {
+            int[] range = stack.pop();
+            int from = range[0];
+            int to = range[1];
+            int orderEnd = range[2];
+            int size = to - from;
+            if (size <= NESTED_DISSECTION_LEAF_SIZE) {
+                System.arraycopy(vertices, from, order, orderEnd - size, size);
+                continue;
+            }
+
+            int id = ++nextPart;
+            for (int i = from; i < to; i++) {
+                part[vertices[i]] = id;
+            }
+
+            // find a pseudo-peripheral vertex of the component of the first vertex
+            int root = vertices[from];
+            int reached = bfs(adjacency, part, id, root, distance, queue);
+            if (reached < size) {
+                // split the disconnected part into the first component and the rest
+                int split = from;
+                for (int i = from; i < to; i++) {
+                    int v = vertices[i];
+                    if (distance[v] >= 0) {
+                        vertices[i] = vertices[split];
+                        vertices[split++] = v;
+                    }
+                }
+                for (int i = from; i < to; i++) {
+                    distance[vertices[i]] = -1;
+                }
+                stack.push(new int[] { from, split, orderEnd - (to - split) });
+                stack.push(new int[] { split, to, orderEnd });
+                continue;
+            }
+            for (int round = 0; round < 2; round++) {
+                root = queue[reached - 1];
+                clearDistances(queue, reached, distance);
+                bfs(adjacency, part, id, root, distance, queue);
+            }
+            int depth = distance[queue[reached - 1]];
+
+            // choose the smallest level which leaves at least a third of the part on each side
+            int[] levelSize = new int[depth + 1];
+            for (int i = 0; i < reached; i++) {
+                levelSize[distance[queue[i]]]++;
+            }
+            int separatorLevel = -1;
+            int before = 0;
+            for (int l = 0; l <= depth; l++) {
+                int after = size - before - levelSize[l];
+                if (3 * before >= size && 3 * after >= size && (separatorLevel == -1
+                    || levelSize[l] < levelSize[separatorLevel]))
+                {
+                    separatorLevel = l;
+                }
+                before += levelSize[l];
+            }
+            if (separatorLevel == -1) {
+                // the part is too dense to be split
+                clearDistances(queue, reached, distance);
+                System.arraycopy(vertices, from, order, orderEnd - size, size);
+                continue;
+            }
+
+            // partition into the lower levels, the higher levels and the separator
+            int lowSize = 0;
+            for (int l = 0; l < separatorLevel; l++) {
+                lowSize += levelSize[l];
+            }
+            int highSize = size - lowSize - levelSize[separatorLevel];
+            int low = from;
+            int high = from + lowSize;
+            int separator = high + highSize;
+            for (int i = 0; i < reached; i++) {
+                int v = queue[i];
+                int l = distance[v];
+                if (l < separatorLevel) {
+                    vertices[low++] = v;
+                } else if (l > separatorLevel) {
+                    vertices[high++] = v;
+                } else {
+                    order[orderEnd - (to - separator)] = v;
+                    separator++;
+                }
+            }
+            clearDistances(queue, reached, distance);
+            int separatorSize = levelSize[separatorLevel];
+            stack.push(new int[] { from, from + lowSize, orderEnd - separatorSize - highSize });
+            stack.push(
+                new int[] { from + lowSize, from + lowSize + highSize, orderEnd - separatorSize });
+        }
+        return order;
+    }
+
+    /**
+     * Run a breadth-first search inside a part of the graph. All distances must be -1 before the
+     * search.
+     *
+     * @return the number of reached vertices, which are stored in the queue in order of distance
+     */
+    private static int bfs(
+        int[][] adjacency, int[] part, int id, int root, int[] distance, int[] queue)
+    {
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = root;
+        distance[root] = 0;
+        while (head < tail) {
+            int v = queue[head++];
+            for (int u : adjacency[v]) {
+                if (part[u] == id && distance[u] < 0) {
+                    distance[u] = distance[v] + 1;
+                    queue[tail++] = u;
+                }
+            }
+        }
+        return tail;
+    }
+
+    private static void clearDistances(int[] queue, int count, int[] distance)
+    {
+        for (int i = 0; i < count; i++) {
+            distance[queue[i]] = -1;
+        }
+    }
+
+    /**
+     * Contract the vertices in the given order. Contracting a vertex connects all its neighbors
+     * which are not yet contracted.
+     *
+     * @param adjacency the undirected adjacency, which is modified
+     * @param order the contraction order
+     * @param rank the array where the rank of each vertex is stored
+     * @return the neighbors of each vertex which are contracted after it
+     */
+    private static int[][] eliminate(int[][] adjacency, int[] order, int[] rank)
+    {
+        int n = adjacency.length;
+        int[] degree = new int[n];
+        for (int v = 0; v < n; v++) {
+            degree[v] = adjacency[v].length;
+        }
+
+        int[][] upNeighbors = new int[n][];
+        int[] mark = new int[n];
+        Arrays.fill(mark, -1);
+        int epoch = 0;
+        for (int r = 0; r < n; r++) {
+            int v = order[r];
+            rank[v] = r;
+
+            // the current neighbors of v become a clique
+            int[] neighbors = Arrays.copyOf(adjacency[v], degree[v]);
+            upNeighbors[v] = neighbors;
+            adjacency[v] = null;
+            for (int u : neighbors) {
+                epoch++;
+                int[] uNeighbors = adjacency[u];
+                int d = 0;
+                for (int i = 0; i < degree[u]; i++) {
+                    int x = uNeighbors[i];
+                    if (x != v) {
+                        mark[x] = epoch;
+                        uNeighbors[d++] = x;
+                    }
+                }
+                for (int x : neighbors) {
+                    if (x != u && mark[x] != epoch) {
+                        if (d == uNeighbors.length) {
+                            uNeighbors = Arrays.copyOf(uNeighbors, Math.max(4, 2 * d));
+                        }
+                        uNeighbors[d++] = x;
+                    }
+                }
+                adjacency[u] = uNeighbors;
+                degree[u] = d;
+            }
+        }
+        return upNeighbors;
+    }
+
+    /**
+     * Execute a task for each index in $[0, count)$, using the executor if available.
+     */
+    private void forEach(int count, IntConsumer task)
+    {
+        if (executor == null || count <= VERTICES_CHUNK_SIZE) {
+            for (int i = 0; i < count; i++) {
+                task.accept(i);
+            }
+            return;
+        }
+
+        AtomicInteger next = new AtomicInteger();
+        int workers = Math.min(
+            executor.getMaximumPoolSize(),
+            (count + VERTICES_CHUNK_SIZE - 1) / VERTICES_CHUNK_SIZE);
+        List<Callable<Void>> tasks = new ArrayList<>(workers);
+        for (int w = 0; w < workers; w++) {
+            tasks.add(() -> {
+                int from;
+                while ((from = next.getAndAdd(VERTICES_CHUNK_SIZE)) < count) {
+                    int to = Math.min(from + VERTICES_CHUNK_SIZE, count);
+                    for (int i = from; i < to; i++) {
+                        task.accept(i);
+                    }
+                }
+                return null;
+            });
+        }
+        ConcurrencyUtil.invokeAll(executor, tasks);
+    }
+
+}
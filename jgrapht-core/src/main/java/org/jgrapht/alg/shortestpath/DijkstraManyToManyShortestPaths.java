@@ -19,6 +19,7 @@ package org.jgrapht.alg.shortestpath;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.util.*;
 import org.jgrapht.graph.*;
 
 import java.util.*;
@@ -40,6 +41,13 @@ import java.util.*;
  * the total number of searches from $|S|$ to $min(|S|,|T|)$.
  *
  * <p>
+ * If the edge weights are small non-negative integers, the algorithm can be constructed with
+ * {@link DijkstraQueueStrategy#RADIX_HEAP}. In this case index-based snapshots of the graph are
+ * created during construction and the searches use an {@link IndexedRadixHeap} with primitive
+ * integer keys instead of {@link DijkstraClosestFirstIterator}. The snapshots do not reflect
+ * subsequent modifications of the graph.
+ *
+ * <p>
  * The main bottleneck of this algorithm is the memory usage to store individual shortest paths
  * trees for every source vertex, as they may take a lot of space. Considering this, the typical use
  * case of this algorithm are small graphs or large graphs with small total number of source and
@@ -54,6 +62,10 @@ import java.util.*;
 public class DijkstraManyToManyShortestPaths<V, E>
     extends BaseManyToManyShortestPaths<V, E>
 {
+    private final IndexedAdjacency<V, E> outgoing;
+    private final int[] outgoingWeights;
+    private final IndexedAdjacency<V, E> incoming;
+    private final int[] incomingWeights;
 
     /**
      * Constructs an instance of the algorithm for a given {@code graph}.
@@ -61,8 +73,38 @@ public class DijkstraManyToManyShortestPaths<V, E>
      * @param graph underlying graph
      */
     public DijkstraManyToManyShortestPaths(Graph<V, E> graph)
+    {
+        this(graph, DijkstraQueueStrategy.HEAP);
+    }
+
+    /**
+     * Constructs an instance of the algorithm for a given {@code graph} using a specific priority
+     * queue.
+     *
+     * @param graph underlying graph
+     * @param queueStrategy the priority queue strategy
+     * @throws IllegalArgumentException if the strategy is {@link DijkstraQueueStrategy#RADIX_HEAP}
+     *         and some edge weight is not a non-negative integer
+     */
+    public DijkstraManyToManyShortestPaths(Graph<V, E> graph, DijkstraQueueStrategy queueStrategy)
     {
         super(graph);
+        if (Objects.requireNonNull(queueStrategy) == DijkstraQueueStrategy.RADIX_HEAP) {
+            this.outgoing = IndexedAdjacency.outgoing(graph);
+            this.outgoingWeights = IntegerDijkstraSearch.integerWeights(outgoing);
+            if (graph.getType().isDirected()) {
+                this.incoming = outgoing.reversed();
+                this.incomingWeights = IntegerDijkstraSearch.integerWeights(incoming);
+            } else {
+                this.incoming = outgoing;
+                this.incomingWeights = outgoingWeights;
+            }
+        } else {
+            this.outgoing = null;
+            this.outgoingWeights = null;
+            this.incoming = null;
+            this.incomingWeights = null;
+        }
     }
 
     /**
@@ -76,6 +118,10 @@ public class DijkstraManyToManyShortestPaths<V, E>
 
         Map<V, ShortestPathAlgorithm.SingleSourcePaths<V, E>> searchSpaces = new HashMap<>();
 
+        if (outgoing != null) {
+            return getIntegerManyToManyPaths(sources, targets, searchSpaces);
+        }
+
         if (sources.size() >= targets.size()) {
             for (V source : sources) {
                 searchSpaces.put(source, getShortestPathsTree(graph, source, targets));
@@ -90,6 +136,44 @@ public class DijkstraManyToManyShortestPaths<V, E>
         }
     }
 
+    /**
+     * Same as {@link #getManyToManyPaths(Set, Set)} but using searches with primitive integer
+     * distances, which share the same scratch space.
+     */
+    private ManyToManyShortestPaths<V, E> getIntegerManyToManyPaths(
+        Set<V> sources, Set<V> targets,
+        Map<V, ShortestPathAlgorithm.SingleSourcePaths<V, E>> searchSpaces)
+    {
+        boolean reversed = sources.size() < targets.size();
+        Graph<V, E> searchGraph = reversed ? new EdgeReversedGraph<>(graph) : graph;
+        IndexedAdjacency<V, E> adjacency = reversed ? incoming : outgoing;
+        int[] offsets = adjacency.getOffsets();
+        int[] arcTargets = adjacency.getTargets();
+        int[] weights = reversed ? incomingWeights : outgoingWeights;
+        Set<V> searchSources = reversed ? targets : sources;
+        Set<V> searchTargets = reversed ? sources : targets;
+
+        BitSet isTarget = new BitSet(adjacency.vertexCount());
+        for (V v : searchTargets) {
+            isTarget.set(adjacency.getVertexIndex(v));
+        }
+        IntegerDijkstraSearch search = new IntegerDijkstraSearch(adjacency.vertexCount());
+        for (V source : searchSources) {
+            int sourceIndex = adjacency.getVertexIndex(source);
+            int reachedTargets = 0;
+            search.start(sourceIndex);
+            while (search.hasNext() && reachedTargets < searchTargets.size()) {
+                int v = search.next();
+                if (isTarget.get(v)) {
+                    ++reachedTargets;
+                }
+                search.relax(v, offsets, arcTargets, weights, Long.MAX_VALUE);
+            }
+            searchSpaces.put(source, search.getPaths(searchGraph, adjacency, sourceIndex));
+        }
+        return new DijkstraManyToManyShortestPathsImpl(sources, targets, reversed, searchSpaces);
+    }
+
     /**
      * Implementation of the
      * {@link org.jgrapht.alg.interfaces.ManyToManyShortestPathsAlgorithm.ManyToManyShortestPaths}.
@@ -0,0 +1,46 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.alg.util.*;
+
+/**
+ * The priority queue used by the Dijkstra-based shortest path algorithms.
+ *
+ * @author agent
+ * @see DijkstraShortestPath
+ * @see BidirectionalDijkstraShortestPath
+ * @see DijkstraManyToManyShortestPaths
+ * @see ParallelManyToManyShortestPaths
+ */
+public enum DijkstraQueueStrategy
+{
+    /**
+     * A comparison-based heap with double keys. This is the default strategy which supports
+     * arbitrary non-negative edge weights.
+     */
+    HEAP,
+
+    /**
+     * An {@link IndexedRadixHeap} with primitive integer keys, which works on an index-based
+     * snapshot of the graph. All edge weights must be integers in the range $[0, 2^{31}-1]$. The
+     * search avoids the logarithmic factor of comparison-based heaps as well as any boxing of
+     * vertices, edges or distances.
+     */
+    RADIX_HEAP
+}
@@ -19,9 +19,12 @@ package org.jgrapht.alg.shortestpath;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
 import org.jheaps.*;
 import org.jheaps.tree.*;
 
+import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 
 /**
@@ -29,6 +32,19 @@ import java.util.function.*;
  * shortest path algorithm</a> using a pairing heap by default. A custom heap implementation can by
  * specified during the construction time.
  *
+ * <p>
+ * If the graph implements {@link CSRAdjacency} and no custom heap is specified, the search is
+ * performed directly on the primitive representation of the graph using an
+ * {@link IndexedDaryHeap}.
+ *
+ * <p>
+ * If the edge weights are small non-negative integers, such as hop costs or latencies in
+ * milliseconds, the algorithm can be constructed with {@link DijkstraQueueStrategy#RADIX_HEAP}. In
+ * this case an index-based snapshot of the graph is created during construction and each search
+ * uses an {@link IndexedRadixHeap} with primitive integer keys. The scratch space of the searches
+ * is kept in a pool and reused by subsequent searches, which reset only the vertices they reach.
+ * The snapshot does not reflect subsequent modifications of the graph.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  * @author John V. Sichi
@@ -38,6 +54,11 @@ public final class DijkstraShortestPath<V, E>
 {
     private final double radius;
     private final Supplier<AddressableHeap<Double, Pair<V, E>>> heapSupplier;
+    private final boolean primitiveSearch;
+
+    private final IndexedAdjacency<V, E> adjacency;
+    private final int[] integerWeights;
+    private final Queue<IntegerDijkstraSearch> integerSearches;
 
     /**
      * Constructs a new instance of the algorithm for a given graph. The constructed algorithm will
@@ -47,7 +68,7 @@ public final class DijkstraShortestPath<V, E>
      */
     public DijkstraShortestPath(Graph<V, E> graph)
     {
-        this(graph, Double.POSITIVE_INFINITY, PairingHeap::new);
+        this(graph, Double.POSITIVE_INFINITY, PairingHeap::new, true);
     }
 
     /**
@@ -59,7 +80,7 @@ public final class DijkstraShortestPath<V, E>
      */
     public DijkstraShortestPath(Graph<V, E> graph, double radius)
     {
-        this(graph, radius, PairingHeap::new);
+        this(graph, radius, PairingHeap::new, true);
     }
 
     /**
@@ -85,6 +106,44 @@ public final class DijkstraShortestPath<V, E>
     public DijkstraShortestPath(
         Graph<V, E> graph, double radius,
         Supplier<AddressableHeap<Double, Pair<V, E>>> heapSupplier)
+    {
+        this(graph, radius, heapSupplier, false);
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph using a specific priority queue.
+     *
+     * @param graph the graph
+     * @param radius limit on path length, or Double.POSITIVE_INFINITY for unbounded search
+     * @param queueStrategy the priority queue strategy
+     * @throws IllegalArgumentException if the strategy is {@link DijkstraQueueStrategy#RADIX_HEAP}
+     *         and some edge weight is not a non-negative integer
+     */
+    public DijkstraShortestPath(
+        Graph<V, E> graph, double radius, DijkstraQueueStrategy queueStrategy)
+    {
+        super(graph);
+        if (radius < 0.0) {
+            throw new IllegalArgumentException("Radius must be non-negative");
+        }
+        this.radius = radius;
+        this.heapSupplier = PairingHeap::new;
+        if (Objects.requireNonNull(queueStrategy) == DijkstraQueueStrategy.RADIX_HEAP) {
+            this.primitiveSearch = false;
+            this.adjacency = IndexedAdjacency.outgoing(graph);
+            this.integerWeights = IntegerDijkstraSearch.integerWeights(adjacency);
+            this.integerSearches = new ConcurrentLinkedQueue<>();
+        } else {
+            this.primitiveSearch = CSRShortestPathSearch.isApplicable(graph);
+            this.adjacency = null;
+            this.integerWeights = null;
+            this.integerSearches = null;
+        }
+    }
+
+    private DijkstraShortestPath(
+        Graph<V, E> graph, double radius,
+        Supplier<AddressableHeap<Double, Pair<V, E>>> heapSupplier, boolean defaultHeap)
     {
         super(graph);
         if (radius < 0.0) {
@@ -92,6 +151,10 @@ public final class DijkstraShortestPath<V, E>
         }
         this.heapSupplier = heapSupplier;
         this.radius = radius;
+        this.primitiveSearch = defaultHeap && CSRShortestPathSearch.isApplicable(graph);
+        this.adjacency = null;
+        this.integerWeights = null;
+        this.integerSearches = null;
     }
 
     /**
@@ -125,6 +188,20 @@ public final class DijkstraShortestPath<V, E>
         if (source.equals(sink)) {
             return createEmptyPath(source, sink);
         }
+        if (primitiveSearch) {
+            return CSRShortestPathSearch
+                .dijkstra(graph, (Integer) source, (Integer) sink, radius).getPath(sink);
+        }
+        if (adjacency != null) {
+            int sinkIndex = adjacency.getVertexIndex(sink);
+            IntegerDijkstraSearch search = acquireIntegerSearch();
+            try {
+                integerSearch(search, adjacency.getVertexIndex(source), sinkIndex);
+                return search.getPath(graph, adjacency, sinkIndex);
+            } finally {
+                integerSearches.offer(search);
+            }
+        }
 
         DijkstraClosestFirstIterator<V, E> it =
             new DijkstraClosestFirstIterator<>(graph, source, radius, heapSupplier);
@@ -152,6 +229,19 @@ public final class DijkstraShortestPath<V, E>
         if (!graph.containsVertex(source)) {
             throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
         }
+        if (primitiveSearch) {
+            return CSRShortestPathSearch.dijkstra(graph, (Integer) source, -1, radius);
+        }
+        if (adjacency != null) {
+            int sourceIndex = adjacency.getVertexIndex(source);
+            IntegerDijkstraSearch search = acquireIntegerSearch();
+            try {
+                integerSearch(search, sourceIndex, -1);
+                return search.getPaths(graph, adjacency, sourceIndex);
+            } finally {
+                integerSearches.offer(search);
+            }
+        }
 
         DijkstraClosestFirstIterator<V, E> it =
             new DijkstraClosestFirstIterator<>(graph, source, radius, heapSupplier);
@@ -163,4 +253,25 @@ public final class DijkstraShortestPath<V, E>
         return it.getPaths();
     }
 
+    private IntegerDijkstraSearch acquireIntegerSearch()
+    {
+        IntegerDijkstraSearch search = integerSearches.poll();
+        return search != null ? search : new IntegerDijkstraSearch(adjacency.vertexCount());
+    }
+
+    private void integerSearch(IntegerDijkstraSearch search, int source, int sink)
+    {
+        int[] offsets = adjacency.getOffsets();
+        int[] targets = adjacency.getTargets();
+        long integerRadius = IntegerDijkstraSearch.integerRadius(radius);
+        search.start(source);
+        while (search.hasNext()) {
+            int v = search.next();
+            if (v == sink) {
+                break;
+            }
+            search.relax(v, offsets, targets, integerWeights, integerRadius);
+        }
+    }
+
 }
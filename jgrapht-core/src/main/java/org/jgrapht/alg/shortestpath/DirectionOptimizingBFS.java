@@ -0,0 +1,354 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+/**
+ * A parallel direction-optimizing breadth-first search.
+ *
+ * <p>
+ * Computes shortest paths from a single source vertex to all other vertices of an unweighted
+ * graph, ignoring any edge weights. The search proceeds level by level and chooses for each level
+ * between two kinds of steps. A top-down step scans the outgoing edges of the vertices of the
+ * current level and claims their unvisited neighbors. A bottom-up step scans the incoming edges of
+ * all unvisited vertices and stops at the first neighbor found in the current level. Bottom-up
+ * steps are much cheaper when the current level contains a large fraction of the graph, which is
+ * typical for the middle levels of searches in graphs with small diameter such as social networks.
+ * The choice between the two follows the heuristic from the following paper:
+ * <ul>
+ * <li>Scott Beamer, Krste Asanović, and David Patterson. Direction-optimizing breadth-first search.
+ * In Proceedings of the International Conference on High Performance Computing, Networking,
+ * Storage and Analysis (SC '12), 2012.</li>
+ * </ul>
+ *
+ * <p>
+ * The search works on an {@link IndexedAdjacency} snapshot of the graph, which is created once by
+ * the constructor and does not reflect subsequent modifications of the graph. Graphs implementing
+ * {@link CSRAdjacency} such as the sparse graphs are indexed without any hash lookups. Each level
+ * is processed in parallel using a user supplied {@link ThreadPoolExecutor}. Besides the
+ * {@link ShortestPathAlgorithm} interface, the class provides the method
+ * {@link #search(int, int[], int[])} which stores the distances and parents of all vertices in
+ * primitive arrays indexed by the vertex indices of {@link #getAdjacency()}, without creating any
+ * objects per vertex.
+ *
+ * <p>
+ * The running time is $O(|V|+|E|)$ for each top-down step and $O(|V|)$ plus the scanned edges for
+ * each bottom-up step. The class is thread-safe provided that concurrent searches use different
+ * arrays.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ * @see BFSShortestPath
+ */
+public class DirectionOptimizingBFS<V, E>
+    extends BaseShortestPathAlgorithm<V, E>
+{
+    /**
+     * The number of vertices processed as a single task.
+     */
+    private static final int VERTICES_CHUNK_SIZE = 1024;
+
+    /**
+     * Switch to bottom-up steps when the edges of the current level exceed this fraction of the
+     * edges of the unvisited vertices.
+     */
+    private static final int ALPHA = 14;
+
+    /**
+     * Switch back to top-down steps when the current level contains fewer than this fraction of
+     * the vertices.
+     */
+    private static final int BETA = 24;
+
+    private final ThreadPoolExecutor executor;
+    private final IndexedAdjacency<V, E> out;
+    private final IndexedAdjacency<V, E> in;
+
+    /**
+     * Construct a new instance which executes the search in the calling thread.
+     *
+     * @param graph the input graph
+     */
+    public DirectionOptimizingBFS(Graph<V, E> graph)
+    {
+        this(graph, null);
+    }
+
+    /**
+     * Construct a new instance.
+     *
+     * @param graph the input graph
+     * @param executor executor which is used to process each level in parallel, if null the
+     *        search is executed in the calling thread
+     */
+    public DirectionOptimizingBFS(Graph<V, E> graph, ThreadPoolExecutor executor)
+    {
+        super(graph);
+        this.executor = executor;
+        this.out = IndexedAdjacency.outgoing(graph);
+        this.in = graph.getType().isDirected() ? out.reversed() : out;
+    }
+
+    /**
+     * Get the index-based adjacency of the outgoing edges of the graph. Its vertex indices are the
+     * indices used by {@link #search(int, int[], int[])}.
+     *
+     * @return the index-based adjacency
+     */
+    public IndexedAdjacency<V, E> getAdjacency()
+    {
+        return out;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SingleSourcePaths<V, E> getPaths(V source)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        int n = out.vertexCount();
+        int[] distance = new int[n];
+        int[] parentArc = new int[n];
+        search(out.getVertexIndex(source), distance, null, parentArc);
+
+        Map<V, Pair<Double, E>> distanceAndPredecessorMap = new HashMap<>();
+        for (int v = 0; v < n; v++) {
+            if (distance[v] == 0) {
+                distanceAndPredecessorMap.put(out.getVertex(v), Pair.of(0d, null));
+            } else if (distance[v] > 0) {
+                int arc = parentArc[v];
+                E e = arc >= 0 ? out.getArcEdge(arc) : in.getArcEdge(~arc);
+                distanceAndPredecessorMap
+                    .put(out.getVertex(v), Pair.of((double) distance[v], e));
+            }
+        }
+        return new TreeSingleSourcePathsImpl<>(graph, source, distanceAndPredecessorMap);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        if (!graph.containsVertex(sink)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+        return getPaths(source).getPath(sink);
+    }
+
+    /**
+     * Execute a search from a source vertex.
+     *
+     * @param source the index of the source vertex
+     * @param distance array of length $n$ where the number of edges of a shortest path from the
+     *        source to each vertex is stored, or $-1$ if the vertex is not reachable
+     * @param parent array of length $n$ where the index of the predecessor of each vertex in the
+     *        shortest path tree is stored, or $-1$ for the source and unreachable vertices. Can be
+     *        null if the parents are not needed.
+     * @return the number of vertices reachable from the source, including the source
+     * @throws IllegalArgumentException if the source is not a valid vertex index or an array is
+     *         too short
+     */
+    public int search(int source, int[] distance, int[] parent)
+    {
+        int n = out.vertexCount();
+        if (source < 0 || source >= n) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        if (distance.length < n || (parent != null && parent.length < n)) {
+            throw new IllegalArgumentException("Arrays must have length at least " + n);
+        }
+        return search(source, distance, parent, null);
+    }
+
+    /**
+     * Execute a search. Vertices are marked in an atomic array with their level plus one, so that
+     * zero denotes an unvisited vertex. The parent arc of a vertex claimed by a top-down step is
+     * an arc of the outgoing adjacency, while the parent arc of a vertex claimed by a bottom-up
+     * step is stored as the bitwise complement of an arc of the incoming adjacency.
+     */
+    private int search(int source, int[] distance, int[] parent, int[] parentArc)
+    {
+        int n = out.vertexCount();
+        AtomicIntegerArray mark = new AtomicIntegerArray(n);
+        mark.set(source, 1);
+        if (parent != null) {
+            Arrays.fill(parent, 0, n, -1);
+        }
+        if (parentArc != null) {
+            parentArc[source] = -1;
+        }
+
+        int[] outOffsets = out.getOffsets();
+        int[] outTargets = out.getTargets();
+        int[] inOffsets = in.getOffsets();
+        int[] inTargets = in.getTargets();
+
+        int[] frontier = new int[] { source };
+        long frontierArcs = out.degree(source);
+        long unvisitedArcs = in.arcCount() - in.degree(source);
+        boolean bottomUp = false;
+        int reached = 1;
+
+        for (int level = 1; frontier.length > 0; level++) {
+            final int curMark = level;
+            final int nextMark = level + 1;
+            final int[] curFrontier = frontier;
+
+            if (!bottomUp && frontierArcs > unvisitedArcs / ALPHA) {
+                bottomUp = true;
+            } else if (bottomUp && frontier.length < n / BETA) {
+                bottomUp = false;
+            }
+
+            List<Workspace> workspaces;
+            if (bottomUp) {
+                workspaces = forEach(n, (ws, u) -> {
+                    if (mark.get(u) != 0) {
+                        return;
+                    }
+                    for (int arc = inOffsets[u]; arc < inOffsets[u + 1]; arc++) {
+                        int v = inTargets[arc];
+                        if (mark.get(v) == curMark) {
+                            mark.set(u, nextMark);
+                            if (parent != null) {
+                                parent[u] = v;
+                            }
+                            if (parentArc != null) {
+                                parentArc[u] = ~arc;
+                            }
+                            ws.add(u, outOffsets[u + 1] - outOffsets[u]);
+                            break;
+                        }
+                    }
+                });
+            } else {
+                workspaces = forEach(curFrontier.length, (ws, i) -> {
+                    int v = curFrontier[i];
+                    for (int arc = outOffsets[v]; arc < outOffsets[v + 1]; arc++) {
+                        int u = outTargets[arc];
+                        if (mark.get(u) == 0 && mark.compareAndSet(u, 0, nextMark)) {
+                            if (parent != null) {
+                                parent[u] = v;
+                            }
+                            if (parentArc != null) {
+                                parentArc[u] = arc;
+                            }
+                            ws.add(u, outOffsets[u + 1] - outOffsets[u]);
+                        }
+                    }
+                });
+            }
+
+            // next level
+            int size = 0;
+            frontierArcs = 0;
+            for (Workspace ws : workspaces) {
+                size += ws.size;
+                frontierArcs += ws.outArcs;
+            }
+            frontier = new int[size];
+            int pos = 0;
+            for (Workspace ws : workspaces) {
+                System.arraycopy(ws.vertices, 0, frontier, pos, ws.size);
+                pos += ws.size;
+            }
+            reached += size;
+
+            // remove the incoming arcs of the new level from the unvisited arcs
+            for (int u : frontier) {
+                unvisitedArcs -= inOffsets[u + 1] - inOffsets[u];
+            }
+        }
+
+        for (int v = 0; v < n; v++) {
+            distance[v] = mark.get(v) - 1;
+        }
+        return reached;
+    }
+
+    /**
+     * Execute a task for each index in $[0, count)$, using the executor if available. Each thread
+     * claims chunks of consecutive indices and owns a single workspace.
+     *
+     * @return the workspaces which were used
+     */
+    private List<Workspace> forEach(int count, ObjIntConsumer<Workspace> task)
+    {
+        if (executor == null || count <= VERTICES_CHUNK_SIZE) {
+            Workspace ws = new Workspace();
+            for (int i = 0; i < count; i++) {
+                task.accept(ws, i);
+            }
+            return Collections.singletonList(ws);
+        }
+
+        AtomicInteger next = new AtomicInteger();
+        int workers = Math.min(
+            executor.getMaximumPoolSize(), (count + VERTICES_CHUNK_SIZE - 1) / VERTICES_CHUNK_SIZE);
+        List<Callable<Workspace>> tasks = new ArrayList<>(workers);
+        for (int w = 0; w < workers; w++) {
+            tasks.add(() -> {
+                Workspace ws = new Workspace();
+                int from;
+                while ((from = next.getAndAdd(VERTICES_CHUNK_SIZE)) < count) {
+                    int to = Math.min(from + VERTICES_CHUNK_SIZE, count);
+                    for (int i = from; i < to; i++) {
+                        task.accept(ws, i);
+                    }
+                }
+                return ws;
+            });
+        }
+        return ConcurrencyUtil.invokeAll(executor, tasks);
+    }
+
+    /**
+     * The vertices of the next level claimed by a thread, together with the number of their
+     * outgoing arcs.
+     */
+    private static class Workspace
+    {
+        private int[] vertices = new int[16];
+        private int size;
+        private long outArcs;
+
+        void add(int v, int outDegree)
+        {
+            if (size == vertices.length) {
+                vertices = Arrays.copyOf(vertices, 2 * size);
+            }
+            vertices[size++] = v;
+            outArcs += outDegree;
+        }
+    }
+}
@@ -0,0 +1,419 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.event.*;
+import org.jgrapht.graph.*;
+import org.jheaps.*;
+import org.jheaps.tree.*;
+
+import java.util.*;
+
+/**
+ * A single source shortest paths tree which is maintained under edge insertions, edge deletions
+ * and edge weight updates.
+ *
+ * <p>
+ * The tree is computed once using Dijkstra's algorithm during construction. Afterwards, each
+ * modification of an edge is handled in the spirit of the algorithm of Ramalingam and Reps, see
+ * G. Ramalingam and T. Reps. On the computational complexity of dynamic graph problems.
+ * Theoretical Computer Science, 158(1-2):233--277, 1996. Only the vertices whose distance changes
+ * are visited:
+ * <ul>
+ * <li>If the distance through the modified edge becomes smaller than the distance of its target,
+ * the improvement is propagated from the target using Dijkstra's algorithm which only scans
+ * vertices whose distance decreases.</li>
+ * <li>If a tree edge is removed or its weight is increased, the subtree below the edge is
+ * collected. Each vertex of the subtree is seeded with its best distance through an edge from a
+ * vertex outside the subtree and the distances inside the subtree are recomputed using Dijkstra's
+ * algorithm. Vertices which are no longer reachable are removed from the tree.</li>
+ * <li>All other modifications do not change any distance and are handled in constant time.</li>
+ * </ul>
+ * Thus the cost of an update is $O(\|\delta\| \log \|\delta\|)$ where $\|\delta\|$ is the number of
+ * vertices whose distance changes together with their incident edges, instead of the size of the
+ * graph.
+ *
+ * <p>
+ * Modifications can be reported in two ways. The tree is a {@link GraphListener} and can be added
+ * as a listener to the graph if the graph is a {@link ListenableGraph}, in which case all edge and
+ * vertex modifications are handled automatically. Alternatively, the weight of an edge can be
+ * changed using {@link #updateWeight(Object, double)}, which modifies the graph and repairs the
+ * tree. If the tree is added as a listener to a graph other than the one it was constructed with,
+ * or the graph is modified without the tree being notified, results are undefined.
+ *
+ * <p>
+ * The graph must not contain edges with negative weights. If the source vertex is removed from
+ * the graph, all subsequent queries throw an {@link IllegalStateException}.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public class DynamicShortestPathTree<V, E>
+    implements SingleSourcePaths<V, E>, GraphListener<V, E>
+{
+    private final Graph<V, E> graph;
+    private final V source;
+    private final Map<V, Node<V, E>> nodes;
+    private final AddressableHeap<Double, Node<V, E>> heap;
+    private boolean sourceRemoved;
+
+    /**
+     * Construct a new shortest paths tree.
+     *
+     * @param graph the graph
+     * @param source the source vertex
+     * @throws IllegalArgumentException if the graph does not contain the source vertex or if some
+     *         reachable edge has negative weight
+     */
+    public DynamicShortestPathTree(Graph<V, E> graph, V source)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph is null");
+        this.source = Objects.requireNonNull(source, "Source vertex is null");
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException("Graph must contain the source vertex!");
+        }
+        this.nodes = new HashMap<>();
+        this.heap = new PairingHeap<>();
+
+        Node<V, E> sourceNode = new Node<>(source);
+        sourceNode.distance = 0d;
+        nodes.put(source, sourceNode);
+        sourceNode.handle = heap.insert(0d, sourceNode);
+        propagate();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Graph<V, E> getGraph()
+    {
+        return graph;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V getSourceVertex()
+    {
+        return source;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException if the source vertex has been removed from the graph
+     */
+    @Override
+    public double getWeight(V targetVertex)
+    {
+        assertSourceExists();
+        Node<V, E> node = nodes.get(targetVertex);
+        return node == null ? Double.POSITIVE_INFINITY : node.distance;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException if the source vertex has been removed from the graph
+     */
+    @Override
+    public GraphPath<V, E> getPath(V targetVertex)
+    {
+        assertSourceExists();
+        Node<V, E> node = nodes.get(targetVertex);
+        if (node == null) {
+            return null;
+        }
+        LinkedList<E> edgeList = new LinkedList<>();
+        LinkedList<V> vertexList = new LinkedList<>();
+        vertexList.add(targetVertex);
+        V v = targetVertex;
+        while (node.parentEdge != null) {
+            edgeList.addFirst(node.parentEdge);
+            v = Graphs.getOppositeVertex(graph, node.parentEdge, v);
+            vertexList.addFirst(v);
+            node = nodes.get(v);
+        }
+        return new GraphWalk<>(
+            graph, source, targetVertex, vertexList, edgeList, nodes.get(targetVertex).distance);
+    }
+
+    /**
+     * Get the edge which connects a vertex with its parent in the shortest paths tree.
+     *
+     * @param v the vertex
+     * @return the edge which connects the vertex with its parent, or null if the vertex is the
+     *         source or is not reachable from the source
+     * @throws IllegalStateException if the source vertex has been removed from the graph
+     */
+    public E getParentEdge(V v)
+    {
+        assertSourceExists();
+        Node<V, E> node = nodes.get(v);
+        return node == null ? null : node.parentEdge;
+    }
+
+    /**
+     * Change the weight of an edge of the graph and repair the shortest paths tree. Use this method
+     * only if the tree has not been added as a listener to the graph, otherwise the tree is
+     * repaired by the listener.
+     *
+     * @param e the edge
+     * @param weight the new weight of the edge
+     * @throws IllegalArgumentException if the weight is negative
+     * @throws IllegalStateException if the source vertex has been removed from the graph
+     */
+    public void updateWeight(E e, double weight)
+    {
+        assertSourceExists();
+        assertNonNegative(weight);
+        graph.setEdgeWeight(e, weight);
+        edgeChanged(e, graph.getEdgeSource(e), graph.getEdgeTarget(e), weight);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the weight of the edge is negative
+     */
+    @Override
+    public void edgeAdded(GraphEdgeChangeEvent<V, E> e)
+    {
+        if (sourceRemoved) {
+            return;
+        }
+        double weight = graph.getEdgeWeight(e.getEdge());
+        assertNonNegative(weight);
+        edgeChanged(e.getEdge(), e.getEdgeSource(), e.getEdgeTarget(), weight);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void edgeRemoved(GraphEdgeChangeEvent<V, E> e)
+    {
+        if (sourceRemoved) {
+            return;
+        }
+        edgeChanged(e.getEdge(), e.getEdgeSource(), e.getEdgeTarget(), Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the new weight of the edge is negative
+     */
+    @Override
+    public void edgeWeightUpdated(GraphEdgeChangeEvent<V, E> e)
+    {
+        if (sourceRemoved) {
+            return;
+        }
+        assertNonNegative(e.getEdgeWeight());
+        edgeChanged(e.getEdge(), e.getEdgeSource(), e.getEdgeTarget(), e.getEdgeWeight());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void vertexAdded(GraphVertexChangeEvent<V> e)
+    {
+        // a new vertex is not reachable
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void vertexRemoved(GraphVertexChangeEvent<V> e)
+    {
+        // the edges of the vertex have already been removed
+        if (source.equals(e.getVertex())) {
+            sourceRemoved = true;
+            nodes.clear();
+        }
+        nodes.remove(e.getVertex());
+    }
+
+    /**
+     * Repair the tree after the weight of an edge has changed. A removed edge is treated as an edge
+     * with infinite weight.
+     */
+    private void edgeChanged(E e, V edgeSource, V edgeTarget, double weight)
+    {
+        if (edgeSource.equals(edgeTarget)) {
+            return;
+        }
+        edgeChanged(e, edgeSource, edgeTarget, weight, nodes.get(edgeTarget));
+        if (!graph.getType().isDirected()) {
+            edgeChanged(e, edgeTarget, edgeSource, weight, nodes.get(edgeSource));
+        }
+    }
+
+    /**
+     * Repair the tree after the weight of arc $(u,v)$ has changed.
+     */
+    private void edgeChanged(E e, V u, V v, double weight, Node<V, E> vNode)
+    {
+        Node<V, E> uNode = nodes.get(u);
+        double distance = uNode == null ? Double.POSITIVE_INFINITY : uNode.distance + weight;
+        if (vNode != null && vNode.parentEdge == e && distance > vNode.distance) {
+            repairSubtree(vNode);
+        } else if (vNode == null || distance < vNode.distance) {
+            if (vNode == null) {
+                if (distance == Double.POSITIVE_INFINITY) {
+                    return;
+                }
+                vNode = new Node<>(v);
+                nodes.put(v, vNode);
+            }
+            vNode.distance = distance;
+            vNode.parentEdge = e;
+            vNode.handle = heap.insert(distance, vNode);
+            propagate();
+        }
+    }
+
+    /**
+     * Recompute the distances of the subtree rooted at a vertex whose distance has increased.
+     */
+    private void repairSubtree(Node<V, E> root)
+    {
+        // collect the subtree
+        List<Node<V, E>> subtree = new ArrayList<>();
+        root.affected = true;
+        subtree.add(root);
+        for (int i = 0; i < subtree.size(); i++) {
+            V v = subtree.get(i).vertex;
+            for (E e : graph.outgoingEdgesOf(v)) {
+                Node<V, E> child = nodes.get(Graphs.getOppositeVertex(graph, e, v));
+                if (child != null && child.parentEdge == e && !child.affected) {
+                    child.affected = true;
+                    subtree.add(child);
+                }
+            }
+        }
+
+        // seed each vertex with its best distance from outside the subtree
+        for (Node<V, E> node : subtree) {
+            node.distance = Double.POSITIVE_INFINITY;
+            node.parentEdge = null;
+            V v = node.vertex;
+            for (E e : graph.incomingEdgesOf(v)) {
+                Node<V, E> parent = nodes.get(Graphs.getOppositeVertex(graph, e, v));
+                if (parent == null || parent.affected) {
+                    continue;
+                }
+                double distance = parent.distance + graph.getEdgeWeight(e);
+                if (distance < node.distance) {
+                    node.distance = distance;
+                    node.parentEdge = e;
+                }
+            }
+        }
+        for (Node<V, E> node : subtree) {
+            node.affected = false;
+            if (node.parentEdge != null) {
+                node.handle = heap.insert(node.distance, node);
+            }
+        }
+
+        // recompute the distances inside the subtree
+        propagate();
+
+        for (Node<V, E> node : subtree) {
+            if (node.distance == Double.POSITIVE_INFINITY) {
+                nodes.remove(node.vertex);
+            }
+        }
+    }
+
+    /**
+     * Run Dijkstra's algorithm from the vertices in the heap, updating only vertices whose
+     * distance decreases.
+     */
+    private void propagate()
+    {
+        while (!heap.isEmpty()) {
+            Node<V, E> node = heap.deleteMin().getValue();
+            node.handle = null;
+            V v = node.vertex;
+            for (E e : graph.outgoingEdgesOf(v)) {
+                double weight = graph.getEdgeWeight(e);
+                assertNonNegative(weight);
+                V u = Graphs.getOppositeVertex(graph, e, v);
+                double distance = node.distance + weight;
+                Node<V, E> uNode = nodes.get(u);
+                if (uNode == null) {
+                    uNode = new Node<>(u);
+                    nodes.put(u, uNode);
+                } else if (distance >= uNode.distance) {
+                    continue;
+                }
+                uNode.distance = distance;
+                uNode.parentEdge = e;
+                if (uNode.handle == null) {
+                    uNode.handle = heap.insert(distance, uNode);
+                } else {
+                    uNode.handle.decreaseKey(distance);
+                }
+            }
+        }
+    }
+
+    private void assertSourceExists()
+    {
+        if (sourceRemoved) {
+            throw new IllegalStateException("Source vertex has been removed from the graph");
+        }
+    }
+
+    private static void assertNonNegative(double weight)
+    {
+        if (weight < 0d) {
+            throw new IllegalArgumentException("Negative edge weight not allowed");
+        }
+    }
+
+    /**
+     * A vertex which is reachable from the source, or which is being repaired.
+     */
+    private static class Node<V, E>
+    {
+        final V vertex;
+        double distance;
+        E parentEdge;
+        AddressableHeap.Handle<Double, Node<V, E>> handle;
+        boolean affected;
+
+        Node(V vertex)
+        {
+            this.vertex = vertex;
+            this.distance = Double.POSITIVE_INFINITY;
+        }
+    }
+
+}
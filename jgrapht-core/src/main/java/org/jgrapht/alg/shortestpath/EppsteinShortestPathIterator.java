@@ -19,8 +19,6 @@ package org.jgrapht.alg.shortestpath;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.util.*;
-import org.jgrapht.graph.*;
-import org.jgrapht.traverse.*;
 
 import java.util.*;
 
@@ -62,6 +60,10 @@ import java.util.*;
  * the root vertex.</li>
  * <li>Weights of the edges in the paths graph are mot maintained explicitly, because they are
  * computed during its traversal.</li>
+ * <li>The graph is indexed once and the shortest paths tree, the heap roots of the vertices and
+ * the traversals use primitive arrays instead of maps.</li>
+ * <li>Each generated path stores only its parent path and its last vertex in the paths graph,
+ * instead of a copy of all its vertices in the paths graph.</li>
  * </ol>
  *
  * @param <V> the graph vertex type
@@ -84,15 +86,23 @@ public class EppsteinShortestPathIterator<V, E>
      */
     private final V sink;
 
+    /**
+     * Index-based adjacency of the outgoing edges of the {@code graph}.
+     */
+    private final IndexedAdjacency<V, E> outgoing;
+
     /**
      * Vertex of the paths graph from which the BFS traversal is started.
      */
     private PathsGraphVertex pathsGraphRoot;
 
     /**
-     * Shortest paths tree in the edge reversed graph {@code graph} rooted at {@code sink}.
+     * Shortest paths tree in the edge reversed graph {@code graph} rooted at {@code sink}. For
+     * each vertex stores its distance to the {@code sink} and its outgoing arc in the tree, which
+     * is $-1$ for the {@code sink} and for vertices from which the {@code sink} is unreachable.
      */
-    private Map<V, Pair<Double, E>> distanceAndPredecessorMap;
+    private double[] distance;
+    private int[] treeArc;
 
     /**
      * Priority queue of the paths generated during the computation.
@@ -101,9 +111,10 @@ public class EppsteinShortestPathIterator<V, E>
 
     /**
      * For each vertex $v$ in {@code graph} maintains the root of the balanced heap, which
-     * corresponds to it.
+     * corresponds to it, and whether this heap has been built.
      */
-    private Map<V, PathsGraphVertex> hMapping;
+    private PathsGraphVertex[] hMapping;
+    private BitSet hMappingBuilt;
 
     /**
      * Constructs an instance of the algorithm for the given {@code graph}, {@code source} and
@@ -131,22 +142,71 @@ public class EppsteinShortestPathIterator<V, E>
 
         pathsQueue = new PriorityQueue<>();
 
-        TreeSingleSourcePathsImpl<V, E> shortestPaths = (TreeSingleSourcePathsImpl<V,
-            E>) new DijkstraShortestPath<>(new EdgeReversedGraph<>(graph)).getPaths(sink);
+        this.outgoing = IndexedAdjacency.outgoing(graph);
+        computeShortestPathsTree();
 
-        GraphPath<V, E> shortestPath = shortestPaths.getPath(source);
-        if (shortestPath != null) {
-            distanceAndPredecessorMap = shortestPaths.getDistanceAndPredecessorMap();
-            pathsQueue.add(
-                new EppsteinGraphPath(
-                    graph, new ArrayList<>(0), distanceAndPredecessorMap,
-                    shortestPath.getWeight()));
-            hMapping = new HashMap<>();
+        int s = outgoing.getVertexIndex(source);
+        if (distance[s] != Double.POSITIVE_INFINITY) {
+            pathsQueue.add(new EppsteinGraphPath(null, null, distance[s]));
+            hMapping = new PathsGraphVertex[outgoing.vertexCount()];
+            hMappingBuilt = new BitSet(outgoing.vertexCount());
 
             buildPathsGraph();
         }
     }
 
+    /**
+     * Computes the shortest paths tree in the edge reversed {@code graph} rooted at {@code sink}
+     * using Dijkstra's algorithm.
+     */
+    private void computeShortestPathsTree()
+    {
+        IndexedAdjacency<V, E> incoming = outgoing.reversed();
+        int n = outgoing.vertexCount();
+        distance = new double[n];
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        int[] next = new int[n];
+        Arrays.fill(next, -1);
+
+        int[] offsets = incoming.getOffsets();
+        int[] sources = incoming.getTargets();
+        double[] weights = incoming.getWeights();
+        IndexedDaryHeap heap = new IndexedDaryHeap(n);
+        int t = outgoing.getVertexIndex(sink);
+        distance[t] = 0d;
+        heap.insert(t, 0d);
+        while (!heap.isEmpty()) {
+            int v = heap.deleteMin();
+            double vDistance = distance[v];
+            for (int arc = offsets[v]; arc < offsets[v + 1]; arc++) {
+                int u = sources[arc];
+                double uDistance = vDistance + weights[arc];
+                if (uDistance < distance[u]) {
+                    distance[u] = uDistance;
+                    next[u] = v;
+                    heap.insertOrDecreaseKey(u, uDistance);
+                }
+            }
+        }
+
+        // the graph is simple, thus the arc to the next vertex is unique
+        int[] outOffsets = outgoing.getOffsets();
+        int[] targets = outgoing.getTargets();
+        treeArc = new int[n];
+        Arrays.fill(treeArc, -1);
+        for (int v = 0; v < n; v++) {
+            if (next[v] == -1) {
+                continue;
+            }
+            for (int arc = outOffsets[v]; arc < outOffsets[v + 1]; arc++) {
+                if (targets[arc] == next[v]) {
+                    treeArc[v] = arc;
+                    break;
+                }
+            }
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -181,11 +241,10 @@ public class EppsteinShortestPathIterator<V, E>
     {
         PathsGraphVertex lastPathsGraphVertex;
 
-        if (path.pathsGraphVertices.isEmpty()) { // if this is shortest path between the source and
-                                                 // sink
+        if (path.last == null) { // if this is shortest path between the source and sink
             lastPathsGraphVertex = pathsGraphRoot;
         } else {
-            lastPathsGraphVertex = path.pathsGraphVertices.get(path.pathsGraphVertices.size() - 1);
+            lastPathsGraphVertex = path.last;
         }
 
         if (lastPathsGraphVertex.left != null) {
@@ -218,12 +277,7 @@ public class EppsteinShortestPathIterator<V, E>
     private void addExtension(
         EppsteinGraphPath path, PathsGraphVertex extendingVertex, double weight)
     {
-        List<PathsGraphVertex> sidetracks = new ArrayList<>(path.pathsGraphVertices);
-        sidetracks.add(extendingVertex);
-
-        pathsQueue.add(
-            new EppsteinGraphPath(
-                graph, sidetracks, distanceAndPredecessorMap, path.weight + weight));
+        pathsQueue.add(new EppsteinGraphPath(path, extendingVertex, path.weight + weight));
     }
 
     /**
@@ -247,31 +301,47 @@ public class EppsteinShortestPathIterator<V, E>
      */
     private void buildDGraph()
     {
-        DepthFirstIterator<V, E> it = new DepthFirstIterator<>(graph, source);
-        Deque<V> stack = new ArrayDeque<>();
-        while (it.hasNext()) {
-            V vertex = it.next();
-            if (!distanceAndPredecessorMap.containsKey(vertex)) { // sink is unreachable from vertex
+        int n = outgoing.vertexCount();
+        int[] offsets = outgoing.getOffsets();
+        int[] targets = outgoing.getTargets();
+        int t = outgoing.getVertexIndex(sink);
+
+        BitSet visited = new BitSet(n);
+        int[] dfsStack = new int[n];
+        int[] stack = new int[n];
+        int dfsTop = 0;
+        int s = outgoing.getVertexIndex(source);
+        visited.set(s);
+        dfsStack[dfsTop++] = s;
+        while (dfsTop > 0) {
+            int vertex = dfsStack[--dfsTop];
+            for (int arc = offsets[vertex]; arc < offsets[vertex + 1]; arc++) {
+                int u = targets[arc];
+                if (!visited.get(u)) {
+                    visited.set(u);
+                    dfsStack[dfsTop++] = u;
+                }
+            }
+            if (distance[vertex] == Double.POSITIVE_INFINITY) { // sink is unreachable from vertex
                 continue;
             }
-            if (!hMapping.containsKey(vertex)) { // heap has not been built yet
-                stack.addLast(vertex);
-                while (!stack.isEmpty()) {
-                    V v = stack.peekLast();
-
-                    if (v.equals(sink)) {
-                        stack.removeLast();
+            if (!hMappingBuilt.get(vertex)) { // heap has not been built yet
+                int top = 0;
+                stack[top++] = vertex;
+                while (top > 0) {
+                    int v = stack[top - 1];
+
+                    if (v == t) {
+                        top--;
                         insertVertex(v, null);
                     } else {
-                        V predecessor = Graphs.getOppositeVertex(
-                            graph, distanceAndPredecessorMap.get(v).getSecond(), v);
+                        int predecessor = targets[treeArc[v]];
 
-                        if (hMapping.containsKey(predecessor)) {
-                            stack.removeLast();
-                            PathsGraphVertex predecessorH = hMapping.get(predecessor);
-                            insertVertex(v, predecessorH);
+                        if (hMappingBuilt.get(predecessor)) {
+                            top--;
+                            insertVertex(v, hMapping[predecessor]);
                         } else {
-                            stack.addLast(predecessor);
+                            stack[top++] = predecessor;
                         }
                     }
                 }
@@ -288,26 +358,25 @@ public class EppsteinShortestPathIterator<V, E>
     private void addCrossEdges()
     {
         Queue<PathsGraphVertex> queue = new ArrayDeque<>();
-        PathsGraphVertex sourceMapping = hMapping.get(source);
-        Set<PathsGraphVertex> seen = new HashSet<>();
+        PathsGraphVertex sourceMapping = hMapping[outgoing.getVertexIndex(source)];
+        int[] targets = outgoing.getTargets();
         if (sourceMapping != null) { // no sidetracks on the paths from source to sink
             queue.add(sourceMapping);
             while (!queue.isEmpty()) {
                 PathsGraphVertex v = queue.remove();
-                seen.add(v);
-                V target = graph.getEdgeTarget(v.edge);
-                v.cross = hMapping.get(target);
+                v.seen = true;
+                v.cross = hMapping[targets[v.arc]];
 
-                if (v.left != null && !seen.contains(v.left)) {
+                if (v.left != null && !v.left.seen) {
                     queue.add(v.left);
                 }
-                if (v.right != null && !seen.contains(v.right)) {
+                if (v.right != null && !v.right.seen) {
                     queue.add(v.right);
                 }
-                if (v.rest != null && !seen.contains(v.rest)) {
+                if (v.rest != null && !v.rest.seen) {
                     queue.add(v.rest);
                 }
-                if (v.cross != null && !seen.contains(v.cross)) {
+                if (v.cross != null && !v.cross.seen) {
                     queue.add(v.cross);
                 }
             }
@@ -320,34 +389,35 @@ public class EppsteinShortestPathIterator<V, E>
      */
     private void addPathGraphRoot()
     {
-        PathsGraphVertex root = new PathsGraphVertex(null, 0);
-        root.cross = hMapping.get(source);
+        PathsGraphVertex root = new PathsGraphVertex(-1, -1, 0);
+        root.cross = hMapping[outgoing.getVertexIndex(source)];
         pathsGraphRoot = root;
     }
 
     /**
      * Guides the process of adding the sidetracks of {@code v} to the paths graph. First receives
      * the outroot and root of the rest heap of {@code v} by calling
-     * {@code getOutrootAndRestHeapRoot(Object)}. If the outroot if $null$ maps $v$ to
+     * {@code getOutrootAndRestHeapRoot(int)}. If the outroot if $null$ maps $v$ to
      * {@code predecessorHeap} in {@code hMapping}. Otherwise inserts outroot of $v$ in the balanced
      * heap rooted at {@code predecessorHeap} and links it to the received rest heap root.
      *
      * @param v vertex
      * @param predecessorHeap balanced heap root
      */
-    private void insertVertex(V v, PathsGraphVertex predecessorHeap)
+    private void insertVertex(int v, PathsGraphVertex predecessorHeap)
     {
         Pair<PathsGraphVertex, PathsGraphVertex> p = getOutrootAndRestHeapRoot(v);
         PathsGraphVertex outroot = p.getFirst();
         PathsGraphVertex restHeapRoot = p.getSecond();
 
         if (outroot == null) {
-            hMapping.put(v, predecessorHeap);
+            hMapping[v] = predecessorHeap;
         } else {
             PathsGraphVertex mappingVertex = insertPersistently(predecessorHeap, outroot);
-            hMapping.put(v, mappingVertex);
+            hMapping[v] = mappingVertex;
             mappingVertex.rest = restHeapRoot;
         }
+        hMappingBuilt.set(v);
     }
 
     /**
@@ -403,25 +473,27 @@ public class EppsteinShortestPathIterator<V, E>
      * @param v vertex
      * @return outroot and rest heap root
      */
-    private Pair<PathsGraphVertex, PathsGraphVertex> getOutrootAndRestHeapRoot(V v)
+    private Pair<PathsGraphVertex, PathsGraphVertex> getOutrootAndRestHeapRoot(int v)
     {
         List<PathsGraphVertex> restHeapElements = new ArrayList<>();
 
-        PathsGraphVertex outroot = new PathsGraphVertex(null, Double.POSITIVE_INFINITY); // dummy
-                                                                                         // vertex
-        E predecessor = distanceAndPredecessorMap.get(v).getSecond();
-        for (E e : graph.outgoingEdgesOf(v)) {
-            if (distanceAndPredecessorMap.containsKey(graph.getEdgeTarget(e))) {
-                if (!e.equals(predecessor)) {
-                    double delta = delta(e);
-                    if (delta < outroot.delta) {
-                        if (outroot.edge != null) {
-                            restHeapElements.add(outroot);
-                        }
-                        outroot = new PathsGraphVertex(e, delta);
-                    } else {
-                        restHeapElements.add(new PathsGraphVertex(e, delta));
+        PathsGraphVertex outroot = null;
+        int[] offsets = outgoing.getOffsets();
+        int[] targets = outgoing.getTargets();
+        double[] weights = outgoing.getWeights();
+        double vDistance = distance[v];
+        int predecessor = treeArc[v];
+        for (int arc = offsets[v]; arc < offsets[v + 1]; arc++) {
+            double targetDistance = distance[targets[arc]];
+            if (targetDistance != Double.POSITIVE_INFINITY && arc != predecessor) {
+                double delta = weights[arc] + targetDistance - vDistance;
+                if (outroot == null || delta < outroot.delta) {
+                    if (outroot != null) {
+                        restHeapElements.add(outroot);
                     }
+                    outroot = new PathsGraphVertex(v, arc, delta);
+                } else {
+                    restHeapElements.add(new PathsGraphVertex(v, arc, delta));
                 }
             }
         }
@@ -433,11 +505,7 @@ public class EppsteinShortestPathIterator<V, E>
             restHeapRoot = getRestHeap(restHeapElements, 0, size);
         }
 
-        if (outroot.edge == null) { // it is still dummy vertex
-            return new Pair<>(null, restHeapRoot);
-        } else {
-            return new Pair<>(outroot, restHeapRoot);
-        }
+        return new Pair<>(outroot, restHeapRoot);
     }
 
     /**
@@ -513,52 +581,31 @@ public class EppsteinShortestPathIterator<V, E>
     }
 
     /**
-     * Calculates the $\delta(e)$ value for a given edge {@code e}.
-     *
-     * @param e edge
-     * @return value of $\delta(e)$
-     */
-    private double delta(E e)
-    {
-        return graph.getEdgeWeight(e)
-            + distanceAndPredecessorMap.get(graph.getEdgeTarget(e)).getFirst()
-            - distanceAndPredecessorMap.get(graph.getEdgeSource(e)).getFirst();
-    }
-
-    /**
-     * Represents a path that is generated during the computations.
+     * Represents a path that is generated during the computations. The path is stored implicitly
+     * by its parent path and the last vertex of its sequence of vertices in the paths graph.
      */
     private class EppsteinGraphPath
         implements GraphPath<V, E>, Comparable<EppsteinGraphPath>
     {
-
-        /**
-         * The graph.
-         */
-        private Graph<V, E> graph;
-
         /**
-         * Vertices of the paths graph this path corresponds to.
+         * The path this path extends, null for the shortest path.
          */
-        private List<PathsGraphVertex> pathsGraphVertices;
+        private final EppsteinGraphPath parent;
 
         /**
-         * Shortest paths tree in the edge reversed graph {@code graph} rooted at {@code sink}.
+         * Last vertex of the paths graph this path corresponds to, null for the shortest path.
          */
-        private Map<V, Pair<Double, E>> distanceAndPredecessorMap;
+        private final PathsGraphVertex last;
 
         /**
          * Weight of tha path.
          */
-        private double weight;
+        private final double weight;
 
-        EppsteinGraphPath(
-            Graph<V, E> graph, List<PathsGraphVertex> pathsGraphVertices,
-            Map<V, Pair<Double, E>> distanceAndPredecessorMap, double weight)
+        EppsteinGraphPath(EppsteinGraphPath parent, PathsGraphVertex last, double weight)
         {
-            this.graph = graph;
-            this.pathsGraphVertices = pathsGraphVertices;
-            this.distanceAndPredecessorMap = distanceAndPredecessorMap;
+            this.parent = parent;
+            this.last = last;
             this.weight = weight;
         }
 
@@ -595,54 +642,68 @@ public class EppsteinShortestPathIterator<V, E>
         @Override
         public List<E> getEdgeList()
         {
-            List<PathsGraphVertex> sidetracks = getSidetracks(pathsGraphVertices);
+            List<PathsGraphVertex> sidetracks = getSidetracks(getPathsGraphVertices());
             List<E> result = new ArrayList<>();
+            int[] targets = outgoing.getTargets();
 
             Iterator<PathsGraphVertex> it = sidetracks.iterator();
 
-            V shortestPathSource = source;
+            int shortestPathSource = outgoing.getVertexIndex(source);
             PathsGraphVertex sidetrack = null;
             if (it.hasNext()) {
                 sidetrack = it.next();
             }
             while (sidetrack != null) {
-                V sidetrackSource = graph.getEdgeSource(sidetrack.edge);
-                while (!shortestPathSource.equals(sidetrackSource)) {
-                    E shortestPathEdge =
-                        distanceAndPredecessorMap.get(shortestPathSource).getSecond();
-                    result.add(shortestPathEdge);
-                    shortestPathSource =
-                        Graphs.getOppositeVertex(graph, shortestPathEdge, shortestPathSource);
+                int sidetrackSource = sidetrack.tail;
+                while (shortestPathSource != sidetrackSource) {
+                    int shortestPathArc = treeArc[shortestPathSource];
+                    result.add(outgoing.getArcEdge(shortestPathArc));
+                    shortestPathSource = targets[shortestPathArc];
                 }
 
                 PathsGraphVertex curr = sidetrack;
                 PathsGraphVertex next = null;
                 while (it.hasNext()) {
                     next = it.next();
-                    if (graph.getEdgeTarget(curr.edge).equals(graph.getEdgeSource(next.edge))) {
-                        result.add(curr.edge);
+                    if (targets[curr.arc] == next.tail) {
+                        result.add(outgoing.getArcEdge(curr.arc));
                         curr = next;
                         next = null;
                     } else {
                         break;
                     }
                 }
-                result.add(curr.edge);
+                result.add(outgoing.getArcEdge(curr.arc));
 
                 sidetrack = next;
-                shortestPathSource = graph.getEdgeTarget(curr.edge);
+                shortestPathSource = targets[curr.arc];
             }
 
             // only shortest path edges are left
-            while (!shortestPathSource.equals(sink)) {
-                E edge = distanceAndPredecessorMap.get(shortestPathSource).getSecond();
-                result.add(edge);
-                shortestPathSource = graph.getEdgeTarget(edge);
+            while (treeArc[shortestPathSource] != -1) {
+                int arc = treeArc[shortestPathSource];
+                result.add(outgoing.getArcEdge(arc));
+                shortestPathSource = targets[arc];
             }
 
             return result;
         }
 
+        /**
+         * Collects the vertices of the paths graph this path corresponds to.
+         *
+         * @return the vertices of the paths graph
+         */
+        private List<PathsGraphVertex> getPathsGraphVertices()
+        {
+            List<PathsGraphVertex> vertices = new ArrayList<>();
+            for (EppsteinGraphPath p = this; p.last != null; p = p.parent) {
+                vertices.add(p.last);
+            }
+            Collections.reverse(vertices);
+            return vertices;
+        }
+
         /**
          * Builds sequence of sidetracks in the {@code graph} this path corresponds to.
          *
@@ -693,14 +754,15 @@ public class EppsteinShortestPathIterator<V, E>
      * {@code right}, {@code rest} and {@code cross} vertices, because they are computed during the
      * paths graph traversal.
      */
-    private class PathsGraphVertex
+    private static class PathsGraphVertex
         implements Comparable<PathsGraphVertex>
     {
 
         /**
-         * Edge this vertex corresponds to.
+         * Source vertex and arc of the edge this vertex corresponds to.
          */
-        E edge;
+        int tail;
+        int arc;
 
         /**
          * $Delta(edge)$ value.
@@ -714,15 +776,21 @@ public class EppsteinShortestPathIterator<V, E>
          */
         int size;
 
+        /**
+         * Whether the vertex has been visited while adding the cross edges.
+         */
+        boolean seen;
+
         // Connections to other vertices in the paths graph.
         PathsGraphVertex left;
         PathsGraphVertex right;
         PathsGraphVertex rest;
         PathsGraphVertex cross;
 
-        PathsGraphVertex(E edge, double delta)
+        PathsGraphVertex(int tail, int arc, double delta)
         {
-            this.edge = edge;
+            this.tail = tail;
+            this.arc = arc;
             this.delta = delta;
             this.size = 1;
         }
@@ -734,7 +802,8 @@ public class EppsteinShortestPathIterator<V, E>
          */
         PathsGraphVertex(PathsGraphVertex other)
         {
-            this.edge = other.edge;
+            this.tail = other.tail;
+            this.arc = other.arc;
             this.size = other.size;
             this.delta = other.delta;
             this.left = other.left;
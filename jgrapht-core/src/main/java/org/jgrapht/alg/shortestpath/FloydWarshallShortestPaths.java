@@ -23,6 +23,7 @@ import org.jgrapht.graph.*;
 import org.jgrapht.util.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * The Floyd-Warshall algorithm.
@@ -33,6 +34,17 @@ import java.util.*;
  * time, no computations are performed! All computations are performed the first time one of the
  * member methods of this class is invoked. The results are stored, so all subsequent calls to the
  * same method are computationally efficient.
+ *
+ * <p>
+ * The distance matrix is stored in a single flat array and the computation is organized in square
+ * blocks which fit in the processor cache, following the blocked formulation of Venkataraman, Sahni
+ * and Mukhopadhyaya, "A Blocked All-Pairs Shortest-Paths Algorithm", Journal of Experimental
+ * Algorithmics, 8, 2003. For each block of intermediate vertices, first the diagonal block is
+ * updated, then the blocks in the same row and column, and finally all remaining blocks. The blocks
+ * of the last two phases are independent of each other and are updated concurrently if a
+ * {@link ThreadPoolExecutor} is supplied. It is up to the user to handle the creation and
+ * termination of the executor, see {@link ConcurrencyUtil}. The flat matrix limits the number of
+ * vertices to about $46000$.
  * 
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -45,6 +57,17 @@ import java.util.*;
 public class FloydWarshallShortestPaths<V, E>
     extends BaseShortestPathAlgorithm<V, E>
 {
+    /**
+     * Side of the square blocks of the distance matrix.
+     */
+    private static final int BLOCK_SIZE = 64;
+
+    /**
+     * Marker of a missing edge in the backtrace matrices.
+     */
+    private static final int NO_EDGE = -1;
+
+    private final ThreadPoolExecutor executor;
     private final List<V> vertices;
     private final List<Integer> degrees;
     private final Map<V, Integer> vertexIndices;
@@ -53,9 +76,12 @@ public class FloydWarshallShortestPaths<V, E>
     // minimum vertex with degree at least 2
     private final int minDegreeTwo;
 
-    private double[][] d = null;
-    private Object[][] backtrace = null;
-    private Object[][] lastHopMatrix = null;
+    // all matrices are stored in row-major order
+    private double[] d = null;
+    // first edge of each shortest path, as an index in the edges list
+    private int[] backtrace = null;
+    private int[] lastHopMatrix = null;
+    private List<E> edges = null;
 
     /**
      * Create a new instance of the Floyd-Warshall all-pairs shortest path algorithm.
@@ -63,8 +89,23 @@ public class FloydWarshallShortestPaths<V, E>
      * @param graph the input graph
      */
     public FloydWarshallShortestPaths(Graph<V, E> graph)
+    {
+        this(graph, null);
+    }
+
+    /**
+     * Create a new instance of the Floyd-Warshall all-pairs shortest path algorithm. It is up to
+     * the user to handle the creation and termination of the provided {@code executor}. For utility
+     * methods to manage a {@code ThreadPoolExecutor} see {@link ConcurrencyUtil}.
+     * 
+     * @param graph the input graph
+     * @param executor executor which will be used for parallelization, or null in order to run
+     *        sequentially
+     */
+    public FloydWarshallShortestPaths(Graph<V, E> graph, ThreadPoolExecutor executor)
     {
         super(graph);
+        this.executor = executor;
 
         /*
          * Sort vertices by degree in ascending order and index them. Also compute the minimum
@@ -114,7 +155,7 @@ public class FloydWarshallShortestPaths<V, E>
         int nShortestPaths = 0;
         for (int i = 0; i < n; i++) {
             for (int j = 0; j < n; j++) {
-                if (i != j && Double.isFinite(d[i][j])) {
+                if (i != j && Double.isFinite(d[i * n + j])) {
                     nShortestPaths++;
                 }
             }
@@ -138,23 +179,24 @@ public class FloydWarshallShortestPaths<V, E>
 
         lazyCalculateMatrix();
 
+        int n = vertices.size();
         int vA = vertexIndices.get(a);
         int vB = vertexIndices.get(b);
 
-        if (backtrace[vA][vB] == null) { // No path exists
+        if (backtrace[vA * n + vB] == NO_EDGE) { // No path exists
             return createEmptyPath(a, b);
         }
 
         // Reconstruct the path
-        List<E> edges = new ArrayList<>();
+        List<E> pathEdges = new ArrayList<>();
         V u = a;
         while (!u.equals(b)) {
             int vU = vertexIndices.get(u);
-            E e = TypeUtil.uncheckedCast(backtrace[vU][vB]);
-            edges.add(e);
+            E e = edges.get(backtrace[vU * n + vB]);
+            pathEdges.add(e);
             u = Graphs.getOppositeVertex(graph, e, u);
         }
-        return new GraphWalk<>(graph, a, b, null, edges, d[vA][vB]);
+        return new GraphWalk<>(graph, a, b, null, pathEdges, d[vA * n + vB]);
     }
 
     /**
@@ -172,7 +214,7 @@ public class FloydWarshallShortestPaths<V, E>
 
         lazyCalculateMatrix();
 
-        return d[vertexIndices.get(source)][vertexIndices.get(sink)];
+        return d[vertexIndices.get(source) * vertices.size() + vertexIndices.get(sink)];
     }
 
     /**
@@ -200,13 +242,14 @@ public class FloydWarshallShortestPaths<V, E>
     {
         lazyCalculateMatrix();
 
+        int n = vertices.size();
         int vA = vertexIndices.get(a);
         int vB = vertexIndices.get(b);
 
-        if (backtrace[vA][vB] == null) { // No path exists
+        if (backtrace[vA * n + vB] == NO_EDGE) { // No path exists
             return null;
         } else {
-            E e = TypeUtil.uncheckedCast(backtrace[vA][vB]);
+            E e = edges.get(backtrace[vA * n + vB]);
             return Graphs.getOppositeVertex(graph, e, a);
         }
     }
@@ -228,14 +271,15 @@ public class FloydWarshallShortestPaths<V, E>
     {
         lazyCalculateMatrix();
 
+        int n = vertices.size();
         int vA = vertexIndices.get(a);
         int vB = vertexIndices.get(b);
 
-        if (backtrace[vA][vB] == null) { // No path exists
+        if (backtrace[vA * n + vB] == NO_EDGE) { // No path exists
             return null;
         } else {
             populateLastHopMatrix();
-            E e = TypeUtil.uncheckedCast(lastHopMatrix[vA][vB]);
+            E e = edges.get(lastHopMatrix[vA * n + vB]);
             return Graphs.getOppositeVertex(graph, e, b);
         }
     }
@@ -251,19 +295,22 @@ public class FloydWarshallShortestPaths<V, E>
         }
 
         int n = vertices.size();
+        if ((long) n * n > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Graph too large, matrix size exceeds array limits");
+        }
 
         // init the backtrace matrix
-        backtrace = new Object[n][n];
+        edges = new ArrayList<>();
+        backtrace = new int[n * n];
+        Arrays.fill(backtrace, NO_EDGE);
 
         // initialize matrix, 0
-        d = new double[n][n];
-        for (int i = 0; i < n; i++) {
-            Arrays.fill(d[i], Double.POSITIVE_INFINITY);
-        }
+        d = new double[n * n];
+        Arrays.fill(d, Double.POSITIVE_INFINITY);
 
         // initialize matrix, 1
         for (int i = 0; i < n; i++) {
-            d[i][i] = 0.0;
+            d[i * n + i] = 0.0;
         }
 
         // initialize matrix, 2
@@ -275,10 +322,10 @@ public class FloydWarshallShortestPaths<V, E>
                     int v1 = vertexIndices.get(source);
                     int v2 = vertexIndices.get(target);
                     double edgeWeight = graph.getEdgeWeight(edge);
-                    if (Double.compare(edgeWeight, d[v1][v2]) < 0) {
-                        d[v1][v2] = d[v2][v1] = edgeWeight;
-                        backtrace[v1][v2] = edge;
-                        backtrace[v2][v1] = edge;
+                    if (Double.compare(edgeWeight, d[v1 * n + v2]) < 0) {
+                        d[v1 * n + v2] = d[v2 * n + v1] = edgeWeight;
+                        backtrace[v1 * n + v2] = backtrace[v2 * n + v1] = edges.size();
+                        edges.add(edge);
                     }
                 }
             }
@@ -292,33 +339,126 @@ public class FloydWarshallShortestPaths<V, E>
                     if (!v1.equals(v2)) {
                         int i2 = vertexIndices.get(v2);
                         double edgeWeight = graph.getEdgeWeight(e);
-                        if (Double.compare(edgeWeight, d[i1][i2]) < 0) {
-                            d[i1][i2] = edgeWeight;
-                            backtrace[i1][i2] = e;
+                        if (Double.compare(edgeWeight, d[i1 * n + i2]) < 0) {
+                            d[i1 * n + i2] = edgeWeight;
+                            backtrace[i1 * n + i2] = edges.size();
+                            edges.add(e);
                         }
                     }
                 }
             }
         }
 
-        // run fw alg
-        for (int k = minDegreeTwo; k < n; k++) {
-            for (int i = minDegreeOne; i < n; i++) {
+        // run fw alg on the vertices with degree at least one, using blocks
+        int numBlocks = (n - minDegreeOne + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        for (int kb = 0; kb < numBlocks; kb++) {
+            if (blockEnd(kb) <= minDegreeTwo) {
+                // no vertex of the block can be an intermediate vertex
+                continue;
+            }
+            final int k = kb;
+
+            // phase 1, the diagonal block
+            updateBlock(k, k, k);
+
+            // phase 2, the blocks in the same row or column as the diagonal block
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (int b = 0; b < numBlocks; b++) {
+                if (b != k) {
+                    final int other = b;
+                    tasks.add(() -> {
+                        updateBlock(k, other, k);
+                        updateBlock(other, k, k);
+                        return null;
+                    });
+                }
+            }
+            runTasks(tasks);
+
+            // phase 3, the remaining blocks, one task per block row
+            tasks.clear();
+            for (int ib = 0; ib < numBlocks; ib++) {
+                if (ib != k) {
+                    final int row = ib;
+                    tasks.add(() -> {
+                        for (int jb = 0; jb < numBlocks; jb++) {
+                            if (jb != k) {
+                                updateBlock(row, jb, k);
+                            }
+                        }
+                        return null;
+                    });
+                }
+            }
+            runTasks(tasks);
+        }
+    }
+
+    private int blockStart(int block)
+    {
+        return minDegreeOne + block * BLOCK_SIZE;
+    }
+
+    private int blockEnd(int block)
+    {
+        return Math.min(vertices.size(), minDegreeOne + (block + 1) * BLOCK_SIZE);
+    }
+
+    /**
+     * Relax the paths between the vertices of two blocks using as intermediate vertices the
+     * vertices of a third block.
+     *
+     * @param ib the block of the path sources
+     * @param jb the block of the path targets
+     * @param kb the block of the intermediate vertices
+     */
+    private void updateBlock(int ib, int jb, int kb)
+    {
+        int n = vertices.size();
+        int iStart = blockStart(ib), iEnd = blockEnd(ib);
+        int jStart = blockStart(jb), jEnd = blockEnd(jb);
+        int kStart = Math.max(blockStart(kb), minDegreeTwo), kEnd = blockEnd(kb);
+
+        for (int k = kStart; k < kEnd; k++) {
+            int kRow = k * n;
+            for (int i = iStart; i < iEnd; i++) {
                 if (i == k) {
                     continue;
                 }
-                for (int j = minDegreeOne; j < n; j++) {
-                    if (i == j || j == k) {
-                        continue;
+                int iRow = i * n;
+                double dIK = d[iRow + k];
+                if (dIK == Double.POSITIVE_INFINITY) {
+                    continue;
+                }
+                int bIK = backtrace[iRow + k];
+                for (int j = jStart; j < jEnd; j++) {
+                    double sumIKKJ = dIK + d[kRow + j];
+                    if (sumIKKJ < d[iRow + j] && i != j && j != k) {
+                        d[iRow + j] = sumIKKJ;
+                        backtrace[iRow + j] = bIK;
                     }
+                }
+            }
+        }
+    }
 
-                    double sumIKKJ = d[i][k] + d[k][j];
-                    if (Double.compare(sumIKKJ, d[i][j]) < 0) {
-                        d[i][j] = sumIKKJ;
-                        backtrace[i][j] = backtrace[i][k];
-                    }
+    /**
+     * Run a list of independent tasks, either sequentially or using the executor.
+     *
+     * @param tasks the tasks
+     */
+    private void runTasks(List<Callable<Void>> tasks)
+    {
+        if (executor == null || tasks.size() <= 1) {
+            for (Callable<Void> task : tasks) {
+                try {
+                    task.call();
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
                 }
             }
+        } else {
+            ConcurrencyUtil.invokeAll(executor, tasks);
         }
     }
 
@@ -335,25 +475,44 @@ public class FloydWarshallShortestPaths<V, E>
 
         // Initialize matrix
         int n = vertices.size();
-        lastHopMatrix = new Object[n][n];
+        lastHopMatrix = new int[n * n];
+        Arrays.fill(lastHopMatrix, NO_EDGE);
 
-        // Populate matrix
-        for (int i = 0; i < n; i++) {
-            for (int j = 0; j < n; j++) {
-                if (i == j || lastHopMatrix[i][j] != null || backtrace[i][j] == null) {
+        /*
+         * For each target j the backtrace matrix defines a tree of first edges towards j. The last
+         * edge of the path from i is the last edge of the path from the next vertex after i, thus
+         * walk the tree until a vertex with a known last edge and update all vertices on the walk.
+         */
+        int[] walk = new int[n];
+        for (int j = 0; j < n; j++) {
+            for (int i = 0; i < n; i++) {
+                if (i == j || lastHopMatrix[i * n + j] != NO_EDGE
+                    || backtrace[i * n + j] == NO_EDGE)
+                {
                     continue;
                 }
 
-                // Reconstruct the path from i to j
-                V u = vertices.get(i);
-                V b = vertices.get(j);
-                while (!u.equals(b)) {
-                    int vU = vertexIndices.get(u);
-                    E e = TypeUtil.uncheckedCast(backtrace[vU][j]);
-                    V other = Graphs.getOppositeVertex(graph, e, u);
-                    lastHopMatrix[i][vertexIndices.get(other)] = e;
+                int walkLength = 0;
+                int u = i;
+                int lastEdge;
+                while (true) {
+                    walk[walkLength++] = u;
+                    int edge = backtrace[u * n + j];
+                    int other = vertexIndices
+                        .get(Graphs.getOppositeVertex(graph, edges.get(edge), vertices.get(u)));
+                    if (other == j) {
+                        lastEdge = edge;
+                        break;
+                    }
+                    if (lastHopMatrix[other * n + j] != NO_EDGE) {
+                        lastEdge = lastHopMatrix[other * n + j];
+                        break;
+                    }
                     u = other;
                 }
+                for (int w = 0; w < walkLength; w++) {
+                    lastHopMatrix[walk[w] * n + j] = lastEdge;
+                }
             }
         }
     }
@@ -68,7 +68,10 @@ public class GraphMeasurer<V, E>
      *        {@link org.jgrapht.alg.shortestpath.JohnsonShortestPaths} (Runtime complexity:
      *        $O(|V||E| + |V|^2 log|V|)$) or
      *        {@link org.jgrapht.alg.shortestpath.FloydWarshallShortestPaths} (Runtime complexity:
-     *        $O(|V|^3)$.
+     *        $O(|V|^3)$. For unweighted graphs use {@link BFSShortestPath} (Runtime complexity:
+     *        $O(|V||E|)$), in which case the eccentricities of unweighted graphs are computed
+     *        using a bit-parallel {@link MultiSourceBFS}, in parallel if the algorithm was
+     *        constructed with an executor.
      */
     public GraphMeasurer(Graph<V, E> graph, ShortestPathAlgorithm<V, E> shortestPathAlgorithm)
     {
@@ -196,7 +199,20 @@ public class GraphMeasurer<V, E>
 
         // Compute the eccentricity map
         eccentricityMap = new LinkedHashMap<>();
-        if (graph.getType().isUndirected()) {
+        if (shortestPathAlgorithm instanceof BFSShortestPath && !graph.getType().isWeighted()) {
+            MultiSourceBFS<V, E> search = new MultiSourceBFS<>(
+                graph, ((BFSShortestPath<V, E>) shortestPathAlgorithm).getExecutor());
+            IndexedAdjacency<V, E> adjacency = search.getAdjacency();
+            MultiSourceBFS.DistanceStatistics statistics = search.computeStatistics();
+            int n = graph.vertexSet().size();
+            for (V v : graph.vertexSet()) {
+                int i = adjacency.getVertexIndex(v);
+                eccentricityMap
+                    .put(
+                        v, statistics.getReachedCount(i) < n ? Double.POSITIVE_INFINITY
+                            : statistics.getEccentricity(i));
+            }
+        } else if (graph.getType().isUndirected()) {
             List<V> vertices = new ArrayList<>(graph.vertexSet());
             double[] eccentricityVector = new double[vertices.size()];
             for (int i = 0; i < vertices.size() - 1; i++) {
@@ -0,0 +1,282 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Exact diameter of unweighted graphs using the iFUB algorithm.
+ *
+ * <p>
+ * The diameter of a graph is the largest distance between any two vertices, where edge weights are
+ * ignored. For undirected graphs this class implements the iFUB (iterative Fringe Upper Bound)
+ * algorithm from the following paper:
+ * <ul>
+ * <li>Pilu Crescenzi, Roberto Grossi, Michel Habib, Leonardo Lanzi, and Andrea Marino. On
+ * computing the diameter of real-world undirected graphs. Theoretical Computer Science,
+ * 514:84–95, 2013.</li>
+ * </ul>
+ *
+ * <p>
+ * A vertex $u$ close to the center of the graph is selected using the 4-sweep heuristic, preferring
+ * among the vertices visited by the heuristic the one with the smallest eccentricity and the
+ * fewest vertices at maximum distance. A breadth-first search from $u$ partitions the vertices
+ * into levels. Processing the levels from the
+ * farthest one, the maximum eccentricity $B_i$ of the vertices at level $i$ is computed. Once all
+ * levels from $i$ onwards have been processed, any two vertices which have not been considered are
+ * at distance at most $2(i-1)$, since both are connected through $u$. Thus the algorithm stops as
+ * soon as the largest eccentricity found is at least $2(i-1)$.
+ * The worst-case running time is $O(|V||E|)$, but on real-world graphs usually only a small
+ * number of breadth-first searches is needed. The eccentricities of the vertices of each level
+ * are computed using a bit-parallel {@link MultiSourceBFS}.
+ *
+ * <p>
+ * Directed graphs are handled by computing the eccentricities of all vertices using a
+ * {@link MultiSourceBFS}. If the graph is not (strongly) connected the diameter is
+ * {@link Double#POSITIVE_INFINITY}. If the graph has no vertices, the diameter is 0. The searches
+ * are executed in parallel if a {@link ThreadPoolExecutor} is supplied. The graph must not be
+ * modified after the construction of the algorithm.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ * @see GraphMeasurer
+ */
+public class IFUBDiameter<V, E>
+{
+    private final Graph<V, E> graph;
+    private final ThreadPoolExecutor executor;
+    private double diameter = -1;
+    private int searches;
+
+    /**
+     * Construct a new instance which executes the searches in the calling thread.
+     *
+     * @param graph the input graph
+     */
+    public IFUBDiameter(Graph<V, E> graph)
+    {
+        this(graph, null);
+    }
+
+    /**
+     * Construct a new instance.
+     *
+     * @param graph the input graph
+     * @param executor executor which is used to execute the searches in parallel, if null the
+     *        searches are executed in the calling thread
+     */
+    public IFUBDiameter(Graph<V, E> graph, ThreadPoolExecutor executor)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        this.executor = executor;
+    }
+
+    /**
+     * Compute the diameter of the graph.
+     *
+     * @return the diameter of the graph
+     */
+    public double getDiameter()
+    {
+        if (diameter < 0) {
+            diameter = graph.getType().isDirected() ? computeDirected() : computeUndirected();
+        }
+        return diameter;
+    }
+
+    /**
+     * Get the number of single source searches performed in order to compute the diameter, where
+     * each source of a multi-source search counts as one search. For undirected graphs this is
+     * usually much smaller than the number of vertices.
+     *
+     * @return the number of searches
+     */
+    public int getNumberOfSearches()
+    {
+        getDiameter();
+        return searches;
+    }
+
+    private double computeDirected()
+    {
+        MultiSourceBFS<V, E> search = new MultiSourceBFS<>(graph, executor);
+        MultiSourceBFS.DistanceStatistics statistics = search.computeStatistics();
+        int n = statistics.size();
+        searches = n;
+        int result = 0;
+        for (int v = 0; v < n; v++) {
+            if (statistics.getReachedCount(v) < n) {
+                return Double.POSITIVE_INFINITY;
+            }
+            result = Math.max(result, statistics.getEccentricity(v));
+        }
+        return result;
+    }
+
+    private double computeUndirected()
+    {
+        DirectionOptimizingBFS<V, E> bfs = new DirectionOptimizingBFS<>(graph, executor);
+        IndexedAdjacency<V, E> adjacency = bfs.getAdjacency();
+        int n = adjacency.vertexCount();
+        if (n == 0) {
+            return 0d;
+        }
+        int[] distance = new int[n];
+        int[] parent = new int[n];
+
+        // 4-sweep starting from a vertex of maximum degree
+        int r1 = 0;
+        for (int v = 1; v < n; v++) {
+            if (adjacency.degree(v) > adjacency.degree(r1)) {
+                r1 = v;
+            }
+        }
+        searches++;
+        if (bfs.search(r1, distance, parent) < n) {
+            return Double.POSITIVE_INFINITY;
+        }
+        int a1 = farthest(distance);
+        int lowerBound = distance[a1];
+        int root = r1;
+        long rootCost = cost(distance);
+
+        searches++;
+        bfs.search(a1, distance, parent);
+        int b1 = farthest(distance);
+        lowerBound = Math.max(lowerBound, distance[b1]);
+        int r2 = middle(b1, distance, parent);
+
+        searches++;
+        bfs.search(r2, distance, parent);
+        int a2 = farthest(distance);
+        lowerBound = Math.max(lowerBound, distance[a2]);
+        if (cost(distance) < rootCost) {
+            root = r2;
+            rootCost = cost(distance);
+        }
+
+        searches++;
+        bfs.search(a2, distance, parent);
+        int b2 = farthest(distance);
+        lowerBound = Math.max(lowerBound, distance[b2]);
+        int u = middle(b2, distance, parent);
+
+        // levels of the search from the candidate with the smallest fringe
+        searches++;
+        bfs.search(u, distance, null);
+        if (cost(distance) > rootCost) {
+            searches++;
+            bfs.search(root, distance, null);
+        }
+        int eccentricity = distance[farthest(distance)];
+        lowerBound = Math.max(lowerBound, eccentricity);
+        int[] levelOffsets = new int[eccentricity + 2];
+        for (int v = 0; v < n; v++) {
+            levelOffsets[distance[v] + 1]++;
+        }
+        for (int i = 0; i <= eccentricity; i++) {
+            levelOffsets[i + 1] += levelOffsets[i];
+        }
+        int[] levelVertices = new int[n];
+        int[] position = Arrays.copyOf(levelOffsets, eccentricity + 1);
+        for (int v = 0; v < n; v++) {
+            levelVertices[position[distance[v]]++] = v;
+        }
+
+        /*
+         * Process the fringe levels. While processing level i the diameter is at most 2i, thus
+         * each level is processed in chunks which are large enough to keep all threads busy, and
+         * the algorithm stops early if the lower bound reaches 2i.
+         */
+        MultiSourceBFS<V, E> multiSearch = new MultiSourceBFS<>(graph, executor);
+        int chunkSize = (int) Math
+            .min(
+                (long) MultiSourceBFS.BATCH_SIZE
+                    * (executor == null ? 1 : Math.max(1, executor.getMaximumPoolSize())),
+                Math.max(1, n));
+        int upperBound = 2 * eccentricity;
+        for (int i = eccentricity; upperBound > lowerBound && i > 0; i--) {
+            int levelEnd = levelOffsets[i + 1];
+            for (int from = levelOffsets[i]; from < levelEnd && lowerBound < 2 * i;
+                from += chunkSize)
+            {
+                int[] fringe =
+                    Arrays.copyOfRange(levelVertices, from, Math.min(from + chunkSize, levelEnd));
+                MultiSourceBFS.DistanceStatistics statistics =
+                    multiSearch.computeStatistics(fringe);
+                searches += fringe.length;
+                for (int k = 0; k < fringe.length; k++) {
+                    lowerBound = Math.max(lowerBound, statistics.getEccentricity(k));
+                }
+            }
+            upperBound = 2 * (i - 1);
+        }
+        return lowerBound;
+    }
+
+    /**
+     * The cost of using the source of a search as the root of the algorithm, which is its
+     * eccentricity followed by the number of vertices at maximum distance.
+     */
+    private static long cost(int[] distance)
+    {
+        int eccentricity = 0;
+        int count = 0;
+        for (int d : distance) {
+            if (d > eccentricity) {
+                eccentricity = d;
+                count = 1;
+            } else if (d == eccentricity) {
+                count++;
+            }
+        }
+        return ((long) eccentricity << Integer.SIZE) | count;
+    }
+
+    /**
+     * Find a vertex at maximum distance.
+     */
+    private static int farthest(int[] distance)
+    {
+        int result = 0;
+        for (int v = 1; v < distance.length; v++) {
+            if (distance[v] > distance[result]) {
+                result = v;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Find the middle vertex of the path from the source of the search to a vertex.
+     */
+    private static int middle(int v, int[] distance, int[] parent)
+    {
+        int steps = distance[v] / 2;
+        for (int i = 0; i < steps; i++) {
+            v = parent[v];
+        }
+        return v;
+    }
+}
@@ -0,0 +1,306 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+
+/**
+ * Reusable scratch space of Dijkstra's algorithm for graphs with non-negative integer edge
+ * weights, which is used by the algorithms supporting {@link DijkstraQueueStrategy#RADIX_HEAP}.
+ *
+ * <p>
+ * The search works on the arrays of an {@link IndexedAdjacency} together with integer arc weights
+ * computed by {@link #integerWeights(IndexedAdjacency)}. Distances are kept in primitive long
+ * arrays and the queue is an {@link IndexedRadixHeap}. Distances are valid only for vertices
+ * stamped with the epoch of the current search, so the arrays are never cleared between searches.
+ * The search is driven by the caller, which allows stopping at arbitrary conditions:
+ * 
+ * <pre>
+ * search.start(source);
+ * while (search.hasNext()) {
+ *     int v = search.next();
+ *     // inspect v, possibly stop
+ *     search.relax(v, offsets, targets, weights, radius);
+ * }
+ * </pre>
+ *
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @author agent
+ */
+class IntegerDijkstraSearch
+{
+    /**
+     * Largest supported edge weight.
+     */
+    static final int MAX_WEIGHT = Integer.MAX_VALUE;
+
+    private final long[] dist;
+    private final int[] parent;
+    private final int[] parentArc;
+    private final int[] stamp;
+    private final int[] reached;
+    private final IndexedRadixHeap heap;
+    private int reachedCount;
+    private int epoch;
+
+    /**
+     * Create a new scratch space.
+     *
+     * @param n the number of vertices
+     */
+    IntegerDijkstraSearch(int n)
+    {
+        this.dist = new long[n];
+        this.parent = new int[n];
+        this.parentArc = new int[n];
+        this.stamp = new int[n];
+        this.reached = new int[n];
+        this.heap = new IndexedRadixHeap(n);
+    }
+
+    /**
+     * Convert the arc weights of an adjacency structure to integers.
+     *
+     * @param adjacency the adjacency structure
+     * @return the integer weight of each arc
+     * @throws IllegalArgumentException if some weight is not an integer in $[0, 2^{31}-1]$
+     */
+    static int[] integerWeights(IndexedAdjacency<?, ?> adjacency)
+    {
+        double[] weights = adjacency.getWeights();
+        int[] result = new int[weights.length];
+        for (int arc = 0; arc < weights.length; arc++) {
+            double weight = weights[arc];
+            if (!(weight >= 0d && weight <= MAX_WEIGHT) || weight != Math.rint(weight)) {
+                throw new IllegalArgumentException(
+                    "Edge weight must be a non-negative integer: " + weight);
+            }
+            result[arc] = (int) weight;
+        }
+        return result;
+    }
+
+    /**
+     * Convert a radius to the largest integer distance which is within the radius.
+     *
+     * @param radius the radius
+     * @return the largest integer distance within the radius
+     */
+    static long integerRadius(double radius)
+    {
+        return radius >= Long.MAX_VALUE ? Long.MAX_VALUE : (long) Math.floor(radius);
+    }
+
+    /**
+     * Start a new search.
+     *
+     * @param source the source vertex
+     */
+    void start(int source)
+    {
+        if (epoch == Integer.MAX_VALUE) {
+            Arrays.fill(stamp, 0);
+            epoch = 0;
+        }
+        epoch++;
+        heap.clear();
+        reachedCount = 0;
+
+        stamp[source] = epoch;
+        dist[source] = 0L;
+        parent[source] = -1;
+        parentArc[source] = -1;
+        reached[reachedCount++] = source;
+        heap.insert(source, 0L);
+    }
+
+    /**
+     * Whether there are more vertices to settle.
+     *
+     * @return true if there are more vertices to settle, false otherwise
+     */
+    boolean hasNext()
+    {
+        return !heap.isEmpty();
+    }
+
+    /**
+     * Get the distance of the next vertex to be settled.
+     *
+     * @return the distance of the next vertex to be settled
+     */
+    long peekDistance()
+    {
+        return heap.findMinKey();
+    }
+
+    /**
+     * Settle the next vertex. Its arcs are not relaxed.
+     *
+     * @return the settled vertex
+     */
+    int next()
+    {
+        return heap.deleteMin();
+    }
+
+    /**
+     * Relax the arcs of a settled vertex.
+     *
+     * @param v the vertex
+     * @param offsets the offsets of the arcs of each vertex
+     * @param targets the target of each arc
+     * @param weights the integer weight of each arc
+     * @param radius the largest distance of a vertex to be reached
+     */
+    void relax(int v, int[] offsets, int[] targets, int[] weights, long radius)
+    {
+        long vDistance = dist[v];
+        for (int arc = offsets[v]; arc < offsets[v + 1]; arc++) {
+            int u = targets[arc];
+            long uDistance = vDistance + weights[arc];
+            if (uDistance > radius) {
+                continue;
+            }
+            if (stamp[u] != epoch) {
+                stamp[u] = epoch;
+                reached[reachedCount++] = u;
+                heap.insert(u, uDistance);
+            } else if (uDistance < dist[u] && heap.contains(u)) {
+                heap.decreaseKey(u, uDistance);
+            } else {
+                continue;
+            }
+            dist[u] = uDistance;
+            parent[u] = v;
+            parentArc[u] = arc;
+        }
+    }
+
+    /**
+     * Whether a vertex has been reached by the current search.
+     *
+     * @param v the vertex
+     * @return true if the vertex has been reached, false otherwise
+     */
+    boolean isReached(int v)
+    {
+        return stamp[v] == epoch;
+    }
+
+    /**
+     * Get the tentative distance of a vertex reached by the current search, which is final after
+     * the vertex has been settled.
+     *
+     * @param v the vertex
+     * @return the distance of the vertex
+     */
+    long getDistance(int v)
+    {
+        assert stamp[v] == epoch;
+        return dist[v];
+    }
+
+    /**
+     * Get the parent of a vertex in the shortest paths tree of the current search.
+     *
+     * @param v the vertex
+     * @return the parent of the vertex, or -1 for the source
+     */
+    int getParent(int v)
+    {
+        assert stamp[v] == epoch;
+        return parent[v];
+    }
+
+    /**
+     * Get the arc which connects a vertex with its parent in the shortest paths tree of the current
+     * search.
+     *
+     * @param v the vertex
+     * @return the arc from the parent of the vertex, or -1 for the source
+     */
+    int getParentArc(int v)
+    {
+        assert stamp[v] == epoch;
+        return parentArc[v];
+    }
+
+    /**
+     * Create the shortest paths tree of all vertices reached by the current search.
+     *
+     * @param graph the graph of the paths
+     * @param adjacency the adjacency which was searched
+     * @param source the source vertex of the search
+     * @return the shortest paths tree
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     */
+    <V, E> SingleSourcePaths<V, E> getPaths(
+        Graph<V, E> graph, IndexedAdjacency<V, E> adjacency, int source)
+    {
+        Map<V, Pair<Double, E>> distanceAndPredecessorMap =
+            CollectionUtil.newHashMapWithExpectedSize(reachedCount);
+        for (int i = 0; i < reachedCount; i++) {
+            int v = reached[i];
+            E e = parentArc[v] == -1 ? null : adjacency.getArcEdge(parentArc[v]);
+            distanceAndPredecessorMap
+                .put(adjacency.getVertex(v), Pair.of((double) dist[v], e));
+        }
+        return new TreeSingleSourcePathsImpl<>(
+            graph, adjacency.getVertex(source), distanceAndPredecessorMap);
+    }
+
+    /**
+     * Create the path from the source of the current search to a vertex.
+     *
+     * @param graph the graph of the path
+     * @param adjacency the adjacency which was searched
+     * @param sink the last vertex of the path
+     * @return the path, or null if the vertex has not been reached
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     */
+    <V, E> GraphPath<V, E> getPath(Graph<V, E> graph, IndexedAdjacency<V, E> adjacency, int sink)
+    {
+        if (!isReached(sink)) {
+            return null;
+        }
+        LinkedList<V> vertexList = new LinkedList<>();
+        LinkedList<E> edgeList = new LinkedList<>();
+        int v = sink;
+        vertexList.addFirst(adjacency.getVertex(v));
+        while (parentArc[v] != -1) {
+            edgeList.addFirst(adjacency.getArcEdge(parentArc[v]));
+            v = parent[v];
+            vertexList.addFirst(adjacency.getVertex(v));
+        }
+        return new GraphWalk<>(
+            graph, vertexList.getFirst(), vertexList.getLast(), vertexList, edgeList,
+            (double) dist[sink]);
+    }
+
+}
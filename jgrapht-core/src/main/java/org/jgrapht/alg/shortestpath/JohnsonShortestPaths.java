@@ -24,6 +24,8 @@ import org.jgrapht.graph.builder.*;
 import org.jgrapht.util.*;
 
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 /**
  * Johnson's all pairs shortest paths algorithm.
@@ -38,6 +40,13 @@ import java.util.*;
  * Running time is $O(n m + n^2 \log n)$.
  *
  * <p>
+ * The Dijkstra passes work on an index-based snapshot of the graph with primitive arrays and an
+ * indexed d-ary heap, computing the transformed edge weights on the fly. If a
+ * {@link ThreadPoolExecutor} is supplied, the passes from different sources are executed
+ * concurrently. It is up to the user to handle the creation and termination of the executor, see
+ * {@link ConcurrencyUtil}.
+ *
+ * <p>
  * Since Johnson's algorithm creates additional vertices, this implementation requires the user to
  * provide a graph which is initialized with a vertex supplier.
  * 
@@ -53,11 +62,17 @@ import java.util.*;
 public class JohnsonShortestPaths<V, E>
     extends BaseShortestPathAlgorithm<V, E>
 {
+    /**
+     * Number of sources that a worker claims at a time.
+     */
+    private static final int SOURCES_CHUNK_SIZE = 16;
+
     private double[][] distance;
     private E[][] pred;
-    private Map<V, Integer> vertexIndices;
+    private IndexedAdjacency<V, E> adjacency;
 
     private final Comparator<Double> comparator;
+    private final ThreadPoolExecutor executor;
 
     /**
      * Construct a new instance.
@@ -76,9 +91,39 @@ public class JohnsonShortestPaths<V, E>
      * @param epsilon tolerance when comparing floating point values
      */
     public JohnsonShortestPaths(Graph<V, E> graph, double epsilon)
+    {
+        this(graph, epsilon, null);
+    }
+
+    /**
+     * Construct a new instance. It is up to the user to handle the creation and termination of the
+     * provided {@code executor}. For utility methods to manage a {@code ThreadPoolExecutor} see
+     * {@link ConcurrencyUtil}.
+     *
+     * @param graph the input graph
+     * @param executor executor which will be used for parallelization, or null in order to run
+     *        sequentially
+     */
+    public JohnsonShortestPaths(Graph<V, E> graph, ThreadPoolExecutor executor)
+    {
+        this(graph, ToleranceDoubleComparator.DEFAULT_EPSILON, executor);
+    }
+
+    /**
+     * Construct a new instance. It is up to the user to handle the creation and termination of the
+     * provided {@code executor}. For utility methods to manage a {@code ThreadPoolExecutor} see
+     * {@link ConcurrencyUtil}.
+     *
+     * @param graph the input graph
+     * @param epsilon tolerance when comparing floating point values
+     * @param executor executor which will be used for parallelization, or null in order to run
+     *        sequentially
+     */
+    public JohnsonShortestPaths(Graph<V, E> graph, double epsilon, ThreadPoolExecutor executor)
     {
         super(graph);
         this.comparator = new ToleranceDoubleComparator(epsilon);
+        this.executor = executor;
     }
 
     /**
@@ -104,8 +149,8 @@ public class JohnsonShortestPaths<V, E>
             return GraphWalk.singletonWalk(graph, source, 0d);
         }
 
-        int vSource = vertexIndices.get(source);
-        int vSink = vertexIndices.get(sink);
+        int vSource = adjacency.getVertexIndex(source);
+        int vSink = adjacency.getVertexIndex(sink);
 
         V cur = sink;
         E e = pred[vSource][vSink];
@@ -117,7 +162,7 @@ public class JohnsonShortestPaths<V, E>
         while (e != null) {
             edgeList.addFirst(e);
             cur = Graphs.getOppositeVertex(graph, e, cur);
-            e = pred[vSource][vertexIndices.get(cur)];
+            e = pred[vSource][adjacency.getVertexIndex(cur)];
         }
 
         return new GraphWalk<>(graph, source, sink, null, edgeList, distance[vSource][vSink]);
@@ -139,7 +184,7 @@ public class JohnsonShortestPaths<V, E>
             throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
         }
         run();
-        return distance[vertexIndices.get(source)][vertexIndices.get(sink)];
+        return distance[adjacency.getVertexIndex(source)][adjacency.getVertexIndex(sink)];
     }
 
     /**
@@ -199,33 +244,8 @@ public class JohnsonShortestPaths<V, E>
      */
     private void runWithPositiveEdgeWeights(Graph<V, E> g)
     {
-        /*
-         * Create vertex numbering for array representation of results.
-         */
-        vertexIndices = computeVertexIndices(g);
-        final int n = g.vertexSet().size();
-        distance = new double[n][n];
-        pred = TypeUtil.uncheckedCast(new Object[n][n]);
-
-        /*
-         * Execute Dijkstra multiple times
-         */
-        for (V v : g.vertexSet()) {
-            DijkstraClosestFirstIterator<V, E> it =
-                new DijkstraClosestFirstIterator<>(g, v, Double.POSITIVE_INFINITY);
-            while (it.hasNext()) {
-                it.next();
-            }
-            Map<V, Pair<Double, E>> distanceAndPredecessorMap = it.getDistanceAndPredecessorMap();
-
-            // transform result
-            for (V u : g.vertexSet()) {
-                Pair<Double, E> pair = distanceAndPredecessorMap
-                    .getOrDefault(u, Pair.of(Double.POSITIVE_INFINITY, null));
-                distance[vertexIndices.get(v)][vertexIndices.get(u)] = pair.getFirst();
-                pred[vertexIndices.get(v)][vertexIndices.get(u)] = pair.getSecond();
-            }
-        }
+        adjacency = IndexedAdjacency.outgoing(g);
+        runDijkstra(null);
     }
 
     /**
@@ -242,58 +262,55 @@ public class JohnsonShortestPaths<V, E>
         Map<V, Double> vertexWeights = computeVertexWeights(g);
 
         /*
-         * Compute new non-negative edge weights
+         * The new non-negative edge weights are computed on the fly from the vertex weights
          */
-        Map<E, Double> newEdgeWeights = new HashMap<>();
-        for (E e : g.edgeSet()) {
-            V u = g.getEdgeSource(e);
-            V v = g.getEdgeTarget(e);
-            double weight = g.getEdgeWeight(e);
-            newEdgeWeights.put(e, weight + vertexWeights.get(u) - vertexWeights.get(v));
+        adjacency = IndexedAdjacency.outgoing(g);
+        int n = adjacency.vertexCount();
+        double[] potential = new double[n];
+        for (int i = 0; i < n; i++) {
+            potential[i] = vertexWeights.get(adjacency.getVertex(i));
         }
+        runDijkstra(potential);
+    }
 
-        /*
-         * Create graph with new edge weights
-         */
-        Graph<V, E> newEdgeWeightsGraph = new AsWeightedGraph<>(g, newEdgeWeights);
-
-        /*
-         * Create vertex numbering, for array representation of results
-         */
-        vertexIndices = computeVertexIndices(g);
-        final int n = g.vertexSet().size();
-        distance = new double[n][n];
-        pred = TypeUtil.uncheckedCast(new Object[n][n]);
-
-        /*
-         * Run Dijkstra using new weights for all vertices
-         */
-        for (V v : g.vertexSet()) {
-            DijkstraClosestFirstIterator<V, E> it = new DijkstraClosestFirstIterator<>(
-                newEdgeWeightsGraph, v, Double.POSITIVE_INFINITY);
-            while (it.hasNext()) {
-                it.next();
-            }
-            Map<V, Pair<Double, E>> distanceAndPredecessorMap = it.getDistanceAndPredecessorMap();
-
-            // transform distances to original weights
-            for (V u : g.vertexSet()) {
-                Pair<Double, E> oldPair = distanceAndPredecessorMap.get(u);
-
-                Pair<Double, E> newPair;
-                if (oldPair != null) {
-                    newPair = Pair.of(
-                        oldPair.getFirst() - vertexWeights.get(v) + vertexWeights.get(u),
-                        oldPair.getSecond());
-                } else {
-                    newPair = Pair.of(Double.POSITIVE_INFINITY, null);
-                }
-
-                distance[vertexIndices.get(v)][vertexIndices.get(u)] = newPair.getFirst();
-                pred[vertexIndices.get(v)][vertexIndices.get(u)] = newPair.getSecond();
+    /**
+     * Run Dijkstra's algorithm from every vertex, in parallel if an executor has been provided.
+     *
+     * @param potential the vertex weights used to transform the edge weights, or null if the edge
+     *        weights are non-negative
+     */
+    private void runDijkstra(double[] potential)
+    {
+        final int n = adjacency.vertexCount();
+        distance = new double[n][];
+        pred = TypeUtil.uncheckedCast(new Object[n][]);
+
+        if (executor == null || n <= SOURCES_CHUNK_SIZE) {
+            DijkstraWorkspace ws = new DijkstraWorkspace(potential);
+            for (int s = 0; s < n; s++) {
+                ws.run(s);
             }
+            return;
         }
 
+        AtomicInteger next = new AtomicInteger();
+        int workers = Math
+            .min(executor.getMaximumPoolSize(), (n + SOURCES_CHUNK_SIZE - 1) / SOURCES_CHUNK_SIZE);
+        List<Callable<Void>> tasks = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            tasks.add(() -> {
+                DijkstraWorkspace ws = new DijkstraWorkspace(potential);
+                int from;
+                while ((from = next.getAndAdd(SOURCES_CHUNK_SIZE)) < n) {
+                    int to = Math.min(from + SOURCES_CHUNK_SIZE, n);
+                    for (int s = from; s < to; s++) {
+                        ws.run(s);
+                    }
+                }
+                return null;
+            });
+        }
+        ConcurrencyUtil.invokeAll(executor, tasks);
     }
 
     /**
@@ -345,19 +362,70 @@ public class JohnsonShortestPaths<V, E>
     }
 
     /**
-     * Compute a unique integer for each vertex of the graph
-     * 
-     * @param g the graph
-     * @return a map with the result
+     * Per thread workspace of Dijkstra's algorithm. The distances and the predecessor edges of each
+     * source are written directly into the corresponding rows of the result matrices.
      */
-    private Map<V, Integer> computeVertexIndices(Graph<V, E> g)
+    private class DijkstraWorkspace
     {
-        Map<V, Integer> numbering = new HashMap<>();
-        int num = 0;
-        for (V v : g.vertexSet()) {
-            numbering.put(v, num++);
+        private final double[] potential;
+        private final IndexedDaryHeap heap;
+        private final int[] predArc;
+
+        DijkstraWorkspace(double[] potential)
+        {
+            this.potential = potential;
+            this.heap = new IndexedDaryHeap(adjacency.vertexCount());
+            this.predArc = new int[adjacency.vertexCount()];
+        }
+
+        void run(int s)
+        {
+            int n = adjacency.vertexCount();
+            int[] offsets = adjacency.getOffsets();
+            int[] targets = adjacency.getTargets();
+            double[] weights = adjacency.getWeights();
+
+            double[] dist = new double[n];
+            Arrays.fill(dist, Double.POSITIVE_INFINITY);
+            dist[s] = 0d;
+            predArc[s] = -1;
+            heap.insert(s, 0d);
+
+            while (!heap.isEmpty()) {
+                int u = heap.deleteMin();
+                double du = dist[u];
+                for (int a = offsets[u]; a < offsets[u + 1]; a++) {
+                    int v = targets[a];
+                    double w = weights[a];
+                    if (potential != null) {
+                        // clamp rounding errors of the transformed weights
+                        w = Math.max(0d, w + potential[u] - potential[v]);
+                    }
+                    double dv = du + w;
+                    if (dv < dist[v]) {
+                        dist[v] = dv;
+                        predArc[v] = a;
+                        heap.insertOrDecreaseKey(v, dv);
+                    }
+                }
+            }
+
+            E[] predRow = TypeUtil.uncheckedCast(new Object[n]);
+            for (int v = 0; v < n; v++) {
+                if (dist[v] == Double.POSITIVE_INFINITY) {
+                    continue;
+                }
+                if (potential != null) {
+                    // transform distances to original weights
+                    dist[v] = dist[v] - potential[s] + potential[v];
+                }
+                if (predArc[v] != -1) {
+                    predRow[v] = adjacency.getArcEdge(predArc[v]);
+                }
+            }
+            distance[s] = dist;
+            pred[s] = predRow;
         }
-        return numbering;
     }
 
     class JohnsonSingleSourcePaths
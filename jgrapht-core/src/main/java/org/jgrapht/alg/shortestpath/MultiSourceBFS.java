@@ -0,0 +1,334 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * A bit-parallel multi-source breadth-first search.
+ *
+ * <p>
+ * Computes distance statistics, such as the sum of distances and the eccentricity, of many source
+ * vertices of an unweighted graph, ignoring any edge weights. The sources are processed in batches
+ * of {@value #BATCH_SIZE}. All searches of a batch are executed concurrently by a single traversal
+ * of the graph, where each vertex stores the set of searches which have visited it as a bit set
+ * in a single {@code long}. This shares the edge scans among the searches and replaces most of
+ * the memory accesses of separate searches by bitwise operations. For details see the following
+ * paper:
+ * <ul>
+ * <li>Manuel Then, Moritz Kaufmann, Fernando Chirigati, Tuan-Anh Hoang-Vu, Kien Pham, Alfons
+ * Kemper, Thomas Neumann, and Huy T. Vo. The more the merrier: Efficient multi-source graph
+ * traversal. Proceedings of the VLDB Endowment, 8(4):449–460, 2014.</li>
+ * </ul>
+ *
+ * <p>
+ * The search works on an {@link IndexedAdjacency} snapshot of the graph, which is created once by
+ * the constructor and does not reflect subsequent modifications of the graph. Different batches
+ * are processed in parallel using a user supplied {@link ThreadPoolExecutor}. Each thread uses
+ * $O(n)$ space, where $n$ is the number of vertices. The running time is $O(k/64 \cdot (n + m
+ * \cdot d) + k \cdot n)$ for $k$ sources, where $m$ is the number of edges and $d$ the number of
+ * levels of the searches, and the last term accounts for the per source statistics. In practice
+ * this is much faster than $k$ separate searches.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ * @see DirectionOptimizingBFS
+ */
+public class MultiSourceBFS<V, E>
+{
+    /**
+     * The number of sources of each batch.
+     */
+    public static final int BATCH_SIZE = Long.SIZE;
+
+    private final ThreadPoolExecutor executor;
+    private final IndexedAdjacency<V, E> out;
+
+    /**
+     * Construct a new instance which executes the searches in the calling thread.
+     *
+     * @param graph the input graph
+     */
+    public MultiSourceBFS(Graph<V, E> graph)
+    {
+        this(graph, null);
+    }
+
+    /**
+     * Construct a new instance.
+     *
+     * @param graph the input graph
+     * @param executor executor which is used to process batches in parallel, if null the searches
+     *        are executed in the calling thread
+     */
+    public MultiSourceBFS(Graph<V, E> graph, ThreadPoolExecutor executor)
+    {
+        this.executor = executor;
+        this.out = IndexedAdjacency.outgoing(Objects.requireNonNull(graph, "Graph cannot be null"));
+    }
+
+    /**
+     * Get the index-based adjacency of the outgoing edges of the graph. Its vertex indices are the
+     * indices used by this class.
+     *
+     * @return the index-based adjacency
+     */
+    public IndexedAdjacency<V, E> getAdjacency()
+    {
+        return out;
+    }
+
+    /**
+     * Compute the distance statistics of all vertices. The statistics of each vertex are stored at
+     * its vertex index.
+     *
+     * @return the distance statistics
+     */
+    public DistanceStatistics computeStatistics()
+    {
+        int[] sources = new int[out.vertexCount()];
+        for (int i = 0; i < sources.length; i++) {
+            sources[i] = i;
+        }
+        return computeStatistics(sources);
+    }
+
+    /**
+     * Compute the distance statistics of a set of source vertices. The statistics of each source
+     * are stored at its position in the given array.
+     *
+     * @param sources the indices of the source vertices
+     * @return the distance statistics
+     * @throws IllegalArgumentException if a source is not a valid vertex index
+     */
+    public DistanceStatistics computeStatistics(int[] sources)
+    {
+        int n = out.vertexCount();
+        for (int s : sources) {
+            if (s < 0 || s >= n) {
+                throw new IllegalArgumentException("Invalid source vertex index " + s);
+            }
+        }
+        DistanceStatistics statistics = new DistanceStatistics(sources.length);
+        int batches = (sources.length + BATCH_SIZE - 1) / BATCH_SIZE;
+
+        if (executor == null || batches <= 1) {
+            Workspace ws = new Workspace(n);
+            for (int b = 0; b < batches; b++) {
+                ws.search(sources, b * BATCH_SIZE, statistics);
+            }
+            return statistics;
+        }
+
+        AtomicInteger next = new AtomicInteger();
+        int workers = Math.min(executor.getMaximumPoolSize(), batches);
+        List<Callable<Void>> tasks = new ArrayList<>(workers);
+        for (int w = 0; w < workers; w++) {
+            tasks.add(() -> {
+                Workspace ws = new Workspace(n);
+                int b;
+                while ((b = next.getAndIncrement()) < batches) {
+                    ws.search(sources, b * BATCH_SIZE, statistics);
+                }
+                return null;
+            });
+        }
+        ConcurrencyUtil.invokeAll(executor, tasks);
+        return statistics;
+    }
+
+    /**
+     * The scratch space of a thread. For each vertex it stores the searches which have visited the
+     * vertex, the searches whose current level contains the vertex and the searches whose next
+     * level contains the vertex.
+     */
+    private class Workspace
+    {
+        private final long[] seen;
+        private final long[] visit;
+        private final long[] visitNext;
+        private int[] frontier;
+        private int[] nextFrontier;
+        private final int[] levelCount;
+
+        Workspace(int n)
+        {
+            this.seen = new long[n];
+            this.visit = new long[n];
+            this.visitNext = new long[n];
+            this.frontier = new int[n];
+            this.nextFrontier = new int[n];
+            this.levelCount = new int[BATCH_SIZE];
+        }
+
+        /**
+         * Search from the sources at positions $[\text{from}, \text{from} + 64)$ and store their
+         * statistics.
+         */
+        void search(int[] sources, int from, DistanceStatistics statistics)
+        {
+            int[] offsets = out.getOffsets();
+            int[] targets = out.getTargets();
+            int batch = Math.min(BATCH_SIZE, sources.length - from);
+
+            Arrays.fill(seen, 0L);
+            int frontierSize = 0;
+            for (int i = 0; i < batch; i++) {
+                int s = sources[from + i];
+                if (visit[s] == 0L) {
+                    frontier[frontierSize++] = s;
+                }
+                seen[s] |= 1L << i;
+                visit[s] |= 1L << i;
+                statistics.reachedCounts[from + i] = 1;
+            }
+
+            for (int level = 1; frontierSize > 0; level++) {
+                int nextFrontierSize = 0;
+                for (int k = 0; k < frontierSize; k++) {
+                    int v = frontier[k];
+                    long vVisit = visit[v];
+                    visit[v] = 0L;
+                    for (int arc = offsets[v]; arc < offsets[v + 1]; arc++) {
+                        int u = targets[arc];
+                        long discovered = vVisit & ~seen[u];
+                        if (discovered != 0L) {
+                            if (visitNext[u] == 0L) {
+                                nextFrontier[nextFrontierSize++] = u;
+                            }
+                            visitNext[u] |= discovered;
+                            seen[u] |= discovered;
+                        }
+                    }
+                }
+
+                // move to the next level and count the newly visited vertices of each search
+                for (int k = 0; k < nextFrontierSize; k++) {
+                    int u = nextFrontier[k];
+                    long discovered = visitNext[u];
+                    visit[u] = discovered;
+                    visitNext[u] = 0L;
+                    while (discovered != 0L) {
+                        levelCount[Long.numberOfTrailingZeros(discovered)]++;
+                        discovered &= discovered - 1;
+                    }
+                }
+                for (int i = 0; i < batch; i++) {
+                    int count = levelCount[i];
+                    if (count > 0) {
+                        int pos = from + i;
+                        statistics.reachedCounts[pos] += count;
+                        statistics.distanceSums[pos] += (long) count * level;
+                        statistics.inverseDistanceSums[pos] += (double) count / level;
+                        statistics.eccentricities[pos] = level;
+                        levelCount[i] = 0;
+                    }
+                }
+
+                int[] tmp = frontier;
+                frontier = nextFrontier;
+                nextFrontier = tmp;
+                frontierSize = nextFrontierSize;
+            }
+        }
+    }
+
+    /**
+     * Distance statistics of a set of source vertices, computed by a {@link MultiSourceBFS}. Only
+     * vertices reachable from a source contribute to its statistics.
+     */
+    public static class DistanceStatistics
+    {
+        private final int[] reachedCounts;
+        private final long[] distanceSums;
+        private final double[] inverseDistanceSums;
+        private final int[] eccentricities;
+
+        DistanceStatistics(int size)
+        {
+            this.reachedCounts = new int[size];
+            this.distanceSums = new long[size];
+            this.inverseDistanceSums = new double[size];
+            this.eccentricities = new int[size];
+        }
+
+        /**
+         * Get the number of sources.
+         *
+         * @return the number of sources
+         */
+        public int size()
+        {
+            return reachedCounts.length;
+        }
+
+        /**
+         * Get the number of vertices reachable from a source, including the source itself.
+         *
+         * @param i the position of the source
+         * @return the number of reachable vertices
+         */
+        public int getReachedCount(int i)
+        {
+            return reachedCounts[i];
+        }
+
+        /**
+         * Get the sum of the distances from a source to all vertices reachable from it.
+         *
+         * @param i the position of the source
+         * @return the sum of the distances
+         */
+        public long getDistanceSum(int i)
+        {
+            return distanceSums[i];
+        }
+
+        /**
+         * Get the sum of the inverse distances from a source to all other vertices reachable from
+         * it.
+         *
+         * @param i the position of the source
+         * @return the sum of the inverse distances
+         */
+        public double getInverseDistanceSum(int i)
+        {
+            return inverseDistanceSums[i];
+        }
+
+        /**
+         * Get the largest distance from a source to a vertex reachable from it. The eccentricity
+         * of the source is infinite if this vertex set does not contain all vertices of the graph.
+         *
+         * @param i the position of the source
+         * @return the largest distance to a reachable vertex
+         */
+        public int getEccentricity(int i)
+        {
+            return eccentricities[i];
+        }
+    }
+}
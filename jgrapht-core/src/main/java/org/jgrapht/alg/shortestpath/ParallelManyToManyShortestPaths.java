@@ -0,0 +1,655 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import static org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.*;
+
+/**
+ * Parallel many-to-many shortest paths which computes a dense distance matrix.
+ *
+ * <p>
+ * Unlike {@link DijkstraManyToManyShortestPaths} and {@link CHManyToManyShortestPaths}, which
+ * store a shortest paths tree or the search space of every source vertex, this algorithm only
+ * stores the distances between the source and the target vertices in a dense row-major array. Paths
+ * are reconstructed on demand by a point-to-point query when {@link DistanceMatrix#getPath} is
+ * called. The searches of different sources are distributed over the threads of a
+ * {@link ThreadPoolExecutor}, which is supplied to the algorithm from outside, and each thread
+ * reuses its scratch space between searches.
+ *
+ * <p>
+ * The algorithm has two modes. If constructed using a graph, one Dijkstra search is performed from
+ * each source vertex, which stops as soon as all target vertices are settled. If $|S| &gt; |T|$,
+ * the searches are performed from the target vertices on the reversed graph instead. Paths are
+ * reconstructed using a {@link ShortestPathQueryEngine}. If the edge weights are small
+ * non-negative integers, this mode can use {@link DijkstraQueueStrategy#RADIX_HEAP}, in which case
+ * the searches use an {@link IndexedRadixHeap} with primitive integer keys.
+ *
+ * <p>
+ * If constructed using a {@link ContractionHierarchy}, the bucket-based algorithm described in
+ * {@link CHManyToManyShortestPaths} is used. First a backward search in the hierarchy is performed
+ * from each target vertex in parallel, where each thread collects the bucket entries of its
+ * searches in primitive arrays. The entries are then grouped by vertex using a counting sort.
+ * Finally, a forward search in the hierarchy is performed from each source vertex in parallel,
+ * which scans the buckets of the vertices it settles and updates its row of the matrix. Paths are
+ * reconstructed using a {@link ContractionHierarchyBidirectionalDijkstra}.
+ *
+ * <p>
+ * The graph must not contain edges with negative weights.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public class ParallelManyToManyShortestPaths<V, E>
+    extends BaseManyToManyShortestPaths<V, E>
+{
+    /**
+     * Number of searches which a thread claims at once.
+     */
+    private static final int SOURCES_CHUNK_SIZE = 16;
+
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * The adjacency of the graph, if constructed using a graph.
+     */
+    private final IndexedAdjacency<V, E> outgoing;
+    private final IndexedAdjacency<V, E> incoming;
+
+    /**
+     * The integer weights of the arcs of the adjacency, if using integer searches.
+     */
+    private final int[] outgoingWeights;
+    private final int[] incomingWeights;
+
+    /**
+     * The contraction hierarchy, if constructed using a contraction hierarchy, along with its
+     * upward arcs and its reversed downward arcs indexed by the contraction vertex ids.
+     */
+    private final ContractionHierarchy<V, E> contractionHierarchy;
+    private final int[] upOffsets;
+    private final int[] upTargets;
+    private final double[] upWeights;
+    private final int[] downOffsets;
+    private final int[] downTargets;
+    private final double[] downWeights;
+
+    /**
+     * Constructs an instance of the algorithm which uses Dijkstra searches on the graph.
+     *
+     * @param graph the graph
+     * @param executor the executor used to parallelize the searches, or null in order to run them
+     *        sequentially
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight
+     */
+    public ParallelManyToManyShortestPaths(Graph<V, E> graph, ThreadPoolExecutor executor)
+    {
+        this(graph, executor, DijkstraQueueStrategy.HEAP);
+    }
+
+    /**
+     * Constructs an instance of the algorithm which uses Dijkstra searches on the graph with a
+     * specific priority queue.
+     *
+     * @param graph the graph
+     * @param executor the executor used to parallelize the searches, or null in order to run them
+     *        sequentially
+     * @param queueStrategy the priority queue strategy
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight, or if
+     *         the strategy is {@link DijkstraQueueStrategy#RADIX_HEAP} and some edge weight is not
+     *         a non-negative integer
+     */
+    public ParallelManyToManyShortestPaths(
+        Graph<V, E> graph, ThreadPoolExecutor executor, DijkstraQueueStrategy queueStrategy)
+    {
+        super(graph);
+        this.executor = executor;
+        this.outgoing = IndexedAdjacency.outgoing(graph);
+        for (double weight : outgoing.getWeights()) {
+            if (weight < 0.0) {
+                throw new IllegalArgumentException("Negative edge weight not allowed");
+            }
+        }
+        this.incoming = graph.getType().isDirected() ? outgoing.reversed() : outgoing;
+        if (Objects.requireNonNull(queueStrategy) == DijkstraQueueStrategy.RADIX_HEAP) {
+            this.outgoingWeights = IntegerDijkstraSearch.integerWeights(outgoing);
+            this.incomingWeights = graph.getType().isDirected()
+                ? IntegerDijkstraSearch.integerWeights(incoming) : outgoingWeights;
+        } else {
+            this.outgoingWeights = null;
+            this.incomingWeights = null;
+        }
+
+        this.contractionHierarchy = null;
+        this.upOffsets = null;
+        this.upTargets = null;
+        this.upWeights = null;
+        this.downOffsets = null;
+        this.downTargets = null;
+        this.downWeights = null;
+    }
+
+    /**
+     * Constructs an instance of the algorithm which uses searches in a contraction hierarchy. The
+     * arcs of the hierarchy are copied during the construction, thus the algorithm must be
+     * constructed again after a {@link CustomizableContractionHierarchy} is customized.
+     *
+     * @param contractionHierarchy the contraction hierarchy of the graph
+     * @param executor the executor used to parallelize the searches, or null in order to run them
+     *        sequentially
+     */
+    public ParallelManyToManyShortestPaths(
+        ContractionHierarchy<V, E> contractionHierarchy, ThreadPoolExecutor executor)
+    {
+        super(contractionHierarchy.getGraph());
+        this.executor = executor;
+        this.outgoing = null;
+        this.incoming = null;
+        this.outgoingWeights = null;
+        this.incomingWeights = null;
+        this.contractionHierarchy = contractionHierarchy;
+
+        Graph<ContractionVertex<V>, ContractionEdge<E>> contractionGraph =
+            contractionHierarchy.getContractionGraph();
+        int n = contractionGraph.vertexSet().size();
+        this.upOffsets = new int[n + 1];
+        this.downOffsets = new int[n + 1];
+        for (ContractionEdge<E> e : contractionGraph.edgeSet()) {
+            if (e.isUpward) {
+                upOffsets[contractionGraph.getEdgeSource(e).vertexId + 1]++;
+            } else {
+                downOffsets[contractionGraph.getEdgeTarget(e).vertexId + 1]++;
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            upOffsets[v + 1] += upOffsets[v];
+            downOffsets[v + 1] += downOffsets[v];
+        }
+        this.upTargets = new int[upOffsets[n]];
+        this.upWeights = new double[upOffsets[n]];
+        this.downTargets = new int[downOffsets[n]];
+        this.downWeights = new double[downOffsets[n]];
+        int[] upPosition = Arrays.copyOf(upOffsets, n);
+        int[] downPosition = Arrays.copyOf(downOffsets, n);
+        for (ContractionEdge<E> e : contractionGraph.edgeSet()) {
+            int source = contractionGraph.getEdgeSource(e).vertexId;
+            int target = contractionGraph.getEdgeTarget(e).vertexId;
+            double weight = contractionGraph.getEdgeWeight(e);
+            if (e.isUpward) {
+                int pos = upPosition[source]++;
+                upTargets[pos] = target;
+                upWeights[pos] = weight;
+            } else {
+                int pos = downPosition[target]++;
+                downTargets[pos] = source;
+                downWeights[pos] = weight;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The rows and the columns of the returned matrix follow the iteration order of the source
+     * and the target vertices respectively.
+     */
+    @Override
+    public DistanceMatrix<V, E> getManyToManyPaths(Set<V> sources, Set<V> targets)
+    {
+        Objects.requireNonNull(sources, "sources cannot be null!");
+        Objects.requireNonNull(targets, "targets cannot be null!");
+        return getDistanceMatrix(new ArrayList<>(sources), new ArrayList<>(targets));
+    }
+
+    /**
+     * Compute the distance matrix between a list of source and a list of target vertices.
+     *
+     * @param sources the source vertices, which must be distinct
+     * @param targets the target vertices, which must be distinct
+     * @return the distance matrix
+     * @throws IllegalArgumentException if a vertex is not in the graph or is given twice, or if
+     *         the distance matrix exceeds array limits
+     */
+    public DistanceMatrix<V, E> getDistanceMatrix(List<V> sources, List<V> targets)
+    {
+        Objects.requireNonNull(sources, "sources cannot be null!");
+        Objects.requireNonNull(targets, "targets cannot be null!");
+        long entries = (long) sources.size() * targets.size();
+        if (entries > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException(
+                "Too many sources and targets, matrix size exceeds array limits");
+        }
+        int[] sourceIds = toIds(sources);
+        int[] targetIds = toIds(targets);
+
+        double[] distances = new double[(int) entries];
+        Arrays.fill(distances, Double.POSITIVE_INFINITY);
+        Supplier<ShortestPathAlgorithm<V, E>> pathAlgorithm;
+        if (contractionHierarchy == null) {
+            computeWithDijkstra(sourceIds, targetIds, distances);
+            pathAlgorithm = () -> new ShortestPathQueryEngine<>(graph);
+        } else {
+            computeWithContractionHierarchy(sourceIds, targetIds, distances);
+            pathAlgorithm = () -> new ContractionHierarchyBidirectionalDijkstra<>(
+                contractionHierarchy);
+        }
+        return new DistanceMatrix<>(sources, targets, distances, pathAlgorithm);
+    }
+
+    private int[] toIds(List<V> vertices)
+    {
+        int[] ids = new int[vertices.size()];
+        Set<V> seen = CollectionUtil.newHashSetWithExpectedSize(vertices.size());
+        for (int i = 0; i < ids.length; i++) {
+            V v = vertices.get(i);
+            if (!graph.containsVertex(v)) {
+                throw new IllegalArgumentException("Graph must contain vertex " + v);
+            }
+            if (!seen.add(v)) {
+                throw new IllegalArgumentException("Duplicate vertex " + v);
+            }
+            ids[i] = contractionHierarchy == null ? outgoing.getVertexIndex(v)
+                : contractionHierarchy.getContractionMapping().get(v).vertexId;
+        }
+        return ids;
+    }
+
+    /**
+     * Perform one Dijkstra search from each source, or from each target on the reversed graph if
+     * there are fewer targets than sources. Each search stops when all its targets are settled.
+     */
+    private void computeWithDijkstra(int[] sourceIds, int[] targetIds, double[] distances)
+    {
+        boolean reversed = sourceIds.length > targetIds.length;
+        IndexedAdjacency<V, E> adjacency = reversed ? incoming : outgoing;
+        int[] searchIds = reversed ? targetIds : sourceIds;
+        int[] hitIds = reversed ? sourceIds : targetIds;
+        int rowStride = reversed ? 1 : targetIds.length;
+        int columnStride = reversed ? targetIds.length : 1;
+
+        int n = adjacency.vertexCount();
+        int[] hitIndex = new int[n];
+        Arrays.fill(hitIndex, -1);
+        for (int k = 0; k < hitIds.length; k++) {
+            hitIndex[hitIds[k]] = k;
+        }
+
+        int[] offsets = adjacency.getOffsets();
+        int[] targets = adjacency.getTargets();
+        if (outgoingWeights != null) {
+            int[] integerWeights = reversed ? incomingWeights : outgoingWeights;
+            forEach(searchIds.length, () -> new IntegerDijkstraSearch(n), (search, i) -> {
+                int hits = hitIds.length;
+                search.start(searchIds[i]);
+                while (search.hasNext()) {
+                    int v = search.next();
+                    if (hitIndex[v] != -1) {
+                        distances[i * rowStride + hitIndex[v] * columnStride] =
+                            search.getDistance(v);
+                        if (--hits == 0) {
+                            break;
+                        }
+                    }
+                    search.relax(v, offsets, targets, integerWeights, Long.MAX_VALUE);
+                }
+            });
+            return;
+        }
+        double[] weights = adjacency.getWeights();
+        forEach(searchIds.length, () -> new Workspace(n), (ws, i) -> {
+            int settled =
+                ws.search(searchIds[i], offsets, targets, weights, hitIndex, hitIds.length);
+            for (int j = 0; j < settled; j++) {
+                int v = ws.settled[j];
+                if (hitIndex[v] != -1) {
+                    distances[i * rowStride + hitIndex[v] * columnStride] = ws.dist[v];
+                }
+            }
+        });
+    }
+
+    /**
+     * Perform the bucket-based many-to-many algorithm in the contraction hierarchy.
+     */
+    private void computeWithContractionHierarchy(
+        int[] sourceIds, int[] targetIds, double[] distances)
+    {
+        int n = upOffsets.length - 1;
+        int columns = targetIds.length;
+
+        // backward searches, each thread collecting its own bucket entries
+        List<Workspace> workspaces = forEach(targetIds.length, () -> new Workspace(n), (ws, j) -> {
+            int settled =
+                ws.search(targetIds[j], downOffsets, downTargets, downWeights, null, 0);
+            for (int k = 0; k < settled; k++) {
+                int v = ws.settled[k];
+                ws.addBucketEntry(v, j, ws.dist[v]);
+            }
+        });
+
+        // group the bucket entries by vertex
+        int[] bucketOffsets = new int[n + 1];
+        for (Workspace ws : workspaces) {
+            for (int k = 0; k < ws.bucketSize; k++) {
+                bucketOffsets[ws.bucketVertices[k] + 1]++;
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            bucketOffsets[v + 1] += bucketOffsets[v];
+        }
+        int[] bucketTargets = new int[bucketOffsets[n]];
+        double[] bucketDistances = new double[bucketOffsets[n]];
+        int[] position = Arrays.copyOf(bucketOffsets, n);
+        for (Workspace ws : workspaces) {
+            for (int k = 0; k < ws.bucketSize; k++) {
+                int pos = position[ws.bucketVertices[k]]++;
+                bucketTargets[pos] = ws.bucketTargets[k];
+                bucketDistances[pos] = ws.bucketDistances[k];
+            }
+            ws.clearBucket();
+        }
+
+        // forward searches, each updating its own row
+        forEach(sourceIds.length, () -> new Workspace(n), (ws, i) -> {
+            int settled = ws.search(sourceIds[i], upOffsets, upTargets, upWeights, null, 0);
+            int row = i * columns;
+            for (int k = 0; k < settled; k++) {
+                int v = ws.settled[k];
+                double vDistance = ws.dist[v];
+                for (int pos = bucketOffsets[v]; pos < bucketOffsets[v + 1]; pos++) {
+                    double distance = vDistance + bucketDistances[pos];
+                    int cell = row + bucketTargets[pos];
+                    if (distance < distances[cell]) {
+                        distances[cell] = distance;
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Execute a task for each index in $[0, count)$, using the executor if available. Each thread
+     * claims chunks of consecutive indices and owns a single workspace.
+     *
+     * @return the workspaces which were used
+     */
+    private <W> List<W> forEach(
+        int count, Supplier<W> workspaceSupplier, ObjIntConsumer<W> task)
+    {
+        if (executor == null || count <= SOURCES_CHUNK_SIZE) {
+            W ws = workspaceSupplier.get();
+            for (int i = 0; i < count; i++) {
+                task.accept(ws, i);
+            }
+            return Collections.singletonList(ws);
+        }
+
+        AtomicInteger next = new AtomicInteger();
+        int workers = Math.min(
+            executor.getMaximumPoolSize(), (count + SOURCES_CHUNK_SIZE - 1) / SOURCES_CHUNK_SIZE);
+        List<Callable<W>> tasks = new ArrayList<>(workers);
+        for (int w = 0; w < workers; w++) {
+            tasks.add(() -> {
+                W ws = workspaceSupplier.get();
+                int from;
+                while ((from = next.getAndAdd(SOURCES_CHUNK_SIZE)) < count) {
+                    int to = Math.min(from + SOURCES_CHUNK_SIZE, count);
+                    for (int i = from; i < to; i++) {
+                        task.accept(ws, i);
+                    }
+                }
+                return ws;
+            });
+        }
+        return ConcurrencyUtil.invokeAll(executor, tasks);
+    }
+
+    /**
+     * The scratch space of a thread. Distances are valid only for vertices stamped with the epoch
+     * of the current search, so the arrays are never cleared.
+     */
+    private static class Workspace
+    {
+        private final double[] dist;
+        private final int[] stamp;
+        private final int[] settled;
+        private final IndexedDaryHeap heap;
+        private int epoch;
+
+        private int[] bucketVertices;
+        private int[] bucketTargets;
+        private double[] bucketDistances;
+        private int bucketSize;
+
+        Workspace(int n)
+        {
+            this.dist = new double[n];
+            this.stamp = new int[n];
+            this.settled = new int[n];
+            this.heap = new IndexedDaryHeap(n);
+        }
+
+        /**
+         * Execute Dijkstra's algorithm.
+         *
+         * @param source the source
+         * @param offsets the offsets of the arcs of each vertex
+         * @param targets the target of each arc
+         * @param weights the weight of each arc
+         * @param hitIndex for each vertex whether it is a target, or null to search the whole graph
+         * @param hits the number of targets after which the search stops
+         * @return the number of settled vertices, which are stored in the settled array in
+         *         increasing order of distance
+         */
+        int search(
+            int source, int[] offsets, int[] targets, double[] weights, int[] hitIndex, int hits)
+        {
+            if (epoch == Integer.MAX_VALUE) {
+                Arrays.fill(stamp, 0);
+                epoch = 0;
+            }
+            epoch++;
+            heap.clear();
+
+            int settledCount = 0;
+            stamp[source] = epoch;
+            dist[source] = 0d;
+            heap.insert(source, 0d);
+            while (!heap.isEmpty()) {
+                int v = heap.deleteMin();
+                settled[settledCount++] = v;
+                if (hitIndex != null && hitIndex[v] != -1 && --hits == 0) {
+                    break;
+                }
+                double vDistance = dist[v];
+                for (int arc = offsets[v]; arc < offsets[v + 1]; arc++) {
+                    int u = targets[arc];
+                    double uDistance = vDistance + weights[arc];
+                    if (stamp[u] != epoch) {
+                        stamp[u] = epoch;
+                        dist[u] = uDistance;
+                        heap.insert(u, uDistance);
+                    } else if (uDistance < dist[u] && heap.contains(u)) {
+                        dist[u] = uDistance;
+                        heap.decreaseKey(u, uDistance);
+                    }
+                }
+            }
+            return settledCount;
+        }
+
+        void addBucketEntry(int vertex, int target, double distance)
+        {
+            if (bucketVertices == null) {
+                bucketVertices = new int[16];
+                bucketTargets = new int[16];
+                bucketDistances = new double[16];
+            } else if (bucketSize == bucketVertices.length) {
+                int capacity = 2 * bucketSize;
+                bucketVertices = Arrays.copyOf(bucketVertices, capacity);
+                bucketTargets = Arrays.copyOf(bucketTargets, capacity);
+                bucketDistances = Arrays.copyOf(bucketDistances, capacity);
+            }
+            bucketVertices[bucketSize] = vertex;
+            bucketTargets[bucketSize] = target;
+            bucketDistances[bucketSize] = distance;
+            bucketSize++;
+        }
+
+        void clearBucket()
+        {
+            bucketVertices = null;
+            bucketTargets = null;
+            bucketDistances = null;
+            bucketSize = 0;
+        }
+    }
+
+    /**
+     * A dense matrix of shortest path distances. The distance from the $i$-th source to the $j$-th
+     * target is stored at position $i |T| + j$ of the array returned by {@link #getDistances()}.
+     * Paths are not stored, but reconstructed using a point-to-point shortest path query when
+     * requested.
+     *
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     */
+    public static class DistanceMatrix<V, E>
+        extends ManyToManyShortestPathsAlgorithm.BaseManyToManyShortestPathsImpl<V, E>
+    {
+        private final List<V> sourceList;
+        private final List<V> targetList;
+        private final Map<V, Integer> sourceIndex;
+        private final Map<V, Integer> targetIndex;
+        private final double[] distances;
+        private final Supplier<ShortestPathAlgorithm<V, E>> pathAlgorithmSupplier;
+        private ShortestPathAlgorithm<V, E> pathAlgorithm;
+
+        private DistanceMatrix(
+            List<V> sourceList, List<V> targetList, double[] distances,
+            Supplier<ShortestPathAlgorithm<V, E>> pathAlgorithmSupplier)
+        {
+            this(
+                sourceList, targetList, indexOf(sourceList), indexOf(targetList), distances,
+                pathAlgorithmSupplier);
+        }
+
+        private DistanceMatrix(
+            List<V> sourceList, List<V> targetList, Map<V, Integer> sourceIndex,
+            Map<V, Integer> targetIndex, double[] distances,
+            Supplier<ShortestPathAlgorithm<V, E>> pathAlgorithmSupplier)
+        {
+            super(sourceIndex.keySet(), targetIndex.keySet());
+            this.sourceList = Collections.unmodifiableList(new ArrayList<>(sourceList));
+            this.targetList = Collections.unmodifiableList(new ArrayList<>(targetList));
+            this.sourceIndex = sourceIndex;
+            this.targetIndex = targetIndex;
+            this.distances = distances;
+            this.pathAlgorithmSupplier = pathAlgorithmSupplier;
+        }
+
+        private static <V> Map<V, Integer> indexOf(List<V> vertices)
+        {
+            Map<V, Integer> index = new LinkedHashMap<>();
+            for (V v : vertices) {
+                index.put(v, index.size());
+            }
+            return index;
+        }
+
+        /**
+         * Get the source vertices in row order.
+         *
+         * @return the source vertices
+         */
+        public List<V> getSourceList()
+        {
+            return sourceList;
+        }
+
+        /**
+         * Get the target vertices in column order.
+         *
+         * @return the target vertices
+         */
+        public List<V> getTargetList()
+        {
+            return targetList;
+        }
+
+        /**
+         * Get the distances in row-major order. The returned array is the internal representation
+         * of the matrix and must not be modified.
+         *
+         * @return the distances
+         */
+        public double[] getDistances()
+        {
+            return distances;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * <p>
+         * The path is reconstructed using a point-to-point shortest path query. Its weight is equal
+         * to the distance stored in the matrix, but when several shortest paths exist any of them
+         * may be returned.
+         */
+        @Override
+        public GraphPath<V, E> getPath(V source, V target)
+        {
+            if (getWeight(source, target) == Double.POSITIVE_INFINITY) {
+                return null;
+            }
+            return getPathAlgorithm().getPath(source, target);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public double getWeight(V source, V target)
+        {
+            assertCorrectSourceAndTarget(source, target);
+            return distances[sourceIndex.get(source) * targetList.size()
+                + targetIndex.get(target)];
+        }
+
+        private synchronized ShortestPathAlgorithm<V, E> getPathAlgorithm()
+        {
+            if (pathAlgorithm == null) {
+                pathAlgorithm = pathAlgorithmSupplier.get();
+            }
+            return pathAlgorithm;
+        }
+    }
+
+}
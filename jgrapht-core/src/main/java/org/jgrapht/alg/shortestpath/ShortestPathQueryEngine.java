@@ -0,0 +1,482 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * An engine for answering many point-to-point shortest path queries on a static graph.
+ *
+ * <p>
+ * Algorithms such as {@link DijkstraShortestPath}, {@link BidirectionalDijkstraShortestPath} and
+ * {@link AStarShortestPath} allocate their heaps and maps from scratch on every query. This class
+ * indexes the vertices and the adjacency structure of the graph once, using
+ * {@link IndexedAdjacency}, and answers each query using reusable scratch space: primitive arrays
+ * of distances and predecessors and an {@link IndexedDaryHeap} for each search direction. The
+ * arrays are not cleared between queries. Instead each query increments an epoch counter and an
+ * entry is valid only if it is stamped with the current epoch. Thus a query only touches the
+ * vertices it visits and, apart from the returned path, allocates almost nothing.
+ *
+ * <p>
+ * Without a heuristic, queries are answered using bidirectional Dijkstra. If an
+ * {@link AStarAdmissibleHeuristic} is given, queries are answered using A* search. The heuristic
+ * does not need to be consistent.
+ *
+ * <p>
+ * The engine is safe to use from multiple threads, as long as the heuristic is. Each query borrows
+ * its scratch space from a pool of query contexts and returns it when it completes, so that the
+ * number of contexts matches the number of threads querying the engine concurrently. Each context
+ * needs $O(n)$ memory. The graph must not be modified while the engine is in use, and the engine
+ * does not reflect modifications of the graph after its construction.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public class ShortestPathQueryEngine<V, E>
+    extends BaseShortestPathAlgorithm<V, E>
+{
+    private final IndexedAdjacency<V, E> outgoing;
+    private final IndexedAdjacency<V, E> incoming;
+    private final AStarAdmissibleHeuristic<V> heuristic;
+    private final Queue<QueryContext> contexts;
+
+    /**
+     * Create a new engine which answers queries using bidirectional Dijkstra.
+     *
+     * @param graph the input graph
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight
+     */
+    public ShortestPathQueryEngine(Graph<V, E> graph)
+    {
+        this(graph, null);
+    }
+
+    /**
+     * Create a new engine. If a heuristic is given, queries are answered using A* search,
+     * otherwise using bidirectional Dijkstra.
+     *
+     * @param graph the input graph
+     * @param heuristic an admissible heuristic, or null in order to use bidirectional Dijkstra
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight
+     */
+    public ShortestPathQueryEngine(Graph<V, E> graph, AStarAdmissibleHeuristic<V> heuristic)
+    {
+        super(graph);
+        this.outgoing = IndexedAdjacency.outgoing(graph);
+        for (double weight : outgoing.getWeights()) {
+            if (weight < 0.0) {
+                throw new IllegalArgumentException("Negative edge weight not allowed");
+            }
+        }
+        if (heuristic != null || !graph.getType().isDirected()) {
+            this.incoming = outgoing;
+        } else {
+            this.incoming = IndexedAdjacency.incoming(graph);
+        }
+        this.heuristic = heuristic;
+        this.contexts = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        int s = getSourceIndex(source);
+        int t = getSinkIndex(sink);
+        if (s == t) {
+            return createEmptyPath(source, sink);
+        }
+        QueryContext context = acquire();
+        try {
+            return context.query(s, t) ? context.buildPath(s, t) : null;
+        } finally {
+            release(context);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPathWeight(V source, V sink)
+    {
+        int s = getSourceIndex(source);
+        int t = getSinkIndex(sink);
+        if (s == t) {
+            return 0d;
+        }
+        QueryContext context = acquire();
+        try {
+            return context.query(s, t) ? context.bestDistance : Double.POSITIVE_INFINITY;
+        } finally {
+            release(context);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The paths are computed using a single execution of Dijkstra's algorithm from the source.
+     */
+    @Override
+    public SingleSourcePaths<V, E> getPaths(V source)
+    {
+        int s = getSourceIndex(source);
+        QueryContext context = acquire();
+        try {
+            Search search = context.forward;
+            context.nextEpoch();
+            search.dijkstra(s, -1);
+
+            Map<V, Pair<Double, E>> distanceAndPredecessorMap =
+                CollectionUtil.newHashMapWithExpectedSize(search.reachedCount);
+            for (int i = 0; i < search.reachedCount; i++) {
+                int v = search.reached[i];
+                E e = v == s ? null : outgoing.getArcEdge(search.predArc[v]);
+                distanceAndPredecessorMap.put(outgoing.getVertex(v), Pair.of(search.dist[v], e));
+            }
+            return new TreeSingleSourcePathsImpl<>(graph, source, distanceAndPredecessorMap);
+        } finally {
+            release(context);
+        }
+    }
+
+    private int getSourceIndex(V source)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        return outgoing.getVertexIndex(source);
+    }
+
+    private int getSinkIndex(V sink)
+    {
+        if (!graph.containsVertex(sink)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+        return outgoing.getVertexIndex(sink);
+    }
+
+    private QueryContext acquire()
+    {
+        QueryContext context = contexts.poll();
+        return context != null ? context : new QueryContext();
+    }
+
+    private void release(QueryContext context)
+    {
+        contexts.offer(context);
+    }
+
+    /**
+     * The scratch space of a single query, consisting of a forward and a backward search.
+     */
+    private class QueryContext
+    {
+        private final Search forward;
+        private final Search backward;
+        private int epoch;
+
+        private double bestDistance;
+        private int meetingVertex;
+
+        QueryContext()
+        {
+            this.forward = new Search(outgoing);
+            this.backward = heuristic == null ? new Search(incoming) : null;
+        }
+
+        /**
+         * Start a new query, invalidating all entries of the previous one.
+         */
+        void nextEpoch()
+        {
+            boolean overflow = epoch == Integer.MAX_VALUE;
+            epoch = overflow ? 1 : epoch + 1;
+            forward.reset(epoch, overflow);
+            if (backward != null) {
+                backward.reset(epoch, overflow);
+            }
+        }
+
+        /**
+         * Execute a query.
+         *
+         * @param s the source vertex
+         * @param t the target vertex
+         * @return whether the target is reachable from the source
+         */
+        boolean query(int s, int t)
+        {
+            nextEpoch();
+            if (heuristic == null) {
+                bidirectionalDijkstra(s, t);
+            } else {
+                aStar(s, t);
+            }
+            return meetingVertex != -1;
+        }
+
+        private void bidirectionalDijkstra(int s, int t)
+        {
+            bestDistance = Double.POSITIVE_INFINITY;
+            meetingVertex = -1;
+            forward.start(s, 0d);
+            backward.start(t, 0d);
+
+            while (!forward.heap.isEmpty() && !backward.heap.isEmpty()) {
+                if (forward.heap.findMinKey() + backward.heap.findMinKey() >= bestDistance) {
+                    break;
+                }
+                Search search;
+                Search other;
+                if (forward.heap.size() <= backward.heap.size()) {
+                    search = forward;
+                    other = backward;
+                } else {
+                    search = backward;
+                    other = forward;
+                }
+
+                int v = search.heap.deleteMin();
+                double vDistance = search.dist[v];
+                int[] offsets = search.adjacency.getOffsets();
+                int[] targets = search.adjacency.getTargets();
+                double[] weights = search.adjacency.getWeights();
+                for (int arc = offsets[v]; arc < offsets[v + 1]; arc++) {
+                    int u = targets[arc];
+                    double uDistance = vDistance + weights[arc];
+                    if (!search.relax(v, u, arc, uDistance, uDistance)) {
+                        continue;
+                    }
+                    if (other.isReached(u)) {
+                        double pathDistance = uDistance + other.dist[u];
+                        if (pathDistance < bestDistance) {
+                            bestDistance = pathDistance;
+                            meetingVertex = u;
+                        }
+                    }
+                }
+            }
+        }
+
+        private void aStar(int s, int t)
+        {
+            bestDistance = Double.POSITIVE_INFINITY;
+            meetingVertex = -1;
+            V target = outgoing.getVertex(t);
+            double[] estimate = forward.estimate;
+            estimate[s] = estimate(s, target);
+            forward.start(s, estimate[s]);
+
+            int[] offsets = outgoing.getOffsets();
+            int[] targets = outgoing.getTargets();
+            double[] weights = outgoing.getWeights();
+            while (!forward.heap.isEmpty()) {
+                int v = forward.heap.deleteMin();
+                double vDistance = forward.dist[v];
+                if (v == t) {
+                    bestDistance = vDistance;
+                    meetingVertex = t;
+                    return;
+                }
+                for (int arc = offsets[v]; arc < offsets[v + 1]; arc++) {
+                    int u = targets[arc];
+                    double uDistance = vDistance + weights[arc];
+                    if (!forward.isReached(u)) {
+                        estimate[u] = estimate(u, target);
+                    }
+                    // settled vertices are reopened, as the heuristic may be inconsistent
+                    forward.relaxOrReopen(v, u, arc, uDistance, uDistance + estimate[u]);
+                }
+            }
+        }
+
+        private double estimate(int v, V target)
+        {
+            return heuristic.getCostEstimate(outgoing.getVertex(v), target);
+        }
+
+        GraphPath<V, E> buildPath(int s, int t)
+        {
+            List<V> vertexList = new ArrayList<>();
+            List<E> edgeList = new ArrayList<>();
+
+            int v = meetingVertex;
+            vertexList.add(outgoing.getVertex(v));
+            while (v != s) {
+                edgeList.add(outgoing.getArcEdge(forward.predArc[v]));
+                v = forward.pred[v];
+                vertexList.add(outgoing.getVertex(v));
+            }
+            Collections.reverse(vertexList);
+            Collections.reverse(edgeList);
+
+            v = meetingVertex;
+            while (v != t) {
+                edgeList.add(incoming.getArcEdge(backward.predArc[v]));
+                v = backward.pred[v];
+                vertexList.add(outgoing.getVertex(v));
+            }
+
+            return new GraphWalk<>(
+                graph, outgoing.getVertex(s), outgoing.getVertex(t), vertexList, edgeList,
+                bestDistance);
+        }
+    }
+
+    /**
+     * The scratch space of one search direction. An entry of the arrays is valid only if the
+     * vertex is stamped with the epoch of the current query.
+     */
+    private class Search
+    {
+        private final IndexedAdjacency<V, E> adjacency;
+        private final int[] stamp;
+        private final double[] dist;
+        private final int[] pred;
+        private final int[] predArc;
+        private final double[] estimate;
+        private final int[] reached;
+        private final IndexedDaryHeap heap;
+        private int reachedCount;
+        private int epoch;
+
+        Search(IndexedAdjacency<V, E> adjacency)
+        {
+            int n = adjacency.vertexCount();
+            this.adjacency = adjacency;
+            this.stamp = new int[n];
+            this.dist = new double[n];
+            this.pred = new int[n];
+            this.predArc = new int[n];
+            this.estimate = heuristic != null ? new double[n] : null;
+            this.reached = new int[n];
+            this.heap = new IndexedDaryHeap(n);
+        }
+
+        void reset(int epoch, boolean clearStamps)
+        {
+            if (clearStamps) {
+                Arrays.fill(stamp, 0);
+            }
+            this.epoch = epoch;
+            this.reachedCount = 0;
+            heap.clear();
+        }
+
+        boolean isReached(int v)
+        {
+            return stamp[v] == epoch;
+        }
+
+        void start(int s, double key)
+        {
+            stamp[s] = epoch;
+            dist[s] = 0d;
+            pred[s] = -1;
+            predArc[s] = -1;
+            reached[reachedCount++] = s;
+            heap.insert(s, key);
+        }
+
+        /**
+         * Relax an arc, ignoring already settled vertices.
+         *
+         * @return true if the distance of the vertex improved
+         */
+        boolean relax(int v, int u, int arc, double uDistance, double key)
+        {
+            if (!isReached(u)) {
+                stamp[u] = epoch;
+                reached[reachedCount++] = u;
+                heap.insert(u, key);
+            } else if (uDistance < dist[u] && heap.contains(u)) {
+                heap.decreaseKey(u, key);
+            } else {
+                return false;
+            }
+            dist[u] = uDistance;
+            pred[u] = v;
+            predArc[u] = arc;
+            return true;
+        }
+
+        /**
+         * Relax an arc, inserting an already settled vertex back into the heap if its distance
+         * improved.
+         */
+        void relaxOrReopen(int v, int u, int arc, double uDistance, double key)
+        {
+            if (!isReached(u)) {
+                stamp[u] = epoch;
+                reached[reachedCount++] = u;
+                heap.insert(u, key);
+            } else if (uDistance < dist[u]) {
+                if (heap.contains(u)) {
+                    heap.decreaseKey(u, key);
+                } else {
+                    heap.insert(u, key);
+                }
+            } else {
+                return;
+            }
+            dist[u] = uDistance;
+            pred[u] = v;
+            predArc[u] = arc;
+        }
+
+        /**
+         * Execute Dijkstra's algorithm until the target is settled.
+         *
+         * @param s the source
+         * @param t the target, or -1 in order to search the whole graph
+         */
+        void dijkstra(int s, int t)
+        {
+            start(s, 0d);
+            int[] offsets = adjacency.getOffsets();
+            int[] targets = adjacency.getTargets();
+            double[] weights = adjacency.getWeights();
+            while (!heap.isEmpty()) {
+                int v = heap.deleteMin();
+                if (v == t) {
+                    return;
+                }
+                double vDistance = dist[v];
+                for (int arc = offsets[v]; arc < offsets[v + 1]; arc++) {
+                    double uDistance = vDistance + weights[arc];
+                    relax(v, targets[arc], arc, uDistance, uDistance);
+                }
+            }
+        }
+    }
+
+}
@@ -999,6 +999,28 @@ class TransitNodeRoutingPrecomputation<V, E>
             this.visitedBackwardVoronoiCells = visitedBackwardVoronoiCells;
         }
 
+        /**
+         * Returns for every vertex in the contraction graph the visited Voronoi cells ids by a
+         * forward search.
+         *
+         * @return visited Voronoi cells ids by a forward search
+         */
+        List<Set<Integer>> getVisitedForwardVoronoiCells()
+        {
+            return visitedForwardVoronoiCells;
+        }
+
+        /**
+         * Returns for every vertex in the contraction graph the visited Voronoi cells ids by a
+         * backward search.
+         *
+         * @return visited Voronoi cells ids by a backward search
+         */
+        List<Set<Integer>> getVisitedBackwardVoronoiCells()
+        {
+            return visitedBackwardVoronoiCells;
+        }
+
         /**
          * Returns $true$ when no shortest paths between {@code source} and {@code sink} contains a
          * transit vertex.
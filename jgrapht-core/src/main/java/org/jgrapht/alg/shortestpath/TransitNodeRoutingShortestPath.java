@@ -105,6 +105,10 @@ public class TransitNodeRoutingShortestPath<V, E>
      * other or not.
      */
     private LocalityFilter<V> localityFilter;
+    /**
+     * Transit node routing which is used by this algorithm.
+     */
+    private TransitNodeRouting<V, E> transitNodeRouting;
 
     /**
      * Constructs a new instance for the given {@code graph} and {@code executor}. It is up to a
@@ -149,6 +153,18 @@ public class TransitNodeRoutingShortestPath<V, E>
         initialize(routing);
     }
 
+    /**
+     * Returns the transit node routing of this algorithm. Performs the precomputation if it has not
+     * been performed yet.
+     *
+     * @return transit node routing
+     */
+    TransitNodeRouting<V, E> getTransitNodeRouting()
+    {
+        performPrecomputation();
+        return transitNodeRouting;
+    }
+
     /**
      * Initializes fields {@code contractionHierarchy}, {@code localityFilter},
      * {@code accessVertices}, {@code manyToManyShortestPaths} and {@code localQueriesAlgorithm}.
@@ -157,6 +173,7 @@ public class TransitNodeRoutingShortestPath<V, E>
      */
     private void initialize(TransitNodeRouting<V, E> transitNodeRouting)
     {
+        this.transitNodeRouting = transitNodeRouting;
         this.contractionHierarchy = transitNodeRouting.getContractionHierarchy();
         this.localityFilter = transitNodeRouting.getLocalityFilter();
         this.accessVertices = transitNodeRouting.getAccessVertices();
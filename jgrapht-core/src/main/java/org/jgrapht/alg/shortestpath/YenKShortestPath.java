@@ -21,6 +21,7 @@ import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * Implementation of Yen`s algorithm for finding $k$ shortest loopless paths.
@@ -59,6 +60,11 @@ public class YenKShortestPath<V, E>
      */
     private PathValidator<V, E> pathValidator;
 
+    /**
+     * Executor used to compute the spur paths concurrently, or null.
+     */
+    private final ThreadPoolExecutor executor;
+
     /**
      * Constructs an instance of the algorithm for the given {@code graph}.
      *
@@ -77,9 +83,26 @@ public class YenKShortestPath<V, E>
      * @param pathValidator validator for computed paths
      */
     public YenKShortestPath(Graph<V, E> graph, PathValidator<V, E> pathValidator)
+    {
+        this(graph, pathValidator, null);
+    }
+
+    /**
+     * Constructs an instance of the algorithm for the given {@code graph}, {@code pathValidator}
+     * and {@code executor}. If the executor is not {@code null}, the spur paths of each path are
+     * computed concurrently using it.
+     *
+     * @param graph graph
+     * @param pathValidator validator for computed paths
+     * @param executor executor used to compute the spur paths, or null
+     * @see YenShortestPathIterator
+     */
+    public YenKShortestPath(
+        Graph<V, E> graph, PathValidator<V, E> pathValidator, ThreadPoolExecutor executor)
     {
         this.graph = Objects.requireNonNull(graph, "Graph cannot be null!");
         this.pathValidator = pathValidator;
+        this.executor = executor;
     }
 
     /**
@@ -100,7 +123,7 @@ public class YenKShortestPath<V, E>
         }
         List<GraphPath<V, E>> result = new ArrayList<>();
         YenShortestPathIterator<V, E> iterator =
-            new YenShortestPathIterator<>(graph, source, sink, pathValidator);
+            new YenShortestPathIterator<>(graph, source, sink, pathValidator, executor);
         for (int i = 0; i < k && iterator.hasNext(); i++) {
             result.add(iterator.next());
         }
@@ -20,10 +20,13 @@ package org.jgrapht.alg.shortestpath;
 import org.jgrapht.*;
 import org.jgrapht.alg.util.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
 import org.jheaps.*;
 import org.jheaps.tree.*;
 
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
 
 /**
@@ -53,6 +56,14 @@ import java.util.function.*;
  * <p>
  * Additionally, the algorithm supports path validation by means of {@link PathValidator}.
  *
+ * <p>
+ * The graph is indexed once and vertices and edges are masked using bitsets. The shortest paths
+ * tree in the reversed graph rooted at the {@code sink} is computed once and reused: when building
+ * the deviations of a path, only the vertices whose tree path contains a masked vertex or edge are
+ * recomputed. If an executor is supplied, the spur paths of each path are instead computed
+ * concurrently by independent A* searches which use the distances of this tree as heuristic. The
+ * two modes return paths of the same weights, but may return different paths of equal weight.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  * @author Semen Chudakov
@@ -125,6 +136,61 @@ public class YenShortestPathIterator<V, E>
      */
     private boolean shortestPathComputed;
 
+    /**
+     * Executor used to compute the spur paths of a path concurrently, or null in order to compute
+     * them incrementally in the calling thread.
+     */
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Index-based adjacency of the outgoing and the incoming edges of the {@code graph}.
+     */
+    private IndexedAdjacency<V, E> outgoing;
+    private IndexedAdjacency<V, E> incoming;
+
+    /**
+     * The index of each edge, its edge given its index, and the edge index of each arc of the
+     * outgoing and the incoming adjacency.
+     */
+    private Map<E, Integer> edgeIndex;
+    private List<E> edges;
+    private int[] outArcEdges;
+    private int[] inArcEdges;
+
+    /**
+     * Shortest paths tree in the reversed {@code graph} rooted at {@code sink}. For each vertex
+     * stores its distance to the sink, and the next vertex and edge on its shortest path to the
+     * sink. The tree is computed once and reused by every deviation.
+     */
+    private double[] sinkDistance;
+    private int[] sinkNext;
+    private int[] sinkNextEdge;
+
+    /**
+     * Masked vertices and edges during the computation of deviations.
+     */
+    private BitSet maskedVertices;
+    private BitSet maskedEdges;
+
+    /**
+     * Shortest paths tree to the {@code sink} in the masked graph, which is maintained
+     * incrementally while the vertices of a path are recovered.
+     */
+    private double[] distance;
+    private int[] next;
+    private int[] nextEdge;
+    private int[] mark;
+    private int epoch;
+    private int[] stack;
+    private IndexedDaryHeap heap;
+
+    /**
+     * Position of each vertex in the path whose deviations are computed concurrently, plus one,
+     * or zero if the vertex does not belong to the path. Also a pool of search workspaces.
+     */
+    private int[] pathPosition;
+    private ConcurrentLinkedQueue<SpurSearch> spurSearches;
+
     /**
      * Constructs an instance of the algorithm for given {@code graph}, {@code source} and
      * {@code sink}.
@@ -154,6 +220,25 @@ public class YenShortestPathIterator<V, E>
         this(graph, source, sink, PairingHeap::new, pathValidator);
     }
 
+    /**
+     * Constructs an instance of the algorithm for given {@code graph}, {@code source},
+     * {@code sink}, {@code pathValidator} and {@code executor}. The {@code pathValidator} can be
+     * {@code null}, which will indicate that all paths are valid. If the {@code executor} is not
+     * {@code null}, the spur paths of each path are computed concurrently using it.
+     *
+     * @param graph graph
+     * @param source source vertex
+     * @param sink sink vertex
+     * @param pathValidator validator to computed paths
+     * @param executor executor used to compute the spur paths, or null
+     */
+    public YenShortestPathIterator(
+        Graph<V, E> graph, V source, V sink, PathValidator<V, E> pathValidator,
+        ThreadPoolExecutor executor)
+    {
+        this(graph, source, sink, PairingHeap::new, pathValidator, executor);
+    }
+
     /**
      * Constructs an instance of the algorithm for given {@code graph}, {@code source}, {@code sink}
      * and {@code heapSupplier}.
@@ -185,6 +270,28 @@ public class YenShortestPathIterator<V, E>
         Graph<V, E> graph, V source, V sink,
         Supplier<AddressableHeap<Double, Pair<GraphPath<V, E>, Boolean>>> heapSupplier,
         PathValidator<V, E> pathValidator)
+    {
+        this(graph, source, sink, heapSupplier, pathValidator, null);
+    }
+
+    /**
+     * Constructs an instance of the algorithm for given {@code graph}, {@code source},
+     * {@code sink}, {@code heapSupplier}, {@code pathValidator} and {@code executor}. The
+     * {@code pathValidator} can be {@code null}, which will indicate that all paths are valid. If
+     * the {@code executor} is not {@code null}, the spur paths of each path are computed
+     * concurrently using it.
+     *
+     * @param graph graph
+     * @param source source vertex
+     * @param sink sink vertex
+     * @param heapSupplier supplier of the preferable heap implementation
+     * @param pathValidator validator for computed paths
+     * @param executor executor used to compute the spur paths, or null
+     */
+    public YenShortestPathIterator(
+        Graph<V, E> graph, V source, V sink,
+        Supplier<AddressableHeap<Double, Pair<GraphPath<V, E>, Boolean>>> heapSupplier,
+        PathValidator<V, E> pathValidator, ThreadPoolExecutor executor)
     {
         this.graph = Objects.requireNonNull(graph, "Graph cannot be null!");
         if (!graph.containsVertex(source)) {
@@ -201,6 +308,7 @@ public class YenShortestPathIterator<V, E>
         this.candidatePaths = heapSupplier.get();
         this.firstDeviations = new HashMap<>();
         this.lastDeviations = new HashMap<>();
+        this.executor = executor;
     }
 
     /**
@@ -214,8 +322,13 @@ public class YenShortestPathIterator<V, E>
     private void lazyInitializePathHeap()
     {
         if (!shortestPathComputed) {
-            GraphPath<V, E> shortestPath =
-                DijkstraShortestPath.findPathBetween(graph, source, sink);
+            initialize();
+            int s = outgoing.getVertexIndex(source);
+            GraphPath<V, E> shortestPath = null;
+            if (sinkDistance[s] != Double.POSITIVE_INFINITY) {
+                int[][] treePath = getTreePath(s, sinkNext, sinkNextEdge);
+                shortestPath = getCandidatePath(null, 0, treePath, sinkDistance[s]);
+            }
 
             if (shortestPath != null) {
                 V lastValidDeviation = getLastValidDeviation(shortestPath, source);
@@ -236,6 +349,65 @@ public class YenShortestPathIterator<V, E>
         shortestPathComputed = true;
     }
 
+    /**
+     * Builds the index-based representation of the {@code graph} and the shortest paths tree in
+     * the reversed {@code graph} rooted at {@code sink}.
+     */
+    private void initialize()
+    {
+        outgoing = IndexedAdjacency.outgoing(graph);
+        incoming = graph.getType().isDirected() ? outgoing.reversed() : outgoing;
+        int n = outgoing.vertexCount();
+
+        edgeIndex = new HashMap<>();
+        edges = new ArrayList<>();
+        outArcEdges = new int[outgoing.arcCount()];
+        for (int arc = 0; arc < outArcEdges.length; arc++) {
+            E e = outgoing.getArcEdge(arc);
+            Integer index = edgeIndex.get(e);
+            if (index == null) {
+                index = edges.size();
+                edgeIndex.put(e, index);
+                edges.add(e);
+            }
+            outArcEdges[arc] = index;
+        }
+        if (incoming == outgoing) {
+            inArcEdges = outArcEdges;
+        } else {
+            inArcEdges = new int[incoming.arcCount()];
+            for (int arc = 0; arc < inArcEdges.length; arc++) {
+                inArcEdges[arc] = edgeIndex.get(incoming.getArcEdge(arc));
+            }
+        }
+
+        maskedVertices = new BitSet(n);
+        maskedEdges = new BitSet(edges.size());
+        heap = new IndexedDaryHeap(n);
+        distance = new double[n];
+        next = new int[n];
+        nextEdge = new int[n];
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        Arrays.fill(next, -1);
+        Arrays.fill(nextEdge, -1);
+        mark = new int[n];
+
+        // all vertices are invalid, thus the masked tree is computed from scratch
+        int s = outgoing.getVertexIndex(sink);
+        distance[s] = 0d;
+        heap.insert(s, 0d);
+        stack = new int[n];
+        computeInvalidDistances(0);
+        sinkDistance = distance.clone();
+        sinkNext = next.clone();
+        sinkNextEdge = nextEdge.clone();
+
+        if (executor != null) {
+            pathPosition = new int[n];
+            spurSearches = new ConcurrentLinkedQueue<>();
+        }
+    }
+
     /**
      * This method is used to make sure that there exist at least one valid path on the queue.
      * During the iteration if the candidates queue is not empty then the iterator has next value.
@@ -331,15 +503,21 @@ public class YenShortestPathIterator<V, E>
 
     /**
      * Builds unique loopless deviations from the given path in the {@code graph}. First receives
-     * the deviation vertex of the current path as well as sets of vertices and edges to be masked
-     * during the computations. Then creates an instance of the {@link MaskSubgraph} and builds a
-     * reversed shortest paths tree starting at {@code sink} in it. Finally builds new candidate
+     * the deviation vertex of the current path and masks the vertices and edges of the path as well
+     * as the edges by which the paths computed so far deviate from it. Then builds new candidate
      * paths by deviating from the vertices of the provided {@code path}. Puts only those candidates
      * in the {@code candidatesList}, which deviate from {@code path} between $firstDeviation$ and
      * $lastDeviation$. $firstDeviation$ and $lastDeviation$ are obtainer from
      * {@code firstDeviations} and {@code lastDeviations} correspondingly.
      *
      * <p>
+     * Vertices and edges are masked using bitsets over their indices. Without an executor the
+     * reversed shortest paths tree rooted at the {@code sink} is derived from the tree of the
+     * unmasked graph by recomputing only the distances of vertices whose tree path is masked, and
+     * the spur paths are computed by iteratively recovering the vertices of the path. With an
+     * executor the spur paths are computed concurrently using independent searches.
+     *
+     * <p>
      * For more information on this step refer to the article with the original description of the
      * algorithm.
      *
@@ -349,32 +527,12 @@ public class YenShortestPathIterator<V, E>
      */
     private int addDeviations(GraphPath<V, E> path)
     {
-        int result = 0;
-
         // initializations
         V pathDeviation = firstDeviations.get(path);
         List<V> pathVertices = path.getVertexList();
-        List<E> pathEdges = path.getEdgeList();
         int pathVerticesSize = pathVertices.size();
         int pathDeviationIndex = pathVertices.indexOf(pathDeviation);
 
-        // receive masked vertices and edges
-        Pair<Set<V>, Set<E>> p = getMaskedVerticesAndEdges(path, pathDeviation, pathDeviationIndex);
-        Set<V> maskedVertices = p.getFirst();
-        Set<E> maskedEdges = p.getSecond();
-
-        // build reversed shortest paths tree
-        Graph<V, E> maskSubgraph =
-            new MaskSubgraph<>(graph, maskedVertices::contains, maskedEdges::contains);
-        Graph<V, E> reversedMaskedGraph = new EdgeReversedGraph<>(maskSubgraph);
-        DijkstraShortestPath<V, E> shortestPath = new DijkstraShortestPath<>(reversedMaskedGraph);
-        TreeSingleSourcePathsImpl<V, E> singleSourcePaths =
-            (TreeSingleSourcePathsImpl<V, E>) shortestPath.getPaths(sink);
-        Map<V, Pair<Double, E>> distanceAndPredecessorMap =
-            new HashMap<>(singleSourcePaths.getDistanceAndPredecessorMap());
-        YenShortestPathsTree customTree = new YenShortestPathsTree(
-            maskSubgraph, maskedVertices, maskedEdges, distanceAndPredecessorMap, sink);
-
         // get index of last deviation
         V lastDeviation = lastDeviations.get(path);
         int lastDeviationIndex;
@@ -384,87 +542,175 @@ public class YenShortestPathIterator<V, E>
             lastDeviationIndex = pathVertices.indexOf(lastDeviation);
         }
 
+        int[] vertices = new int[pathVerticesSize];
+        int[] pathEdges = new int[pathVerticesSize - 1];
+        for (int i = 0; i < pathVerticesSize; i++) {
+            vertices[i] = outgoing.getVertexIndex(pathVertices.get(i));
+        }
+        List<E> pathEdgeList = path.getEdgeList();
+        for (int i = 0; i < pathVerticesSize - 1; i++) {
+            pathEdges[i] = edgeIndex.get(pathEdgeList.get(i));
+        }
+
+        // mask corresponding edges of coinciding paths
+        maskCoincidingEdges(pathVertices, pathDeviation, pathDeviationIndex);
+
+        int result;
+        if (executor == null) {
+            result = addDeviationsIncrementally(
+                path, vertices, pathEdges, pathDeviationIndex, lastDeviationIndex);
+        } else {
+            result = addDeviationsConcurrently(
+                path, vertices, pathEdges, pathDeviationIndex, lastDeviationIndex);
+        }
+        maskedVertices.clear();
+        maskedEdges.clear();
+        return result;
+    }
+
+    /**
+     * Computes the deviations of a path by building a reversed shortest paths tree starting at
+     * {@code sink} in the masked graph and iteratively recovering the vertices of the path.
+     *
+     * @param path path to build deviations of
+     * @param vertices indices of the vertices of the path
+     * @param pathEdges indices of the edges of the path
+     * @param pathDeviationIndex index of the first deviation vertex in the path
+     * @param lastDeviationIndex index of the last deviation vertex in the path
+     * @return number of computed valid deviations
+     */
+    private int addDeviationsIncrementally(
+        GraphPath<V, E> path, int[] vertices, int[] pathEdges, int pathDeviationIndex,
+        int lastDeviationIndex)
+    {
+        int result = 0;
+
+        // mask vertices and edges of the current path
+        for (int i = 0; i < pathEdges.length; i++) {
+            maskedVertices.set(vertices[i]);
+            maskedEdges.set(pathEdges[i]);
+        }
+
+        // build reversed shortest paths tree
+        buildMaskedTree();
+
         // build spur paths by iteratively recovering vertices of the current path
-        boolean proceed = true;
-        for (int i = pathVerticesSize - 2; i >= 0 && proceed; i--) {
-            V recoverVertex = pathVertices.get(i);
-            if (recoverVertex.equals(pathDeviation)) {
-                proceed = false;
-            }
+        for (int i = pathEdges.length - 1; i >= pathDeviationIndex; i--) {
+            int recoverVertex = vertices[i];
 
             // recover vertex
-            customTree.recoverVertex(recoverVertex);
-            customTree.correctDistanceForward(recoverVertex);
-            GraphPath<V, E> spurPath = customTree.getPath(recoverVertex);
+            maskedVertices.clear(recoverVertex);
+            correctDistanceForward(recoverVertex);
 
             // construct a new path if possible
-            if (spurPath != null) {
-                customTree.correctDistanceBackward(recoverVertex);
+            if (distance[recoverVertex] != Double.POSITIVE_INFINITY) {
+                int[][] spurPath = getTreePath(recoverVertex, next, nextEdge);
+                correctDistanceBackward(recoverVertex);
 
                 if (i <= lastDeviationIndex) { // candidate path can be valid
-                    GraphPath<V, E> candidate = getCandidatePath(path, i, spurPath);
-                    double candidateWeight = candidate.getWeight();
-                    V candidateLastDeviation = getLastValidDeviation(candidate, recoverVertex);
-                    boolean candidateIsValid = candidateLastDeviation == null;
-
-                    candidatePaths.insert(candidateWeight, Pair.of(candidate, candidateIsValid));
-                    firstDeviations.put(candidate, recoverVertex);
-                    lastDeviations.put(candidate, candidateLastDeviation);
-
-                    if (candidateIsValid) {
+                    if (addCandidatePath(path, i, spurPath, distance[recoverVertex])) {
                         ++result;
                     }
                 }
             }
+
             // recover edge
-            V recoverVertexSuccessor = pathVertices.get(i + 1);
-            E edge = pathEdges.get(i);
-            customTree.recoverEdge(edge);
+            int edge = pathEdges[i];
+            maskedEdges.clear(edge);
+            double recoverVertexUpdatedDistance =
+                graph.getEdgeWeight(edges.get(edge)) + distance[vertices[i + 1]];
+            if (distance[recoverVertex] > recoverVertexUpdatedDistance) {
+                distance[recoverVertex] = recoverVertexUpdatedDistance;
+                next[recoverVertex] = vertices[i + 1];
+                nextEdge[recoverVertex] = edge;
+                correctDistanceBackward(recoverVertex);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Computes the deviations of a path by computing its spur paths concurrently. The spur path
+     * from the $i$-th vertex of the path avoids the first $i$ vertices of the path and its $i$-th
+     * edge. It is taken from the shortest paths tree of the unmasked graph if possible, and
+     * otherwise computed by an A* search which uses the distances of the unmasked tree as
+     * heuristic.
+     *
+     * @param path path to build deviations of
+     * @param vertices indices of the vertices of the path
+     * @param pathEdges indices of the edges of the path
+     * @param pathDeviationIndex index of the first deviation vertex in the path
+     * @param lastDeviationIndex index of the last deviation vertex in the path
+     * @return number of computed valid deviations
+     */
+    private int addDeviationsConcurrently(
+        GraphPath<V, E> path, int[] vertices, int[] pathEdges, int pathDeviationIndex,
+        int lastDeviationIndex)
+    {
+        int first = pathDeviationIndex;
+        int count = Math.min(lastDeviationIndex, pathEdges.length - 1) - first + 1;
+        if (count <= 0) {
+            return 0;
+        }
 
-            double recoverVertexUpdatedDistance = maskSubgraph.getEdgeWeight(edge)
-                + customTree.map.get(recoverVertexSuccessor).getFirst();
+        for (int i = 0; i < vertices.length; i++) {
+            pathPosition[vertices[i]] = i + 1;
+        }
+        SpurPath[] spurPaths = new SpurPath[count];
+        AtomicInteger nextIndex = new AtomicInteger();
+        int workers = Math.min(executor.getMaximumPoolSize(), count);
+        List<Callable<Void>> tasks = new ArrayList<>(workers);
+        for (int w = 0; w < workers; w++) {
+            tasks.add(() -> {
+                SpurSearch search = spurSearches.poll();
+                if (search == null) {
+                    search = new SpurSearch(outgoing.vertexCount());
+                }
+                int k;
+                while ((k = nextIndex.getAndIncrement()) < count) {
+                    spurPaths[k] =
+                        search.computeSpurPath(first + k, vertices, pathEdges, first);
+                }
+                spurSearches.add(search);
+                return null;
+            });
+        }
+        try {
+            ConcurrencyUtil.invokeAll(executor, tasks);
+        } finally {
+            for (int v : vertices) {
+                pathPosition[v] = 0;
+            }
+        }
 
-            if (customTree.map.get(recoverVertex).getFirst() > recoverVertexUpdatedDistance) {
-                customTree.map.put(recoverVertex, Pair.of(recoverVertexUpdatedDistance, edge));
-                customTree.correctDistanceBackward(recoverVertex);
+        // insert the candidates in the same order as the incremental computation
+        int result = 0;
+        for (int k = count - 1; k >= 0; k--) {
+            SpurPath spurPath = spurPaths[k];
+            if (spurPath != null
+                && addCandidatePath(path, first + k, spurPath.path, spurPath.weight))
+            {
+                ++result;
             }
         }
         return result;
     }
 
     /**
-     * For the given {@code path} builds sets of vertices and edges to be masked. First masks all
-     * edges and vertices of the provided {@code path} except for the {@code sink}. Then for each
-     * path in the {@code resultList} that coincides in the {@code path} until the
+     * For each path in the {@code resultList} that coincides with the current path until the
      * {@code pathDeviation} masks the edge between the {@code pathDeviation} and its successor in
      * this path.
      *
-     * @param path path to mask vertices and edges of
+     * @param pathVertices vertices of the current path
      * @param pathDeviation deviation vertex of the path
      * @param pathDeviationIndex index of the deviation vertex in the vertices list of the path
-     * @return pair of sets of masked vertices and edges
      */
-    private Pair<Set<V>, Set<E>> getMaskedVerticesAndEdges(
-        GraphPath<V, E> path, V pathDeviation, int pathDeviationIndex)
+    private void maskCoincidingEdges(
+        List<V> pathVertices, V pathDeviation, int pathDeviationIndex)
     {
-        List<V> pathVertices = path.getVertexList();
-        List<E> pathEdges = path.getEdgeList();
-
-        Set<V> maskedVertices = new HashSet<>();
-        Set<E> maskedEdges = new HashSet<>();
-
-        int pathVerticesSize = pathVertices.size();
-
-        // mask vertices and edges of the current path
-        for (int i = 0; i < pathVerticesSize - 1; i++) {
-            maskedVertices.add(pathVertices.get(i));
-            maskedEdges.add(pathEdges.get(i));
-        }
-
-        // mask corresponding edges of coinciding paths
         int resultListSize = resultList.size();
-        for (int i = 0; i < resultListSize - 1; i++) { // the vertex of the current paths has been
-                                                       // masked already
+        for (int i = 0; i < resultListSize - 1; i++) { // the edge of the current path is masked
+                                                       // separately
             GraphPath<V, E> resultPath = resultList.get(i);
             List<V> resultPathVertices = resultPath.getVertexList();
             int deviationIndex = resultPathVertices.indexOf(pathDeviation);
@@ -475,9 +721,240 @@ public class YenShortestPathIterator<V, E>
                 continue;
             }
 
-            maskedEdges.add(resultPath.getEdgeList().get(deviationIndex));
+            maskedEdges.set(edgeIndex.get(resultPath.getEdgeList().get(deviationIndex)));
+        }
+    }
+
+    /**
+     * Builds the shortest paths tree to the {@code sink} in the masked graph. Vertices whose path
+     * in the tree of the unmasked graph contains no masked vertex or edge keep their distance.
+     * The distances of all other vertices are recomputed using Dijkstra's algorithm, starting from
+     * the boundary of the kept vertices.
+     */
+    private void buildMaskedTree()
+    {
+        int n = distance.length;
+        System.arraycopy(sinkDistance, 0, distance, 0, n);
+        System.arraycopy(sinkNext, 0, next, 0, n);
+        System.arraycopy(sinkNextEdge, 0, nextEdge, 0, n);
+        if (epoch >= Integer.MAX_VALUE - 2) {
+            Arrays.fill(mark, 0);
+            epoch = 0;
+        }
+        epoch += 2;
+        int valid = epoch;
+        int invalid = epoch + 1;
+
+        // classify vertices by following their tree paths
+        int invalidCount = 0;
+        for (int v = 0; v < n; v++) {
+            int top = 0;
+            int u = v;
+            boolean isValid;
+            while (true) {
+                if (mark[u] == valid || mark[u] == invalid) {
+                    isValid = mark[u] == valid;
+                    break;
+                }
+                stack[top++] = u;
+                if (maskedVertices.get(u)) {
+                    isValid = false;
+                    break;
+                }
+                if (next[u] == -1) { // sink or unreachable
+                    isValid = true;
+                    break;
+                }
+                if (maskedEdges.get(nextEdge[u])) {
+                    isValid = false;
+                    break;
+                }
+                u = next[u];
+            }
+            while (top > 0) {
+                mark[stack[--top]] = isValid ? valid : invalid;
+            }
+        }
+
+        // seed the invalid vertices from their valid successors
+        for (int v = 0; v < n; v++) {
+            if (mark[v] != invalid) {
+                continue;
+            }
+            distance[v] = Double.POSITIVE_INFINITY;
+            next[v] = -1;
+            nextEdge[v] = -1;
+            if (maskedVertices.get(v)) {
+                continue;
+            }
+            stack[invalidCount++] = v;
+        }
+        int[] offsets = outgoing.getOffsets();
+        int[] targets = outgoing.getTargets();
+        double[] weights = outgoing.getWeights();
+        for (int k = 0; k < invalidCount; k++) {
+            int v = stack[k];
+            for (int arc = offsets[v]; arc < offsets[v + 1]; arc++) {
+                int u = targets[arc];
+                if (mark[u] != valid || maskedVertices.get(u) || maskedEdges.get(outArcEdges[arc]))
+                {
+                    continue;
+                }
+                double d = weights[arc] + distance[u];
+                if (d < distance[v]) {
+                    distance[v] = d;
+                    next[v] = u;
+                    nextEdge[v] = outArcEdges[arc];
+                }
+            }
+            if (distance[v] != Double.POSITIVE_INFINITY) {
+                heap.insert(v, distance[v]);
+            }
+        }
+        computeInvalidDistances(invalid);
+    }
+
+    /**
+     * Runs Dijkstra's algorithm in the reversed masked graph, starting from the vertices in the
+     * heap, and updates the distances of the unmasked vertices which are marked with
+     * {@code invalid}.
+     *
+     * @param invalid mark of the vertices whose distances are updated
+     */
+    private void computeInvalidDistances(int invalid)
+    {
+        int[] offsets = incoming.getOffsets();
+        int[] sources = incoming.getTargets();
+        double[] weights = incoming.getWeights();
+        while (!heap.isEmpty()) {
+            int v = heap.deleteMin();
+            double vDistance = distance[v];
+            for (int arc = offsets[v]; arc < offsets[v + 1]; arc++) {
+                int u = sources[arc];
+                if (mark[u] != invalid || maskedVertices.get(u)
+                    || maskedEdges.get(inArcEdges[arc]))
+                {
+                    continue;
+                }
+                double d = vDistance + weights[arc];
+                if (d < distance[u]) {
+                    distance[u] = d;
+                    next[u] = v;
+                    nextEdge[u] = inArcEdges[arc];
+                    heap.insertOrDecreaseKey(u, d);
+                }
+            }
         }
-        return Pair.of(maskedVertices, maskedEdges);
+    }
+
+    /**
+     * Updates the distance of provided vertex {@code v} in the shortest paths tree based on the
+     * current distances of its successors in the masked graph.
+     *
+     * @param v vertex which should be updated
+     */
+    private void correctDistanceForward(int v)
+    {
+        int[] offsets = outgoing.getOffsets();
+        int[] targets = outgoing.getTargets();
+        double[] weights = outgoing.getWeights();
+        for (int arc = offsets[v]; arc < offsets[v + 1]; arc++) {
+            int successor = targets[arc];
+            if (successor == v || maskedVertices.get(successor)
+                || maskedEdges.get(outArcEdges[arc]))
+            {
+                continue;
+            }
+            double updatedDistance = distance[successor] + weights[arc];
+            if (distance[v] > updatedDistance) {
+                distance[v] = updatedDistance;
+                next[v] = successor;
+                nextEdge[v] = outArcEdges[arc];
+            }
+        }
+    }
+
+    /**
+     * Updates the distance of relevant predecessors of the input vertex in the masked graph.
+     *
+     * @param v vertex which distance should be updated
+     */
+    private void correctDistanceBackward(int v)
+    {
+        int[] offsets = incoming.getOffsets();
+        int[] sources = incoming.getTargets();
+        double[] weights = incoming.getWeights();
+
+        Deque<Integer> vertices = new ArrayDeque<>();
+        vertices.add(v);
+        while (!vertices.isEmpty()) {
+            int vertex = vertices.poll();
+            double vertexDistance = distance[vertex];
+            for (int arc = offsets[vertex]; arc < offsets[vertex + 1]; arc++) {
+                int predecessor = sources[arc];
+                if (predecessor == vertex || maskedVertices.get(predecessor)
+                    || maskedEdges.get(inArcEdges[arc]))
+                {
+                    continue;
+                }
+                double updatedDistance = vertexDistance + weights[arc];
+                if (distance[predecessor] > updatedDistance) {
+                    distance[predecessor] = updatedDistance;
+                    next[predecessor] = vertex;
+                    nextEdge[predecessor] = inArcEdges[arc];
+                    vertices.add(predecessor);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the path from vertex {@code v} to the {@code sink} in a shortest paths tree.
+     *
+     * @param v the first vertex of the path
+     * @param next the next vertex of each vertex in the tree
+     * @param nextEdge the next edge of each vertex in the tree
+     * @return the indices of the vertices and the edges of the path
+     */
+    private static int[][] getTreePath(int v, int[] next, int[] nextEdge)
+    {
+        int length = 0;
+        for (int u = v; next[u] != -1; u = next[u]) {
+            length++;
+        }
+        int[] pathVertices = new int[length + 1];
+        int[] pathEdges = new int[length];
+        pathVertices[0] = v;
+        for (int i = 0, u = v; i < length; i++) {
+            pathEdges[i] = nextEdge[u];
+            u = next[u];
+            pathVertices[i + 1] = u;
+        }
+        return new int[][] { pathVertices, pathEdges };
+    }
+
+    /**
+     * Builds a candidate path and inserts it into the candidates heap.
+     *
+     * @param path path the candidate path deviates from
+     * @param recoverVertexIndex vertex that is being recovered
+     * @param spurPath indices of the vertices and the edges of the spur path
+     * @param spurPathWeight weight of the spur path
+     * @return whether the candidate is valid
+     */
+    private boolean addCandidatePath(
+        GraphPath<V, E> path, int recoverVertexIndex, int[][] spurPath, double spurPathWeight)
+    {
+        GraphPath<V, E> candidate =
+            getCandidatePath(path, recoverVertexIndex, spurPath, spurPathWeight);
+        V recoverVertex = path.getVertexList().get(recoverVertexIndex);
+        V candidateLastDeviation = getLastValidDeviation(candidate, recoverVertex);
+        boolean candidateIsValid = candidateLastDeviation == null;
+
+        candidatePaths.insert(candidate.getWeight(), Pair.of(candidate, candidateIsValid));
+        firstDeviations.put(candidate, recoverVertex);
+        lastDeviations.put(candidate, candidateLastDeviation);
+        return candidateIsValid;
     }
 
     /**
@@ -485,40 +962,40 @@ public class YenShortestPathIterator<V, E>
      * adds the root part of the candidate by traversing the vertices and edges of the {@code path}
      * until the {@code recoverVertexIndex}. Then adds vertices and edges of the {@code spurPath}.
      *
-     * @param path path the candidate path deviates from
+     * @param path path the candidate path deviates from, can be null if the root part is empty
      * @param recoverVertexIndex vertex that is being recovered
-     * @param spurPath spur path of the candidate
+     * @param spurPath indices of the vertices and the edges of the spur path
+     * @param spurPathWeight weight of the spur path
      * @return candidate path
      */
     private GraphPath<V, E> getCandidatePath(
-        GraphPath<V, E> path, int recoverVertexIndex, GraphPath<V, E> spurPath)
+        GraphPath<V, E> path, int recoverVertexIndex, int[][] spurPath, double spurPathWeight)
     {
-        List<V> pathVertices = path.getVertexList();
-        List<E> pathEdges = path.getEdgeList();
-
-        List<V> candidatePathVertices = new LinkedList<>();
-        List<E> candidatePathEdges = new LinkedList<>();
+        int[] spurPathVertices = spurPath[0];
+        int[] spurPathEdges = spurPath[1];
+        List<V> candidatePathVertices =
+            new ArrayList<>(recoverVertexIndex + spurPathVertices.length);
+        List<E> candidatePathEdges = new ArrayList<>(recoverVertexIndex + spurPathEdges.length);
 
         double rootPathWeight = 0.0;
-        for (int i = 0; i < recoverVertexIndex; i++) {
-            E edge = pathEdges.get(i);
-            rootPathWeight += graph.getEdgeWeight(edge);
-            candidatePathEdges.add(edge);
-            candidatePathVertices.add(pathVertices.get(i));
+        if (recoverVertexIndex > 0) {
+            List<V> pathVertices = path.getVertexList();
+            List<E> pathEdges = path.getEdgeList();
+            for (int i = 0; i < recoverVertexIndex; i++) {
+                E edge = pathEdges.get(i);
+                rootPathWeight += graph.getEdgeWeight(edge);
+                candidatePathEdges.add(edge);
+                candidatePathVertices.add(pathVertices.get(i));
+            }
         }
-
-        ListIterator<V> spurPathVerticesIterator =
-            spurPath.getVertexList().listIterator(spurPath.getVertexList().size());
-        while (spurPathVerticesIterator.hasPrevious()) {
-            candidatePathVertices.add(spurPathVerticesIterator.previous());
+        for (int v : spurPathVertices) {
+            candidatePathVertices.add(outgoing.getVertex(v));
         }
-        ListIterator<E> spurPathEdgesIterator =
-            spurPath.getEdgeList().listIterator(spurPath.getEdgeList().size());
-        while (spurPathEdgesIterator.hasPrevious()) {
-            candidatePathEdges.add(spurPathEdgesIterator.previous());
+        for (int e : spurPathEdges) {
+            candidatePathEdges.add(edges.get(e));
         }
 
-        double candidateWeight = rootPathWeight + spurPath.getWeight();
+        double candidateWeight = rootPathWeight + spurPathWeight;
         return new GraphWalk<>(
             graph, source, sink, candidatePathVertices, candidatePathEdges, candidateWeight);
     }
@@ -542,120 +1019,156 @@ public class YenShortestPathIterator<V, E>
     }
 
     /**
-     * Helper class which represents the shortest paths tree using which the spur parts are computed
-     * and appended to the candidate paths
+     * A spur path along with its weight.
      */
-    class YenShortestPathsTree
-        extends TreeSingleSourcePathsImpl<V, E>
+    private static class SpurPath
     {
-        /**
-         * Vertices which are masked in the {@code g}.
-         */
-        Set<V> maskedVertices;
-        /**
-         * Edges which are masked in the {@code g}.
-         */
-        Set<E> maskedEdges;
+        final int[][] path;
+        final double weight;
 
-        /**
-         * Constructs an instance of the shortest paths tree for the given {@code maskSubgraph},
-         * {@code maskedVertices}, {@code maskedEdges}, {@code reversedTree}, {@code treeSource}.
-         *
-         * @param maskSubgraph graph which has removed vertices and edges
-         * @param maskedVertices vertices removed form the graph
-         * @param maskedEdges edges removed from the graph
-         * @param reversedTree shortest path tree in the edge reversed {@code maskSubgraph} starting
-         *        at {@code treeSource}.
-         * @param treeSource source vertex of the {@code reversedTree}
-         */
-        YenShortestPathsTree(
-            Graph<V, E> maskSubgraph, Set<V> maskedVertices, Set<E> maskedEdges,
-            Map<V, Pair<Double, E>> reversedTree, V treeSource)
+        SpurPath(int[][] path, double weight)
         {
-            super(maskSubgraph, treeSource, reversedTree);
-            this.maskedVertices = maskedVertices;
-            this.maskedEdges = maskedEdges;
+            this.path = path;
+            this.weight = weight;
         }
+    }
 
-        /**
-         * Restores vertex {@code v} in the {@code g}.
-         *
-         * @param v vertex to be recovered
-         */
-        void recoverVertex(V v)
+    /**
+     * Workspace of a thread which computes spur paths concurrently. Vertices whose stamp differs
+     * from the epoch of the current search are considered unvisited, so the arrays are never
+     * cleared.
+     */
+    private class SpurSearch
+    {
+        private final double[] dist;
+        private final int[] pred;
+        private final int[] predEdge;
+        private final int[] stamp;
+        private final int[] settled;
+        private final IndexedDaryHeap searchHeap;
+        private int searchEpoch;
+
+        SpurSearch(int n)
         {
-            maskedVertices.remove(v);
+            this.dist = new double[n];
+            this.pred = new int[n];
+            this.predEdge = new int[n];
+            this.stamp = new int[n];
+            this.settled = new int[n];
+            this.searchHeap = new IndexedDaryHeap(n);
         }
 
         /**
-         * Restores edge {@code e} in the {@code g}.
-         *
-         * @param e edge to be recovered
+         * Whether a vertex is masked when computing the spur path from the $i$-th vertex.
          */
-        void recoverEdge(E e)
+        private boolean isMasked(int v, int i)
         {
-            maskedEdges.remove(e);
+            int position = pathPosition[v];
+            return position != 0 && position <= i;
         }
 
         /**
-         * Updates the distance of provided vertex {@code v} in the shortest paths tree based on the
-         * current distances of its successors in the {@code g}.
-         *
-         * @param v vertex which should be updated
+         * Whether an edge is masked when computing the spur path from the $i$-th vertex. The
+         * edges of coinciding paths only matter at the first deviation vertex, since they start
+         * at a masked vertex otherwise.
          */
-        void correctDistanceForward(V v)
+        private boolean isMasked(int e, int i, int[] pathEdges, int first)
         {
-            super.map.putIfAbsent(v, new Pair<>(Double.POSITIVE_INFINITY, null));
-
-            for (E e : super.g.outgoingEdgesOf(v)) {
-                V successor = Graphs.getOppositeVertex(super.g, e, v);
-                if (successor.equals(v)) {
-                    continue;
-                }
-                double updatedDistance = Double.POSITIVE_INFINITY;
-                if (super.map.containsKey(successor)) {
-                    updatedDistance = super.map.get(successor).getFirst();
-                }
-                updatedDistance += super.g.getEdgeWeight(e);
-
-                double currentDistance = super.map.get(v).getFirst();
-                if (currentDistance > updatedDistance) {
-                    super.map.put(v, Pair.of(updatedDistance, e));
-                }
-            }
+            return e == pathEdges[i] || (i == first && maskedEdges.get(e));
         }
 
         /**
-         * Updates the distance of relevant predecessors of the input vertex.
+         * Computes the spur path from the $i$-th vertex of a path.
          *
-         * @param v vertex which distance should be updated
+         * @param i the index of the spur vertex
+         * @param vertices indices of the vertices of the path
+         * @param pathEdges indices of the edges of the path
+         * @param first index of the first deviation vertex in the path
+         * @return the spur path or null if it does not exist
          */
-        void correctDistanceBackward(V v)
+        SpurPath computeSpurPath(int i, int[] vertices, int[] pathEdges, int first)
         {
-            List<V> vertices = new LinkedList<>();
-            vertices.add(v);
-
-            while (!vertices.isEmpty()) {
-                V vertex = vertices.remove(0);
-                double vertexDistance = super.map.get(vertex).getFirst();
+            int spurVertex = vertices[i];
+            if (sinkDistance[spurVertex] == Double.POSITIVE_INFINITY) {
+                return null;
+            }
+            // try the path in the unmasked tree
+            boolean treePathIsValid = true;
+            for (int u = spurVertex; sinkNext[u] != -1; u = sinkNext[u]) {
+                if (isMasked(sinkNextEdge[u], i, pathEdges, first)
+                    || isMasked(sinkNext[u], i))
+                {
+                    treePathIsValid = false;
+                    break;
+                }
+            }
+            if (treePathIsValid) {
+                return new SpurPath(
+                    getTreePath(spurVertex, sinkNext, sinkNextEdge), sinkDistance[spurVertex]);
+            }
 
-                for (E e : super.g.incomingEdgesOf(vertex)) {
-                    V predecessor = Graphs.getOppositeVertex(super.g, e, vertex);
-                    if (predecessor.equals(vertex)) {
+            // A* search using the distances in the unmasked tree as heuristic
+            if (searchEpoch == Integer.MAX_VALUE) {
+                Arrays.fill(stamp, 0);
+                Arrays.fill(settled, 0);
+                searchEpoch = 0;
+            }
+            searchEpoch++;
+            searchHeap.clear();
+
+            int target = vertices[vertices.length - 1];
+            int[] offsets = outgoing.getOffsets();
+            int[] targets = outgoing.getTargets();
+            double[] weights = outgoing.getWeights();
+            stamp[spurVertex] = searchEpoch;
+            dist[spurVertex] = 0d;
+            pred[spurVertex] = -1;
+            searchHeap.insert(spurVertex, sinkDistance[spurVertex]);
+            while (!searchHeap.isEmpty()) {
+                int v = searchHeap.deleteMin();
+                if (v == target) {
+                    return new SpurPath(getSearchPath(spurVertex, target), dist[target]);
+                }
+                settled[v] = searchEpoch;
+                double vDistance = dist[v];
+                for (int arc = offsets[v]; arc < offsets[v + 1]; arc++) {
+                    int u = targets[arc];
+                    double h = sinkDistance[u];
+                    if (h == Double.POSITIVE_INFINITY || isMasked(u, i)
+                        || isMasked(outArcEdges[arc], i, pathEdges, first))
+                    {
                         continue;
                     }
-                    double predecessorDistance = Double.POSITIVE_INFINITY;
-                    if (super.map.containsKey(predecessor)) {
-                        predecessorDistance = super.map.get(predecessor).getFirst();
-                    }
-
-                    double updatedDistance = vertexDistance + super.g.getEdgeWeight(e);
-                    if (predecessorDistance > updatedDistance) {
-                        super.map.put(predecessor, Pair.of(updatedDistance, e));
-                        vertices.add(predecessor);
+                    double uDistance = vDistance + weights[arc];
+                    if (stamp[u] != searchEpoch) {
+                        stamp[u] = searchEpoch;
+                    } else if (settled[u] == searchEpoch || uDistance >= dist[u]) {
+                        continue;
                     }
+                    dist[u] = uDistance;
+                    pred[u] = v;
+                    predEdge[u] = outArcEdges[arc];
+                    searchHeap.insertOrDecreaseKey(u, uDistance + h);
                 }
             }
+            return null;
+        }
+
+        private int[][] getSearchPath(int spurVertex, int target)
+        {
+            int length = 0;
+            for (int u = target; u != spurVertex; u = pred[u]) {
+                length++;
+            }
+            int[] pathVertices = new int[length + 1];
+            int[] pathEdges = new int[length];
+            pathVertices[length] = target;
+            for (int i = length - 1, u = target; i >= 0; i--) {
+                pathEdges[i] = predEdge[u];
+                u = pred[u];
+                pathVertices[i] = u;
+            }
+            return new int[][] { pathVertices, pathEdges };
         }
     }
 }
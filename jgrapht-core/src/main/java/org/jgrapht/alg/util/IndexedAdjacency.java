@@ -0,0 +1,496 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.util;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+
+/**
+ * An immutable index-based snapshot of the adjacency structure of a graph in Compressed Sparse Row
+ * (CSR) format.
+ *
+ * <p>
+ * The vertices of the graph are mapped to the integer range $[0, n)$ following the iteration order
+ * of {@link Graph#vertexSet()}. Graphs implementing {@link CSRAdjacency} already have integer
+ * vertices $[0, n)$ which are used as their own indices. Each edge is stored as one or more arcs.
+ * The arcs of vertex $v$ occupy positions $[\text{offsets}[v], \text{offsets}[v+1])$ of the arc
+ * arrays which contain the opposite endpoint, the edge and the edge weight of each arc. Depending
+ * on how the snapshot was created, the arcs of a vertex correspond to its outgoing or incoming
+ * edges. For undirected graphs both are the same.
+ *
+ * <p>
+ * This is a helper class for algorithms which perform many passes over the adjacency structure of
+ * a graph. It trades a single $O(n+m)$ construction for traversals which do not perform any hash
+ * lookups or boxing. The arrays returned by the accessors are the internal representation and must
+ * not be modified. The snapshot does not reflect subsequent modifications of the graph. Instances
+ * are safe to use from multiple threads.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public class IndexedAdjacency<V, E>
+{
+    private final Graph<V, E> graph;
+    private final boolean incoming;
+    private final List<V> vertices;
+    private final Map<V, Integer> vertexIndex;
+    private final int edgeCount;
+
+    private final int[] offsets;
+    private final int[] targets;
+    private final Object[] arcEdges;
+    private final int[] arcEdgeIds;
+    private final double[] weights;
+
+    /**
+     * Create the index-based adjacency of the outgoing edges of a graph.
+     *
+     * <p>
+     * If the graph implements {@link CSRAdjacency}, the vertex indices are the vertices themselves
+     * and the snapshot is created directly from the primitive representation of the graph.
+     *
+     * @param graph the input graph
+     * @return the index-based adjacency of the outgoing edges
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     */
+    public static <V, E> IndexedAdjacency<V, E> outgoing(Graph<V, E> graph)
+    {
+        Objects.requireNonNull(graph, "Graph cannot be null");
+        if (graph instanceof CSRAdjacency) {
+            return fromCSR(graph, false);
+        }
+        VertexToIntegerMapping<V> mapping = new VertexToIntegerMapping<>(graph.vertexSet());
+        return fromGraph(graph, false, mapping.getIndexList(), mapping.getVertexMap());
+    }
+
+    /**
+     * Create the index-based adjacency of the incoming edges of a graph.
+     *
+     * <p>
+     * If the graph implements {@link CSRAdjacency}, the vertex indices are the vertices themselves
+     * and the snapshot is created directly from the primitive representation of the graph.
+     *
+     * @param graph the input graph
+     * @return the index-based adjacency of the incoming edges
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     */
+    public static <V, E> IndexedAdjacency<V, E> incoming(Graph<V, E> graph)
+    {
+        Objects.requireNonNull(graph, "Graph cannot be null");
+        if (graph instanceof CSRAdjacency) {
+            return fromCSR(graph, true);
+        }
+        VertexToIntegerMapping<V> mapping = new VertexToIntegerMapping<>(graph.vertexSet());
+        return fromGraph(graph, true, mapping.getIndexList(), mapping.getVertexMap());
+    }
+
+    /**
+     * Construct a new snapshot.
+     *
+     * @param graph the graph
+     * @param incoming whether the arcs are the incoming or the outgoing edges
+     * @param vertices the vertices in index order
+     * @param vertexIndex the index of each vertex, or null if the vertices are their own indices
+     * @param offsets the offsets array
+     * @param targets the opposite endpoint of each arc
+     * @param arcEdges the edge of each arc, or null if the edges are integers stored in arcEdgeIds
+     * @param arcEdgeIds the edge of each arc as an integer, or null
+     * @param weights the weight of each arc
+     */
+    private IndexedAdjacency(
+        Graph<V, E> graph, boolean incoming, List<V> vertices, Map<V, Integer> vertexIndex,
+        int[] offsets, int[] targets, Object[] arcEdges, int[] arcEdgeIds, double[] weights)
+    {
+        this.graph = graph;
+        this.incoming = incoming;
+        this.vertices = vertices;
+        this.vertexIndex = vertexIndex;
+        this.edgeCount = graph.edgeSet().size();
+        this.offsets = offsets;
+        this.targets = targets;
+        this.arcEdges = arcEdges;
+        this.arcEdgeIds = arcEdgeIds;
+        this.weights = weights;
+    }
+
+    /**
+     * Create a snapshot using the graph interface.
+     *
+     * @param graph the graph
+     * @param incoming whether to index the incoming or the outgoing edges
+     * @param vertices the vertices in index order
+     * @param vertexIndex the index of each vertex
+     * @return the snapshot
+     */
+    private static <V, E> IndexedAdjacency<V, E> fromGraph(
+        Graph<V, E> graph, boolean incoming, List<V> vertices, Map<V, Integer> vertexIndex)
+    {
+        int n = vertices.size();
+        int[] offsets = new int[n + 1];
+        long arcs = 0;
+        for (int i = 0; i < n; i++) {
+            V v = vertices.get(i);
+            arcs += incoming ? graph.inDegreeOf(v) : graph.outDegreeOf(v);
+        }
+        if (arcs > Integer.MAX_VALUE - 8) {
+            throw new ArithmeticException("integer overflow");
+        }
+
+        // the degree may count self-loops twice, thus allocate for the upper bound and trim
+        int[] targets = new int[(int) arcs];
+        Object[] arcEdges = new Object[(int) arcs];
+        double[] weights = new double[(int) arcs];
+        int arc = 0;
+        for (int i = 0; i < n; i++) {
+            V v = vertices.get(i);
+            offsets[i] = arc;
+            for (E e : incoming ? graph.incomingEdgesOf(v) : graph.outgoingEdgesOf(v)) {
+                targets[arc] = vertexIndex.get(Graphs.getOppositeVertex(graph, e, v));
+                arcEdges[arc] = e;
+                weights[arc] = graph.getEdgeWeight(e);
+                arc++;
+            }
+        }
+        offsets[n] = arc;
+
+        if (arc != arcs) {
+            targets = Arrays.copyOf(targets, arc);
+            arcEdges = Arrays.copyOf(arcEdges, arc);
+            weights = Arrays.copyOf(weights, arc);
+        }
+        return new IndexedAdjacency<>(
+            graph, incoming, vertices, vertexIndex, offsets, targets, arcEdges, null, weights);
+    }
+
+    /**
+     * Create a snapshot from the primitive representation of a graph which implements
+     * {@link CSRAdjacency}. Self-loops of undirected graphs are stored once, as in
+     * {@link #fromGraph(Graph, boolean, List, Map)}.
+     *
+     * @param graph the graph
+     * @param incoming whether to index the incoming or the outgoing edges
+     * @return the snapshot
+     */
+    @SuppressWarnings("unchecked")
+    private static <V, E> IndexedAdjacency<V, E> fromCSR(Graph<V, E> graph, boolean incoming)
+    {
+        CSRAdjacency csr = (CSRAdjacency) graph;
+        int n = csr.vertexCount();
+        int[] sources = csr.getEdgeSources();
+        int[] edgeTargets = csr.getEdgeTargets();
+        double[] edgeWeights = csr.getEdgeWeights();
+        boolean directed = graph.getType().isDirected();
+
+        int[] csrOffsets, csrEdges;
+        if (directed && incoming) {
+            csrOffsets = csr.getIncomingOffsets();
+            csrEdges = csr.getIncomingEdges();
+            if (csrOffsets == null) {
+                // counting sort of the edges by target
+                csrOffsets = new int[n + 1];
+                for (int t : edgeTargets) {
+                    csrOffsets[t + 1]++;
+                }
+                for (int i = 0; i < n; i++) {
+                    csrOffsets[i + 1] += csrOffsets[i];
+                }
+                int[] next = Arrays.copyOf(csrOffsets, n);
+                csrEdges = new int[edgeTargets.length];
+                for (int e = 0; e < edgeTargets.length; e++) {
+                    csrEdges[next[edgeTargets[e]]++] = e;
+                }
+            }
+        } else {
+            csrOffsets = csr.getOutgoingOffsets();
+            csrEdges = csr.getOutgoingEdges();
+        }
+
+        int[] offsets = new int[n + 1];
+        int[] targets = new int[csrEdges.length];
+        int[] arcEdgeIds = new int[csrEdges.length];
+        double[] weights = new double[csrEdges.length];
+        int arc = 0;
+        for (int v = 0; v < n; v++) {
+            offsets[v] = arc;
+            int start = csrOffsets[v];
+            for (int pos = start; pos < csrOffsets[v + 1]; pos++) {
+                int e = csrEdges[pos];
+                if (!directed && pos > start && csrEdges[pos - 1] == e) {
+                    // second occurrence of a self-loop
+                    continue;
+                }
+                targets[arc] = sources[e] == v ? edgeTargets[e] : sources[e];
+                arcEdgeIds[arc] = e;
+                weights[arc] = edgeWeights == null ? Graph.DEFAULT_EDGE_WEIGHT : edgeWeights[e];
+                arc++;
+            }
+        }
+        offsets[n] = arc;
+
+        if (arc != targets.length) {
+            targets = Arrays.copyOf(targets, arc);
+            arcEdgeIds = Arrays.copyOf(arcEdgeIds, arc);
+            weights = Arrays.copyOf(weights, arc);
+        }
+        List<V> vertices = (List<V>) new IdentityList(n);
+        return new IndexedAdjacency<>(
+            graph, incoming, vertices, null, offsets, targets, null, arcEdgeIds, weights);
+    }
+
+    /**
+     * Create the index-based adjacency of the opposite direction, using the same vertex indices as
+     * this instance. For undirected graphs the result contains the same arcs.
+     *
+     * @return the index-based adjacency of the opposite direction
+     */
+    public IndexedAdjacency<V, E> reversed()
+    {
+        if (vertexIndex == null) {
+            return fromCSR(graph, !incoming);
+        }
+        return fromGraph(graph, !incoming, vertices, vertexIndex);
+    }
+
+    /**
+     * Get the underlying graph.
+     *
+     * @return the underlying graph
+     */
+    public Graph<V, E> getGraph()
+    {
+        return graph;
+    }
+
+    /**
+     * Whether the arcs of each vertex correspond to its incoming edges or to its outgoing edges.
+     *
+     * @return true if the arcs correspond to the incoming edges, false otherwise
+     */
+    public boolean isIncoming()
+    {
+        return incoming;
+    }
+
+    /**
+     * Get the number of vertices $n$.
+     *
+     * @return the number of vertices
+     */
+    public int vertexCount()
+    {
+        return offsets.length - 1;
+    }
+
+    /**
+     * Get the number of edges $m$.
+     *
+     * @return the number of edges
+     */
+    public int edgeCount()
+    {
+        return edgeCount;
+    }
+
+    /**
+     * Get the number of arcs.
+     *
+     * @return the number of arcs
+     */
+    public int arcCount()
+    {
+        return targets.length;
+    }
+
+    /**
+     * Get the index of a vertex.
+     *
+     * @param v the vertex
+     * @return the index of the vertex
+     * @throws IllegalArgumentException if the vertex is not part of the snapshot
+     */
+    public int getVertexIndex(V v)
+    {
+        if (vertexIndex == null) {
+            if (v instanceof Integer && (Integer) v >= 0 && (Integer) v < vertexCount()) {
+                return (Integer) v;
+            }
+            throw new IllegalArgumentException("no such vertex in graph: " + v);
+        }
+        Integer index = vertexIndex.get(v);
+        if (index == null) {
+            throw new IllegalArgumentException("no such vertex in graph: " + v);
+        }
+        return index;
+    }
+
+    /**
+     * Get the vertex with a given index.
+     *
+     * @param index the index
+     * @return the vertex
+     */
+    public V getVertex(int index)
+    {
+        return vertices.get(index);
+    }
+
+    /**
+     * Get the edge of an arc.
+     *
+     * @param arc the arc
+     * @return the edge of the arc
+     */
+    @SuppressWarnings("unchecked")
+    public E getArcEdge(int arc)
+    {
+        if (arcEdges == null) {
+            return (E) Integer.valueOf(arcEdgeIds[arc]);
+        }
+        return (E) arcEdges[arc];
+    }
+
+    /**
+     * Get the vertices in index order.
+     *
+     * @return the vertices in index order
+     */
+    public List<V> getVertices()
+    {
+        return Collections.unmodifiableList(vertices);
+    }
+
+    /**
+     * Get the number of arcs of a vertex.
+     *
+     * @param v the vertex index
+     * @return the number of arcs of the vertex
+     */
+    public int degree(int v)
+    {
+        return offsets[v + 1] - offsets[v];
+    }
+
+    /**
+     * Get the offsets array of length $n+1$. The arcs of vertex $v$ are stored at positions
+     * $[\text{offsets}[v], \text{offsets}[v+1])$.
+     *
+     * @return the offsets array
+     */
+    public int[] getOffsets()
+    {
+        return offsets;
+    }
+
+    /**
+     * Get the array with the opposite endpoint of each arc.
+     *
+     * @return the array with the opposite endpoint of each arc
+     */
+    public int[] getTargets()
+    {
+        return targets;
+    }
+
+    /**
+     * Get the array with the weight of each arc.
+     *
+     * @return the array with the weight of each arc
+     */
+    public double[] getWeights()
+    {
+        return weights;
+    }
+
+    /**
+     * Partition the vertex index range $[0, n)$ into consecutive blocks with approximately the
+     * same amount of work, where the work of a vertex is one plus its number of arcs. This is
+     * useful in order to balance the load of parallel computations on graphs with skewed degree
+     * distributions.
+     *
+     * @param parts the number of blocks
+     * @return an array of length at most {@code parts + 1} with the boundaries of the blocks, block
+     *         $i$ is $[\text{result}[i], \text{result}[i+1])$
+     */
+    public int[] partition(int parts)
+    {
+        if (parts < 1) {
+            throw new IllegalArgumentException("Number of parts must be positive");
+        }
+        int n = vertexCount();
+        long totalWork = (long) n + targets.length;
+        int[] boundaries = new int[parts + 1];
+        int count = 1;
+        for (int i = 1; i < parts; i++) {
+            long work = totalWork * i / parts;
+            // find the first vertex v with v + offsets[v] >= work
+            int lo = boundaries[count - 1], hi = n;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (mid + (long) offsets[mid] < work) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            if (lo > boundaries[count - 1] && lo < n) {
+                boundaries[count++] = lo;
+            }
+        }
+        boundaries[count++] = n;
+        return Arrays.copyOf(boundaries, count);
+    }
+
+    /**
+     * The list of integers $[0, n)$, used as the vertex list of graphs whose vertices are their
+     * own indices.
+     */
+    private static class IdentityList
+        extends AbstractList<Integer>
+        implements RandomAccess
+    {
+        private final int n;
+
+        IdentityList(int n)
+        {
+            this.n = n;
+        }
+
+        @Override
+        public Integer get(int index)
+        {
+            if (index < 0 || index >= n) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+            return index;
+        }
+
+        @Override
+        public int size()
+        {
+            return n;
+        }
+    }
+
+}
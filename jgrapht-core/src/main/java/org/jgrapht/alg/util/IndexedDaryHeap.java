@@ -0,0 +1,305 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.util;
+
+import java.util.*;
+
+/**
+ * An indexed d-ary min-heap of integer elements with primitive double keys.
+ *
+ * <p>
+ * The elements are integers in the range $[0, n)$ where $n$ is the capacity of the heap. Each
+ * element can be contained at most once. The heap keeps an array with the position of each element
+ * and therefore supports decrease-key operations without any handles. No objects are allocated
+ * after construction, which makes the heap suitable to be reused across many computations. Method
+ * {@link #clear()} runs in time proportional to the number of elements currently in the heap.
+ *
+ * <p>
+ * Operations {@link #insert(int, double)}, {@link #decreaseKey(int, double)} run in $O(\log_d n)$
+ * time and {@link #deleteMin()} in $O(d \log_d n)$ time.
+ *
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @author agent
+ */
+public class IndexedDaryHeap
+{
+    /**
+     * Default arity of the heap
+     */
+    public static final int DEFAULT_ARITY = 4;
+
+    private final int d;
+    private final int[] heap;
+    private final int[] position;
+    private final double[] keys;
+    private int size;
+
+    /**
+     * Create a new heap with the default arity.
+     *
+     * @param capacity the capacity of the heap, elements must be in $[0, capacity)$
+     */
+    public IndexedDaryHeap(int capacity)
+    {
+        this(DEFAULT_ARITY, capacity);
+    }
+
+    /**
+     * Create a new heap.
+     *
+     * @param d the arity of the heap
+     * @param capacity the capacity of the heap, elements must be in $[0, capacity)$
+     */
+    public IndexedDaryHeap(int d, int capacity)
+    {
+        if (d < 2) {
+            throw new IllegalArgumentException("Arity must be at least 2");
+        }
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must be non-negative");
+        }
+        this.d = d;
+        this.heap = new int[capacity];
+        this.position = new int[capacity];
+        this.keys = new double[capacity];
+        Arrays.fill(position, -1);
+        this.size = 0;
+    }
+
+    /**
+     * Whether the heap is empty.
+     *
+     * @return true if the heap is empty, false otherwise
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Get the number of elements in the heap.
+     *
+     * @return the number of elements in the heap
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Whether an element is contained in the heap.
+     *
+     * @param element the element
+     * @return true if the element is contained in the heap, false otherwise
+     */
+    public boolean contains(int element)
+    {
+        return position[element] >= 0;
+    }
+
+    /**
+     * Get the key of an element contained in the heap.
+     *
+     * @param element the element
+     * @return the key of the element
+     */
+    public double getKey(int element)
+    {
+        assert position[element] >= 0;
+        return keys[element];
+    }
+
+    /**
+     * Insert an element.
+     *
+     * @param element the element
+     * @param key the key of the element
+     * @throws IllegalArgumentException if the element is already in the heap
+     */
+    public void insert(int element, double key)
+    {
+        if (position[element] >= 0) {
+            throw new IllegalArgumentException("Element already in heap");
+        }
+        keys[element] = key;
+        siftUp(element, size++);
+    }
+
+    /**
+     * Decrease the key of an element contained in the heap.
+     *
+     * @param element the element
+     * @param key the new key, must not be larger than the current key
+     * @throws IllegalArgumentException if the key is larger than the current key
+     */
+    public void decreaseKey(int element, double key)
+    {
+        int pos = position[element];
+        assert pos >= 0;
+        if (key > keys[element]) {
+            throw new IllegalArgumentException("Keys can only be decreased");
+        }
+        keys[element] = key;
+        siftUp(element, pos);
+    }
+
+    /**
+     * Insert an element or decrease its key if it is already contained in the heap and the new key
+     * is smaller.
+     *
+     * @param element the element
+     * @param key the key
+     * @return true if the element was inserted or its key was decreased, false otherwise
+     */
+    public boolean insertOrDecreaseKey(int element, double key)
+    {
+        int pos = position[element];
+        if (pos < 0) {
+            keys[element] = key;
+            siftUp(element, size++);
+            return true;
+        } else if (key < keys[element]) {
+            keys[element] = key;
+            siftUp(element, pos);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Get the element with the minimum key.
+     *
+     * @return the element with the minimum key
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public int findMin()
+    {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return heap[0];
+    }
+
+    /**
+     * Get the minimum key.
+     *
+     * @return the minimum key
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public double findMinKey()
+    {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return keys[heap[0]];
+    }
+
+    /**
+     * Remove the element with the minimum key. Its key can still be read using
+     * {@link #getLastKey(int)}.
+     *
+     * @return the element with the minimum key
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public int deleteMin()
+    {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        int min = heap[0];
+        position[min] = -1;
+        size--;
+        if (size > 0) {
+            siftDown(heap[size], 0);
+        }
+        return min;
+    }
+
+    /**
+     * Get the last key of an element, even if it has been removed from the heap. The result is
+     * undefined if the element has never been inserted.
+     *
+     * @param element the element
+     * @return the last key of the element
+     */
+    public double getLastKey(int element)
+    {
+        return keys[element];
+    }
+
+    /**
+     * Remove all elements from the heap.
+     */
+    public void clear()
+    {
+        for (int i = 0; i < size; i++) {
+            position[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int element, int pos)
+    {
+        double key = keys[element];
+        while (pos > 0) {
+            int parentPos = (pos - 1) / d;
+            int parent = heap[parentPos];
+            if (keys[parent] <= key) {
+                break;
+            }
+            heap[pos] = parent;
+            position[parent] = pos;
+            pos = parentPos;
+        }
+        heap[pos] = element;
+        position[element] = pos;
+    }
+
+    private void siftDown(int element, int pos)
+    {
+        double key = keys[element];
+        while (true) {
+            int firstChild = pos * d + 1;
+            if (firstChild >= size) {
+                break;
+            }
+            int lastChild = Math.min(firstChild + d, size);
+            int minChild = firstChild;
+            double minKey = keys[heap[firstChild]];
+            for (int c = firstChild + 1; c < lastChild; c++) {
+                double cKey = keys[heap[c]];
+                if (cKey < minKey) {
+                    minChild = c;
+                    minKey = cKey;
+                }
+            }
+            if (minKey >= key) {
+                break;
+            }
+            int child = heap[minChild];
+            heap[pos] = child;
+            position[child] = pos;
+            pos = minChild;
+        }
+        heap[pos] = element;
+        position[element] = pos;
+    }
+
+}
@@ -0,0 +1,329 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.util;
+
+import java.util.*;
+
+/**
+ * An indexed monotone radix heap of integer elements with primitive long keys.
+ *
+ * <p>
+ * The elements are integers in the range $[0, n)$ where $n$ is the capacity of the heap. Each
+ * element can be contained at most once. Keys must be non-negative and the heap is monotone: the
+ * key of an inserted or decreased element must not be smaller than the last minimum key returned by
+ * {@link #findMinKey()} or removed by {@link #deleteMin()}. This is exactly the access pattern of
+ * Dijkstra's algorithm with non-negative integer edge weights.
+ *
+ * <p>
+ * The elements are kept in $65$ buckets, where bucket $i &gt; 0$ contains the elements whose key
+ * differs from the last minimum key in bit $i-1$ as its most significant bit and bucket $0$ those
+ * with key equal to the last minimum key. Each element moves to a bucket of smaller index at most
+ * $64$ times, thus the amortized cost of {@link #deleteMin()} is $O(\log C)$ where $C$ is the
+ * largest key, while {@link #insert(int, long)} and {@link #decreaseKey(int, long)} run in
+ * constant time. Unlike comparison-based heaps no keys are boxed and no objects are allocated after
+ * construction. Method {@link #clear()} runs in time proportional to the number of elements
+ * currently in the heap.
+ *
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @author agent
+ */
+public class IndexedRadixHeap
+{
+    private static final int BUCKETS = Long.SIZE + 1;
+
+    private final long[] keys;
+    private final int[] bucketOf;
+    private final int[] next;
+    private final int[] prev;
+    private final int[] head;
+    private long last;
+    private int size;
+
+    /**
+     * Create a new heap.
+     *
+     * @param capacity the capacity of the heap, elements must be in $[0, capacity)$
+     */
+    public IndexedRadixHeap(int capacity)
+    {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must be non-negative");
+        }
+        this.keys = new long[capacity];
+        this.bucketOf = new int[capacity];
+        this.next = new int[capacity];
+        this.prev = new int[capacity];
+        this.head = new int[BUCKETS];
+        Arrays.fill(bucketOf, -1);
+        Arrays.fill(head, -1);
+        this.last = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Whether the heap is empty.
+     *
+     * @return true if the heap is empty, false otherwise
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Get the number of elements in the heap.
+     *
+     * @return the number of elements in the heap
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Whether an element is contained in the heap.
+     *
+     * @param element the element
+     * @return true if the element is contained in the heap, false otherwise
+     */
+    public boolean contains(int element)
+    {
+        return bucketOf[element] >= 0;
+    }
+
+    /**
+     * Get the key of an element contained in the heap.
+     *
+     * @param element the element
+     * @return the key of the element
+     */
+    public long getKey(int element)
+    {
+        assert bucketOf[element] >= 0;
+        return keys[element];
+    }
+
+    /**
+     * Insert an element.
+     *
+     * @param element the element
+     * @param key the key of the element
+     * @throws IllegalArgumentException if the element is already in the heap or if the key is
+     *         smaller than the last minimum key
+     */
+    public void insert(int element, long key)
+    {
+        if (bucketOf[element] >= 0) {
+            throw new IllegalArgumentException("Element already in heap");
+        }
+        if (key < last) {
+            throw new IllegalArgumentException("Key smaller than the last minimum key");
+        }
+        keys[element] = key;
+        link(element, bucketIndex(key));
+        size++;
+    }
+
+    /**
+     * Decrease the key of an element contained in the heap.
+     *
+     * @param element the element
+     * @param key the new key, must not be larger than the current key or smaller than the last
+     *        minimum key
+     * @throws IllegalArgumentException if the key is larger than the current key or smaller than
+     *         the last minimum key
+     */
+    public void decreaseKey(int element, long key)
+    {
+        assert bucketOf[element] >= 0;
+        if (key > keys[element]) {
+            throw new IllegalArgumentException("Keys can only be decreased");
+        }
+        if (key < last) {
+            throw new IllegalArgumentException("Key smaller than the last minimum key");
+        }
+        keys[element] = key;
+        int bucket = bucketIndex(key);
+        if (bucket != bucketOf[element]) {
+            unlink(element);
+            link(element, bucket);
+        }
+    }
+
+    /**
+     * Insert an element or decrease its key if it is already contained in the heap and the new key
+     * is smaller.
+     *
+     * @param element the element
+     * @param key the key
+     * @return true if the element was inserted or its key was decreased, false otherwise
+     */
+    public boolean insertOrDecreaseKey(int element, long key)
+    {
+        if (bucketOf[element] < 0) {
+            insert(element, key);
+            return true;
+        } else if (key < keys[element]) {
+            decreaseKey(element, key);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Get an element with the minimum key.
+     *
+     * @return an element with the minimum key
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public int findMin()
+    {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        redistribute();
+        return head[0];
+    }
+
+    /**
+     * Get the minimum key. Subsequent insertions must not use smaller keys.
+     *
+     * @return the minimum key
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public long findMinKey()
+    {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        redistribute();
+        return last;
+    }
+
+    /**
+     * Remove an element with the minimum key. Its key can still be read using
+     * {@link #getLastKey(int)}.
+     *
+     * @return an element with the minimum key
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public int deleteMin()
+    {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        redistribute();
+        int min = head[0];
+        unlink(min);
+        size--;
+        return min;
+    }
+
+    /**
+     * Get the last key of an element, even if it has been removed from the heap. The result is
+     * undefined if the element has never been inserted.
+     *
+     * @param element the element
+     * @return the last key of the element
+     */
+    public long getLastKey(int element)
+    {
+        return keys[element];
+    }
+
+    /**
+     * Remove all elements from the heap and reset the last minimum key to zero.
+     */
+    public void clear()
+    {
+        for (int b = 0; b < BUCKETS; b++) {
+            for (int element = head[b]; element != -1; element = next[element]) {
+                bucketOf[element] = -1;
+            }
+            head[b] = -1;
+        }
+        last = 0;
+        size = 0;
+    }
+
+    /**
+     * Make sure that bucket zero is non-empty. If it is empty, the minimum key of the first
+     * non-empty bucket becomes the last minimum key and the elements of that bucket are
+     * redistributed into buckets of smaller index.
+     */
+    private void redistribute()
+    {
+        if (head[0] != -1) {
+            return;
+        }
+        int b = 1;
+        while (head[b] == -1) {
+            b++;
+        }
+        long min = Long.MAX_VALUE;
+        for (int element = head[b]; element != -1; element = next[element]) {
+            if (keys[element] < min) {
+                min = keys[element];
+            }
+        }
+        last = min;
+        int element = head[b];
+        head[b] = -1;
+        while (element != -1) {
+            int nextElement = next[element];
+            link(element, bucketIndex(keys[element]));
+            element = nextElement;
+        }
+    }
+
+    private int bucketIndex(long key)
+    {
+        return key == last ? 0 : Long.SIZE - Long.numberOfLeadingZeros(key ^ last);
+    }
+
+    private void link(int element, int bucket)
+    {
+        int first = head[bucket];
+        next[element] = first;
+        prev[element] = -1;
+        if (first != -1) {
+            prev[first] = element;
+        }
+        head[bucket] = element;
+        bucketOf[element] = bucket;
+    }
+
+    private void unlink(int element)
+    {
+        int bucket = bucketOf[element];
+        int p = prev[element];
+        int n = next[element];
+        if (p == -1) {
+            head[bucket] = n;
+        } else {
+            next[p] = n;
+        }
+        if (n != -1) {
+            prev[n] = p;
+        }
+        bucketOf[element] = -1;
+    }
+
+}
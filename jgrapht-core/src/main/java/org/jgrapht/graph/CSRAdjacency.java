@@ -0,0 +1,150 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph;
+
+import java.util.*;
+
+/**
+ * A primitive view of the adjacency structure of a graph whose vertices are the integers $[0, n)$
+ * and whose edges are the integers $[0, m)$.
+ *
+ * <p>
+ * Graphs implementing this interface expose their internal representation in Compressed Sparse Row
+ * (CSR) format. The edges incident to vertex $v$ in a given direction are stored at positions
+ * $[\text{offsets}[v], \text{offsets}[v+1])$ of the corresponding edge array, in increasing order
+ * of edge identifier. In undirected graphs the outgoing and incoming edges of a vertex are the
+ * same and a self-loop appears twice in the edges of its vertex.
+ *
+ * <p>
+ * Algorithms detect this interface in order to traverse the graph without boxing vertices and
+ * edges and without performing any hash lookups per visited edge. All returned arrays are the
+ * internal representation of the graph and must not be modified. Implementations are expected to
+ * be structurally immutable.
+ *
+ * @author agent
+ */
+public interface CSRAdjacency
+{
+    /**
+     * Get the number of vertices $n$.
+     *
+     * @return the number of vertices
+     */
+    int vertexCount();
+
+    /**
+     * Get the number of edges $m$.
+     *
+     * @return the number of edges
+     */
+    int edgeCount();
+
+    /**
+     * Get the array of length $m$ with the source vertex of each edge.
+     *
+     * @return the source vertex of each edge
+     */
+    int[] getEdgeSources();
+
+    /**
+     * Get the array of length $m$ with the target vertex of each edge.
+     *
+     * @return the target vertex of each edge
+     */
+    int[] getEdgeTargets();
+
+    /**
+     * Get the array of length $m$ with the weight of each edge.
+     *
+     * @return the weight of each edge, or null if the graph is unweighted and all edges have weight
+     *         equal to {@link org.jgrapht.Graph#DEFAULT_EDGE_WEIGHT}
+     */
+    double[] getEdgeWeights();
+
+    /**
+     * Get the offsets array of length $n+1$ of the outgoing edges.
+     *
+     * @return the offsets array of the outgoing edges
+     */
+    int[] getOutgoingOffsets();
+
+    /**
+     * Get the array with the outgoing edges of all vertices, grouped by vertex.
+     *
+     * @return the outgoing edges of all vertices
+     */
+    int[] getOutgoingEdges();
+
+    /**
+     * Get the offsets array of length $n+1$ of the incoming edges.
+     *
+     * @return the offsets array of the incoming edges, or null if the graph does not support
+     *         incoming edges
+     */
+    int[] getIncomingOffsets();
+
+    /**
+     * Get the array with the incoming edges of all vertices, grouped by vertex.
+     *
+     * @return the incoming edges of all vertices, or null if the graph does not support incoming
+     *         edges
+     */
+    int[] getIncomingEdges();
+
+    /**
+     * Get the opposite endpoint of an edge.
+     *
+     * @param e the edge
+     * @param v one endpoint of the edge
+     * @return the other endpoint of the edge
+     */
+    default int getOppositeVertex(int e, int v)
+    {
+        int s = getEdgeSources()[e];
+        return s == v ? getEdgeTargets()[e] : s;
+    }
+
+    /**
+     * Get an iterator over the outgoing edges of a vertex.
+     *
+     * @param v the vertex
+     * @return an iterator over the outgoing edges of the vertex
+     */
+    default PrimitiveIterator.OfInt outgoingEdgesIterator(int v)
+    {
+        int[] offsets = getOutgoingOffsets();
+        return Arrays.stream(getOutgoingEdges(), offsets[v], offsets[v + 1]).iterator();
+    }
+
+    /**
+     * Get an iterator over the incoming edges of a vertex.
+     *
+     * @param v the vertex
+     * @return an iterator over the incoming edges of the vertex
+     * @throws UnsupportedOperationException if the graph does not support incoming edges
+     */
+    default PrimitiveIterator.OfInt incomingEdgesIterator(int v)
+    {
+        int[] offsets = getIncomingOffsets();
+        if (offsets == null) {
+            throw new UnsupportedOperationException("Incoming edges are not supported");
+        }
+        return Arrays.stream(getIncomingEdges(), offsets[v], offsets[v + 1]).iterator();
+    }
+
+}
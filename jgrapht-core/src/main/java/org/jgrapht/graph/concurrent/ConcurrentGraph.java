@@ -0,0 +1,735 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph.concurrent;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.*;
+import java.util.function.*;
+
+/**
+ * A thread-safe graph implementation which supports concurrent modifications and lock-free reads.
+ *
+ * <p>
+ * Contrary to {@link AsSynchronizedGraph}, which guards the whole graph with a single read-write
+ * lock, this implementation stores the vertices, the edges and the adjacency of each vertex in
+ * concurrent hash maps. Queries such as {@link #containsEdge(Object)},
+ * {@link #getEdgeSource(Object)}, {@link #outgoingEdgesOf(Object)} or {@link #degreeOf(Object)}
+ * never block. Modifications of the edges are serialized using striped locking: each vertex is
+ * mapped to one of a fixed number of locks based on its hash code and adding or removing an edge
+ * acquires only the locks of its two endpoints. Therefore, modifications touching disjoint sets of
+ * vertices proceed in parallel.
+ *
+ * <p>
+ * The sets returned by {@link #vertexSet()}, {@link #edgeSet()}, {@link #outgoingEdgesOf(Object)},
+ * {@link #incomingEdgesOf(Object)} and, for undirected graphs, {@link #edgesOf(Object)} are
+ * unmodifiable live views. Their iterators are <em>weakly consistent</em>: they never throw
+ * {@link ConcurrentModificationException}, they traverse each element present at the time of
+ * their construction at most once and they may (but are not guaranteed to) reflect any
+ * modification after their construction. The iteration order is unspecified. The set returned
+ * by {@link #edgesOf(Object)} of a directed graph and by {@link #getAllEdges(Object, Object)} is a
+ * snapshot.
+ *
+ * <p>
+ * A vertex is removed by first rejecting new edges touching it, then removing its touching edges
+ * and finally removing the vertex itself. Thus, the endpoints of every edge of the graph are
+ * always contained in the vertex set. As with any concurrent graph, callers should still be aware
+ * that an object obtained from the graph may be removed by another thread before it is used,
+ * resulting in an {@link IllegalArgumentException}. See {@link AsSynchronizedGraph} for a
+ * detailed discussion.
+ *
+ * <p>
+ * Users need to make sure that the vertex and edge suppliers (see {@link #getVertexSupplier()} and
+ * {@link #getEdgeSupplier()}) are thread-safe, if {@link #addVertex()} or
+ * {@link #addEdge(Object, Object)} are called concurrently. Mixed graphs are not supported.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public class ConcurrentGraph<V, E>
+    extends AbstractGraph<V, E>
+    implements Graph<V, E>, Serializable
+{
+    private static final long serialVersionUID = 3318561208479125236L;
+
+    private static final String LOOPS_NOT_ALLOWED = "loops not allowed";
+    private static final String MIXED_GRAPH_NOT_SUPPORTED = "Mixed graph not supported";
+    private static final String THE_GRAPH_CONTAINS_NO_VERTEX_SUPPLIER =
+        "The graph contains no vertex supplier";
+    private static final String THE_GRAPH_CONTAINS_NO_EDGE_SUPPLIER =
+        "The graph contains no edge supplier";
+    private static final String INVALID_VERTEX_SUPPLIER =
+        "Invalid vertex supplier (does not return unique vertices on each call).";
+
+    private final GraphType type;
+    private final Supplier<V> vertexSupplier;
+    private final Supplier<E> edgeSupplier;
+
+    private final ConcurrentHashMap<V, VertexEntry<V, E>> vertexMap;
+    private final ConcurrentHashMap<E, EdgeEntry<V, E>> edgeMap;
+    private final Set<V> unmodifiableVertexSet;
+    private final Set<E> unmodifiableEdgeSet;
+    private final ReentrantLock[] locks;
+
+    /**
+     * Construct a new graph. The number of locks is four times the number of available
+     * processors.
+     *
+     * @param vertexSupplier the vertex supplier, can be {@code null}
+     * @param edgeSupplier the edge supplier, can be {@code null}
+     * @param type the graph type
+     * @throws IllegalArgumentException if the graph type is mixed
+     */
+    public ConcurrentGraph(Supplier<V> vertexSupplier, Supplier<E> edgeSupplier, GraphType type)
+    {
+        this(vertexSupplier, edgeSupplier, type, 4 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Construct a new graph.
+     *
+     * @param vertexSupplier the vertex supplier, can be {@code null}
+     * @param edgeSupplier the edge supplier, can be {@code null}
+     * @param type the graph type
+     * @param concurrencyLevel the estimated number of threads concurrently modifying the graph,
+     *        which is rounded up to a power of two in order to determine the number of locks
+     * @throws IllegalArgumentException if the graph type is mixed or if the concurrency level is
+     *         not positive
+     */
+    public ConcurrentGraph(
+        Supplier<V> vertexSupplier, Supplier<E> edgeSupplier, GraphType type,
+        int concurrencyLevel)
+    {
+        this.vertexSupplier = vertexSupplier;
+        this.edgeSupplier = edgeSupplier;
+        this.type = Objects.requireNonNull(type);
+        if (type.isMixed()) {
+            throw new IllegalArgumentException(MIXED_GRAPH_NOT_SUPPORTED);
+        }
+        if (concurrencyLevel < 1) {
+            throw new IllegalArgumentException("Concurrency level must be positive");
+        }
+
+        int numLocks = Integer.highestOneBit(Math.min(concurrencyLevel, 1 << 16) * 2 - 1);
+        this.locks = new ReentrantLock[numLocks];
+        for (int i = 0; i < numLocks; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        this.vertexMap = new ConcurrentHashMap<>();
+        this.edgeMap = new ConcurrentHashMap<>();
+        this.unmodifiableVertexSet = Collections.unmodifiableSet(vertexMap.keySet());
+        this.unmodifiableEdgeSet = Collections.unmodifiableSet(edgeMap.keySet());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Supplier<V> getVertexSupplier()
+    {
+        return vertexSupplier;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Supplier<E> getEdgeSupplier()
+    {
+        return edgeSupplier;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GraphType getType()
+    {
+        return type;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> getAllEdges(V sourceVertex, V targetVertex)
+    {
+        VertexEntry<V, E> source = sourceVertex == null ? null : vertexMap.get(sourceVertex);
+        VertexEntry<V, E> target = targetVertex == null ? null : vertexMap.get(targetVertex);
+        if (source == null || target == null) {
+            return null;
+        }
+        Set<E> edges = new ArrayUnenforcedSet<>();
+        for (Map.Entry<E, EdgeEntry<V, E>> entry : source.outgoing.entrySet()) {
+            if (entry.getValue().connects(source, target, type.isDirected())) {
+                edges.add(entry.getKey());
+            }
+        }
+        return edges;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E getEdge(V sourceVertex, V targetVertex)
+    {
+        VertexEntry<V, E> source = sourceVertex == null ? null : vertexMap.get(sourceVertex);
+        VertexEntry<V, E> target = targetVertex == null ? null : vertexMap.get(targetVertex);
+        if (source == null || target == null) {
+            return null;
+        }
+        return findEdge(source, target);
+    }
+
+    /**
+     * @throws IllegalArgumentException {@inheritDoc}
+     * @throws NullPointerException {@inheritDoc}
+     * @throws UnsupportedOperationException {@inheritDoc}
+     */
+    @Override
+    public E addEdge(V sourceVertex, V targetVertex)
+    {
+        assertCanAddEdge(sourceVertex, targetVertex);
+        if (edgeSupplier == null) {
+            throw new UnsupportedOperationException(THE_GRAPH_CONTAINS_NO_EDGE_SUPPLIER);
+        }
+
+        lock(sourceVertex, targetVertex);
+        try {
+            VertexEntry<V, E> source = getVertexEntryForUpdate(sourceVertex);
+            VertexEntry<V, E> target = getVertexEntryForUpdate(targetVertex);
+            if (!type.isAllowingMultipleEdges() && findEdge(source, target) != null) {
+                return null;
+            }
+            E e = edgeSupplier.get();
+            return link(e, source, target) ? e : null;
+        } finally {
+            unlock(sourceVertex, targetVertex);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException {@inheritDoc}
+     * @throws NullPointerException {@inheritDoc}
+     */
+    @Override
+    public boolean addEdge(V sourceVertex, V targetVertex, E e)
+    {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        assertCanAddEdge(sourceVertex, targetVertex);
+        if (edgeMap.containsKey(e)) {
+            return false;
+        }
+
+        lock(sourceVertex, targetVertex);
+        try {
+            VertexEntry<V, E> source = getVertexEntryForUpdate(sourceVertex);
+            VertexEntry<V, E> target = getVertexEntryForUpdate(targetVertex);
+            if (!type.isAllowingMultipleEdges() && findEdge(source, target) != null) {
+                return false;
+            }
+            return link(e, source, target);
+        } finally {
+            unlock(sourceVertex, targetVertex);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException {@inheritDoc}
+     * @throws UnsupportedOperationException {@inheritDoc}
+     */
+    @Override
+    public V addVertex()
+    {
+        if (vertexSupplier == null) {
+            throw new UnsupportedOperationException(THE_GRAPH_CONTAINS_NO_VERTEX_SUPPLIER);
+        }
+        V v = vertexSupplier.get();
+        if (!addVertex(v)) {
+            throw new IllegalArgumentException(
+                INVALID_VERTEX_SUPPLIER);
+        }
+        return v;
+    }
+
+    /**
+     * @throws NullPointerException {@inheritDoc}
+     */
+    @Override
+    public boolean addVertex(V v)
+    {
+        if (v == null) {
+            throw new NullPointerException();
+        }
+        if (vertexMap.containsKey(v)) {
+            return false;
+        }
+        return vertexMap.putIfAbsent(v, new VertexEntry<>(v, type.isDirected())) == null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V getEdgeSource(E e)
+    {
+        return getEdgeEntry(e).source.vertex;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V getEdgeTarget(E e)
+    {
+        return getEdgeEntry(e).target.vertex;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsEdge(E e)
+    {
+        return e != null && edgeMap.containsKey(e);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsVertex(V v)
+    {
+        return v != null && vertexMap.containsKey(v);
+    }
+
+    /**
+     * @throws IllegalArgumentException {@inheritDoc}
+     * @throws NullPointerException {@inheritDoc}
+     */
+    @Override
+    public int degreeOf(V vertex)
+    {
+        VertexEntry<V, E> entry = getVertexEntry(vertex);
+        if (type.isDirected()) {
+            return entry.incoming.size() + entry.outgoing.size();
+        }
+        return entry.outgoing.size() + entry.loops;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> edgeSet()
+    {
+        return unmodifiableEdgeSet;
+    }
+
+    /**
+     * @throws IllegalArgumentException {@inheritDoc}
+     * @throws NullPointerException {@inheritDoc}
+     */
+    @Override
+    public Set<E> edgesOf(V vertex)
+    {
+        VertexEntry<V, E> entry = getVertexEntry(vertex);
+        if (!type.isDirected()) {
+            return entry.unmodifiableOutgoing;
+        }
+        ArrayUnenforcedSet<E> inAndOut = new ArrayUnenforcedSet<>(entry.incoming.keySet());
+        for (Map.Entry<E, EdgeEntry<V, E>> e : entry.outgoing.entrySet()) {
+            if (e.getValue().target != entry) {
+                inAndOut.add(e.getKey());
+            }
+        }
+        return Collections.unmodifiableSet(inAndOut);
+    }
+
+    /**
+     * @throws IllegalArgumentException {@inheritDoc}
+     * @throws NullPointerException {@inheritDoc}
+     */
+    @Override
+    public int inDegreeOf(V vertex)
+    {
+        return type.isDirected() ? getVertexEntry(vertex).incoming.size() : degreeOf(vertex);
+    }
+
+    /**
+     * @throws IllegalArgumentException {@inheritDoc}
+     * @throws NullPointerException {@inheritDoc}
+     */
+    @Override
+    public Set<E> incomingEdgesOf(V vertex)
+    {
+        return getVertexEntry(vertex).unmodifiableIncoming;
+    }
+
+    /**
+     * @throws IllegalArgumentException {@inheritDoc}
+     * @throws NullPointerException {@inheritDoc}
+     */
+    @Override
+    public int outDegreeOf(V vertex)
+    {
+        return type.isDirected() ? getVertexEntry(vertex).outgoing.size() : degreeOf(vertex);
+    }
+
+    /**
+     * @throws IllegalArgumentException {@inheritDoc}
+     * @throws NullPointerException {@inheritDoc}
+     */
+    @Override
+    public Set<E> outgoingEdgesOf(V vertex)
+    {
+        return getVertexEntry(vertex).unmodifiableOutgoing;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E removeEdge(V sourceVertex, V targetVertex)
+    {
+        if (sourceVertex == null || targetVertex == null) {
+            return null;
+        }
+        lock(sourceVertex, targetVertex);
+        try {
+            VertexEntry<V, E> source = vertexMap.get(sourceVertex);
+            VertexEntry<V, E> target = vertexMap.get(targetVertex);
+            if (source == null || target == null) {
+                return null;
+            }
+            E e = findEdge(source, target);
+            if (e != null) {
+                unlink(e, edgeMap.get(e));
+            }
+            return e;
+        } finally {
+            unlock(sourceVertex, targetVertex);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeEdge(E e)
+    {
+        if (e == null) {
+            return false;
+        }
+        EdgeEntry<V, E> entry;
+        while ((entry = edgeMap.get(e)) != null) {
+            if (removeEdge(e, entry)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeVertex(V v)
+    {
+        if (v == null) {
+            return false;
+        }
+
+        // reject new edges touching the vertex
+        VertexEntry<V, E> entry;
+        lock(v, v);
+        try {
+            entry = vertexMap.get(v);
+            if (entry == null || entry.removed) {
+                return false;
+            }
+            entry.removed = true;
+        } finally {
+            unlock(v, v);
+        }
+
+        // remove touching edges
+        for (Map.Entry<E, EdgeEntry<V, E>> e : entry.outgoing.entrySet()) {
+            removeEdge(e.getKey(), e.getValue());
+        }
+        if (type.isDirected()) {
+            for (Map.Entry<E, EdgeEntry<V, E>> e : entry.incoming.entrySet()) {
+                removeEdge(e.getKey(), e.getValue());
+            }
+        }
+
+        vertexMap.remove(v, entry);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<V> vertexSet()
+    {
+        return unmodifiableVertexSet;
+    }
+
+    /**
+     * @throws NullPointerException {@inheritDoc}
+     */
+    @Override
+    public double getEdgeWeight(E e)
+    {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        if (!type.isWeighted()) {
+            return Graph.DEFAULT_EDGE_WEIGHT;
+        }
+        return getEdgeEntry(e).weight;
+    }
+
+    /**
+     * @throws NullPointerException {@inheritDoc}
+     * @throws UnsupportedOperationException {@inheritDoc}
+     */
+    @Override
+    public void setEdgeWeight(E e, double weight)
+    {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        if (!type.isWeighted()) {
+            throw new UnsupportedOperationException();
+        }
+        getEdgeEntry(e).weight = weight;
+    }
+
+    private void assertCanAddEdge(V sourceVertex, V targetVertex)
+    {
+        assertVertexExist(sourceVertex);
+        assertVertexExist(targetVertex);
+        if (!type.isAllowingSelfLoops() && sourceVertex.equals(targetVertex)) {
+            throw new IllegalArgumentException(LOOPS_NOT_ALLOWED);
+        }
+    }
+
+    private VertexEntry<V, E> getVertexEntry(V v)
+    {
+        if (v == null) {
+            throw new NullPointerException();
+        }
+        VertexEntry<V, E> entry = vertexMap.get(v);
+        if (entry == null) {
+            throw new IllegalArgumentException("no such vertex in graph: " + v.toString());
+        }
+        return entry;
+    }
+
+    /**
+     * Get the entry of a vertex in order to add edges to it. Must be called while holding the lock
+     * of the vertex.
+     */
+    private VertexEntry<V, E> getVertexEntryForUpdate(V v)
+    {
+        VertexEntry<V, E> entry = vertexMap.get(v);
+        if (entry == null || entry.removed) {
+            throw new IllegalArgumentException("no such vertex in graph: " + v.toString());
+        }
+        return entry;
+    }
+
+    private EdgeEntry<V, E> getEdgeEntry(E e)
+    {
+        EdgeEntry<V, E> entry = edgeMap.get(e);
+        if (entry == null) {
+            throw new IllegalArgumentException("no such edge in graph: " + e.toString());
+        }
+        return entry;
+    }
+
+    private E findEdge(VertexEntry<V, E> source, VertexEntry<V, E> target)
+    {
+        boolean directed = type.isDirected();
+        if (directed && target.incoming.size() < source.outgoing.size()) {
+            for (Map.Entry<E, EdgeEntry<V, E>> entry : target.incoming.entrySet()) {
+                if (entry.getValue().source == source) {
+                    return entry.getKey();
+                }
+            }
+            return null;
+        }
+        for (Map.Entry<E, EdgeEntry<V, E>> entry : source.outgoing.entrySet()) {
+            if (entry.getValue().connects(source, target, directed)) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Add an edge to the graph. Must be called while holding the locks of both endpoints.
+     */
+    private boolean link(E e, VertexEntry<V, E> source, VertexEntry<V, E> target)
+    {
+        EdgeEntry<V, E> entry = new EdgeEntry<>(source, target);
+        if (edgeMap.putIfAbsent(e, entry) != null) {
+            return false;
+        }
+        source.outgoing.put(e, entry);
+        target.incoming.put(e, entry);
+        if (source == target) {
+            source.loops++;
+        }
+        return true;
+    }
+
+    /**
+     * Remove an edge from the graph. Must be called while holding the locks of both endpoints.
+     */
+    private void unlink(E e, EdgeEntry<V, E> entry)
+    {
+        entry.source.outgoing.remove(e);
+        entry.target.incoming.remove(e);
+        if (entry.source == entry.target) {
+            entry.source.loops--;
+        }
+        edgeMap.remove(e);
+    }
+
+    /**
+     * Remove an edge only if it is still associated with the given entry.
+     */
+    private boolean removeEdge(E e, EdgeEntry<V, E> entry)
+    {
+        V sourceVertex = entry.source.vertex;
+        V targetVertex = entry.target.vertex;
+        lock(sourceVertex, targetVertex);
+        try {
+            if (edgeMap.get(e) != entry) {
+                return false;
+            }
+            unlink(e, entry);
+            return true;
+        } finally {
+            unlock(sourceVertex, targetVertex);
+        }
+    }
+
+    private int lockIndex(V v)
+    {
+        int h = v.hashCode();
+        return (h ^ (h >>> 16)) & (locks.length - 1);
+    }
+
+    /**
+     * Acquire the locks of two vertices in a global order in order to avoid deadlocks.
+     */
+    private void lock(V u, V v)
+    {
+        int i = lockIndex(u);
+        int j = lockIndex(v);
+        locks[Math.min(i, j)].lock();
+        if (i != j) {
+            locks[Math.max(i, j)].lock();
+        }
+    }
+
+    private void unlock(V u, V v)
+    {
+        int i = lockIndex(u);
+        int j = lockIndex(v);
+        if (i != j) {
+            locks[Math.max(i, j)].unlock();
+        }
+        locks[Math.min(i, j)].unlock();
+    }
+
+    /**
+     * The adjacency of a vertex. In undirected graphs the incoming and outgoing edges are the same
+     * map.
+     */
+    private static class VertexEntry<V, E>
+        implements Serializable
+    {
+        private static final long serialVersionUID = -3461928263541287213L;
+
+        final V vertex;
+        final ConcurrentHashMap<E, EdgeEntry<V, E>> outgoing;
+        final ConcurrentHashMap<E, EdgeEntry<V, E>> incoming;
+        final Set<E> unmodifiableOutgoing;
+        final Set<E> unmodifiableIncoming;
+
+        // number of self-loops, counted twice in the degree of undirected graphs
+        volatile int loops;
+
+        // set while the vertex is being removed, guarded by the lock of the vertex
+        boolean removed;
+
+        VertexEntry(V vertex, boolean directed)
+        {
+            this.vertex = vertex;
+            this.outgoing = new ConcurrentHashMap<>(4);
+            this.incoming = directed ? new ConcurrentHashMap<>(4) : outgoing;
+            this.unmodifiableOutgoing = Collections.unmodifiableSet(outgoing.keySet());
+            this.unmodifiableIncoming =
+                directed ? Collections.unmodifiableSet(incoming.keySet()) : unmodifiableOutgoing;
+        }
+    }
+
+    /**
+     * The endpoints and the weight of an edge.
+     */
+    private static class EdgeEntry<V, E>
+        implements Serializable
+    {
+        private static final long serialVersionUID = 8794315106539817286L;
+
+        final VertexEntry<V, E> source;
+        final VertexEntry<V, E> target;
+        volatile double weight;
+
+        EdgeEntry(VertexEntry<V, E> source, VertexEntry<V, E> target)
+        {
+            this.source = source;
+            this.target = target;
+            this.weight = Graph.DEFAULT_EDGE_WEIGHT;
+        }
+
+        boolean connects(VertexEntry<V, E> u, VertexEntry<V, E> v, boolean directed)
+        {
+            if (source == u && target == v) {
+                return true;
+            }
+            return !directed && source == v && target == u;
+        }
+    }
+
+}
@@ -17,8 +17,15 @@
  */
 package org.jgrapht.util;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -68,4 +75,52 @@ public class ConcurrencyUtil
         service.shutdown();
         service.awaitTermination(time, timeUnit);
     }
+
+    /**
+     * Executes the given {@code tasks} using the {@code executor} and waits for all of them to
+     * complete. The results are returned in the same order as the tasks.
+     *
+     * <p>
+     * If a task fails, the remaining tasks are cancelled and the failure is rethrown. Unchecked
+     * exceptions and errors thrown by a task are rethrown as is, checked exceptions are wrapped in
+     * a {@link RuntimeException}. If the calling thread is interrupted while waiting, the
+     * remaining tasks are cancelled, the interrupt status is restored and a
+     * {@link CancellationException} is thrown.
+     *
+     * @param executor the executor to run the tasks
+     * @param tasks the tasks to execute
+     * @return the results of the tasks
+     * @param <T> the result type of the tasks
+     */
+    public static <T> List<T> invokeAll(
+        ExecutorService executor, Collection<? extends Callable<T>> tasks)
+    {
+        List<Future<T>> futures = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            futures.add(executor.submit(task));
+        }
+
+        List<T> results = new ArrayList<>(futures.size());
+        try {
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            CancellationException ce = new CancellationException("Interrupted while waiting");
+            ce.initCause(e);
+            throw ce;
+        } catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+        return results;
+    }
 }
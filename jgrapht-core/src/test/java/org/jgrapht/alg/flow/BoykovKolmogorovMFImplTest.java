@@ -20,12 +20,27 @@ package org.jgrapht.alg.flow;
 import org.jgrapht.Graph;
 import org.jgrapht.Graphs;
 import org.jgrapht.alg.interfaces.MaximumFlowAlgorithm;
+import org.jgrapht.generate.GnmRandomGraphGenerator;
 import org.jgrapht.graph.DefaultDirectedWeightedGraph;
 import org.jgrapht.graph.DefaultUndirectedWeightedGraph;
 import org.jgrapht.graph.DefaultWeightedEdge;
+import org.jgrapht.graph.SimpleDirectedWeightedGraph;
+import org.jgrapht.graph.SimpleWeightedGraph;
+import org.jgrapht.util.SupplierUtil;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Tests for {@link BoykovKolmogorovMFImpl}.
@@ -422,4 +437,134 @@ public class BoykovKolmogorovMFImplTest
     {
         return new BoykovKolmogorovMFImpl<>(network);
     }
+
+    @Test
+    public void testUpdateMaximumFlow()
+    {
+        Random rng = new Random(37);
+        for (int i = 0; i < 40; i++) {
+            Graph<Integer, DefaultWeightedEdge> network = i % 2 == 0
+                ? new SimpleDirectedWeightedGraph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+                : new SimpleWeightedGraph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+                100 + rng.nextInt(200), 1000, rng.nextLong(), false, false).generateGraph(network);
+            for (DefaultWeightedEdge e : network.edgeSet()) {
+                network.setEdgeWeight(e, 1 + rng.nextInt(50));
+            }
+            BoykovKolmogorovMFImpl<Integer, DefaultWeightedEdge> solver =
+                new BoykovKolmogorovMFImpl<>(network);
+            solver.getMaximumFlowValue(0, 1);
+            Map<DefaultWeightedEdge, Double> previous = solver.getFlowMap();
+            Map<DefaultWeightedEdge, Double> previousCopy = new HashMap<>(previous);
+
+            for (int round = 0; round < 10; round++) {
+                List<DefaultWeightedEdge> edges = new ArrayList<>(network.edgeSet());
+                Collections.shuffle(edges, rng);
+                List<DefaultWeightedEdge> changed = edges.subList(0, 1 + rng.nextInt(20));
+                for (DefaultWeightedEdge e : changed) {
+                    network.setEdgeWeight(e, rng.nextInt(4) == 0 ? 0 : rng.nextInt(60));
+                }
+                double expected = new EdmondsKarpMFImpl<>(network).getMaximumFlowValue(0, 1);
+                assertEquals(expected, solver.updateMaximumFlow(changed), EPS);
+                assertValidFlow(network, solver, expected);
+                assertEquals(previousCopy, previous);
+
+                previous = solver.getFlowMap();
+                previousCopy = new HashMap<>(previous);
+            }
+        }
+    }
+
+    @Test
+    public void testUpdateMaximumFlowRemovingSinkCapacity()
+    {
+        Random rng = new Random(43);
+        for (int i = 0; i < 60; i++) {
+            Graph<Integer, DefaultWeightedEdge> network = i % 2 == 0
+                ? new SimpleDirectedWeightedGraph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+                : new SimpleWeightedGraph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            int n = 10 + rng.nextInt(40);
+            new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+                n, 4 * n, rng.nextLong(), false, false).generateGraph(network);
+            for (DefaultWeightedEdge e : network.edgeSet()) {
+                network.setEdgeWeight(e, 1 + rng.nextInt(20));
+            }
+            BoykovKolmogorovMFImpl<Integer, DefaultWeightedEdge> solver =
+                new BoykovKolmogorovMFImpl<>(network);
+            solver.getMaximumFlowValue(0, 1);
+
+            for (int round = 0; round < 10; round++) {
+                // remove most of the capacity into the sink, or raise a few capacities
+                Set<DefaultWeightedEdge> changed = new HashSet<>();
+                if (rng.nextBoolean()) {
+                    for (DefaultWeightedEdge e : network.edgesOf(1)) {
+                        if (rng.nextInt(4) != 0) {
+                            network.setEdgeWeight(e, rng.nextInt(3) == 0 ? 1 : 0);
+                            changed.add(e);
+                        }
+                    }
+                }
+                List<DefaultWeightedEdge> edges = new ArrayList<>(network.edgeSet());
+                for (int k = rng.nextInt(5); k > 0; k--) {
+                    DefaultWeightedEdge e = edges.get(rng.nextInt(edges.size()));
+                    network.setEdgeWeight(e, rng.nextInt(20));
+                    changed.add(e);
+                }
+                double expected =
+                    new BoykovKolmogorovMFImpl<>(network).getMaximumFlowValue(0, 1);
+                assertEquals(expected, solver.updateMaximumFlow(changed), EPS);
+                assertValidFlow(network, solver, expected);
+            }
+        }
+    }
+
+    @Test
+    public void testUpdateMaximumFlowBeforeComputation()
+    {
+        Graph<Integer, DefaultWeightedEdge> network =
+            constructDirected(new int[][] { { 0, 1, 5 } });
+        BoykovKolmogorovMFImpl<Integer, DefaultWeightedEdge> solver =
+            new BoykovKolmogorovMFImpl<>(network);
+        assertThrows(
+            IllegalStateException.class, () -> solver.updateMaximumFlow(network.edgeSet()));
+    }
+
+    private void assertValidFlow(
+        Graph<Integer, DefaultWeightedEdge> network,
+        BoykovKolmogorovMFImpl<Integer, DefaultWeightedEdge> solver, double expected)
+    {
+        Map<DefaultWeightedEdge, Double> flow = solver.getFlowMap();
+        Map<Integer, Double> balance = new HashMap<>();
+        for (DefaultWeightedEdge e : network.edgeSet()) {
+            double f = flow.get(e);
+            assertTrue(f >= -EPS && f <= network.getEdgeWeight(e) + EPS);
+            Integer to = solver.getFlowDirection(e);
+            Integer from = Graphs.getOppositeVertex(network, e, to);
+            balance.merge(from, -f, Double::sum);
+            balance.merge(to, f, Double::sum);
+        }
+        for (Integer v : network.vertexSet()) {
+            double b = balance.getOrDefault(v, 0d);
+            if (v == 0) {
+                assertEquals(-expected, b, EPS);
+            } else if (v == 1) {
+                assertEquals(expected, b, EPS);
+            } else {
+                assertEquals(0d, b, EPS);
+            }
+        }
+        assertTrue(solver.getSourcePartition().contains(0));
+        assertTrue(solver.getSinkPartition().contains(1));
+        assertEquals(
+            expected,
+            solver.getCutEdges().stream().mapToDouble(network::getEdgeWeight).sum(), EPS);
+    }
 }
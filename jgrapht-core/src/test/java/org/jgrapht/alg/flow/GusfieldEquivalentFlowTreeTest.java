@@ -24,6 +24,7 @@ import org.jgrapht.alg.shortestpath.*;
 import org.jgrapht.graph.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -36,6 +37,13 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 public class GusfieldEquivalentFlowTreeTest
     extends GusfieldTreeAlgorithmsTestBase
 {
+    @Override
+    public SimpleWeightedGraph<Integer, DefaultWeightedEdge> computeTree(
+        SimpleWeightedGraph<Integer, DefaultWeightedEdge> network, ThreadPoolExecutor executor)
+    {
+        return new GusfieldEquivalentFlowTree<>(network, executor).getEquivalentFlowTree();
+    }
+
     @Override
     public void validateAlgorithm(SimpleWeightedGraph<Integer, DefaultWeightedEdge> network)
     {
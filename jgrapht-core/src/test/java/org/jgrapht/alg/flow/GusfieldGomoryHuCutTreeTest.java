@@ -24,6 +24,7 @@ import org.jgrapht.alg.shortestpath.*;
 import org.jgrapht.graph.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -37,6 +38,13 @@ public class GusfieldGomoryHuCutTreeTest
     extends GusfieldTreeAlgorithmsTestBase
 {
 
+    @Override
+    public SimpleWeightedGraph<Integer, DefaultWeightedEdge> computeTree(
+        SimpleWeightedGraph<Integer, DefaultWeightedEdge> network, ThreadPoolExecutor executor)
+    {
+        return new GusfieldGomoryHuCutTree<>(network, executor).getGomoryHuTree();
+    }
+
     @Override
     public void validateAlgorithm(SimpleWeightedGraph<Integer, DefaultWeightedEdge> network)
     {
@@ -24,6 +24,9 @@ import org.jgrapht.util.*;
 import org.junit.jupiter.api.*;
 
 import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 /**
  * Test base class for the GusfieldGomoryHuCutTree and GusfieldEquivalentFlow implementations
@@ -36,6 +39,9 @@ public abstract class GusfieldTreeAlgorithmsTestBase
     public abstract void validateAlgorithm(
         SimpleWeightedGraph<Integer, DefaultWeightedEdge> network);
 
+    public abstract SimpleWeightedGraph<Integer, DefaultWeightedEdge> computeTree(
+        SimpleWeightedGraph<Integer, DefaultWeightedEdge> network, ThreadPoolExecutor executor);
+
     /**
      * Triangle graph example from the paper <it>Very simple methods for all pairs network flow
      * analysis</it> by Dan gusfield (Figure 1)
@@ -161,4 +167,70 @@ public abstract class GusfieldTreeAlgorithmsTestBase
             validateAlgorithm(randomGraph);
         }
     }
+
+    @Test
+    public void testParallelConstruction()
+        throws InterruptedException
+    {
+        ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+        Random rand = new Random(0);
+        try {
+            for (int i = 0; i < 5; i++) {
+                SimpleWeightedGraph<Integer,
+                    DefaultWeightedEdge> randomGraph = new SimpleWeightedGraph<>(
+                        SupplierUtil.createIntegerSupplier(),
+                        SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+                new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+                    300, 1200, rand.nextLong()).generateGraph(randomGraph);
+                for (DefaultWeightedEdge edge : randomGraph.edgeSet())
+                    randomGraph.setEdgeWeight(edge, rand.nextInt(150));
+
+                // the parallel construction commits the cuts of the sequential algorithm
+                SimpleWeightedGraph<Integer, DefaultWeightedEdge> expected =
+                    computeTree(randomGraph, null);
+                SimpleWeightedGraph<Integer, DefaultWeightedEdge> tree =
+                    computeTree(randomGraph, executor);
+                assertEquals(treeEdges(expected), treeEdges(tree));
+            }
+        } finally {
+            ConcurrencyUtil.shutdownExecutionService(executor);
+        }
+    }
+
+    @Test
+    public void testParallelConstructionUnboundedPool()
+        throws InterruptedException
+    {
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) Executors.newCachedThreadPool();
+        try {
+            SimpleWeightedGraph<Integer, DefaultWeightedEdge> randomGraph =
+                new SimpleWeightedGraph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(50, 200, 0)
+                .generateGraph(randomGraph);
+            Random rand = new Random(0);
+            for (DefaultWeightedEdge edge : randomGraph.edgeSet())
+                randomGraph.setEdgeWeight(edge, rand.nextInt(150));
+
+            assertEquals(
+                treeEdges(computeTree(randomGraph, null)),
+                treeEdges(computeTree(randomGraph, executor)));
+        } finally {
+            ConcurrencyUtil.shutdownExecutionService(executor);
+        }
+    }
+
+    private static Set<List<Double>> treeEdges(
+        SimpleWeightedGraph<Integer, DefaultWeightedEdge> tree)
+    {
+        Set<List<Double>> edges = new HashSet<>();
+        for (DefaultWeightedEdge e : tree.edgeSet()) {
+            int u = tree.getEdgeSource(e);
+            int v = tree.getEdgeTarget(e);
+            double weight = tree.getEdgeWeight(e);
+            edges.add(Arrays.asList((double) Math.min(u, v), (double) Math.max(u, v), weight));
+        }
+        return edges;
+    }
 }
@@ -278,4 +278,62 @@ public abstract class MaximumFlowAlgorithmTest
     {
         runTestUndirected(getUndirectedN9(), 1, 2, 0);
     }
+
+    @Test
+    public void testCapacityChangeBetweenInvocations()
+    {
+        Graph<Integer, DefaultWeightedEdge> network =
+            new DefaultDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(network, Arrays.asList(0, 1, 2, 3));
+        DefaultWeightedEdge e01 = Graphs.addEdge(network, 0, 1, 3);
+        DefaultWeightedEdge e13 = Graphs.addEdge(network, 1, 3, 2);
+        Graphs.addEdge(network, 0, 2, 1);
+        Graphs.addEdge(network, 2, 3, 4);
+        Graphs.addEdge(network, 2, 1, 2);
+        Graphs.addEdge(network, 1, 2, 3);
+
+        MaximumFlowAlgorithm<Integer, DefaultWeightedEdge> solver = createSolver(network);
+        MaximumFlowAlgorithm.MaximumFlow<DefaultWeightedEdge> first = solver.getMaximumFlow(0, 3);
+        verifyDirected(0, 3, 4, network, first);
+        double firstFlow = first.getFlowMap().get(e13);
+
+        network.setEdgeWeight(e01, 5);
+        network.setEdgeWeight(e13, 1);
+        verifyDirected(0, 3, 5, network, solver.getMaximumFlow(0, 3));
+
+        // the flow of a previous invocation is not affected
+        assertEquals(firstFlow, first.getFlowMap().get(e13), 0d);
+        assertEquals(4, first.getValue(), 0d);
+
+        network.addVertex(4);
+        Graphs.addEdge(network, 0, 4, 2);
+        Graphs.addEdge(network, 4, 3, 2);
+        verifyDirected(0, 3, 7, network, solver.getMaximumFlow(0, 3));
+        verifyDirected(3, 0, 0, network, solver.getMaximumFlow(3, 0));
+    }
+
+    @Test
+    public void testReuseAfterReplacingEdgesAndVertices()
+    {
+        Graph<Integer, DefaultWeightedEdge> network =
+            new DefaultDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(network, Arrays.asList(0, 1, 2));
+        DefaultWeightedEdge e02 = Graphs.addEdge(network, 0, 2, 5);
+
+        MaximumFlowAlgorithm<Integer, DefaultWeightedEdge> solver = createSolver(network);
+        assertEquals(0d, solver.getMaximumFlowValue(0, 1), 0d);
+
+        // the number of vertices and edges does not change
+        network.removeEdge(e02);
+        DefaultWeightedEdge e01 = Graphs.addEdge(network, 0, 1, 7);
+        verifyDirected(0, 1, 7, network, solver.getMaximumFlow(0, 1));
+        assertEquals(Collections.singleton(e01), solver.getFlowMap().keySet());
+
+        network.removeVertex(2);
+        Graphs.addEdgeWithVertices(network, 1, 3, 4);
+        network.removeEdge(e01);
+        Graphs.addEdge(network, 0, 3, 6);
+        verifyDirected(0, 1, 0, network, solver.getMaximumFlow(0, 1));
+        verifyDirected(0, 3, 6, network, solver.getMaximumFlow(0, 3));
+    }
 }
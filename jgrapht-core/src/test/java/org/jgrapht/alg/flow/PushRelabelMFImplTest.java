@@ -19,10 +19,17 @@ package org.jgrapht.alg.flow;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.generate.netgen.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
 import org.junit.jupiter.api.*;
 
+import java.util.*;
+import java.util.concurrent.*;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class PushRelabelMFImplTest
     extends MaximumFlowAlgorithmTest
@@ -92,4 +99,223 @@ public class PushRelabelMFImplTest
         double flow = mf1.getMaximumFlowValue(sourceFlow, sinkFlow);
         assertEquals(0.0, flow, 0);
     }
+
+    @Test
+    public void testStrategiesOnNetgenNetworks()
+        throws InterruptedException
+    {
+        ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+        Random rng = new Random(17);
+        try {
+            for (int i = 0; i < 20; i++) {
+                int n = 50 + rng.nextInt(1000);
+                NetworkGeneratorConfig config = new NetworkGeneratorConfigBuilder()
+                    .setMaximumFlowProblemParams(n, 10 * n, 1000 * n, 1, 100, 5, 5).build();
+                Graph<Integer, DefaultEdge> graph = new DefaultDirectedGraph<>(
+                    SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+                    false);
+                MaximumFlowProblem<Integer, DefaultEdge> problem =
+                    new NetworkGenerator<Integer, DefaultEdge>(config, rng.nextLong())
+                        .generateMaxFlowProblem(graph).toSingleSourceSingleSinkProblem();
+
+                Graph<Integer, DefaultWeightedEdge> network =
+                    new DefaultDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+                Graphs.addAllVertices(network, graph.vertexSet());
+                for (DefaultEdge e : graph.edgeSet()) {
+                    DefaultWeightedEdge we =
+                        network.addEdge(graph.getEdgeSource(e), graph.getEdgeTarget(e));
+                    if (we != null) {
+                        network.setEdgeWeight(
+                            we, Math.min(1e9, problem.getCapacities().apply(e)));
+                    }
+                }
+                assertStrategies(network, problem.getSource(), problem.getSink(), executor);
+            }
+
+            for (int i = 0; i < 20; i++) {
+                Graph<Integer, DefaultWeightedEdge> network = new SimpleWeightedGraph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+                new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+                    2000, 8000, rng.nextLong()).generateGraph(network);
+                for (DefaultWeightedEdge e : network.edgeSet()) {
+                    network.setEdgeWeight(e, 1 + rng.nextInt(100));
+                }
+                assertStrategies(network, 0, 1, executor);
+            }
+        } finally {
+            ConcurrencyUtil.shutdownExecutionService(executor);
+        }
+    }
+
+    private void assertStrategies(
+        Graph<Integer, DefaultWeightedEdge> network, Integer source, Integer sink,
+        ThreadPoolExecutor executor)
+    {
+        double expected = new EdmondsKarpMFImpl<>(network).getMaximumFlowValue(source, sink);
+
+        List<PushRelabelMFImpl<Integer, DefaultWeightedEdge>> solvers = Arrays
+            .asList(
+                new PushRelabelMFImpl<>(network, PushRelabelStrategy.FIFO, null),
+                new PushRelabelMFImpl<>(network, PushRelabelStrategy.HIGHEST_LABEL, null),
+                new PushRelabelMFImpl<>(network, PushRelabelStrategy.PARALLEL, null),
+                new PushRelabelMFImpl<>(network, PushRelabelStrategy.PARALLEL, executor));
+        for (PushRelabelMFImpl<Integer, DefaultWeightedEdge> solver : solvers) {
+            MaximumFlowAlgorithm.MaximumFlow<DefaultWeightedEdge> flow =
+                solver.getMaximumFlow(source, sink);
+            assertEquals(expected, flow.getValue(), 1e-6);
+
+            Map<Integer, Double> balance = new HashMap<>();
+            for (DefaultWeightedEdge e : network.edgeSet()) {
+                double f = flow.getFlowMap().get(e);
+                assertTrue(f >= -1e-9 && f <= network.getEdgeWeight(e) + 1e-9);
+                Integer to = solver.getFlowDirection(e);
+                Integer from = Graphs.getOppositeVertex(network, e, to);
+                balance.merge(from, -f, Double::sum);
+                balance.merge(to, f, Double::sum);
+            }
+            for (Integer v : network.vertexSet()) {
+                double b = balance.getOrDefault(v, 0d);
+                if (v.equals(source)) {
+                    assertEquals(-expected, b, 1e-6);
+                } else if (v.equals(sink)) {
+                    assertEquals(expected, b, 1e-6);
+                } else {
+                    assertEquals(0d, b, 1e-6);
+                }
+            }
+            assertEquals(expected, solver.calculateMinCut(source, sink), 1e-6);
+        }
+    }
+
+    @Test
+    public void testUpdateMaximumFlow()
+    {
+        Random rng = new Random(31);
+        for (int i = 0; i < 40; i++) {
+            Graph<Integer, DefaultWeightedEdge> network = i % 2 == 0
+                ? new DirectedWeightedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+                : new WeightedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+                100 + rng.nextInt(200), 1000, rng.nextLong(), true, true).generateGraph(network);
+            for (DefaultWeightedEdge e : network.edgeSet()) {
+                network.setEdgeWeight(e, 1 + rng.nextInt(50));
+            }
+            PushRelabelStrategy strategy =
+                PushRelabelStrategy.values()[i % PushRelabelStrategy.values().length];
+            PushRelabelMFImpl<Integer, DefaultWeightedEdge> solver =
+                new PushRelabelMFImpl<>(network, strategy, null);
+            solver.getMaximumFlowValue(0, 1);
+            Map<DefaultWeightedEdge, Double> previous = solver.getFlowMap();
+            Map<DefaultWeightedEdge, Double> previousCopy = new HashMap<>(previous);
+
+            for (int round = 0; round < 10; round++) {
+                List<DefaultWeightedEdge> edges = new ArrayList<>(network.edgeSet());
+                Collections.shuffle(edges, rng);
+                List<DefaultWeightedEdge> changed = edges.subList(0, 1 + rng.nextInt(20));
+                for (DefaultWeightedEdge e : changed) {
+                    network.setEdgeWeight(e, rng.nextInt(4) == 0 ? 0 : rng.nextInt(60));
+                }
+                double expected = new EdmondsKarpMFImpl<>(network).getMaximumFlowValue(0, 1);
+                assertEquals(expected, solver.updateMaximumFlow(changed), 1e-6);
+                assertValidFlow(network, solver, 0, 1, expected);
+                assertEquals(previousCopy, previous);
+
+                previous = solver.getFlowMap();
+                previousCopy = new HashMap<>(previous);
+            }
+        }
+    }
+
+    @Test
+    public void testUpdateMaximumFlowAllStrategies()
+    {
+        Random rng = new Random(43);
+        for (int i = 0; i < 60; i++) {
+            Graph<Integer, DefaultWeightedEdge> network = i % 2 == 0
+                ? new DirectedWeightedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+                : new WeightedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            int n = 10 + rng.nextInt(40);
+            new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+                n, 4 * n, rng.nextLong(), false, true).generateGraph(network);
+            for (DefaultWeightedEdge e : network.edgeSet()) {
+                network.setEdgeWeight(e, 1 + rng.nextInt(20));
+            }
+
+            Map<PushRelabelStrategy, PushRelabelMFImpl<Integer, DefaultWeightedEdge>> solvers =
+                new EnumMap<>(PushRelabelStrategy.class);
+            for (PushRelabelStrategy strategy : PushRelabelStrategy.values()) {
+                PushRelabelMFImpl<Integer, DefaultWeightedEdge> solver =
+                    new PushRelabelMFImpl<>(network, strategy, null);
+                solver.getMaximumFlowValue(0, 1);
+                solvers.put(strategy, solver);
+            }
+
+            for (int round = 0; round < 10; round++) {
+                // remove most of the capacity into the sink, or raise a few capacities
+                Set<DefaultWeightedEdge> changed = new HashSet<>();
+                if (rng.nextBoolean()) {
+                    for (DefaultWeightedEdge e : network.edgesOf(1)) {
+                        if (rng.nextInt(4) != 0) {
+                            network.setEdgeWeight(e, rng.nextInt(3) == 0 ? 1 : 0);
+                            changed.add(e);
+                        }
+                    }
+                }
+                List<DefaultWeightedEdge> edges = new ArrayList<>(network.edgeSet());
+                for (int k = rng.nextInt(5); k > 0; k--) {
+                    DefaultWeightedEdge e = edges.get(rng.nextInt(edges.size()));
+                    network.setEdgeWeight(e, rng.nextInt(20));
+                    changed.add(e);
+                }
+                for (PushRelabelStrategy strategy : PushRelabelStrategy.values()) {
+                    double expected = new PushRelabelMFImpl<>(network, strategy, null)
+                        .getMaximumFlowValue(0, 1);
+                    PushRelabelMFImpl<Integer, DefaultWeightedEdge> solver = solvers.get(strategy);
+                    assertEquals(expected, solver.updateMaximumFlow(changed), 1e-6);
+                    assertValidFlow(network, solver, 0, 1, expected);
+                }
+            }
+        }
+    }
+
+    private void assertValidFlow(
+        Graph<Integer, DefaultWeightedEdge> network,
+        MaximumFlowAlgorithmBase<Integer, DefaultWeightedEdge> solver, Integer source,
+        Integer sink, double expected)
+    {
+        Map<DefaultWeightedEdge, Double> flow = solver.getFlowMap();
+        Map<Integer, Double> balance = new HashMap<>();
+        for (DefaultWeightedEdge e : network.edgeSet()) {
+            double f = flow.get(e);
+            assertTrue(f >= -1e-9 && f <= network.getEdgeWeight(e) + 1e-9);
+            Integer to = solver.getFlowDirection(e);
+            Integer from = Graphs.getOppositeVertex(network, e, to);
+            balance.merge(from, -f, Double::sum);
+            balance.merge(to, f, Double::sum);
+        }
+        for (Integer v : network.vertexSet()) {
+            double b = balance.getOrDefault(v, 0d);
+            if (v.equals(source)) {
+                assertEquals(-expected, b, 1e-6);
+            } else if (v.equals(sink)) {
+                assertEquals(expected, b, 1e-6);
+            } else {
+                assertEquals(0d, b, 1e-6);
+            }
+        }
+        assertTrue(solver.getSourcePartition().contains(source));
+        assertTrue(solver.getSinkPartition().contains(sink));
+        assertEquals(
+            expected,
+            solver.getCutEdges().stream().mapToDouble(network::getEdgeWeight).sum(), 1e-6);
+    }
 }
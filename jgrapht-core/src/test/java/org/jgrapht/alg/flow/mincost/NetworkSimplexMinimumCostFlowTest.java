@@ -0,0 +1,210 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.flow.mincost;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.MinimumCostFlowAlgorithm.*;
+import org.jgrapht.generate.netgen.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link NetworkSimplexMinimumCostFlow}
+ *
+ * @author agent
+ */
+public class NetworkSimplexMinimumCostFlowTest
+{
+    private static final double EPS = 1e-9;
+
+    @Test
+    public void testGetMinimumCostFlow1()
+    {
+        int[][] testCase = new int[][] { { 1, 3 }, { 2, -3 }, { 1, 2, 0, 4, 5 } };
+        test(testCase, 15);
+    }
+
+    @Test
+    public void testGetMinimumCostFlow2()
+    {
+        int[][] testCase = new int[][] { { 1, 4 }, { 4, -4 }, { 1, 2, 0, 4, 2 }, { 1, 3, 0, 1, 3 },
+            { 2, 3, 0, 1, 1 }, { 2, 4, 0, 5, 6 }, { 3, 4, 0, 4, 2 } };
+        test(testCase, 26);
+    }
+
+    @Test
+    public void testGetMinimumCostFlow3()
+    {
+        int[][] testCase =
+            new int[][] { { 1, 2 }, { 2, 5 }, { 6, -7 }, { 1, 5, 0, 3, 6 }, { 3, 6, 0, 3, 9 },
+                { 3, 1, 0, 3, 6 }, { 5, 3, 0, 3, 4 }, { 5, 6, 0, 7, 4 }, { 2, 4, 0, 5, 10 },
+                { 2, 3, 0, 1, 3 }, { 4, 6, 0, 5, 10 }, { 4, 1, 0, 5, 3 }, { 4, 3, 0, 1, 8 }, };
+        test(testCase, 112);
+    }
+
+    @Test
+    public void testLowerCapacitiesAndNegativeCosts()
+    {
+        int[][] testCase = new int[][] { { 1, 2731 }, { 2, 414 }, { 3, -1264 }, { 4, 216 },
+            { 5, -1785 }, { 6, -312 }, { 1, 4, 910, 2147483647, 10 }, { 1, 5, 957, 2147483647, 1 },
+            { 1, 3, 863, 2147483647, 3 }, { 3, 5, 1, 1, -5 }, { 3, 6, 1, 1, 10 }, { 3, 4, 1, 9, 2 },
+            { 4, 3, 1, 1, 8 }, { 4, 5, 820, 2147483647, 4 }, { 4, 6, 306, 2147483647, 7 },
+            { 2, 5, 1, 9, 7 }, { 2, 6, 1, 9, 10 }, { 2, 3, 403, 2147483647, 6 }, };
+        test(testCase, 20594);
+    }
+
+    @Test
+    public void testSelfLoopsAndNegativeCostInfiniteArcs()
+    {
+        // the self-loop with negative cost is saturated, the other one is empty
+        int[][] testCase = new int[][] { { 1, 5 }, { 3, -5 }, { 1, 2, 0, 2147483647, 3 },
+            { 2, 3, 0, 2147483647, -1 }, { 2, 2, 0, 4, -2 }, { 3, 3, 0, 4, 1 } };
+        test(testCase, 2 * 5 - 2 * 4);
+    }
+
+    @Test
+    public void testInfeasibleProblem()
+    {
+        int[][] testCase =
+            new int[][] { { 1, 5 }, { 3, -5 }, { 1, 2, 0, 3, 1 }, { 2, 3, 0, 4, 1 } };
+        assertThrows(IllegalArgumentException.class, () -> test(testCase, 0));
+    }
+
+    @Test
+    public void testUnboundedProblem()
+    {
+        int[][] testCase = new int[][] { { 1, 1 }, { 3, -1 }, { 1, 2, 0, 1, 1 },
+            { 2, 3, 0, 2147483647, -2 }, { 3, 2, 0, 2147483647, 1 } };
+        assertThrows(IllegalArgumentException.class, () -> test(testCase, 0));
+    }
+
+    @Test
+    public void testNetgenNetworks()
+    {
+        Random rng = new Random(17);
+        for (int i = 0; i < 30; i++) {
+            int n = 20 + rng.nextInt(500);
+            NetworkGeneratorConfig config = new NetworkGeneratorConfigBuilder()
+                .setParams(
+                    n, n * (2 + rng.nextInt(8)), 1 + rng.nextInt(5), 1 + rng.nextInt(5), 0, 0,
+                    10 * n, 1, 100, -20 + rng.nextInt(20), 100, 70, 0)
+                .build();
+            Graph<Integer, DefaultEdge> generated = new DefaultDirectedGraph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+            MinimumCostFlowProblem<Integer, DefaultEdge> generatedProblem =
+                new NetworkGenerator<Integer, DefaultEdge>(config, rng.nextLong())
+                    .generateMinimumCostFlowProblem(generated);
+
+            // the capacity scaling algorithm reads the costs from the edge weights
+            Graph<Integer, DefaultWeightedEdge> graph =
+                new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+            Graphs.addAllVertices(graph, generated.vertexSet());
+            Map<DefaultWeightedEdge, Integer> upperMap = new HashMap<>();
+            for (DefaultEdge e : generated.edgeSet()) {
+                DefaultWeightedEdge edge = Graphs.addEdge(
+                    graph, generated.getEdgeSource(e), generated.getEdgeTarget(e),
+                    generatedProblem.getArcCosts().apply(e));
+                upperMap.put(edge, generatedProblem.getArcCapacityUpperBounds().apply(e));
+            }
+            MinimumCostFlowProblem<Integer, DefaultWeightedEdge> problem =
+                new MinimumCostFlowProblem.MinimumCostFlowProblemImpl<>(
+                    graph, generatedProblem.getNodeSupply(), upperMap::get);
+
+            double expected = new CapacityScalingMinimumCostFlow<Integer, DefaultWeightedEdge>()
+                .getMinimumCostFlow(problem).getCost();
+            test(problem, expected);
+        }
+    }
+
+    private void test(int[][] testCase, double cost)
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Map<Integer, Integer> supplyMap = new HashMap<>();
+        Map<DefaultWeightedEdge, Integer> lowerMap = new HashMap<>();
+        Map<DefaultWeightedEdge, Integer> upperMap = new HashMap<>();
+        for (int[] data : testCase) {
+            if (data.length == 2) {
+                // this is information about a supply of a node
+                graph.addVertex(data[0]);
+                supplyMap.put(data[0], data[1]);
+            } else {
+                // this is information about an edge
+                DefaultWeightedEdge edge =
+                    Graphs.addEdgeWithVertices(graph, data[0], data[1], data[4]);
+                lowerMap.put(edge, data[2]);
+                upperMap.put(edge, data[3]);
+            }
+        }
+        MinimumCostFlowProblem<Integer,
+            DefaultWeightedEdge> problem = new MinimumCostFlowProblem.MinimumCostFlowProblemImpl<>(
+                graph, v -> supplyMap.getOrDefault(v, 0), upperMap::get,
+                e -> lowerMap.getOrDefault(e, 0));
+        test(problem, cost);
+    }
+
+    private <V, E> void test(MinimumCostFlowProblem<V, E> problem, double cost)
+    {
+        NetworkSimplexMinimumCostFlow<V, E> algorithm = new NetworkSimplexMinimumCostFlow<>();
+        MinimumCostFlow<E> flow = algorithm.getMinimumCostFlow(problem);
+        assertEquals(cost, flow.getCost(), EPS);
+        assertTrue(checkFlowAndDualSolution(algorithm.getDualSolution(), flow, problem));
+    }
+
+    private <V, E> boolean checkFlowAndDualSolution(
+        Map<V, Double> dualVariables, MinimumCostFlow<E> flow, MinimumCostFlowProblem<V, E> problem)
+    {
+        Graph<V, E> graph = problem.getGraph();
+        // check supply constraints
+        for (V vertex : graph.vertexSet()) {
+            long balance = 0;
+            for (E edge : graph.outgoingEdgesOf(vertex)) {
+                balance += flow.getFlow(edge);
+            }
+            for (E edge : graph.incomingEdgesOf(vertex)) {
+                balance -= flow.getFlow(edge);
+            }
+            if (balance != problem.getNodeSupply().apply(vertex)) {
+                return false;
+            }
+        }
+        // check capacity constraints and complementary slackness
+        for (E edge : graph.edgeSet()) {
+            double f = flow.getFlow(edge);
+            int lower = problem.getArcCapacityLowerBounds().apply(edge);
+            int upper = problem.getArcCapacityUpperBounds().apply(edge);
+            if (f < lower || f > upper) {
+                return false;
+            }
+            double reducedCost = problem.getArcCosts().apply(edge)
+                + dualVariables.get(graph.getEdgeTarget(edge))
+                - dualVariables.get(graph.getEdgeSource(edge));
+            if ((f < upper && reducedCost < -EPS) || (f > lower && reducedCost > EPS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.scoring;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ApproximateBetweennessCentrality}
+ * 
+ * @author agent
+ */
+public class ApproximateBetweennessCentralityTest
+{
+
+    @Test
+    public void testAllSourcesIsExact()
+    {
+        Graph<Integer, DefaultEdge> g = randomGraph(false, 100, 300);
+
+        Map<Integer, Double> exact = new BetweennessCentrality<>(g, true).getScores();
+        ApproximateBetweennessCentrality<Integer, DefaultEdge> approx =
+            new ApproximateBetweennessCentrality<>(g, 1000, true, new Random(17), null);
+
+        assertEquals(100, approx.getNumberOfSamples());
+        for (Integer v : g.vertexSet()) {
+            assertEquals(exact.get(v), approx.getVertexScore(v), 1e-9);
+        }
+    }
+
+    @Test
+    public void testSourceSampling()
+        throws InterruptedException
+    {
+        Graph<Integer, DefaultEdge> g = randomGraph(true, 300, 1500);
+        Map<Integer, Double> exact = new BetweennessCentrality<>(g).getScores();
+
+        ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+        try {
+            ApproximateBetweennessCentrality<Integer, DefaultEdge> approx =
+                new ApproximateBetweennessCentrality<>(g, 150, false, new Random(17), executor);
+            assertEquals(150, approx.getNumberOfSamples());
+
+            double exactSum = exact.values().stream().mapToDouble(Double::doubleValue).sum();
+            double approxSum =
+                approx.getScores().values().stream().mapToDouble(Double::doubleValue).sum();
+            assertEquals(exactSum, approxSum, 0.1 * exactSum);
+        } finally {
+            ConcurrencyUtil.shutdownExecutionService(executor);
+        }
+    }
+
+    @Test
+    public void testUnboundedPool()
+        throws InterruptedException
+    {
+        Graph<Integer, DefaultEdge> g = randomGraph(false, 100, 300);
+
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) Executors.newCachedThreadPool();
+        try {
+            ApproximateBetweennessCentrality<Integer, DefaultEdge> approx =
+                new ApproximateBetweennessCentrality<>(
+                    g, 0.1, 0.1, false, new Random(17), executor);
+            assertTrue(approx.getNumberOfSamples() > 0);
+            assertEquals(100, approx.getScores().size());
+        } finally {
+            ConcurrencyUtil.shutdownExecutionService(executor);
+        }
+    }
+
+    @Test
+    public void testErrorBound()
+        throws InterruptedException
+    {
+        double epsilon = 0.02;
+        for (boolean directed : new boolean[] { false, true }) {
+            Graph<Integer, DefaultEdge> g = randomGraph(directed, 200, 600);
+            int n = g.vertexSet().size();
+            double pairs = directed ? n * (n - 1) : n * (n - 1) / 2d;
+            Map<Integer, Double> exact = new BetweennessCentrality<>(g).getScores();
+
+            ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+            try {
+                ApproximateBetweennessCentrality<Integer, DefaultEdge> approx =
+                    new ApproximateBetweennessCentrality<>(
+                        g, epsilon, 0.1, false, new Random(17), executor);
+                assertTrue(approx.getNumberOfSamples() > 0);
+                for (Integer v : g.vertexSet()) {
+                    double error = Math.abs(exact.get(v) - approx.getVertexScore(v)) / pairs;
+                    assertTrue(error <= epsilon);
+                }
+            } finally {
+                ConcurrencyUtil.shutdownExecutionService(executor);
+            }
+        }
+    }
+
+    @Test
+    public void testPath()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        Graphs.addEdgeWithVertices(g, 0, 1);
+        Graphs.addEdgeWithVertices(g, 1, 2);
+
+        ApproximateBetweennessCentrality<Integer, DefaultEdge> approx =
+            new ApproximateBetweennessCentrality<>(g, 0.1, 0.1, false, new Random(17), null);
+
+        // only the middle vertex has a non-zero score, which is exactly 1 since every sample
+        // between the two endpoints passes through it
+        assertEquals(0d, approx.getVertexScore(0), 1e-9);
+        assertEquals(0d, approx.getVertexScore(2), 1e-9);
+        assertEquals(1d, approx.getVertexScore(1), 0.3);
+    }
+
+    @Test
+    public void testBadParameters()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new ApproximateBetweennessCentrality<>(g, 0, false, new Random(), null));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new ApproximateBetweennessCentrality<>(g, 0d, 0.1, false, new Random(), null));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new ApproximateBetweennessCentrality<>(g, 0.1, 1d, false, new Random(), null));
+    }
+
+    private static Graph<Integer, DefaultEdge> randomGraph(boolean directed, int n, int m)
+    {
+        Graph<Integer, DefaultEdge> g = directed
+            ? new SimpleDirectedGraph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false)
+            : new SimpleGraph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(n, m, 17).generateGraph(g);
+        return g;
+    }
+
+}
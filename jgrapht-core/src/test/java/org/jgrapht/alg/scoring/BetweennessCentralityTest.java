@@ -26,6 +26,7 @@ import org.jgrapht.util.*;
 import org.junit.jupiter.api.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -585,4 +586,39 @@ public class BetweennessCentralityTest
         assertEquals(scores.get(3290), 0d, 1e-9);
     }
 
+    @Test
+    public void testParallel()
+        throws InterruptedException
+    {
+        ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+        try {
+            for (boolean directed : new boolean[] { false, true }) {
+                for (boolean weighted : new boolean[] { false, true }) {
+                    Graph<Integer, DefaultWeightedEdge> g = directed
+                        ? new DirectedWeightedPseudograph<>(
+                            SupplierUtil.createIntegerSupplier(),
+                            SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+                        : new WeightedPseudograph<>(
+                            SupplierUtil.createIntegerSupplier(),
+                            SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+                    new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(200, 800, 7)
+                        .generateGraph(g);
+                    Random rng = new Random(7);
+                    g.edgeSet().forEach(e -> g.setEdgeWeight(e, weighted ? rng.nextInt(3) : 1d));
+
+                    Map<Integer, Double> sequential =
+                        new BetweennessCentrality<>(g, true).getScores();
+                    Map<Integer, Double> parallel = new BetweennessCentrality<>(
+                        g, true, OverflowStrategy.IGNORE_OVERFLOW, executor).getScores();
+
+                    for (Integer v : g.vertexSet()) {
+                        assertEquals(sequential.get(v), parallel.get(v), 1e-9);
+                    }
+                }
+            }
+        } finally {
+            ConcurrencyUtil.shutdownExecutionService(executor);
+        }
+    }
+
 }
@@ -19,9 +19,13 @@ package org.jgrapht.alg.scoring;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
 import org.junit.jupiter.api.*;
 
+import java.util.concurrent.*;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 /**
@@ -158,6 +162,39 @@ public class ClosenessCentralityTest
         assertEquals(Double.POSITIVE_INFINITY, pr.getVertexScore("1"), 1e-9);
     }
 
+    @Test
+    public void testBreadthFirstSearchSameAsDijkstra()
+        throws InterruptedException
+    {
+        ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+        try {
+            Graph<Integer, DefaultEdge> g = new DefaultDirectedGraph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+            new GnmRandomGraphGenerator<Integer, DefaultEdge>(300, 1500, 17).generateGraph(g);
+            // the weighted view forces the computation using Dijkstra
+            Graph<Integer, DefaultEdge> weighted = new AsWeightedGraph<>(g, e -> 1d, true, false);
+
+            for (boolean incoming : new boolean[] { false, true }) {
+                VertexScoringAlgorithm<Integer, Double> expectedCloseness =
+                    new ClosenessCentrality<>(weighted, incoming, true);
+                VertexScoringAlgorithm<Integer, Double> expectedHarmonic =
+                    new HarmonicCentrality<>(weighted, incoming, true);
+                VertexScoringAlgorithm<Integer, Double> closeness =
+                    new ClosenessCentrality<>(g, incoming, true, executor);
+                VertexScoringAlgorithm<Integer, Double> harmonic =
+                    new HarmonicCentrality<>(g, incoming, true, executor);
+                for (Integer v : g.vertexSet()) {
+                    assertEquals(
+                        expectedCloseness.getVertexScore(v), closeness.getVertexScore(v), 1e-9);
+                    assertEquals(
+                        expectedHarmonic.getVertexScore(v), harmonic.getVertexScore(v), 1e-9);
+                }
+            }
+        } finally {
+            ConcurrencyUtil.shutdownExecutionService(executor);
+        }
+    }
+
     private Graph<String, DefaultEdge> createInstance1()
     {
         DirectedPseudograph<String, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
@@ -20,11 +20,18 @@ package org.jgrapht.alg.scoring;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import org.jgrapht.Graph;
 import org.jgrapht.alg.scoring.EdgeBetweennessCentrality.OverflowStrategy;
+import org.jgrapht.generate.GnmRandomGraphGenerator;
 import org.jgrapht.graph.DefaultEdge;
+import org.jgrapht.graph.DefaultGraphType;
+import org.jgrapht.graph.DefaultWeightedEdge;
 import org.jgrapht.graph.builder.GraphTypeBuilder;
+import org.jgrapht.util.ConcurrencyUtil;
 import org.jgrapht.util.SupplierUtil;
 import org.junit.jupiter.api.Test;
 
@@ -236,4 +243,42 @@ public class EdgeBetweennessCentralityTest
         assertEquals(5.0, ebc.getEdgeScore(edgeFG), 1e-9);
     }
 
+    @Test
+    public void testParallel()
+        throws InterruptedException
+    {
+        ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+        try {
+            for (boolean directed : new boolean[] { false, true }) {
+                for (boolean weighted : new boolean[] { false, true }) {
+                    Graph<Integer,
+                        DefaultWeightedEdge> g = GraphTypeBuilder
+                            .<Integer, DefaultWeightedEdge> forGraphType(
+                                directed ? DefaultGraphType.simple().asDirected()
+                                    : DefaultGraphType.simple())
+                            .weighted(weighted)
+                            .edgeSupplier(SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+                            .vertexSupplier(SupplierUtil.createIntegerSupplier()).buildGraph();
+                    new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(200, 800, 7)
+                        .generateGraph(g);
+                    if (weighted) {
+                        Random rng = new Random(7);
+                        g.edgeSet().forEach(e -> g.setEdgeWeight(e, rng.nextInt(3)));
+                    }
+
+                    Map<DefaultWeightedEdge, Double> sequential =
+                        new EdgeBetweennessCentrality<>(g).getScores();
+                    Map<DefaultWeightedEdge, Double> parallel = new EdgeBetweennessCentrality<>(
+                        g, OverflowStrategy.IGNORE_OVERFLOW, null, executor).getScores();
+
+                    for (DefaultWeightedEdge e : g.edgeSet()) {
+                        assertEquals(sequential.get(e), parallel.get(e), 1e-9);
+                    }
+                }
+            }
+        } finally {
+            ConcurrencyUtil.shutdownExecutionService(executor);
+        }
+    }
+
 }
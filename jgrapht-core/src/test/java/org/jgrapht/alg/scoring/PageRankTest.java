@@ -17,10 +17,16 @@
  */
 package org.jgrapht.alg.scoring;
 
+import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
 import org.junit.jupiter.api.*;
 
+import java.util.*;
+import java.util.concurrent.*;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -164,6 +170,42 @@ public class PageRankTest
         assertEquals(pr.getVertexScore("5"), 0.0373, 0.0001);
     }
 
+    @Test
+    public void testUndirectedSelfLoop()
+    {
+        Pseudograph<Integer, DefaultEdge> g = new Pseudograph<>(DefaultEdge.class);
+        Graphs.addEdgeWithVertices(g, 0, 1);
+        Graphs.addEdgeWithVertices(g, 1, 2);
+        Graphs.addEdgeWithVertices(g, 2, 2);
+
+        // each undirected edge is a pair of opposite arcs and a self-loop is a single arc
+        DirectedPseudograph<Integer, DefaultEdge> directed =
+            new DirectedPseudograph<>(DefaultEdge.class);
+        Graphs.addEdgeWithVertices(directed, 0, 1);
+        Graphs.addEdgeWithVertices(directed, 1, 0);
+        Graphs.addEdgeWithVertices(directed, 1, 2);
+        Graphs.addEdgeWithVertices(directed, 2, 1);
+        Graphs.addEdgeWithVertices(directed, 2, 2);
+
+        WeightedPseudograph<Integer, DefaultWeightedEdge> weighted =
+            new WeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(weighted, 0, 1, 2d);
+        Graphs.addEdgeWithVertices(weighted, 1, 2, 2d);
+        Graphs.addEdgeWithVertices(weighted, 2, 2, 2d);
+
+        VertexScoringAlgorithm<Integer, Double> expected = new PageRank<>(directed);
+        for (VertexScoringAlgorithm<Integer, Double> pr : List
+            .of(new PageRank<>(g), new PageRank<>(weighted)))
+        {
+            double sum = 0d;
+            for (Integer v : g.vertexSet()) {
+                assertEquals(expected.getVertexScore(v), pr.getVertexScore(v), 1e-9);
+                sum += pr.getVertexScore(v);
+            }
+            assertEquals(1d, sum, 1e-6);
+        }
+    }
+
     @Test
     public void testWeightedGraph1()
     {
@@ -285,4 +327,90 @@ public class PageRankTest
 
     }
 
+    @Test
+    public void testConvergenceHistory()
+    {
+        DirectedPseudograph<String, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+
+        g.addVertex("1");
+        g.addVertex("2");
+        g.addVertex("3");
+        g.addEdge("1", "2");
+        g.addEdge("2", "3");
+        g.addEdge("3", "1");
+        g.addEdge("1", "3");
+
+        PageRank<String, DefaultEdge> pr = new PageRank<>(g, 0.85, 100, 0.0001);
+        List<Double> history = pr.getConvergenceHistory();
+
+        assertFalse(history.isEmpty());
+        assertTrue(history.size() < 100);
+        assertTrue(history.get(history.size() - 1) < 0.0001);
+        for (int i = 0; i < history.size() - 1; i++) {
+            assertTrue(history.get(i) >= 0.0001);
+        }
+
+        PageRank<String, DefaultEdge> limited = new PageRank<>(g, 0.85, 2, 0.0001);
+        assertEquals(2, limited.getConvergenceHistory().size());
+    }
+
+    @Test
+    public void testParallel()
+        throws InterruptedException
+    {
+        ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+        try {
+            for (boolean weighted : new boolean[] { false, true }) {
+                Graph<Integer, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+                new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(1000, 10000, 17)
+                    .generateGraph(g);
+                if (weighted) {
+                    Random rng = new Random(17);
+                    g.edgeSet().forEach(e -> g.setEdgeWeight(e, 1d + rng.nextInt(10)));
+                } else {
+                    g.edgeSet().forEach(e -> g.setEdgeWeight(e, 1d));
+                }
+
+                PageRank<Integer, DefaultWeightedEdge> sequential =
+                    new PageRank<>(g, 0.85, 100, 0.000001);
+                PageRank<Integer, DefaultWeightedEdge> parallel =
+                    new PageRank<>(g, 0.85, 100, 0.000001, executor);
+
+                assertEquals(
+                    sequential.getConvergenceHistory().size(),
+                    parallel.getConvergenceHistory().size());
+                double sum = 0d;
+                for (Integer v : g.vertexSet()) {
+                    assertEquals(sequential.getVertexScore(v), parallel.getVertexScore(v), 1e-9);
+                    sum += parallel.getVertexScore(v);
+                }
+                assertEquals(1d, sum, 1e-6);
+            }
+        } finally {
+            ConcurrencyUtil.shutdownExecutionService(executor);
+        }
+    }
+
+    @Test
+    public void testParallelUnboundedPool()
+        throws InterruptedException
+    {
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) Executors.newCachedThreadPool();
+        try {
+            Graph<Integer, DefaultEdge> g = new DirectedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+            new GnmRandomGraphGenerator<Integer, DefaultEdge>(100, 500, 17).generateGraph(g);
+
+            PageRank<Integer, DefaultEdge> sequential = new PageRank<>(g);
+            PageRank<Integer, DefaultEdge> parallel = new PageRank<>(g, executor);
+            for (Integer v : g.vertexSet()) {
+                assertEquals(sequential.getVertexScore(v), parallel.getVertexScore(v), 1e-9);
+            }
+        } finally {
+            ConcurrencyUtil.shutdownExecutionService(executor);
+        }
+    }
+
 }
@@ -0,0 +1,112 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.drawing.model.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ALTLandmarkSelection}.
+ *
+ * @author agent
+ */
+public class ALTLandmarkSelectionTest
+{
+    private static final long SEED = 29;
+
+    @Test
+    public void testFarthest()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph = grid(10);
+        Set<Integer> landmarks = ALTLandmarkSelection.farthest(graph, 2, new Random(SEED));
+        // two opposite corners are selected on a grid with unit weights
+        assertTrue(landmarks.equals(Set.of(0, 99)) || landmarks.equals(Set.of(9, 90)));
+        landmarks = ALTLandmarkSelection.farthest(graph, 3, new Random(SEED));
+        assertEquals(3, landmarks.size());
+        for (int v : landmarks) {
+            assertTrue(Set.of(0, 9, 90, 99).contains(v));
+        }
+
+        // unreachable components receive landmarks
+        Graphs.addEdgeWithVertices(graph, 100, 101);
+        landmarks = ALTLandmarkSelection.farthest(graph, 2, new Random(SEED));
+        assertEquals(2, landmarks.size());
+        assertTrue(landmarks.contains(100) || landmarks.contains(101));
+    }
+
+    @Test
+    public void testAvoid()
+    {
+        Random rng = new Random(SEED);
+        for (boolean directed : new boolean[] { true, false }) {
+            Graph<Integer, DefaultWeightedEdge> graph =
+                ALTLandmarkTableTest.generateGraph(rng, directed, 100, 300);
+            Set<Integer> landmarks = ALTLandmarkSelection.avoid(graph, 8, rng);
+            assertEquals(8, landmarks.size());
+            assertTrue(graph.vertexSet().containsAll(landmarks));
+        }
+
+        // on a path the first landmark is an endpoint
+        Graph<Integer, DefaultWeightedEdge> path =
+            new WeightedPseudograph<>(DefaultWeightedEdge.class);
+        for (int v = 1; v < 20; v++) {
+            Graphs.addEdgeWithVertices(path, v - 1, v, 1d);
+        }
+        Set<Integer> landmarks = ALTLandmarkSelection.avoid(path, 1, new Random(SEED));
+        assertTrue(landmarks.equals(Set.of(0)) || landmarks.equals(Set.of(19)));
+    }
+
+    @Test
+    public void testPlanar()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph = grid(11);
+        Set<Integer> landmarks =
+            ALTLandmarkSelection.planar(graph, 4, v -> Point2D.of(v % 11, v / 11));
+        // the corners are the farthest vertices from the center, one in each sector
+        assertEquals(Set.of(0, 10, 110, 120), landmarks);
+    }
+
+    @Test
+    public void testSmallGraphs()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph = grid(2);
+        assertEquals(graph.vertexSet(), ALTLandmarkSelection.farthest(graph, 4, new Random()));
+        assertEquals(graph.vertexSet(), ALTLandmarkSelection.avoid(graph, 5, new Random()));
+        assertEquals(
+            graph.vertexSet(), ALTLandmarkSelection.planar(graph, 4, v -> Point2D.of(v, v)));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ALTLandmarkSelection.farthest(graph, 0, new Random()));
+    }
+
+    private static Graph<Integer, DefaultWeightedEdge> grid(int k)
+    {
+        Graph<Integer, DefaultWeightedEdge> graph = new WeightedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new GridGraphGenerator<Integer, DefaultWeightedEdge>(k, k).generateGraph(graph);
+        return graph;
+    }
+}
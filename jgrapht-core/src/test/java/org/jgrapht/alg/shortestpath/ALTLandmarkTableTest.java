@@ -0,0 +1,218 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.shortestpath.ALTLandmarkTable.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.jupiter.api.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ALTLandmarkTable}.
+ *
+ * @author agent
+ */
+public class ALTLandmarkTableTest
+{
+    private static final long SEED = 23;
+
+    private static ThreadPoolExecutor executor;
+
+    @BeforeAll
+    public static void createExecutor()
+    {
+        executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+    }
+
+    @AfterAll
+    public static void shutdownExecutor()
+        throws InterruptedException
+    {
+        ConcurrencyUtil.shutdownExecutionService(executor);
+    }
+
+    @Test
+    public void testLowerBounds()
+    {
+        Random rng = new Random(SEED);
+        for (boolean directed : new boolean[] { true, false }) {
+            Graph<Integer, DefaultWeightedEdge> graph = generateGraph(rng, directed, 60, 150);
+            Set<Integer> landmarks = ALTLandmarkSelection.avoid(graph, 4, rng);
+            ShortestPathAlgorithm<Integer, DefaultWeightedEdge> dijkstra =
+                new DijkstraShortestPath<>(graph);
+            for (Precision precision : Precision.values()) {
+                ALTLandmarkTable<Integer> table =
+                    new ALTLandmarkTable<>(graph, landmarks, precision, executor);
+                assertEquals(precision, table.getPrecision());
+                assertEquals(directed, table.isDirected());
+                assertEquals(new ArrayList<>(landmarks), table.getLandmarks());
+                for (Integer u : graph.vertexSet()) {
+                    ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> paths =
+                        dijkstra.getPaths(u);
+                    for (Integer t : graph.vertexSet()) {
+                        double bound = table.getLowerBound(u, t);
+                        assertTrue(bound >= 0d);
+                        assertTrue(bound <= paths.getWeight(t) + 1e-9);
+                    }
+                }
+                // the bounds from the landmarks are exact in double precision
+                if (precision == Precision.DOUBLE) {
+                    for (Integer l : landmarks) {
+                        for (Integer v : graph.vertexSet()) {
+                            assertEquals(
+                                dijkstra.getPathWeight(l, v), table.getLowerBound(l, v), 1e-9);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testAStarWithReducedPrecision()
+    {
+        Random rng = new Random(SEED);
+        for (boolean directed : new boolean[] { true, false }) {
+            Graph<Integer, DefaultWeightedEdge> graph = generateGraph(rng, directed, 100, 300);
+            Set<Integer> landmarks = ALTLandmarkSelection.farthest(graph, 3, rng);
+            ShortestPathAlgorithm<Integer, DefaultWeightedEdge> dijkstra =
+                new DijkstraShortestPath<>(graph);
+            for (Precision precision : Precision.values()) {
+                ALTAdmissibleHeuristic<Integer, DefaultWeightedEdge> heuristic =
+                    new ALTAdmissibleHeuristic<>(graph, landmarks, precision, executor);
+                assertEquals(precision == Precision.DOUBLE, heuristic.isConsistent(graph));
+                ShortestPathAlgorithm<Integer, DefaultWeightedEdge> aStar =
+                    new AStarShortestPath<>(graph, heuristic);
+                ShortestPathAlgorithm<Integer, DefaultWeightedEdge> bidirectional =
+                    new BidirectionalAStarShortestPath<>(graph, heuristic);
+                for (int i = 0; i < 200; i++) {
+                    Integer u = rng.nextInt(100);
+                    Integer t = rng.nextInt(100);
+                    double expected = dijkstra.getPathWeight(u, t);
+                    assertEquals(expected, aStar.getPathWeight(u, t), 1e-9);
+                    assertEquals(expected, bidirectional.getPathWeight(u, t), 1e-9);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testWriteAndRead()
+        throws IOException
+    {
+        Random rng = new Random(SEED);
+        for (boolean directed : new boolean[] { true, false }) {
+            Graph<Integer, DefaultWeightedEdge> graph = generateGraph(rng, directed, 50, 120);
+            Set<Integer> landmarks = ALTLandmarkSelection.farthest(graph, 3, rng);
+            for (Precision precision : Precision.values()) {
+                ALTLandmarkTable<Integer> table =
+                    new ALTLandmarkTable<>(graph, landmarks, precision, null);
+                Path file = Files.createTempFile("jgrapht-alt", ".bin");
+                try {
+                    table.write(file);
+                    ALTLandmarkTable<Integer> read = ALTLandmarkTable.read(graph, file);
+                    assertEquals(precision, read.getPrecision());
+                    assertEquals(table.getLandmarks(), read.getLandmarks());
+                    for (Integer u : graph.vertexSet()) {
+                        for (Integer t : graph.vertexSet()) {
+                            assertEquals(table.getLowerBound(u, t), read.getLowerBound(u, t));
+                        }
+                    }
+                } finally {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testReadMismatchAndCorruption()
+        throws IOException
+    {
+        Random rng = new Random(SEED);
+        Graph<Integer, DefaultWeightedEdge> graph = generateGraph(rng, true, 20, 50);
+        ALTLandmarkTable<Integer> table = new ALTLandmarkTable<>(graph, Set.of(0, 1));
+        Path file = Files.createTempFile("jgrapht-alt", ".bin");
+        try {
+            table.write(file);
+            assertThrows(
+                IllegalArgumentException.class,
+                () -> ALTLandmarkTable.read(generateGraph(rng, true, 21, 50), file));
+            assertThrows(
+                IllegalArgumentException.class,
+                () -> ALTLandmarkTable.read(generateGraph(rng, false, 20, 50), file));
+
+            byte[] bytes = Files.readAllBytes(file);
+            Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+            assertThrows(IOException.class, () -> ALTLandmarkTable.read(graph, file));
+
+            bytes[0] ^= 1;
+            Files.write(file, bytes);
+            assertThrows(IOException.class, () -> ALTLandmarkTable.read(graph, file));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testInvalidArguments()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(graph, 0, 1, 1d);
+        Graphs.addEdgeWithVertices(graph, 1, 2, -1d);
+        assertThrows(
+            IllegalArgumentException.class, () -> new ALTLandmarkTable<>(graph, Set.of()));
+        assertThrows(
+            IllegalArgumentException.class, () -> new ALTLandmarkTable<>(graph, Set.of(3)));
+        assertThrows(
+            IllegalArgumentException.class, () -> new ALTLandmarkTable<>(graph, Set.of(0)));
+
+        graph.setEdgeWeight(graph.getEdge(1, 2), 1d);
+        ALTLandmarkTable<Integer> table = new ALTLandmarkTable<>(graph, Set.of(1));
+        assertThrows(IllegalArgumentException.class, () -> table.getLowerBound(0, 3));
+        assertEquals(Double.POSITIVE_INFINITY, table.getLowerBound(2, 0));
+        assertEquals(1d, table.getLowerBound(0, 1));
+    }
+
+    static Graph<Integer, DefaultWeightedEdge> generateGraph(
+        Random rng, boolean directed, int n, int m)
+    {
+        Graph<Integer, DefaultWeightedEdge> graph = directed
+            ? new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+            : new WeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+            n, m, rng.nextLong(), true, true).generateGraph(graph);
+        for (DefaultWeightedEdge e : graph.edgeSet()) {
+            graph.setEdgeWeight(e, 100 * rng.nextDouble());
+        }
+        return graph;
+    }
+}
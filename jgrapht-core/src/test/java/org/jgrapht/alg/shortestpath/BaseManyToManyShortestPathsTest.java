@@ -383,6 +383,43 @@ public abstract class BaseManyToManyShortestPathsTest
         }
     }
 
+    /**
+     * Asserts that the weights of the shortest paths stored in {@code paths} are correct and that
+     * the paths have the same weights. Unlike {@link #assertCorrectPaths} the vertices of the
+     * paths are not compared, as graphs with integer weights usually have many shortest paths.
+     *
+     * @param graph a graph
+     * @param paths many-to-many shortest paths object
+     * @param sources source vertices
+     * @param targets target vertices
+     */
+    protected void assertCorrectWeights(
+        Graph<Integer, DefaultWeightedEdge> graph,
+        ManyToManyShortestPathsAlgorithm.ManyToManyShortestPaths<Integer,
+            DefaultWeightedEdge> paths,
+        Set<Integer> sources, Set<Integer> targets)
+    {
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> dijkstra =
+            new DijkstraShortestPath<>(graph);
+        for (Integer source : sources) {
+            ShortestPathAlgorithm.SingleSourcePaths<Integer, DefaultWeightedEdge> expectedPaths =
+                dijkstra.getPaths(source);
+            for (Integer target : targets) {
+                double expected = expectedPaths.getWeight(target);
+                assertEquals(expected, paths.getWeight(source, target), 1e-9);
+                GraphPath<Integer, DefaultWeightedEdge> actual = paths.getPath(source, target);
+                assertEquals(expected, actual.getWeight(), 1e-9);
+                assertEquals(source, actual.getStartVertex());
+                assertEquals(target, actual.getEndVertex());
+                double weight = 0d;
+                for (DefaultWeightedEdge e : actual.getEdgeList()) {
+                    weight += graph.getEdgeWeight(e);
+                }
+                assertEquals(expected, weight, 1e-9);
+            }
+        }
+    }
+
     /**
      * Generates list of randomly selected vertices from the given {@code graph}.
      *
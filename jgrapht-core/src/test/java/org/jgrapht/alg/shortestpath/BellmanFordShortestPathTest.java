@@ -19,10 +19,13 @@ package org.jgrapht.alg.shortestpath;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
 import org.junit.jupiter.api.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -34,8 +37,23 @@ import static org.junit.jupiter.api.Assertions.*;
 public class BellmanFordShortestPathTest
     extends ShortestPathTestCase
 {
+    private static ThreadPoolExecutor executor;
+
     // ~ Methods ----------------------------------------------------------------
 
+    @BeforeAll
+    public static void createExecutor()
+    {
+        executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+    }
+
+    @AfterAll
+    public static void shutdownExecutor()
+        throws InterruptedException
+    {
+        ConcurrencyUtil.shutdownExecutionService(executor);
+    }
+
     @Test
     public void testUndirected()
     {
@@ -345,4 +363,143 @@ public class BellmanFordShortestPathTest
         }
     }
 
+    @Test
+    public void testStrategiesWithNegativeEdges()
+    {
+        Random rng = new Random(17);
+        for (int i = 0; i < 10; i++) {
+            Graph<Integer, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(2000, 10000, rng.nextLong())
+                .generateGraph(g);
+
+            // reduced costs of non-negative weights contain negative edges but no negative cycle
+            double[] potential = rng.doubles(2000, 0, 100).toArray();
+            for (DefaultWeightedEdge e : g.edgeSet()) {
+                int u = g.getEdgeSource(e);
+                int v = g.getEdgeTarget(e);
+                g.setEdgeWeight(e, rng.nextInt(10) + potential[u] - potential[v]);
+            }
+
+            SingleSourcePaths<Integer, DefaultWeightedEdge> expected =
+                new BellmanFordShortestPath<>(g).getPaths(0);
+            for (BellmanFordShortestPath<Integer, DefaultWeightedEdge> alg : List
+                .of(
+                    new BellmanFordShortestPath<>(g, BellmanFordStrategy.QUEUE, null),
+                    new BellmanFordShortestPath<>(g, BellmanFordStrategy.PARALLEL, null),
+                    new BellmanFordShortestPath<>(g, BellmanFordStrategy.PARALLEL, executor)))
+            {
+                SingleSourcePaths<Integer, DefaultWeightedEdge> paths = alg.getPaths(0);
+                for (Integer v : g.vertexSet()) {
+                    assertEquals(expected.getWeight(v), paths.getWeight(v), 1e-9);
+                    GraphPath<Integer, DefaultWeightedEdge> path = paths.getPath(v);
+                    if (path != null) {
+                        assertEquals(
+                            expected.getWeight(v),
+                            path.getEdgeList().stream().mapToDouble(g::getEdgeWeight).sum(),
+                            1e-9);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testStrategiesNegativeCycle()
+    {
+        for (BellmanFordStrategy strategy : BellmanFordStrategy.values()) {
+            Random rng = new Random(7);
+            Graph<Integer, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(1000, 5000, 7)
+                .generateGraph(g);
+            for (DefaultWeightedEdge e : g.edgeSet()) {
+                g.setEdgeWeight(e, rng.nextInt(100));
+            }
+            // a long cycle far away from the source with total weight -1
+            for (int v = 500; v < 600; v++) {
+                g.setEdgeWeight(g.addEdge(v, v + 1), v == 500 ? -100 : 0);
+            }
+            g.setEdgeWeight(g.addEdge(600, 500), 99);
+            g.setEdgeWeight(g.addEdge(0, 500), 1);
+
+            try {
+                new BellmanFordShortestPath<>(g, strategy, executor).getPaths(0);
+                fail("Negative-weight cycle not detected");
+            } catch (NegativeCycleDetectedException e) {
+                assertEquals("Graph contains a negative-weight cycle", e.getMessage());
+
+                @SuppressWarnings("unchecked") GraphPath<Integer, DefaultWeightedEdge> cycle =
+                    (GraphPath<Integer, DefaultWeightedEdge>) e.getCycle();
+                assertEquals(cycle.getStartVertex(), cycle.getEndVertex());
+                assertTrue(cycle.getWeight() < 0);
+                Integer cur = cycle.getStartVertex();
+                double weight = 0d;
+                for (DefaultWeightedEdge edge : cycle.getEdgeList()) {
+                    assertEquals(cur, g.getEdgeSource(edge));
+                    cur = g.getEdgeTarget(edge);
+                    weight += g.getEdgeWeight(edge);
+                }
+                assertEquals(cycle.getStartVertex(), cur);
+                assertEquals(cycle.getWeight(), weight, 1e-9);
+            }
+        }
+    }
+
+    @Test
+    public void testStrategiesUndirected()
+    {
+        Graph<String, DefaultWeightedEdge> g = create();
+        for (BellmanFordStrategy strategy : BellmanFordStrategy.values()) {
+            SingleSourcePaths<String, DefaultWeightedEdge> tree =
+                new BellmanFordShortestPath<>(g, strategy, executor).getPaths(V3);
+            assertEquals(
+                Arrays.asList(new DefaultWeightedEdge[] { e13, e12, e24, e45 }),
+                tree.getPath(V5).getEdgeList());
+            assertEquals(15.0, tree.getPath(V5).getWeight(), 1e-9);
+        }
+
+        WeightedPseudograph<String, DefaultWeightedEdge> h =
+            new WeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(h, List.of("w", "y", "x"));
+        h.setEdgeWeight(h.addEdge("w", "y"), 1);
+        h.setEdgeWeight(h.addEdge("y", "x"), 1);
+        h.setEdgeWeight(h.addEdge("y", "x"), -1);
+        for (BellmanFordStrategy strategy : BellmanFordStrategy.values()) {
+            NegativeCycleDetectedException e = assertThrows(
+                NegativeCycleDetectedException.class,
+                () -> new BellmanFordShortestPath<>(h, strategy, executor).getPaths("w"));
+            assertTrue(((GraphPath<?, ?>) e.getCycle()).getWeight() < 0);
+        }
+    }
+
+    @Test
+    public void testStrategiesWithMaxHops()
+    {
+        DirectedWeightedPseudograph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, List.of("1", "2", "3", "4"));
+        g.setEdgeWeight(g.addEdge("1", "2"), 1);
+        g.setEdgeWeight(g.addEdge("2", "3"), 1);
+        g.setEdgeWeight(g.addEdge("3", "4"), 1);
+        g.setEdgeWeight(g.addEdge("4", "1"), -5);
+        g.setEdgeWeight(g.addEdge("1", "4"), 5);
+
+        for (BellmanFordStrategy strategy : BellmanFordStrategy.values()) {
+            SingleSourcePaths<String, DefaultWeightedEdge> paths =
+                new BellmanFordShortestPath<>(g, 1e-9, 1, strategy, executor).getPaths("1");
+            assertEquals(1d, paths.getWeight("2"), 1e-9);
+            assertEquals(Double.POSITIVE_INFINITY, paths.getWeight("3"));
+            assertEquals(5d, paths.getWeight("4"), 1e-9);
+
+            paths = new BellmanFordShortestPath<>(g, 1e-9, 3, strategy, executor).getPaths("1");
+            assertEquals(3d, paths.getWeight("4"), 1e-9);
+
+            assertThrows(
+                NegativeCycleDetectedException.class,
+                () -> new BellmanFordShortestPath<>(g, 1e-9, 4, strategy, executor)
+                    .getPaths("1"));
+        }
+    }
+
 }
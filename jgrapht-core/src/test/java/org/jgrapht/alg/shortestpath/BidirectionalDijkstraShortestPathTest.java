@@ -380,6 +380,48 @@ public class BidirectionalDijkstraShortestPathTest
         }
     }
 
+    @Test
+    public void testRandomGraphsRadixHeap()
+    {
+        Random rng = new Random(7);
+        for (boolean directed : new boolean[] { true, false }) {
+            Graph<String, DefaultWeightedEdge> g = directed
+                ? new DirectedWeightedPseudograph<>(
+                    SupplierUtil.createStringSupplier(),
+                    SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+                : new WeightedPseudograph<>(
+                    SupplierUtil.createStringSupplier(),
+                    SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            new GnmRandomGraphGenerator<String, DefaultWeightedEdge>(30, 100, 1).generateGraph(g);
+            for (DefaultWeightedEdge e : g.edgeSet()) {
+                g.setEdgeWeight(e, rng.nextInt(10));
+            }
+
+            for (double radius : new double[] { Double.POSITIVE_INFINITY, 7.5 }) {
+                BidirectionalDijkstraShortestPath<String, DefaultWeightedEdge> radix =
+                    new BidirectionalDijkstraShortestPath<>(
+                        g, radius, DijkstraQueueStrategy.RADIX_HEAP);
+                for (String v : g.vertexSet()) {
+                    for (String u : g.vertexSet()) {
+                        GraphPath<String, DefaultWeightedEdge> p1 =
+                            new DijkstraShortestPath<>(g, radius).getPath(v, u);
+                        GraphPath<String, DefaultWeightedEdge> p2 = radix.getPath(v, u);
+
+                        if (p1 == null || p2 == null) {
+                            assertNull(p1);
+                            assertNull(p2);
+                        } else {
+                            assertEquals(p1.getWeight(), p2.getWeight(), 0.0001);
+                            assertEquals(p2.getWeight(), computePathWeight(g, p2), 0.0001);
+                            assertEquals(v, p2.getStartVertex());
+                            assertEquals(u, p2.getEndVertex());
+                        }
+                    }
+                }
+            }
+        }
+    }
+
     @Test
     public void testWrongParameters()
     {
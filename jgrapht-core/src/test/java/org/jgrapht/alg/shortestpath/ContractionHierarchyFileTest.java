@@ -0,0 +1,261 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.jupiter.api.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ContractionHierarchyFile}.
+ *
+ * @author agent
+ */
+public class ContractionHierarchyFileTest
+{
+    private static final long SEED = 19L;
+
+    private static ThreadPoolExecutor executor;
+
+    @BeforeAll
+    public static void createExecutor()
+    {
+        executor =
+            ConcurrencyUtil.createThreadPoolExecutor(Runtime.getRuntime().availableProcessors());
+    }
+
+    @AfterAll
+    public static void shutdownExecutor()
+        throws InterruptedException
+    {
+        ConcurrencyUtil.shutdownExecutionService(executor);
+    }
+
+    @Test
+    public void testContractionHierarchyDirected()
+        throws IOException
+    {
+        Random random = new Random(SEED);
+        for (int i = 0; i < 5; i++) {
+            testContractionHierarchy(generateRandomGraph(true, 50, 250, random));
+        }
+    }
+
+    @Test
+    public void testContractionHierarchyUndirected()
+        throws IOException
+    {
+        Random random = new Random(SEED);
+        for (int i = 0; i < 5; i++) {
+            testContractionHierarchy(generateRandomGraph(false, 50, 150, random));
+        }
+    }
+
+    @Test
+    public void testTransitNodeRouting()
+        throws IOException
+    {
+        Random random = new Random(SEED);
+        for (int i = 0; i < 5; i++) {
+            Graph<Integer, DefaultWeightedEdge> graph =
+                generateRandomGraph(i % 2 == 0, 50, 250, random);
+            TransitNodeRoutingShortestPath<Integer, DefaultWeightedEdge> expected =
+                new TransitNodeRoutingShortestPath<>(graph, executor);
+
+            Path file = Files.createTempFile("jgrapht-tnr", ".bin");
+            try {
+                ContractionHierarchyFile.writeTransitNodeRouting(expected, file);
+                TransitNodeRoutingShortestPath<Integer, DefaultWeightedEdge> actual =
+                    ContractionHierarchyFile.readTransitNodeRouting(graph, file);
+
+                DijkstraShortestPath<Integer, DefaultWeightedEdge> dijkstra =
+                    new DijkstraShortestPath<>(graph);
+                for (Integer source : graph.vertexSet()) {
+                    for (Integer target : graph.vertexSet()) {
+                        GraphPath<Integer, DefaultWeightedEdge> path =
+                            actual.getPath(source, target);
+                        assertEquals(dijkstra.getPath(source, target), path);
+                        assertEquals(
+                            expected.getPathWeight(source, target),
+                            actual.getPathWeight(source, target), 1e-9);
+                    }
+                }
+
+                // the contraction hierarchy can be read from a transit node routing file
+                assertEqualQueries(
+                    expected.getTransitNodeRouting().getContractionHierarchy(),
+                    ContractionHierarchyFile.read(graph, file));
+            } finally {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void testNotTransitNodeRouting()
+        throws IOException
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            generateRandomGraph(true, 10, 30, new Random(SEED));
+        ContractionHierarchy<Integer, DefaultWeightedEdge> hierarchy =
+            new ContractionHierarchyPrecomputation<>(graph, () -> new Random(SEED), executor)
+                .computeContractionHierarchy();
+
+        Path file = Files.createTempFile("jgrapht-ch", ".bin");
+        try {
+            ContractionHierarchyFile.write(hierarchy, file);
+            assertThrows(
+                IOException.class,
+                () -> ContractionHierarchyFile.readTransitNodeRouting(graph, file));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testGraphMismatch()
+        throws IOException
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            generateRandomGraph(true, 10, 30, new Random(SEED));
+        ContractionHierarchy<Integer, DefaultWeightedEdge> hierarchy =
+            new ContractionHierarchyPrecomputation<>(graph, () -> new Random(SEED), executor)
+                .computeContractionHierarchy();
+
+        Path file = Files.createTempFile("jgrapht-ch", ".bin");
+        try {
+            ContractionHierarchyFile.write(hierarchy, file);
+            graph.addVertex(graph.vertexSet().size());
+            assertThrows(
+                IllegalArgumentException.class, () -> ContractionHierarchyFile.read(graph, file));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testCorruptedFile()
+        throws IOException
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            generateRandomGraph(true, 10, 30, new Random(SEED));
+        ContractionHierarchy<Integer, DefaultWeightedEdge> hierarchy =
+            new ContractionHierarchyPrecomputation<>(graph, () -> new Random(SEED), executor)
+                .computeContractionHierarchy();
+
+        Path file = Files.createTempFile("jgrapht-ch", ".bin");
+        try {
+            ContractionHierarchyFile.write(hierarchy, file);
+            byte[] bytes = Files.readAllBytes(file);
+            Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+            assertThrows(IOException.class, () -> ContractionHierarchyFile.read(graph, file));
+
+            bytes[0] ^= 1;
+            Files.write(file, bytes);
+            assertThrows(IOException.class, () -> ContractionHierarchyFile.read(graph, file));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private void testContractionHierarchy(Graph<Integer, DefaultWeightedEdge> graph)
+        throws IOException
+    {
+        ContractionHierarchy<Integer, DefaultWeightedEdge> expected =
+            new ContractionHierarchyPrecomputation<>(graph, () -> new Random(SEED), executor)
+                .computeContractionHierarchy();
+
+        Path file = Files.createTempFile("jgrapht-ch", ".bin");
+        try {
+            ContractionHierarchyFile.write(expected, file);
+            ContractionHierarchy<Integer, DefaultWeightedEdge> actual =
+                ContractionHierarchyFile.read(graph, file);
+
+            assertEquals(
+                expected.getContractionGraph().vertexSet().size(),
+                actual.getContractionGraph().vertexSet().size());
+            assertEquals(
+                expected.getContractionGraph().edgeSet().size(),
+                actual.getContractionGraph().edgeSet().size());
+            assertEqualQueries(expected, actual);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private void assertEqualQueries(
+        ContractionHierarchy<Integer, DefaultWeightedEdge> expected,
+        ContractionHierarchy<Integer, DefaultWeightedEdge> actual)
+    {
+        Graph<Integer, DefaultWeightedEdge> graph = expected.getGraph();
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> expectedDijkstra =
+            new ContractionHierarchyBidirectionalDijkstra<>(expected);
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> actualDijkstra =
+            new ContractionHierarchyBidirectionalDijkstra<>(actual);
+        for (Integer source : graph.vertexSet()) {
+            for (Integer target : graph.vertexSet()) {
+                assertEquals(
+                    expectedDijkstra.getPath(source, target),
+                    actualDijkstra.getPath(source, target));
+            }
+        }
+
+        ManyToManyShortestPathsAlgorithm.ManyToManyShortestPaths<Integer,
+            DefaultWeightedEdge> expectedPaths = new CHManyToManyShortestPaths<>(expected)
+                .getManyToManyPaths(graph.vertexSet(), graph.vertexSet());
+        ManyToManyShortestPathsAlgorithm.ManyToManyShortestPaths<Integer,
+            DefaultWeightedEdge> actualPaths = new CHManyToManyShortestPaths<>(actual)
+                .getManyToManyPaths(graph.vertexSet(), graph.vertexSet());
+        for (Integer source : graph.vertexSet()) {
+            for (Integer target : graph.vertexSet()) {
+                assertEquals(
+                    expectedPaths.getPath(source, target), actualPaths.getPath(source, target));
+            }
+        }
+    }
+
+    private Graph<Integer, DefaultWeightedEdge> generateRandomGraph(
+        boolean directed, int numOfVertices, int numOfEdges, Random random)
+    {
+        Graph<Integer, DefaultWeightedEdge> graph = directed
+            ? new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(),
+                SupplierUtil.createDefaultWeightedEdgeSupplier())
+            : new WeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(),
+                SupplierUtil.createDefaultWeightedEdgeSupplier());
+
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+            numOfVertices, numOfEdges, random.nextLong()).generateGraph(graph);
+        for (DefaultWeightedEdge edge : graph.edgeSet()) {
+            graph.setEdgeWeight(edge, random.nextDouble());
+        }
+        return graph;
+    }
+}
@@ -434,6 +434,39 @@ public class ContractionHierarchyPrecomputationTest
         }
     }
 
+    @Test
+    public void testOnLargerRandomGraphsWithSeveralTasks()
+        throws InterruptedException
+    {
+        // more tasks than processors, each reusing its witness search scratch space
+        ThreadPoolExecutor tasksExecutor = ConcurrencyUtil.createThreadPoolExecutor(4);
+        try {
+            for (boolean directed : new boolean[] { true, false }) {
+                Graph<Integer, DefaultWeightedEdge> graph = directed
+                    ? new DirectedWeightedPseudograph<>(
+                        SupplierUtil.createIntegerSupplier(),
+                        SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+                    : new WeightedPseudograph<>(
+                        SupplierUtil.createIntegerSupplier(),
+                        SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+
+                generateRandomGraph(graph, 300, 0.02);
+
+                ContractionHierarchy<Integer, DefaultWeightedEdge> hierarchy =
+                    new ContractionHierarchyPrecomputation<>(
+                        graph, () -> new Random(SEED), tasksExecutor)
+                        .computeContractionHierarchy();
+
+                assertCorrectMapping(graph, hierarchy);
+                assertNoEdgesRemoved(graph, hierarchy);
+                assertCorrectEdgeWeights(graph, hierarchy);
+                assertCorrectContractionEdges(graph, hierarchy);
+            }
+        } finally {
+            ConcurrencyUtil.shutdownExecutionService(tasksExecutor);
+        }
+    }
+
     /**
      * Asserts that {@code mapping} includes all vertices in {@code graph} as keys, all vertices in
      * {@code contractionGraph} as values and the values in {@code mapping} are unique.
@@ -0,0 +1,231 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+
+import static org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link CustomizableContractionHierarchy}.
+ *
+ * @author agent
+ */
+public class CustomizableContractionHierarchyTest
+{
+    private static final long SEED = 19;
+
+    private static ThreadPoolExecutor executor;
+
+    @BeforeAll
+    public static void createExecutor()
+    {
+        executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+    }
+
+    @AfterAll
+    public static void shutdownExecutor()
+        throws InterruptedException
+    {
+        ConcurrencyUtil.shutdownExecutionService(executor);
+    }
+
+    @Test
+    public void testDirectedCustomization()
+    {
+        Random random = new Random(SEED);
+        for (int i = 0; i < 10; i++) {
+            Graph<Integer, DefaultWeightedEdge> graph = generateGraph(random, true, 200, 800);
+            CustomizableContractionHierarchy<Integer, DefaultWeightedEdge> cch =
+                new CustomizableContractionHierarchy<>(graph, i % 2 == 0 ? executor : null);
+            assertCorrectPaths(graph, cch.getContractionHierarchy(), random);
+
+            randomizeWeights(graph, random);
+            cch.customize();
+            assertCorrectPaths(graph, cch.getContractionHierarchy(), random);
+        }
+    }
+
+    @Test
+    public void testUndirectedCustomization()
+    {
+        Random random = new Random(SEED);
+        for (int i = 0; i < 10; i++) {
+            Graph<Integer, DefaultWeightedEdge> graph = generateGraph(random, false, 200, 500);
+            CustomizableContractionHierarchy<Integer, DefaultWeightedEdge> cch =
+                new CustomizableContractionHierarchy<>(graph, i % 2 == 0 ? executor : null);
+            assertCorrectPaths(graph, cch.getContractionHierarchy(), random);
+
+            randomizeWeights(graph, random);
+            cch.customize();
+            assertCorrectPaths(graph, cch.getContractionHierarchy(), random);
+        }
+    }
+
+    @Test
+    public void testWeightFunction()
+    {
+        Random random = new Random(SEED);
+        Graph<Integer, DefaultWeightedEdge> graph = generateGraph(random, true, 300, 1200);
+        CustomizableContractionHierarchy<Integer, DefaultWeightedEdge> cch =
+            new CustomizableContractionHierarchy<>(graph, executor);
+
+        // close some edges and change the weight of others
+        Map<DefaultWeightedEdge, Double> weights = new HashMap<>();
+        for (DefaultWeightedEdge e : graph.edgeSet()) {
+            double p = random.nextDouble();
+            if (p < 0.2) {
+                weights.put(e, Double.POSITIVE_INFINITY);
+            } else if (p < 0.6) {
+                weights.put(e, (double) random.nextInt(100));
+            }
+        }
+        cch.customize(e -> weights.getOrDefault(e, graph.getEdgeWeight(e)));
+        Graph<Integer, DefaultWeightedEdge> weighted = new AsWeightedGraph<>(
+            new AsSubgraph<>(graph, null, graph
+                .edgeSet().stream()
+                .filter(e -> weights.getOrDefault(e, 0d) != Double.POSITIVE_INFINITY)
+                .collect(Collectors.toSet())),
+            weights);
+        assertCorrectPaths(weighted, cch.getContractionHierarchy(), random);
+
+        // return to the original metric
+        cch.customize();
+        assertCorrectPaths(graph, cch.getContractionHierarchy(), random);
+    }
+
+    @Test
+    public void testGivenOrder()
+    {
+        Random random = new Random(SEED);
+        Graph<Integer, DefaultWeightedEdge> graph = generateGraph(random, false, 100, 300);
+        List<Integer> order = new ArrayList<>(graph.vertexSet());
+        Collections.shuffle(order, random);
+        CustomizableContractionHierarchy<Integer, DefaultWeightedEdge> cch =
+            new CustomizableContractionHierarchy<>(graph, order, null);
+        assertEquals(order, cch.getContractionOrder());
+        assertCorrectPaths(graph, cch.getContractionHierarchy(), random);
+    }
+
+    @Test
+    public void testInvalidOrder()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(graph, List.of(1, 2, 3));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new CustomizableContractionHierarchy<>(graph, List.of(1, 2), null));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new CustomizableContractionHierarchy<>(graph, List.of(1, 2, 2), null));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new CustomizableContractionHierarchy<>(graph, List.of(1, 2, 4), null));
+    }
+
+    @Test
+    public void testNegativeWeight()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(graph, 1, 2, 1.0);
+        Graphs.addEdgeWithVertices(graph, 2, 3, 1.0);
+        CustomizableContractionHierarchy<Integer, DefaultWeightedEdge> cch =
+            new CustomizableContractionHierarchy<>(graph, null);
+        assertThrows(IllegalArgumentException.class, () -> cch.customize(e -> -1.0));
+    }
+
+    private static void assertCorrectPaths(
+        Graph<Integer, DefaultWeightedEdge> graph,
+        ContractionHierarchy<Integer, DefaultWeightedEdge> hierarchy, Random random)
+    {
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> expected =
+            new DijkstraShortestPath<>(graph);
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> actual =
+            new ContractionHierarchyBidirectionalDijkstra<>(hierarchy);
+        List<Integer> vertices = new ArrayList<>(graph.vertexSet());
+        for (int i = 0; i < 100; i++) {
+            Integer source = vertices.get(random.nextInt(vertices.size()));
+            Integer sink = vertices.get(random.nextInt(vertices.size()));
+            GraphPath<Integer, DefaultWeightedEdge> path = actual.getPath(source, sink);
+            double weight = expected.getPathWeight(source, sink);
+            if (weight == Double.POSITIVE_INFINITY) {
+                assertNull(path);
+                continue;
+            }
+            assertEquals(weight, path.getWeight(), 1e-9);
+            assertEquals(source, path.getStartVertex());
+            assertEquals(sink, path.getEndVertex());
+            double pathWeight = 0d;
+            Integer current = source;
+            for (DefaultWeightedEdge e : path.getEdgeList()) {
+                assertTrue(graph.containsEdge(e));
+                current = Graphs.getOppositeVertex(graph, e, current);
+                pathWeight += graph.getEdgeWeight(e);
+            }
+            assertEquals(sink, current);
+            assertEquals(weight, pathWeight, 1e-9);
+        }
+
+        Set<Integer> sources = new HashSet<>(vertices.subList(0, 10));
+        Set<Integer> targets =
+            new HashSet<>(vertices.subList(vertices.size() - 10, vertices.size()));
+        ManyToManyShortestPathsAlgorithm.ManyToManyShortestPaths<Integer,
+            DefaultWeightedEdge> paths =
+                new CHManyToManyShortestPaths<>(hierarchy).getManyToManyPaths(sources, targets);
+        for (Integer source : sources) {
+            for (Integer target : targets) {
+                assertEquals(
+                    expected.getPathWeight(source, target), paths.getWeight(source, target),
+                    1e-9);
+            }
+        }
+    }
+
+    private static Graph<Integer, DefaultWeightedEdge> generateGraph(
+        Random random, boolean directed, int n, int m)
+    {
+        Graph<Integer, DefaultWeightedEdge> graph = directed
+            ? new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+            : new WeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+            n, m, random.nextLong(), true, true).generateGraph(graph);
+        randomizeWeights(graph, random);
+        return graph;
+    }
+
+    private static void randomizeWeights(Graph<Integer, DefaultWeightedEdge> graph, Random random)
+    {
+        for (DefaultWeightedEdge e : graph.edgeSet()) {
+            graph.setEdgeWeight(e, random.nextInt(100));
+        }
+    }
+}
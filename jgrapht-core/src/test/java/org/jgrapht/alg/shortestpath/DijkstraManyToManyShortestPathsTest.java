@@ -24,6 +24,8 @@ import org.jgrapht.alg.interfaces.*;
 import org.jgrapht.graph.*;
 import org.junit.jupiter.api.*;
 
+import java.util.*;
+
 /**
  * Tests for {@link DijkstraManyToManyShortestPaths}.
  *
@@ -93,6 +95,24 @@ public class DijkstraManyToManyShortestPathsTest
         super.testOnRandomGraphs(100, 20, new int[][] { { 50, 30 }, { 40, 40 }, { 30, 50 } }, 50);
     }
 
+    @Test
+    public void testRadixHeapOnRandomGraphs()
+    {
+        Random random = new Random(SEED);
+        for (int[] sizes : new int[][] { { 50, 30 }, { 40, 40 }, { 30, 50 } }) {
+            Graph<Integer, DefaultWeightedEdge> graph = generateRandomGraph(100, 500, random);
+            for (DefaultWeightedEdge e : graph.edgeSet()) {
+                graph.setEdgeWeight(e, random.nextInt(10));
+            }
+            Set<Integer> sources = getRandomVertices(graph, sizes[0], random);
+            Set<Integer> targets = getRandomVertices(graph, sizes[1], random);
+            assertCorrectWeights(
+                graph, new DijkstraManyToManyShortestPaths<>(
+                    graph, DijkstraQueueStrategy.RADIX_HEAP).getManyToManyPaths(sources, targets),
+                sources, targets);
+        }
+    }
+
     @Override
     protected ManyToManyShortestPathsAlgorithm<Integer, DefaultWeightedEdge> getAlgorithm(
         Graph<Integer, DefaultWeightedEdge> graph)
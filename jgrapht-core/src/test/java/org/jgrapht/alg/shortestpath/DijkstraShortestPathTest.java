@@ -19,7 +19,9 @@ package org.jgrapht.alg.shortestpath;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
 import org.junit.jupiter.api.*;
 
 import java.util.*;
@@ -157,4 +159,107 @@ public class DijkstraShortestPathTest
         assertThrows(IllegalArgumentException.class, () -> new DijkstraShortestPath<>(g).getPath(V1, V2));
     }
 
+    @Test
+    public void testRadixHeapOnRandomGraphs()
+    {
+        Random rng = new Random(17);
+        for (boolean directed : new boolean[] { true, false }) {
+            Graph<Integer, DefaultWeightedEdge> g = directed
+                ? new DirectedWeightedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+                : new WeightedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(60, 300, 17, true, true)
+                .generateGraph(g);
+            for (DefaultWeightedEdge e : g.edgeSet()) {
+                g.setEdgeWeight(e, rng.nextInt(20));
+            }
+
+            for (double radius : new double[] { Double.POSITIVE_INFINITY, 12.5 }) {
+                DijkstraShortestPath<Integer, DefaultWeightedEdge> heap =
+                    new DijkstraShortestPath<>(g, radius, DijkstraQueueStrategy.HEAP);
+                DijkstraShortestPath<Integer, DefaultWeightedEdge> radix =
+                    new DijkstraShortestPath<>(g, radius, DijkstraQueueStrategy.RADIX_HEAP);
+                for (Integer source : g.vertexSet()) {
+                    SingleSourcePaths<Integer, DefaultWeightedEdge> expected =
+                        heap.getPaths(source);
+                    SingleSourcePaths<Integer, DefaultWeightedEdge> actual =
+                        radix.getPaths(source);
+                    for (Integer target : g.vertexSet()) {
+                        assertEquals(
+                            expected.getWeight(target), actual.getWeight(target), 1e-9);
+                        GraphPath<Integer, DefaultWeightedEdge> path =
+                            radix.getPath(source, target);
+                        if (path == null) {
+                            assertNull(heap.getPath(source, target));
+                            continue;
+                        }
+                        assertEquals(expected.getWeight(target), path.getWeight(), 1e-9);
+                        assertEquals(source, path.getStartVertex());
+                        assertEquals(target, path.getEndVertex());
+                        double weight = 0d;
+                        for (DefaultWeightedEdge e : path.getEdgeList()) {
+                            weight += g.getEdgeWeight(e);
+                        }
+                        assertEquals(path.getWeight(), weight, 1e-9);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testRadixHeapNonIntegerWeights()
+    {
+        DirectedWeightedPseudograph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(V1, V2, V3));
+        g.setEdgeWeight(g.addEdge(V1, V2), 2.0);
+        DefaultWeightedEdge we23 = g.addEdge(V2, V3);
+
+        g.setEdgeWeight(we23, 1.5);
+        assertThrows(
+            IllegalArgumentException.class, () -> new DijkstraShortestPath<>(
+                g, Double.POSITIVE_INFINITY, DijkstraQueueStrategy.RADIX_HEAP));
+        g.setEdgeWeight(we23, -1.0);
+        assertThrows(
+            IllegalArgumentException.class, () -> new DijkstraShortestPath<>(
+                g, Double.POSITIVE_INFINITY, DijkstraQueueStrategy.RADIX_HEAP));
+        g.setEdgeWeight(we23, 3.0);
+        assertEquals(
+            5d, new DijkstraShortestPath<>(
+                g, Double.POSITIVE_INFINITY, DijkstraQueueStrategy.RADIX_HEAP)
+                    .getPathWeight(V1, V3),
+            0);
+    }
+
+    @Test
+    public void testRadixHeapConcurrentQueries()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(200, 1000, 17)
+            .generateGraph(g);
+        Random rng = new Random(17);
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            g.setEdgeWeight(e, rng.nextInt(20));
+        }
+
+        // the scratch space of the searches is shared through a pool
+        DijkstraShortestPath<Integer, DefaultWeightedEdge> heap = new DijkstraShortestPath<>(g);
+        DijkstraShortestPath<Integer, DefaultWeightedEdge> radix = new DijkstraShortestPath<>(
+            g, Double.POSITIVE_INFINITY, DijkstraQueueStrategy.RADIX_HEAP);
+        g.vertexSet().parallelStream().forEach(source -> {
+            SingleSourcePaths<Integer, DefaultWeightedEdge> expected = heap.getPaths(source);
+            SingleSourcePaths<Integer, DefaultWeightedEdge> actual = radix.getPaths(source);
+            for (Integer target : g.vertexSet()) {
+                assertEquals(expected.getWeight(target), actual.getWeight(target), 1e-9);
+                assertEquals(
+                    expected.getWeight(target), radix.getPathWeight(source, target), 1e-9);
+            }
+        });
+    }
+
 }
@@ -0,0 +1,186 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link DirectionOptimizingBFS}.
+ *
+ * @author agent
+ */
+public class DirectionOptimizingBFSTest
+{
+    private static ThreadPoolExecutor executor;
+
+    @BeforeAll
+    public static void createExecutor()
+    {
+        executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+    }
+
+    @AfterAll
+    public static void shutdownExecutor()
+        throws InterruptedException
+    {
+        ConcurrencyUtil.shutdownExecutionService(executor);
+    }
+
+    @Test
+    public void testSmallDirected()
+    {
+        Graph<String, DefaultEdge> g = new DefaultDirectedGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, List.of("a", "b", "c", "d", "e"));
+        g.addEdge("a", "b");
+        g.addEdge("b", "c");
+        g.addEdge("a", "c");
+        g.addEdge("c", "d");
+        g.addEdge("e", "a");
+
+        DirectionOptimizingBFS<String, DefaultEdge> bfs = new DirectionOptimizingBFS<>(g);
+        SingleSourcePaths<String, DefaultEdge> paths = bfs.getPaths("a");
+        assertEquals(0d, paths.getWeight("a"));
+        assertEquals(1d, paths.getWeight("b"));
+        assertEquals(1d, paths.getWeight("c"));
+        assertEquals(2d, paths.getWeight("d"));
+        assertEquals(Double.POSITIVE_INFINITY, paths.getWeight("e"));
+        assertNull(paths.getPath("e"));
+        assertEquals(
+            List.of(g.getEdge("a", "c"), g.getEdge("c", "d")), paths.getPath("d").getEdgeList());
+
+        IndexedAdjacency<String, DefaultEdge> adjacency = bfs.getAdjacency();
+        int[] distance = new int[5];
+        int[] parent = new int[5];
+        assertEquals(4, bfs.search(adjacency.getVertexIndex("a"), distance, parent));
+        assertEquals(-1, distance[adjacency.getVertexIndex("e")]);
+        assertEquals(-1, parent[adjacency.getVertexIndex("a")]);
+        assertEquals(adjacency.getVertexIndex("c"), parent[adjacency.getVertexIndex("d")]);
+    }
+
+    @Test
+    public void testInvalidArguments()
+    {
+        Graph<Integer, DefaultEdge> g = new DefaultUndirectedGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, List.of(0, 1, 2));
+        DirectionOptimizingBFS<Integer, DefaultEdge> bfs = new DirectionOptimizingBFS<>(g);
+        assertThrows(IllegalArgumentException.class, () -> bfs.getPaths(3));
+        assertThrows(IllegalArgumentException.class, () -> bfs.search(3, new int[3], null));
+        assertThrows(IllegalArgumentException.class, () -> bfs.search(0, new int[2], null));
+        assertThrows(IllegalArgumentException.class, () -> bfs.search(0, new int[3], new int[2]));
+    }
+
+    @Test
+    public void testRandomGraphs()
+    {
+        Random rng = new Random(17);
+        for (boolean directed : new boolean[] { true, false }) {
+            List<GraphGenerator<Integer, DefaultEdge, Integer>> generators = List
+                .of(
+                    new GnmRandomGraphGenerator<>(3000, 12000, rng.nextLong(), false, false),
+                    new BarabasiAlbertGraphGenerator<>(5, 4, 3000, rng.nextLong()));
+            for (GraphGenerator<Integer, DefaultEdge, Integer> generator : generators) {
+                Graph<Integer, DefaultEdge> g = directed
+                    ? new DefaultDirectedGraph<>(
+                        SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+                        false)
+                    : new DefaultUndirectedGraph<>(
+                        SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+                        false);
+                generator.generateGraph(g);
+                assertSameAsBFS(g, new DirectionOptimizingBFS<>(g));
+                assertSameAsBFS(g, new DirectionOptimizingBFS<>(g, executor));
+            }
+        }
+    }
+
+    @Test
+    public void testBFSShortestPathWithExecutor()
+    {
+        Graph<Integer, DefaultEdge> g = new DefaultDirectedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(2000, 20000, 7).generateGraph(g);
+
+        BFSShortestPath<Integer, DefaultEdge> sequential = new BFSShortestPath<>(g);
+        BFSShortestPath<Integer, DefaultEdge> parallel = new BFSShortestPath<>(g, executor);
+        for (int source = 0; source < 10; source++) {
+            SingleSourcePaths<Integer, DefaultEdge> expected = sequential.getPaths(source);
+            SingleSourcePaths<Integer, DefaultEdge> actual = parallel.getPaths(source);
+            for (Integer v : g.vertexSet()) {
+                assertEquals(expected.getWeight(v), actual.getWeight(v));
+            }
+            assertEquals(expected.getWeight(1999), parallel.getPathWeight(source, 1999));
+        }
+    }
+
+    private static void assertSameAsBFS(
+        Graph<Integer, DefaultEdge> g, DirectionOptimizingBFS<Integer, DefaultEdge> bfs)
+    {
+        BFSShortestPath<Integer, DefaultEdge> expectedAlg = new BFSShortestPath<>(g);
+        IndexedAdjacency<Integer, DefaultEdge> adjacency = bfs.getAdjacency();
+        int n = g.vertexSet().size();
+        int[] distance = new int[n];
+        int[] parent = new int[n];
+        for (int source : List.of(0, 1, n / 2, n - 1)) {
+            SingleSourcePaths<Integer, DefaultEdge> expected = expectedAlg.getPaths(source);
+            SingleSourcePaths<Integer, DefaultEdge> actual = bfs.getPaths(source);
+            int reached = bfs.search(adjacency.getVertexIndex(source), distance, parent);
+
+            int expectedReached = 0;
+            for (Integer v : g.vertexSet()) {
+                double d = expected.getWeight(v);
+                assertEquals(d, actual.getWeight(v));
+
+                int i = adjacency.getVertexIndex(v);
+                if (Double.isInfinite(d)) {
+                    assertEquals(-1, distance[i]);
+                    assertEquals(-1, parent[i]);
+                    continue;
+                }
+                expectedReached++;
+                assertEquals(d, distance[i]);
+                if (v != source) {
+                    Integer p = adjacency.getVertex(parent[i]);
+                    assertEquals(distance[i] - 1, distance[parent[i]]);
+                    assertTrue(g.containsEdge(p, v));
+
+                    // the path must be a walk of the right length
+                    GraphPath<Integer, DefaultEdge> path = actual.getPath(v);
+                    assertEquals(d, path.getLength());
+                    Integer cur = source;
+                    for (DefaultEdge e : path.getEdgeList()) {
+                        cur = Graphs.getOppositeVertex(g, e, cur);
+                    }
+                    assertEquals(v, cur);
+                }
+            }
+            assertEquals(expectedReached, reached);
+        }
+    }
+
+}
@@ -0,0 +1,175 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link DynamicShortestPathTree}.
+ *
+ * @author agent
+ */
+public class DynamicShortestPathTreeTest
+{
+
+    @Test
+    public void testUpdateWeight()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b", "c", "d"));
+        DefaultWeightedEdge ab = Graphs.addEdge(g, "a", "b", 1d);
+        DefaultWeightedEdge bc = Graphs.addEdge(g, "b", "c", 1d);
+        DefaultWeightedEdge ac = Graphs.addEdge(g, "a", "c", 5d);
+        Graphs.addEdge(g, "c", "d", 1d);
+
+        DynamicShortestPathTree<String, DefaultWeightedEdge> tree =
+            new DynamicShortestPathTree<>(g, "a");
+        assertEquals(3d, tree.getWeight("d"), 1e-9);
+        assertEquals(bc, tree.getParentEdge("c"));
+
+        // increase a tree edge, subtree of b is repaired through edge ac
+        tree.updateWeight(bc, 10d);
+        assertEquals(5d, tree.getWeight("c"), 1e-9);
+        assertEquals(6d, tree.getWeight("d"), 1e-9);
+        assertEquals(ac, tree.getParentEdge("c"));
+        assertEquals(10d, g.getEdgeWeight(bc), 1e-9);
+        assertEquals(Arrays.asList("a", "c", "d"), tree.getPath("d").getVertexList());
+
+        // decrease a non-tree edge
+        tree.updateWeight(ab, 0d);
+        tree.updateWeight(bc, 2d);
+        assertEquals(2d, tree.getWeight("c"), 1e-9);
+        assertEquals(bc, tree.getParentEdge("c"));
+        assertEquals(Arrays.asList("a", "b", "c", "d"), tree.getPath("d").getVertexList());
+        assertEquals(3d, tree.getPath("d").getWeight(), 1e-9);
+
+        assertThrows(IllegalArgumentException.class, () -> tree.updateWeight(ab, -1d));
+    }
+
+    @Test
+    public void testListenableGraph()
+    {
+        DefaultListenableGraph<String, DefaultWeightedEdge> g = new DefaultListenableGraph<>(
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class));
+        Graphs.addAllVertices(g, Arrays.asList("a", "b", "c"));
+        DefaultWeightedEdge ab = Graphs.addEdge(g, "a", "b", 1d);
+        Graphs.addEdge(g, "b", "c", 1d);
+
+        DynamicShortestPathTree<String, DefaultWeightedEdge> tree =
+            new DynamicShortestPathTree<>(g, "a");
+        g.addGraphListener(tree);
+
+        assertEquals(2d, tree.getWeight("c"), 1e-9);
+        g.removeEdge(ab);
+        assertEquals(Double.POSITIVE_INFINITY, tree.getWeight("b"));
+        assertEquals(Double.POSITIVE_INFINITY, tree.getWeight("c"));
+        assertNull(tree.getPath("c"));
+
+        g.addVertex("d");
+        Graphs.addEdge(g, "a", "d", 3d);
+        Graphs.addEdge(g, "d", "c", 3d);
+        assertEquals(6d, tree.getWeight("c"), 1e-9);
+        assertEquals(Double.POSITIVE_INFINITY, tree.getWeight("b"));
+
+        g.removeVertex("d");
+        assertEquals(Double.POSITIVE_INFINITY, tree.getWeight("c"));
+
+        assertEquals(0d, tree.getWeight("a"));
+        assertEquals(0, tree.getPath("a").getLength());
+        g.removeVertex("a");
+        assertThrows(IllegalStateException.class, () -> tree.getWeight("b"));
+    }
+
+    @Test
+    public void testRandomUpdates()
+    {
+        Random rng = new Random(17);
+        for (boolean directed : new boolean[] { true, false }) {
+            Graph<Integer, DefaultWeightedEdge> base = directed
+                ? new DirectedWeightedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+                : new WeightedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(100, 300, 17, true, true)
+                .generateGraph(base);
+            for (DefaultWeightedEdge e : base.edgeSet()) {
+                // integer weights produce many ties
+                base.setEdgeWeight(e, rng.nextInt(10));
+            }
+            DefaultListenableGraph<Integer, DefaultWeightedEdge> g =
+                new DefaultListenableGraph<>(base);
+
+            DynamicShortestPathTree<Integer, DefaultWeightedEdge> tree =
+                new DynamicShortestPathTree<>(g, 0);
+            g.addGraphListener(tree);
+            assertCorrectTree(g, tree);
+
+            List<DefaultWeightedEdge> edges = new ArrayList<>(g.edgeSet());
+            for (int i = 0; i < 500; i++) {
+                int op = rng.nextInt(10);
+                if (op < 6) {
+                    DefaultWeightedEdge e = edges.get(rng.nextInt(edges.size()));
+                    g.setEdgeWeight(e, rng.nextInt(10));
+                } else if (op < 8) {
+                    DefaultWeightedEdge e = edges.remove(rng.nextInt(edges.size()));
+                    g.removeEdge(e);
+                } else {
+                    DefaultWeightedEdge e =
+                        g.addEdge(rng.nextInt(100), rng.nextInt(100));
+                    g.setEdgeWeight(e, rng.nextInt(10));
+                    edges.add(e);
+                }
+                assertCorrectTree(g, tree);
+            }
+        }
+    }
+
+    private static <V, E> void assertCorrectTree(
+        Graph<V, E> g, DynamicShortestPathTree<V, E> tree)
+    {
+        SingleSourcePaths<V, E> expected =
+            new DijkstraShortestPath<>(g).getPaths(tree.getSourceVertex());
+        for (V v : g.vertexSet()) {
+            assertEquals(expected.getWeight(v), tree.getWeight(v), 1e-9);
+            GraphPath<V, E> path = tree.getPath(v);
+            if (path == null) {
+                assertEquals(Double.POSITIVE_INFINITY, expected.getWeight(v));
+                continue;
+            }
+            double weight = 0d;
+            for (E e : path.getEdgeList()) {
+                weight += g.getEdgeWeight(e);
+            }
+            assertEquals(expected.getWeight(v), weight, 1e-9);
+            assertEquals(v, path.getEndVertex());
+        }
+    }
+
+}
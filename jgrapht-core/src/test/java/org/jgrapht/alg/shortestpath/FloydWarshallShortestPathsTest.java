@@ -18,12 +18,15 @@
 package org.jgrapht.alg.shortestpath;
 
 import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
 import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.graph.builder.*;
 import org.jgrapht.util.*;
 import org.junit.jupiter.api.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -162,4 +165,56 @@ public class FloydWarshallShortestPathsTest
         assertEquals(fw.getLastHop("a", "b"), vertexPath.get(vertexPath.size() - 2));
         assertNull(fw.getPath("b", "a"));
     }
+
+    @Test
+    public void testBlockedParallelCompareWithDijkstra()
+        throws InterruptedException
+    {
+        ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+        try {
+            Random rng = new Random(17);
+            for (boolean directed : new boolean[] { true, false }) {
+                Graph<Integer, DefaultWeightedEdge> g = GraphTypeBuilder
+                    .<Integer, DefaultWeightedEdge> forGraphType(
+                        directed ? DefaultGraphType.directedSimple() : DefaultGraphType.simple())
+                    .vertexSupplier(SupplierUtil.createIntegerSupplier())
+                    .edgeSupplier(SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER).weighted(true)
+                    .buildGraph();
+                // several blocks, including isolated vertices and vertices with degree one
+                new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(300, 450, 17)
+                    .generateGraph(g);
+                for (DefaultWeightedEdge e : g.edgeSet()) {
+                    g.setEdgeWeight(e, 1 + rng.nextInt(100));
+                }
+
+                FloydWarshallShortestPaths<Integer, DefaultWeightedEdge> fw =
+                    new FloydWarshallShortestPaths<>(g);
+                FloydWarshallShortestPaths<Integer, DefaultWeightedEdge> parallelFw =
+                    new FloydWarshallShortestPaths<>(g, executor);
+                assertEquals(fw.getShortestPathsCount(), parallelFw.getShortestPathsCount());
+
+                for (Integer v1 : g.vertexSet()) {
+                    ShortestPathAlgorithm.SingleSourcePaths<Integer,
+                        DefaultWeightedEdge> dPaths = new DijkstraShortestPath<>(g).getPaths(v1);
+                    for (Integer v2 : g.vertexSet()) {
+                        double expected = dPaths.getWeight(v2);
+                        assertEquals(expected, fw.getPathWeight(v1, v2), 1e-9);
+                        assertEquals(expected, parallelFw.getPathWeight(v1, v2), 1e-9);
+                        GraphPath<Integer, DefaultWeightedEdge> path =
+                            parallelFw.getPath(v1, v2);
+                        if (path != null && !path.getEdgeList().isEmpty()) {
+                            verifyPath(g, path, expected);
+                            List<Integer> vertexPath = path.getVertexList();
+                            assertEquals(parallelFw.getFirstHop(v1, v2), vertexPath.get(1));
+                            assertEquals(
+                                parallelFw.getLastHop(v1, v2),
+                                vertexPath.get(vertexPath.size() - 2));
+                        }
+                    }
+                }
+            }
+        } finally {
+            ConcurrencyUtil.shutdownExecutionService(executor);
+        }
+    }
 }
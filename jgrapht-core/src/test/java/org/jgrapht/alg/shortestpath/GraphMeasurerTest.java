@@ -19,11 +19,13 @@ package org.jgrapht.alg.shortestpath;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
 import org.jgrapht.util.*;
 import org.junit.jupiter.api.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.stream.*;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -265,4 +267,70 @@ public class GraphMeasurerTest
                 64, 66, 67, 69, 70, 71, 83, 89, 90, 95, 98),
             graphPseudoPeriphery3);
     }
+
+    @Test
+    public void testBreadthFirstSearchEccentricities()
+        throws InterruptedException
+    {
+        ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+        try {
+            Graph<Integer, DefaultEdge> directed = new DefaultDirectedGraph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+            new GnmRandomGraphGenerator<Integer, DefaultEdge>(200, 2000, 17)
+                .generateGraph(directed);
+            List<Graph<Integer, DefaultEdge>> graphs = List.of(getGraph1(), getGraph2(), directed);
+            for (Graph<Integer, DefaultEdge> g : graphs) {
+                GraphMeasurer<Integer, DefaultEdge> expected = new GraphMeasurer<>(g);
+                for (BFSShortestPath<Integer, DefaultEdge> bfs : List
+                    .of(new BFSShortestPath<>(g), new BFSShortestPath<>(g, executor)))
+                {
+                    GraphMeasurer<Integer, DefaultEdge> gdm = new GraphMeasurer<>(g, bfs);
+                    assertEquals(
+                        expected.getVertexEccentricityMap(), gdm.getVertexEccentricityMap());
+                    assertEquals(expected.getDiameter(), gdm.getDiameter(), EPSILON);
+                    assertEquals(expected.getRadius(), gdm.getRadius(), EPSILON);
+                }
+            }
+        } finally {
+            ConcurrencyUtil.shutdownExecutionService(executor);
+        }
+    }
+
+    @Test
+    public void testBreadthFirstSearchEccentricitiesWeighted()
+    {
+        Graph<Integer, DefaultWeightedEdge> undirected =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(undirected, 0, 1, 5d);
+        Graphs.addEdgeWithVertices(undirected, 1, 2, 7d);
+        GraphMeasurer<Integer, DefaultWeightedEdge> path =
+            new GraphMeasurer<>(undirected, new BFSShortestPath<>(undirected));
+        assertEquals(Map.of(0, 12d, 1, 7d, 2, 12d), path.getVertexEccentricityMap());
+        assertEquals(12d, path.getDiameter(), EPSILON);
+        assertEquals(7d, path.getRadius(), EPSILON);
+        assertEquals(Set.of(1), path.getGraphCenter());
+        assertEquals(Set.of(0, 2), path.getGraphPeriphery());
+
+        Graph<Integer, DefaultWeightedEdge> directed = new DirectedWeightedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(50, 400, 17)
+            .generateGraph(directed);
+        Random rng = new Random(17);
+        directed.edgeSet().forEach(e -> directed.setEdgeWeight(e, 1 + rng.nextInt(10)));
+
+        // the eccentricities use the weight of the paths found by the breadth-first search
+        BFSShortestPath<Integer, DefaultWeightedEdge> bfs = new BFSShortestPath<>(directed);
+        Map<Integer, Double> expected = new HashMap<>();
+        for (Integer u : directed.vertexSet()) {
+            double eccentricity = 0d;
+            for (Integer v : directed.vertexSet()) {
+                eccentricity = Math.max(eccentricity, bfs.getPathWeight(u, v));
+            }
+            expected.put(u, eccentricity);
+        }
+        GraphMeasurer<Integer, DefaultWeightedEdge> gdm = new GraphMeasurer<>(directed, bfs);
+        assertEquals(expected, gdm.getVertexEccentricityMap());
+        assertEquals(Collections.max(expected.values()), gdm.getDiameter(), EPSILON);
+        assertEquals(Collections.min(expected.values()), gdm.getRadius(), EPSILON);
+    }
 }
@@ -0,0 +1,134 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link IFUBDiameter}.
+ *
+ * @author agent
+ */
+public class IFUBDiameterTest
+{
+    private static ThreadPoolExecutor executor;
+
+    @BeforeAll
+    public static void createExecutor()
+    {
+        executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+    }
+
+    @AfterAll
+    public static void shutdownExecutor()
+        throws InterruptedException
+    {
+        ConcurrencyUtil.shutdownExecutionService(executor);
+    }
+
+    @Test
+    public void testSpecialCases()
+    {
+        Graph<Integer, DefaultEdge> g = new DefaultUndirectedGraph<>(DefaultEdge.class);
+        assertEquals(0d, new IFUBDiameter<>(g).getDiameter());
+        g.addVertex(0);
+        assertEquals(0d, new IFUBDiameter<>(g).getDiameter());
+        g.addVertex(1);
+        assertEquals(Double.POSITIVE_INFINITY, new IFUBDiameter<>(g).getDiameter());
+        g.addEdge(0, 1);
+        assertEquals(1d, new IFUBDiameter<>(g).getDiameter());
+
+        Graph<Integer, DefaultEdge> directed = new DefaultDirectedGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(directed, List.of(0, 1, 2));
+        directed.addEdge(0, 1);
+        directed.addEdge(1, 2);
+        assertEquals(Double.POSITIVE_INFINITY, new IFUBDiameter<>(directed).getDiameter());
+        directed.addEdge(2, 0);
+        assertEquals(2d, new IFUBDiameter<>(directed).getDiameter());
+    }
+
+    @Test
+    public void testGrid()
+    {
+        Graph<Integer, DefaultEdge> g = new DefaultUndirectedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GridGraphGenerator<Integer, DefaultEdge>(30, 40).generateGraph(g);
+        IFUBDiameter<Integer, DefaultEdge> alg = new IFUBDiameter<>(g, executor);
+        assertEquals(68d, alg.getDiameter());
+    }
+
+    @Test
+    public void testUnboundedPool()
+        throws InterruptedException
+    {
+        Graph<Integer, DefaultEdge> g = new DefaultUndirectedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GridGraphGenerator<Integer, DefaultEdge>(30, 40).generateGraph(g);
+        ThreadPoolExecutor unbounded = (ThreadPoolExecutor) Executors.newCachedThreadPool();
+        try {
+            assertEquals(68d, new IFUBDiameter<>(g, unbounded).getDiameter());
+        } finally {
+            ConcurrencyUtil.shutdownExecutionService(unbounded);
+        }
+    }
+
+    @Test
+    public void testRandomGraphs()
+    {
+        Random rng = new Random(17);
+        List<GraphGenerator<Integer, DefaultEdge, Integer>> generators = List
+            .of(
+                new GnmRandomGraphGenerator<>(400, 800, rng.nextLong(), false, false),
+                new GnmRandomGraphGenerator<>(400, 420, rng.nextLong(), false, false),
+                new BarabasiAlbertGraphGenerator<>(3, 1, 400, rng.nextLong()),
+                new BarabasiAlbertGraphGenerator<>(3, 2, 400, rng.nextLong()),
+                new WattsStrogatzGraphGenerator<>(400, 4, 0.05, rng.nextLong()));
+        for (GraphGenerator<Integer, DefaultEdge, Integer> generator : generators) {
+            for (boolean directed : new boolean[] { false, true }) {
+                Graph<Integer, DefaultEdge> g = directed
+                    ? new DirectedPseudograph<>(
+                        SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+                        false)
+                    : new Pseudograph<>(
+                        SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+                        false);
+                generator.generateGraph(g);
+
+                double expected = new GraphMeasurer<>(g).getDiameter();
+                IFUBDiameter<Integer, DefaultEdge> alg = new IFUBDiameter<>(g);
+                assertEquals(expected, alg.getDiameter());
+                assertEquals(expected, new IFUBDiameter<>(g, executor).getDiameter());
+                assertEquals(expected, GraphMetrics.getDiameter(g));
+                assertEquals(new GraphMeasurer<>(g).getRadius(), GraphMetrics.getRadius(g));
+                if (!directed && !Double.isInfinite(expected)) {
+                    assertTrue(alg.getNumberOfSearches() < g.vertexSet().size());
+                }
+            }
+        }
+    }
+
+}
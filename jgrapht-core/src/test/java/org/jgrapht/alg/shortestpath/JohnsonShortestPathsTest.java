@@ -25,9 +25,11 @@ import org.jgrapht.util.*;
 import org.junit.jupiter.api.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -156,4 +158,58 @@ public class JohnsonShortestPathsTest
 
     }
 
+    @Test
+    public void testParallelCompareWithFloydWarshall()
+        throws InterruptedException
+    {
+        final int n = 200;
+        Random rng = new Random(17);
+        ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+        try {
+            for (boolean negativeWeights : new boolean[] { false, true }) {
+                Graph<Integer, DefaultWeightedEdge> g = GraphTypeBuilder
+                    .directed().vertexSupplier(SupplierUtil.createIntegerSupplier())
+                    .edgeClass(DefaultWeightedEdge.class).weighted(true)
+                    .allowingMultipleEdges(true).allowingSelfLoops(true).buildGraph();
+                new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(n, 0.05, rng, false)
+                    .generateGraph(g);
+
+                // negative weights only on forward edges, thus no negative cycles
+                for (DefaultWeightedEdge e : g.edgeSet()) {
+                    double weight = rng.nextDouble();
+                    if (g.getEdgeSource(e) >= g.getEdgeTarget(e)) {
+                        weight += n + 1;
+                    } else if (negativeWeights && rng.nextBoolean()) {
+                        weight *= -1;
+                    }
+                    g.setEdgeWeight(e, weight);
+                }
+
+                JohnsonShortestPaths<Integer, DefaultWeightedEdge> johnson =
+                    new JohnsonShortestPaths<>(g, executor);
+                FloydWarshallShortestPaths<Integer, DefaultWeightedEdge> fw =
+                    new FloydWarshallShortestPaths<>(g);
+
+                for (Integer v : g.vertexSet()) {
+                    for (Integer u : g.vertexSet()) {
+                        double expected = fw.getPathWeight(v, u);
+                        assertEquals(expected, johnson.getPathWeight(v, u), 1e-9);
+                        GraphPath<Integer, DefaultWeightedEdge> path = johnson.getPath(v, u);
+                        if (Double.isInfinite(expected)) {
+                            assertNull(path);
+                        } else {
+                            assertEquals(expected, path.getWeight(), 1e-9);
+                            assertEquals(
+                                expected,
+                                path.getEdgeList().stream().mapToDouble(g::getEdgeWeight).sum(),
+                                1e-9);
+                        }
+                    }
+                }
+            }
+        } finally {
+            ConcurrencyUtil.shutdownExecutionService(executor);
+        }
+    }
+
 }
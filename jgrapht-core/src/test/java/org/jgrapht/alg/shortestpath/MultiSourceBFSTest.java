@@ -0,0 +1,144 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link MultiSourceBFS}.
+ *
+ * @author agent
+ */
+public class MultiSourceBFSTest
+{
+    private static ThreadPoolExecutor executor;
+
+    @BeforeAll
+    public static void createExecutor()
+    {
+        executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+    }
+
+    @AfterAll
+    public static void shutdownExecutor()
+        throws InterruptedException
+    {
+        ConcurrencyUtil.shutdownExecutionService(executor);
+    }
+
+    @Test
+    public void testPath()
+    {
+        Graph<Integer, DefaultEdge> g = new DefaultUndirectedGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, List.of(0, 1, 2, 3));
+        g.addEdge(0, 1);
+        g.addEdge(1, 2);
+        g.addEdge(2, 3);
+
+        MultiSourceBFS.DistanceStatistics statistics = new MultiSourceBFS<>(g).computeStatistics();
+        assertEquals(4, statistics.size());
+        assertEquals(6, statistics.getDistanceSum(0));
+        assertEquals(4, statistics.getDistanceSum(1));
+        assertEquals(4, statistics.getDistanceSum(2));
+        assertEquals(6, statistics.getDistanceSum(3));
+        assertEquals(3, statistics.getEccentricity(0));
+        assertEquals(2, statistics.getEccentricity(1));
+        assertEquals(4, statistics.getReachedCount(2));
+        assertEquals(1 + 1 / 2d + 1 / 3d, statistics.getInverseDistanceSum(3), 1e-9);
+    }
+
+    @Test
+    public void testSourcesSubset()
+    {
+        Graph<Integer, DefaultEdge> g = new DefaultDirectedGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, List.of(0, 1, 2));
+        g.addEdge(0, 1);
+        g.addEdge(1, 2);
+
+        MultiSourceBFS<Integer, DefaultEdge> search = new MultiSourceBFS<>(g);
+        MultiSourceBFS.DistanceStatistics statistics =
+            search.computeStatistics(new int[] { 2, 0, 0 });
+        assertEquals(3, statistics.size());
+        assertEquals(1, statistics.getReachedCount(0));
+        assertEquals(0, statistics.getEccentricity(0));
+        assertEquals(0, statistics.getDistanceSum(0));
+        for (int i = 1; i < 3; i++) {
+            assertEquals(3, statistics.getReachedCount(i));
+            assertEquals(3, statistics.getDistanceSum(i));
+            assertEquals(2, statistics.getEccentricity(i));
+        }
+        assertThrows(
+            IllegalArgumentException.class, () -> search.computeStatistics(new int[] { 3 }));
+    }
+
+    @Test
+    public void testRandomGraphs()
+    {
+        Random rng = new Random(17);
+        for (boolean directed : new boolean[] { true, false }) {
+            Graph<Integer, DefaultEdge> g = directed
+                ? new DefaultDirectedGraph<>(
+                    SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+                    false)
+                : new DefaultUndirectedGraph<>(
+                    SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+                    false);
+            new GnmRandomGraphGenerator<Integer, DefaultEdge>(500, 1200, rng.nextLong())
+                .generateGraph(g);
+
+            DirectionOptimizingBFS<Integer, DefaultEdge> bfs = new DirectionOptimizingBFS<>(g);
+            IndexedAdjacency<Integer, DefaultEdge> adjacency = bfs.getAdjacency();
+            int n = adjacency.vertexCount();
+            for (MultiSourceBFS<Integer, DefaultEdge> search : List
+                .of(new MultiSourceBFS<>(g), new MultiSourceBFS<>(g, executor)))
+            {
+                assertEquals(adjacency.getVertices(), search.getAdjacency().getVertices());
+                MultiSourceBFS.DistanceStatistics statistics = search.computeStatistics();
+                int[] distance = new int[n];
+                for (int s = 0; s < n; s++) {
+                    int reached = bfs.search(s, distance, null);
+                    long sum = 0;
+                    double inverseSum = 0d;
+                    int eccentricity = 0;
+                    for (int d : distance) {
+                        if (d > 0) {
+                            sum += d;
+                            inverseSum += 1d / d;
+                            eccentricity = Math.max(eccentricity, d);
+                        }
+                    }
+                    assertEquals(reached, statistics.getReachedCount(s));
+                    assertEquals(sum, statistics.getDistanceSum(s));
+                    assertEquals(inverseSum, statistics.getInverseDistanceSum(s), 1e-9);
+                    assertEquals(eccentricity, statistics.getEccentricity(s));
+                }
+            }
+        }
+    }
+
+}
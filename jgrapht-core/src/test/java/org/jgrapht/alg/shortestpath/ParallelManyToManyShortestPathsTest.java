@@ -0,0 +1,223 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for {@link ParallelManyToManyShortestPaths}.
+ *
+ * @author agent
+ */
+public class ParallelManyToManyShortestPathsTest
+    extends BaseManyToManyShortestPathsTest
+{
+    private static ThreadPoolExecutor executor;
+
+    @BeforeAll
+    public static void createExecutor()
+    {
+        executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+    }
+
+    @AfterAll
+    public static void shutdownExecutor()
+        throws InterruptedException
+    {
+        ConcurrencyUtil.shutdownExecutionService(executor);
+    }
+
+    @Test
+    public void testEmptyGraph()
+    {
+        super.testEmptyGraph();
+    }
+
+    @Test
+    public void testSourcesIsNull()
+    {
+        assertThrows(NullPointerException.class, () -> super.testSourcesIsNull());
+    }
+
+    @Test
+    public void testTargetsIsNull()
+    {
+        assertThrows(NullPointerException.class, () -> super.testTargetsIsNull());
+    }
+
+    @Test
+    public void testNoPath()
+    {
+        super.testNoPath();
+    }
+
+    @Test
+    public void testDifferentSourcesAndTargetsSimpleGraph()
+    {
+        super.testDifferentSourcesAndTargetsSimpleGraph();
+    }
+
+    @Test
+    public void testDifferentSourcesAndTargetsMultigraph()
+    {
+        super.testDifferentSourcesAndTargetsMultigraph();
+    }
+
+    @Test
+    public void testSourcesEqualTargetsSimpleGraph()
+    {
+        super.testSourcesEqualTargetsSimpleGraph();
+    }
+
+    @Test
+    public void testSourcesEqualTargetsMultigraph()
+    {
+        super.testSourcesEqualTargetsMultigraph();
+    }
+
+    @Test
+    public void testOnRandomGraphs()
+    {
+        super.testOnRandomGraphs(100, 5, new int[][] { { 40, 20 }, { 20, 40 }, { 5, 5 } }, 5);
+    }
+
+    @Test
+    public void testContractionHierarchy()
+    {
+        Random random = new Random(SEED);
+        for (int i = 0; i < 5; i++) {
+            Graph<Integer, DefaultWeightedEdge> graph = generateRandomGraph(100, 500, random);
+            ContractionHierarchy<Integer, DefaultWeightedEdge> hierarchy =
+                new ContractionHierarchyPrecomputation<>(graph, () -> new Random(SEED), executor)
+                    .computeContractionHierarchy();
+            Set<Integer> sources = getRandomVertices(graph, 40, random);
+            Set<Integer> targets = getRandomVertices(graph, 30, random);
+
+            for (ThreadPoolExecutor e : Arrays.asList(null, executor)) {
+                ParallelManyToManyShortestPaths<Integer, DefaultWeightedEdge> algorithm =
+                    new ParallelManyToManyShortestPaths<>(hierarchy, e);
+                assertCorrectPaths(
+                    graph, algorithm.getManyToManyPaths(sources, targets), sources, targets);
+                assertCorrectPaths(
+                    graph, algorithm.getManyToManyPaths(sources, sources), sources, sources);
+            }
+        }
+    }
+
+    @Test
+    public void testRadixHeap()
+    {
+        Random random = new Random(SEED);
+        for (int[] sizes : new int[][] { { 40, 20 }, { 20, 40 }, { 5, 5 } }) {
+            Graph<Integer, DefaultWeightedEdge> graph = generateRandomGraph(100, 500, random);
+            for (DefaultWeightedEdge e : graph.edgeSet()) {
+                graph.setEdgeWeight(e, random.nextInt(10));
+            }
+            Set<Integer> sources = getRandomVertices(graph, sizes[0], random);
+            Set<Integer> targets = getRandomVertices(graph, sizes[1], random);
+
+            for (ThreadPoolExecutor e : Arrays.asList(null, executor)) {
+                ParallelManyToManyShortestPaths<Integer, DefaultWeightedEdge> algorithm =
+                    new ParallelManyToManyShortestPaths<>(
+                        graph, e, DijkstraQueueStrategy.RADIX_HEAP);
+                assertCorrectWeights(
+                    graph, algorithm.getManyToManyPaths(sources, targets), sources, targets);
+            }
+        }
+    }
+
+    @Test
+    public void testDistanceMatrix()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph = getSimpleGraph();
+        ParallelManyToManyShortestPaths.DistanceMatrix<Integer, DefaultWeightedEdge> matrix =
+            new ParallelManyToManyShortestPaths<>(graph, null)
+                .getDistanceMatrix(Arrays.asList(5, 1), Arrays.asList(9, 1, 5));
+
+        assertEquals(Arrays.asList(5, 1), matrix.getSourceList());
+        assertEquals(Arrays.asList(9, 1, 5), matrix.getTargetList());
+        double[] distances = matrix.getDistances();
+        assertEquals(6, distances.length);
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> dijkstra =
+            new DijkstraShortestPath<>(graph);
+        for (int i = 0; i < 2; i++) {
+            for (int j = 0; j < 3; j++) {
+                Integer source = matrix.getSourceList().get(i);
+                Integer target = matrix.getTargetList().get(j);
+                double expected = dijkstra.getPathWeight(source, target);
+                assertEquals(expected, distances[i * 3 + j], 1e-9);
+                assertEquals(expected, matrix.getWeight(source, target), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    public void testDuplicateVertices()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph = getSimpleGraph();
+        ParallelManyToManyShortestPaths<Integer, DefaultWeightedEdge> algorithm =
+            new ParallelManyToManyShortestPaths<>(graph, null);
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> algorithm.getDistanceMatrix(Arrays.asList(1, 1), Arrays.asList(2)));
+    }
+
+    @Test
+    public void testTooLargeDistanceMatrix()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph = getSimpleGraph();
+        ParallelManyToManyShortestPaths<Integer, DefaultWeightedEdge> algorithm =
+            new ParallelManyToManyShortestPaths<>(graph, null);
+        List<Integer> vertices = Collections.nCopies(50000, 1);
+        IllegalArgumentException e = assertThrows(
+            IllegalArgumentException.class, () -> algorithm.getDistanceMatrix(vertices, vertices));
+        assertTrue(e.getMessage().contains("exceeds array limits"));
+    }
+
+    @Test
+    public void testNegativeWeight()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new DefaultDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(graph, 1, 2, -1.0);
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new ParallelManyToManyShortestPaths<>(graph, null));
+        graph.setEdgeWeight(1, 2, 0.5);
+        assertThrows(
+            IllegalArgumentException.class, () -> new ParallelManyToManyShortestPaths<>(
+                graph, null, DijkstraQueueStrategy.RADIX_HEAP));
+    }
+
+    @Override
+    protected ManyToManyShortestPathsAlgorithm<Integer, DefaultWeightedEdge> getAlgorithm(
+        Graph<Integer, DefaultWeightedEdge> graph)
+    {
+        return new ParallelManyToManyShortestPaths<>(graph, executor);
+    }
+}
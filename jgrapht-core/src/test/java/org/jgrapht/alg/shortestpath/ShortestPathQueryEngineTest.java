@@ -0,0 +1,235 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ShortestPathQueryEngine}.
+ *
+ * @author agent
+ */
+public class ShortestPathQueryEngineTest
+{
+    private static final long SEED = 17;
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    public void testBidirectionalDijkstraDirected()
+    {
+        Random random = new Random(SEED);
+        for (int i = 0; i < 10; i++) {
+            Graph<Integer, DefaultWeightedEdge> graph = createGraph(true, 60, 240, random);
+            assertSameAsDijkstra(graph, new ShortestPathQueryEngine<>(graph));
+        }
+    }
+
+    @Test
+    public void testBidirectionalDijkstraUndirected()
+    {
+        Random random = new Random(SEED);
+        for (int i = 0; i < 10; i++) {
+            Graph<Integer, DefaultWeightedEdge> graph = createGraph(false, 60, 120, random);
+            assertSameAsDijkstra(graph, new ShortestPathQueryEngine<>(graph));
+        }
+    }
+
+    @Test
+    public void testAStar()
+    {
+        Random random = new Random(SEED);
+        for (int i = 0; i < 10; i++) {
+            Graph<Integer, DefaultWeightedEdge> graph = createGraph(i % 2 == 0, 60, 200, random);
+            ShortestPathAlgorithm<Integer, DefaultWeightedEdge> dijkstra =
+                new DijkstraShortestPath<>(graph);
+
+            // zero heuristic, which is consistent
+            assertSameAsDijkstra(graph, new ShortestPathQueryEngine<>(graph, (u, v) -> 0d));
+
+            // an admissible but inconsistent heuristic
+            Map<Integer, Double> factors = new HashMap<>();
+            for (Integer v : graph.vertexSet()) {
+                factors.put(v, random.nextDouble());
+            }
+            assertSameAsDijkstra(
+                graph, new ShortestPathQueryEngine<>(graph, (u, v) -> {
+                    double d = dijkstra.getPathWeight(u, v);
+                    return d == Double.POSITIVE_INFINITY ? 0d : factors.get(u) * d;
+                }));
+        }
+    }
+
+    @Test
+    public void testGetPaths()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            createGraph(true, 100, 400, new Random(SEED));
+        ShortestPathQueryEngine<Integer, DefaultWeightedEdge> engine =
+            new ShortestPathQueryEngine<>(graph);
+        DijkstraShortestPath<Integer, DefaultWeightedEdge> dijkstra =
+            new DijkstraShortestPath<>(graph);
+        for (Integer source : graph.vertexSet()) {
+            SingleSourcePaths<Integer, DefaultWeightedEdge> paths = engine.getPaths(source);
+            for (Integer target : graph.vertexSet()) {
+                assertEquals(
+                    dijkstra.getPathWeight(source, target), paths.getWeight(target), EPSILON);
+                GraphPath<Integer, DefaultWeightedEdge> path = paths.getPath(target);
+                if (path != null) {
+                    assertValidPath(graph, source, target, path);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testConcurrentQueries()
+        throws InterruptedException,
+        ExecutionException
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            createGraph(true, 200, 800, new Random(SEED));
+        ShortestPathQueryEngine<Integer, DefaultWeightedEdge> engine =
+            new ShortestPathQueryEngine<>(graph);
+        DijkstraShortestPath<Integer, DefaultWeightedEdge> dijkstra =
+            new DijkstraShortestPath<>(graph);
+
+        ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int task = 0; task < 8; task++) {
+                long seed = SEED + task;
+                results.add(executor.submit(() -> {
+                    Random random = new Random(seed);
+                    for (int i = 0; i < 500; i++) {
+                        int source = random.nextInt(200);
+                        int target = random.nextInt(200);
+                        double expected = dijkstra.getPathWeight(source, target);
+                        double actual = engine.getPathWeight(source, target);
+                        if (expected == Double.POSITIVE_INFINITY ? actual != expected
+                            : Math.abs(actual - expected) > EPSILON)
+                        {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            ConcurrencyUtil.shutdownExecutionService(executor);
+        }
+    }
+
+    @Test
+    public void testNegativeWeight()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(graph, 0, 1, -1d);
+        assertThrows(IllegalArgumentException.class, () -> new ShortestPathQueryEngine<>(graph));
+    }
+
+    @Test
+    public void testMissingVertex()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(graph, 0, 1, 1d);
+        ShortestPathQueryEngine<Integer, DefaultWeightedEdge> engine =
+            new ShortestPathQueryEngine<>(graph);
+        assertThrows(IllegalArgumentException.class, () -> engine.getPath(0, 2));
+        assertThrows(IllegalArgumentException.class, () -> engine.getPath(2, 0));
+        assertNull(engine.getPath(1, 0));
+        assertEquals(Double.POSITIVE_INFINITY, engine.getPathWeight(1, 0));
+        assertEquals(0d, engine.getPathWeight(1, 1));
+        assertEquals(Collections.singletonList(1), engine.getPath(1, 1).getVertexList());
+    }
+
+    private static void assertSameAsDijkstra(
+        Graph<Integer, DefaultWeightedEdge> graph,
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> engine)
+    {
+        DijkstraShortestPath<Integer, DefaultWeightedEdge> dijkstra =
+            new DijkstraShortestPath<>(graph);
+        for (Integer source : graph.vertexSet()) {
+            for (Integer target : graph.vertexSet()) {
+                double expected = dijkstra.getPathWeight(source, target);
+                assertEquals(expected, engine.getPathWeight(source, target), EPSILON);
+                GraphPath<Integer, DefaultWeightedEdge> path = engine.getPath(source, target);
+                if (expected == Double.POSITIVE_INFINITY) {
+                    assertNull(path);
+                } else {
+                    assertEquals(expected, path.getWeight(), EPSILON);
+                    assertValidPath(graph, source, target, path);
+                }
+            }
+        }
+    }
+
+    private static void assertValidPath(
+        Graph<Integer, DefaultWeightedEdge> graph, Integer source, Integer target,
+        GraphPath<Integer, DefaultWeightedEdge> path)
+    {
+        assertEquals(source, path.getStartVertex());
+        assertEquals(target, path.getEndVertex());
+        List<Integer> vertices = path.getVertexList();
+        List<DefaultWeightedEdge> edges = path.getEdgeList();
+        assertEquals(vertices.size(), edges.size() + 1);
+        double weight = 0d;
+        for (int i = 0; i < edges.size(); i++) {
+            DefaultWeightedEdge e = edges.get(i);
+            assertEquals(vertices.get(i + 1), Graphs.getOppositeVertex(graph, e, vertices.get(i)));
+            if (graph.getType().isDirected()) {
+                assertEquals(vertices.get(i), graph.getEdgeSource(e));
+            }
+            weight += graph.getEdgeWeight(e);
+        }
+        assertEquals(path.getWeight(), weight, EPSILON);
+    }
+
+    private static Graph<Integer, DefaultWeightedEdge> createGraph(
+        boolean directed, int n, int m, Random random)
+    {
+        Graph<Integer, DefaultWeightedEdge> graph = directed
+            ? new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(),
+                SupplierUtil.createDefaultWeightedEdgeSupplier())
+            : new WeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(),
+                SupplierUtil.createDefaultWeightedEdgeSupplier());
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+            n, m, random.nextLong(), true, true).generateGraph(graph);
+        for (DefaultWeightedEdge e : graph.edgeSet()) {
+            graph.setEdgeWeight(e, random.nextInt(10));
+        }
+        return graph;
+    }
+}
@@ -24,9 +24,11 @@ import org.jgrapht.util.*;
 import org.junit.jupiter.api.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Tests for the {@link YenKShortestPath}.
@@ -142,6 +144,59 @@ public class YenKShortestPathTest
         }
     }
 
+    @Test
+    public void testConcurrentOnRandomGraphs()
+        throws InterruptedException
+    {
+        ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+        try {
+            Random random = new Random(SEED);
+            int n = 40;
+            double p = 0.15;
+            for (int i = 0; i < 20; i++) {
+                Graph<Integer, DefaultWeightedEdge> graph = i % 2 == 0
+                    ? new DirectedWeightedPseudograph<>(
+                        SupplierUtil.createIntegerSupplier(),
+                        SupplierUtil.createDefaultWeightedEdgeSupplier())
+                    : new WeightedPseudograph<>(
+                        SupplierUtil.createIntegerSupplier(),
+                        SupplierUtil.createDefaultWeightedEdgeSupplier());
+                getRandomGraph(graph, n, p, random);
+                Integer source = (int) (random.nextDouble() * n);
+                Integer target = (int) (random.nextDouble() * n);
+                Set<DefaultWeightedEdge> randomEdges = getRandomEdges(graph, 5);
+                PathValidator<Integer, DefaultWeightedEdge> pathValidator =
+                    (path, edge) -> !randomEdges.contains(edge);
+
+                for (PathValidator<Integer, DefaultWeightedEdge> validator : Arrays
+                    .asList(null, pathValidator))
+                {
+                    List<GraphPath<Integer, DefaultWeightedEdge>> expected =
+                        new YenKShortestPath<>(graph, validator).getPaths(source, target, 100);
+                    List<GraphPath<Integer, DefaultWeightedEdge>> actual =
+                        new YenKShortestPath<>(graph, validator, executor)
+                            .getPaths(source, target, 100);
+
+                    assertEquals(expected.size(), actual.size());
+                    assertEquals(actual.size(), new HashSet<>(actual).size());
+                    for (int j = 0; j < actual.size(); j++) {
+                        GraphPath<Integer, DefaultWeightedEdge> path = actual.get(j);
+                        assertEquals(expected.get(j).getWeight(), path.getWeight(), 1e-9);
+                        ((GraphWalk<Integer, DefaultWeightedEdge>) path).verify();
+                        assertEquals(
+                            path.getVertexList().size(),
+                            new HashSet<>(path.getVertexList()).size());
+                        if (validator != null) {
+                            assertTrue(isValidPath(path, validator));
+                        }
+                    }
+                }
+            }
+        } finally {
+            ConcurrencyUtil.shutdownExecutionService(executor);
+        }
+    }
+
     /**
      * Computes all simple shortest paths between {@code source} and {@code target} without
      * {@code pathValidator}. Then computes all shortest paths between {@code source} and
@@ -0,0 +1,96 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.util;
+
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link IndexedDaryHeap}
+ *
+ * @author agent
+ */
+public class IndexedDaryHeapTest
+{
+
+    @Test
+    public void testSort()
+    {
+        Random rng = new Random(33);
+        for (int d = 2; d <= 5; d++) {
+            IndexedDaryHeap heap = new IndexedDaryHeap(d, 1000);
+            double[] keys = new double[1000];
+            for (int i = 0; i < 1000; i++) {
+                keys[i] = rng.nextDouble();
+                heap.insert(i, keys[i]);
+            }
+            // decrease half of the keys
+            for (int i = 0; i < 1000; i += 2) {
+                keys[i] /= 2;
+                heap.decreaseKey(i, keys[i]);
+            }
+            assertEquals(1000, heap.size());
+
+            double prev = Double.NEGATIVE_INFINITY;
+            while (!heap.isEmpty()) {
+                double minKey = heap.findMinKey();
+                int min = heap.deleteMin();
+                assertEquals(keys[min], minKey);
+                assertEquals(keys[min], heap.getLastKey(min));
+                assertFalse(heap.contains(min));
+                assertTrue(prev <= minKey);
+                prev = minKey;
+            }
+        }
+    }
+
+    @Test
+    public void testInsertOrDecreaseKeyAndClear()
+    {
+        IndexedDaryHeap heap = new IndexedDaryHeap(10);
+        assertTrue(heap.insertOrDecreaseKey(3, 5d));
+        assertFalse(heap.insertOrDecreaseKey(3, 7d));
+        assertTrue(heap.insertOrDecreaseKey(3, 2d));
+        assertTrue(heap.insertOrDecreaseKey(4, 3d));
+        assertEquals(2d, heap.getKey(3));
+        assertEquals(3, heap.findMin());
+
+        heap.clear();
+        assertTrue(heap.isEmpty());
+        assertFalse(heap.contains(3));
+        assertFalse(heap.contains(4));
+
+        heap.insert(4, 1d);
+        assertEquals(4, heap.deleteMin());
+    }
+
+    @Test
+    public void testErrors()
+    {
+        IndexedDaryHeap heap = new IndexedDaryHeap(10);
+        assertThrows(NoSuchElementException.class, () -> heap.deleteMin());
+        heap.insert(1, 1d);
+        assertThrows(IllegalArgumentException.class, () -> heap.insert(1, 0d));
+        assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(1, 2d));
+        assertThrows(IllegalArgumentException.class, () -> new IndexedDaryHeap(1, 10));
+    }
+
+}
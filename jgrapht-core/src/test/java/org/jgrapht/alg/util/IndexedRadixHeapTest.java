@@ -0,0 +1,136 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.util;
+
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link IndexedRadixHeap}
+ *
+ * @author agent
+ */
+public class IndexedRadixHeapTest
+{
+
+    @Test
+    public void testMonotoneSequence()
+    {
+        Random rng = new Random(33);
+        int n = 1000;
+        IndexedRadixHeap heap = new IndexedRadixHeap(n);
+        long[] keys = new long[n];
+        boolean[] removed = new boolean[n];
+        int next = 0;
+
+        heap.insert(next++, 0L);
+        long prev = 0L;
+        while (!heap.isEmpty()) {
+            long minKey = heap.findMinKey();
+            int min = heap.deleteMin();
+            assertEquals(keys[min], minKey);
+            assertEquals(keys[min], heap.getLastKey(min));
+            assertFalse(heap.contains(min));
+            assertTrue(prev <= minKey);
+            removed[min] = true;
+            prev = minKey;
+
+            // insert a few elements with larger keys, as in Dijkstra's algorithm
+            for (int i = 0; i < 3 && next < n; i++) {
+                keys[next] = minKey + rng.nextInt(1 << rng.nextInt(20));
+                heap.insert(next, keys[next]);
+                next++;
+            }
+            // decrease some keys without going below the minimum
+            for (int i = 0; i < 2; i++) {
+                int element = rng.nextInt(next);
+                if (heap.contains(element) && keys[element] > minKey) {
+                    keys[element] = minKey + (keys[element] - minKey) / 2;
+                    heap.decreaseKey(element, keys[element]);
+                }
+            }
+        }
+        assertEquals(n, next);
+        for (int i = 0; i < n; i++) {
+            assertTrue(removed[i]);
+        }
+    }
+
+    @Test
+    public void testSort()
+    {
+        Random rng = new Random(17);
+        IndexedRadixHeap heap = new IndexedRadixHeap(1000);
+        long[] keys = new long[1000];
+        for (int i = 0; i < 1000; i++) {
+            keys[i] = rng.nextLong() >>> 1;
+            heap.insert(i, keys[i]);
+        }
+        assertEquals(1000, heap.size());
+        long[] sorted = keys.clone();
+        Arrays.sort(sorted);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(sorted[i], heap.getKey(heap.findMin()));
+            int min = heap.deleteMin();
+            assertEquals(sorted[i], keys[min]);
+        }
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    public void testInsertOrDecreaseKeyAndClear()
+    {
+        IndexedRadixHeap heap = new IndexedRadixHeap(10);
+        assertTrue(heap.insertOrDecreaseKey(3, 5L));
+        assertFalse(heap.insertOrDecreaseKey(3, 7L));
+        assertTrue(heap.insertOrDecreaseKey(3, 2L));
+        assertTrue(heap.insertOrDecreaseKey(4, 3L));
+        assertEquals(2L, heap.getKey(3));
+        assertEquals(3, heap.findMin());
+        assertEquals(3, heap.deleteMin());
+
+        heap.clear();
+        assertTrue(heap.isEmpty());
+        assertFalse(heap.contains(3));
+        assertFalse(heap.contains(4));
+
+        // clear resets the last minimum key
+        heap.insert(4, 1L);
+        assertEquals(4, heap.deleteMin());
+    }
+
+    @Test
+    public void testErrors()
+    {
+        IndexedRadixHeap heap = new IndexedRadixHeap(10);
+        assertThrows(NoSuchElementException.class, () -> heap.deleteMin());
+        assertThrows(IllegalArgumentException.class, () -> heap.insert(0, -1L));
+        heap.insert(1, 5L);
+        assertThrows(IllegalArgumentException.class, () -> heap.insert(1, 6L));
+        assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(1, 7L));
+        heap.insert(2, 10L);
+        assertEquals(1, heap.deleteMin());
+        assertThrows(IllegalArgumentException.class, () -> heap.insert(3, 4L));
+        assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(2, 4L));
+        assertThrows(IllegalArgumentException.class, () -> new IndexedRadixHeap(-1));
+    }
+
+}
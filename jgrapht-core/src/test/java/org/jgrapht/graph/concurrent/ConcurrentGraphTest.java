@@ -0,0 +1,302 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph.concurrent;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ConcurrentGraph}
+ *
+ * @author agent
+ */
+public class ConcurrentGraphTest
+{
+    private static final int NUM_THREADS = 8;
+
+    @Test
+    public void testDirectedPseudograph()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = new ConcurrentGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER,
+            DefaultGraphType.directedPseudograph().asWeighted());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(Integer.valueOf(i), g.addVertex());
+        }
+        assertFalse(g.addVertex(3));
+
+        DefaultWeightedEdge e01 = g.addEdge(0, 1);
+        DefaultWeightedEdge e01b = g.addEdge(0, 1);
+        DefaultWeightedEdge e11 = g.addEdge(1, 1);
+        DefaultWeightedEdge e21 = g.addEdge(2, 1);
+        assertNotNull(e01b);
+        assertFalse(g.addEdge(3, 2, e01));
+        assertThrows(IllegalArgumentException.class, () -> g.addEdge(0, 5));
+
+        assertEquals(4, g.edgeSet().size());
+        assertEquals(Set.of(e01, e01b), g.getAllEdges(0, 1));
+        assertEquals(Set.of(), g.getAllEdges(1, 0));
+        assertNull(g.getAllEdges(1, 7));
+        assertNull(g.getEdge(1, 0));
+        assertEquals(e11, g.getEdge(1, 1));
+        assertEquals(e21, g.getEdge(2, 1));
+        assertEquals(Integer.valueOf(2), g.getEdgeSource(e21));
+        assertEquals(Integer.valueOf(1), g.getEdgeTarget(e21));
+
+        assertEquals(4, g.inDegreeOf(1));
+        assertEquals(1, g.outDegreeOf(1));
+        assertEquals(5, g.degreeOf(1));
+        assertEquals(Set.of(e01, e01b, e11, e21), g.edgesOf(1));
+        assertEquals(4, g.edgesOf(1).size());
+        assertEquals(Set.of(e01, e01b, e11, e21), g.incomingEdgesOf(1));
+        assertEquals(Set.of(e11), g.outgoingEdgesOf(1));
+
+        g.setEdgeWeight(e21, 3d);
+        assertEquals(3d, g.getEdgeWeight(e21), 0d);
+        assertEquals(Graph.DEFAULT_EDGE_WEIGHT, g.getEdgeWeight(e01), 0d);
+
+        assertTrue(g.removeEdge(e01));
+        assertFalse(g.removeEdge(e01));
+        assertEquals(e01b, g.removeEdge(0, 1));
+        assertNull(g.removeEdge(0, 1));
+        assertTrue(g.removeVertex(1));
+        assertFalse(g.removeVertex(1));
+        assertEquals(Set.of(0, 2, 3), g.vertexSet());
+        assertTrue(g.edgeSet().isEmpty());
+        assertEquals(0, g.degreeOf(2));
+        assertFalse(g.containsEdge(e21));
+        assertThrows(IllegalArgumentException.class, () -> g.getEdgeSource(e21));
+        assertThrows(IllegalArgumentException.class, () -> g.edgesOf(1));
+        assertThrows(UnsupportedOperationException.class, () -> g.vertexSet().remove(0));
+    }
+
+    @Test
+    public void testUndirected()
+    {
+        Graph<String, DefaultEdge> g = new ConcurrentGraph<>(
+            null, SupplierUtil.DEFAULT_EDGE_SUPPLIER, DefaultGraphType.pseudograph(), 1);
+        Graph<String, DefaultEdge> expected = new Pseudograph<>(DefaultEdge.class);
+        for (String v : List.of("a", "b", "c")) {
+            g.addVertex(v);
+            expected.addVertex(v);
+        }
+        String[][] edges = { { "a", "b" }, { "b", "a" }, { "b", "b" }, { "b", "c" } };
+        for (String[] e : edges) {
+            g.addEdge(e[0], e[1]);
+            expected.addEdge(e[0], e[1]);
+        }
+        assertThrows(UnsupportedOperationException.class, () -> g.addVertex());
+        assertThrows(
+            UnsupportedOperationException.class, () -> g.setEdgeWeight(g.getEdge("a", "b"), 2d));
+
+        for (String v : expected.vertexSet()) {
+            assertEquals(expected.degreeOf(v), g.degreeOf(v));
+            assertEquals(expected.inDegreeOf(v), g.inDegreeOf(v));
+            assertEquals(expected.outDegreeOf(v), g.outDegreeOf(v));
+            assertEquals(expected.edgesOf(v).size(), g.edgesOf(v).size());
+            assertEquals(g.edgesOf(v), g.incomingEdgesOf(v));
+            assertEquals(g.edgesOf(v), g.outgoingEdgesOf(v));
+        }
+        assertEquals(2, g.getAllEdges("a", "b").size());
+        assertEquals(2, g.getAllEdges("b", "a").size());
+        assertNotNull(g.getEdge("c", "b"));
+
+        assertEquals(2, g.removeAllEdges("b", "a").size());
+        assertTrue(g.removeVertex("b"));
+        assertTrue(g.edgeSet().isEmpty());
+        assertEquals(0, g.degreeOf("c"));
+    }
+
+    @Test
+    public void testSimpleGraph()
+    {
+        Graph<Integer, DefaultEdge> g = new ConcurrentGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+            DefaultGraphType.simple());
+        g.addVertex(0);
+        g.addVertex(1);
+        assertThrows(IllegalArgumentException.class, () -> g.addEdge(0, 0));
+        DefaultEdge e = g.addEdge(0, 1);
+        assertNotNull(e);
+        assertNull(g.addEdge(1, 0));
+        assertFalse(g.addEdge(1, 0, new DefaultEdge()));
+        assertEquals(e, g.getEdge(1, 0));
+        assertThrows(IllegalArgumentException.class, () -> g.addVertex());
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new ConcurrentGraph<>(null, null, DefaultGraphType.simple(), 0));
+    }
+
+    @Test
+    public void testConcurrentAddEdges()
+        throws InterruptedException
+    {
+        int n = 100;
+        Graph<Integer, DefaultEdge> g = new ConcurrentGraph<>(
+            null, SupplierUtil.DEFAULT_EDGE_SUPPLIER, DefaultGraphType.directedSimple());
+        for (int i = 0; i < n; i++) {
+            g.addVertex(i);
+        }
+
+        AtomicInteger added = new AtomicInteger();
+        runConcurrently(t -> {
+            Random rng = new Random(t);
+            List<Integer> order = new ArrayList<>();
+            for (int i = 0; i < n * n; i++) {
+                order.add(i);
+            }
+            Collections.shuffle(order, rng);
+            for (int i : order) {
+                int u = i / n;
+                int v = i % n;
+                if (u != v && g.addEdge(u, v) != null) {
+                    added.incrementAndGet();
+                }
+            }
+        });
+
+        assertEquals(n * (n - 1), added.get());
+        assertEquals(n * (n - 1), g.edgeSet().size());
+        assertConsistent(g);
+    }
+
+    @Test
+    public void testConcurrentAddRemoveWithReaders()
+        throws InterruptedException
+    {
+        int n = 50;
+        Graph<Integer, DefaultEdge> g = new ConcurrentGraph<>(
+            null, SupplierUtil.DEFAULT_EDGE_SUPPLIER, DefaultGraphType.pseudograph(), 4);
+        for (int i = 0; i < n; i++) {
+            g.addVertex(i);
+        }
+
+        runConcurrently(t -> {
+            Random rng = new Random(t);
+            for (int i = 0; i < 20000; i++) {
+                int u = rng.nextInt(n);
+                int v = rng.nextInt(n);
+                if (t % 2 == 0) {
+                    // reader
+                    int count = 0;
+                    for (DefaultEdge e : g.edgesOf(u)) {
+                        assertNotNull(e);
+                        count++;
+                    }
+                    assertTrue(count >= 0);
+                    g.getEdge(u, v);
+                } else if (rng.nextBoolean()) {
+                    g.addEdge(u, v);
+                } else if (g.removeEdge(u, v) == null) {
+                    for (DefaultEdge e : g.outgoingEdgesOf(u)) {
+                        g.removeEdge(e);
+                        break;
+                    }
+                }
+            }
+        });
+
+        assertConsistent(g);
+    }
+
+    @Test
+    public void testConcurrentRemoveVertices()
+        throws InterruptedException
+    {
+        int n = 400;
+        Graph<Integer, DefaultEdge> g = new ConcurrentGraph<>(
+            null, SupplierUtil.DEFAULT_EDGE_SUPPLIER, DefaultGraphType.directedPseudograph());
+        for (int i = 0; i < n; i++) {
+            g.addVertex(i);
+        }
+
+        runConcurrently(t -> {
+            Random rng = new Random(t);
+            for (int i = 0; i < 10000; i++) {
+                int u = rng.nextInt(n);
+                int v = rng.nextInt(n);
+                if (t == 0 && i % 50 == 0) {
+                    g.removeVertex(u);
+                } else {
+                    try {
+                        g.addEdge(u, v);
+                    } catch (IllegalArgumentException e) {
+                        // vertex removed concurrently
+                    }
+                }
+            }
+        });
+
+        assertTrue(g.vertexSet().size() < n);
+        assertConsistent(g);
+    }
+
+    private static void runConcurrently(IntConsumer task)
+        throws InterruptedException
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(NUM_THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < NUM_THREADS; t++) {
+            int id = t;
+            futures.add(executor.submit(() -> task.accept(id)));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        for (Future<?> f : futures) {
+            try {
+                f.get();
+            } catch (ExecutionException e) {
+                fail(e.getCause());
+            }
+        }
+    }
+
+    private static <V, E> void assertConsistent(Graph<V, E> g)
+    {
+        Graph<V, E> expected = new DirectedPseudograph<>(null, null, false);
+        if (!g.getType().isDirected()) {
+            expected = new Pseudograph<>(null, null, false);
+        }
+        g.vertexSet().forEach(expected::addVertex);
+        for (E e : g.edgeSet()) {
+            V source = g.getEdgeSource(e);
+            V target = g.getEdgeTarget(e);
+            assertTrue(g.containsVertex(source));
+            assertTrue(g.containsVertex(target));
+            assertTrue(g.outgoingEdgesOf(source).contains(e));
+            assertTrue(g.incomingEdgesOf(target).contains(e));
+            expected.addEdge(source, target, e);
+        }
+        for (V v : g.vertexSet()) {
+            assertEquals(expected.outgoingEdgesOf(v), g.outgoingEdgesOf(v));
+            assertEquals(expected.incomingEdgesOf(v), g.incomingEdgesOf(v));
+            assertEquals(expected.edgesOf(v), g.edgesOf(v));
+            assertEquals(expected.degreeOf(v), g.degreeOf(v));
+        }
+    }
+
+}
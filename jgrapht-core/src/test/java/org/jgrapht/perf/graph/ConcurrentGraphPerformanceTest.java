@@ -0,0 +1,155 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.perf.graph;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.graph.concurrent.*;
+import org.jgrapht.util.*;
+import org.junit.jupiter.api.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * A contention benchmark comparing {@link AsSynchronizedGraph} with {@link ConcurrentGraph}. Writer
+ * threads repeatedly add and remove random edges while reader threads concurrently iterate over
+ * the outgoing edges of random vertices.
+ *
+ * @author agent
+ */
+public class ConcurrentGraphPerformanceTest
+{
+    public static final int PERF_BENCHMARK_VERTICES_COUNT = 10000;
+    public static final int PERF_BENCHMARK_EDGES_COUNT = 100000;
+    public static final long SEED = 17;
+
+    @State(Scope.Group)
+    private static abstract class ContentionBenchmarkBase
+    {
+        protected Graph<Integer, DefaultEdge> graph;
+
+        abstract Graph<Integer, DefaultEdge> createGraph();
+
+        @Setup(Level.Iteration)
+        public void setup()
+        {
+            graph = createGraph();
+            for (int i = 0; i < PERF_BENCHMARK_VERTICES_COUNT; i++) {
+                graph.addVertex(i);
+            }
+            Random rng = new Random(SEED);
+            for (int i = 0; i < PERF_BENCHMARK_EDGES_COUNT; i++) {
+                graph
+                    .addEdge(
+                        rng.nextInt(PERF_BENCHMARK_VERTICES_COUNT),
+                        rng.nextInt(PERF_BENCHMARK_VERTICES_COUNT));
+            }
+        }
+
+        @Benchmark
+        @Group("writeHeavy")
+        @GroupThreads(6)
+        public boolean writeHeavyWriter()
+        {
+            return addAndRemoveEdge();
+        }
+
+        @Benchmark
+        @Group("writeHeavy")
+        @GroupThreads(2)
+        public int writeHeavyReader()
+        {
+            return readOutgoingEdges();
+        }
+
+        @Benchmark
+        @Group("readHeavy")
+        @GroupThreads(2)
+        public boolean readHeavyWriter()
+        {
+            return addAndRemoveEdge();
+        }
+
+        @Benchmark
+        @Group("readHeavy")
+        @GroupThreads(6)
+        public int readHeavyReader()
+        {
+            return readOutgoingEdges();
+        }
+
+        private boolean addAndRemoveEdge()
+        {
+            ThreadLocalRandom rng = ThreadLocalRandom.current();
+            DefaultEdge e = graph
+                .addEdge(
+                    rng.nextInt(PERF_BENCHMARK_VERTICES_COUNT),
+                    rng.nextInt(PERF_BENCHMARK_VERTICES_COUNT));
+            return graph.removeEdge(e);
+        }
+
+        private int readOutgoingEdges()
+        {
+            int v = ThreadLocalRandom.current().nextInt(PERF_BENCHMARK_VERTICES_COUNT);
+            int count = graph.outDegreeOf(v);
+            for (DefaultEdge e : graph.outgoingEdgesOf(v)) {
+                count += e.hashCode();
+            }
+            return count;
+        }
+    }
+
+    public static class AsSynchronizedGraphBenchmark
+        extends ContentionBenchmarkBase
+    {
+        @Override
+        Graph<Integer, DefaultEdge> createGraph()
+        {
+            return new AsSynchronizedGraph<>(
+                new DirectedPseudograph<>(null, SupplierUtil.DEFAULT_EDGE_SUPPLIER, false));
+        }
+    }
+
+    public static class ConcurrentGraphBenchmark
+        extends ContentionBenchmarkBase
+    {
+        @Override
+        Graph<Integer, DefaultEdge> createGraph()
+        {
+            return new ConcurrentGraph<>(
+                null, SupplierUtil.DEFAULT_EDGE_SUPPLIER, DefaultGraphType.directedPseudograph());
+        }
+    }
+
+    @Test
+    public void testContentionBenchmark()
+        throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+            .include(".*" + AsSynchronizedGraphBenchmark.class.getSimpleName() + ".*")
+            .include(".*" + ConcurrentGraphBenchmark.class.getSimpleName() + ".*")
+            .mode(Mode.Throughput).timeUnit(TimeUnit.MILLISECONDS).warmupIterations(3)
+            .measurementIterations(5).forks(1).shouldFailOnError(true).shouldDoGC(true).build();
+
+        new Runner(opt).run();
+    }
+}
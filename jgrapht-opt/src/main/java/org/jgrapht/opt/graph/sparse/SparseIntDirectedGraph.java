@@ -116,4 +116,35 @@ public class SparseIntDirectedGraph
         });
     }
 
+
+    /**
+     * Create a new graph from primitive arrays with the source and target vertex of each edge. The
+     * arrays are used directly as the internal representation of the graph and must not be
+     * modified afterwards. See {@link SparseIntGraphBuilder} for building such arrays
+     * incrementally.
+     * 
+     * @param numVertices the number of vertices
+     * @param sources the source vertex of each edge
+     * @param targets the target vertex of each edge
+     * @param incomingEdgesSupport whether to support incoming edges or not
+     */
+    public SparseIntDirectedGraph(
+        int numVertices, int[] sources, int[] targets, IncomingEdgesSupport incomingEdgesSupport)
+    {
+        super(() -> {
+            switch (incomingEdgesSupport) {
+            case FULL_INCOMING_EDGES:
+                return new IncomingNoReindexSparseDirectedSpecifics(
+                    numVertices, sources, targets, false);
+            case LAZY_INCOMING_EDGES:
+                return new IncomingNoReindexSparseDirectedSpecifics(
+                    numVertices, sources, targets, true);
+            case NO_INCOMING_EDGES:
+            default:
+                return new NoIncomingNoReindexSparseDirectedSpecifics(
+                    numVertices, sources, targets);
+            }
+        });
+    }
+
 }
@@ -129,6 +129,29 @@ public class SparseIntDirectedWeightedGraph
         });
     }
 
+    /**
+     * Create a new graph from primitive arrays with the endpoints and the weight of each edge. The
+     * arrays are used directly as the internal representation of the graph and must not be
+     * modified afterwards, except through {@link #setEdgeWeight(Integer, double)}. See
+     * {@link SparseIntGraphBuilder} for building such arrays incrementally.
+     * 
+     * @param numVertices the number of vertices
+     * @param sources the source vertex of each edge
+     * @param targets the target vertex of each edge
+     * @param weights the weight of each edge
+     * @param incomingEdgeSupport the kind of incoming edges support needed
+     */
+    public SparseIntDirectedWeightedGraph(
+        int numVertices, int[] sources, int[] targets, double[] weights,
+        IncomingEdgesSupport incomingEdgeSupport)
+    {
+        super(numVertices, sources, targets, incomingEdgeSupport);
+        if (weights.length != sources.length) {
+            throw new IllegalArgumentException("Weights array must have one entry per edge");
+        }
+        this.weights = weights;
+    }
+
     @Override
     public GraphType getType()
     {
@@ -142,6 +165,12 @@ public class SparseIntDirectedWeightedGraph
         return weights[e];
     }
 
+    @Override
+    public double[] getEdgeWeights()
+    {
+        return weights;
+    }
+
     @Override
     public void setEdgeWeight(Integer e, double weight)
     {
@@ -0,0 +1,300 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import java.util.Arrays;
+
+import org.jgrapht.Graph;
+
+/**
+ * A builder for sparse graphs which accepts edges as primitive values.
+ *
+ * <p>
+ * Edges are appended one by one or in chunks of primitive arrays, for example while streaming
+ * them from a file, and are stored in primitive arrays which later become the internal
+ * representation of the graph. The edge with index $i$ is the $i$-th edge appended. When the graph
+ * is built, the Compressed Sparse Row (CSR) incidence matrices are created using a counting sort:
+ * a first pass counts the degree of each vertex, a parallel prefix sum computes the offsets and a
+ * second pass places each edge in its final position. No boxed pairs are created and no comparison
+ * based sort is needed.
+ *
+ * <p>
+ * If the number of edges is known in advance and passed to the constructor, the peak memory usage
+ * is the size of the final graph plus one integer per vertex. Otherwise, the edge arrays grow
+ * geometrically and are trimmed when the graph is built.
+ *
+ * <p>
+ * A builder can build a single graph, since the graph takes ownership of its arrays. This class is
+ * not thread-safe.
+ *
+ * @author agent
+ */
+public class SparseIntGraphBuilder
+{
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final int numVertices;
+    private int[] sources;
+    private int[] targets;
+    private double[] weights;
+    private int size;
+    private boolean built;
+
+    /**
+     * Create a new builder.
+     *
+     * @param numVertices the number of vertices
+     */
+    public SparseIntGraphBuilder(int numVertices)
+    {
+        this(numVertices, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create a new builder.
+     *
+     * @param numVertices the number of vertices
+     * @param expectedEdges the expected number of edges
+     */
+    public SparseIntGraphBuilder(int numVertices, int expectedEdges)
+    {
+        if (numVertices < 0) {
+            throw new IllegalArgumentException("Number of vertices must be non-negative");
+        }
+        if (expectedEdges < 0) {
+            throw new IllegalArgumentException("Expected number of edges must be non-negative");
+        }
+        this.numVertices = numVertices;
+        this.sources = new int[expectedEdges];
+        this.targets = new int[expectedEdges];
+        this.size = 0;
+    }
+
+    /**
+     * Get the number of edges added so far.
+     *
+     * @return the number of edges added so far
+     */
+    public int edgeCount()
+    {
+        return size;
+    }
+
+    /**
+     * Add an edge with the default weight.
+     *
+     * @param source the source vertex
+     * @param target the target vertex
+     * @return this builder
+     */
+    public SparseIntGraphBuilder addEdge(int source, int target)
+    {
+        ensureCapacity(1);
+        assertVertexExist(source);
+        assertVertexExist(target);
+        sources[size] = source;
+        targets[size] = target;
+        if (weights != null) {
+            weights[size] = Graph.DEFAULT_EDGE_WEIGHT;
+        }
+        size++;
+        return this;
+    }
+
+    /**
+     * Add a weighted edge.
+     *
+     * @param source the source vertex
+     * @param target the target vertex
+     * @param weight the edge weight
+     * @return this builder
+     */
+    public SparseIntGraphBuilder addEdge(int source, int target, double weight)
+    {
+        ensureCapacity(1);
+        ensureWeights();
+        assertVertexExist(source);
+        assertVertexExist(target);
+        sources[size] = source;
+        targets[size] = target;
+        weights[size] = weight;
+        size++;
+        return this;
+    }
+
+    /**
+     * Add a chunk of edges with the default weight.
+     *
+     * @param sources array containing the source vertices
+     * @param targets array containing the target vertices
+     * @param offset the position of the first edge of the chunk in the arrays
+     * @param length the number of edges of the chunk
+     * @return this builder
+     */
+    public SparseIntGraphBuilder addEdges(int[] sources, int[] targets, int offset, int length)
+    {
+        return addEdges(sources, targets, null, offset, length);
+    }
+
+    /**
+     * Add a chunk of weighted edges.
+     *
+     * @param sources array containing the source vertices
+     * @param targets array containing the target vertices
+     * @param weights array containing the edge weights, or null in order to use the default
+     *        weight
+     * @param offset the position of the first edge of the chunk in the arrays
+     * @param length the number of edges of the chunk
+     * @return this builder
+     */
+    public SparseIntGraphBuilder addEdges(
+        int[] sources, int[] targets, double[] weights, int offset, int length)
+    {
+        if (offset < 0 || length < 0 || offset + length > sources.length
+            || offset + length > targets.length
+            || (weights != null && offset + length > weights.length))
+        {
+            throw new IndexOutOfBoundsException("Invalid chunk");
+        }
+        ensureCapacity(length);
+        for (int i = offset; i < offset + length; i++) {
+            assertVertexExist(sources[i]);
+            assertVertexExist(targets[i]);
+        }
+        System.arraycopy(sources, offset, this.sources, size, length);
+        System.arraycopy(targets, offset, this.targets, size, length);
+        if (weights != null) {
+            ensureWeights();
+            System.arraycopy(weights, offset, this.weights, size, length);
+        } else if (this.weights != null) {
+            Arrays.fill(this.weights, size, size + length, Graph.DEFAULT_EDGE_WEIGHT);
+        }
+        size += length;
+        return this;
+    }
+
+    /**
+     * Build a directed graph. The edge weights are ignored.
+     *
+     * @param incomingEdgesSupport whether to support incoming edges or not
+     * @return the graph
+     */
+    public SparseIntDirectedGraph buildDirected(IncomingEdgesSupport incomingEdgesSupport)
+    {
+        trim();
+        return new SparseIntDirectedGraph(numVertices, sources, targets, incomingEdgesSupport);
+    }
+
+    /**
+     * Build a directed weighted graph.
+     *
+     * @param incomingEdgesSupport whether to support incoming edges or not
+     * @return the graph
+     */
+    public SparseIntDirectedWeightedGraph buildDirectedWeighted(
+        IncomingEdgesSupport incomingEdgesSupport)
+    {
+        trim();
+        return new SparseIntDirectedWeightedGraph(
+            numVertices, sources, targets, weightsOrDefault(), incomingEdgesSupport);
+    }
+
+    /**
+     * Build an undirected graph. The edge weights are ignored.
+     *
+     * @return the graph
+     */
+    public SparseIntUndirectedGraph buildUndirected()
+    {
+        trim();
+        return new SparseIntUndirectedGraph(numVertices, sources, targets);
+    }
+
+    /**
+     * Build an undirected weighted graph.
+     *
+     * @return the graph
+     */
+    public SparseIntUndirectedWeightedGraph buildUndirectedWeighted()
+    {
+        trim();
+        return new SparseIntUndirectedWeightedGraph(
+            numVertices, sources, targets, weightsOrDefault());
+    }
+
+    private void assertVertexExist(int v)
+    {
+        if (v < 0 || v >= numVertices) {
+            throw new IllegalArgumentException("no such vertex in graph: " + v);
+        }
+    }
+
+    private void ensureCapacity(int additional)
+    {
+        if (built) {
+            throw new IllegalStateException("Graph already built");
+        }
+        long required = (long) size + additional;
+        if (required > Integer.MAX_VALUE - 8) {
+            throw new ArithmeticException("integer overflow");
+        }
+        if (required > sources.length) {
+            int capacity = (int) Math
+                .min(Integer.MAX_VALUE - 8, Math.max(required, sources.length * 3L / 2 + 1));
+            sources = Arrays.copyOf(sources, capacity);
+            targets = Arrays.copyOf(targets, capacity);
+            if (weights != null) {
+                weights = Arrays.copyOf(weights, capacity);
+            }
+        }
+    }
+
+    private void ensureWeights()
+    {
+        if (weights == null) {
+            weights = new double[sources.length];
+            Arrays.fill(weights, 0, size, Graph.DEFAULT_EDGE_WEIGHT);
+        }
+    }
+
+    private double[] weightsOrDefault()
+    {
+        if (weights == null) {
+            double[] result = new double[size];
+            Arrays.fill(result, Graph.DEFAULT_EDGE_WEIGHT);
+            return result;
+        }
+        return weights;
+    }
+
+    private void trim()
+    {
+        if (built) {
+            throw new IllegalStateException("Graph already built");
+        }
+        built = true;
+        if (sources.length != size) {
+            sources = Arrays.copyOf(sources, size);
+            targets = Arrays.copyOf(targets, size);
+            if (weights != null) {
+                weights = Arrays.copyOf(weights, size);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,257 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+import org.jgrapht.Graph;
+import org.jgrapht.graph.CSRAdjacency;
+
+/**
+ * A persistent binary format for the sparse graphs.
+ *
+ * <p>
+ * The file contains a small header followed by the source, the target and, for weighted graphs,
+ * the weight of each edge as little-endian primitive arrays. Files are opened by memory-mapping
+ * them using {@link FileChannel#map(FileChannel.MapMode, long, long)} and copying the arrays in
+ * bulk directly into the arrays of the graph. The incidence matrices are then rebuilt in linear
+ * time using a counting sort, without any parsing, boxing or comparison based sorting. Since the
+ * mapped file is read through the operating system page cache, several processes opening the
+ * same file share a single cached copy of its contents.
+ *
+ * <p>
+ * The header consists of the following 32-bit integers: a magic number, the format version, a
+ * flags field (directed and weighted), the number of vertices and the number of edges.
+ *
+ * @author agent
+ */
+public class SparseIntGraphFile
+{
+    private static final int MAGIC = 0x4A475350;
+    private static final int VERSION = 1;
+    private static final int FLAG_DIRECTED = 1;
+    private static final int FLAG_WEIGHTED = 2;
+    private static final int HEADER_BYTES = 5 * Integer.BYTES;
+
+    /**
+     * Maximum number of bytes mapped at once, a multiple of the size of all primitive types
+     */
+    private static final int MAX_MAPPED_BYTES = 1 << 30;
+
+    private SparseIntGraphFile()
+    {
+    }
+
+    /**
+     * Write a sparse graph to a file. Any existing file is overwritten.
+     *
+     * @param graph the graph, which must implement {@link CSRAdjacency}, such as all sparse graphs
+     * @param path the file path
+     * @throws IOException in case of an I/O error
+     * @throws IllegalArgumentException if the graph does not implement {@link CSRAdjacency}
+     */
+    public static void write(Graph<Integer, Integer> graph, Path path)
+        throws IOException
+    {
+        Objects.requireNonNull(graph, "Graph cannot be null");
+        if (!(graph instanceof CSRAdjacency)) {
+            throw new IllegalArgumentException("Graph must be a sparse graph");
+        }
+        CSRAdjacency csr = (CSRAdjacency) graph;
+        boolean directed = graph.getType().isDirected();
+        double[] weights = csr.getEdgeWeights();
+        int[] sources = csr.getEdgeSources();
+        int[] targets = csr.getEdgeTargets();
+
+        try (FileChannel channel = FileChannel
+            .open(
+                path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING))
+        {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC);
+            header.putInt(VERSION);
+            header.putInt((directed ? FLAG_DIRECTED : 0) | (weights != null ? FLAG_WEIGHTED : 0));
+            header.putInt(csr.vertexCount());
+            header.putInt(sources.length);
+            header.flip();
+            writeFully(channel, header);
+
+            ByteBuffer buffer =
+                ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+            writeInts(channel, buffer, sources);
+            writeInts(channel, buffer, targets);
+            if (weights != null) {
+                writeDoubles(channel, buffer, weights);
+            }
+        }
+    }
+
+    /**
+     * Open a sparse graph file. Directed graphs support incoming edges.
+     *
+     * @param path the file path
+     * @return the graph, which is one of {@link SparseIntDirectedGraph},
+     *         {@link SparseIntDirectedWeightedGraph}, {@link SparseIntUndirectedGraph} or
+     *         {@link SparseIntUndirectedWeightedGraph}
+     * @throws IOException in case of an I/O error or if the file is not a valid sparse graph file
+     */
+    public static Graph<Integer, Integer> read(Path path)
+        throws IOException
+    {
+        return read(path, IncomingEdgesSupport.FULL_INCOMING_EDGES);
+    }
+
+    /**
+     * Open a sparse graph file.
+     *
+     * @param path the file path
+     * @param incomingEdgesSupport the kind of incoming edges support needed for directed graphs
+     * @return the graph, which is one of {@link SparseIntDirectedGraph},
+     *         {@link SparseIntDirectedWeightedGraph}, {@link SparseIntUndirectedGraph} or
+     *         {@link SparseIntUndirectedWeightedGraph}
+     * @throws IOException in case of an I/O error or if the file is not a valid sparse graph file
+     */
+    public static Graph<Integer, Integer> read(
+        Path path, IncomingEdgesSupport incomingEdgesSupport)
+        throws IOException
+    {
+        Objects.requireNonNull(incomingEdgesSupport);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                throw new IOException("Not a sparse graph file");
+            }
+            ByteBuffer header = channel
+                .map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN);
+            if (header.getInt() != MAGIC) {
+                throw new IOException("Not a sparse graph file");
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported sparse graph file version: " + version);
+            }
+            int flags = header.getInt();
+            int n = header.getInt();
+            int m = header.getInt();
+            boolean directed = (flags & FLAG_DIRECTED) != 0;
+            boolean weighted = (flags & FLAG_WEIGHTED) != 0;
+
+            long expectedSize = HEADER_BYTES + 2L * Integer.BYTES * m
+                + (weighted ? (long) Double.BYTES * m : 0L);
+            if (n < 0 || m < 0 || size != expectedSize) {
+                throw new IOException("Corrupted sparse graph file");
+            }
+
+            long position = HEADER_BYTES;
+            int[] sources = new int[m];
+            position = readInts(channel, position, sources);
+            int[] targets = new int[m];
+            position = readInts(channel, position, targets);
+            double[] weights = null;
+            if (weighted) {
+                weights = new double[m];
+                readDoubles(channel, position, weights);
+            }
+
+            try {
+                if (directed) {
+                    return weighted
+                        ? new SparseIntDirectedWeightedGraph(
+                            n, sources, targets, weights, incomingEdgesSupport)
+                        : new SparseIntDirectedGraph(n, sources, targets, incomingEdgesSupport);
+                }
+                return weighted ? new SparseIntUndirectedWeightedGraph(n, sources, targets, weights)
+                    : new SparseIntUndirectedGraph(n, sources, targets);
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Corrupted sparse graph file", e);
+            }
+        }
+    }
+
+    private static void writeInts(FileChannel channel, ByteBuffer buffer, int[] values)
+        throws IOException
+    {
+        int capacity = buffer.capacity() / Integer.BYTES;
+        for (int from = 0; from < values.length; from += capacity) {
+            int length = Math.min(capacity, values.length - from);
+            buffer.clear();
+            buffer.asIntBuffer().put(values, from, length);
+            buffer.limit(length * Integer.BYTES);
+            writeFully(channel, buffer);
+        }
+    }
+
+    private static void writeDoubles(FileChannel channel, ByteBuffer buffer, double[] values)
+        throws IOException
+    {
+        int capacity = buffer.capacity() / Double.BYTES;
+        for (int from = 0; from < values.length; from += capacity) {
+            int length = Math.min(capacity, values.length - from);
+            buffer.clear();
+            buffer.asDoubleBuffer().put(values, from, length);
+            buffer.limit(length * Double.BYTES);
+            writeFully(channel, buffer);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer)
+        throws IOException
+    {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static long readInts(FileChannel channel, long position, int[] values)
+        throws IOException
+    {
+        int capacity = MAX_MAPPED_BYTES / Integer.BYTES;
+        for (int from = 0; from < values.length; from += capacity) {
+            int length = Math.min(capacity, values.length - from);
+            MappedByteBuffer mapped =
+                channel.map(FileChannel.MapMode.READ_ONLY, position, (long) length * Integer.BYTES);
+            mapped.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(values, from, length);
+            position += (long) length * Integer.BYTES;
+        }
+        return position;
+    }
+
+    private static long readDoubles(FileChannel channel, long position, double[] values)
+        throws IOException
+    {
+        int capacity = MAX_MAPPED_BYTES / Double.BYTES;
+        for (int from = 0; from < values.length; from += capacity) {
+            int length = Math.min(capacity, values.length - from);
+            MappedByteBuffer mapped =
+                channel.map(FileChannel.MapMode.READ_ONLY, position, (long) length * Double.BYTES);
+            mapped.order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer().get(values, from, length);
+            position += (long) length * Double.BYTES;
+        }
+        return position;
+    }
+
+}
@@ -84,4 +84,18 @@ public class SparseIntUndirectedGraph
     {
         super(() -> new IncidenceMatrixSparseUndirectedSpecifics(numVertices, numEdges, edges));
     }
+
+    /**
+     * Create a new graph from primitive arrays with the endpoints of each edge. The arrays are used
+     * directly as the internal representation of the graph and must not be modified afterwards.
+     * See {@link SparseIntGraphBuilder} for building such arrays incrementally.
+     * 
+     * @param numVertices number of vertices
+     * @param sources the first endpoint of each edge
+     * @param targets the second endpoint of each edge
+     */
+    public SparseIntUndirectedGraph(int numVertices, int[] sources, int[] targets)
+    {
+        super(() -> new IncidenceMatrixSparseUndirectedSpecifics(numVertices, sources, targets));
+    }
 }
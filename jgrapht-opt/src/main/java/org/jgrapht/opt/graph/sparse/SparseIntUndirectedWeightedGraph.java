@@ -109,6 +109,27 @@ public class SparseIntUndirectedWeightedGraph
         });
     }
 
+    /**
+     * Create a new graph from primitive arrays with the endpoints and the weight of each edge. The
+     * arrays are used directly as the internal representation of the graph and must not be
+     * modified afterwards, except through {@link #setEdgeWeight(Integer, double)}. See
+     * {@link SparseIntGraphBuilder} for building such arrays incrementally.
+     * 
+     * @param numVertices the number of vertices
+     * @param sources the source vertex of each edge
+     * @param targets the target vertex of each edge
+     * @param weights the weight of each edge
+     */
+    public SparseIntUndirectedWeightedGraph(
+        int numVertices, int[] sources, int[] targets, double[] weights)
+    {
+        super(numVertices, sources, targets);
+        if (weights.length != sources.length) {
+            throw new IllegalArgumentException("Weights array must have one entry per edge");
+        }
+        this.weights = weights;
+    }
+
     @Override
     public GraphType getType()
     {
@@ -122,6 +143,12 @@ public class SparseIntUndirectedWeightedGraph
         return weights[e];
     }
 
+    @Override
+    public double[] getEdgeWeights()
+    {
+        return weights;
+    }
+
     @Override
     public void setEdgeWeight(Integer e, double weight)
     {
@@ -23,10 +23,17 @@ import java.util.function.Supplier;
 
 import org.jgrapht.GraphType;
 import org.jgrapht.graph.AbstractGraph;
+import org.jgrapht.graph.CSRAdjacency;
 
 /**
  * Helper class to ease the implementation of different sparse graphs with different backends.
  * 
+ * <p>
+ * All sparse graphs implement {@link CSRAdjacency} which exposes their internal primitive
+ * representation. Algorithms can use it in order to traverse the graph without boxing. The arrays
+ * are requested from the specifics once and cached, since specifics which do not override the
+ * default accessors of {@link SparseGraphSpecifics} create them on each invocation.
+ * 
  * @author Dimitrios Michail
  *
  * @param <S> the type of the graph specifics
@@ -34,10 +41,19 @@ import org.jgrapht.graph.AbstractGraph;
 public class AbstractSparseSpecificsGraph<S extends SparseGraphSpecifics>
     extends
     AbstractGraph<Integer, Integer>
+    implements
+    CSRAdjacency
 {
     protected static final String UNMODIFIABLE = "this graph is unmodifiable";
     protected S specifics;
 
+    private volatile int[] edgeSources;
+    private volatile int[] edgeTargets;
+    private volatile int[] outgoingOffsets;
+    private volatile int[] outgoingEdges;
+    private volatile int[] incomingOffsets;
+    private volatile int[] incomingEdges;
+
     /**
      * Constructor
      * 
@@ -204,4 +220,93 @@ public class AbstractSparseSpecificsGraph<S extends SparseGraphSpecifics>
         return specifics.getAllEdges(sourceVertex, targetVertex);
     }
 
+    @Override
+    public int vertexCount()
+    {
+        return Math.toIntExact(specifics.verticesCount());
+    }
+
+    @Override
+    public int edgeCount()
+    {
+        return Math.toIntExact(specifics.edgesCount());
+    }
+
+    @Override
+    public int[] getEdgeSources()
+    {
+        int[] result = edgeSources;
+        if (result == null) {
+            result = specifics.getEdgeSources();
+            edgeSources = result;
+        }
+        return result;
+    }
+
+    @Override
+    public int[] getEdgeTargets()
+    {
+        int[] result = edgeTargets;
+        if (result == null) {
+            result = specifics.getEdgeTargets();
+            edgeTargets = result;
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * Weighted graphs override this method in order to return their weights.
+     */
+    @Override
+    public double[] getEdgeWeights()
+    {
+        return null;
+    }
+
+    @Override
+    public int[] getOutgoingOffsets()
+    {
+        int[] result = outgoingOffsets;
+        if (result == null) {
+            result = specifics.getOutgoingOffsets();
+            outgoingOffsets = result;
+        }
+        return result;
+    }
+
+    @Override
+    public int[] getOutgoingEdges()
+    {
+        int[] result = outgoingEdges;
+        if (result == null) {
+            result = specifics.getOutgoingEdges();
+            outgoingEdges = result;
+        }
+        return result;
+    }
+
+    @Override
+    public int[] getIncomingOffsets()
+    {
+        int[] result = incomingOffsets;
+        if (result == null) {
+            result = specifics.getIncomingOffsets();
+            incomingOffsets = result;
+        }
+        return result;
+    }
+
+    @Override
+    public int[] getIncomingEdges()
+    {
+        int[] result = incomingEdges;
+        if (result == null) {
+            result = specifics.getIncomingEdges();
+            incomingEdges = result;
+        }
+        return result;
+    }
+
 }
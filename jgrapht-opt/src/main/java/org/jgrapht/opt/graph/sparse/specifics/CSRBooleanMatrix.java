@@ -100,6 +100,80 @@ class CSRBooleanMatrix
         Arrays.parallelPrefix(rowOffsets, (x, y) -> x + y);
     }
 
+    /**
+     * Create a new CSR boolean matrix from its internal arrays.
+     * 
+     * @param columns the number of columns
+     * @param rowOffsets the row offsets
+     * @param columnIndices the column indices
+     */
+    private CSRBooleanMatrix(int columns, int[] rowOffsets, int[] columnIndices)
+    {
+        this.columns = columns;
+        this.rowOffsets = rowOffsets;
+        this.columnIndices = columnIndices;
+    }
+
+    /**
+     * Create the incidence matrix of a graph, where rows correspond to vertices and columns to
+     * edges. Column $c$ has a non-zero entry at row {@code first[c]} and, if {@code second} is not
+     * null, at row {@code second[c]}. If both rows are equal, the entry appears twice.
+     * 
+     * <p>
+     * Since the columns are already in increasing order, the matrix is built using a counting sort
+     * in $O(rows + columns)$ time without creating any intermediate objects. The only temporary
+     * space used is one integer per row.
+     * 
+     * @param rows the number of rows
+     * @param first the first row of each column
+     * @param second the second row of each column, or null
+     * @return the incidence matrix
+     * @throws IllegalArgumentException if an entry is at an invalid row
+     */
+    public static CSRBooleanMatrix ofIncidence(int rows, int[] first, int[] second)
+    {
+        if (rows < 0) {
+            throw new IllegalArgumentException("Rows must be non-negative");
+        }
+        if (first == null) {
+            throw new IllegalArgumentException("Entries cannot be null");
+        }
+        if (second != null && second.length != first.length) {
+            throw new IllegalArgumentException("Entries must have the same length");
+        }
+
+        int columns = first.length;
+        int[] rowOffsets = new int[rows + 1];
+        countRows(rows, first, rowOffsets);
+        if (second != null) {
+            countRows(rows, second, rowOffsets);
+        }
+
+        // prefix sum
+        Arrays.parallelPrefix(rowOffsets, (x, y) -> x + y);
+
+        int[] columnIndices = new int[rowOffsets[rows]];
+        int[] next = Arrays.copyOf(rowOffsets, rows);
+        for (int c = 0; c < columns; c++) {
+            columnIndices[next[first[c]]++] = c;
+            if (second != null) {
+                columnIndices[next[second[c]]++] = c;
+            }
+        }
+
+        return new CSRBooleanMatrix(columns, rowOffsets, columnIndices);
+    }
+
+    private static void countRows(int rows, int[] entryRows, int[] rowOffsets)
+    {
+        for (int row : entryRows) {
+            if (row < 0 || row >= rows) {
+                throw new IllegalArgumentException("Entry at invalid row: " + row);
+            }
+            rowOffsets[row + 1]++;
+        }
+    }
+
     /**
      * Get the number of columns of the matrix.
      * 
@@ -139,13 +213,36 @@ class CSRBooleanMatrix
      * @param row the row
      * @return an iterator over the non-zero entries of a row
      */
-    public Iterator<Integer> nonZerosPositionIterator(int row)
+    public PrimitiveIterator.OfInt nonZerosPositionIterator(int row)
     {
         assert row >= 0 && row < rowOffsets.length;
 
         return new NonZerosIterator(row);
     }
 
+    /**
+     * Get the row offsets array of length $rows+1$. The column indices of the non-zero entries of
+     * row $r$ are stored at positions $[\text{rowOffsets}[r], \text{rowOffsets}[r+1])$ of the
+     * column indices array, in increasing order. The returned array must not be modified.
+     * 
+     * @return the row offsets array
+     */
+    public int[] getRowOffsets()
+    {
+        return rowOffsets;
+    }
+
+    /**
+     * Get the column indices array of the non-zero entries, grouped by row. The returned array must
+     * not be modified.
+     * 
+     * @return the column indices array
+     */
+    public int[] getColumnIndices()
+    {
+        return columnIndices;
+    }
+
     /**
      * Get the position of non-zero entries of a row as a set.
      * 
@@ -157,13 +254,15 @@ class CSRBooleanMatrix
         assert row >= 0 && row < rowOffsets.length;
 
         Set<Integer> nonZeros = new LinkedHashSet<>();
-        new NonZerosIterator(row).forEachRemaining(nonZeros::add);
+        for (int pos = rowOffsets[row]; pos < rowOffsets[row + 1]; pos++) {
+            nonZeros.add(columnIndices[pos]);
+        }
         return nonZeros;
     }
 
     private class NonZerosIterator
         implements
-        Iterator<Integer>
+        PrimitiveIterator.OfInt
     {
         private int curPos;
         private int toPos;
@@ -181,7 +280,7 @@ class CSRBooleanMatrix
         }
 
         @Override
-        public Integer next()
+        public int nextInt()
         {
             if (!hasNext()) {
                 throw new NoSuchElementException();
@@ -17,10 +17,8 @@
  */
 package org.jgrapht.opt.graph.sparse.specifics;
 
-import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.LinkedHashSet;
-import java.util.List;
+import java.util.PrimitiveIterator;
 import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -58,17 +56,32 @@ public class IncidenceMatrixSparseUndirectedSpecifics
         source = new int[m];
         target = new int[m];
 
-        List<Pair<Integer, Integer>> nonZeros = new ArrayList<>(m);
-
         int[] eIndex = new int[1];
         edges.get().forEach(e -> {
-            nonZeros.add(Pair.of(e.getFirst(), eIndex[0]));
-            nonZeros.add(Pair.of(e.getSecond(), eIndex[0]));
             source[eIndex[0]] = e.getFirst();
             target[eIndex[0]] = e.getSecond();
             eIndex[0]++;
         });
-        incidenceMatrix = new CSRBooleanMatrix(numVertices, m, nonZeros);
+        incidenceMatrix = CSRBooleanMatrix.ofIncidence(numVertices, source, target);
+    }
+
+    /**
+     * Create a new graph from primitive arrays with the endpoints of each edge. The arrays are used
+     * directly and must not be modified afterwards.
+     * 
+     * @param numVertices number of vertices
+     * @param source the first endpoint of each edge
+     * @param target the second endpoint of each edge
+     */
+    public IncidenceMatrixSparseUndirectedSpecifics(int numVertices, int[] source, int[] target)
+    {
+        if (source.length != target.length) {
+            throw new IllegalArgumentException(
+                "Source and target arrays must have the same length");
+        }
+        this.source = source;
+        this.target = target;
+        this.incidenceMatrix = CSRBooleanMatrix.ofIncidence(numVertices, source, target);
     }
 
     @Override
@@ -125,6 +138,42 @@ public class IncidenceMatrixSparseUndirectedSpecifics
         return incidenceMatrix.nonZerosSet(vertex);
     }
 
+    @Override
+    public int[] getEdgeSources()
+    {
+        return source;
+    }
+
+    @Override
+    public int[] getEdgeTargets()
+    {
+        return target;
+    }
+
+    @Override
+    public int[] getOutgoingOffsets()
+    {
+        return incidenceMatrix.getRowOffsets();
+    }
+
+    @Override
+    public int[] getOutgoingEdges()
+    {
+        return incidenceMatrix.getColumnIndices();
+    }
+
+    @Override
+    public int[] getIncomingOffsets()
+    {
+        return incidenceMatrix.getRowOffsets();
+    }
+
+    @Override
+    public int[] getIncomingEdges()
+    {
+        return incidenceMatrix.getColumnIndices();
+    }
+
     @Override
     public GraphType getType()
     {
@@ -162,12 +211,12 @@ public class IncidenceMatrixSparseUndirectedSpecifics
             return null;
         }
 
-        Iterator<Integer> it = incidenceMatrix.nonZerosPositionIterator(sourceVertex);
+        PrimitiveIterator.OfInt it = incidenceMatrix.nonZerosPositionIterator(sourceVertex);
         while (it.hasNext()) {
-            int eId = it.next();
+            int eId = it.nextInt();
 
-            int v = getEdgeSource(eId);
-            int u = getEdgeTarget(eId);
+            int v = source[eId];
+            int u = target[eId];
 
             if (v == sourceVertex.intValue() && u == targetVertex.intValue()
                 || v == targetVertex.intValue() && u == sourceVertex.intValue())
@@ -194,12 +243,12 @@ public class IncidenceMatrixSparseUndirectedSpecifics
         }
 
         Set<Integer> result = new LinkedHashSet<>();
-        Iterator<Integer> it = incidenceMatrix.nonZerosPositionIterator(sourceVertex);
+        PrimitiveIterator.OfInt it = incidenceMatrix.nonZerosPositionIterator(sourceVertex);
         while (it.hasNext()) {
-            int eId = it.next();
+            int eId = it.nextInt();
 
-            int v = getEdgeSource(eId);
-            int u = getEdgeTarget(eId);
+            int v = source[eId];
+            int u = target[eId];
 
             if (v == sourceVertex.intValue() && u == targetVertex.intValue()
                 || v == targetVertex.intValue() && u == sourceVertex.intValue())
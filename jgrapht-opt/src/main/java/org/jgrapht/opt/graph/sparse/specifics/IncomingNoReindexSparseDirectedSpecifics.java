@@ -17,8 +17,6 @@
  */
 package org.jgrapht.opt.graph.sparse.specifics;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -63,6 +61,26 @@ public class IncomingNoReindexSparseDirectedSpecifics
         }
     }
 
+    /**
+     * Create a new graph from primitive arrays with the source and target vertex of each edge. The
+     * arrays are used directly and must not be modified afterwards.
+     * 
+     * @param numVertices the number of vertices
+     * @param source the source vertex of each edge
+     * @param target the target vertex of each edge
+     * @param lazyIncomingEdges whether to lazily support incoming edge traversals, only if actually
+     *        needed by the user
+     */
+    public IncomingNoReindexSparseDirectedSpecifics(
+        int numVertices, int[] source, int[] target, boolean lazyIncomingEdges)
+    {
+        super(numVertices, source, target);
+
+        if (!lazyIncomingEdges) {
+            indexIncomingEdges();
+        }
+    }
+
     @Override
     public long degreeOf(Integer vertex)
     {
@@ -104,18 +122,30 @@ public class IncomingNoReindexSparseDirectedSpecifics
         return inIncidenceMatrix.nonZerosSet(vertex);
     }
 
+    @Override
+    public int[] getIncomingOffsets()
+    {
+        if (inIncidenceMatrix == null) {
+            indexIncomingEdges();
+        }
+        return inIncidenceMatrix.getRowOffsets();
+    }
+
+    @Override
+    public int[] getIncomingEdges()
+    {
+        if (inIncidenceMatrix == null) {
+            indexIncomingEdges();
+        }
+        return inIncidenceMatrix.getColumnIndices();
+    }
+
     /**
      * Build the index for the incoming edges.
      */
     protected void indexIncomingEdges()
     {
-        int n = outIncidenceMatrix.rows();
-        int m = source.length;
-        List<Pair<Integer, Integer>> incoming = new ArrayList<>(m);
-        for (int i = 0; i < m; i++) {
-            incoming.add(Pair.of(target[i], i));
-        }
-        inIncidenceMatrix = new CSRBooleanMatrix(n, m, incoming);
+        inIncidenceMatrix = CSRBooleanMatrix.ofIncidence(outIncidenceMatrix.rows(), target, null);
     }
 
 }
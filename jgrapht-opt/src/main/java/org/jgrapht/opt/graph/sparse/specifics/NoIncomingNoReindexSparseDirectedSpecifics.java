@@ -17,10 +17,8 @@
  */
 package org.jgrapht.opt.graph.sparse.specifics;
 
-import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.LinkedHashSet;
-import java.util.List;
+import java.util.PrimitiveIterator;
 import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -73,16 +71,33 @@ public class NoIncomingNoReindexSparseDirectedSpecifics
         source = new int[m];
         target = new int[m];
 
-        List<Pair<Integer, Integer>> outgoing = new ArrayList<>(m);
         int[] eIndex = new int[1];
         edges.get().forEach(e -> {
             source[eIndex[0]] = e.getFirst();
             target[eIndex[0]] = e.getSecond();
-            outgoing.add(Pair.of(e.getFirst(), eIndex[0]));
             eIndex[0]++;
         });
 
-        outIncidenceMatrix = new CSRBooleanMatrix(numVertices, m, outgoing);
+        outIncidenceMatrix = CSRBooleanMatrix.ofIncidence(numVertices, source, null);
+    }
+
+    /**
+     * Create a new graph from primitive arrays with the source and target vertex of each edge. The
+     * arrays are used directly and must not be modified afterwards.
+     * 
+     * @param numVertices the number of vertices
+     * @param source the source vertex of each edge
+     * @param target the target vertex of each edge
+     */
+    public NoIncomingNoReindexSparseDirectedSpecifics(int numVertices, int[] source, int[] target)
+    {
+        if (source.length != target.length) {
+            throw new IllegalArgumentException(
+                "Source and target arrays must have the same length");
+        }
+        this.source = source;
+        this.target = target;
+        this.outIncidenceMatrix = CSRBooleanMatrix.ofIncidence(numVertices, source, null);
     }
 
     @Override
@@ -149,6 +164,42 @@ public class NoIncomingNoReindexSparseDirectedSpecifics
         return target[e];
     }
 
+    @Override
+    public int[] getEdgeSources()
+    {
+        return source;
+    }
+
+    @Override
+    public int[] getEdgeTargets()
+    {
+        return target;
+    }
+
+    @Override
+    public int[] getOutgoingOffsets()
+    {
+        return outIncidenceMatrix.getRowOffsets();
+    }
+
+    @Override
+    public int[] getOutgoingEdges()
+    {
+        return outIncidenceMatrix.getColumnIndices();
+    }
+
+    @Override
+    public int[] getIncomingOffsets()
+    {
+        return null;
+    }
+
+    @Override
+    public int[] getIncomingEdges()
+    {
+        return null;
+    }
+
     @Override
     public GraphType getType()
     {
@@ -172,10 +223,10 @@ public class NoIncomingNoReindexSparseDirectedSpecifics
             return null;
         }
 
-        Iterator<Integer> it = outIncidenceMatrix.nonZerosPositionIterator(sourceVertex);
+        PrimitiveIterator.OfInt it = outIncidenceMatrix.nonZerosPositionIterator(sourceVertex);
         while (it.hasNext()) {
-            int eId = it.next();
-            if (getEdgeTarget(eId).equals(targetVertex)) {
+            int eId = it.nextInt();
+            if (target[eId] == targetVertex) {
                 return eId;
             }
         }
@@ -199,11 +250,11 @@ public class NoIncomingNoReindexSparseDirectedSpecifics
 
         Set<Integer> result = new LinkedHashSet<>();
 
-        Iterator<Integer> it = outIncidenceMatrix.nonZerosPositionIterator(sourceVertex);
+        PrimitiveIterator.OfInt it = outIncidenceMatrix.nonZerosPositionIterator(sourceVertex);
         while (it.hasNext()) {
-            int eId = it.next();
+            int eId = it.nextInt();
 
-            if (getEdgeTarget(eId).equals(targetVertex)) {
+            if (target[eId] == targetVertex) {
                 result.add(eId);
             }
         }
@@ -17,10 +17,12 @@
  */
 package org.jgrapht.opt.graph.sparse.specifics;
 
+import java.util.Arrays;
 import java.util.Set;
 
 import org.jgrapht.Graph;
 import org.jgrapht.GraphType;
+import org.jgrapht.alg.util.Pair;
 
 /**
  * Specifics which provide a sparse graph implementation.
@@ -342,4 +344,146 @@ public interface SparseGraphSpecifics
         }
     }
 
+    /**
+     * Get the array with the source vertex of each edge. The returned array must not be modified.
+     * 
+     * <p>
+     * The default implementation creates the array on each invocation using
+     * {@link #getEdgeSource(Integer)}. Implementations should override it and return their
+     * internal representation.
+     * 
+     * @return the source vertex of each edge
+     */
+    default int[] getEdgeSources()
+    {
+        int[] sources = new int[(int) edgesCount()];
+        for (int e = 0; e < sources.length; e++) {
+            sources[e] = getEdgeSource(e);
+        }
+        return sources;
+    }
+
+    /**
+     * Get the array with the target vertex of each edge. The returned array must not be modified.
+     * 
+     * <p>
+     * The default implementation creates the array on each invocation using
+     * {@link #getEdgeTarget(Integer)}. Implementations should override it and return their
+     * internal representation.
+     * 
+     * @return the target vertex of each edge
+     */
+    default int[] getEdgeTargets()
+    {
+        int[] targets = new int[(int) edgesCount()];
+        for (int e = 0; e < targets.length; e++) {
+            targets[e] = getEdgeTarget(e);
+        }
+        return targets;
+    }
+
+    /**
+     * Get the offsets array of the outgoing edges in CSR format. The returned array must not be
+     * modified.
+     * 
+     * <p>
+     * The default implementation creates the array on each invocation from the endpoints of the
+     * edges. In undirected graphs an edge is outgoing from both endpoints, thus a self-loop appears
+     * twice. Implementations should override it and return their internal representation.
+     * 
+     * @return the offsets array of the outgoing edges
+     */
+    default int[] getOutgoingOffsets()
+    {
+        return groupEdges(getEdgeSources(), getType().isUndirected() ? getEdgeTargets() : null)
+            .getFirst();
+    }
+
+    /**
+     * Get the outgoing edges of all vertices, grouped by vertex, in CSR format. The returned array
+     * must not be modified.
+     * 
+     * <p>
+     * The default implementation creates the array on each invocation from the endpoints of the
+     * edges, ordering the edges of each vertex by their index. Implementations should override it
+     * and return their internal representation.
+     * 
+     * @return the outgoing edges of all vertices
+     */
+    default int[] getOutgoingEdges()
+    {
+        return groupEdges(getEdgeSources(), getType().isUndirected() ? getEdgeTargets() : null)
+            .getSecond();
+    }
+
+    /**
+     * Get the offsets array of the incoming edges in CSR format. The returned array must not be
+     * modified.
+     * 
+     * <p>
+     * The default implementation creates the array on each invocation from the endpoints of the
+     * edges. In undirected graphs it is equal to {@link #getOutgoingOffsets()}. Implementations
+     * should override it and return their internal representation.
+     * 
+     * @return the offsets array of the incoming edges, or null if incoming edges are not supported
+     */
+    default int[] getIncomingOffsets()
+    {
+        if (getType().isUndirected()) {
+            return getOutgoingOffsets();
+        }
+        return groupEdges(getEdgeTargets(), null).getFirst();
+    }
+
+    /**
+     * Get the incoming edges of all vertices, grouped by vertex, in CSR format. The returned array
+     * must not be modified.
+     * 
+     * <p>
+     * The default implementation creates the array on each invocation from the endpoints of the
+     * edges, ordering the edges of each vertex by their index. In undirected graphs it is equal to
+     * {@link #getOutgoingEdges()}. Implementations should override it and return their internal
+     * representation.
+     * 
+     * @return the incoming edges of all vertices, or null if incoming edges are not supported
+     */
+    default int[] getIncomingEdges()
+    {
+        if (getType().isUndirected()) {
+            return getOutgoingEdges();
+        }
+        return groupEdges(getEdgeTargets(), null).getSecond();
+    }
+
+    /**
+     * Group the edges by one or both of their endpoints using counting sort.
+     * 
+     * @param first the first endpoint of each edge
+     * @param second the second endpoint of each edge, or null to group only by the first
+     * @return the offsets array and the grouped edges
+     */
+    private Pair<int[], int[]> groupEdges(int[] first, int[] second)
+    {
+        int n = (int) verticesCount();
+        int[] offsets = new int[n + 1];
+        for (int e = 0; e < first.length; e++) {
+            offsets[first[e] + 1]++;
+            if (second != null) {
+                offsets[second[e] + 1]++;
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        int[] next = Arrays.copyOf(offsets, n);
+        int[] edges = new int[offsets[n]];
+        for (int e = 0; e < first.length; e++) {
+            edges[next[first[e]]++] = e;
+            if (second != null) {
+                edges[next[second[e]]++] = e;
+            }
+        }
+        return Pair.of(offsets, edges);
+    }
+
 }
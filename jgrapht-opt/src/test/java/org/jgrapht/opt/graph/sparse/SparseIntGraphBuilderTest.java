@@ -0,0 +1,151 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link SparseIntGraphBuilder}
+ *
+ * @author agent
+ */
+public class SparseIntGraphBuilderTest
+{
+
+    @Test
+    public void testExistingTests()
+    {
+        SparseIntGraphTest.testUndirected((vc, edges) -> {
+            SparseIntGraphBuilder builder = new SparseIntGraphBuilder(vc);
+            edges.forEach(e -> builder.addEdge(e.getFirst(), e.getSecond()));
+            return builder.buildUndirected();
+        });
+        SparseIntGraphTest.testUndirectedWithLoops((vc, edges) -> {
+            SparseIntGraphBuilder builder = new SparseIntGraphBuilder(vc, edges.size());
+            edges.forEach(e -> builder.addEdge(e.getFirst(), e.getSecond()));
+            return builder.buildUndirected();
+        });
+        SparseIntGraphTest.testDirected((vc, edges) -> {
+            SparseIntGraphBuilder builder = new SparseIntGraphBuilder(vc, 0);
+            edges.forEach(e -> builder.addEdge(e.getFirst(), e.getSecond()));
+            return builder.buildDirected(IncomingEdgesSupport.LAZY_INCOMING_EDGES);
+        });
+        SparseIntGraphTest.testDirectedWeighted((vc, edges) -> {
+            SparseIntGraphBuilder builder = new SparseIntGraphBuilder(vc);
+            edges.forEach(e -> builder.addEdge(e.getFirst(), e.getSecond(), e.getThird()));
+            return builder.buildDirectedWeighted(IncomingEdgesSupport.FULL_INCOMING_EDGES);
+        });
+        SparseIntGraphTest.testUndirectedWeighted((vc, edges) -> {
+            SparseIntGraphBuilder builder = new SparseIntGraphBuilder(vc);
+            edges.forEach(e -> builder.addEdge(e.getFirst(), e.getSecond(), e.getThird()));
+            return builder.buildUndirectedWeighted();
+        });
+    }
+
+    @Test
+    public void testChunks()
+    {
+        Random rng = new Random(17);
+        int n = 1000;
+        int m = 10000;
+        int[] sources = new int[m];
+        int[] targets = new int[m];
+        double[] weights = new double[m];
+        List<Triple<Integer, Integer, Double>> edges = new ArrayList<>();
+        for (int i = 0; i < m; i++) {
+            sources[i] = rng.nextInt(n);
+            targets[i] = rng.nextInt(n);
+            weights[i] = rng.nextDouble();
+            edges.add(Triple.of(sources[i], targets[i], weights[i]));
+        }
+
+        SparseIntGraphBuilder builder = new SparseIntGraphBuilder(n);
+        for (int offset = 0; offset < m; offset += 333) {
+            builder.addEdges(sources, targets, weights, offset, Math.min(333, m - offset));
+        }
+        assertEquals(m, builder.edgeCount());
+        Graph<Integer, Integer> actual =
+            builder.buildDirectedWeighted(IncomingEdgesSupport.FULL_INCOMING_EDGES);
+        Graph<Integer, Integer> expected = new SparseIntDirectedWeightedGraph(n, edges);
+
+        for (int v = 0; v < n; v++) {
+            assertEquals(expected.outgoingEdgesOf(v), actual.outgoingEdgesOf(v));
+            assertEquals(expected.incomingEdgesOf(v), actual.incomingEdgesOf(v));
+        }
+        for (int e = 0; e < m; e++) {
+            assertEquals(expected.getEdgeSource(e), actual.getEdgeSource(e));
+            assertEquals(expected.getEdgeTarget(e), actual.getEdgeTarget(e));
+            assertEquals(expected.getEdgeWeight(e), actual.getEdgeWeight(e), 0d);
+        }
+    }
+
+    @Test
+    public void testMixedWeights()
+    {
+        SparseIntGraphBuilder builder = new SparseIntGraphBuilder(3, 1);
+        builder.addEdge(0, 1);
+        builder.addEdges(new int[] { 1, 2 }, new int[] { 2, 0 }, new double[] { 5d, 7d }, 0, 2);
+        builder.addEdges(new int[] { 2 }, new int[] { 2 }, 0, 1);
+        builder.addEdge(1, 0, 3d);
+
+        Graph<Integer, Integer> g = builder.buildUndirectedWeighted();
+        assertEquals(5, g.edgeSet().size());
+        assertEquals(1d, g.getEdgeWeight(0), 0d);
+        assertEquals(5d, g.getEdgeWeight(1), 0d);
+        assertEquals(7d, g.getEdgeWeight(2), 0d);
+        assertEquals(1d, g.getEdgeWeight(3), 0d);
+        assertEquals(3d, g.getEdgeWeight(4), 0d);
+        assertEquals(4, g.degreeOf(2));
+    }
+
+    @Test
+    public void testEmpty()
+    {
+        Graph<Integer, Integer> g = new SparseIntGraphBuilder(5, 0).buildUndirected();
+        assertEquals(5, g.vertexSet().size());
+        assertEquals(0, g.edgeSet().size());
+        assertEquals(0, g.degreeOf(4));
+    }
+
+    @Test
+    public void testInvalid()
+    {
+        SparseIntGraphBuilder builder = new SparseIntGraphBuilder(3);
+        assertThrows(IllegalArgumentException.class, () -> builder.addEdge(0, 3));
+        assertThrows(IllegalArgumentException.class, () -> builder.addEdge(-1, 0, 1d));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> builder.addEdges(new int[] { 0, 1 }, new int[] { 1, 5 }, 0, 2));
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> builder.addEdges(new int[] { 0, 1 }, new int[] { 1, 2 }, 1, 2));
+        assertEquals(0, builder.edgeCount());
+
+        builder.addEdge(0, 1);
+        builder.buildDirected(IncomingEdgesSupport.NO_INCOMING_EDGES);
+        assertThrows(IllegalStateException.class, () -> builder.addEdge(0, 1));
+        assertThrows(IllegalStateException.class, () -> builder.buildUndirected());
+    }
+
+}
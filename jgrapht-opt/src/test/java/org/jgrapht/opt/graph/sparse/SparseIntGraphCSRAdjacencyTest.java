@@ -0,0 +1,321 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.connectivity.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.alg.scoring.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.opt.graph.sparse.specifics.*;
+import org.jgrapht.util.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.stream.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the primitive {@link CSRAdjacency} view of sparse graphs and the algorithms which use
+ * it.
+ *
+ * @author agent
+ */
+public class SparseIntGraphCSRAdjacencyTest
+{
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    public void testDirectedArrays()
+    {
+        List<Pair<Integer, Integer>> edges = Arrays
+            .asList(Pair.of(0, 1), Pair.of(2, 0), Pair.of(0, 2), Pair.of(1, 1), Pair.of(2, 1));
+        SparseIntDirectedGraph g = new SparseIntDirectedGraph(3, edges);
+
+        assertEquals(3, g.vertexCount());
+        assertEquals(5, g.edgeCount());
+        assertArrayEquals(new int[] { 0, 2, 0, 1, 2 }, g.getEdgeSources());
+        assertArrayEquals(new int[] { 1, 0, 2, 1, 1 }, g.getEdgeTargets());
+        assertNull(g.getEdgeWeights());
+        assertArrayEquals(new int[] { 0, 2, 3, 5 }, g.getOutgoingOffsets());
+        assertArrayEquals(new int[] { 0, 2, 3, 1, 4 }, g.getOutgoingEdges());
+        assertArrayEquals(new int[] { 0, 1, 4, 5 }, g.getIncomingOffsets());
+        assertArrayEquals(new int[] { 1, 0, 3, 4, 2 }, g.getIncomingEdges());
+
+        PrimitiveIterator.OfInt it = g.outgoingEdgesIterator(0);
+        assertEquals(0, it.nextInt());
+        assertEquals(2, it.nextInt());
+        assertFalse(it.hasNext());
+        assertEquals(2, g.getOppositeVertex(1, 0));
+
+        SparseIntDirectedGraph noIncoming =
+            new SparseIntDirectedGraph(3, edges, IncomingEdgesSupport.NO_INCOMING_EDGES);
+        assertNull(noIncoming.getIncomingOffsets());
+        assertThrows(
+            UnsupportedOperationException.class, () -> noIncoming.incomingEdgesIterator(0));
+
+        SparseIntDirectedGraph lazyIncoming =
+            new SparseIntDirectedGraph(3, edges, IncomingEdgesSupport.LAZY_INCOMING_EDGES);
+        assertArrayEquals(new int[] { 1, 0, 3, 4, 2 }, lazyIncoming.getIncomingEdges());
+    }
+
+    @Test
+    public void testUndirectedArrays()
+    {
+        List<Triple<Integer, Integer, Double>> edges = Arrays
+            .asList(Triple.of(0, 1, 2d), Triple.of(1, 1, 3d), Triple.of(2, 1, 4d));
+        SparseIntUndirectedWeightedGraph g = new SparseIntUndirectedWeightedGraph(3, edges);
+
+        assertArrayEquals(new double[] { 2d, 3d, 4d }, g.getEdgeWeights());
+        assertArrayEquals(new int[] { 0, 1, 5, 6 }, g.getOutgoingOffsets());
+        assertArrayEquals(new int[] { 0, 0, 1, 1, 2, 2 }, g.getOutgoingEdges());
+        assertArrayEquals(g.getOutgoingOffsets(), g.getIncomingOffsets());
+        assertArrayEquals(g.getOutgoingEdges(), g.getIncomingEdges());
+    }
+
+    @Test
+    public void testDefaultArrays()
+    {
+        SparseIntDirectedGraph directed = new SparseIntDirectedGraph(
+            3, Arrays
+                .asList(Pair.of(0, 1), Pair.of(2, 0), Pair.of(0, 2), Pair.of(1, 1), Pair.of(2, 1)));
+        assertSameArrays(directed, new GraphSpecifics(directed));
+
+        SparseIntUndirectedGraph undirected = new SparseIntUndirectedGraph(
+            3, Arrays.asList(Pair.of(0, 1), Pair.of(1, 1), Pair.of(2, 1)));
+        assertSameArrays(undirected, new GraphSpecifics(undirected));
+
+        // the graph requests the arrays from the specifics only once
+        AbstractSparseSpecificsGraph<GraphSpecifics> g =
+            new AbstractSparseSpecificsGraph<>(() -> new GraphSpecifics(directed));
+        assertArrayEquals(directed.getOutgoingEdges(), g.getOutgoingEdges());
+        assertArrayEquals(directed.getIncomingEdges(), g.getIncomingEdges());
+        assertSame(g.getEdgeSources(), g.getEdgeSources());
+        assertSame(g.getEdgeTargets(), g.getEdgeTargets());
+        assertSame(g.getOutgoingOffsets(), g.getOutgoingOffsets());
+        assertSame(g.getOutgoingEdges(), g.getOutgoingEdges());
+        assertSame(g.getIncomingOffsets(), g.getIncomingOffsets());
+        assertSame(g.getIncomingEdges(), g.getIncomingEdges());
+        assertEquals(2, g.getOppositeVertex(1, 0));
+    }
+
+    private static void assertSameArrays(CSRAdjacency expected, SparseGraphSpecifics actual)
+    {
+        assertArrayEquals(expected.getEdgeSources(), actual.getEdgeSources());
+        assertArrayEquals(expected.getEdgeTargets(), actual.getEdgeTargets());
+        assertArrayEquals(expected.getOutgoingOffsets(), actual.getOutgoingOffsets());
+        assertArrayEquals(expected.getOutgoingEdges(), actual.getOutgoingEdges());
+        assertArrayEquals(expected.getIncomingOffsets(), actual.getIncomingOffsets());
+        assertArrayEquals(expected.getIncomingEdges(), actual.getIncomingEdges());
+    }
+
+    @Test
+    public void testAlgorithmsDirected()
+    {
+        for (IncomingEdgesSupport support : IncomingEdgesSupport.values()) {
+            Graph<Integer, DefaultWeightedEdge> g = randomGraph(true, 300, 1200);
+            List<Triple<Integer, Integer, Double>> edges = toEdgeList(g);
+            Graph<Integer, Integer> unweighted = new SparseIntDirectedGraph(
+                g.vertexSet().size(), edges.size(),
+                () -> edges.stream().map(e -> Pair.of(e.getFirst(), e.getSecond())), support);
+            Graph<Integer, Integer> weighted = new SparseIntDirectedWeightedGraph(
+                g.vertexSet().size(), edges.size(), () -> edges.stream(), support);
+
+            assertSameResults(new AsUnweightedGraph<>(g), unweighted);
+            assertSameResults(g, weighted);
+        }
+    }
+
+    @Test
+    public void testAlgorithmsUndirected()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = randomGraph(false, 300, 600);
+        List<Triple<Integer, Integer, Double>> edges = toEdgeList(g);
+        Graph<Integer, Integer> unweighted = new SparseIntUndirectedGraph(
+            g.vertexSet().size(), edges.size(),
+            () -> edges.stream().map(e -> Pair.of(e.getFirst(), e.getSecond())));
+        Graph<Integer, Integer> weighted =
+            new SparseIntUndirectedWeightedGraph(g.vertexSet().size(), edges);
+
+        assertSameResults(new AsUnweightedGraph<>(g), unweighted);
+        assertSameResults(g, weighted);
+    }
+
+    private static void assertSameResults(
+        Graph<Integer, DefaultWeightedEdge> expected, Graph<Integer, Integer> actual)
+    {
+        boolean weighted = actual.getType().isWeighted();
+        for (int source : new int[] { 0, 17, 123 }) {
+            SingleSourcePaths<Integer, DefaultWeightedEdge> expectedPaths =
+                new DijkstraShortestPath<>(expected).getPaths(source);
+            SingleSourcePaths<Integer, Integer> actualPaths = weighted
+                ? new DijkstraShortestPath<>(actual).getPaths(source)
+                : new BFSShortestPath<>(actual).getPaths(source);
+
+            for (Integer v : expected.vertexSet()) {
+                assertEquals(expectedPaths.getWeight(v), actualPaths.getWeight(v), EPSILON);
+
+                GraphPath<Integer, Integer> path = weighted
+                    ? new DijkstraShortestPath<>(actual).getPath(source, v)
+                    : new BFSShortestPath<>(actual).getPath(source, v);
+                if (path == null) {
+                    assertNull(expectedPaths.getPath(v));
+                } else {
+                    assertEquals(expectedPaths.getWeight(v), path.getWeight(), EPSILON);
+                    assertEquals(Integer.valueOf(v), path.getEndVertex());
+                }
+            }
+        }
+
+        assertEquals(
+            new HashSet<>(new ConnectivityInspector<>(expected).connectedSets()),
+            new HashSet<>(new ConnectivityInspector<>(actual).connectedSets()));
+        assertEquals(
+            new ConnectivityInspector<>(expected).connectedSetOf(5),
+            new ConnectivityInspector<>(actual).connectedSetOf(5));
+
+        Map<Integer, Double> expectedRanks = new PageRank<>(expected).getScores();
+        Map<Integer, Double> actualRanks = new PageRank<>(actual).getScores();
+        for (Integer v : expected.vertexSet()) {
+            assertEquals(expectedRanks.get(v), actualRanks.get(v), EPSILON);
+        }
+    }
+
+    private static Graph<Integer, DefaultWeightedEdge> randomGraph(
+        boolean directed, int n, int m)
+    {
+        Graph<Integer, DefaultWeightedEdge> g = directed
+            ? new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+            : new WeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(n, m, 7, true, true)
+            .generateGraph(g);
+        Random rng = new Random(7);
+        g.edgeSet().forEach(e -> g.setEdgeWeight(e, 1 + rng.nextInt(10)));
+        return g;
+    }
+
+    private static List<Triple<Integer, Integer, Double>> toEdgeList(
+        Graph<Integer, DefaultWeightedEdge> g)
+    {
+        return g
+            .edgeSet().stream()
+            .map(
+                e -> Triple
+                    .of(g.getEdgeSource(e), g.getEdgeTarget(e), g.getEdgeWeight(e)))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Specifics which delegate to a graph and use the default CSR arrays.
+     */
+    private static class GraphSpecifics
+        implements SparseGraphSpecifics
+    {
+        private final Graph<Integer, Integer> g;
+
+        GraphSpecifics(Graph<Integer, Integer> g)
+        {
+            this.g = g;
+        }
+
+        @Override
+        public long edgesCount()
+        {
+            return g.iterables().edgeCount();
+        }
+
+        @Override
+        public long verticesCount()
+        {
+            return g.iterables().vertexCount();
+        }
+
+        @Override
+        public long degreeOf(Integer vertex)
+        {
+            return g.degreeOf(vertex);
+        }
+
+        @Override
+        public Set<Integer> edgesOf(Integer vertex)
+        {
+            return g.edgesOf(vertex);
+        }
+
+        @Override
+        public long inDegreeOf(Integer vertex)
+        {
+            return g.inDegreeOf(vertex);
+        }
+
+        @Override
+        public Set<Integer> incomingEdgesOf(Integer vertex)
+        {
+            return g.incomingEdgesOf(vertex);
+        }
+
+        @Override
+        public long outDegreeOf(Integer vertex)
+        {
+            return g.outDegreeOf(vertex);
+        }
+
+        @Override
+        public Set<Integer> outgoingEdgesOf(Integer vertex)
+        {
+            return g.outgoingEdgesOf(vertex);
+        }
+
+        @Override
+        public Integer getEdgeSource(Integer e)
+        {
+            return g.getEdgeSource(e);
+        }
+
+        @Override
+        public Integer getEdgeTarget(Integer e)
+        {
+            return g.getEdgeTarget(e);
+        }
+
+        @Override
+        public GraphType getType()
+        {
+            return g.getType();
+        }
+
+        @Override
+        public Integer getEdge(Integer sourceVertex, Integer targetVertex)
+        {
+            return g.getEdge(sourceVertex, targetVertex);
+        }
+
+        @Override
+        public Set<Integer> getAllEdges(Integer sourceVertex, Integer targetVertex)
+        {
+            return g.getAllEdges(sourceVertex, targetVertex);
+        }
+    }
+
+}
@@ -0,0 +1,147 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.junit.jupiter.api.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link SparseIntGraphFile}
+ *
+ * @author agent
+ */
+public class SparseIntGraphFileTest
+{
+
+    @Test
+    public void testRoundTrip()
+        throws IOException
+    {
+        Random rng = new Random(17);
+        int n = 500;
+        int m = 3000;
+        SparseIntGraphBuilder[] builders = new SparseIntGraphBuilder[4];
+        for (int i = 0; i < builders.length; i++) {
+            builders[i] = new SparseIntGraphBuilder(n, m);
+        }
+        for (int e = 0; e < m; e++) {
+            int s = rng.nextInt(n);
+            int t = rng.nextInt(n);
+            double w = rng.nextDouble();
+            for (SparseIntGraphBuilder builder : builders) {
+                builder.addEdge(s, t, w);
+            }
+        }
+
+        List<Graph<Integer, Integer>> graphs = List
+            .of(
+                builders[0].buildDirected(IncomingEdgesSupport.NO_INCOMING_EDGES),
+                builders[1].buildDirectedWeighted(IncomingEdgesSupport.LAZY_INCOMING_EDGES),
+                builders[2].buildUndirected(), builders[3].buildUndirectedWeighted());
+
+        Path path = Files.createTempFile("jgrapht", ".bin");
+        try {
+            for (Graph<Integer, Integer> expected : graphs) {
+                SparseIntGraphFile.write(expected, path);
+                Graph<Integer, Integer> actual = SparseIntGraphFile.read(path);
+
+                assertEquals(expected.getClass(), actual.getClass());
+                assertEquals(expected.getType().isWeighted(), actual.getType().isWeighted());
+                assertEquals(expected.vertexSet().size(), actual.vertexSet().size());
+                CSRAdjacency expectedCSR = (CSRAdjacency) expected;
+                CSRAdjacency actualCSR = (CSRAdjacency) actual;
+                assertArrayEquals(expectedCSR.getEdgeSources(), actualCSR.getEdgeSources());
+                assertArrayEquals(expectedCSR.getEdgeTargets(), actualCSR.getEdgeTargets());
+                assertArrayEquals(expectedCSR.getEdgeWeights(), actualCSR.getEdgeWeights());
+                assertArrayEquals(
+                    expectedCSR.getOutgoingOffsets(), actualCSR.getOutgoingOffsets());
+                assertArrayEquals(expectedCSR.getOutgoingEdges(), actualCSR.getOutgoingEdges());
+                for (int v = 0; v < n; v++) {
+                    assertEquals(expected.outgoingEdgesOf(v), actual.outgoingEdgesOf(v));
+                }
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testEmptyAndIncomingSupport()
+        throws IOException
+    {
+        Path path = Files.createTempFile("jgrapht", ".bin");
+        try {
+            SparseIntGraphFile.write(new SparseIntGraphBuilder(3, 0).buildUndirected(), path);
+            Graph<Integer, Integer> g = SparseIntGraphFile.read(path);
+            assertEquals(3, g.vertexSet().size());
+            assertEquals(0, g.edgeSet().size());
+
+            SparseIntGraphBuilder builder = new SparseIntGraphBuilder(2);
+            builder.addEdge(0, 1);
+            SparseIntGraphFile
+                .write(builder.buildDirected(IncomingEdgesSupport.FULL_INCOMING_EDGES), path);
+            Graph<Integer, Integer> directed =
+                SparseIntGraphFile.read(path, IncomingEdgesSupport.NO_INCOMING_EDGES);
+            assertEquals(Set.of(0), directed.outgoingEdgesOf(0));
+            assertThrows(UnsupportedOperationException.class, () -> directed.incomingEdgesOf(1));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testInvalidFile()
+        throws IOException
+    {
+        Path path = Files.createTempFile("jgrapht", ".bin");
+        try {
+            Files.write(path, new byte[] { 1, 2, 3 });
+            assertThrows(IOException.class, () -> SparseIntGraphFile.read(path));
+
+            Files.write(path, new byte[20]);
+            assertThrows(IOException.class, () -> SparseIntGraphFile.read(path));
+
+            // valid header of a graph with one edge with an invalid vertex
+            SparseIntGraphBuilder builder = new SparseIntGraphBuilder(2);
+            builder.addEdge(0, 1);
+            SparseIntGraphFile.write(builder.buildUndirected(), path);
+            byte[] bytes = Files.readAllBytes(path);
+            bytes[bytes.length - 4] = 5;
+            Files.write(path, bytes);
+            assertThrows(IOException.class, () -> SparseIntGraphFile.read(path));
+
+            // truncated
+            Files.write(path, Arrays.copyOf(bytes, bytes.length - 1));
+            assertThrows(IOException.class, () -> SparseIntGraphFile.read(path));
+        } finally {
+            Files.delete(path);
+        }
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> SparseIntGraphFile.write(new DirectedPseudograph<>(Integer.class), path));
+    }
+
+}